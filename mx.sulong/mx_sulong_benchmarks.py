@@ -314,6 +314,22 @@ class SulongVm(CExecutionEnvironmentMixin, GuestVm):
     def hosting_registry(self):
         return java_vm_registry
 
+class SulongJMHBenchmarkSuite(mx_benchmark.JMHRunnerBenchmarkSuite):
+
+    def name(self):
+        return 'sulong-jmh'
+
+    def group(self):
+        return 'Graal'
+
+    def subgroup(self):
+        return 'sulong'
+
+    def extraVmArgs(self):
+        return ['-XX:-UseJVMCIClassLoader'] + super(SulongJMHBenchmarkSuite, self).extraVmArgs()
+
+mx_benchmark.add_bm_suite(SulongJMHBenchmarkSuite())
+
 _suite = mx.suite("sulong")
 
 native_vm_registry = VmRegistry("Native", known_host_registries=[java_vm_registry])
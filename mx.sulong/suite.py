@@ -80,9 +80,12 @@ suite = {
       "vpath" : True,
       "results" : [
         "bin/<lib:sulongtest>",
+        "bin/<lib:sulongtestdep>",
       ],
       "buildEnv" : {
         "LIBSULONGTEST" : "<lib:sulongtest>",
+        "LIBSULONGTESTDEP" : "<lib:sulongtestdep>",
+        "OS" : "<os>",
       },
       "license" : "BSD-new",
       "testProject" : True,
@@ -104,6 +107,25 @@ suite = {
       "jacoco" : "exclude",
     },
 
+    "com.oracle.truffle.llvm.benchmark" : {
+      "subDir" : "projects",
+      "sourceDirs" : ["src"],
+      "dependencies" : [
+        "com.oracle.truffle.llvm",
+        "mx:JMH_1_21",
+      ],
+      "checkstyle" : "com.oracle.truffle.llvm.runtime",
+      "annotationProcessors" : ["mx:JMH_1_21"],
+      "javaCompliance" : "1.8",
+      "javaProperties" : {
+        "sulongbench.benchmarkPath" : "<path:SULONG_TEST_SUITES>/benchmarks",
+      },
+      "workingSets" : "Truffle, LLVM",
+      "license" : "BSD-new",
+      "testProject" : True,
+      "jacoco" : "exclude",
+    },
+
     "com.oracle.truffle.llvm.spi" : {
       "subDir" : "projects",
       "sourceDirs" : ["src"],
@@ -378,6 +400,20 @@ suite = {
       "testProject" : True,
       "defaultBuild" : False,
     },
+    "com.oracle.truffle.llvm.tests.benchmarks" : {
+      "subDir" : "tests",
+      "class" : "SulongTestSuite",
+      "variants" : ["O1"],
+      "buildRef" : False,
+      "buildEnv" : {
+        "SUITE_CPPFLAGS" : "-I<sulong_include>",
+      },
+      "dependencies" : [
+        "SULONG_TEST",
+      ],
+      "testProject" : True,
+      "defaultBuild" : False,
+    },
     "com.oracle.truffle.llvm.tests.sulong" : {
       "subDir" : "tests",
       "class" : "SulongTestSuite",
@@ -438,7 +474,7 @@ suite = {
       "class" : "SulongTestSuite",
       "variants" : ["O0"],
       "buildEnv" : {
-        "SUITE_LDFLAGS" : "-lm",
+        "SUITE_LDFLAGS" : "-lm -lpthread",
         "OS" : "<os>",
       },
       "dependencies" : [
@@ -453,6 +489,7 @@ suite = {
       "variants" : ["O0"],
       "buildEnv" : {
         "SUITE_CPPFLAGS" : "-I<sulong_include>",
+        "SUITE_LDFLAGS" : "-lpthread",
       },
       "dependencies" : [
         "SULONG_TEST_SUITES",
@@ -781,6 +818,7 @@ suite = {
         "com.oracle.truffle.llvm.tests.debug",
         "com.oracle.truffle.llvm.tests.irdebug",
         "com.oracle.truffle.llvm.tests.interop",
+        "com.oracle.truffle.llvm.tests.benchmarks",
         "com.oracle.truffle.llvm.tests.sulong",
         "com.oracle.truffle.llvm.tests.sulongavx",
         "com.oracle.truffle.llvm.tests.sulongcpp",
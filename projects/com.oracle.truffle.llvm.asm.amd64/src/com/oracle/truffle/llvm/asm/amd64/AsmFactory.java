@@ -104,6 +104,7 @@ import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64IncNodeFactory.LLVMAMD64IncqNo
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64IncNodeFactory.LLVMAMD64IncwNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64LoadFlagsFactory.LLVMAMD64LahfNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64LoadFlagsFactory.LLVMAMD64ReadFlagswNodeGen;
+import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64MovsNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64MulNodeFactory.LLVMAMD64MulbNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64MulNodeFactory.LLVMAMD64MullNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64MulNodeFactory.LLVMAMD64MulqNodeGen;
@@ -133,7 +134,9 @@ import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64RdSeedNodeFactory.LLVMAMD64RdS
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64RdSeedNodeFactory.LLVMAMD64RdSeedqNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64RdSeedNodeFactory.LLVMAMD64RdSeedwNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64RdtscNodeGen;
+import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64RepMovsNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64RepNode;
+import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64RepStosNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64RolNodeFactory.LLVMAMD64RolbNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64RolNodeFactory.LLVMAMD64RollNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64RolNodeFactory.LLVMAMD64RolqNodeGen;
@@ -237,6 +240,7 @@ import com.oracle.truffle.llvm.runtime.NodeFactory;
 import com.oracle.truffle.llvm.runtime.debug.scope.LLVMSourceLocation;
 import com.oracle.truffle.llvm.runtime.memory.LLVMStack;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMLoadNode;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMStatementNode;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMStoreNode;
 import com.oracle.truffle.llvm.runtime.types.PointerType;
@@ -420,11 +424,42 @@ class AsmFactory {
         }
     }
 
-    private void createRep(LLVMStatementNode body) {
+    private LLVMStatementNode createRepLoop(LLVMStatementNode body) {
+        LLVMExpressionNode rcx = getOperandLoad(PrimitiveType.I64, new AsmRegisterOperand("rcx"));
+        LLVMAMD64WriteValueNode writeRCX = getStore(PrimitiveType.I64, new AsmRegisterOperand("rcx"));
+        return new LLVMAMD64RepNode(writeRCX, rcx, body);
+    }
+
+    private void createStos(int elementSize, LLVMStatementNode body) {
+        if ("rep".equals(currentPrefix)) {
+            LLVMExpressionNode rcx = getOperandLoad(PrimitiveType.I64, new AsmRegisterOperand("rcx"));
+            LLVMExpressionNode rax = getOperandLoad(PrimitiveType.I64, new AsmRegisterOperand("rax"));
+            LLVMExpressionNode rdi = getOperandLoad(PrimitiveType.I64, new AsmRegisterOperand("rdi"));
+            LLVMExpressionNode df = getFlag(LLVMAMD64Flags.DF);
+            LLVMAMD64WriteValueNode writeRCX = getStore(PrimitiveType.I64, new AsmRegisterOperand("rcx"));
+            LLVMAMD64WriteValueNode writeRDI = getStore(PrimitiveType.I64, new AsmRegisterOperand("rdi"));
+            statements.add(LLVMAMD64RepStosNodeGen.create(elementSize, nodeFactory.createMemSet(), writeRCX, writeRDI, createRepLoop(body), rcx, rax, rdi, df));
+        } else {
+            statements.add(body);
+        }
+    }
+
+    private void createMovs(int elementSize, LLVMLoadNode load, LLVMStoreNode store) {
+        LLVMExpressionNode rsi = getOperandLoad(PrimitiveType.I64, new AsmRegisterOperand("rsi"));
+        LLVMExpressionNode rdi = getOperandLoad(PrimitiveType.I64, new AsmRegisterOperand("rdi"));
+        LLVMExpressionNode df = getFlag(LLVMAMD64Flags.DF);
+        LLVMAMD64WriteValueNode writeRSI = getStore(PrimitiveType.I64, new AsmRegisterOperand("rsi"));
+        LLVMAMD64WriteValueNode writeRDI = getStore(PrimitiveType.I64, new AsmRegisterOperand("rdi"));
+        LLVMStatementNode body = LLVMAMD64MovsNodeGen.create(elementSize, load, store, writeRSI, writeRDI, rsi, rdi, df);
         if ("rep".equals(currentPrefix)) {
             LLVMExpressionNode rcx = getOperandLoad(PrimitiveType.I64, new AsmRegisterOperand("rcx"));
+            LLVMExpressionNode repRSI = getOperandLoad(PrimitiveType.I64, new AsmRegisterOperand("rsi"));
+            LLVMExpressionNode repRDI = getOperandLoad(PrimitiveType.I64, new AsmRegisterOperand("rdi"));
+            LLVMExpressionNode repDF = getFlag(LLVMAMD64Flags.DF);
             LLVMAMD64WriteValueNode writeRCX = getStore(PrimitiveType.I64, new AsmRegisterOperand("rcx"));
-            statements.add(new LLVMAMD64RepNode(writeRCX, rcx, body));
+            LLVMAMD64WriteValueNode repWriteRSI = getStore(PrimitiveType.I64, new AsmRegisterOperand("rsi"));
+            LLVMAMD64WriteValueNode repWriteRDI = getStore(PrimitiveType.I64, new AsmRegisterOperand("rdi"));
+            statements.add(LLVMAMD64RepMovsNodeGen.create(elementSize, nodeFactory.createMemMove(), writeRCX, repWriteRSI, repWriteRDI, createRepLoop(body), rcx, repRSI, repRDI, repDF));
         } else {
             statements.add(body);
         }
@@ -520,7 +555,7 @@ class AsmFactory {
                 LLVMExpressionNode rdi = getOperandLoad(PrimitiveType.I64, new AsmRegisterOperand("rdi"));
                 LLVMExpressionNode df = getFlag(LLVMAMD64Flags.DF);
                 LLVMAMD64WriteValueNode writeRDI = getStore(PrimitiveType.I64, new AsmRegisterOperand("rdi"));
-                createRep(LLVMAMD64StosbNodeGen.create(writeRDI, al, rdi, df));
+                createStos(1, LLVMAMD64StosbNodeGen.create(writeRDI, al, rdi, df));
                 break;
             }
             case "stosw": {
@@ -528,15 +563,16 @@ class AsmFactory {
                 LLVMExpressionNode rdi = getOperandLoad(PrimitiveType.I64, new AsmRegisterOperand("rdi"));
                 LLVMExpressionNode df = getFlag(LLVMAMD64Flags.DF);
                 LLVMAMD64WriteValueNode writeRDI = getStore(PrimitiveType.I64, new AsmRegisterOperand("rdi"));
-                createRep(LLVMAMD64StoswNodeGen.create(writeRDI, ax, rdi, df));
+                createStos(2, LLVMAMD64StoswNodeGen.create(writeRDI, ax, rdi, df));
                 break;
             }
+            case "stosl":
             case "stosd": {
                 LLVMExpressionNode eax = getOperandLoad(PrimitiveType.I32, new AsmRegisterOperand("eax"));
                 LLVMExpressionNode rdi = getOperandLoad(PrimitiveType.I64, new AsmRegisterOperand("rdi"));
                 LLVMExpressionNode df = getFlag(LLVMAMD64Flags.DF);
                 LLVMAMD64WriteValueNode writeRDI = getStore(PrimitiveType.I64, new AsmRegisterOperand("rdi"));
-                createRep(LLVMAMD64StosdNodeGen.create(writeRDI, eax, rdi, df));
+                createStos(4, LLVMAMD64StosdNodeGen.create(writeRDI, eax, rdi, df));
                 break;
             }
             case "stosq": {
@@ -544,9 +580,22 @@ class AsmFactory {
                 LLVMExpressionNode rdi = getOperandLoad(PrimitiveType.I64, new AsmRegisterOperand("rdi"));
                 LLVMExpressionNode df = getFlag(LLVMAMD64Flags.DF);
                 LLVMAMD64WriteValueNode writeRDI = getStore(PrimitiveType.I64, new AsmRegisterOperand("rdi"));
-                createRep(LLVMAMD64StosqNodeGen.create(writeRDI, rax, rdi, df));
+                createStos(8, LLVMAMD64StosqNodeGen.create(writeRDI, rax, rdi, df));
                 break;
             }
+            case "movsb":
+                createMovs(1, LLVMI8LoadNodeGen.create(null), LLVMI8StoreNodeGen.create(null, null));
+                break;
+            case "movsw":
+                createMovs(2, LLVMI16LoadNodeGen.create(null), LLVMI16StoreNodeGen.create(null, null));
+                break;
+            case "movsl":
+            case "movsd":
+                createMovs(4, LLVMI32LoadNodeGen.create(null), LLVMI32StoreNodeGen.create(null, null));
+                break;
+            case "movsq":
+                createMovs(8, LLVMI64LoadNodeGen.create(null), LLVMI64StoreNodeGen.create(null, null));
+                break;
             default:
                 statements.add(new LLVMUnsupportedInlineAssemblerNode(sourceLocation, operation));
                 return;
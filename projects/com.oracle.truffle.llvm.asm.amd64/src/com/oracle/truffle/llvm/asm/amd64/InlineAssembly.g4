@@ -212,8 +212,14 @@ zero_op :
   | 'syscall'
   | 'stosb'
   | 'stosw'
+  | 'stosl'
   | 'stosd'
   | 'stosq'
+  | 'movsb'
+  | 'movsw'
+  | 'movsl'
+  | 'movsd'
+  | 'movsq'
   | 'pause'
   )                                              { factory.createOperation($op.getText()); }
   ;
@@ -138,8 +138,9 @@ public class InlineAssemblyLexer extends Lexer {
 		T__527=528, T__528=529, T__529=530, T__530=531, T__531=532, T__532=533, 
 		T__533=534, T__534=535, T__535=536, T__536=537, T__537=538, T__538=539, 
 		T__539=540, T__540=541, T__541=542, T__542=543, T__543=544, T__544=545, 
-		T__545=546, T__546=547, T__547=548, T__548=549, T__549=550, IDENT=551, 
-		BIN_NUMBER=552, HEX_NUMBER=553, NUMBER=554, WS=555;
+		T__545=546, T__546=547, T__547=548, T__548=549, T__549=550, T__550=551, 
+		T__551=552, T__552=553, T__553=554, T__554=555, T__555=556, IDENT=557, 
+		BIN_NUMBER=558, HEX_NUMBER=559, NUMBER=560, WS=561;
 	public static String[] channelNames = {
 		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
 	};
@@ -225,9 +226,9 @@ public class InlineAssemblyLexer extends Lexer {
 		"T__525", "T__526", "T__527", "T__528", "T__529", "T__530", "T__531", 
 		"T__532", "T__533", "T__534", "T__535", "T__536", "T__537", "T__538", 
 		"T__539", "T__540", "T__541", "T__542", "T__543", "T__544", "T__545", 
-		"T__546", "T__547", "T__548", "T__549", "DIGIT", "BIN_DIGIT", "OCT_DIGIT", 
-		"HEX_DIGIT", "LETTER", "IDENT", "BIN_NUMBER", "HEX_NUMBER", "NUMBER", 
-		"WS"
+		"T__546", "T__547", "T__548", "T__549", "T__550", "T__551", "T__552", 
+		"T__553", "T__554", "T__555", "DIGIT", "BIN_DIGIT", "OCT_DIGIT", "HEX_DIGIT", 
+		"LETTER", "IDENT", "BIN_NUMBER", "HEX_NUMBER", "NUMBER", "WS"
 	};
 
 	private static final String[] _LITERAL_NAMES = {
@@ -240,73 +241,74 @@ public class InlineAssemblyLexer extends Lexer {
 		"'loopz'", "'clc'", "'cld'", "'cli'", "'cmc'", "'lahf'", "'popf'", "'popfw'", 
 		"'pushf'", "'pushfw'", "'sahf'", "'stc'", "'std'", "'sti'", "'nop'", "'rdtsc'", 
 		"'cpuid'", "'xgetbv'", "'ud2'", "'mfence'", "'lfence'", "'sfence'", "'hlt'", 
-		"'syscall'", "'stosb'", "'stosw'", "'stosd'", "'stosq'", "'pause'", "'idivb'", 
-		"'imulb'", "','", "'idivw'", "'imulw'", "'idivl'", "'imull'", "'idivq'", 
-		"'imulq'", "'idiv'", "'imul'", "'incb'", "'decb'", "'negb'", "'notb'", 
-		"'divb'", "'mulb'", "'incw'", "'decw'", "'negw'", "'notw'", "'divw'", 
-		"'mulw'", "'pushw'", "'popw'", "'incl'", "'decl'", "'negl'", "'notl'", 
-		"'divl'", "'mull'", "'bswapl'", "'pushl'", "'popl'", "'incq'", "'decq'", 
-		"'negq'", "'notq'", "'divq'", "'mulq'", "'bswapq'", "'pushq'", "'popq'", 
-		"'inc'", "'dec'", "'neg'", "'not'", "'bswap'", "'rdrand'", "'rdseed'", 
-		"'seta'", "'setae'", "'setb'", "'setbe'", "'setc'", "'sete'", "'setg'", 
-		"'setge'", "'setl'", "'setle'", "'setna'", "'setnae'", "'setnb'", "'setnbe'", 
-		"'setnc'", "'setne'", "'setng'", "'setnge'", "'setnl'", "'setnle'", "'setno'", 
-		"'setnp'", "'setns'", "'setnz'", "'seto'", "'setp'", "'setpe'", "'setpo'", 
-		"'sets'", "'setz'", "'push'", "'pop'", "'cmpxchg8b'", "'cmpxchg16b'", 
-		"'movb'", "'xaddb'", "'xchgb'", "'adcb'", "'addb'", "'cmpb'", "'sbbb'", 
-		"'subb'", "'andb'", "'orb'", "'xorb'", "'rclb'", "'rcrb'", "'rolb'", "'rorb'", 
-		"'salb'", "'sarb'", "'shlb'", "'shrb'", "'testb'", "'cmpxchgb'", "'cmovaw'", 
-		"'cmovaew'", "'cmovbw'", "'cmovbew'", "'cmovcw'", "'cmovew'", "'cmovgw'", 
-		"'cmovgew'", "'cmovlw'", "'cmovlew'", "'cmovnaw'", "'cmovnaew'", "'cmovnbw'", 
-		"'cmovnbew'", "'cmovncw'", "'cmovnew'", "'cmovngw'", "'cmovngew'", "'cmovnlw'", 
-		"'cmovnlew'", "'cmovnow'", "'cmovnpw'", "'cmovnsw'", "'cmovnzw'", "'cmovow'", 
-		"'cmovpw'", "'cmovpew'", "'cmovpow'", "'cmovsw'", "'cmovzw'", "'cmpxchgw'", 
-		"'movw'", "'xaddw'", "'xchgw'", "'adcw'", "'addw'", "'cmpw'", "'sbbw'", 
-		"'subw'", "'andw'", "'orw'", "'xorw'", "'testw'", "'bsfw'", "'bsrw'", 
-		"'btw'", "'btcw'", "'btrw'", "'btsw'", "'rclw'", "'rcrw'", "'rolw'", "'rorw'", 
-		"'salw'", "'sarw'", "'shlw'", "'shrw'", "'movsbw'", "'movzbw'", "'cmoval'", 
-		"'cmovael'", "'cmovbl'", "'cmovbel'", "'cmovcl'", "'cmovel'", "'cmovgl'", 
-		"'cmovgel'", "'cmovll'", "'cmovlel'", "'cmovnal'", "'cmovnael'", "'cmovnbl'", 
-		"'cmovnbel'", "'cmovncl'", "'cmovnel'", "'cmovngl'", "'cmovngel'", "'cmovnll'", 
-		"'cmovnlel'", "'cmovnol'", "'cmovnpl'", "'cmovnsl'", "'cmovnzl'", "'cmovol'", 
-		"'cmovpl'", "'cmovpel'", "'cmovpol'", "'cmovsl'", "'cmovzl'", "'cmpxchgl'", 
-		"'movl'", "'xaddl'", "'xchgl'", "'adcl'", "'addl'", "'cmpl'", "'sbbl'", 
-		"'subl'", "'andl'", "'orl'", "'xorl'", "'testl'", "'bsfl'", "'bsrl'", 
-		"'btl'", "'btcl'", "'btrl'", "'btsl'", "'rcll'", "'rcrl'", "'roll'", "'rorl'", 
-		"'sall'", "'sarl'", "'shll'", "'shrl'", "'movsbl'", "'movswl'", "'movzbl'", 
-		"'movzwl'", "'cmovaq'", "'cmovaeq'", "'cmovbq'", "'cmovbeq'", "'cmovcq'", 
-		"'cmoveq'", "'cmovgq'", "'cmovgeq'", "'cmovlq'", "'cmovleq'", "'cmovnaq'", 
-		"'cmovnaeq'", "'cmovnbq'", "'cmovnbeq'", "'cmovncq'", "'cmovneq'", "'cmovngq'", 
-		"'cmovngeq'", "'cmovnlq'", "'cmovnleq'", "'cmovnoq'", "'cmovnpq'", "'cmovnsq'", 
-		"'cmovnzq'", "'cmovoq'", "'cmovpq'", "'cmovpeq'", "'cmovpoq'", "'cmovsq'", 
-		"'cmovzq'", "'cmpxchgq'", "'movq'", "'xaddq'", "'xchgq'", "'adcq'", "'addq'", 
-		"'cmpq'", "'sbbq'", "'subq'", "'andq'", "'orq'", "'xorq'", "'testq'", 
-		"'bsfq'", "'bsrq'", "'btq'", "'btcq'", "'btrq'", "'btsq'", "'rclq'", "'rcrq'", 
-		"'rolq'", "'rorq'", "'salq'", "'sarq'", "'shlq'", "'shrq'", "'movsbq'", 
-		"'movzbq'", "'movswq'", "'movzwq'", "'movslq'", "'cmova'", "'cmovae'", 
-		"'cmovb'", "'cmovbe'", "'cmovc'", "'cmove'", "'cmovg'", "'cmovge'", "'cmovl'", 
-		"'cmovle'", "'cmovna'", "'cmovnae'", "'cmovnb'", "'cmovnbe'", "'cmovnc'", 
-		"'cmovne'", "'cmovng'", "'cmovnge'", "'cmovnl'", "'cmovnle'", "'cmovno'", 
-		"'cmovnp'", "'cmovns'", "'cmovnz'", "'cmovo'", "'cmovp'", "'cmovpe'", 
-		"'cmovpo'", "'cmovs'", "'cmovz'", "'cmpxchg'", "'pmovmskb'", "'mov'", 
-		"'xadd'", "'xchg'", "'adc'", "'add'", "'cmp'", "'div'", "'mul'", "'sbb'", 
-		"'sub'", "'and'", "'or'", "'xor'", "'rcl'", "'rcr'", "'rol'", "'ror'", 
-		"'sal'", "'sar'", "'shl'", "'shr'", "'lea'", "'bsf'", "'bsr'", "':'", 
-		"'('", "')'", "'%ah'", "'%al'", "'%bh'", "'%bl'", "'%ch'", "'%cl'", "'%dh'", 
-		"'%dl'", "'%r0l'", "'%r1l'", "'%r2l'", "'%r3l'", "'%r4l'", "'%r5l'", "'%r6l'", 
-		"'%r7l'", "'%r8l'", "'%r9l'", "'%r10l'", "'%r11l'", "'%r12l'", "'%r13l'", 
-		"'%r14l'", "'%r15l'", "'%ax'", "'%bx'", "'%cx'", "'%dx'", "'%si'", "'%di'", 
-		"'%bp'", "'%sp'", "'%r0w'", "'%r1w'", "'%r2w'", "'%r3w'", "'%r4w'", "'%r5w'", 
-		"'%r6w'", "'%r7w'", "'%r8w'", "'%r9w'", "'%r10w'", "'%r11w'", "'%r12w'", 
-		"'%r13w'", "'%r14w'", "'%r15w'", "'%eax'", "'%ebx'", "'%ecx'", "'%edx'", 
-		"'%esi'", "'%edi'", "'%ebp'", "'%esp'", "'%r0d'", "'%r1d'", "'%r2d'", 
-		"'%r3d'", "'%r4d'", "'%r5d'", "'%r6d'", "'%r7d'", "'%r8d'", "'%r9d'", 
-		"'%r10d'", "'%r11d'", "'%r12d'", "'%r13d'", "'%r14d'", "'%r15d'", "'%rax'", 
-		"'%rbx'", "'%rcx'", "'%rdx'", "'%rsp'", "'%rbp'", "'%rsi'", "'%rdi'", 
-		"'%r0'", "'%r1'", "'%r2'", "'%r3'", "'%r4'", "'%r5'", "'%r6'", "'%r7'", 
-		"'%r8'", "'%r9'", "'%r10'", "'%r11'", "'%r12'", "'%r13'", "'%r14'", "'%r15'", 
-		"'%xmm0'", "'%xmm1'", "'%xmm2'", "'%xmm3'", "'%xmm4'", "'%xmm5'", "'%xmm6'", 
-		"'%xmm7'", "'%xmm8'", "'%xmm9'", "'%xmm10'", "'%xmm11'", "'%xmm12'", "'%xmm13'", 
+		"'syscall'", "'stosb'", "'stosw'", "'stosl'", "'stosd'", "'stosq'", "'movsb'", 
+		"'movsw'", "'movsl'", "'movsd'", "'movsq'", "'pause'", "'idivb'", "'imulb'", 
+		"','", "'idivw'", "'imulw'", "'idivl'", "'imull'", "'idivq'", "'imulq'", 
+		"'idiv'", "'imul'", "'incb'", "'decb'", "'negb'", "'notb'", "'divb'", 
+		"'mulb'", "'incw'", "'decw'", "'negw'", "'notw'", "'divw'", "'mulw'", 
+		"'pushw'", "'popw'", "'incl'", "'decl'", "'negl'", "'notl'", "'divl'", 
+		"'mull'", "'bswapl'", "'pushl'", "'popl'", "'incq'", "'decq'", "'negq'", 
+		"'notq'", "'divq'", "'mulq'", "'bswapq'", "'pushq'", "'popq'", "'inc'", 
+		"'dec'", "'neg'", "'not'", "'bswap'", "'rdrand'", "'rdseed'", "'seta'", 
+		"'setae'", "'setb'", "'setbe'", "'setc'", "'sete'", "'setg'", "'setge'", 
+		"'setl'", "'setle'", "'setna'", "'setnae'", "'setnb'", "'setnbe'", "'setnc'", 
+		"'setne'", "'setng'", "'setnge'", "'setnl'", "'setnle'", "'setno'", "'setnp'", 
+		"'setns'", "'setnz'", "'seto'", "'setp'", "'setpe'", "'setpo'", "'sets'", 
+		"'setz'", "'push'", "'pop'", "'cmpxchg8b'", "'cmpxchg16b'", "'movb'", 
+		"'xaddb'", "'xchgb'", "'adcb'", "'addb'", "'cmpb'", "'sbbb'", "'subb'", 
+		"'andb'", "'orb'", "'xorb'", "'rclb'", "'rcrb'", "'rolb'", "'rorb'", "'salb'", 
+		"'sarb'", "'shlb'", "'shrb'", "'testb'", "'cmpxchgb'", "'cmovaw'", "'cmovaew'", 
+		"'cmovbw'", "'cmovbew'", "'cmovcw'", "'cmovew'", "'cmovgw'", "'cmovgew'", 
+		"'cmovlw'", "'cmovlew'", "'cmovnaw'", "'cmovnaew'", "'cmovnbw'", "'cmovnbew'", 
+		"'cmovncw'", "'cmovnew'", "'cmovngw'", "'cmovngew'", "'cmovnlw'", "'cmovnlew'", 
+		"'cmovnow'", "'cmovnpw'", "'cmovnsw'", "'cmovnzw'", "'cmovow'", "'cmovpw'", 
+		"'cmovpew'", "'cmovpow'", "'cmovsw'", "'cmovzw'", "'cmpxchgw'", "'movw'", 
+		"'xaddw'", "'xchgw'", "'adcw'", "'addw'", "'cmpw'", "'sbbw'", "'subw'", 
+		"'andw'", "'orw'", "'xorw'", "'testw'", "'bsfw'", "'bsrw'", "'btw'", "'btcw'", 
+		"'btrw'", "'btsw'", "'rclw'", "'rcrw'", "'rolw'", "'rorw'", "'salw'", 
+		"'sarw'", "'shlw'", "'shrw'", "'movsbw'", "'movzbw'", "'cmoval'", "'cmovael'", 
+		"'cmovbl'", "'cmovbel'", "'cmovcl'", "'cmovel'", "'cmovgl'", "'cmovgel'", 
+		"'cmovll'", "'cmovlel'", "'cmovnal'", "'cmovnael'", "'cmovnbl'", "'cmovnbel'", 
+		"'cmovncl'", "'cmovnel'", "'cmovngl'", "'cmovngel'", "'cmovnll'", "'cmovnlel'", 
+		"'cmovnol'", "'cmovnpl'", "'cmovnsl'", "'cmovnzl'", "'cmovol'", "'cmovpl'", 
+		"'cmovpel'", "'cmovpol'", "'cmovsl'", "'cmovzl'", "'cmpxchgl'", "'movl'", 
+		"'xaddl'", "'xchgl'", "'adcl'", "'addl'", "'cmpl'", "'sbbl'", "'subl'", 
+		"'andl'", "'orl'", "'xorl'", "'testl'", "'bsfl'", "'bsrl'", "'btl'", "'btcl'", 
+		"'btrl'", "'btsl'", "'rcll'", "'rcrl'", "'roll'", "'rorl'", "'sall'", 
+		"'sarl'", "'shll'", "'shrl'", "'movsbl'", "'movswl'", "'movzbl'", "'movzwl'", 
+		"'cmovaq'", "'cmovaeq'", "'cmovbq'", "'cmovbeq'", "'cmovcq'", "'cmoveq'", 
+		"'cmovgq'", "'cmovgeq'", "'cmovlq'", "'cmovleq'", "'cmovnaq'", "'cmovnaeq'", 
+		"'cmovnbq'", "'cmovnbeq'", "'cmovncq'", "'cmovneq'", "'cmovngq'", "'cmovngeq'", 
+		"'cmovnlq'", "'cmovnleq'", "'cmovnoq'", "'cmovnpq'", "'cmovnsq'", "'cmovnzq'", 
+		"'cmovoq'", "'cmovpq'", "'cmovpeq'", "'cmovpoq'", "'cmovsq'", "'cmovzq'", 
+		"'cmpxchgq'", "'movq'", "'xaddq'", "'xchgq'", "'adcq'", "'addq'", "'cmpq'", 
+		"'sbbq'", "'subq'", "'andq'", "'orq'", "'xorq'", "'testq'", "'bsfq'", 
+		"'bsrq'", "'btq'", "'btcq'", "'btrq'", "'btsq'", "'rclq'", "'rcrq'", "'rolq'", 
+		"'rorq'", "'salq'", "'sarq'", "'shlq'", "'shrq'", "'movsbq'", "'movzbq'", 
+		"'movswq'", "'movzwq'", "'movslq'", "'cmova'", "'cmovae'", "'cmovb'", 
+		"'cmovbe'", "'cmovc'", "'cmove'", "'cmovg'", "'cmovge'", "'cmovl'", "'cmovle'", 
+		"'cmovna'", "'cmovnae'", "'cmovnb'", "'cmovnbe'", "'cmovnc'", "'cmovne'", 
+		"'cmovng'", "'cmovnge'", "'cmovnl'", "'cmovnle'", "'cmovno'", "'cmovnp'", 
+		"'cmovns'", "'cmovnz'", "'cmovo'", "'cmovp'", "'cmovpe'", "'cmovpo'", 
+		"'cmovs'", "'cmovz'", "'cmpxchg'", "'pmovmskb'", "'mov'", "'xadd'", "'xchg'", 
+		"'adc'", "'add'", "'cmp'", "'div'", "'mul'", "'sbb'", "'sub'", "'and'", 
+		"'or'", "'xor'", "'rcl'", "'rcr'", "'rol'", "'ror'", "'sal'", "'sar'", 
+		"'shl'", "'shr'", "'lea'", "'bsf'", "'bsr'", "':'", "'('", "')'", "'%ah'", 
+		"'%al'", "'%bh'", "'%bl'", "'%ch'", "'%cl'", "'%dh'", "'%dl'", "'%r0l'", 
+		"'%r1l'", "'%r2l'", "'%r3l'", "'%r4l'", "'%r5l'", "'%r6l'", "'%r7l'", 
+		"'%r8l'", "'%r9l'", "'%r10l'", "'%r11l'", "'%r12l'", "'%r13l'", "'%r14l'", 
+		"'%r15l'", "'%ax'", "'%bx'", "'%cx'", "'%dx'", "'%si'", "'%di'", "'%bp'", 
+		"'%sp'", "'%r0w'", "'%r1w'", "'%r2w'", "'%r3w'", "'%r4w'", "'%r5w'", "'%r6w'", 
+		"'%r7w'", "'%r8w'", "'%r9w'", "'%r10w'", "'%r11w'", "'%r12w'", "'%r13w'", 
+		"'%r14w'", "'%r15w'", "'%eax'", "'%ebx'", "'%ecx'", "'%edx'", "'%esi'", 
+		"'%edi'", "'%ebp'", "'%esp'", "'%r0d'", "'%r1d'", "'%r2d'", "'%r3d'", 
+		"'%r4d'", "'%r5d'", "'%r6d'", "'%r7d'", "'%r8d'", "'%r9d'", "'%r10d'", 
+		"'%r11d'", "'%r12d'", "'%r13d'", "'%r14d'", "'%r15d'", "'%rax'", "'%rbx'", 
+		"'%rcx'", "'%rdx'", "'%rsp'", "'%rbp'", "'%rsi'", "'%rdi'", "'%r0'", "'%r1'", 
+		"'%r2'", "'%r3'", "'%r4'", "'%r5'", "'%r6'", "'%r7'", "'%r8'", "'%r9'", 
+		"'%r10'", "'%r11'", "'%r12'", "'%r13'", "'%r14'", "'%r15'", "'%xmm0'", 
+		"'%xmm1'", "'%xmm2'", "'%xmm3'", "'%xmm4'", "'%xmm5'", "'%xmm6'", "'%xmm7'", 
+		"'%xmm8'", "'%xmm9'", "'%xmm10'", "'%xmm11'", "'%xmm12'", "'%xmm13'", 
 		"'%xmm14'", "'%xmm15'", "'%cs'", "'%ds'", "'%es'", "'%fs'", "'%gs'", "'%ss'", 
 		"'$$'", "'$'", "'{'", "'b'", "'h'", "'w'", "'k'", "'q'", "'}'"
 	};
@@ -356,8 +358,9 @@ public class InlineAssemblyLexer extends Lexer {
 		null, null, null, null, null, null, null, null, null, null, null, null, 
 		null, null, null, null, null, null, null, null, null, null, null, null, 
 		null, null, null, null, null, null, null, null, null, null, null, null, 
-		null, null, null, null, null, null, null, null, null, null, null, "IDENT", 
-		"BIN_NUMBER", "HEX_NUMBER", "NUMBER", "WS"
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, "IDENT", "BIN_NUMBER", "HEX_NUMBER", "NUMBER", 
+		"WS"
 	};
 	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
 
@@ -418,7 +421,7 @@ public class InlineAssemblyLexer extends Lexer {
 
 	private static final int _serializedATNSegments = 2;
 	private static final String _serializedATNSegment0 =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2\u022d\u109c\b\1\4"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2\u0233\u10cc\b\1\4"+
 		"\2\t\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n"+
 		"\4\13\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22"+
 		"\t\22\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31"+
@@ -528,217 +531,217 @@ public class InlineAssemblyLexer extends Lexer {
 		"\4\u0223\t\u0223\4\u0224\t\u0224\4\u0225\t\u0225\4\u0226\t\u0226\4\u0227"+
 		"\t\u0227\4\u0228\t\u0228\4\u0229\t\u0229\4\u022a\t\u022a\4\u022b\t\u022b"+
 		"\4\u022c\t\u022c\4\u022d\t\u022d\4\u022e\t\u022e\4\u022f\t\u022f\4\u0230"+
-		"\t\u0230\4\u0231\t\u0231\3\2\3\2\3\3\3\3\3\4\3\4\3\5\3\5\3\5\3\5\3\6\3"+
-		"\6\3\6\3\6\3\6\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\3\b\3\b\3\t\3\t\3\t"+
-		"\3\t\3\t\3\t\3\n\3\n\3\n\3\n\3\n\3\13\3\13\3\13\3\13\3\f\3\f\3\f\3\f\3"+
-		"\f\3\r\3\r\3\r\3\16\3\16\3\16\3\16\3\17\3\17\3\17\3\20\3\20\3\20\3\20"+
-		"\3\21\3\21\3\21\3\22\3\22\3\22\3\22\3\22\3\23\3\23\3\23\3\24\3\24\3\24"+
-		"\3\24\3\24\3\24\3\25\3\25\3\25\3\26\3\26\3\26\3\26\3\27\3\27\3\27\3\30"+
-		"\3\30\3\30\3\30\3\31\3\31\3\31\3\31\3\32\3\32\3\32\3\32\3\32\3\33\3\33"+
-		"\3\33\3\33\3\34\3\34\3\34\3\34\3\34\3\35\3\35\3\35\3\35\3\36\3\36\3\36"+
-		"\3\36\3\37\3\37\3\37\3\37\3 \3 \3 \3 \3 \3!\3!\3!\3!\3\"\3\"\3\"\3\"\3"+
-		"\"\3#\3#\3#\3#\3$\3$\3$\3$\3%\3%\3%\3%\3&\3&\3&\3&\3\'\3\'\3\'\3(\3(\3"+
-		"(\3)\3)\3)\3)\3*\3*\3*\3*\3+\3+\3+\3,\3,\3,\3-\3-\3-\3-\3-\3-\3.\3.\3"+
-		".\3.\3.\3/\3/\3/\3/\3/\3/\3\60\3\60\3\60\3\60\3\60\3\60\3\60\3\61\3\61"+
-		"\3\61\3\61\3\61\3\61\3\61\3\62\3\62\3\62\3\62\3\62\3\62\3\63\3\63\3\63"+
-		"\3\63\3\64\3\64\3\64\3\64\3\65\3\65\3\65\3\65\3\66\3\66\3\66\3\66\3\67"+
-		"\3\67\3\67\3\67\3\67\38\38\38\38\38\39\39\39\39\39\39\3:\3:\3:\3:\3:\3"+
-		":\3;\3;\3;\3;\3;\3;\3;\3<\3<\3<\3<\3<\3=\3=\3=\3=\3>\3>\3>\3>\3?\3?\3"+
-		"?\3?\3@\3@\3@\3@\3A\3A\3A\3A\3A\3A\3B\3B\3B\3B\3B\3B\3C\3C\3C\3C\3C\3"+
-		"C\3C\3D\3D\3D\3D\3E\3E\3E\3E\3E\3E\3E\3F\3F\3F\3F\3F\3F\3F\3G\3G\3G\3"+
-		"G\3G\3G\3G\3H\3H\3H\3H\3I\3I\3I\3I\3I\3I\3I\3I\3J\3J\3J\3J\3J\3J\3K\3"+
-		"K\3K\3K\3K\3K\3L\3L\3L\3L\3L\3L\3M\3M\3M\3M\3M\3M\3N\3N\3N\3N\3N\3N\3"+
-		"O\3O\3O\3O\3O\3O\3P\3P\3P\3P\3P\3P\3Q\3Q\3R\3R\3R\3R\3R\3R\3S\3S\3S\3"+
-		"S\3S\3S\3T\3T\3T\3T\3T\3T\3U\3U\3U\3U\3U\3U\3V\3V\3V\3V\3V\3V\3W\3W\3"+
-		"W\3W\3W\3W\3X\3X\3X\3X\3X\3Y\3Y\3Y\3Y\3Y\3Z\3Z\3Z\3Z\3Z\3[\3[\3[\3[\3"+
-		"[\3\\\3\\\3\\\3\\\3\\\3]\3]\3]\3]\3]\3^\3^\3^\3^\3^\3_\3_\3_\3_\3_\3`"+
-		"\3`\3`\3`\3`\3a\3a\3a\3a\3a\3b\3b\3b\3b\3b\3c\3c\3c\3c\3c\3d\3d\3d\3d"+
-		"\3d\3e\3e\3e\3e\3e\3f\3f\3f\3f\3f\3f\3g\3g\3g\3g\3g\3h\3h\3h\3h\3h\3i"+
-		"\3i\3i\3i\3i\3j\3j\3j\3j\3j\3k\3k\3k\3k\3k\3l\3l\3l\3l\3l\3m\3m\3m\3m"+
-		"\3m\3n\3n\3n\3n\3n\3n\3n\3o\3o\3o\3o\3o\3o\3p\3p\3p\3p\3p\3q\3q\3q\3q"+
-		"\3q\3r\3r\3r\3r\3r\3s\3s\3s\3s\3s\3t\3t\3t\3t\3t\3u\3u\3u\3u\3u\3v\3v"+
-		"\3v\3v\3v\3w\3w\3w\3w\3w\3w\3w\3x\3x\3x\3x\3x\3x\3y\3y\3y\3y\3y\3z\3z"+
-		"\3z\3z\3{\3{\3{\3{\3|\3|\3|\3|\3}\3}\3}\3}\3~\3~\3~\3~\3~\3~\3\177\3\177"+
-		"\3\177\3\177\3\177\3\177\3\177\3\u0080\3\u0080\3\u0080\3\u0080\3\u0080"+
-		"\3\u0080\3\u0080\3\u0081\3\u0081\3\u0081\3\u0081\3\u0081\3\u0082\3\u0082"+
-		"\3\u0082\3\u0082\3\u0082\3\u0082\3\u0083\3\u0083\3\u0083\3\u0083\3\u0083"+
-		"\3\u0084\3\u0084\3\u0084\3\u0084\3\u0084\3\u0084\3\u0085\3\u0085\3\u0085"+
-		"\3\u0085\3\u0085\3\u0086\3\u0086\3\u0086\3\u0086\3\u0086\3\u0087\3\u0087"+
-		"\3\u0087\3\u0087\3\u0087\3\u0088\3\u0088\3\u0088\3\u0088\3\u0088\3\u0088"+
-		"\3\u0089\3\u0089\3\u0089\3\u0089\3\u0089\3\u008a\3\u008a\3\u008a\3\u008a"+
-		"\3\u008a\3\u008a\3\u008b\3\u008b\3\u008b\3\u008b\3\u008b\3\u008b\3\u008c"+
-		"\3\u008c\3\u008c\3\u008c\3\u008c\3\u008c\3\u008c\3\u008d\3\u008d\3\u008d"+
-		"\3\u008d\3\u008d\3\u008d\3\u008e\3\u008e\3\u008e\3\u008e\3\u008e\3\u008e"+
-		"\3\u008e\3\u008f\3\u008f\3\u008f\3\u008f\3\u008f\3\u008f\3\u0090\3\u0090"+
-		"\3\u0090\3\u0090\3\u0090\3\u0090\3\u0091\3\u0091\3\u0091\3\u0091\3\u0091"+
-		"\3\u0091\3\u0092\3\u0092\3\u0092\3\u0092\3\u0092\3\u0092\3\u0092\3\u0093"+
-		"\3\u0093\3\u0093\3\u0093\3\u0093\3\u0093\3\u0094\3\u0094\3\u0094\3\u0094"+
-		"\3\u0094\3\u0094\3\u0094\3\u0095\3\u0095\3\u0095\3\u0095\3\u0095\3\u0095"+
-		"\3\u0096\3\u0096\3\u0096\3\u0096\3\u0096\3\u0096\3\u0097\3\u0097\3\u0097"+
-		"\3\u0097\3\u0097\3\u0097\3\u0098\3\u0098\3\u0098\3\u0098\3\u0098\3\u0098"+
-		"\3\u0099\3\u0099\3\u0099\3\u0099\3\u0099\3\u009a\3\u009a\3\u009a\3\u009a"+
-		"\3\u009a\3\u009b\3\u009b\3\u009b\3\u009b\3\u009b\3\u009b\3\u009c\3\u009c"+
-		"\3\u009c\3\u009c\3\u009c\3\u009c\3\u009d\3\u009d\3\u009d\3\u009d\3\u009d"+
-		"\3\u009e\3\u009e\3\u009e\3\u009e\3\u009e\3\u009f\3\u009f\3\u009f\3\u009f"+
-		"\3\u009f\3\u00a0\3\u00a0\3\u00a0\3\u00a0\3\u00a1\3\u00a1\3\u00a1\3\u00a1"+
+		"\t\u0230\4\u0231\t\u0231\4\u0232\t\u0232\4\u0233\t\u0233\4\u0234\t\u0234"+
+		"\4\u0235\t\u0235\4\u0236\t\u0236\4\u0237\t\u0237\3\2\3\2\3\3\3\3\3\4\3"+
+		"\4\3\5\3\5\3\5\3\5\3\6\3\6\3\6\3\6\3\6\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3\b"+
+		"\3\b\3\b\3\b\3\t\3\t\3\t\3\t\3\t\3\t\3\n\3\n\3\n\3\n\3\n\3\13\3\13\3\13"+
+		"\3\13\3\f\3\f\3\f\3\f\3\f\3\r\3\r\3\r\3\16\3\16\3\16\3\16\3\17\3\17\3"+
+		"\17\3\20\3\20\3\20\3\20\3\21\3\21\3\21\3\22\3\22\3\22\3\22\3\22\3\23\3"+
+		"\23\3\23\3\24\3\24\3\24\3\24\3\24\3\24\3\25\3\25\3\25\3\26\3\26\3\26\3"+
+		"\26\3\27\3\27\3\27\3\30\3\30\3\30\3\30\3\31\3\31\3\31\3\31\3\32\3\32\3"+
+		"\32\3\32\3\32\3\33\3\33\3\33\3\33\3\34\3\34\3\34\3\34\3\34\3\35\3\35\3"+
+		"\35\3\35\3\36\3\36\3\36\3\36\3\37\3\37\3\37\3\37\3 \3 \3 \3 \3 \3!\3!"+
+		"\3!\3!\3\"\3\"\3\"\3\"\3\"\3#\3#\3#\3#\3$\3$\3$\3$\3%\3%\3%\3%\3&\3&\3"+
+		"&\3&\3\'\3\'\3\'\3(\3(\3(\3)\3)\3)\3)\3*\3*\3*\3*\3+\3+\3+\3,\3,\3,\3"+
+		"-\3-\3-\3-\3-\3-\3.\3.\3.\3.\3.\3/\3/\3/\3/\3/\3/\3\60\3\60\3\60\3\60"+
+		"\3\60\3\60\3\60\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\62\3\62\3\62\3\62"+
+		"\3\62\3\62\3\63\3\63\3\63\3\63\3\64\3\64\3\64\3\64\3\65\3\65\3\65\3\65"+
+		"\3\66\3\66\3\66\3\66\3\67\3\67\3\67\3\67\3\67\38\38\38\38\38\39\39\39"+
+		"\39\39\39\3:\3:\3:\3:\3:\3:\3;\3;\3;\3;\3;\3;\3;\3<\3<\3<\3<\3<\3=\3="+
+		"\3=\3=\3>\3>\3>\3>\3?\3?\3?\3?\3@\3@\3@\3@\3A\3A\3A\3A\3A\3A\3B\3B\3B"+
+		"\3B\3B\3B\3C\3C\3C\3C\3C\3C\3C\3D\3D\3D\3D\3E\3E\3E\3E\3E\3E\3E\3F\3F"+
+		"\3F\3F\3F\3F\3F\3G\3G\3G\3G\3G\3G\3G\3H\3H\3H\3H\3I\3I\3I\3I\3I\3I\3I"+
+		"\3I\3J\3J\3J\3J\3J\3J\3K\3K\3K\3K\3K\3K\3L\3L\3L\3L\3L\3L\3M\3M\3M\3M"+
+		"\3M\3M\3N\3N\3N\3N\3N\3N\3O\3O\3O\3O\3O\3O\3P\3P\3P\3P\3P\3P\3Q\3Q\3Q"+
+		"\3Q\3Q\3Q\3R\3R\3R\3R\3R\3R\3S\3S\3S\3S\3S\3S\3T\3T\3T\3T\3T\3T\3U\3U"+
+		"\3U\3U\3U\3U\3V\3V\3V\3V\3V\3V\3W\3W\3X\3X\3X\3X\3X\3X\3Y\3Y\3Y\3Y\3Y"+
+		"\3Y\3Z\3Z\3Z\3Z\3Z\3Z\3[\3[\3[\3[\3[\3[\3\\\3\\\3\\\3\\\3\\\3\\\3]\3]"+
+		"\3]\3]\3]\3]\3^\3^\3^\3^\3^\3_\3_\3_\3_\3_\3`\3`\3`\3`\3`\3a\3a\3a\3a"+
+		"\3a\3b\3b\3b\3b\3b\3c\3c\3c\3c\3c\3d\3d\3d\3d\3d\3e\3e\3e\3e\3e\3f\3f"+
+		"\3f\3f\3f\3g\3g\3g\3g\3g\3h\3h\3h\3h\3h\3i\3i\3i\3i\3i\3j\3j\3j\3j\3j"+
+		"\3k\3k\3k\3k\3k\3l\3l\3l\3l\3l\3l\3m\3m\3m\3m\3m\3n\3n\3n\3n\3n\3o\3o"+
+		"\3o\3o\3o\3p\3p\3p\3p\3p\3q\3q\3q\3q\3q\3r\3r\3r\3r\3r\3s\3s\3s\3s\3s"+
+		"\3t\3t\3t\3t\3t\3t\3t\3u\3u\3u\3u\3u\3u\3v\3v\3v\3v\3v\3w\3w\3w\3w\3w"+
+		"\3x\3x\3x\3x\3x\3y\3y\3y\3y\3y\3z\3z\3z\3z\3z\3{\3{\3{\3{\3{\3|\3|\3|"+
+		"\3|\3|\3}\3}\3}\3}\3}\3}\3}\3~\3~\3~\3~\3~\3~\3\177\3\177\3\177\3\177"+
+		"\3\177\3\u0080\3\u0080\3\u0080\3\u0080\3\u0081\3\u0081\3\u0081\3\u0081"+
+		"\3\u0082\3\u0082\3\u0082\3\u0082\3\u0083\3\u0083\3\u0083\3\u0083\3\u0084"+
+		"\3\u0084\3\u0084\3\u0084\3\u0084\3\u0084\3\u0085\3\u0085\3\u0085\3\u0085"+
+		"\3\u0085\3\u0085\3\u0085\3\u0086\3\u0086\3\u0086\3\u0086\3\u0086\3\u0086"+
+		"\3\u0086\3\u0087\3\u0087\3\u0087\3\u0087\3\u0087\3\u0088\3\u0088\3\u0088"+
+		"\3\u0088\3\u0088\3\u0088\3\u0089\3\u0089\3\u0089\3\u0089\3\u0089\3\u008a"+
+		"\3\u008a\3\u008a\3\u008a\3\u008a\3\u008a\3\u008b\3\u008b\3\u008b\3\u008b"+
+		"\3\u008b\3\u008c\3\u008c\3\u008c\3\u008c\3\u008c\3\u008d\3\u008d\3\u008d"+
+		"\3\u008d\3\u008d\3\u008e\3\u008e\3\u008e\3\u008e\3\u008e\3\u008e\3\u008f"+
+		"\3\u008f\3\u008f\3\u008f\3\u008f\3\u0090\3\u0090\3\u0090\3\u0090\3\u0090"+
+		"\3\u0090\3\u0091\3\u0091\3\u0091\3\u0091\3\u0091\3\u0091\3\u0092\3\u0092"+
+		"\3\u0092\3\u0092\3\u0092\3\u0092\3\u0092\3\u0093\3\u0093\3\u0093\3\u0093"+
+		"\3\u0093\3\u0093\3\u0094\3\u0094\3\u0094\3\u0094\3\u0094\3\u0094\3\u0094"+
+		"\3\u0095\3\u0095\3\u0095\3\u0095\3\u0095\3\u0095\3\u0096\3\u0096\3\u0096"+
+		"\3\u0096\3\u0096\3\u0096\3\u0097\3\u0097\3\u0097\3\u0097\3\u0097\3\u0097"+
+		"\3\u0098\3\u0098\3\u0098\3\u0098\3\u0098\3\u0098\3\u0098\3\u0099\3\u0099"+
+		"\3\u0099\3\u0099\3\u0099\3\u0099\3\u009a\3\u009a\3\u009a\3\u009a\3\u009a"+
+		"\3\u009a\3\u009a\3\u009b\3\u009b\3\u009b\3\u009b\3\u009b\3\u009b\3\u009c"+
+		"\3\u009c\3\u009c\3\u009c\3\u009c\3\u009c\3\u009d\3\u009d\3\u009d\3\u009d"+
+		"\3\u009d\3\u009d\3\u009e\3\u009e\3\u009e\3\u009e\3\u009e\3\u009e\3\u009f"+
+		"\3\u009f\3\u009f\3\u009f\3\u009f\3\u00a0\3\u00a0\3\u00a0\3\u00a0\3\u00a0"+
 		"\3\u00a1\3\u00a1\3\u00a1\3\u00a1\3\u00a1\3\u00a1\3\u00a2\3\u00a2\3\u00a2"+
-		"\3\u00a2\3\u00a2\3\u00a2\3\u00a2\3\u00a2\3\u00a2\3\u00a2\3\u00a2\3\u00a3"+
-		"\3\u00a3\3\u00a3\3\u00a3\3\u00a3\3\u00a4\3\u00a4\3\u00a4\3\u00a4\3\u00a4"+
-		"\3\u00a4\3\u00a5\3\u00a5\3\u00a5\3\u00a5\3\u00a5\3\u00a5\3\u00a6\3\u00a6"+
-		"\3\u00a6\3\u00a6\3\u00a6\3\u00a7\3\u00a7\3\u00a7\3\u00a7\3\u00a7\3\u00a8"+
-		"\3\u00a8\3\u00a8\3\u00a8\3\u00a8\3\u00a9\3\u00a9\3\u00a9\3\u00a9\3\u00a9"+
-		"\3\u00aa\3\u00aa\3\u00aa\3\u00aa\3\u00aa\3\u00ab\3\u00ab\3\u00ab\3\u00ab"+
-		"\3\u00ab\3\u00ac\3\u00ac\3\u00ac\3\u00ac\3\u00ad\3\u00ad\3\u00ad\3\u00ad"+
-		"\3\u00ad\3\u00ae\3\u00ae\3\u00ae\3\u00ae\3\u00ae\3\u00af\3\u00af\3\u00af"+
-		"\3\u00af\3\u00af\3\u00b0\3\u00b0\3\u00b0\3\u00b0\3\u00b0\3\u00b1\3\u00b1"+
-		"\3\u00b1\3\u00b1\3\u00b1\3\u00b2\3\u00b2\3\u00b2\3\u00b2\3\u00b2\3\u00b3"+
-		"\3\u00b3\3\u00b3\3\u00b3\3\u00b3\3\u00b4\3\u00b4\3\u00b4\3\u00b4\3\u00b4"+
-		"\3\u00b5\3\u00b5\3\u00b5\3\u00b5\3\u00b5\3\u00b6\3\u00b6\3\u00b6\3\u00b6"+
-		"\3\u00b6\3\u00b6\3\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b7"+
-		"\3\u00b7\3\u00b7\3\u00b8\3\u00b8\3\u00b8\3\u00b8\3\u00b8\3\u00b8\3\u00b8"+
-		"\3\u00b9\3\u00b9\3\u00b9\3\u00b9\3\u00b9\3\u00b9\3\u00b9\3\u00b9\3\u00ba"+
-		"\3\u00ba\3\u00ba\3\u00ba\3\u00ba\3\u00ba\3\u00ba\3\u00bb\3\u00bb\3\u00bb"+
-		"\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bc\3\u00bc\3\u00bc\3\u00bc"+
-		"\3\u00bc\3\u00bc\3\u00bc\3\u00bd\3\u00bd\3\u00bd\3\u00bd\3\u00bd\3\u00bd"+
+		"\3\u00a2\3\u00a2\3\u00a2\3\u00a3\3\u00a3\3\u00a3\3\u00a3\3\u00a3\3\u00a4"+
+		"\3\u00a4\3\u00a4\3\u00a4\3\u00a4\3\u00a5\3\u00a5\3\u00a5\3\u00a5\3\u00a5"+
+		"\3\u00a6\3\u00a6\3\u00a6\3\u00a6\3\u00a7\3\u00a7\3\u00a7\3\u00a7\3\u00a7"+
+		"\3\u00a7\3\u00a7\3\u00a7\3\u00a7\3\u00a7\3\u00a8\3\u00a8\3\u00a8\3\u00a8"+
+		"\3\u00a8\3\u00a8\3\u00a8\3\u00a8\3\u00a8\3\u00a8\3\u00a8\3\u00a9\3\u00a9"+
+		"\3\u00a9\3\u00a9\3\u00a9\3\u00aa\3\u00aa\3\u00aa\3\u00aa\3\u00aa\3\u00aa"+
+		"\3\u00ab\3\u00ab\3\u00ab\3\u00ab\3\u00ab\3\u00ab\3\u00ac\3\u00ac\3\u00ac"+
+		"\3\u00ac\3\u00ac\3\u00ad\3\u00ad\3\u00ad\3\u00ad\3\u00ad\3\u00ae\3\u00ae"+
+		"\3\u00ae\3\u00ae\3\u00ae\3\u00af\3\u00af\3\u00af\3\u00af\3\u00af\3\u00b0"+
+		"\3\u00b0\3\u00b0\3\u00b0\3\u00b0\3\u00b1\3\u00b1\3\u00b1\3\u00b1\3\u00b1"+
+		"\3\u00b2\3\u00b2\3\u00b2\3\u00b2\3\u00b3\3\u00b3\3\u00b3\3\u00b3\3\u00b3"+
+		"\3\u00b4\3\u00b4\3\u00b4\3\u00b4\3\u00b4\3\u00b5\3\u00b5\3\u00b5\3\u00b5"+
+		"\3\u00b5\3\u00b6\3\u00b6\3\u00b6\3\u00b6\3\u00b6\3\u00b7\3\u00b7\3\u00b7"+
+		"\3\u00b7\3\u00b7\3\u00b8\3\u00b8\3\u00b8\3\u00b8\3\u00b8\3\u00b9\3\u00b9"+
+		"\3\u00b9\3\u00b9\3\u00b9\3\u00ba\3\u00ba\3\u00ba\3\u00ba\3\u00ba\3\u00bb"+
+		"\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bc\3\u00bc\3\u00bc\3\u00bc\3\u00bc"+
+		"\3\u00bc\3\u00bd\3\u00bd\3\u00bd\3\u00bd\3\u00bd\3\u00bd\3\u00bd\3\u00bd"+
 		"\3\u00bd\3\u00be\3\u00be\3\u00be\3\u00be\3\u00be\3\u00be\3\u00be\3\u00bf"+
 		"\3\u00bf\3\u00bf\3\u00bf\3\u00bf\3\u00bf\3\u00bf\3\u00bf\3\u00c0\3\u00c0"+
 		"\3\u00c0\3\u00c0\3\u00c0\3\u00c0\3\u00c0\3\u00c1\3\u00c1\3\u00c1\3\u00c1"+
 		"\3\u00c1\3\u00c1\3\u00c1\3\u00c1\3\u00c2\3\u00c2\3\u00c2\3\u00c2\3\u00c2"+
-		"\3\u00c2\3\u00c2\3\u00c2\3\u00c3\3\u00c3\3\u00c3\3\u00c3\3\u00c3\3\u00c3"+
-		"\3\u00c3\3\u00c3\3\u00c3\3\u00c4\3\u00c4\3\u00c4\3\u00c4\3\u00c4\3\u00c4"+
-		"\3\u00c4\3\u00c4\3\u00c5\3\u00c5\3\u00c5\3\u00c5\3\u00c5\3\u00c5\3\u00c5"+
-		"\3\u00c5\3\u00c5\3\u00c6\3\u00c6\3\u00c6\3\u00c6\3\u00c6\3\u00c6\3\u00c6"+
-		"\3\u00c6\3\u00c7\3\u00c7\3\u00c7\3\u00c7\3\u00c7\3\u00c7\3\u00c7\3\u00c7"+
-		"\3\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c9"+
-		"\3\u00c9\3\u00c9\3\u00c9\3\u00c9\3\u00c9\3\u00c9\3\u00c9\3\u00c9\3\u00ca"+
-		"\3\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00cb\3\u00cb"+
-		"\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cc\3\u00cc"+
-		"\3\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cd\3\u00cd\3\u00cd"+
-		"\3\u00cd\3\u00cd\3\u00cd\3\u00cd\3\u00cd\3\u00ce\3\u00ce\3\u00ce\3\u00ce"+
-		"\3\u00ce\3\u00ce\3\u00ce\3\u00ce\3\u00cf\3\u00cf\3\u00cf\3\u00cf\3\u00cf"+
-		"\3\u00cf\3\u00cf\3\u00cf\3\u00d0\3\u00d0\3\u00d0\3\u00d0\3\u00d0\3\u00d0"+
-		"\3\u00d0\3\u00d1\3\u00d1\3\u00d1\3\u00d1\3\u00d1\3\u00d1\3\u00d1\3\u00d2"+
-		"\3\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d3\3\u00d3"+
-		"\3\u00d3\3\u00d3\3\u00d3\3\u00d3\3\u00d3\3\u00d3\3\u00d4\3\u00d4\3\u00d4"+
-		"\3\u00d4\3\u00d4\3\u00d4\3\u00d4\3\u00d5\3\u00d5\3\u00d5\3\u00d5\3\u00d5"+
+		"\3\u00c2\3\u00c2\3\u00c3\3\u00c3\3\u00c3\3\u00c3\3\u00c3\3\u00c3\3\u00c3"+
+		"\3\u00c4\3\u00c4\3\u00c4\3\u00c4\3\u00c4\3\u00c4\3\u00c4\3\u00c5\3\u00c5"+
+		"\3\u00c5\3\u00c5\3\u00c5\3\u00c5\3\u00c5\3\u00c5\3\u00c6\3\u00c6\3\u00c6"+
+		"\3\u00c6\3\u00c6\3\u00c6\3\u00c6\3\u00c7\3\u00c7\3\u00c7\3\u00c7\3\u00c7"+
+		"\3\u00c7\3\u00c7\3\u00c7\3\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c8"+
+		"\3\u00c8\3\u00c8\3\u00c9\3\u00c9\3\u00c9\3\u00c9\3\u00c9\3\u00c9\3\u00c9"+
+		"\3\u00c9\3\u00c9\3\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00ca"+
+		"\3\u00ca\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cb"+
+		"\3\u00cb\3\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc"+
+		"\3\u00cd\3\u00cd\3\u00cd\3\u00cd\3\u00cd\3\u00cd\3\u00cd\3\u00cd\3\u00ce"+
+		"\3\u00ce\3\u00ce\3\u00ce\3\u00ce\3\u00ce\3\u00ce\3\u00ce\3\u00cf\3\u00cf"+
+		"\3\u00cf\3\u00cf\3\u00cf\3\u00cf\3\u00cf\3\u00cf\3\u00cf\3\u00d0\3\u00d0"+
+		"\3\u00d0\3\u00d0\3\u00d0\3\u00d0\3\u00d0\3\u00d0\3\u00d1\3\u00d1\3\u00d1"+
+		"\3\u00d1\3\u00d1\3\u00d1\3\u00d1\3\u00d1\3\u00d1\3\u00d2\3\u00d2\3\u00d2"+
+		"\3\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d3\3\u00d3\3\u00d3\3\u00d3"+
+		"\3\u00d3\3\u00d3\3\u00d3\3\u00d3\3\u00d4\3\u00d4\3\u00d4\3\u00d4\3\u00d4"+
+		"\3\u00d4\3\u00d4\3\u00d4\3\u00d5\3\u00d5\3\u00d5\3\u00d5\3\u00d5\3\u00d5"+
 		"\3\u00d5\3\u00d5\3\u00d6\3\u00d6\3\u00d6\3\u00d6\3\u00d6\3\u00d6\3\u00d6"+
-		"\3\u00d6\3\u00d6\3\u00d7\3\u00d7\3\u00d7\3\u00d7\3\u00d7\3\u00d8\3\u00d8"+
-		"\3\u00d8\3\u00d8\3\u00d8\3\u00d8\3\u00d9\3\u00d9\3\u00d9\3\u00d9\3\u00d9"+
-		"\3\u00d9\3\u00da\3\u00da\3\u00da\3\u00da\3\u00da\3\u00db\3\u00db\3\u00db"+
-		"\3\u00db\3\u00db\3\u00dc\3\u00dc\3\u00dc\3\u00dc\3\u00dc\3\u00dd\3\u00dd"+
-		"\3\u00dd\3\u00dd\3\u00dd\3\u00de\3\u00de\3\u00de\3\u00de\3\u00de\3\u00df"+
-		"\3\u00df\3\u00df\3\u00df\3\u00df\3\u00e0\3\u00e0\3\u00e0\3\u00e0\3\u00e1"+
-		"\3\u00e1\3\u00e1\3\u00e1\3\u00e1\3\u00e2\3\u00e2\3\u00e2\3\u00e2\3\u00e2"+
-		"\3\u00e2\3\u00e3\3\u00e3\3\u00e3\3\u00e3\3\u00e3\3\u00e4\3\u00e4\3\u00e4"+
-		"\3\u00e4\3\u00e4\3\u00e5\3\u00e5\3\u00e5\3\u00e5\3\u00e6\3\u00e6\3\u00e6"+
-		"\3\u00e6\3\u00e6\3\u00e7\3\u00e7\3\u00e7\3\u00e7\3\u00e7\3\u00e8\3\u00e8"+
-		"\3\u00e8\3\u00e8\3\u00e8\3\u00e9\3\u00e9\3\u00e9\3\u00e9\3\u00e9\3\u00ea"+
-		"\3\u00ea\3\u00ea\3\u00ea\3\u00ea\3\u00eb\3\u00eb\3\u00eb\3\u00eb\3\u00eb"+
-		"\3\u00ec\3\u00ec\3\u00ec\3\u00ec\3\u00ec\3\u00ed\3\u00ed\3\u00ed\3\u00ed"+
-		"\3\u00ed\3\u00ee\3\u00ee\3\u00ee\3\u00ee\3\u00ee\3\u00ef\3\u00ef\3\u00ef"+
-		"\3\u00ef\3\u00ef\3\u00f0\3\u00f0\3\u00f0\3\u00f0\3\u00f0\3\u00f1\3\u00f1"+
-		"\3\u00f1\3\u00f1\3\u00f1\3\u00f1\3\u00f1\3\u00f2\3\u00f2\3\u00f2\3\u00f2"+
-		"\3\u00f2\3\u00f2\3\u00f2\3\u00f3\3\u00f3\3\u00f3\3\u00f3\3\u00f3\3\u00f3"+
-		"\3\u00f3\3\u00f4\3\u00f4\3\u00f4\3\u00f4\3\u00f4\3\u00f4\3\u00f4\3\u00f4"+
-		"\3\u00f5\3\u00f5\3\u00f5\3\u00f5\3\u00f5\3\u00f5\3\u00f5\3\u00f6\3\u00f6"+
-		"\3\u00f6\3\u00f6\3\u00f6\3\u00f6\3\u00f6\3\u00f6\3\u00f7\3\u00f7\3\u00f7"+
+		"\3\u00d7\3\u00d7\3\u00d7\3\u00d7\3\u00d7\3\u00d7\3\u00d7\3\u00d8\3\u00d8"+
+		"\3\u00d8\3\u00d8\3\u00d8\3\u00d8\3\u00d8\3\u00d8\3\u00d9\3\u00d9\3\u00d9"+
+		"\3\u00d9\3\u00d9\3\u00d9\3\u00d9\3\u00d9\3\u00da\3\u00da\3\u00da\3\u00da"+
+		"\3\u00da\3\u00da\3\u00da\3\u00db\3\u00db\3\u00db\3\u00db\3\u00db\3\u00db"+
+		"\3\u00db\3\u00dc\3\u00dc\3\u00dc\3\u00dc\3\u00dc\3\u00dc\3\u00dc\3\u00dc"+
+		"\3\u00dc\3\u00dd\3\u00dd\3\u00dd\3\u00dd\3\u00dd\3\u00de\3\u00de\3\u00de"+
+		"\3\u00de\3\u00de\3\u00de\3\u00df\3\u00df\3\u00df\3\u00df\3\u00df\3\u00df"+
+		"\3\u00e0\3\u00e0\3\u00e0\3\u00e0\3\u00e0\3\u00e1\3\u00e1\3\u00e1\3\u00e1"+
+		"\3\u00e1\3\u00e2\3\u00e2\3\u00e2\3\u00e2\3\u00e2\3\u00e3\3\u00e3\3\u00e3"+
+		"\3\u00e3\3\u00e3\3\u00e4\3\u00e4\3\u00e4\3\u00e4\3\u00e4\3\u00e5\3\u00e5"+
+		"\3\u00e5\3\u00e5\3\u00e5\3\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e7\3\u00e7"+
+		"\3\u00e7\3\u00e7\3\u00e7\3\u00e8\3\u00e8\3\u00e8\3\u00e8\3\u00e8\3\u00e8"+
+		"\3\u00e9\3\u00e9\3\u00e9\3\u00e9\3\u00e9\3\u00ea\3\u00ea\3\u00ea\3\u00ea"+
+		"\3\u00ea\3\u00eb\3\u00eb\3\u00eb\3\u00eb\3\u00ec\3\u00ec\3\u00ec\3\u00ec"+
+		"\3\u00ec\3\u00ed\3\u00ed\3\u00ed\3\u00ed\3\u00ed\3\u00ee\3\u00ee\3\u00ee"+
+		"\3\u00ee\3\u00ee\3\u00ef\3\u00ef\3\u00ef\3\u00ef\3\u00ef\3\u00f0\3\u00f0"+
+		"\3\u00f0\3\u00f0\3\u00f0\3\u00f1\3\u00f1\3\u00f1\3\u00f1\3\u00f1\3\u00f2"+
+		"\3\u00f2\3\u00f2\3\u00f2\3\u00f2\3\u00f3\3\u00f3\3\u00f3\3\u00f3\3\u00f3"+
+		"\3\u00f4\3\u00f4\3\u00f4\3\u00f4\3\u00f4\3\u00f5\3\u00f5\3\u00f5\3\u00f5"+
+		"\3\u00f5\3\u00f6\3\u00f6\3\u00f6\3\u00f6\3\u00f6\3\u00f7\3\u00f7\3\u00f7"+
 		"\3\u00f7\3\u00f7\3\u00f7\3\u00f7\3\u00f8\3\u00f8\3\u00f8\3\u00f8\3\u00f8"+
 		"\3\u00f8\3\u00f8\3\u00f9\3\u00f9\3\u00f9\3\u00f9\3\u00f9\3\u00f9\3\u00f9"+
 		"\3\u00fa\3\u00fa\3\u00fa\3\u00fa\3\u00fa\3\u00fa\3\u00fa\3\u00fa\3\u00fb"+
 		"\3\u00fb\3\u00fb\3\u00fb\3\u00fb\3\u00fb\3\u00fb\3\u00fc\3\u00fc\3\u00fc"+
 		"\3\u00fc\3\u00fc\3\u00fc\3\u00fc\3\u00fc\3\u00fd\3\u00fd\3\u00fd\3\u00fd"+
-		"\3\u00fd\3\u00fd\3\u00fd\3\u00fd\3\u00fe\3\u00fe\3\u00fe\3\u00fe\3\u00fe"+
-		"\3\u00fe\3\u00fe\3\u00fe\3\u00fe\3\u00ff\3\u00ff\3\u00ff\3\u00ff\3\u00ff"+
-		"\3\u00ff\3\u00ff\3\u00ff\3\u0100\3\u0100\3\u0100\3\u0100\3\u0100\3\u0100"+
-		"\3\u0100\3\u0100\3\u0100\3\u0101\3\u0101\3\u0101\3\u0101\3\u0101\3\u0101"+
-		"\3\u0101\3\u0101\3\u0102\3\u0102\3\u0102\3\u0102\3\u0102\3\u0102\3\u0102"+
-		"\3\u0102\3\u0103\3\u0103\3\u0103\3\u0103\3\u0103\3\u0103\3\u0103\3\u0103"+
-		"\3\u0104\3\u0104\3\u0104\3\u0104\3\u0104\3\u0104\3\u0104\3\u0104\3\u0104"+
-		"\3\u0105\3\u0105\3\u0105\3\u0105\3\u0105\3\u0105\3\u0105\3\u0105\3\u0106"+
-		"\3\u0106\3\u0106\3\u0106\3\u0106\3\u0106\3\u0106\3\u0106\3\u0106\3\u0107"+
-		"\3\u0107\3\u0107\3\u0107\3\u0107\3\u0107\3\u0107\3\u0107\3\u0108\3\u0108"+
-		"\3\u0108\3\u0108\3\u0108\3\u0108\3\u0108\3\u0108\3\u0109\3\u0109\3\u0109"+
-		"\3\u0109\3\u0109\3\u0109\3\u0109\3\u0109\3\u010a\3\u010a\3\u010a\3\u010a"+
-		"\3\u010a\3\u010a\3\u010a\3\u010a\3\u010b\3\u010b\3\u010b\3\u010b\3\u010b"+
-		"\3\u010b\3\u010b\3\u010c\3\u010c\3\u010c\3\u010c\3\u010c\3\u010c\3\u010c"+
-		"\3\u010d\3\u010d\3\u010d\3\u010d\3\u010d\3\u010d\3\u010d\3\u010d\3\u010e"+
-		"\3\u010e\3\u010e\3\u010e\3\u010e\3\u010e\3\u010e\3\u010e\3\u010f\3\u010f"+
-		"\3\u010f\3\u010f\3\u010f\3\u010f\3\u010f\3\u0110\3\u0110\3\u0110\3\u0110"+
+		"\3\u00fd\3\u00fd\3\u00fd\3\u00fe\3\u00fe\3\u00fe\3\u00fe\3\u00fe\3\u00fe"+
+		"\3\u00fe\3\u00ff\3\u00ff\3\u00ff\3\u00ff\3\u00ff\3\u00ff\3\u00ff\3\u0100"+
+		"\3\u0100\3\u0100\3\u0100\3\u0100\3\u0100\3\u0100\3\u0100\3\u0101\3\u0101"+
+		"\3\u0101\3\u0101\3\u0101\3\u0101\3\u0101\3\u0102\3\u0102\3\u0102\3\u0102"+
+		"\3\u0102\3\u0102\3\u0102\3\u0102\3\u0103\3\u0103\3\u0103\3\u0103\3\u0103"+
+		"\3\u0103\3\u0103\3\u0103\3\u0104\3\u0104\3\u0104\3\u0104\3\u0104\3\u0104"+
+		"\3\u0104\3\u0104\3\u0104\3\u0105\3\u0105\3\u0105\3\u0105\3\u0105\3\u0105"+
+		"\3\u0105\3\u0105\3\u0106\3\u0106\3\u0106\3\u0106\3\u0106\3\u0106\3\u0106"+
+		"\3\u0106\3\u0106\3\u0107\3\u0107\3\u0107\3\u0107\3\u0107\3\u0107\3\u0107"+
+		"\3\u0107\3\u0108\3\u0108\3\u0108\3\u0108\3\u0108\3\u0108\3\u0108\3\u0108"+
+		"\3\u0109\3\u0109\3\u0109\3\u0109\3\u0109\3\u0109\3\u0109\3\u0109\3\u010a"+
+		"\3\u010a\3\u010a\3\u010a\3\u010a\3\u010a\3\u010a\3\u010a\3\u010a\3\u010b"+
+		"\3\u010b\3\u010b\3\u010b\3\u010b\3\u010b\3\u010b\3\u010b\3\u010c\3\u010c"+
+		"\3\u010c\3\u010c\3\u010c\3\u010c\3\u010c\3\u010c\3\u010c\3\u010d\3\u010d"+
+		"\3\u010d\3\u010d\3\u010d\3\u010d\3\u010d\3\u010d\3\u010e\3\u010e\3\u010e"+
+		"\3\u010e\3\u010e\3\u010e\3\u010e\3\u010e\3\u010f\3\u010f\3\u010f\3\u010f"+
+		"\3\u010f\3\u010f\3\u010f\3\u010f\3\u0110\3\u0110\3\u0110\3\u0110\3\u0110"+
 		"\3\u0110\3\u0110\3\u0110\3\u0111\3\u0111\3\u0111\3\u0111\3\u0111\3\u0111"+
-		"\3\u0111\3\u0111\3\u0111\3\u0112\3\u0112\3\u0112\3\u0112\3\u0112\3\u0113"+
-		"\3\u0113\3\u0113\3\u0113\3\u0113\3\u0113\3\u0114\3\u0114\3\u0114\3\u0114"+
-		"\3\u0114\3\u0114\3\u0115\3\u0115\3\u0115\3\u0115\3\u0115\3\u0116\3\u0116"+
-		"\3\u0116\3\u0116\3\u0116\3\u0117\3\u0117\3\u0117\3\u0117\3\u0117\3\u0118"+
-		"\3\u0118\3\u0118\3\u0118\3\u0118\3\u0119\3\u0119\3\u0119\3\u0119\3\u0119"+
-		"\3\u011a\3\u011a\3\u011a\3\u011a\3\u011a\3\u011b\3\u011b\3\u011b\3\u011b"+
-		"\3\u011c\3\u011c\3\u011c\3\u011c\3\u011c\3\u011d\3\u011d\3\u011d\3\u011d"+
-		"\3\u011d\3\u011d\3\u011e\3\u011e\3\u011e\3\u011e\3\u011e\3\u011f\3\u011f"+
-		"\3\u011f\3\u011f\3\u011f\3\u0120\3\u0120\3\u0120\3\u0120\3\u0121\3\u0121"+
-		"\3\u0121\3\u0121\3\u0121\3\u0122\3\u0122\3\u0122\3\u0122\3\u0122\3\u0123"+
-		"\3\u0123\3\u0123\3\u0123\3\u0123\3\u0124\3\u0124\3\u0124\3\u0124\3\u0124"+
-		"\3\u0125\3\u0125\3\u0125\3\u0125\3\u0125\3\u0126\3\u0126\3\u0126\3\u0126"+
-		"\3\u0126\3\u0127\3\u0127\3\u0127\3\u0127\3\u0127\3\u0128\3\u0128\3\u0128"+
-		"\3\u0128\3\u0128\3\u0129\3\u0129\3\u0129\3\u0129\3\u0129\3\u012a\3\u012a"+
-		"\3\u012a\3\u012a\3\u012a\3\u012b\3\u012b\3\u012b\3\u012b\3\u012b\3\u012c"+
-		"\3\u012c\3\u012c\3\u012c\3\u012c\3\u012c\3\u012c\3\u012d\3\u012d\3\u012d"+
-		"\3\u012d\3\u012d\3\u012d\3\u012d\3\u012e\3\u012e\3\u012e\3\u012e\3\u012e"+
-		"\3\u012e\3\u012e\3\u012f\3\u012f\3\u012f\3\u012f\3\u012f\3\u012f\3\u012f"+
-		"\3\u0130\3\u0130\3\u0130\3\u0130\3\u0130\3\u0130\3\u0130\3\u0131\3\u0131"+
-		"\3\u0131\3\u0131\3\u0131\3\u0131\3\u0131\3\u0131\3\u0132\3\u0132\3\u0132"+
-		"\3\u0132\3\u0132\3\u0132\3\u0132\3\u0133\3\u0133\3\u0133\3\u0133\3\u0133"+
+		"\3\u0111\3\u0112\3\u0112\3\u0112\3\u0112\3\u0112\3\u0112\3\u0112\3\u0113"+
+		"\3\u0113\3\u0113\3\u0113\3\u0113\3\u0113\3\u0113\3\u0113\3\u0114\3\u0114"+
+		"\3\u0114\3\u0114\3\u0114\3\u0114\3\u0114\3\u0114\3\u0115\3\u0115\3\u0115"+
+		"\3\u0115\3\u0115\3\u0115\3\u0115\3\u0116\3\u0116\3\u0116\3\u0116\3\u0116"+
+		"\3\u0116\3\u0116\3\u0117\3\u0117\3\u0117\3\u0117\3\u0117\3\u0117\3\u0117"+
+		"\3\u0117\3\u0117\3\u0118\3\u0118\3\u0118\3\u0118\3\u0118\3\u0119\3\u0119"+
+		"\3\u0119\3\u0119\3\u0119\3\u0119\3\u011a\3\u011a\3\u011a\3\u011a\3\u011a"+
+		"\3\u011a\3\u011b\3\u011b\3\u011b\3\u011b\3\u011b\3\u011c\3\u011c\3\u011c"+
+		"\3\u011c\3\u011c\3\u011d\3\u011d\3\u011d\3\u011d\3\u011d\3\u011e\3\u011e"+
+		"\3\u011e\3\u011e\3\u011e\3\u011f\3\u011f\3\u011f\3\u011f\3\u011f\3\u0120"+
+		"\3\u0120\3\u0120\3\u0120\3\u0120\3\u0121\3\u0121\3\u0121\3\u0121\3\u0122"+
+		"\3\u0122\3\u0122\3\u0122\3\u0122\3\u0123\3\u0123\3\u0123\3\u0123\3\u0123"+
+		"\3\u0123\3\u0124\3\u0124\3\u0124\3\u0124\3\u0124\3\u0125\3\u0125\3\u0125"+
+		"\3\u0125\3\u0125\3\u0126\3\u0126\3\u0126\3\u0126\3\u0127\3\u0127\3\u0127"+
+		"\3\u0127\3\u0127\3\u0128\3\u0128\3\u0128\3\u0128\3\u0128\3\u0129\3\u0129"+
+		"\3\u0129\3\u0129\3\u0129\3\u012a\3\u012a\3\u012a\3\u012a\3\u012a\3\u012b"+
+		"\3\u012b\3\u012b\3\u012b\3\u012b\3\u012c\3\u012c\3\u012c\3\u012c\3\u012c"+
+		"\3\u012d\3\u012d\3\u012d\3\u012d\3\u012d\3\u012e\3\u012e\3\u012e\3\u012e"+
+		"\3\u012e\3\u012f\3\u012f\3\u012f\3\u012f\3\u012f\3\u0130\3\u0130\3\u0130"+
+		"\3\u0130\3\u0130\3\u0131\3\u0131\3\u0131\3\u0131\3\u0131\3\u0132\3\u0132"+
+		"\3\u0132\3\u0132\3\u0132\3\u0132\3\u0132\3\u0133\3\u0133\3\u0133\3\u0133"+
 		"\3\u0133\3\u0133\3\u0133\3\u0134\3\u0134\3\u0134\3\u0134\3\u0134\3\u0134"+
 		"\3\u0134\3\u0135\3\u0135\3\u0135\3\u0135\3\u0135\3\u0135\3\u0135\3\u0136"+
 		"\3\u0136\3\u0136\3\u0136\3\u0136\3\u0136\3\u0136\3\u0137\3\u0137\3\u0137"+
 		"\3\u0137\3\u0137\3\u0137\3\u0137\3\u0137\3\u0138\3\u0138\3\u0138\3\u0138"+
 		"\3\u0138\3\u0138\3\u0138\3\u0139\3\u0139\3\u0139\3\u0139\3\u0139\3\u0139"+
 		"\3\u0139\3\u0139\3\u013a\3\u013a\3\u013a\3\u013a\3\u013a\3\u013a\3\u013a"+
-		"\3\u013a\3\u013b\3\u013b\3\u013b\3\u013b\3\u013b\3\u013b\3\u013b\3\u013b"+
-		"\3\u013b\3\u013c\3\u013c\3\u013c\3\u013c\3\u013c\3\u013c\3\u013c\3\u013c"+
-		"\3\u013d\3\u013d\3\u013d\3\u013d\3\u013d\3\u013d\3\u013d\3\u013d\3\u013d"+
-		"\3\u013e\3\u013e\3\u013e\3\u013e\3\u013e\3\u013e\3\u013e\3\u013e\3\u013f"+
-		"\3\u013f\3\u013f\3\u013f\3\u013f\3\u013f\3\u013f\3\u013f\3\u0140\3\u0140"+
-		"\3\u0140\3\u0140\3\u0140\3\u0140\3\u0140\3\u0140\3\u0141\3\u0141\3\u0141"+
-		"\3\u0141\3\u0141\3\u0141\3\u0141\3\u0141\3\u0141\3\u0142\3\u0142\3\u0142"+
-		"\3\u0142\3\u0142\3\u0142\3\u0142\3\u0142\3\u0143\3\u0143\3\u0143\3\u0143"+
-		"\3\u0143\3\u0143\3\u0143\3\u0143\3\u0143\3\u0144\3\u0144\3\u0144\3\u0144"+
-		"\3\u0144\3\u0144\3\u0144\3\u0144\3\u0145\3\u0145\3\u0145\3\u0145\3\u0145"+
-		"\3\u0145\3\u0145\3\u0145\3\u0146\3\u0146\3\u0146\3\u0146\3\u0146\3\u0146"+
-		"\3\u0146\3\u0146\3\u0147\3\u0147\3\u0147\3\u0147\3\u0147\3\u0147\3\u0147"+
-		"\3\u0147\3\u0148\3\u0148\3\u0148\3\u0148\3\u0148\3\u0148\3\u0148\3\u0149"+
-		"\3\u0149\3\u0149\3\u0149\3\u0149\3\u0149\3\u0149\3\u014a\3\u014a\3\u014a"+
-		"\3\u014a\3\u014a\3\u014a\3\u014a\3\u014a\3\u014b\3\u014b\3\u014b\3\u014b"+
-		"\3\u014b\3\u014b\3\u014b\3\u014b\3\u014c\3\u014c\3\u014c\3\u014c\3\u014c"+
-		"\3\u014c\3\u014c\3\u014d\3\u014d\3\u014d\3\u014d\3\u014d\3\u014d\3\u014d"+
-		"\3\u014e\3\u014e\3\u014e\3\u014e\3\u014e\3\u014e\3\u014e\3\u014e\3\u014e"+
+		"\3\u013b\3\u013b\3\u013b\3\u013b\3\u013b\3\u013b\3\u013b\3\u013c\3\u013c"+
+		"\3\u013c\3\u013c\3\u013c\3\u013c\3\u013c\3\u013d\3\u013d\3\u013d\3\u013d"+
+		"\3\u013d\3\u013d\3\u013d\3\u013d\3\u013e\3\u013e\3\u013e\3\u013e\3\u013e"+
+		"\3\u013e\3\u013e\3\u013f\3\u013f\3\u013f\3\u013f\3\u013f\3\u013f\3\u013f"+
+		"\3\u013f\3\u0140\3\u0140\3\u0140\3\u0140\3\u0140\3\u0140\3\u0140\3\u0140"+
+		"\3\u0141\3\u0141\3\u0141\3\u0141\3\u0141\3\u0141\3\u0141\3\u0141\3\u0141"+
+		"\3\u0142\3\u0142\3\u0142\3\u0142\3\u0142\3\u0142\3\u0142\3\u0142\3\u0143"+
+		"\3\u0143\3\u0143\3\u0143\3\u0143\3\u0143\3\u0143\3\u0143\3\u0143\3\u0144"+
+		"\3\u0144\3\u0144\3\u0144\3\u0144\3\u0144\3\u0144\3\u0144\3\u0145\3\u0145"+
+		"\3\u0145\3\u0145\3\u0145\3\u0145\3\u0145\3\u0145\3\u0146\3\u0146\3\u0146"+
+		"\3\u0146\3\u0146\3\u0146\3\u0146\3\u0146\3\u0147\3\u0147\3\u0147\3\u0147"+
+		"\3\u0147\3\u0147\3\u0147\3\u0147\3\u0147\3\u0148\3\u0148\3\u0148\3\u0148"+
+		"\3\u0148\3\u0148\3\u0148\3\u0148\3\u0149\3\u0149\3\u0149\3\u0149\3\u0149"+
+		"\3\u0149\3\u0149\3\u0149\3\u0149\3\u014a\3\u014a\3\u014a\3\u014a\3\u014a"+
+		"\3\u014a\3\u014a\3\u014a\3\u014b\3\u014b\3\u014b\3\u014b\3\u014b\3\u014b"+
+		"\3\u014b\3\u014b\3\u014c\3\u014c\3\u014c\3\u014c\3\u014c\3\u014c\3\u014c"+
+		"\3\u014c\3\u014d\3\u014d\3\u014d\3\u014d\3\u014d\3\u014d\3\u014d\3\u014d"+
+		"\3\u014e\3\u014e\3\u014e\3\u014e\3\u014e\3\u014e\3\u014e\3\u014f\3\u014f"+
 		"\3\u014f\3\u014f\3\u014f\3\u014f\3\u014f\3\u0150\3\u0150\3\u0150\3\u0150"+
-		"\3\u0150\3\u0150\3\u0151\3\u0151\3\u0151\3\u0151\3\u0151\3\u0151\3\u0152"+
-		"\3\u0152\3\u0152\3\u0152\3\u0152\3\u0153\3\u0153\3\u0153\3\u0153\3\u0153"+
-		"\3\u0154\3\u0154\3\u0154\3\u0154\3\u0154\3\u0155\3\u0155\3\u0155\3\u0155"+
-		"\3\u0155\3\u0156\3\u0156\3\u0156\3\u0156\3\u0156\3\u0157\3\u0157\3\u0157"+
-		"\3\u0157\3\u0157\3\u0158\3\u0158\3\u0158\3\u0158\3\u0159\3\u0159\3\u0159"+
-		"\3\u0159\3\u0159\3\u015a\3\u015a\3\u015a\3\u015a\3\u015a\3\u015a\3\u015b"+
-		"\3\u015b\3\u015b\3\u015b\3\u015b\3\u015c\3\u015c\3\u015c\3\u015c\3\u015c"+
-		"\3\u015d\3\u015d\3\u015d\3\u015d\3\u015e\3\u015e\3\u015e\3\u015e\3\u015e"+
-		"\3\u015f\3\u015f\3\u015f\3\u015f\3\u015f\3\u0160\3\u0160\3\u0160\3\u0160"+
-		"\3\u0160\3\u0161\3\u0161\3\u0161\3\u0161\3\u0161\3\u0162\3\u0162\3\u0162"+
-		"\3\u0162\3\u0162\3\u0163\3\u0163\3\u0163\3\u0163\3\u0163\3\u0164\3\u0164"+
-		"\3\u0164\3\u0164\3\u0164\3\u0165\3\u0165\3\u0165\3\u0165\3\u0165\3\u0166"+
-		"\3\u0166\3\u0166\3\u0166\3\u0166\3\u0167\3\u0167\3\u0167\3\u0167\3\u0167"+
-		"\3\u0168\3\u0168\3\u0168\3\u0168\3\u0168\3\u0169\3\u0169\3\u0169\3\u0169"+
-		"\3\u0169\3\u0169\3\u0169\3\u016a\3\u016a\3\u016a\3\u016a\3\u016a\3\u016a"+
-		"\3\u016a\3\u016b\3\u016b\3\u016b\3\u016b\3\u016b\3\u016b\3\u016b\3\u016c"+
-		"\3\u016c\3\u016c\3\u016c\3\u016c\3\u016c\3\u016c\3\u016d\3\u016d\3\u016d"+
-		"\3\u016d\3\u016d\3\u016d\3\u016d\3\u016e\3\u016e\3\u016e\3\u016e\3\u016e"+
-		"\3\u016e\3\u016f\3\u016f\3\u016f\3\u016f\3\u016f\3\u016f\3\u016f\3\u0170"+
-		"\3\u0170\3\u0170\3\u0170\3\u0170\3\u0170\3\u0171\3\u0171\3\u0171\3\u0171"+
-		"\3\u0171\3\u0171\3\u0171\3\u0172\3\u0172\3\u0172\3\u0172\3\u0172\3\u0172"+
-		"\3\u0173\3\u0173\3\u0173\3\u0173\3\u0173\3\u0173\3\u0174\3\u0174\3\u0174"+
-		"\3\u0174\3\u0174\3\u0174\3\u0175\3\u0175\3\u0175\3\u0175\3\u0175\3\u0175"+
-		"\3\u0175\3\u0176\3\u0176\3\u0176\3\u0176\3\u0176\3\u0176\3\u0177\3\u0177"+
-		"\3\u0177\3\u0177\3\u0177\3\u0177\3\u0177\3\u0178\3\u0178\3\u0178\3\u0178"+
-		"\3\u0178\3\u0178\3\u0178\3\u0179\3\u0179\3\u0179\3\u0179\3\u0179\3\u0179"+
-		"\3\u0179\3\u0179\3\u017a\3\u017a\3\u017a\3\u017a\3\u017a\3\u017a\3\u017a"+
-		"\3\u017b\3\u017b\3\u017b\3\u017b\3\u017b\3\u017b\3\u017b\3\u017b\3\u017c"+
+		"\3\u0150\3\u0150\3\u0150\3\u0150\3\u0151\3\u0151\3\u0151\3\u0151\3\u0151"+
+		"\3\u0151\3\u0151\3\u0151\3\u0152\3\u0152\3\u0152\3\u0152\3\u0152\3\u0152"+
+		"\3\u0152\3\u0153\3\u0153\3\u0153\3\u0153\3\u0153\3\u0153\3\u0153\3\u0154"+
+		"\3\u0154\3\u0154\3\u0154\3\u0154\3\u0154\3\u0154\3\u0154\3\u0154\3\u0155"+
+		"\3\u0155\3\u0155\3\u0155\3\u0155\3\u0156\3\u0156\3\u0156\3\u0156\3\u0156"+
+		"\3\u0156\3\u0157\3\u0157\3\u0157\3\u0157\3\u0157\3\u0157\3\u0158\3\u0158"+
+		"\3\u0158\3\u0158\3\u0158\3\u0159\3\u0159\3\u0159\3\u0159\3\u0159\3\u015a"+
+		"\3\u015a\3\u015a\3\u015a\3\u015a\3\u015b\3\u015b\3\u015b\3\u015b\3\u015b"+
+		"\3\u015c\3\u015c\3\u015c\3\u015c\3\u015c\3\u015d\3\u015d\3\u015d\3\u015d"+
+		"\3\u015d\3\u015e\3\u015e\3\u015e\3\u015e\3\u015f\3\u015f\3\u015f\3\u015f"+
+		"\3\u015f\3\u0160\3\u0160\3\u0160\3\u0160\3\u0160\3\u0160\3\u0161\3\u0161"+
+		"\3\u0161\3\u0161\3\u0161\3\u0162\3\u0162\3\u0162\3\u0162\3\u0162\3\u0163"+
+		"\3\u0163\3\u0163\3\u0163\3\u0164\3\u0164\3\u0164\3\u0164\3\u0164\3\u0165"+
+		"\3\u0165\3\u0165\3\u0165\3\u0165\3\u0166\3\u0166\3\u0166\3\u0166\3\u0166"+
+		"\3\u0167\3\u0167\3\u0167\3\u0167\3\u0167\3\u0168\3\u0168\3\u0168\3\u0168"+
+		"\3\u0168\3\u0169\3\u0169\3\u0169\3\u0169\3\u0169\3\u016a\3\u016a\3\u016a"+
+		"\3\u016a\3\u016a\3\u016b\3\u016b\3\u016b\3\u016b\3\u016b\3\u016c\3\u016c"+
+		"\3\u016c\3\u016c\3\u016c\3\u016d\3\u016d\3\u016d\3\u016d\3\u016d\3\u016e"+
+		"\3\u016e\3\u016e\3\u016e\3\u016e\3\u016f\3\u016f\3\u016f\3\u016f\3\u016f"+
+		"\3\u016f\3\u016f\3\u0170\3\u0170\3\u0170\3\u0170\3\u0170\3\u0170\3\u0170"+
+		"\3\u0171\3\u0171\3\u0171\3\u0171\3\u0171\3\u0171\3\u0171\3\u0172\3\u0172"+
+		"\3\u0172\3\u0172\3\u0172\3\u0172\3\u0172\3\u0173\3\u0173\3\u0173\3\u0173"+
+		"\3\u0173\3\u0173\3\u0173\3\u0174\3\u0174\3\u0174\3\u0174\3\u0174\3\u0174"+
+		"\3\u0175\3\u0175\3\u0175\3\u0175\3\u0175\3\u0175\3\u0175\3\u0176\3\u0176"+
+		"\3\u0176\3\u0176\3\u0176\3\u0176\3\u0177\3\u0177\3\u0177\3\u0177\3\u0177"+
+		"\3\u0177\3\u0177\3\u0178\3\u0178\3\u0178\3\u0178\3\u0178\3\u0178\3\u0179"+
+		"\3\u0179\3\u0179\3\u0179\3\u0179\3\u0179\3\u017a\3\u017a\3\u017a\3\u017a"+
+		"\3\u017a\3\u017a\3\u017b\3\u017b\3\u017b\3\u017b\3\u017b\3\u017b\3\u017b"+
 		"\3\u017c\3\u017c\3\u017c\3\u017c\3\u017c\3\u017c\3\u017d\3\u017d\3\u017d"+
 		"\3\u017d\3\u017d\3\u017d\3\u017d\3\u017e\3\u017e\3\u017e\3\u017e\3\u017e"+
 		"\3\u017e\3\u017e\3\u017f\3\u017f\3\u017f\3\u017f\3\u017f\3\u017f\3\u017f"+
@@ -746,196 +749,202 @@ public class InlineAssemblyLexer extends Lexer {
 		"\3\u0181\3\u0181\3\u0181\3\u0181\3\u0181\3\u0181\3\u0181\3\u0182\3\u0182"+
 		"\3\u0182\3\u0182\3\u0182\3\u0182\3\u0182\3\u0183\3\u0183\3\u0183\3\u0183"+
 		"\3\u0183\3\u0183\3\u0183\3\u0184\3\u0184\3\u0184\3\u0184\3\u0184\3\u0184"+
-		"\3\u0184\3\u0185\3\u0185\3\u0185\3\u0185\3\u0185\3\u0185\3\u0185\3\u0186"+
-		"\3\u0186\3\u0186\3\u0186\3\u0186\3\u0186\3\u0187\3\u0187\3\u0187\3\u0187"+
-		"\3\u0187\3\u0187\3\u0188\3\u0188\3\u0188\3\u0188\3\u0188\3\u0188\3\u0188"+
-		"\3\u0189\3\u0189\3\u0189\3\u0189\3\u0189\3\u0189\3\u0189\3\u018a\3\u018a"+
-		"\3\u018a\3\u018a\3\u018a\3\u018a\3\u018b\3\u018b\3\u018b\3\u018b\3\u018b"+
-		"\3\u018b\3\u018c\3\u018c\3\u018c\3\u018c\3\u018c\3\u018c\3\u018c\3\u018c"+
-		"\3\u018d\3\u018d\3\u018d\3\u018d\3\u018d\3\u018d\3\u018d\3\u018d\3\u018d"+
-		"\3\u018e\3\u018e\3\u018e\3\u018e\3\u018f\3\u018f\3\u018f\3\u018f\3\u018f"+
-		"\3\u0190\3\u0190\3\u0190\3\u0190\3\u0190\3\u0191\3\u0191\3\u0191\3\u0191"+
-		"\3\u0192\3\u0192\3\u0192\3\u0192\3\u0193\3\u0193\3\u0193\3\u0193\3\u0194"+
-		"\3\u0194\3\u0194\3\u0194\3\u0195\3\u0195\3\u0195\3\u0195\3\u0196\3\u0196"+
-		"\3\u0196\3\u0196\3\u0197\3\u0197\3\u0197\3\u0197\3\u0198\3\u0198\3\u0198"+
-		"\3\u0198\3\u0199\3\u0199\3\u0199\3\u019a\3\u019a\3\u019a\3\u019a\3\u019b"+
-		"\3\u019b\3\u019b\3\u019b\3\u019c\3\u019c\3\u019c\3\u019c\3\u019d\3\u019d"+
-		"\3\u019d\3\u019d\3\u019e\3\u019e\3\u019e\3\u019e\3\u019f\3\u019f\3\u019f"+
-		"\3\u019f\3\u01a0\3\u01a0\3\u01a0\3\u01a0\3\u01a1\3\u01a1\3\u01a1\3\u01a1"+
-		"\3\u01a2\3\u01a2\3\u01a2\3\u01a2\3\u01a3\3\u01a3\3\u01a3\3\u01a3\3\u01a4"+
-		"\3\u01a4\3\u01a4\3\u01a4\3\u01a5\3\u01a5\3\u01a5\3\u01a5\3\u01a6\3\u01a6"+
-		"\3\u01a7\3\u01a7\3\u01a8\3\u01a8\3\u01a9\3\u01a9\3\u01a9\3\u01a9\3\u01aa"+
-		"\3\u01aa\3\u01aa\3\u01aa\3\u01ab\3\u01ab\3\u01ab\3\u01ab\3\u01ac\3\u01ac"+
-		"\3\u01ac\3\u01ac\3\u01ad\3\u01ad\3\u01ad\3\u01ad\3\u01ae\3\u01ae\3\u01ae"+
-		"\3\u01ae\3\u01af\3\u01af\3\u01af\3\u01af\3\u01b0\3\u01b0\3\u01b0\3\u01b0"+
-		"\3\u01b1\3\u01b1\3\u01b1\3\u01b1\3\u01b1\3\u01b2\3\u01b2\3\u01b2\3\u01b2"+
-		"\3\u01b2\3\u01b3\3\u01b3\3\u01b3\3\u01b3\3\u01b3\3\u01b4\3\u01b4\3\u01b4"+
-		"\3\u01b4\3\u01b4\3\u01b5\3\u01b5\3\u01b5\3\u01b5\3\u01b5\3\u01b6\3\u01b6"+
-		"\3\u01b6\3\u01b6\3\u01b6\3\u01b7\3\u01b7\3\u01b7\3\u01b7\3\u01b7\3\u01b8"+
-		"\3\u01b8\3\u01b8\3\u01b8\3\u01b8\3\u01b9\3\u01b9\3\u01b9\3\u01b9\3\u01b9"+
-		"\3\u01ba\3\u01ba\3\u01ba\3\u01ba\3\u01ba\3\u01bb\3\u01bb\3\u01bb\3\u01bb"+
-		"\3\u01bb\3\u01bb\3\u01bc\3\u01bc\3\u01bc\3\u01bc\3\u01bc\3\u01bc\3\u01bd"+
-		"\3\u01bd\3\u01bd\3\u01bd\3\u01bd\3\u01bd\3\u01be\3\u01be\3\u01be\3\u01be"+
-		"\3\u01be\3\u01be\3\u01bf\3\u01bf\3\u01bf\3\u01bf\3\u01bf\3\u01bf\3\u01c0"+
-		"\3\u01c0\3\u01c0\3\u01c0\3\u01c0\3\u01c0\3\u01c1\3\u01c1\3\u01c1\3\u01c1"+
-		"\3\u01c2\3\u01c2\3\u01c2\3\u01c2\3\u01c3\3\u01c3\3\u01c3\3\u01c3\3\u01c4"+
-		"\3\u01c4\3\u01c4\3\u01c4\3\u01c5\3\u01c5\3\u01c5\3\u01c5\3\u01c6\3\u01c6"+
-		"\3\u01c6\3\u01c6\3\u01c7\3\u01c7\3\u01c7\3\u01c7\3\u01c8\3\u01c8\3\u01c8"+
-		"\3\u01c8\3\u01c9\3\u01c9\3\u01c9\3\u01c9\3\u01c9\3\u01ca\3\u01ca\3\u01ca"+
-		"\3\u01ca\3\u01ca\3\u01cb\3\u01cb\3\u01cb\3\u01cb\3\u01cb\3\u01cc\3\u01cc"+
-		"\3\u01cc\3\u01cc\3\u01cc\3\u01cd\3\u01cd\3\u01cd\3\u01cd\3\u01cd\3\u01ce"+
-		"\3\u01ce\3\u01ce\3\u01ce\3\u01ce\3\u01cf\3\u01cf\3\u01cf\3\u01cf\3\u01cf"+
-		"\3\u01d0\3\u01d0\3\u01d0\3\u01d0\3\u01d0\3\u01d1\3\u01d1\3\u01d1\3\u01d1"+
-		"\3\u01d1\3\u01d2\3\u01d2\3\u01d2\3\u01d2\3\u01d2\3\u01d3\3\u01d3\3\u01d3"+
-		"\3\u01d3\3\u01d3\3\u01d3\3\u01d4\3\u01d4\3\u01d4\3\u01d4\3\u01d4\3\u01d4"+
-		"\3\u01d5\3\u01d5\3\u01d5\3\u01d5\3\u01d5\3\u01d5\3\u01d6\3\u01d6\3\u01d6"+
-		"\3\u01d6\3\u01d6\3\u01d6\3\u01d7\3\u01d7\3\u01d7\3\u01d7\3\u01d7\3\u01d7"+
-		"\3\u01d8\3\u01d8\3\u01d8\3\u01d8\3\u01d8\3\u01d8\3\u01d9\3\u01d9\3\u01d9"+
-		"\3\u01d9\3\u01d9\3\u01da\3\u01da\3\u01da\3\u01da\3\u01da\3\u01db\3\u01db"+
-		"\3\u01db\3\u01db\3\u01db\3\u01dc\3\u01dc\3\u01dc\3\u01dc\3\u01dc\3\u01dd"+
-		"\3\u01dd\3\u01dd\3\u01dd\3\u01dd\3\u01de\3\u01de\3\u01de\3\u01de\3\u01de"+
-		"\3\u01df\3\u01df\3\u01df\3\u01df\3\u01df\3\u01e0\3\u01e0\3\u01e0\3\u01e0"+
-		"\3\u01e0\3\u01e1\3\u01e1\3\u01e1\3\u01e1\3\u01e1\3\u01e2\3\u01e2\3\u01e2"+
-		"\3\u01e2\3\u01e2\3\u01e3\3\u01e3\3\u01e3\3\u01e3\3\u01e3\3\u01e4\3\u01e4"+
-		"\3\u01e4\3\u01e4\3\u01e4\3\u01e5\3\u01e5\3\u01e5\3\u01e5\3\u01e5\3\u01e6"+
-		"\3\u01e6\3\u01e6\3\u01e6\3\u01e6\3\u01e7\3\u01e7\3\u01e7\3\u01e7\3\u01e7"+
-		"\3\u01e8\3\u01e8\3\u01e8\3\u01e8\3\u01e8\3\u01e9\3\u01e9\3\u01e9\3\u01e9"+
-		"\3\u01e9\3\u01ea\3\u01ea\3\u01ea\3\u01ea\3\u01ea\3\u01eb\3\u01eb\3\u01eb"+
-		"\3\u01eb\3\u01eb\3\u01eb\3\u01ec\3\u01ec\3\u01ec\3\u01ec\3\u01ec\3\u01ec"+
-		"\3\u01ed\3\u01ed\3\u01ed\3\u01ed\3\u01ed\3\u01ed\3\u01ee\3\u01ee\3\u01ee"+
-		"\3\u01ee\3\u01ee\3\u01ee\3\u01ef\3\u01ef\3\u01ef\3\u01ef\3\u01ef\3\u01ef"+
-		"\3\u01f0\3\u01f0\3\u01f0\3\u01f0\3\u01f0\3\u01f0\3\u01f1\3\u01f1\3\u01f1"+
-		"\3\u01f1\3\u01f1\3\u01f2\3\u01f2\3\u01f2\3\u01f2\3\u01f2\3\u01f3\3\u01f3"+
-		"\3\u01f3\3\u01f3\3\u01f3\3\u01f4\3\u01f4\3\u01f4\3\u01f4\3\u01f4\3\u01f5"+
-		"\3\u01f5\3\u01f5\3\u01f5\3\u01f5\3\u01f6\3\u01f6\3\u01f6\3\u01f6\3\u01f6"+
-		"\3\u01f7\3\u01f7\3\u01f7\3\u01f7\3\u01f7\3\u01f8\3\u01f8\3\u01f8\3\u01f8"+
-		"\3\u01f8\3\u01f9\3\u01f9\3\u01f9\3\u01f9\3\u01fa\3\u01fa\3\u01fa\3\u01fa"+
-		"\3\u01fb\3\u01fb\3\u01fb\3\u01fb\3\u01fc\3\u01fc\3\u01fc\3\u01fc\3\u01fd"+
-		"\3\u01fd\3\u01fd\3\u01fd\3\u01fe\3\u01fe\3\u01fe\3\u01fe\3\u01ff\3\u01ff"+
-		"\3\u01ff\3\u01ff\3\u0200\3\u0200\3\u0200\3\u0200\3\u0201\3\u0201\3\u0201"+
-		"\3\u0201\3\u0202\3\u0202\3\u0202\3\u0202\3\u0203\3\u0203\3\u0203\3\u0203"+
-		"\3\u0203\3\u0204\3\u0204\3\u0204\3\u0204\3\u0204\3\u0205\3\u0205\3\u0205"+
-		"\3\u0205\3\u0205\3\u0206\3\u0206\3\u0206\3\u0206\3\u0206\3\u0207\3\u0207"+
-		"\3\u0207\3\u0207\3\u0207\3\u0208\3\u0208\3\u0208\3\u0208\3\u0208\3\u0209"+
-		"\3\u0209\3\u0209\3\u0209\3\u0209\3\u0209\3\u020a\3\u020a\3\u020a\3\u020a"+
-		"\3\u020a\3\u020a\3\u020b\3\u020b\3\u020b\3\u020b\3\u020b\3\u020b\3\u020c"+
-		"\3\u020c\3\u020c\3\u020c\3\u020c\3\u020c\3\u020d\3\u020d\3\u020d\3\u020d"+
-		"\3\u020d\3\u020d\3\u020e\3\u020e\3\u020e\3\u020e\3\u020e\3\u020e\3\u020f"+
-		"\3\u020f\3\u020f\3\u020f\3\u020f\3\u020f\3\u0210\3\u0210\3\u0210\3\u0210"+
-		"\3\u0210\3\u0210\3\u0211\3\u0211\3\u0211\3\u0211\3\u0211\3\u0211\3\u0212"+
-		"\3\u0212\3\u0212\3\u0212\3\u0212\3\u0212\3\u0213\3\u0213\3\u0213\3\u0213"+
-		"\3\u0213\3\u0213\3\u0213\3\u0214\3\u0214\3\u0214\3\u0214\3\u0214\3\u0214"+
-		"\3\u0214\3\u0215\3\u0215\3\u0215\3\u0215\3\u0215\3\u0215\3\u0215\3\u0216"+
-		"\3\u0216\3\u0216\3\u0216\3\u0216\3\u0216\3\u0216\3\u0217\3\u0217\3\u0217"+
-		"\3\u0217\3\u0217\3\u0217\3\u0217\3\u0218\3\u0218\3\u0218\3\u0218\3\u0218"+
-		"\3\u0218\3\u0218\3\u0219\3\u0219\3\u0219\3\u0219\3\u021a\3\u021a\3\u021a"+
-		"\3\u021a\3\u021b\3\u021b\3\u021b\3\u021b\3\u021c\3\u021c\3\u021c\3\u021c"+
-		"\3\u021d\3\u021d\3\u021d\3\u021d\3\u021e\3\u021e\3\u021e\3\u021e\3\u021f"+
-		"\3\u021f\3\u021f\3\u0220\3\u0220\3\u0221\3\u0221\3\u0222\3\u0222\3\u0223"+
-		"\3\u0223\3\u0224\3\u0224\3\u0225\3\u0225\3\u0226\3\u0226\3\u0227\3\u0227"+
-		"\3\u0228\3\u0228\3\u0229\3\u0229\3\u022a\3\u022a\3\u022b\5\u022b\u1071"+
-		"\n\u022b\3\u022c\3\u022c\3\u022d\3\u022d\3\u022d\3\u022d\7\u022d\u1079"+
-		"\n\u022d\f\u022d\16\u022d\u107c\13\u022d\3\u022e\3\u022e\3\u022e\3\u022e"+
-		"\6\u022e\u1082\n\u022e\r\u022e\16\u022e\u1083\3\u022f\3\u022f\3\u022f"+
-		"\3\u022f\6\u022f\u108a\n\u022f\r\u022f\16\u022f\u108b\3\u0230\5\u0230"+
-		"\u108f\n\u0230\3\u0230\6\u0230\u1092\n\u0230\r\u0230\16\u0230\u1093\3"+
-		"\u0231\6\u0231\u1097\n\u0231\r\u0231\16\u0231\u1098\3\u0231\3\u0231\2"+
-		"\2\u0232\3\3\5\4\7\5\t\6\13\7\r\b\17\t\21\n\23\13\25\f\27\r\31\16\33\17"+
-		"\35\20\37\21!\22#\23%\24\'\25)\26+\27-\30/\31\61\32\63\33\65\34\67\35"+
-		"9\36;\37= ?!A\"C#E$G%I&K\'M(O)Q*S+U,W-Y.[/]\60_\61a\62c\63e\64g\65i\66"+
-		"k\67m8o9q:s;u<w=y>{?}@\177A\u0081B\u0083C\u0085D\u0087E\u0089F\u008bG"+
-		"\u008dH\u008fI\u0091J\u0093K\u0095L\u0097M\u0099N\u009bO\u009dP\u009f"+
-		"Q\u00a1R\u00a3S\u00a5T\u00a7U\u00a9V\u00abW\u00adX\u00afY\u00b1Z\u00b3"+
-		"[\u00b5\\\u00b7]\u00b9^\u00bb_\u00bd`\u00bfa\u00c1b\u00c3c\u00c5d\u00c7"+
-		"e\u00c9f\u00cbg\u00cdh\u00cfi\u00d1j\u00d3k\u00d5l\u00d7m\u00d9n\u00db"+
-		"o\u00ddp\u00dfq\u00e1r\u00e3s\u00e5t\u00e7u\u00e9v\u00ebw\u00edx\u00ef"+
-		"y\u00f1z\u00f3{\u00f5|\u00f7}\u00f9~\u00fb\177\u00fd\u0080\u00ff\u0081"+
-		"\u0101\u0082\u0103\u0083\u0105\u0084\u0107\u0085\u0109\u0086\u010b\u0087"+
-		"\u010d\u0088\u010f\u0089\u0111\u008a\u0113\u008b\u0115\u008c\u0117\u008d"+
-		"\u0119\u008e\u011b\u008f\u011d\u0090\u011f\u0091\u0121\u0092\u0123\u0093"+
-		"\u0125\u0094\u0127\u0095\u0129\u0096\u012b\u0097\u012d\u0098\u012f\u0099"+
-		"\u0131\u009a\u0133\u009b\u0135\u009c\u0137\u009d\u0139\u009e\u013b\u009f"+
-		"\u013d\u00a0\u013f\u00a1\u0141\u00a2\u0143\u00a3\u0145\u00a4\u0147\u00a5"+
-		"\u0149\u00a6\u014b\u00a7\u014d\u00a8\u014f\u00a9\u0151\u00aa\u0153\u00ab"+
-		"\u0155\u00ac\u0157\u00ad\u0159\u00ae\u015b\u00af\u015d\u00b0\u015f\u00b1"+
-		"\u0161\u00b2\u0163\u00b3\u0165\u00b4\u0167\u00b5\u0169\u00b6\u016b\u00b7"+
-		"\u016d\u00b8\u016f\u00b9\u0171\u00ba\u0173\u00bb\u0175\u00bc\u0177\u00bd"+
-		"\u0179\u00be\u017b\u00bf\u017d\u00c0\u017f\u00c1\u0181\u00c2\u0183\u00c3"+
-		"\u0185\u00c4\u0187\u00c5\u0189\u00c6\u018b\u00c7\u018d\u00c8\u018f\u00c9"+
-		"\u0191\u00ca\u0193\u00cb\u0195\u00cc\u0197\u00cd\u0199\u00ce\u019b\u00cf"+
-		"\u019d\u00d0\u019f\u00d1\u01a1\u00d2\u01a3\u00d3\u01a5\u00d4\u01a7\u00d5"+
-		"\u01a9\u00d6\u01ab\u00d7\u01ad\u00d8\u01af\u00d9\u01b1\u00da\u01b3\u00db"+
-		"\u01b5\u00dc\u01b7\u00dd\u01b9\u00de\u01bb\u00df\u01bd\u00e0\u01bf\u00e1"+
-		"\u01c1\u00e2\u01c3\u00e3\u01c5\u00e4\u01c7\u00e5\u01c9\u00e6\u01cb\u00e7"+
-		"\u01cd\u00e8\u01cf\u00e9\u01d1\u00ea\u01d3\u00eb\u01d5\u00ec\u01d7\u00ed"+
-		"\u01d9\u00ee\u01db\u00ef\u01dd\u00f0\u01df\u00f1\u01e1\u00f2\u01e3\u00f3"+
-		"\u01e5\u00f4\u01e7\u00f5\u01e9\u00f6\u01eb\u00f7\u01ed\u00f8\u01ef\u00f9"+
-		"\u01f1\u00fa\u01f3\u00fb\u01f5\u00fc\u01f7\u00fd\u01f9\u00fe\u01fb\u00ff"+
-		"\u01fd\u0100\u01ff\u0101\u0201\u0102\u0203\u0103\u0205\u0104\u0207\u0105"+
-		"\u0209\u0106\u020b\u0107\u020d\u0108\u020f\u0109\u0211\u010a\u0213\u010b"+
-		"\u0215\u010c\u0217\u010d\u0219\u010e\u021b\u010f\u021d\u0110\u021f\u0111"+
-		"\u0221\u0112\u0223\u0113\u0225\u0114\u0227\u0115\u0229\u0116\u022b\u0117"+
-		"\u022d\u0118\u022f\u0119\u0231\u011a\u0233\u011b\u0235\u011c\u0237\u011d"+
-		"\u0239\u011e\u023b\u011f\u023d\u0120\u023f\u0121\u0241\u0122\u0243\u0123"+
-		"\u0245\u0124\u0247\u0125\u0249\u0126\u024b\u0127\u024d\u0128\u024f\u0129"+
-		"\u0251\u012a\u0253\u012b\u0255\u012c\u0257\u012d\u0259\u012e\u025b\u012f"+
-		"\u025d\u0130\u025f\u0131\u0261\u0132\u0263\u0133\u0265\u0134\u0267\u0135"+
-		"\u0269\u0136\u026b\u0137\u026d\u0138\u026f\u0139\u0271\u013a\u0273\u013b"+
-		"\u0275\u013c\u0277\u013d\u0279\u013e\u027b\u013f\u027d\u0140\u027f\u0141"+
-		"\u0281\u0142\u0283\u0143\u0285\u0144\u0287\u0145\u0289\u0146\u028b\u0147"+
-		"\u028d\u0148\u028f\u0149\u0291\u014a\u0293\u014b\u0295\u014c\u0297\u014d"+
-		"\u0299\u014e\u029b\u014f\u029d\u0150\u029f\u0151\u02a1\u0152\u02a3\u0153"+
-		"\u02a5\u0154\u02a7\u0155\u02a9\u0156\u02ab\u0157\u02ad\u0158\u02af\u0159"+
-		"\u02b1\u015a\u02b3\u015b\u02b5\u015c\u02b7\u015d\u02b9\u015e\u02bb\u015f"+
-		"\u02bd\u0160\u02bf\u0161\u02c1\u0162\u02c3\u0163\u02c5\u0164\u02c7\u0165"+
-		"\u02c9\u0166\u02cb\u0167\u02cd\u0168\u02cf\u0169\u02d1\u016a\u02d3\u016b"+
-		"\u02d5\u016c\u02d7\u016d\u02d9\u016e\u02db\u016f\u02dd\u0170\u02df\u0171"+
-		"\u02e1\u0172\u02e3\u0173\u02e5\u0174\u02e7\u0175\u02e9\u0176\u02eb\u0177"+
-		"\u02ed\u0178\u02ef\u0179\u02f1\u017a\u02f3\u017b\u02f5\u017c\u02f7\u017d"+
-		"\u02f9\u017e\u02fb\u017f\u02fd\u0180\u02ff\u0181\u0301\u0182\u0303\u0183"+
-		"\u0305\u0184\u0307\u0185\u0309\u0186\u030b\u0187\u030d\u0188\u030f\u0189"+
-		"\u0311\u018a\u0313\u018b\u0315\u018c\u0317\u018d\u0319\u018e\u031b\u018f"+
-		"\u031d\u0190\u031f\u0191\u0321\u0192\u0323\u0193\u0325\u0194\u0327\u0195"+
-		"\u0329\u0196\u032b\u0197\u032d\u0198\u032f\u0199\u0331\u019a\u0333\u019b"+
-		"\u0335\u019c\u0337\u019d\u0339\u019e\u033b\u019f\u033d\u01a0\u033f\u01a1"+
-		"\u0341\u01a2\u0343\u01a3\u0345\u01a4\u0347\u01a5\u0349\u01a6\u034b\u01a7"+
-		"\u034d\u01a8\u034f\u01a9\u0351\u01aa\u0353\u01ab\u0355\u01ac\u0357\u01ad"+
-		"\u0359\u01ae\u035b\u01af\u035d\u01b0\u035f\u01b1\u0361\u01b2\u0363\u01b3"+
-		"\u0365\u01b4\u0367\u01b5\u0369\u01b6\u036b\u01b7\u036d\u01b8\u036f\u01b9"+
-		"\u0371\u01ba\u0373\u01bb\u0375\u01bc\u0377\u01bd\u0379\u01be\u037b\u01bf"+
-		"\u037d\u01c0\u037f\u01c1\u0381\u01c2\u0383\u01c3\u0385\u01c4\u0387\u01c5"+
-		"\u0389\u01c6\u038b\u01c7\u038d\u01c8\u038f\u01c9\u0391\u01ca\u0393\u01cb"+
-		"\u0395\u01cc\u0397\u01cd\u0399\u01ce\u039b\u01cf\u039d\u01d0\u039f\u01d1"+
-		"\u03a1\u01d2\u03a3\u01d3\u03a5\u01d4\u03a7\u01d5\u03a9\u01d6\u03ab\u01d7"+
-		"\u03ad\u01d8\u03af\u01d9\u03b1\u01da\u03b3\u01db\u03b5\u01dc\u03b7\u01dd"+
-		"\u03b9\u01de\u03bb\u01df\u03bd\u01e0\u03bf\u01e1\u03c1\u01e2\u03c3\u01e3"+
-		"\u03c5\u01e4\u03c7\u01e5\u03c9\u01e6\u03cb\u01e7\u03cd\u01e8\u03cf\u01e9"+
-		"\u03d1\u01ea\u03d3\u01eb\u03d5\u01ec\u03d7\u01ed\u03d9\u01ee\u03db\u01ef"+
-		"\u03dd\u01f0\u03df\u01f1\u03e1\u01f2\u03e3\u01f3\u03e5\u01f4\u03e7\u01f5"+
-		"\u03e9\u01f6\u03eb\u01f7\u03ed\u01f8\u03ef\u01f9\u03f1\u01fa\u03f3\u01fb"+
-		"\u03f5\u01fc\u03f7\u01fd\u03f9\u01fe\u03fb\u01ff\u03fd\u0200\u03ff\u0201"+
-		"\u0401\u0202\u0403\u0203\u0405\u0204\u0407\u0205\u0409\u0206\u040b\u0207"+
-		"\u040d\u0208\u040f\u0209\u0411\u020a\u0413\u020b\u0415\u020c\u0417\u020d"+
-		"\u0419\u020e\u041b\u020f\u041d\u0210\u041f\u0211\u0421\u0212\u0423\u0213"+
-		"\u0425\u0214\u0427\u0215\u0429\u0216\u042b\u0217\u042d\u0218\u042f\u0219"+
-		"\u0431\u021a\u0433\u021b\u0435\u021c\u0437\u021d\u0439\u021e\u043b\u021f"+
-		"\u043d\u0220\u043f\u0221\u0441\u0222\u0443\u0223\u0445\u0224\u0447\u0225"+
-		"\u0449\u0226\u044b\u0227\u044d\u0228\u044f\2\u0451\2\u0453\2\u0455\2\u0457"+
-		"\2\u0459\u0229\u045b\u022a\u045d\u022b\u045f\u022c\u0461\u022d\3\2\7\3"+
-		"\2\62;\3\2\62\63\3\2\629\5\2\62;C\\c|\3\2c|\2\u109e\2\3\3\2\2\2\2\5\3"+
-		"\2\2\2\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2"+
-		"\21\3\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3"+
-		"\2\2\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'"+
-		"\3\2\2\2\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2\2\63"+
-		"\3\2\2\2\2\65\3\2\2\2\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2\2\2\2"+
-		"?\3\2\2\2\2A\3\2\2\2\2C\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2\2\2K\3"+
-		"\2\2\2\2M\3\2\2\2\2O\3\2\2\2\2Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2\2\2W\3\2\2"+
-		"\2\2Y\3\2\2\2\2[\3\2\2\2\2]\3\2\2\2\2_\3\2\2\2\2a\3\2\2\2\2c\3\2\2\2\2"+
-		"e\3\2\2\2\2g\3\2\2\2\2i\3\2\2\2\2k\3\2\2\2\2m\3\2\2\2\2o\3\2\2\2\2q\3"+
-		"\2\2\2\2s\3\2\2\2\2u\3\2\2\2\2w\3\2\2\2\2y\3\2\2\2\2{\3\2\2\2\2}\3\2\2"+
-		"\2\2\177\3\2\2\2\2\u0081\3\2\2\2\2\u0083\3\2\2\2\2\u0085\3\2\2\2\2\u0087"+
-		"\3\2\2\2\2\u0089\3\2\2\2\2\u008b\3\2\2\2\2\u008d\3\2\2\2\2\u008f\3\2\2"+
-		"\2\2\u0091\3\2\2\2\2\u0093\3\2\2\2\2\u0095\3\2\2\2\2\u0097\3\2\2\2\2\u0099"+
+		"\3\u0184\3\u0185\3\u0185\3\u0185\3\u0185\3\u0185\3\u0185\3\u0185\3\u0185"+
+		"\3\u0186\3\u0186\3\u0186\3\u0186\3\u0186\3\u0186\3\u0186\3\u0187\3\u0187"+
+		"\3\u0187\3\u0187\3\u0187\3\u0187\3\u0187\3\u0187\3\u0188\3\u0188\3\u0188"+
+		"\3\u0188\3\u0188\3\u0188\3\u0188\3\u0189\3\u0189\3\u0189\3\u0189\3\u0189"+
+		"\3\u0189\3\u0189\3\u018a\3\u018a\3\u018a\3\u018a\3\u018a\3\u018a\3\u018a"+
+		"\3\u018b\3\u018b\3\u018b\3\u018b\3\u018b\3\u018b\3\u018b\3\u018c\3\u018c"+
+		"\3\u018c\3\u018c\3\u018c\3\u018c\3\u018d\3\u018d\3\u018d\3\u018d\3\u018d"+
+		"\3\u018d\3\u018e\3\u018e\3\u018e\3\u018e\3\u018e\3\u018e\3\u018e\3\u018f"+
+		"\3\u018f\3\u018f\3\u018f\3\u018f\3\u018f\3\u018f\3\u0190\3\u0190\3\u0190"+
+		"\3\u0190\3\u0190\3\u0190\3\u0191\3\u0191\3\u0191\3\u0191\3\u0191\3\u0191"+
+		"\3\u0192\3\u0192\3\u0192\3\u0192\3\u0192\3\u0192\3\u0192\3\u0192\3\u0193"+
+		"\3\u0193\3\u0193\3\u0193\3\u0193\3\u0193\3\u0193\3\u0193\3\u0193\3\u0194"+
+		"\3\u0194\3\u0194\3\u0194\3\u0195\3\u0195\3\u0195\3\u0195\3\u0195\3\u0196"+
+		"\3\u0196\3\u0196\3\u0196\3\u0196\3\u0197\3\u0197\3\u0197\3\u0197\3\u0198"+
+		"\3\u0198\3\u0198\3\u0198\3\u0199\3\u0199\3\u0199\3\u0199\3\u019a\3\u019a"+
+		"\3\u019a\3\u019a\3\u019b\3\u019b\3\u019b\3\u019b\3\u019c\3\u019c\3\u019c"+
+		"\3\u019c\3\u019d\3\u019d\3\u019d\3\u019d\3\u019e\3\u019e\3\u019e\3\u019e"+
+		"\3\u019f\3\u019f\3\u019f\3\u01a0\3\u01a0\3\u01a0\3\u01a0\3\u01a1\3\u01a1"+
+		"\3\u01a1\3\u01a1\3\u01a2\3\u01a2\3\u01a2\3\u01a2\3\u01a3\3\u01a3\3\u01a3"+
+		"\3\u01a3\3\u01a4\3\u01a4\3\u01a4\3\u01a4\3\u01a5\3\u01a5\3\u01a5\3\u01a5"+
+		"\3\u01a6\3\u01a6\3\u01a6\3\u01a6\3\u01a7\3\u01a7\3\u01a7\3\u01a7\3\u01a8"+
+		"\3\u01a8\3\u01a8\3\u01a8\3\u01a9\3\u01a9\3\u01a9\3\u01a9\3\u01aa\3\u01aa"+
+		"\3\u01aa\3\u01aa\3\u01ab\3\u01ab\3\u01ab\3\u01ab\3\u01ac\3\u01ac\3\u01ad"+
+		"\3\u01ad\3\u01ae\3\u01ae\3\u01af\3\u01af\3\u01af\3\u01af\3\u01b0\3\u01b0"+
+		"\3\u01b0\3\u01b0\3\u01b1\3\u01b1\3\u01b1\3\u01b1\3\u01b2\3\u01b2\3\u01b2"+
+		"\3\u01b2\3\u01b3\3\u01b3\3\u01b3\3\u01b3\3\u01b4\3\u01b4\3\u01b4\3\u01b4"+
+		"\3\u01b5\3\u01b5\3\u01b5\3\u01b5\3\u01b6\3\u01b6\3\u01b6\3\u01b6\3\u01b7"+
+		"\3\u01b7\3\u01b7\3\u01b7\3\u01b7\3\u01b8\3\u01b8\3\u01b8\3\u01b8\3\u01b8"+
+		"\3\u01b9\3\u01b9\3\u01b9\3\u01b9\3\u01b9\3\u01ba\3\u01ba\3\u01ba\3\u01ba"+
+		"\3\u01ba\3\u01bb\3\u01bb\3\u01bb\3\u01bb\3\u01bb\3\u01bc\3\u01bc\3\u01bc"+
+		"\3\u01bc\3\u01bc\3\u01bd\3\u01bd\3\u01bd\3\u01bd\3\u01bd\3\u01be\3\u01be"+
+		"\3\u01be\3\u01be\3\u01be\3\u01bf\3\u01bf\3\u01bf\3\u01bf\3\u01bf\3\u01c0"+
+		"\3\u01c0\3\u01c0\3\u01c0\3\u01c0\3\u01c1\3\u01c1\3\u01c1\3\u01c1\3\u01c1"+
+		"\3\u01c1\3\u01c2\3\u01c2\3\u01c2\3\u01c2\3\u01c2\3\u01c2\3\u01c3\3\u01c3"+
+		"\3\u01c3\3\u01c3\3\u01c3\3\u01c3\3\u01c4\3\u01c4\3\u01c4\3\u01c4\3\u01c4"+
+		"\3\u01c4\3\u01c5\3\u01c5\3\u01c5\3\u01c5\3\u01c5\3\u01c5\3\u01c6\3\u01c6"+
+		"\3\u01c6\3\u01c6\3\u01c6\3\u01c6\3\u01c7\3\u01c7\3\u01c7\3\u01c7\3\u01c8"+
+		"\3\u01c8\3\u01c8\3\u01c8\3\u01c9\3\u01c9\3\u01c9\3\u01c9\3\u01ca\3\u01ca"+
+		"\3\u01ca\3\u01ca\3\u01cb\3\u01cb\3\u01cb\3\u01cb\3\u01cc\3\u01cc\3\u01cc"+
+		"\3\u01cc\3\u01cd\3\u01cd\3\u01cd\3\u01cd\3\u01ce\3\u01ce\3\u01ce\3\u01ce"+
+		"\3\u01cf\3\u01cf\3\u01cf\3\u01cf\3\u01cf\3\u01d0\3\u01d0\3\u01d0\3\u01d0"+
+		"\3\u01d0\3\u01d1\3\u01d1\3\u01d1\3\u01d1\3\u01d1\3\u01d2\3\u01d2\3\u01d2"+
+		"\3\u01d2\3\u01d2\3\u01d3\3\u01d3\3\u01d3\3\u01d3\3\u01d3\3\u01d4\3\u01d4"+
+		"\3\u01d4\3\u01d4\3\u01d4\3\u01d5\3\u01d5\3\u01d5\3\u01d5\3\u01d5\3\u01d6"+
+		"\3\u01d6\3\u01d6\3\u01d6\3\u01d6\3\u01d7\3\u01d7\3\u01d7\3\u01d7\3\u01d7"+
+		"\3\u01d8\3\u01d8\3\u01d8\3\u01d8\3\u01d8\3\u01d9\3\u01d9\3\u01d9\3\u01d9"+
+		"\3\u01d9\3\u01d9\3\u01da\3\u01da\3\u01da\3\u01da\3\u01da\3\u01da\3\u01db"+
+		"\3\u01db\3\u01db\3\u01db\3\u01db\3\u01db\3\u01dc\3\u01dc\3\u01dc\3\u01dc"+
+		"\3\u01dc\3\u01dc\3\u01dd\3\u01dd\3\u01dd\3\u01dd\3\u01dd\3\u01dd\3\u01de"+
+		"\3\u01de\3\u01de\3\u01de\3\u01de\3\u01de\3\u01df\3\u01df\3\u01df\3\u01df"+
+		"\3\u01df\3\u01e0\3\u01e0\3\u01e0\3\u01e0\3\u01e0\3\u01e1\3\u01e1\3\u01e1"+
+		"\3\u01e1\3\u01e1\3\u01e2\3\u01e2\3\u01e2\3\u01e2\3\u01e2\3\u01e3\3\u01e3"+
+		"\3\u01e3\3\u01e3\3\u01e3\3\u01e4\3\u01e4\3\u01e4\3\u01e4\3\u01e4\3\u01e5"+
+		"\3\u01e5\3\u01e5\3\u01e5\3\u01e5\3\u01e6\3\u01e6\3\u01e6\3\u01e6\3\u01e6"+
+		"\3\u01e7\3\u01e7\3\u01e7\3\u01e7\3\u01e7\3\u01e8\3\u01e8\3\u01e8\3\u01e8"+
+		"\3\u01e8\3\u01e9\3\u01e9\3\u01e9\3\u01e9\3\u01e9\3\u01ea\3\u01ea\3\u01ea"+
+		"\3\u01ea\3\u01ea\3\u01eb\3\u01eb\3\u01eb\3\u01eb\3\u01eb\3\u01ec\3\u01ec"+
+		"\3\u01ec\3\u01ec\3\u01ec\3\u01ed\3\u01ed\3\u01ed\3\u01ed\3\u01ed\3\u01ee"+
+		"\3\u01ee\3\u01ee\3\u01ee\3\u01ee\3\u01ef\3\u01ef\3\u01ef\3\u01ef\3\u01ef"+
+		"\3\u01f0\3\u01f0\3\u01f0\3\u01f0\3\u01f0\3\u01f1\3\u01f1\3\u01f1\3\u01f1"+
+		"\3\u01f1\3\u01f1\3\u01f2\3\u01f2\3\u01f2\3\u01f2\3\u01f2\3\u01f2\3\u01f3"+
+		"\3\u01f3\3\u01f3\3\u01f3\3\u01f3\3\u01f3\3\u01f4\3\u01f4\3\u01f4\3\u01f4"+
+		"\3\u01f4\3\u01f4\3\u01f5\3\u01f5\3\u01f5\3\u01f5\3\u01f5\3\u01f5\3\u01f6"+
+		"\3\u01f6\3\u01f6\3\u01f6\3\u01f6\3\u01f6\3\u01f7\3\u01f7\3\u01f7\3\u01f7"+
+		"\3\u01f7\3\u01f8\3\u01f8\3\u01f8\3\u01f8\3\u01f8\3\u01f9\3\u01f9\3\u01f9"+
+		"\3\u01f9\3\u01f9\3\u01fa\3\u01fa\3\u01fa\3\u01fa\3\u01fa\3\u01fb\3\u01fb"+
+		"\3\u01fb\3\u01fb\3\u01fb\3\u01fc\3\u01fc\3\u01fc\3\u01fc\3\u01fc\3\u01fd"+
+		"\3\u01fd\3\u01fd\3\u01fd\3\u01fd\3\u01fe\3\u01fe\3\u01fe\3\u01fe\3\u01fe"+
+		"\3\u01ff\3\u01ff\3\u01ff\3\u01ff\3\u0200\3\u0200\3\u0200\3\u0200\3\u0201"+
+		"\3\u0201\3\u0201\3\u0201\3\u0202\3\u0202\3\u0202\3\u0202\3\u0203\3\u0203"+
+		"\3\u0203\3\u0203\3\u0204\3\u0204\3\u0204\3\u0204\3\u0205\3\u0205\3\u0205"+
+		"\3\u0205\3\u0206\3\u0206\3\u0206\3\u0206\3\u0207\3\u0207\3\u0207\3\u0207"+
+		"\3\u0208\3\u0208\3\u0208\3\u0208\3\u0209\3\u0209\3\u0209\3\u0209\3\u0209"+
+		"\3\u020a\3\u020a\3\u020a\3\u020a\3\u020a\3\u020b\3\u020b\3\u020b\3\u020b"+
+		"\3\u020b\3\u020c\3\u020c\3\u020c\3\u020c\3\u020c\3\u020d\3\u020d\3\u020d"+
+		"\3\u020d\3\u020d\3\u020e\3\u020e\3\u020e\3\u020e\3\u020e\3\u020f\3\u020f"+
+		"\3\u020f\3\u020f\3\u020f\3\u020f\3\u0210\3\u0210\3\u0210\3\u0210\3\u0210"+
+		"\3\u0210\3\u0211\3\u0211\3\u0211\3\u0211\3\u0211\3\u0211\3\u0212\3\u0212"+
+		"\3\u0212\3\u0212\3\u0212\3\u0212\3\u0213\3\u0213\3\u0213\3\u0213\3\u0213"+
+		"\3\u0213\3\u0214\3\u0214\3\u0214\3\u0214\3\u0214\3\u0214\3\u0215\3\u0215"+
+		"\3\u0215\3\u0215\3\u0215\3\u0215\3\u0216\3\u0216\3\u0216\3\u0216\3\u0216"+
+		"\3\u0216\3\u0217\3\u0217\3\u0217\3\u0217\3\u0217\3\u0217\3\u0218\3\u0218"+
+		"\3\u0218\3\u0218\3\u0218\3\u0218\3\u0219\3\u0219\3\u0219\3\u0219\3\u0219"+
+		"\3\u0219\3\u0219\3\u021a\3\u021a\3\u021a\3\u021a\3\u021a\3\u021a\3\u021a"+
+		"\3\u021b\3\u021b\3\u021b\3\u021b\3\u021b\3\u021b\3\u021b\3\u021c\3\u021c"+
+		"\3\u021c\3\u021c\3\u021c\3\u021c\3\u021c\3\u021d\3\u021d\3\u021d\3\u021d"+
+		"\3\u021d\3\u021d\3\u021d\3\u021e\3\u021e\3\u021e\3\u021e\3\u021e\3\u021e"+
+		"\3\u021e\3\u021f\3\u021f\3\u021f\3\u021f\3\u0220\3\u0220\3\u0220\3\u0220"+
+		"\3\u0221\3\u0221\3\u0221\3\u0221\3\u0222\3\u0222\3\u0222\3\u0222\3\u0223"+
+		"\3\u0223\3\u0223\3\u0223\3\u0224\3\u0224\3\u0224\3\u0224\3\u0225\3\u0225"+
+		"\3\u0225\3\u0226\3\u0226\3\u0227\3\u0227\3\u0228\3\u0228\3\u0229\3\u0229"+
+		"\3\u022a\3\u022a\3\u022b\3\u022b\3\u022c\3\u022c\3\u022d\3\u022d\3\u022e"+
+		"\3\u022e\3\u022f\3\u022f\3\u0230\3\u0230\3\u0231\5\u0231\u10a1\n\u0231"+
+		"\3\u0232\3\u0232\3\u0233\3\u0233\3\u0233\3\u0233\7\u0233\u10a9\n\u0233"+
+		"\f\u0233\16\u0233\u10ac\13\u0233\3\u0234\3\u0234\3\u0234\3\u0234\6\u0234"+
+		"\u10b2\n\u0234\r\u0234\16\u0234\u10b3\3\u0235\3\u0235\3\u0235\3\u0235"+
+		"\6\u0235\u10ba\n\u0235\r\u0235\16\u0235\u10bb\3\u0236\5\u0236\u10bf\n"+
+		"\u0236\3\u0236\6\u0236\u10c2\n\u0236\r\u0236\16\u0236\u10c3\3\u0237\6"+
+		"\u0237\u10c7\n\u0237\r\u0237\16\u0237\u10c8\3\u0237\3\u0237\2\2\u0238"+
+		"\3\3\5\4\7\5\t\6\13\7\r\b\17\t\21\n\23\13\25\f\27\r\31\16\33\17\35\20"+
+		"\37\21!\22#\23%\24\'\25)\26+\27-\30/\31\61\32\63\33\65\34\67\359\36;\37"+
+		"= ?!A\"C#E$G%I&K\'M(O)Q*S+U,W-Y.[/]\60_\61a\62c\63e\64g\65i\66k\67m8o"+
+		"9q:s;u<w=y>{?}@\177A\u0081B\u0083C\u0085D\u0087E\u0089F\u008bG\u008dH"+
+		"\u008fI\u0091J\u0093K\u0095L\u0097M\u0099N\u009bO\u009dP\u009fQ\u00a1"+
+		"R\u00a3S\u00a5T\u00a7U\u00a9V\u00abW\u00adX\u00afY\u00b1Z\u00b3[\u00b5"+
+		"\\\u00b7]\u00b9^\u00bb_\u00bd`\u00bfa\u00c1b\u00c3c\u00c5d\u00c7e\u00c9"+
+		"f\u00cbg\u00cdh\u00cfi\u00d1j\u00d3k\u00d5l\u00d7m\u00d9n\u00dbo\u00dd"+
+		"p\u00dfq\u00e1r\u00e3s\u00e5t\u00e7u\u00e9v\u00ebw\u00edx\u00efy\u00f1"+
+		"z\u00f3{\u00f5|\u00f7}\u00f9~\u00fb\177\u00fd\u0080\u00ff\u0081\u0101"+
+		"\u0082\u0103\u0083\u0105\u0084\u0107\u0085\u0109\u0086\u010b\u0087\u010d"+
+		"\u0088\u010f\u0089\u0111\u008a\u0113\u008b\u0115\u008c\u0117\u008d\u0119"+
+		"\u008e\u011b\u008f\u011d\u0090\u011f\u0091\u0121\u0092\u0123\u0093\u0125"+
+		"\u0094\u0127\u0095\u0129\u0096\u012b\u0097\u012d\u0098\u012f\u0099\u0131"+
+		"\u009a\u0133\u009b\u0135\u009c\u0137\u009d\u0139\u009e\u013b\u009f\u013d"+
+		"\u00a0\u013f\u00a1\u0141\u00a2\u0143\u00a3\u0145\u00a4\u0147\u00a5\u0149"+
+		"\u00a6\u014b\u00a7\u014d\u00a8\u014f\u00a9\u0151\u00aa\u0153\u00ab\u0155"+
+		"\u00ac\u0157\u00ad\u0159\u00ae\u015b\u00af\u015d\u00b0\u015f\u00b1\u0161"+
+		"\u00b2\u0163\u00b3\u0165\u00b4\u0167\u00b5\u0169\u00b6\u016b\u00b7\u016d"+
+		"\u00b8\u016f\u00b9\u0171\u00ba\u0173\u00bb\u0175\u00bc\u0177\u00bd\u0179"+
+		"\u00be\u017b\u00bf\u017d\u00c0\u017f\u00c1\u0181\u00c2\u0183\u00c3\u0185"+
+		"\u00c4\u0187\u00c5\u0189\u00c6\u018b\u00c7\u018d\u00c8\u018f\u00c9\u0191"+
+		"\u00ca\u0193\u00cb\u0195\u00cc\u0197\u00cd\u0199\u00ce\u019b\u00cf\u019d"+
+		"\u00d0\u019f\u00d1\u01a1\u00d2\u01a3\u00d3\u01a5\u00d4\u01a7\u00d5\u01a9"+
+		"\u00d6\u01ab\u00d7\u01ad\u00d8\u01af\u00d9\u01b1\u00da\u01b3\u00db\u01b5"+
+		"\u00dc\u01b7\u00dd\u01b9\u00de\u01bb\u00df\u01bd\u00e0\u01bf\u00e1\u01c1"+
+		"\u00e2\u01c3\u00e3\u01c5\u00e4\u01c7\u00e5\u01c9\u00e6\u01cb\u00e7\u01cd"+
+		"\u00e8\u01cf\u00e9\u01d1\u00ea\u01d3\u00eb\u01d5\u00ec\u01d7\u00ed\u01d9"+
+		"\u00ee\u01db\u00ef\u01dd\u00f0\u01df\u00f1\u01e1\u00f2\u01e3\u00f3\u01e5"+
+		"\u00f4\u01e7\u00f5\u01e9\u00f6\u01eb\u00f7\u01ed\u00f8\u01ef\u00f9\u01f1"+
+		"\u00fa\u01f3\u00fb\u01f5\u00fc\u01f7\u00fd\u01f9\u00fe\u01fb\u00ff\u01fd"+
+		"\u0100\u01ff\u0101\u0201\u0102\u0203\u0103\u0205\u0104\u0207\u0105\u0209"+
+		"\u0106\u020b\u0107\u020d\u0108\u020f\u0109\u0211\u010a\u0213\u010b\u0215"+
+		"\u010c\u0217\u010d\u0219\u010e\u021b\u010f\u021d\u0110\u021f\u0111\u0221"+
+		"\u0112\u0223\u0113\u0225\u0114\u0227\u0115\u0229\u0116\u022b\u0117\u022d"+
+		"\u0118\u022f\u0119\u0231\u011a\u0233\u011b\u0235\u011c\u0237\u011d\u0239"+
+		"\u011e\u023b\u011f\u023d\u0120\u023f\u0121\u0241\u0122\u0243\u0123\u0245"+
+		"\u0124\u0247\u0125\u0249\u0126\u024b\u0127\u024d\u0128\u024f\u0129\u0251"+
+		"\u012a\u0253\u012b\u0255\u012c\u0257\u012d\u0259\u012e\u025b\u012f\u025d"+
+		"\u0130\u025f\u0131\u0261\u0132\u0263\u0133\u0265\u0134\u0267\u0135\u0269"+
+		"\u0136\u026b\u0137\u026d\u0138\u026f\u0139\u0271\u013a\u0273\u013b\u0275"+
+		"\u013c\u0277\u013d\u0279\u013e\u027b\u013f\u027d\u0140\u027f\u0141\u0281"+
+		"\u0142\u0283\u0143\u0285\u0144\u0287\u0145\u0289\u0146\u028b\u0147\u028d"+
+		"\u0148\u028f\u0149\u0291\u014a\u0293\u014b\u0295\u014c\u0297\u014d\u0299"+
+		"\u014e\u029b\u014f\u029d\u0150\u029f\u0151\u02a1\u0152\u02a3\u0153\u02a5"+
+		"\u0154\u02a7\u0155\u02a9\u0156\u02ab\u0157\u02ad\u0158\u02af\u0159\u02b1"+
+		"\u015a\u02b3\u015b\u02b5\u015c\u02b7\u015d\u02b9\u015e\u02bb\u015f\u02bd"+
+		"\u0160\u02bf\u0161\u02c1\u0162\u02c3\u0163\u02c5\u0164\u02c7\u0165\u02c9"+
+		"\u0166\u02cb\u0167\u02cd\u0168\u02cf\u0169\u02d1\u016a\u02d3\u016b\u02d5"+
+		"\u016c\u02d7\u016d\u02d9\u016e\u02db\u016f\u02dd\u0170\u02df\u0171\u02e1"+
+		"\u0172\u02e3\u0173\u02e5\u0174\u02e7\u0175\u02e9\u0176\u02eb\u0177\u02ed"+
+		"\u0178\u02ef\u0179\u02f1\u017a\u02f3\u017b\u02f5\u017c\u02f7\u017d\u02f9"+
+		"\u017e\u02fb\u017f\u02fd\u0180\u02ff\u0181\u0301\u0182\u0303\u0183\u0305"+
+		"\u0184\u0307\u0185\u0309\u0186\u030b\u0187\u030d\u0188\u030f\u0189\u0311"+
+		"\u018a\u0313\u018b\u0315\u018c\u0317\u018d\u0319\u018e\u031b\u018f\u031d"+
+		"\u0190\u031f\u0191\u0321\u0192\u0323\u0193\u0325\u0194\u0327\u0195\u0329"+
+		"\u0196\u032b\u0197\u032d\u0198\u032f\u0199\u0331\u019a\u0333\u019b\u0335"+
+		"\u019c\u0337\u019d\u0339\u019e\u033b\u019f\u033d\u01a0\u033f\u01a1\u0341"+
+		"\u01a2\u0343\u01a3\u0345\u01a4\u0347\u01a5\u0349\u01a6\u034b\u01a7\u034d"+
+		"\u01a8\u034f\u01a9\u0351\u01aa\u0353\u01ab\u0355\u01ac\u0357\u01ad\u0359"+
+		"\u01ae\u035b\u01af\u035d\u01b0\u035f\u01b1\u0361\u01b2\u0363\u01b3\u0365"+
+		"\u01b4\u0367\u01b5\u0369\u01b6\u036b\u01b7\u036d\u01b8\u036f\u01b9\u0371"+
+		"\u01ba\u0373\u01bb\u0375\u01bc\u0377\u01bd\u0379\u01be\u037b\u01bf\u037d"+
+		"\u01c0\u037f\u01c1\u0381\u01c2\u0383\u01c3\u0385\u01c4\u0387\u01c5\u0389"+
+		"\u01c6\u038b\u01c7\u038d\u01c8\u038f\u01c9\u0391\u01ca\u0393\u01cb\u0395"+
+		"\u01cc\u0397\u01cd\u0399\u01ce\u039b\u01cf\u039d\u01d0\u039f\u01d1\u03a1"+
+		"\u01d2\u03a3\u01d3\u03a5\u01d4\u03a7\u01d5\u03a9\u01d6\u03ab\u01d7\u03ad"+
+		"\u01d8\u03af\u01d9\u03b1\u01da\u03b3\u01db\u03b5\u01dc\u03b7\u01dd\u03b9"+
+		"\u01de\u03bb\u01df\u03bd\u01e0\u03bf\u01e1\u03c1\u01e2\u03c3\u01e3\u03c5"+
+		"\u01e4\u03c7\u01e5\u03c9\u01e6\u03cb\u01e7\u03cd\u01e8\u03cf\u01e9\u03d1"+
+		"\u01ea\u03d3\u01eb\u03d5\u01ec\u03d7\u01ed\u03d9\u01ee\u03db\u01ef\u03dd"+
+		"\u01f0\u03df\u01f1\u03e1\u01f2\u03e3\u01f3\u03e5\u01f4\u03e7\u01f5\u03e9"+
+		"\u01f6\u03eb\u01f7\u03ed\u01f8\u03ef\u01f9\u03f1\u01fa\u03f3\u01fb\u03f5"+
+		"\u01fc\u03f7\u01fd\u03f9\u01fe\u03fb\u01ff\u03fd\u0200\u03ff\u0201\u0401"+
+		"\u0202\u0403\u0203\u0405\u0204\u0407\u0205\u0409\u0206\u040b\u0207\u040d"+
+		"\u0208\u040f\u0209\u0411\u020a\u0413\u020b\u0415\u020c\u0417\u020d\u0419"+
+		"\u020e\u041b\u020f\u041d\u0210\u041f\u0211\u0421\u0212\u0423\u0213\u0425"+
+		"\u0214\u0427\u0215\u0429\u0216\u042b\u0217\u042d\u0218\u042f\u0219\u0431"+
+		"\u021a\u0433\u021b\u0435\u021c\u0437\u021d\u0439\u021e\u043b\u021f\u043d"+
+		"\u0220\u043f\u0221\u0441\u0222\u0443\u0223\u0445\u0224\u0447\u0225\u0449"+
+		"\u0226\u044b\u0227\u044d\u0228\u044f\u0229\u0451\u022a\u0453\u022b\u0455"+
+		"\u022c\u0457\u022d\u0459\u022e\u045b\2\u045d\2\u045f\2\u0461\2\u0463\2"+
+		"\u0465\u022f\u0467\u0230\u0469\u0231\u046b\u0232\u046d\u0233\3\2\7\3\2"+
+		"\62;\3\2\62\63\3\2\629\5\2\62;C\\c|\3\2c|\2\u10ce\2\3\3\2\2\2\2\5\3\2"+
+		"\2\2\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21"+
+		"\3\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2"+
+		"\2\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3"+
+		"\2\2\2\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2\2\63\3"+
+		"\2\2\2\2\65\3\2\2\2\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2\2\2\2?\3"+
+		"\2\2\2\2A\3\2\2\2\2C\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2\2\2K\3\2\2"+
+		"\2\2M\3\2\2\2\2O\3\2\2\2\2Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2"+
+		"Y\3\2\2\2\2[\3\2\2\2\2]\3\2\2\2\2_\3\2\2\2\2a\3\2\2\2\2c\3\2\2\2\2e\3"+
+		"\2\2\2\2g\3\2\2\2\2i\3\2\2\2\2k\3\2\2\2\2m\3\2\2\2\2o\3\2\2\2\2q\3\2\2"+
+		"\2\2s\3\2\2\2\2u\3\2\2\2\2w\3\2\2\2\2y\3\2\2\2\2{\3\2\2\2\2}\3\2\2\2\2"+
+		"\177\3\2\2\2\2\u0081\3\2\2\2\2\u0083\3\2\2\2\2\u0085\3\2\2\2\2\u0087\3"+
+		"\2\2\2\2\u0089\3\2\2\2\2\u008b\3\2\2\2\2\u008d\3\2\2\2\2\u008f\3\2\2\2"+
+		"\2\u0091\3\2\2\2\2\u0093\3\2\2\2\2\u0095\3\2\2\2\2\u0097\3\2\2\2\2\u0099"+
 		"\3\2\2\2\2\u009b\3\2\2\2\2\u009d\3\2\2\2\2\u009f\3\2\2\2\2\u00a1\3\2\2"+
 		"\2\2\u00a3\3\2\2\2\2\u00a5\3\2\2\2\2\u00a7\3\2\2\2\2\u00a9\3\2\2\2\2\u00ab"+
 		"\3\2\2\2\2\u00ad\3\2\2\2\2\u00af\3\2\2\2\2\u00b1\3\2\2\2\2\u00b3\3\2\2"+
@@ -1041,1021 +1050,1034 @@ public class InlineAssemblyLexer extends Lexer {
 		"\3\2\2\2\2\u0431\3\2\2\2\2\u0433\3\2\2\2\2\u0435\3\2\2\2\2\u0437\3\2\2"+
 		"\2\2\u0439\3\2\2\2\2\u043b\3\2\2\2\2\u043d\3\2\2\2\2\u043f\3\2\2\2\2\u0441"+
 		"\3\2\2\2\2\u0443\3\2\2\2\2\u0445\3\2\2\2\2\u0447\3\2\2\2\2\u0449\3\2\2"+
-		"\2\2\u044b\3\2\2\2\2\u044d\3\2\2\2\2\u0459\3\2\2\2\2\u045b\3\2\2\2\2\u045d"+
-		"\3\2\2\2\2\u045f\3\2\2\2\2\u0461\3\2\2\2\3\u0463\3\2\2\2\5\u0465\3\2\2"+
-		"\2\7\u0467\3\2\2\2\t\u0469\3\2\2\2\13\u046d\3\2\2\2\r\u0472\3\2\2\2\17"+
-		"\u0477\3\2\2\2\21\u047d\3\2\2\2\23\u0483\3\2\2\2\25\u0488\3\2\2\2\27\u048c"+
-		"\3\2\2\2\31\u0491\3\2\2\2\33\u0494\3\2\2\2\35\u0498\3\2\2\2\37\u049b\3"+
-		"\2\2\2!\u049f\3\2\2\2#\u04a2\3\2\2\2%\u04a7\3\2\2\2\'\u04aa\3\2\2\2)\u04b0"+
-		"\3\2\2\2+\u04b3\3\2\2\2-\u04b7\3\2\2\2/\u04ba\3\2\2\2\61\u04be\3\2\2\2"+
-		"\63\u04c2\3\2\2\2\65\u04c7\3\2\2\2\67\u04cb\3\2\2\29\u04d0\3\2\2\2;\u04d4"+
-		"\3\2\2\2=\u04d8\3\2\2\2?\u04dc\3\2\2\2A\u04e1\3\2\2\2C\u04e5\3\2\2\2E"+
-		"\u04ea\3\2\2\2G\u04ee\3\2\2\2I\u04f2\3\2\2\2K\u04f6\3\2\2\2M\u04fa\3\2"+
-		"\2\2O\u04fd\3\2\2\2Q\u0500\3\2\2\2S\u0504\3\2\2\2U\u0508\3\2\2\2W\u050b"+
-		"\3\2\2\2Y\u050e\3\2\2\2[\u0514\3\2\2\2]\u0519\3\2\2\2_\u051f\3\2\2\2a"+
-		"\u0526\3\2\2\2c\u052d\3\2\2\2e\u0533\3\2\2\2g\u0537\3\2\2\2i\u053b\3\2"+
-		"\2\2k\u053f\3\2\2\2m\u0543\3\2\2\2o\u0548\3\2\2\2q\u054d\3\2\2\2s\u0553"+
-		"\3\2\2\2u\u0559\3\2\2\2w\u0560\3\2\2\2y\u0565\3\2\2\2{\u0569\3\2\2\2}"+
-		"\u056d\3\2\2\2\177\u0571\3\2\2\2\u0081\u0575\3\2\2\2\u0083\u057b\3\2\2"+
-		"\2\u0085\u0581\3\2\2\2\u0087\u0588\3\2\2\2\u0089\u058c\3\2\2\2\u008b\u0593"+
-		"\3\2\2\2\u008d\u059a\3\2\2\2\u008f\u05a1\3\2\2\2\u0091\u05a5\3\2\2\2\u0093"+
-		"\u05ad\3\2\2\2\u0095\u05b3\3\2\2\2\u0097\u05b9\3\2\2\2\u0099\u05bf\3\2"+
-		"\2\2\u009b\u05c5\3\2\2\2\u009d\u05cb\3\2\2\2\u009f\u05d1\3\2\2\2\u00a1"+
-		"\u05d7\3\2\2\2\u00a3\u05d9\3\2\2\2\u00a5\u05df\3\2\2\2\u00a7\u05e5\3\2"+
-		"\2\2\u00a9\u05eb\3\2\2\2\u00ab\u05f1\3\2\2\2\u00ad\u05f7\3\2\2\2\u00af"+
-		"\u05fd\3\2\2\2\u00b1\u0602\3\2\2\2\u00b3\u0607\3\2\2\2\u00b5\u060c\3\2"+
-		"\2\2\u00b7\u0611\3\2\2\2\u00b9\u0616\3\2\2\2\u00bb\u061b\3\2\2\2\u00bd"+
-		"\u0620\3\2\2\2\u00bf\u0625\3\2\2\2\u00c1\u062a\3\2\2\2\u00c3\u062f\3\2"+
-		"\2\2\u00c5\u0634\3\2\2\2\u00c7\u0639\3\2\2\2\u00c9\u063e\3\2\2\2\u00cb"+
-		"\u0643\3\2\2\2\u00cd\u0649\3\2\2\2\u00cf\u064e\3\2\2\2\u00d1\u0653\3\2"+
-		"\2\2\u00d3\u0658\3\2\2\2\u00d5\u065d\3\2\2\2\u00d7\u0662\3\2\2\2\u00d9"+
-		"\u0667\3\2\2\2\u00db\u066c\3\2\2\2\u00dd\u0673\3\2\2\2\u00df\u0679\3\2"+
-		"\2\2\u00e1\u067e\3\2\2\2\u00e3\u0683\3\2\2\2\u00e5\u0688\3\2\2\2\u00e7"+
-		"\u068d\3\2\2\2\u00e9\u0692\3\2\2\2\u00eb\u0697\3\2\2\2\u00ed\u069c\3\2"+
-		"\2\2\u00ef\u06a3\3\2\2\2\u00f1\u06a9\3\2\2\2\u00f3\u06ae\3\2\2\2\u00f5"+
-		"\u06b2\3\2\2\2\u00f7\u06b6\3\2\2\2\u00f9\u06ba\3\2\2\2\u00fb\u06be\3\2"+
-		"\2\2\u00fd\u06c4\3\2\2\2\u00ff\u06cb\3\2\2\2\u0101\u06d2\3\2\2\2\u0103"+
-		"\u06d7\3\2\2\2\u0105\u06dd\3\2\2\2\u0107\u06e2\3\2\2\2\u0109\u06e8\3\2"+
-		"\2\2\u010b\u06ed\3\2\2\2\u010d\u06f2\3\2\2\2\u010f\u06f7\3\2\2\2\u0111"+
-		"\u06fd\3\2\2\2\u0113\u0702\3\2\2\2\u0115\u0708\3\2\2\2\u0117\u070e\3\2"+
-		"\2\2\u0119\u0715\3\2\2\2\u011b\u071b\3\2\2\2\u011d\u0722\3\2\2\2\u011f"+
-		"\u0728\3\2\2\2\u0121\u072e\3\2\2\2\u0123\u0734\3\2\2\2\u0125\u073b\3\2"+
-		"\2\2\u0127\u0741\3\2\2\2\u0129\u0748\3\2\2\2\u012b\u074e\3\2\2\2\u012d"+
-		"\u0754\3\2\2\2\u012f\u075a\3\2\2\2\u0131\u0760\3\2\2\2\u0133\u0765\3\2"+
-		"\2\2\u0135\u076a\3\2\2\2\u0137\u0770\3\2\2\2\u0139\u0776\3\2\2\2\u013b"+
-		"\u077b\3\2\2\2\u013d\u0780\3\2\2\2\u013f\u0785\3\2\2\2\u0141\u0789\3\2"+
-		"\2\2\u0143\u0793\3\2\2\2\u0145\u079e\3\2\2\2\u0147\u07a3\3\2\2\2\u0149"+
-		"\u07a9\3\2\2\2\u014b\u07af\3\2\2\2\u014d\u07b4\3\2\2\2\u014f\u07b9\3\2"+
-		"\2\2\u0151\u07be\3\2\2\2\u0153\u07c3\3\2\2\2\u0155\u07c8\3\2\2\2\u0157"+
-		"\u07cd\3\2\2\2\u0159\u07d1\3\2\2\2\u015b\u07d6\3\2\2\2\u015d\u07db\3\2"+
-		"\2\2\u015f\u07e0\3\2\2\2\u0161\u07e5\3\2\2\2\u0163\u07ea\3\2\2\2\u0165"+
-		"\u07ef\3\2\2\2\u0167\u07f4\3\2\2\2\u0169\u07f9\3\2\2\2\u016b\u07fe\3\2"+
-		"\2\2\u016d\u0804\3\2\2\2\u016f\u080d\3\2\2\2\u0171\u0814\3\2\2\2\u0173"+
-		"\u081c\3\2\2\2\u0175\u0823\3\2\2\2\u0177\u082b\3\2\2\2\u0179\u0832\3\2"+
-		"\2\2\u017b\u0839\3\2\2\2\u017d\u0840\3\2\2\2\u017f\u0848\3\2\2\2\u0181"+
-		"\u084f\3\2\2\2\u0183\u0857\3\2\2\2\u0185\u085f\3\2\2\2\u0187\u0868\3\2"+
-		"\2\2\u0189\u0870\3\2\2\2\u018b\u0879\3\2\2\2\u018d\u0881\3\2\2\2\u018f"+
-		"\u0889\3\2\2\2\u0191\u0891\3\2\2\2\u0193\u089a\3\2\2\2\u0195\u08a2\3\2"+
-		"\2\2\u0197\u08ab\3\2\2\2\u0199\u08b3\3\2\2\2\u019b\u08bb\3\2\2\2\u019d"+
-		"\u08c3\3\2\2\2\u019f\u08cb\3\2\2\2\u01a1\u08d2\3\2\2\2\u01a3\u08d9\3\2"+
-		"\2\2\u01a5\u08e1\3\2\2\2\u01a7\u08e9\3\2\2\2\u01a9\u08f0\3\2\2\2\u01ab"+
-		"\u08f7\3\2\2\2\u01ad\u0900\3\2\2\2\u01af\u0905\3\2\2\2\u01b1\u090b\3\2"+
-		"\2\2\u01b3\u0911\3\2\2\2\u01b5\u0916\3\2\2\2\u01b7\u091b\3\2\2\2\u01b9"+
-		"\u0920\3\2\2\2\u01bb\u0925\3\2\2\2\u01bd\u092a\3\2\2\2\u01bf\u092f\3\2"+
-		"\2\2\u01c1\u0933\3\2\2\2\u01c3\u0938\3\2\2\2\u01c5\u093e\3\2\2\2\u01c7"+
-		"\u0943\3\2\2\2\u01c9\u0948\3\2\2\2\u01cb\u094c\3\2\2\2\u01cd\u0951\3\2"+
-		"\2\2\u01cf\u0956\3\2\2\2\u01d1\u095b\3\2\2\2\u01d3\u0960\3\2\2\2\u01d5"+
-		"\u0965\3\2\2\2\u01d7\u096a\3\2\2\2\u01d9\u096f\3\2\2\2\u01db\u0974\3\2"+
-		"\2\2\u01dd\u0979\3\2\2\2\u01df\u097e\3\2\2\2\u01e1\u0983\3\2\2\2\u01e3"+
-		"\u098a\3\2\2\2\u01e5\u0991\3\2\2\2\u01e7\u0998\3\2\2\2\u01e9\u09a0\3\2"+
-		"\2\2\u01eb\u09a7\3\2\2\2\u01ed\u09af\3\2\2\2\u01ef\u09b6\3\2\2\2\u01f1"+
-		"\u09bd\3\2\2\2\u01f3\u09c4\3\2\2\2\u01f5\u09cc\3\2\2\2\u01f7\u09d3\3\2"+
-		"\2\2\u01f9\u09db\3\2\2\2\u01fb\u09e3\3\2\2\2\u01fd\u09ec\3\2\2\2\u01ff"+
-		"\u09f4\3\2\2\2\u0201\u09fd\3\2\2\2\u0203\u0a05\3\2\2\2\u0205\u0a0d\3\2"+
-		"\2\2\u0207\u0a15\3\2\2\2\u0209\u0a1e\3\2\2\2\u020b\u0a26\3\2\2\2\u020d"+
-		"\u0a2f\3\2\2\2\u020f\u0a37\3\2\2\2\u0211\u0a3f\3\2\2\2\u0213\u0a47\3\2"+
-		"\2\2\u0215\u0a4f\3\2\2\2\u0217\u0a56\3\2\2\2\u0219\u0a5d\3\2\2\2\u021b"+
-		"\u0a65\3\2\2\2\u021d\u0a6d\3\2\2\2\u021f\u0a74\3\2\2\2\u0221\u0a7b\3\2"+
-		"\2\2\u0223\u0a84\3\2\2\2\u0225\u0a89\3\2\2\2\u0227\u0a8f\3\2\2\2\u0229"+
-		"\u0a95\3\2\2\2\u022b\u0a9a\3\2\2\2\u022d\u0a9f\3\2\2\2\u022f\u0aa4\3\2"+
-		"\2\2\u0231\u0aa9\3\2\2\2\u0233\u0aae\3\2\2\2\u0235\u0ab3\3\2\2\2\u0237"+
-		"\u0ab7\3\2\2\2\u0239\u0abc\3\2\2\2\u023b\u0ac2\3\2\2\2\u023d\u0ac7\3\2"+
-		"\2\2\u023f\u0acc\3\2\2\2\u0241\u0ad0\3\2\2\2\u0243\u0ad5\3\2\2\2\u0245"+
-		"\u0ada\3\2\2\2\u0247\u0adf\3\2\2\2\u0249\u0ae4\3\2\2\2\u024b\u0ae9\3\2"+
-		"\2\2\u024d\u0aee\3\2\2\2\u024f\u0af3\3\2\2\2\u0251\u0af8\3\2\2\2\u0253"+
-		"\u0afd\3\2\2\2\u0255\u0b02\3\2\2\2\u0257\u0b07\3\2\2\2\u0259\u0b0e\3\2"+
-		"\2\2\u025b\u0b15\3\2\2\2\u025d\u0b1c\3\2\2\2\u025f\u0b23\3\2\2\2\u0261"+
-		"\u0b2a\3\2\2\2\u0263\u0b32\3\2\2\2\u0265\u0b39\3\2\2\2\u0267\u0b41\3\2"+
-		"\2\2\u0269\u0b48\3\2\2\2\u026b\u0b4f\3\2\2\2\u026d\u0b56\3\2\2\2\u026f"+
-		"\u0b5e\3\2\2\2\u0271\u0b65\3\2\2\2\u0273\u0b6d\3\2\2\2\u0275\u0b75\3\2"+
-		"\2\2\u0277\u0b7e\3\2\2\2\u0279\u0b86\3\2\2\2\u027b\u0b8f\3\2\2\2\u027d"+
-		"\u0b97\3\2\2\2\u027f\u0b9f\3\2\2\2\u0281\u0ba7\3\2\2\2\u0283\u0bb0\3\2"+
-		"\2\2\u0285\u0bb8\3\2\2\2\u0287\u0bc1\3\2\2\2\u0289\u0bc9\3\2\2\2\u028b"+
-		"\u0bd1\3\2\2\2\u028d\u0bd9\3\2\2\2\u028f\u0be1\3\2\2\2\u0291\u0be8\3\2"+
-		"\2\2\u0293\u0bef\3\2\2\2\u0295\u0bf7\3\2\2\2\u0297\u0bff\3\2\2\2\u0299"+
-		"\u0c06\3\2\2\2\u029b\u0c0d\3\2\2\2\u029d\u0c16\3\2\2\2\u029f\u0c1b\3\2"+
-		"\2\2\u02a1\u0c21\3\2\2\2\u02a3\u0c27\3\2\2\2\u02a5\u0c2c\3\2\2\2\u02a7"+
-		"\u0c31\3\2\2\2\u02a9\u0c36\3\2\2\2\u02ab\u0c3b\3\2\2\2\u02ad\u0c40\3\2"+
-		"\2\2\u02af\u0c45\3\2\2\2\u02b1\u0c49\3\2\2\2\u02b3\u0c4e\3\2\2\2\u02b5"+
-		"\u0c54\3\2\2\2\u02b7\u0c59\3\2\2\2\u02b9\u0c5e\3\2\2\2\u02bb\u0c62\3\2"+
-		"\2\2\u02bd\u0c67\3\2\2\2\u02bf\u0c6c\3\2\2\2\u02c1\u0c71\3\2\2\2\u02c3"+
-		"\u0c76\3\2\2\2\u02c5\u0c7b\3\2\2\2\u02c7\u0c80\3\2\2\2\u02c9\u0c85\3\2"+
-		"\2\2\u02cb\u0c8a\3\2\2\2\u02cd\u0c8f\3\2\2\2\u02cf\u0c94\3\2\2\2\u02d1"+
-		"\u0c99\3\2\2\2\u02d3\u0ca0\3\2\2\2\u02d5\u0ca7\3\2\2\2\u02d7\u0cae\3\2"+
-		"\2\2\u02d9\u0cb5\3\2\2\2\u02db\u0cbc\3\2\2\2\u02dd\u0cc2\3\2\2\2\u02df"+
-		"\u0cc9\3\2\2\2\u02e1\u0ccf\3\2\2\2\u02e3\u0cd6\3\2\2\2\u02e5\u0cdc\3\2"+
-		"\2\2\u02e7\u0ce2\3\2\2\2\u02e9\u0ce8\3\2\2\2\u02eb\u0cef\3\2\2\2\u02ed"+
-		"\u0cf5\3\2\2\2\u02ef\u0cfc\3\2\2\2\u02f1\u0d03\3\2\2\2\u02f3\u0d0b\3\2"+
-		"\2\2\u02f5\u0d12\3\2\2\2\u02f7\u0d1a\3\2\2\2\u02f9\u0d21\3\2\2\2\u02fb"+
-		"\u0d28\3\2\2\2\u02fd\u0d2f\3\2\2\2\u02ff\u0d37\3\2\2\2\u0301\u0d3e\3\2"+
-		"\2\2\u0303\u0d46\3\2\2\2\u0305\u0d4d\3\2\2\2\u0307\u0d54\3\2\2\2\u0309"+
-		"\u0d5b\3\2\2\2\u030b\u0d62\3\2\2\2\u030d\u0d68\3\2\2\2\u030f\u0d6e\3\2"+
-		"\2\2\u0311\u0d75\3\2\2\2\u0313\u0d7c\3\2\2\2\u0315\u0d82\3\2\2\2\u0317"+
-		"\u0d88\3\2\2\2\u0319\u0d90\3\2\2\2\u031b\u0d99\3\2\2\2\u031d\u0d9d\3\2"+
-		"\2\2\u031f\u0da2\3\2\2\2\u0321\u0da7\3\2\2\2\u0323\u0dab\3\2\2\2\u0325"+
-		"\u0daf\3\2\2\2\u0327\u0db3\3\2\2\2\u0329\u0db7\3\2\2\2\u032b\u0dbb\3\2"+
-		"\2\2\u032d\u0dbf\3\2\2\2\u032f\u0dc3\3\2\2\2\u0331\u0dc7\3\2\2\2\u0333"+
-		"\u0dca\3\2\2\2\u0335\u0dce\3\2\2\2\u0337\u0dd2\3\2\2\2\u0339\u0dd6\3\2"+
-		"\2\2\u033b\u0dda\3\2\2\2\u033d\u0dde\3\2\2\2\u033f\u0de2\3\2\2\2\u0341"+
-		"\u0de6\3\2\2\2\u0343\u0dea\3\2\2\2\u0345\u0dee\3\2\2\2\u0347\u0df2\3\2"+
-		"\2\2\u0349\u0df6\3\2\2\2\u034b\u0dfa\3\2\2\2\u034d\u0dfc\3\2\2\2\u034f"+
-		"\u0dfe\3\2\2\2\u0351\u0e00\3\2\2\2\u0353\u0e04\3\2\2\2\u0355\u0e08\3\2"+
-		"\2\2\u0357\u0e0c\3\2\2\2\u0359\u0e10\3\2\2\2\u035b\u0e14\3\2\2\2\u035d"+
-		"\u0e18\3\2\2\2\u035f\u0e1c\3\2\2\2\u0361\u0e20\3\2\2\2\u0363\u0e25\3\2"+
-		"\2\2\u0365\u0e2a\3\2\2\2\u0367\u0e2f\3\2\2\2\u0369\u0e34\3\2\2\2\u036b"+
-		"\u0e39\3\2\2\2\u036d\u0e3e\3\2\2\2\u036f\u0e43\3\2\2\2\u0371\u0e48\3\2"+
-		"\2\2\u0373\u0e4d\3\2\2\2\u0375\u0e52\3\2\2\2\u0377\u0e58\3\2\2\2\u0379"+
-		"\u0e5e\3\2\2\2\u037b\u0e64\3\2\2\2\u037d\u0e6a\3\2\2\2\u037f\u0e70\3\2"+
-		"\2\2\u0381\u0e76\3\2\2\2\u0383\u0e7a\3\2\2\2\u0385\u0e7e\3\2\2\2\u0387"+
-		"\u0e82\3\2\2\2\u0389\u0e86\3\2\2\2\u038b\u0e8a\3\2\2\2\u038d\u0e8e\3\2"+
-		"\2\2\u038f\u0e92\3\2\2\2\u0391\u0e96\3\2\2\2\u0393\u0e9b\3\2\2\2\u0395"+
-		"\u0ea0\3\2\2\2\u0397\u0ea5\3\2\2\2\u0399\u0eaa\3\2\2\2\u039b\u0eaf\3\2"+
-		"\2\2\u039d\u0eb4\3\2\2\2\u039f\u0eb9\3\2\2\2\u03a1\u0ebe\3\2\2\2\u03a3"+
-		"\u0ec3\3\2\2\2\u03a5\u0ec8\3\2\2\2\u03a7\u0ece\3\2\2\2\u03a9\u0ed4\3\2"+
-		"\2\2\u03ab\u0eda\3\2\2\2\u03ad\u0ee0\3\2\2\2\u03af\u0ee6\3\2\2\2\u03b1"+
-		"\u0eec\3\2\2\2\u03b3\u0ef1\3\2\2\2\u03b5\u0ef6\3\2\2\2\u03b7\u0efb\3\2"+
-		"\2\2\u03b9\u0f00\3\2\2\2\u03bb\u0f05\3\2\2\2\u03bd\u0f0a\3\2\2\2\u03bf"+
-		"\u0f0f\3\2\2\2\u03c1\u0f14\3\2\2\2\u03c3\u0f19\3\2\2\2\u03c5\u0f1e\3\2"+
-		"\2\2\u03c7\u0f23\3\2\2\2\u03c9\u0f28\3\2\2\2\u03cb\u0f2d\3\2\2\2\u03cd"+
-		"\u0f32\3\2\2\2\u03cf\u0f37\3\2\2\2\u03d1\u0f3c\3\2\2\2\u03d3\u0f41\3\2"+
-		"\2\2\u03d5\u0f46\3\2\2\2\u03d7\u0f4c\3\2\2\2\u03d9\u0f52\3\2\2\2\u03db"+
-		"\u0f58\3\2\2\2\u03dd\u0f5e\3\2\2\2\u03df\u0f64\3\2\2\2\u03e1\u0f6a\3\2"+
-		"\2\2\u03e3\u0f6f\3\2\2\2\u03e5\u0f74\3\2\2\2\u03e7\u0f79\3\2\2\2\u03e9"+
-		"\u0f7e\3\2\2\2\u03eb\u0f83\3\2\2\2\u03ed\u0f88\3\2\2\2\u03ef\u0f8d\3\2"+
-		"\2\2\u03f1\u0f92\3\2\2\2\u03f3\u0f96\3\2\2\2\u03f5\u0f9a\3\2\2\2\u03f7"+
-		"\u0f9e\3\2\2\2\u03f9\u0fa2\3\2\2\2\u03fb\u0fa6\3\2\2\2\u03fd\u0faa\3\2"+
-		"\2\2\u03ff\u0fae\3\2\2\2\u0401\u0fb2\3\2\2\2\u0403\u0fb6\3\2\2\2\u0405"+
-		"\u0fba\3\2\2\2\u0407\u0fbf\3\2\2\2\u0409\u0fc4\3\2\2\2\u040b\u0fc9\3\2"+
-		"\2\2\u040d\u0fce\3\2\2\2\u040f\u0fd3\3\2\2\2\u0411\u0fd8\3\2\2\2\u0413"+
-		"\u0fde\3\2\2\2\u0415\u0fe4\3\2\2\2\u0417\u0fea\3\2\2\2\u0419\u0ff0\3\2"+
-		"\2\2\u041b\u0ff6\3\2\2\2\u041d\u0ffc\3\2\2\2\u041f\u1002\3\2\2\2\u0421"+
-		"\u1008\3\2\2\2\u0423\u100e\3\2\2\2\u0425\u1014\3\2\2\2\u0427\u101b\3\2"+
-		"\2\2\u0429\u1022\3\2\2\2\u042b\u1029\3\2\2\2\u042d\u1030\3\2\2\2\u042f"+
-		"\u1037\3\2\2\2\u0431\u103e\3\2\2\2\u0433\u1042\3\2\2\2\u0435\u1046\3\2"+
-		"\2\2\u0437\u104a\3\2\2\2\u0439\u104e\3\2\2\2\u043b\u1052\3\2\2\2\u043d"+
-		"\u1056\3\2\2\2\u043f\u1059\3\2\2\2\u0441\u105b\3\2\2\2\u0443\u105d\3\2"+
-		"\2\2\u0445\u105f\3\2\2\2\u0447\u1061\3\2\2\2\u0449\u1063\3\2\2\2\u044b"+
-		"\u1065\3\2\2\2\u044d\u1067\3\2\2\2\u044f\u1069\3\2\2\2\u0451\u106b\3\2"+
-		"\2\2\u0453\u106d\3\2\2\2\u0455\u1070\3\2\2\2\u0457\u1072\3\2\2\2\u0459"+
-		"\u1074\3\2\2\2\u045b\u107d\3\2\2\2\u045d\u1085\3\2\2\2\u045f\u108e\3\2"+
-		"\2\2\u0461\u1096\3\2\2\2\u0463\u0464\7$\2\2\u0464\4\3\2\2\2\u0465\u0466"+
-		"\7=\2\2\u0466\6\3\2\2\2\u0467\u0468\7\f\2\2\u0468\b\3\2\2\2\u0469\u046a"+
-		"\7t\2\2\u046a\u046b\7g\2\2\u046b\u046c\7r\2\2\u046c\n\3\2\2\2\u046d\u046e"+
-		"\7t\2\2\u046e\u046f\7g\2\2\u046f\u0470\7r\2\2\u0470\u0471\7|\2\2\u0471"+
-		"\f\3\2\2\2\u0472\u0473\7t\2\2\u0473\u0474\7g\2\2\u0474\u0475\7r\2\2\u0475"+
-		"\u0476\7g\2\2\u0476\16\3\2\2\2\u0477\u0478\7t\2\2\u0478\u0479\7g\2\2\u0479"+
-		"\u047a\7r\2\2\u047a\u047b\7p\2\2\u047b\u047c\7g\2\2\u047c\20\3\2\2\2\u047d"+
-		"\u047e\7t\2\2\u047e\u047f\7g\2\2\u047f\u0480\7r\2\2\u0480\u0481\7p\2\2"+
-		"\u0481\u0482\7|\2\2\u0482\22\3\2\2\2\u0483\u0484\7n\2\2\u0484\u0485\7"+
-		"q\2\2\u0485\u0486\7e\2\2\u0486\u0487\7m\2\2\u0487\24\3\2\2\2\u0488\u0489"+
-		"\7k\2\2\u0489\u048a\7p\2\2\u048a\u048b\7v\2\2\u048b\26\3\2\2\2\u048c\u048d"+
-		"\7e\2\2\u048d\u048e\7c\2\2\u048e\u048f\7n\2\2\u048f\u0490\7n\2\2\u0490"+
-		"\30\3\2\2\2\u0491\u0492\7l\2\2\u0492\u0493\7c\2\2\u0493\32\3\2\2\2\u0494"+
-		"\u0495\7l\2\2\u0495\u0496\7c\2\2\u0496\u0497\7g\2\2\u0497\34\3\2\2\2\u0498"+
-		"\u0499\7l\2\2\u0499\u049a\7d\2\2\u049a\36\3\2\2\2\u049b\u049c\7l\2\2\u049c"+
-		"\u049d\7d\2\2\u049d\u049e\7g\2\2\u049e \3\2\2\2\u049f\u04a0\7l\2\2\u04a0"+
-		"\u04a1\7e\2\2\u04a1\"\3\2\2\2\u04a2\u04a3\7l\2\2\u04a3\u04a4\7e\2\2\u04a4"+
-		"\u04a5\7z\2\2\u04a5\u04a6\7|\2\2\u04a6$\3\2\2\2\u04a7\u04a8\7l\2\2\u04a8"+
-		"\u04a9\7g\2\2\u04a9&\3\2\2\2\u04aa\u04ab\7l\2\2\u04ab\u04ac\7g\2\2\u04ac"+
-		"\u04ad\7e\2\2\u04ad\u04ae\7z\2\2\u04ae\u04af\7|\2\2\u04af(\3\2\2\2\u04b0"+
-		"\u04b1\7l\2\2\u04b1\u04b2\7i\2\2\u04b2*\3\2\2\2\u04b3\u04b4\7l\2\2\u04b4"+
-		"\u04b5\7i\2\2\u04b5\u04b6\7g\2\2\u04b6,\3\2\2\2\u04b7\u04b8\7l\2\2\u04b8"+
-		"\u04b9\7n\2\2\u04b9.\3\2\2\2\u04ba\u04bb\7l\2\2\u04bb\u04bc\7n\2\2\u04bc"+
-		"\u04bd\7g\2\2\u04bd\60\3\2\2\2\u04be\u04bf\7l\2\2\u04bf\u04c0\7o\2\2\u04c0"+
-		"\u04c1\7r\2\2\u04c1\62\3\2\2\2\u04c2\u04c3\7l\2\2\u04c3\u04c4\7p\2\2\u04c4"+
-		"\u04c5\7c\2\2\u04c5\u04c6\7g\2\2\u04c6\64\3\2\2\2\u04c7\u04c8\7l\2\2\u04c8"+
-		"\u04c9\7p\2\2\u04c9\u04ca\7d\2\2\u04ca\66\3\2\2\2\u04cb\u04cc\7l\2\2\u04cc"+
-		"\u04cd\7p\2\2\u04cd\u04ce\7d\2\2\u04ce\u04cf\7g\2\2\u04cf8\3\2\2\2\u04d0"+
-		"\u04d1\7l\2\2\u04d1\u04d2\7p\2\2\u04d2\u04d3\7e\2\2\u04d3:\3\2\2\2\u04d4"+
-		"\u04d5\7l\2\2\u04d5\u04d6\7p\2\2\u04d6\u04d7\7g\2\2\u04d7<\3\2\2\2\u04d8"+
-		"\u04d9\7l\2\2\u04d9\u04da\7p\2\2\u04da\u04db\7i\2\2\u04db>\3\2\2\2\u04dc"+
-		"\u04dd\7l\2\2\u04dd\u04de\7p\2\2\u04de\u04df\7i\2\2\u04df\u04e0\7g\2\2"+
-		"\u04e0@\3\2\2\2\u04e1\u04e2\7l\2\2\u04e2\u04e3\7p\2\2\u04e3\u04e4\7n\2"+
-		"\2\u04e4B\3\2\2\2\u04e5\u04e6\7l\2\2\u04e6\u04e7\7p\2\2\u04e7\u04e8\7"+
-		"n\2\2\u04e8\u04e9\7g\2\2\u04e9D\3\2\2\2\u04ea\u04eb\7l\2\2\u04eb\u04ec"+
-		"\7p\2\2\u04ec\u04ed\7q\2\2\u04edF\3\2\2\2\u04ee\u04ef\7l\2\2\u04ef\u04f0"+
-		"\7p\2\2\u04f0\u04f1\7r\2\2\u04f1H\3\2\2\2\u04f2\u04f3\7l\2\2\u04f3\u04f4"+
-		"\7p\2\2\u04f4\u04f5\7u\2\2\u04f5J\3\2\2\2\u04f6\u04f7\7l\2\2\u04f7\u04f8"+
-		"\7p\2\2\u04f8\u04f9\7|\2\2\u04f9L\3\2\2\2\u04fa\u04fb\7l\2\2\u04fb\u04fc"+
-		"\7q\2\2\u04fcN\3\2\2\2\u04fd\u04fe\7l\2\2\u04fe\u04ff\7r\2\2\u04ffP\3"+
-		"\2\2\2\u0500\u0501\7l\2\2\u0501\u0502\7r\2\2\u0502\u0503\7g\2\2\u0503"+
-		"R\3\2\2\2\u0504\u0505\7l\2\2\u0505\u0506\7r\2\2\u0506\u0507\7q\2\2\u0507"+
-		"T\3\2\2\2\u0508\u0509\7l\2\2\u0509\u050a\7u\2\2\u050aV\3\2\2\2\u050b\u050c"+
-		"\7l\2\2\u050c\u050d\7|\2\2\u050dX\3\2\2\2\u050e\u050f\7n\2\2\u050f\u0510"+
-		"\7e\2\2\u0510\u0511\7c\2\2\u0511\u0512\7n\2\2\u0512\u0513\7n\2\2\u0513"+
-		"Z\3\2\2\2\u0514\u0515\7n\2\2\u0515\u0516\7q\2\2\u0516\u0517\7q\2\2\u0517"+
-		"\u0518\7r\2\2\u0518\\\3\2\2\2\u0519\u051a\7n\2\2\u051a\u051b\7q\2\2\u051b"+
-		"\u051c\7q\2\2\u051c\u051d\7r\2\2\u051d\u051e\7g\2\2\u051e^\3\2\2\2\u051f"+
-		"\u0520\7n\2\2\u0520\u0521\7q\2\2\u0521\u0522\7q\2\2\u0522\u0523\7r\2\2"+
-		"\u0523\u0524\7p\2\2\u0524\u0525\7g\2\2\u0525`\3\2\2\2\u0526\u0527\7n\2"+
-		"\2\u0527\u0528\7q\2\2\u0528\u0529\7q\2\2\u0529\u052a\7r\2\2\u052a\u052b"+
-		"\7p\2\2\u052b\u052c\7|\2\2\u052cb\3\2\2\2\u052d\u052e\7n\2\2\u052e\u052f"+
-		"\7q\2\2\u052f\u0530\7q\2\2\u0530\u0531\7r\2\2\u0531\u0532\7|\2\2\u0532"+
-		"d\3\2\2\2\u0533\u0534\7e\2\2\u0534\u0535\7n\2\2\u0535\u0536\7e\2\2\u0536"+
-		"f\3\2\2\2\u0537\u0538\7e\2\2\u0538\u0539\7n\2\2\u0539\u053a\7f\2\2\u053a"+
-		"h\3\2\2\2\u053b\u053c\7e\2\2\u053c\u053d\7n\2\2\u053d\u053e\7k\2\2\u053e"+
-		"j\3\2\2\2\u053f\u0540\7e\2\2\u0540\u0541\7o\2\2\u0541\u0542\7e\2\2\u0542"+
-		"l\3\2\2\2\u0543\u0544\7n\2\2\u0544\u0545\7c\2\2\u0545\u0546\7j\2\2\u0546"+
-		"\u0547\7h\2\2\u0547n\3\2\2\2\u0548\u0549\7r\2\2\u0549\u054a\7q\2\2\u054a"+
-		"\u054b\7r\2\2\u054b\u054c\7h\2\2\u054cp\3\2\2\2\u054d\u054e\7r\2\2\u054e"+
-		"\u054f\7q\2\2\u054f\u0550\7r\2\2\u0550\u0551\7h\2\2\u0551\u0552\7y\2\2"+
-		"\u0552r\3\2\2\2\u0553\u0554\7r\2\2\u0554\u0555\7w\2\2\u0555\u0556\7u\2"+
-		"\2\u0556\u0557\7j\2\2\u0557\u0558\7h\2\2\u0558t\3\2\2\2\u0559\u055a\7"+
-		"r\2\2\u055a\u055b\7w\2\2\u055b\u055c\7u\2\2\u055c\u055d\7j\2\2\u055d\u055e"+
-		"\7h\2\2\u055e\u055f\7y\2\2\u055fv\3\2\2\2\u0560\u0561\7u\2\2\u0561\u0562"+
-		"\7c\2\2\u0562\u0563\7j\2\2\u0563\u0564\7h\2\2\u0564x\3\2\2\2\u0565\u0566"+
-		"\7u\2\2\u0566\u0567\7v\2\2\u0567\u0568\7e\2\2\u0568z\3\2\2\2\u0569\u056a"+
-		"\7u\2\2\u056a\u056b\7v\2\2\u056b\u056c\7f\2\2\u056c|\3\2\2\2\u056d\u056e"+
-		"\7u\2\2\u056e\u056f\7v\2\2\u056f\u0570\7k\2\2\u0570~\3\2\2\2\u0571\u0572"+
-		"\7p\2\2\u0572\u0573\7q\2\2\u0573\u0574\7r\2\2\u0574\u0080\3\2\2\2\u0575"+
-		"\u0576\7t\2\2\u0576\u0577\7f\2\2\u0577\u0578\7v\2\2\u0578\u0579\7u\2\2"+
-		"\u0579\u057a\7e\2\2\u057a\u0082\3\2\2\2\u057b\u057c\7e\2\2\u057c\u057d"+
-		"\7r\2\2\u057d\u057e\7w\2\2\u057e\u057f\7k\2\2\u057f\u0580\7f\2\2\u0580"+
-		"\u0084\3\2\2\2\u0581\u0582\7z\2\2\u0582\u0583\7i\2\2\u0583\u0584\7g\2"+
-		"\2\u0584\u0585\7v\2\2\u0585\u0586\7d\2\2\u0586\u0587\7x\2\2\u0587\u0086"+
-		"\3\2\2\2\u0588\u0589\7w\2\2\u0589\u058a\7f\2\2\u058a\u058b\7\64\2\2\u058b"+
-		"\u0088\3\2\2\2\u058c\u058d\7o\2\2\u058d\u058e\7h\2\2\u058e\u058f\7g\2"+
-		"\2\u058f\u0590\7p\2\2\u0590\u0591\7e\2\2\u0591\u0592\7g\2\2\u0592\u008a"+
-		"\3\2\2\2\u0593\u0594\7n\2\2\u0594\u0595\7h\2\2\u0595\u0596\7g\2\2\u0596"+
-		"\u0597\7p\2\2\u0597\u0598\7e\2\2\u0598\u0599\7g\2\2\u0599\u008c\3\2\2"+
-		"\2\u059a\u059b\7u\2\2\u059b\u059c\7h\2\2\u059c\u059d\7g\2\2\u059d\u059e"+
-		"\7p\2\2\u059e\u059f\7e\2\2\u059f\u05a0\7g\2\2\u05a0\u008e\3\2\2\2\u05a1"+
-		"\u05a2\7j\2\2\u05a2\u05a3\7n\2\2\u05a3\u05a4\7v\2\2\u05a4\u0090\3\2\2"+
-		"\2\u05a5\u05a6\7u\2\2\u05a6\u05a7\7{\2\2\u05a7\u05a8\7u\2\2\u05a8\u05a9"+
-		"\7e\2\2\u05a9\u05aa\7c\2\2\u05aa\u05ab\7n\2\2\u05ab\u05ac\7n\2\2\u05ac"+
-		"\u0092\3\2\2\2\u05ad\u05ae\7u\2\2\u05ae\u05af\7v\2\2\u05af\u05b0\7q\2"+
-		"\2\u05b0\u05b1\7u\2\2\u05b1\u05b2\7d\2\2\u05b2\u0094\3\2\2\2\u05b3\u05b4"+
-		"\7u\2\2\u05b4\u05b5\7v\2\2\u05b5\u05b6\7q\2\2\u05b6\u05b7\7u\2\2\u05b7"+
-		"\u05b8\7y\2\2\u05b8\u0096\3\2\2\2\u05b9\u05ba\7u\2\2\u05ba\u05bb\7v\2"+
-		"\2\u05bb\u05bc\7q\2\2\u05bc\u05bd\7u\2\2\u05bd\u05be\7f\2\2\u05be\u0098"+
+		"\2\2\u044b\3\2\2\2\2\u044d\3\2\2\2\2\u044f\3\2\2\2\2\u0451\3\2\2\2\2\u0453"+
+		"\3\2\2\2\2\u0455\3\2\2\2\2\u0457\3\2\2\2\2\u0459\3\2\2\2\2\u0465\3\2\2"+
+		"\2\2\u0467\3\2\2\2\2\u0469\3\2\2\2\2\u046b\3\2\2\2\2\u046d\3\2\2\2\3\u046f"+
+		"\3\2\2\2\5\u0471\3\2\2\2\7\u0473\3\2\2\2\t\u0475\3\2\2\2\13\u0479\3\2"+
+		"\2\2\r\u047e\3\2\2\2\17\u0483\3\2\2\2\21\u0489\3\2\2\2\23\u048f\3\2\2"+
+		"\2\25\u0494\3\2\2\2\27\u0498\3\2\2\2\31\u049d\3\2\2\2\33\u04a0\3\2\2\2"+
+		"\35\u04a4\3\2\2\2\37\u04a7\3\2\2\2!\u04ab\3\2\2\2#\u04ae\3\2\2\2%\u04b3"+
+		"\3\2\2\2\'\u04b6\3\2\2\2)\u04bc\3\2\2\2+\u04bf\3\2\2\2-\u04c3\3\2\2\2"+
+		"/\u04c6\3\2\2\2\61\u04ca\3\2\2\2\63\u04ce\3\2\2\2\65\u04d3\3\2\2\2\67"+
+		"\u04d7\3\2\2\29\u04dc\3\2\2\2;\u04e0\3\2\2\2=\u04e4\3\2\2\2?\u04e8\3\2"+
+		"\2\2A\u04ed\3\2\2\2C\u04f1\3\2\2\2E\u04f6\3\2\2\2G\u04fa\3\2\2\2I\u04fe"+
+		"\3\2\2\2K\u0502\3\2\2\2M\u0506\3\2\2\2O\u0509\3\2\2\2Q\u050c\3\2\2\2S"+
+		"\u0510\3\2\2\2U\u0514\3\2\2\2W\u0517\3\2\2\2Y\u051a\3\2\2\2[\u0520\3\2"+
+		"\2\2]\u0525\3\2\2\2_\u052b\3\2\2\2a\u0532\3\2\2\2c\u0539\3\2\2\2e\u053f"+
+		"\3\2\2\2g\u0543\3\2\2\2i\u0547\3\2\2\2k\u054b\3\2\2\2m\u054f\3\2\2\2o"+
+		"\u0554\3\2\2\2q\u0559\3\2\2\2s\u055f\3\2\2\2u\u0565\3\2\2\2w\u056c\3\2"+
+		"\2\2y\u0571\3\2\2\2{\u0575\3\2\2\2}\u0579\3\2\2\2\177\u057d\3\2\2\2\u0081"+
+		"\u0581\3\2\2\2\u0083\u0587\3\2\2\2\u0085\u058d\3\2\2\2\u0087\u0594\3\2"+
+		"\2\2\u0089\u0598\3\2\2\2\u008b\u059f\3\2\2\2\u008d\u05a6\3\2\2\2\u008f"+
+		"\u05ad\3\2\2\2\u0091\u05b1\3\2\2\2\u0093\u05b9\3\2\2\2\u0095\u05bf\3\2"+
+		"\2\2\u0097\u05c5\3\2\2\2\u0099\u05cb\3\2\2\2\u009b\u05d1\3\2\2\2\u009d"+
+		"\u05d7\3\2\2\2\u009f\u05dd\3\2\2\2\u00a1\u05e3\3\2\2\2\u00a3\u05e9\3\2"+
+		"\2\2\u00a5\u05ef\3\2\2\2\u00a7\u05f5\3\2\2\2\u00a9\u05fb\3\2\2\2\u00ab"+
+		"\u0601\3\2\2\2\u00ad\u0607\3\2\2\2\u00af\u0609\3\2\2\2\u00b1\u060f\3\2"+
+		"\2\2\u00b3\u0615\3\2\2\2\u00b5\u061b\3\2\2\2\u00b7\u0621\3\2\2\2\u00b9"+
+		"\u0627\3\2\2\2\u00bb\u062d\3\2\2\2\u00bd\u0632\3\2\2\2\u00bf\u0637\3\2"+
+		"\2\2\u00c1\u063c\3\2\2\2\u00c3\u0641\3\2\2\2\u00c5\u0646\3\2\2\2\u00c7"+
+		"\u064b\3\2\2\2\u00c9\u0650\3\2\2\2\u00cb\u0655\3\2\2\2\u00cd\u065a\3\2"+
+		"\2\2\u00cf\u065f\3\2\2\2\u00d1\u0664\3\2\2\2\u00d3\u0669\3\2\2\2\u00d5"+
+		"\u066e\3\2\2\2\u00d7\u0673\3\2\2\2\u00d9\u0679\3\2\2\2\u00db\u067e\3\2"+
+		"\2\2\u00dd\u0683\3\2\2\2\u00df\u0688\3\2\2\2\u00e1\u068d\3\2\2\2\u00e3"+
+		"\u0692\3\2\2\2\u00e5\u0697\3\2\2\2\u00e7\u069c\3\2\2\2\u00e9\u06a3\3\2"+
+		"\2\2\u00eb\u06a9\3\2\2\2\u00ed\u06ae\3\2\2\2\u00ef\u06b3\3\2\2\2\u00f1"+
+		"\u06b8\3\2\2\2\u00f3\u06bd\3\2\2\2\u00f5\u06c2\3\2\2\2\u00f7\u06c7\3\2"+
+		"\2\2\u00f9\u06cc\3\2\2\2\u00fb\u06d3\3\2\2\2\u00fd\u06d9\3\2\2\2\u00ff"+
+		"\u06de\3\2\2\2\u0101\u06e2\3\2\2\2\u0103\u06e6\3\2\2\2\u0105\u06ea\3\2"+
+		"\2\2\u0107\u06ee\3\2\2\2\u0109\u06f4\3\2\2\2\u010b\u06fb\3\2\2\2\u010d"+
+		"\u0702\3\2\2\2\u010f\u0707\3\2\2\2\u0111\u070d\3\2\2\2\u0113\u0712\3\2"+
+		"\2\2\u0115\u0718\3\2\2\2\u0117\u071d\3\2\2\2\u0119\u0722\3\2\2\2\u011b"+
+		"\u0727\3\2\2\2\u011d\u072d\3\2\2\2\u011f\u0732\3\2\2\2\u0121\u0738\3\2"+
+		"\2\2\u0123\u073e\3\2\2\2\u0125\u0745\3\2\2\2\u0127\u074b\3\2\2\2\u0129"+
+		"\u0752\3\2\2\2\u012b\u0758\3\2\2\2\u012d\u075e\3\2\2\2\u012f\u0764\3\2"+
+		"\2\2\u0131\u076b\3\2\2\2\u0133\u0771\3\2\2\2\u0135\u0778\3\2\2\2\u0137"+
+		"\u077e\3\2\2\2\u0139\u0784\3\2\2\2\u013b\u078a\3\2\2\2\u013d\u0790\3\2"+
+		"\2\2\u013f\u0795\3\2\2\2\u0141\u079a\3\2\2\2\u0143\u07a0\3\2\2\2\u0145"+
+		"\u07a6\3\2\2\2\u0147\u07ab\3\2\2\2\u0149\u07b0\3\2\2\2\u014b\u07b5\3\2"+
+		"\2\2\u014d\u07b9\3\2\2\2\u014f\u07c3\3\2\2\2\u0151\u07ce\3\2\2\2\u0153"+
+		"\u07d3\3\2\2\2\u0155\u07d9\3\2\2\2\u0157\u07df\3\2\2\2\u0159\u07e4\3\2"+
+		"\2\2\u015b\u07e9\3\2\2\2\u015d\u07ee\3\2\2\2\u015f\u07f3\3\2\2\2\u0161"+
+		"\u07f8\3\2\2\2\u0163\u07fd\3\2\2\2\u0165\u0801\3\2\2\2\u0167\u0806\3\2"+
+		"\2\2\u0169\u080b\3\2\2\2\u016b\u0810\3\2\2\2\u016d\u0815\3\2\2\2\u016f"+
+		"\u081a\3\2\2\2\u0171\u081f\3\2\2\2\u0173\u0824\3\2\2\2\u0175\u0829\3\2"+
+		"\2\2\u0177\u082e\3\2\2\2\u0179\u0834\3\2\2\2\u017b\u083d\3\2\2\2\u017d"+
+		"\u0844\3\2\2\2\u017f\u084c\3\2\2\2\u0181\u0853\3\2\2\2\u0183\u085b\3\2"+
+		"\2\2\u0185\u0862\3\2\2\2\u0187\u0869\3\2\2\2\u0189\u0870\3\2\2\2\u018b"+
+		"\u0878\3\2\2\2\u018d\u087f\3\2\2\2\u018f\u0887\3\2\2\2\u0191\u088f\3\2"+
+		"\2\2\u0193\u0898\3\2\2\2\u0195\u08a0\3\2\2\2\u0197\u08a9\3\2\2\2\u0199"+
+		"\u08b1\3\2\2\2\u019b\u08b9\3\2\2\2\u019d\u08c1\3\2\2\2\u019f\u08ca\3\2"+
+		"\2\2\u01a1\u08d2\3\2\2\2\u01a3\u08db\3\2\2\2\u01a5\u08e3\3\2\2\2\u01a7"+
+		"\u08eb\3\2\2\2\u01a9\u08f3\3\2\2\2\u01ab\u08fb\3\2\2\2\u01ad\u0902\3\2"+
+		"\2\2\u01af\u0909\3\2\2\2\u01b1\u0911\3\2\2\2\u01b3\u0919\3\2\2\2\u01b5"+
+		"\u0920\3\2\2\2\u01b7\u0927\3\2\2\2\u01b9\u0930\3\2\2\2\u01bb\u0935\3\2"+
+		"\2\2\u01bd\u093b\3\2\2\2\u01bf\u0941\3\2\2\2\u01c1\u0946\3\2\2\2\u01c3"+
+		"\u094b\3\2\2\2\u01c5\u0950\3\2\2\2\u01c7\u0955\3\2\2\2\u01c9\u095a\3\2"+
+		"\2\2\u01cb\u095f\3\2\2\2\u01cd\u0963\3\2\2\2\u01cf\u0968\3\2\2\2\u01d1"+
+		"\u096e\3\2\2\2\u01d3\u0973\3\2\2\2\u01d5\u0978\3\2\2\2\u01d7\u097c\3\2"+
+		"\2\2\u01d9\u0981\3\2\2\2\u01db\u0986\3\2\2\2\u01dd\u098b\3\2\2\2\u01df"+
+		"\u0990\3\2\2\2\u01e1\u0995\3\2\2\2\u01e3\u099a\3\2\2\2\u01e5\u099f\3\2"+
+		"\2\2\u01e7\u09a4\3\2\2\2\u01e9\u09a9\3\2\2\2\u01eb\u09ae\3\2\2\2\u01ed"+
+		"\u09b3\3\2\2\2\u01ef\u09ba\3\2\2\2\u01f1\u09c1\3\2\2\2\u01f3\u09c8\3\2"+
+		"\2\2\u01f5\u09d0\3\2\2\2\u01f7\u09d7\3\2\2\2\u01f9\u09df\3\2\2\2\u01fb"+
+		"\u09e6\3\2\2\2\u01fd\u09ed\3\2\2\2\u01ff\u09f4\3\2\2\2\u0201\u09fc\3\2"+
+		"\2\2\u0203\u0a03\3\2\2\2\u0205\u0a0b\3\2\2\2\u0207\u0a13\3\2\2\2\u0209"+
+		"\u0a1c\3\2\2\2\u020b\u0a24\3\2\2\2\u020d\u0a2d\3\2\2\2\u020f\u0a35\3\2"+
+		"\2\2\u0211\u0a3d\3\2\2\2\u0213\u0a45\3\2\2\2\u0215\u0a4e\3\2\2\2\u0217"+
+		"\u0a56\3\2\2\2\u0219\u0a5f\3\2\2\2\u021b\u0a67\3\2\2\2\u021d\u0a6f\3\2"+
+		"\2\2\u021f\u0a77\3\2\2\2\u0221\u0a7f\3\2\2\2\u0223\u0a86\3\2\2\2\u0225"+
+		"\u0a8d\3\2\2\2\u0227\u0a95\3\2\2\2\u0229\u0a9d\3\2\2\2\u022b\u0aa4\3\2"+
+		"\2\2\u022d\u0aab\3\2\2\2\u022f\u0ab4\3\2\2\2\u0231\u0ab9\3\2\2\2\u0233"+
+		"\u0abf\3\2\2\2\u0235\u0ac5\3\2\2\2\u0237\u0aca\3\2\2\2\u0239\u0acf\3\2"+
+		"\2\2\u023b\u0ad4\3\2\2\2\u023d\u0ad9\3\2\2\2\u023f\u0ade\3\2\2\2\u0241"+
+		"\u0ae3\3\2\2\2\u0243\u0ae7\3\2\2\2\u0245\u0aec\3\2\2\2\u0247\u0af2\3\2"+
+		"\2\2\u0249\u0af7\3\2\2\2\u024b\u0afc\3\2\2\2\u024d\u0b00\3\2\2\2\u024f"+
+		"\u0b05\3\2\2\2\u0251\u0b0a\3\2\2\2\u0253\u0b0f\3\2\2\2\u0255\u0b14\3\2"+
+		"\2\2\u0257\u0b19\3\2\2\2\u0259\u0b1e\3\2\2\2\u025b\u0b23\3\2\2\2\u025d"+
+		"\u0b28\3\2\2\2\u025f\u0b2d\3\2\2\2\u0261\u0b32\3\2\2\2\u0263\u0b37\3\2"+
+		"\2\2\u0265\u0b3e\3\2\2\2\u0267\u0b45\3\2\2\2\u0269\u0b4c\3\2\2\2\u026b"+
+		"\u0b53\3\2\2\2\u026d\u0b5a\3\2\2\2\u026f\u0b62\3\2\2\2\u0271\u0b69\3\2"+
+		"\2\2\u0273\u0b71\3\2\2\2\u0275\u0b78\3\2\2\2\u0277\u0b7f\3\2\2\2\u0279"+
+		"\u0b86\3\2\2\2\u027b\u0b8e\3\2\2\2\u027d\u0b95\3\2\2\2\u027f\u0b9d\3\2"+
+		"\2\2\u0281\u0ba5\3\2\2\2\u0283\u0bae\3\2\2\2\u0285\u0bb6\3\2\2\2\u0287"+
+		"\u0bbf\3\2\2\2\u0289\u0bc7\3\2\2\2\u028b\u0bcf\3\2\2\2\u028d\u0bd7\3\2"+
+		"\2\2\u028f\u0be0\3\2\2\2\u0291\u0be8\3\2\2\2\u0293\u0bf1\3\2\2\2\u0295"+
+		"\u0bf9\3\2\2\2\u0297\u0c01\3\2\2\2\u0299\u0c09\3\2\2\2\u029b\u0c11\3\2"+
+		"\2\2\u029d\u0c18\3\2\2\2\u029f\u0c1f\3\2\2\2\u02a1\u0c27\3\2\2\2\u02a3"+
+		"\u0c2f\3\2\2\2\u02a5\u0c36\3\2\2\2\u02a7\u0c3d\3\2\2\2\u02a9\u0c46\3\2"+
+		"\2\2\u02ab\u0c4b\3\2\2\2\u02ad\u0c51\3\2\2\2\u02af\u0c57\3\2\2\2\u02b1"+
+		"\u0c5c\3\2\2\2\u02b3\u0c61\3\2\2\2\u02b5\u0c66\3\2\2\2\u02b7\u0c6b\3\2"+
+		"\2\2\u02b9\u0c70\3\2\2\2\u02bb\u0c75\3\2\2\2\u02bd\u0c79\3\2\2\2\u02bf"+
+		"\u0c7e\3\2\2\2\u02c1\u0c84\3\2\2\2\u02c3\u0c89\3\2\2\2\u02c5\u0c8e\3\2"+
+		"\2\2\u02c7\u0c92\3\2\2\2\u02c9\u0c97\3\2\2\2\u02cb\u0c9c\3\2\2\2\u02cd"+
+		"\u0ca1\3\2\2\2\u02cf\u0ca6\3\2\2\2\u02d1\u0cab\3\2\2\2\u02d3\u0cb0\3\2"+
+		"\2\2\u02d5\u0cb5\3\2\2\2\u02d7\u0cba\3\2\2\2\u02d9\u0cbf\3\2\2\2\u02db"+
+		"\u0cc4\3\2\2\2\u02dd\u0cc9\3\2\2\2\u02df\u0cd0\3\2\2\2\u02e1\u0cd7\3\2"+
+		"\2\2\u02e3\u0cde\3\2\2\2\u02e5\u0ce5\3\2\2\2\u02e7\u0cec\3\2\2\2\u02e9"+
+		"\u0cf2\3\2\2\2\u02eb\u0cf9\3\2\2\2\u02ed\u0cff\3\2\2\2\u02ef\u0d06\3\2"+
+		"\2\2\u02f1\u0d0c\3\2\2\2\u02f3\u0d12\3\2\2\2\u02f5\u0d18\3\2\2\2\u02f7"+
+		"\u0d1f\3\2\2\2\u02f9\u0d25\3\2\2\2\u02fb\u0d2c\3\2\2\2\u02fd\u0d33\3\2"+
+		"\2\2\u02ff\u0d3b\3\2\2\2\u0301\u0d42\3\2\2\2\u0303\u0d4a\3\2\2\2\u0305"+
+		"\u0d51\3\2\2\2\u0307\u0d58\3\2\2\2\u0309\u0d5f\3\2\2\2\u030b\u0d67\3\2"+
+		"\2\2\u030d\u0d6e\3\2\2\2\u030f\u0d76\3\2\2\2\u0311\u0d7d\3\2\2\2\u0313"+
+		"\u0d84\3\2\2\2\u0315\u0d8b\3\2\2\2\u0317\u0d92\3\2\2\2\u0319\u0d98\3\2"+
+		"\2\2\u031b\u0d9e\3\2\2\2\u031d\u0da5\3\2\2\2\u031f\u0dac\3\2\2\2\u0321"+
+		"\u0db2\3\2\2\2\u0323\u0db8\3\2\2\2\u0325\u0dc0\3\2\2\2\u0327\u0dc9\3\2"+
+		"\2\2\u0329\u0dcd\3\2\2\2\u032b\u0dd2\3\2\2\2\u032d\u0dd7\3\2\2\2\u032f"+
+		"\u0ddb\3\2\2\2\u0331\u0ddf\3\2\2\2\u0333\u0de3\3\2\2\2\u0335\u0de7\3\2"+
+		"\2\2\u0337\u0deb\3\2\2\2\u0339\u0def\3\2\2\2\u033b\u0df3\3\2\2\2\u033d"+
+		"\u0df7\3\2\2\2\u033f\u0dfa\3\2\2\2\u0341\u0dfe\3\2\2\2\u0343\u0e02\3\2"+
+		"\2\2\u0345\u0e06\3\2\2\2\u0347\u0e0a\3\2\2\2\u0349\u0e0e\3\2\2\2\u034b"+
+		"\u0e12\3\2\2\2\u034d\u0e16\3\2\2\2\u034f\u0e1a\3\2\2\2\u0351\u0e1e\3\2"+
+		"\2\2\u0353\u0e22\3\2\2\2\u0355\u0e26\3\2\2\2\u0357\u0e2a\3\2\2\2\u0359"+
+		"\u0e2c\3\2\2\2\u035b\u0e2e\3\2\2\2\u035d\u0e30\3\2\2\2\u035f\u0e34\3\2"+
+		"\2\2\u0361\u0e38\3\2\2\2\u0363\u0e3c\3\2\2\2\u0365\u0e40\3\2\2\2\u0367"+
+		"\u0e44\3\2\2\2\u0369\u0e48\3\2\2\2\u036b\u0e4c\3\2\2\2\u036d\u0e50\3\2"+
+		"\2\2\u036f\u0e55\3\2\2\2\u0371\u0e5a\3\2\2\2\u0373\u0e5f\3\2\2\2\u0375"+
+		"\u0e64\3\2\2\2\u0377\u0e69\3\2\2\2\u0379\u0e6e\3\2\2\2\u037b\u0e73\3\2"+
+		"\2\2\u037d\u0e78\3\2\2\2\u037f\u0e7d\3\2\2\2\u0381\u0e82\3\2\2\2\u0383"+
+		"\u0e88\3\2\2\2\u0385\u0e8e\3\2\2\2\u0387\u0e94\3\2\2\2\u0389\u0e9a\3\2"+
+		"\2\2\u038b\u0ea0\3\2\2\2\u038d\u0ea6\3\2\2\2\u038f\u0eaa\3\2\2\2\u0391"+
+		"\u0eae\3\2\2\2\u0393\u0eb2\3\2\2\2\u0395\u0eb6\3\2\2\2\u0397\u0eba\3\2"+
+		"\2\2\u0399\u0ebe\3\2\2\2\u039b\u0ec2\3\2\2\2\u039d\u0ec6\3\2\2\2\u039f"+
+		"\u0ecb\3\2\2\2\u03a1\u0ed0\3\2\2\2\u03a3\u0ed5\3\2\2\2\u03a5\u0eda\3\2"+
+		"\2\2\u03a7\u0edf\3\2\2\2\u03a9\u0ee4\3\2\2\2\u03ab\u0ee9\3\2\2\2\u03ad"+
+		"\u0eee\3\2\2\2\u03af\u0ef3\3\2\2\2\u03b1\u0ef8\3\2\2\2\u03b3\u0efe\3\2"+
+		"\2\2\u03b5\u0f04\3\2\2\2\u03b7\u0f0a\3\2\2\2\u03b9\u0f10\3\2\2\2\u03bb"+
+		"\u0f16\3\2\2\2\u03bd\u0f1c\3\2\2\2\u03bf\u0f21\3\2\2\2\u03c1\u0f26\3\2"+
+		"\2\2\u03c3\u0f2b\3\2\2\2\u03c5\u0f30\3\2\2\2\u03c7\u0f35\3\2\2\2\u03c9"+
+		"\u0f3a\3\2\2\2\u03cb\u0f3f\3\2\2\2\u03cd\u0f44\3\2\2\2\u03cf\u0f49\3\2"+
+		"\2\2\u03d1\u0f4e\3\2\2\2\u03d3\u0f53\3\2\2\2\u03d5\u0f58\3\2\2\2\u03d7"+
+		"\u0f5d\3\2\2\2\u03d9\u0f62\3\2\2\2\u03db\u0f67\3\2\2\2\u03dd\u0f6c\3\2"+
+		"\2\2\u03df\u0f71\3\2\2\2\u03e1\u0f76\3\2\2\2\u03e3\u0f7c\3\2\2\2\u03e5"+
+		"\u0f82\3\2\2\2\u03e7\u0f88\3\2\2\2\u03e9\u0f8e\3\2\2\2\u03eb\u0f94\3\2"+
+		"\2\2\u03ed\u0f9a\3\2\2\2\u03ef\u0f9f\3\2\2\2\u03f1\u0fa4\3\2\2\2\u03f3"+
+		"\u0fa9\3\2\2\2\u03f5\u0fae\3\2\2\2\u03f7\u0fb3\3\2\2\2\u03f9\u0fb8\3\2"+
+		"\2\2\u03fb\u0fbd\3\2\2\2\u03fd\u0fc2\3\2\2\2\u03ff\u0fc6\3\2\2\2\u0401"+
+		"\u0fca\3\2\2\2\u0403\u0fce\3\2\2\2\u0405\u0fd2\3\2\2\2\u0407\u0fd6\3\2"+
+		"\2\2\u0409\u0fda\3\2\2\2\u040b\u0fde\3\2\2\2\u040d\u0fe2\3\2\2\2\u040f"+
+		"\u0fe6\3\2\2\2\u0411\u0fea\3\2\2\2\u0413\u0fef\3\2\2\2\u0415\u0ff4\3\2"+
+		"\2\2\u0417\u0ff9\3\2\2\2\u0419\u0ffe\3\2\2\2\u041b\u1003\3\2\2\2\u041d"+
+		"\u1008\3\2\2\2\u041f\u100e\3\2\2\2\u0421\u1014\3\2\2\2\u0423\u101a\3\2"+
+		"\2\2\u0425\u1020\3\2\2\2\u0427\u1026\3\2\2\2\u0429\u102c\3\2\2\2\u042b"+
+		"\u1032\3\2\2\2\u042d\u1038\3\2\2\2\u042f\u103e\3\2\2\2\u0431\u1044\3\2"+
+		"\2\2\u0433\u104b\3\2\2\2\u0435\u1052\3\2\2\2\u0437\u1059\3\2\2\2\u0439"+
+		"\u1060\3\2\2\2\u043b\u1067\3\2\2\2\u043d\u106e\3\2\2\2\u043f\u1072\3\2"+
+		"\2\2\u0441\u1076\3\2\2\2\u0443\u107a\3\2\2\2\u0445\u107e\3\2\2\2\u0447"+
+		"\u1082\3\2\2\2\u0449\u1086\3\2\2\2\u044b\u1089\3\2\2\2\u044d\u108b\3\2"+
+		"\2\2\u044f\u108d\3\2\2\2\u0451\u108f\3\2\2\2\u0453\u1091\3\2\2\2\u0455"+
+		"\u1093\3\2\2\2\u0457\u1095\3\2\2\2\u0459\u1097\3\2\2\2\u045b\u1099\3\2"+
+		"\2\2\u045d\u109b\3\2\2\2\u045f\u109d\3\2\2\2\u0461\u10a0\3\2\2\2\u0463"+
+		"\u10a2\3\2\2\2\u0465\u10a4\3\2\2\2\u0467\u10ad\3\2\2\2\u0469\u10b5\3\2"+
+		"\2\2\u046b\u10be\3\2\2\2\u046d\u10c6\3\2\2\2\u046f\u0470\7$\2\2\u0470"+
+		"\4\3\2\2\2\u0471\u0472\7=\2\2\u0472\6\3\2\2\2\u0473\u0474\7\f\2\2\u0474"+
+		"\b\3\2\2\2\u0475\u0476\7t\2\2\u0476\u0477\7g\2\2\u0477\u0478\7r\2\2\u0478"+
+		"\n\3\2\2\2\u0479\u047a\7t\2\2\u047a\u047b\7g\2\2\u047b\u047c\7r\2\2\u047c"+
+		"\u047d\7|\2\2\u047d\f\3\2\2\2\u047e\u047f\7t\2\2\u047f\u0480\7g\2\2\u0480"+
+		"\u0481\7r\2\2\u0481\u0482\7g\2\2\u0482\16\3\2\2\2\u0483\u0484\7t\2\2\u0484"+
+		"\u0485\7g\2\2\u0485\u0486\7r\2\2\u0486\u0487\7p\2\2\u0487\u0488\7g\2\2"+
+		"\u0488\20\3\2\2\2\u0489\u048a\7t\2\2\u048a\u048b\7g\2\2\u048b\u048c\7"+
+		"r\2\2\u048c\u048d\7p\2\2\u048d\u048e\7|\2\2\u048e\22\3\2\2\2\u048f\u0490"+
+		"\7n\2\2\u0490\u0491\7q\2\2\u0491\u0492\7e\2\2\u0492\u0493\7m\2\2\u0493"+
+		"\24\3\2\2\2\u0494\u0495\7k\2\2\u0495\u0496\7p\2\2\u0496\u0497\7v\2\2\u0497"+
+		"\26\3\2\2\2\u0498\u0499\7e\2\2\u0499\u049a\7c\2\2\u049a\u049b\7n\2\2\u049b"+
+		"\u049c\7n\2\2\u049c\30\3\2\2\2\u049d\u049e\7l\2\2\u049e\u049f\7c\2\2\u049f"+
+		"\32\3\2\2\2\u04a0\u04a1\7l\2\2\u04a1\u04a2\7c\2\2\u04a2\u04a3\7g\2\2\u04a3"+
+		"\34\3\2\2\2\u04a4\u04a5\7l\2\2\u04a5\u04a6\7d\2\2\u04a6\36\3\2\2\2\u04a7"+
+		"\u04a8\7l\2\2\u04a8\u04a9\7d\2\2\u04a9\u04aa\7g\2\2\u04aa \3\2\2\2\u04ab"+
+		"\u04ac\7l\2\2\u04ac\u04ad\7e\2\2\u04ad\"\3\2\2\2\u04ae\u04af\7l\2\2\u04af"+
+		"\u04b0\7e\2\2\u04b0\u04b1\7z\2\2\u04b1\u04b2\7|\2\2\u04b2$\3\2\2\2\u04b3"+
+		"\u04b4\7l\2\2\u04b4\u04b5\7g\2\2\u04b5&\3\2\2\2\u04b6\u04b7\7l\2\2\u04b7"+
+		"\u04b8\7g\2\2\u04b8\u04b9\7e\2\2\u04b9\u04ba\7z\2\2\u04ba\u04bb\7|\2\2"+
+		"\u04bb(\3\2\2\2\u04bc\u04bd\7l\2\2\u04bd\u04be\7i\2\2\u04be*\3\2\2\2\u04bf"+
+		"\u04c0\7l\2\2\u04c0\u04c1\7i\2\2\u04c1\u04c2\7g\2\2\u04c2,\3\2\2\2\u04c3"+
+		"\u04c4\7l\2\2\u04c4\u04c5\7n\2\2\u04c5.\3\2\2\2\u04c6\u04c7\7l\2\2\u04c7"+
+		"\u04c8\7n\2\2\u04c8\u04c9\7g\2\2\u04c9\60\3\2\2\2\u04ca\u04cb\7l\2\2\u04cb"+
+		"\u04cc\7o\2\2\u04cc\u04cd\7r\2\2\u04cd\62\3\2\2\2\u04ce\u04cf\7l\2\2\u04cf"+
+		"\u04d0\7p\2\2\u04d0\u04d1\7c\2\2\u04d1\u04d2\7g\2\2\u04d2\64\3\2\2\2\u04d3"+
+		"\u04d4\7l\2\2\u04d4\u04d5\7p\2\2\u04d5\u04d6\7d\2\2\u04d6\66\3\2\2\2\u04d7"+
+		"\u04d8\7l\2\2\u04d8\u04d9\7p\2\2\u04d9\u04da\7d\2\2\u04da\u04db\7g\2\2"+
+		"\u04db8\3\2\2\2\u04dc\u04dd\7l\2\2\u04dd\u04de\7p\2\2\u04de\u04df\7e\2"+
+		"\2\u04df:\3\2\2\2\u04e0\u04e1\7l\2\2\u04e1\u04e2\7p\2\2\u04e2\u04e3\7"+
+		"g\2\2\u04e3<\3\2\2\2\u04e4\u04e5\7l\2\2\u04e5\u04e6\7p\2\2\u04e6\u04e7"+
+		"\7i\2\2\u04e7>\3\2\2\2\u04e8\u04e9\7l\2\2\u04e9\u04ea\7p\2\2\u04ea\u04eb"+
+		"\7i\2\2\u04eb\u04ec\7g\2\2\u04ec@\3\2\2\2\u04ed\u04ee\7l\2\2\u04ee\u04ef"+
+		"\7p\2\2\u04ef\u04f0\7n\2\2\u04f0B\3\2\2\2\u04f1\u04f2\7l\2\2\u04f2\u04f3"+
+		"\7p\2\2\u04f3\u04f4\7n\2\2\u04f4\u04f5\7g\2\2\u04f5D\3\2\2\2\u04f6\u04f7"+
+		"\7l\2\2\u04f7\u04f8\7p\2\2\u04f8\u04f9\7q\2\2\u04f9F\3\2\2\2\u04fa\u04fb"+
+		"\7l\2\2\u04fb\u04fc\7p\2\2\u04fc\u04fd\7r\2\2\u04fdH\3\2\2\2\u04fe\u04ff"+
+		"\7l\2\2\u04ff\u0500\7p\2\2\u0500\u0501\7u\2\2\u0501J\3\2\2\2\u0502\u0503"+
+		"\7l\2\2\u0503\u0504\7p\2\2\u0504\u0505\7|\2\2\u0505L\3\2\2\2\u0506\u0507"+
+		"\7l\2\2\u0507\u0508\7q\2\2\u0508N\3\2\2\2\u0509\u050a\7l\2\2\u050a\u050b"+
+		"\7r\2\2\u050bP\3\2\2\2\u050c\u050d\7l\2\2\u050d\u050e\7r\2\2\u050e\u050f"+
+		"\7g\2\2\u050fR\3\2\2\2\u0510\u0511\7l\2\2\u0511\u0512\7r\2\2\u0512\u0513"+
+		"\7q\2\2\u0513T\3\2\2\2\u0514\u0515\7l\2\2\u0515\u0516\7u\2\2\u0516V\3"+
+		"\2\2\2\u0517\u0518\7l\2\2\u0518\u0519\7|\2\2\u0519X\3\2\2\2\u051a\u051b"+
+		"\7n\2\2\u051b\u051c\7e\2\2\u051c\u051d\7c\2\2\u051d\u051e\7n\2\2\u051e"+
+		"\u051f\7n\2\2\u051fZ\3\2\2\2\u0520\u0521\7n\2\2\u0521\u0522\7q\2\2\u0522"+
+		"\u0523\7q\2\2\u0523\u0524\7r\2\2\u0524\\\3\2\2\2\u0525\u0526\7n\2\2\u0526"+
+		"\u0527\7q\2\2\u0527\u0528\7q\2\2\u0528\u0529\7r\2\2\u0529\u052a\7g\2\2"+
+		"\u052a^\3\2\2\2\u052b\u052c\7n\2\2\u052c\u052d\7q\2\2\u052d\u052e\7q\2"+
+		"\2\u052e\u052f\7r\2\2\u052f\u0530\7p\2\2\u0530\u0531\7g\2\2\u0531`\3\2"+
+		"\2\2\u0532\u0533\7n\2\2\u0533\u0534\7q\2\2\u0534\u0535\7q\2\2\u0535\u0536"+
+		"\7r\2\2\u0536\u0537\7p\2\2\u0537\u0538\7|\2\2\u0538b\3\2\2\2\u0539\u053a"+
+		"\7n\2\2\u053a\u053b\7q\2\2\u053b\u053c\7q\2\2\u053c\u053d\7r\2\2\u053d"+
+		"\u053e\7|\2\2\u053ed\3\2\2\2\u053f\u0540\7e\2\2\u0540\u0541\7n\2\2\u0541"+
+		"\u0542\7e\2\2\u0542f\3\2\2\2\u0543\u0544\7e\2\2\u0544\u0545\7n\2\2\u0545"+
+		"\u0546\7f\2\2\u0546h\3\2\2\2\u0547\u0548\7e\2\2\u0548\u0549\7n\2\2\u0549"+
+		"\u054a\7k\2\2\u054aj\3\2\2\2\u054b\u054c\7e\2\2\u054c\u054d\7o\2\2\u054d"+
+		"\u054e\7e\2\2\u054el\3\2\2\2\u054f\u0550\7n\2\2\u0550\u0551\7c\2\2\u0551"+
+		"\u0552\7j\2\2\u0552\u0553\7h\2\2\u0553n\3\2\2\2\u0554\u0555\7r\2\2\u0555"+
+		"\u0556\7q\2\2\u0556\u0557\7r\2\2\u0557\u0558\7h\2\2\u0558p\3\2\2\2\u0559"+
+		"\u055a\7r\2\2\u055a\u055b\7q\2\2\u055b\u055c\7r\2\2\u055c\u055d\7h\2\2"+
+		"\u055d\u055e\7y\2\2\u055er\3\2\2\2\u055f\u0560\7r\2\2\u0560\u0561\7w\2"+
+		"\2\u0561\u0562\7u\2\2\u0562\u0563\7j\2\2\u0563\u0564\7h\2\2\u0564t\3\2"+
+		"\2\2\u0565\u0566\7r\2\2\u0566\u0567\7w\2\2\u0567\u0568\7u\2\2\u0568\u0569"+
+		"\7j\2\2\u0569\u056a\7h\2\2\u056a\u056b\7y\2\2\u056bv\3\2\2\2\u056c\u056d"+
+		"\7u\2\2\u056d\u056e\7c\2\2\u056e\u056f\7j\2\2\u056f\u0570\7h\2\2\u0570"+
+		"x\3\2\2\2\u0571\u0572\7u\2\2\u0572\u0573\7v\2\2\u0573\u0574\7e\2\2\u0574"+
+		"z\3\2\2\2\u0575\u0576\7u\2\2\u0576\u0577\7v\2\2\u0577\u0578\7f\2\2\u0578"+
+		"|\3\2\2\2\u0579\u057a\7u\2\2\u057a\u057b\7v\2\2\u057b\u057c\7k\2\2\u057c"+
+		"~\3\2\2\2\u057d\u057e\7p\2\2\u057e\u057f\7q\2\2\u057f\u0580\7r\2\2\u0580"+
+		"\u0080\3\2\2\2\u0581\u0582\7t\2\2\u0582\u0583\7f\2\2\u0583\u0584\7v\2"+
+		"\2\u0584\u0585\7u\2\2\u0585\u0586\7e\2\2\u0586\u0082\3\2\2\2\u0587\u0588"+
+		"\7e\2\2\u0588\u0589\7r\2\2\u0589\u058a\7w\2\2\u058a\u058b\7k\2\2\u058b"+
+		"\u058c\7f\2\2\u058c\u0084\3\2\2\2\u058d\u058e\7z\2\2\u058e\u058f\7i\2"+
+		"\2\u058f\u0590\7g\2\2\u0590\u0591\7v\2\2\u0591\u0592\7d\2\2\u0592\u0593"+
+		"\7x\2\2\u0593\u0086\3\2\2\2\u0594\u0595\7w\2\2\u0595\u0596\7f\2\2\u0596"+
+		"\u0597\7\64\2\2\u0597\u0088\3\2\2\2\u0598\u0599\7o\2\2\u0599\u059a\7h"+
+		"\2\2\u059a\u059b\7g\2\2\u059b\u059c\7p\2\2\u059c\u059d\7e\2\2\u059d\u059e"+
+		"\7g\2\2\u059e\u008a\3\2\2\2\u059f\u05a0\7n\2\2\u05a0\u05a1\7h\2\2\u05a1"+
+		"\u05a2\7g\2\2\u05a2\u05a3\7p\2\2\u05a3\u05a4\7e\2\2\u05a4\u05a5\7g\2\2"+
+		"\u05a5\u008c\3\2\2\2\u05a6\u05a7\7u\2\2\u05a7\u05a8\7h\2\2\u05a8\u05a9"+
+		"\7g\2\2\u05a9\u05aa\7p\2\2\u05aa\u05ab\7e\2\2\u05ab\u05ac\7g\2\2\u05ac"+
+		"\u008e\3\2\2\2\u05ad\u05ae\7j\2\2\u05ae\u05af\7n\2\2\u05af\u05b0\7v\2"+
+		"\2\u05b0\u0090\3\2\2\2\u05b1\u05b2\7u\2\2\u05b2\u05b3\7{\2\2\u05b3\u05b4"+
+		"\7u\2\2\u05b4\u05b5\7e\2\2\u05b5\u05b6\7c\2\2\u05b6\u05b7\7n\2\2\u05b7"+
+		"\u05b8\7n\2\2\u05b8\u0092\3\2\2\2\u05b9\u05ba\7u\2\2\u05ba\u05bb\7v\2"+
+		"\2\u05bb\u05bc\7q\2\2\u05bc\u05bd\7u\2\2\u05bd\u05be\7d\2\2\u05be\u0094"+
 		"\3\2\2\2\u05bf\u05c0\7u\2\2\u05c0\u05c1\7v\2\2\u05c1\u05c2\7q\2\2\u05c2"+
-		"\u05c3\7u\2\2\u05c3\u05c4\7s\2\2\u05c4\u009a\3\2\2\2\u05c5\u05c6\7r\2"+
-		"\2\u05c6\u05c7\7c\2\2\u05c7\u05c8\7w\2\2\u05c8\u05c9\7u\2\2\u05c9\u05ca"+
-		"\7g\2\2\u05ca\u009c\3\2\2\2\u05cb\u05cc\7k\2\2\u05cc\u05cd\7f\2\2\u05cd"+
-		"\u05ce\7k\2\2\u05ce\u05cf\7x\2\2\u05cf\u05d0\7d\2\2\u05d0\u009e\3\2\2"+
-		"\2\u05d1\u05d2\7k\2\2\u05d2\u05d3\7o\2\2\u05d3\u05d4\7w\2\2\u05d4\u05d5"+
-		"\7n\2\2\u05d5\u05d6\7d\2\2\u05d6\u00a0\3\2\2\2\u05d7\u05d8\7.\2\2\u05d8"+
-		"\u00a2\3\2\2\2\u05d9\u05da\7k\2\2\u05da\u05db\7f\2\2\u05db\u05dc\7k\2"+
-		"\2\u05dc\u05dd\7x\2\2\u05dd\u05de\7y\2\2\u05de\u00a4\3\2\2\2\u05df\u05e0"+
-		"\7k\2\2\u05e0\u05e1\7o\2\2\u05e1\u05e2\7w\2\2\u05e2\u05e3\7n\2\2\u05e3"+
-		"\u05e4\7y\2\2\u05e4\u00a6\3\2\2\2\u05e5\u05e6\7k\2\2\u05e6\u05e7\7f\2"+
-		"\2\u05e7\u05e8\7k\2\2\u05e8\u05e9\7x\2\2\u05e9\u05ea\7n\2\2\u05ea\u00a8"+
-		"\3\2\2\2\u05eb\u05ec\7k\2\2\u05ec\u05ed\7o\2\2\u05ed\u05ee\7w\2\2\u05ee"+
-		"\u05ef\7n\2\2\u05ef\u05f0\7n\2\2\u05f0\u00aa\3\2\2\2\u05f1\u05f2\7k\2"+
-		"\2\u05f2\u05f3\7f\2\2\u05f3\u05f4\7k\2\2\u05f4\u05f5\7x\2\2\u05f5\u05f6"+
-		"\7s\2\2\u05f6\u00ac\3\2\2\2\u05f7\u05f8\7k\2\2\u05f8\u05f9\7o\2\2\u05f9"+
-		"\u05fa\7w\2\2\u05fa\u05fb\7n\2\2\u05fb\u05fc\7s\2\2\u05fc\u00ae\3\2\2"+
-		"\2\u05fd\u05fe\7k\2\2\u05fe\u05ff\7f\2\2\u05ff\u0600\7k\2\2\u0600\u0601"+
-		"\7x\2\2\u0601\u00b0\3\2\2\2\u0602\u0603\7k\2\2\u0603\u0604\7o\2\2\u0604"+
-		"\u0605\7w\2\2\u0605\u0606\7n\2\2\u0606\u00b2\3\2\2\2\u0607\u0608\7k\2"+
-		"\2\u0608\u0609\7p\2\2\u0609\u060a\7e\2\2\u060a\u060b\7d\2\2\u060b\u00b4"+
-		"\3\2\2\2\u060c\u060d\7f\2\2\u060d\u060e\7g\2\2\u060e\u060f\7e\2\2\u060f"+
-		"\u0610\7d\2\2\u0610\u00b6\3\2\2\2\u0611\u0612\7p\2\2\u0612\u0613\7g\2"+
-		"\2\u0613\u0614\7i\2\2\u0614\u0615\7d\2\2\u0615\u00b8\3\2\2\2\u0616\u0617"+
-		"\7p\2\2\u0617\u0618\7q\2\2\u0618\u0619\7v\2\2\u0619\u061a\7d\2\2\u061a"+
-		"\u00ba\3\2\2\2\u061b\u061c\7f\2\2\u061c\u061d\7k\2\2\u061d\u061e\7x\2"+
-		"\2\u061e\u061f\7d\2\2\u061f\u00bc\3\2\2\2\u0620\u0621\7o\2\2\u0621\u0622"+
-		"\7w\2\2\u0622\u0623\7n\2\2\u0623\u0624\7d\2\2\u0624\u00be\3\2\2\2\u0625"+
-		"\u0626\7k\2\2\u0626\u0627\7p\2\2\u0627\u0628\7e\2\2\u0628\u0629\7y\2\2"+
-		"\u0629\u00c0\3\2\2\2\u062a\u062b\7f\2\2\u062b\u062c\7g\2\2\u062c\u062d"+
-		"\7e\2\2\u062d\u062e\7y\2\2\u062e\u00c2\3\2\2\2\u062f\u0630\7p\2\2\u0630"+
-		"\u0631\7g\2\2\u0631\u0632\7i\2\2\u0632\u0633\7y\2\2\u0633\u00c4\3\2\2"+
-		"\2\u0634\u0635\7p\2\2\u0635\u0636\7q\2\2\u0636\u0637\7v\2\2\u0637\u0638"+
-		"\7y\2\2\u0638\u00c6\3\2\2\2\u0639\u063a\7f\2\2\u063a\u063b\7k\2\2\u063b"+
-		"\u063c\7x\2\2\u063c\u063d\7y\2\2\u063d\u00c8\3\2\2\2\u063e\u063f\7o\2"+
-		"\2\u063f\u0640\7w\2\2\u0640\u0641\7n\2\2\u0641\u0642\7y\2\2\u0642\u00ca"+
-		"\3\2\2\2\u0643\u0644\7r\2\2\u0644\u0645\7w\2\2\u0645\u0646\7u\2\2\u0646"+
-		"\u0647\7j\2\2\u0647\u0648\7y\2\2\u0648\u00cc\3\2\2\2\u0649\u064a\7r\2"+
-		"\2\u064a\u064b\7q\2\2\u064b\u064c\7r\2\2\u064c\u064d\7y\2\2\u064d\u00ce"+
-		"\3\2\2\2\u064e\u064f\7k\2\2\u064f\u0650\7p\2\2\u0650\u0651\7e\2\2\u0651"+
-		"\u0652\7n\2\2\u0652\u00d0\3\2\2\2\u0653\u0654\7f\2\2\u0654\u0655\7g\2"+
-		"\2\u0655\u0656\7e\2\2\u0656\u0657\7n\2\2\u0657\u00d2\3\2\2\2\u0658\u0659"+
-		"\7p\2\2\u0659\u065a\7g\2\2\u065a\u065b\7i\2\2\u065b\u065c\7n\2\2\u065c"+
-		"\u00d4\3\2\2\2\u065d\u065e\7p\2\2\u065e\u065f\7q\2\2\u065f\u0660\7v\2"+
-		"\2\u0660\u0661\7n\2\2\u0661\u00d6\3\2\2\2\u0662\u0663\7f\2\2\u0663\u0664"+
-		"\7k\2\2\u0664\u0665\7x\2\2\u0665\u0666\7n\2\2\u0666\u00d8\3\2\2\2\u0667"+
-		"\u0668\7o\2\2\u0668\u0669\7w\2\2\u0669\u066a\7n\2\2\u066a\u066b\7n\2\2"+
-		"\u066b\u00da\3\2\2\2\u066c\u066d\7d\2\2\u066d\u066e\7u\2\2\u066e\u066f"+
-		"\7y\2\2\u066f\u0670\7c\2\2\u0670\u0671\7r\2\2\u0671\u0672\7n\2\2\u0672"+
-		"\u00dc\3\2\2\2\u0673\u0674\7r\2\2\u0674\u0675\7w\2\2\u0675\u0676\7u\2"+
-		"\2\u0676\u0677\7j\2\2\u0677\u0678\7n\2\2\u0678\u00de\3\2\2\2\u0679\u067a"+
-		"\7r\2\2\u067a\u067b\7q\2\2\u067b\u067c\7r\2\2\u067c\u067d\7n\2\2\u067d"+
-		"\u00e0\3\2\2\2\u067e\u067f\7k\2\2\u067f\u0680\7p\2\2\u0680\u0681\7e\2"+
-		"\2\u0681\u0682\7s\2\2\u0682\u00e2\3\2\2\2\u0683\u0684\7f\2\2\u0684\u0685"+
-		"\7g\2\2\u0685\u0686\7e\2\2\u0686\u0687\7s\2\2\u0687\u00e4\3\2\2\2\u0688"+
-		"\u0689\7p\2\2\u0689\u068a\7g\2\2\u068a\u068b\7i\2\2\u068b\u068c\7s\2\2"+
-		"\u068c\u00e6\3\2\2\2\u068d\u068e\7p\2\2\u068e\u068f\7q\2\2\u068f\u0690"+
-		"\7v\2\2\u0690\u0691\7s\2\2\u0691\u00e8\3\2\2\2\u0692\u0693\7f\2\2\u0693"+
-		"\u0694\7k\2\2\u0694\u0695\7x\2\2\u0695\u0696\7s\2\2\u0696\u00ea\3\2\2"+
+		"\u05c3\7u\2\2\u05c3\u05c4\7y\2\2\u05c4\u0096\3\2\2\2\u05c5\u05c6\7u\2"+
+		"\2\u05c6\u05c7\7v\2\2\u05c7\u05c8\7q\2\2\u05c8\u05c9\7u\2\2\u05c9\u05ca"+
+		"\7n\2\2\u05ca\u0098\3\2\2\2\u05cb\u05cc\7u\2\2\u05cc\u05cd\7v\2\2\u05cd"+
+		"\u05ce\7q\2\2\u05ce\u05cf\7u\2\2\u05cf\u05d0\7f\2\2\u05d0\u009a\3\2\2"+
+		"\2\u05d1\u05d2\7u\2\2\u05d2\u05d3\7v\2\2\u05d3\u05d4\7q\2\2\u05d4\u05d5"+
+		"\7u\2\2\u05d5\u05d6\7s\2\2\u05d6\u009c\3\2\2\2\u05d7\u05d8\7o\2\2\u05d8"+
+		"\u05d9\7q\2\2\u05d9\u05da\7x\2\2\u05da\u05db\7u\2\2\u05db\u05dc\7d\2\2"+
+		"\u05dc\u009e\3\2\2\2\u05dd\u05de\7o\2\2\u05de\u05df\7q\2\2\u05df\u05e0"+
+		"\7x\2\2\u05e0\u05e1\7u\2\2\u05e1\u05e2\7y\2\2\u05e2\u00a0\3\2\2\2\u05e3"+
+		"\u05e4\7o\2\2\u05e4\u05e5\7q\2\2\u05e5\u05e6\7x\2\2\u05e6\u05e7\7u\2\2"+
+		"\u05e7\u05e8\7n\2\2\u05e8\u00a2\3\2\2\2\u05e9\u05ea\7o\2\2\u05ea\u05eb"+
+		"\7q\2\2\u05eb\u05ec\7x\2\2\u05ec\u05ed\7u\2\2\u05ed\u05ee\7f\2\2\u05ee"+
+		"\u00a4\3\2\2\2\u05ef\u05f0\7o\2\2\u05f0\u05f1\7q\2\2\u05f1\u05f2\7x\2"+
+		"\2\u05f2\u05f3\7u\2\2\u05f3\u05f4\7s\2\2\u05f4\u00a6\3\2\2\2\u05f5\u05f6"+
+		"\7r\2\2\u05f6\u05f7\7c\2\2\u05f7\u05f8\7w\2\2\u05f8\u05f9\7u\2\2\u05f9"+
+		"\u05fa\7g\2\2\u05fa\u00a8\3\2\2\2\u05fb\u05fc\7k\2\2\u05fc\u05fd\7f\2"+
+		"\2\u05fd\u05fe\7k\2\2\u05fe\u05ff\7x\2\2\u05ff\u0600\7d\2\2\u0600\u00aa"+
+		"\3\2\2\2\u0601\u0602\7k\2\2\u0602\u0603\7o\2\2\u0603\u0604\7w\2\2\u0604"+
+		"\u0605\7n\2\2\u0605\u0606\7d\2\2\u0606\u00ac\3\2\2\2\u0607\u0608\7.\2"+
+		"\2\u0608\u00ae\3\2\2\2\u0609\u060a\7k\2\2\u060a\u060b\7f\2\2\u060b\u060c"+
+		"\7k\2\2\u060c\u060d\7x\2\2\u060d\u060e\7y\2\2\u060e\u00b0\3\2\2\2\u060f"+
+		"\u0610\7k\2\2\u0610\u0611\7o\2\2\u0611\u0612\7w\2\2\u0612\u0613\7n\2\2"+
+		"\u0613\u0614\7y\2\2\u0614\u00b2\3\2\2\2\u0615\u0616\7k\2\2\u0616\u0617"+
+		"\7f\2\2\u0617\u0618\7k\2\2\u0618\u0619\7x\2\2\u0619\u061a\7n\2\2\u061a"+
+		"\u00b4\3\2\2\2\u061b\u061c\7k\2\2\u061c\u061d\7o\2\2\u061d\u061e\7w\2"+
+		"\2\u061e\u061f\7n\2\2\u061f\u0620\7n\2\2\u0620\u00b6\3\2\2\2\u0621\u0622"+
+		"\7k\2\2\u0622\u0623\7f\2\2\u0623\u0624\7k\2\2\u0624\u0625\7x\2\2\u0625"+
+		"\u0626\7s\2\2\u0626\u00b8\3\2\2\2\u0627\u0628\7k\2\2\u0628\u0629\7o\2"+
+		"\2\u0629\u062a\7w\2\2\u062a\u062b\7n\2\2\u062b\u062c\7s\2\2\u062c\u00ba"+
+		"\3\2\2\2\u062d\u062e\7k\2\2\u062e\u062f\7f\2\2\u062f\u0630\7k\2\2\u0630"+
+		"\u0631\7x\2\2\u0631\u00bc\3\2\2\2\u0632\u0633\7k\2\2\u0633\u0634\7o\2"+
+		"\2\u0634\u0635\7w\2\2\u0635\u0636\7n\2\2\u0636\u00be\3\2\2\2\u0637\u0638"+
+		"\7k\2\2\u0638\u0639\7p\2\2\u0639\u063a\7e\2\2\u063a\u063b\7d\2\2\u063b"+
+		"\u00c0\3\2\2\2\u063c\u063d\7f\2\2\u063d\u063e\7g\2\2\u063e\u063f\7e\2"+
+		"\2\u063f\u0640\7d\2\2\u0640\u00c2\3\2\2\2\u0641\u0642\7p\2\2\u0642\u0643"+
+		"\7g\2\2\u0643\u0644\7i\2\2\u0644\u0645\7d\2\2\u0645\u00c4\3\2\2\2\u0646"+
+		"\u0647\7p\2\2\u0647\u0648\7q\2\2\u0648\u0649\7v\2\2\u0649\u064a\7d\2\2"+
+		"\u064a\u00c6\3\2\2\2\u064b\u064c\7f\2\2\u064c\u064d\7k\2\2\u064d\u064e"+
+		"\7x\2\2\u064e\u064f\7d\2\2\u064f\u00c8\3\2\2\2\u0650\u0651\7o\2\2\u0651"+
+		"\u0652\7w\2\2\u0652\u0653\7n\2\2\u0653\u0654\7d\2\2\u0654\u00ca\3\2\2"+
+		"\2\u0655\u0656\7k\2\2\u0656\u0657\7p\2\2\u0657\u0658\7e\2\2\u0658\u0659"+
+		"\7y\2\2\u0659\u00cc\3\2\2\2\u065a\u065b\7f\2\2\u065b\u065c\7g\2\2\u065c"+
+		"\u065d\7e\2\2\u065d\u065e\7y\2\2\u065e\u00ce\3\2\2\2\u065f\u0660\7p\2"+
+		"\2\u0660\u0661\7g\2\2\u0661\u0662\7i\2\2\u0662\u0663\7y\2\2\u0663\u00d0"+
+		"\3\2\2\2\u0664\u0665\7p\2\2\u0665\u0666\7q\2\2\u0666\u0667\7v\2\2\u0667"+
+		"\u0668\7y\2\2\u0668\u00d2\3\2\2\2\u0669\u066a\7f\2\2\u066a\u066b\7k\2"+
+		"\2\u066b\u066c\7x\2\2\u066c\u066d\7y\2\2\u066d\u00d4\3\2\2\2\u066e\u066f"+
+		"\7o\2\2\u066f\u0670\7w\2\2\u0670\u0671\7n\2\2\u0671\u0672\7y\2\2\u0672"+
+		"\u00d6\3\2\2\2\u0673\u0674\7r\2\2\u0674\u0675\7w\2\2\u0675\u0676\7u\2"+
+		"\2\u0676\u0677\7j\2\2\u0677\u0678\7y\2\2\u0678\u00d8\3\2\2\2\u0679\u067a"+
+		"\7r\2\2\u067a\u067b\7q\2\2\u067b\u067c\7r\2\2\u067c\u067d\7y\2\2\u067d"+
+		"\u00da\3\2\2\2\u067e\u067f\7k\2\2\u067f\u0680\7p\2\2\u0680\u0681\7e\2"+
+		"\2\u0681\u0682\7n\2\2\u0682\u00dc\3\2\2\2\u0683\u0684\7f\2\2\u0684\u0685"+
+		"\7g\2\2\u0685\u0686\7e\2\2\u0686\u0687\7n\2\2\u0687\u00de\3\2\2\2\u0688"+
+		"\u0689\7p\2\2\u0689\u068a\7g\2\2\u068a\u068b\7i\2\2\u068b\u068c\7n\2\2"+
+		"\u068c\u00e0\3\2\2\2\u068d\u068e\7p\2\2\u068e\u068f\7q\2\2\u068f\u0690"+
+		"\7v\2\2\u0690\u0691\7n\2\2\u0691\u00e2\3\2\2\2\u0692\u0693\7f\2\2\u0693"+
+		"\u0694\7k\2\2\u0694\u0695\7x\2\2\u0695\u0696\7n\2\2\u0696\u00e4\3\2\2"+
 		"\2\u0697\u0698\7o\2\2\u0698\u0699\7w\2\2\u0699\u069a\7n\2\2\u069a\u069b"+
-		"\7s\2\2\u069b\u00ec\3\2\2\2\u069c\u069d\7d\2\2\u069d\u069e\7u\2\2\u069e"+
-		"\u069f\7y\2\2\u069f\u06a0\7c\2\2\u06a0\u06a1\7r\2\2\u06a1\u06a2\7s\2\2"+
-		"\u06a2\u00ee\3\2\2\2\u06a3\u06a4\7r\2\2\u06a4\u06a5\7w\2\2\u06a5\u06a6"+
-		"\7u\2\2\u06a6\u06a7\7j\2\2\u06a7\u06a8\7s\2\2\u06a8\u00f0\3\2\2\2\u06a9"+
-		"\u06aa\7r\2\2\u06aa\u06ab\7q\2\2\u06ab\u06ac\7r\2\2\u06ac\u06ad\7s\2\2"+
-		"\u06ad\u00f2\3\2\2\2\u06ae\u06af\7k\2\2\u06af\u06b0\7p\2\2\u06b0\u06b1"+
-		"\7e\2\2\u06b1\u00f4\3\2\2\2\u06b2\u06b3\7f\2\2\u06b3\u06b4\7g\2\2\u06b4"+
-		"\u06b5\7e\2\2\u06b5\u00f6\3\2\2\2\u06b6\u06b7\7p\2\2\u06b7\u06b8\7g\2"+
-		"\2\u06b8\u06b9\7i\2\2\u06b9\u00f8\3\2\2\2\u06ba\u06bb\7p\2\2\u06bb\u06bc"+
-		"\7q\2\2\u06bc\u06bd\7v\2\2\u06bd\u00fa\3\2\2\2\u06be\u06bf\7d\2\2\u06bf"+
-		"\u06c0\7u\2\2\u06c0\u06c1\7y\2\2\u06c1\u06c2\7c\2\2\u06c2\u06c3\7r\2\2"+
-		"\u06c3\u00fc\3\2\2\2\u06c4\u06c5\7t\2\2\u06c5\u06c6\7f\2\2\u06c6\u06c7"+
-		"\7t\2\2\u06c7\u06c8\7c\2\2\u06c8\u06c9\7p\2\2\u06c9\u06ca\7f\2\2\u06ca"+
-		"\u00fe\3\2\2\2\u06cb\u06cc\7t\2\2\u06cc\u06cd\7f\2\2\u06cd\u06ce\7u\2"+
-		"\2\u06ce\u06cf\7g\2\2\u06cf\u06d0\7g\2\2\u06d0\u06d1\7f\2\2\u06d1\u0100"+
-		"\3\2\2\2\u06d2\u06d3\7u\2\2\u06d3\u06d4\7g\2\2\u06d4\u06d5\7v\2\2\u06d5"+
-		"\u06d6\7c\2\2\u06d6\u0102\3\2\2\2\u06d7\u06d8\7u\2\2\u06d8\u06d9\7g\2"+
-		"\2\u06d9\u06da\7v\2\2\u06da\u06db\7c\2\2\u06db\u06dc\7g\2\2\u06dc\u0104"+
-		"\3\2\2\2\u06dd\u06de\7u\2\2\u06de\u06df\7g\2\2\u06df\u06e0\7v\2\2\u06e0"+
-		"\u06e1\7d\2\2\u06e1\u0106\3\2\2\2\u06e2\u06e3\7u\2\2\u06e3\u06e4\7g\2"+
-		"\2\u06e4\u06e5\7v\2\2\u06e5\u06e6\7d\2\2\u06e6\u06e7\7g\2\2\u06e7\u0108"+
-		"\3\2\2\2\u06e8\u06e9\7u\2\2\u06e9\u06ea\7g\2\2\u06ea\u06eb\7v\2\2\u06eb"+
-		"\u06ec\7e\2\2\u06ec\u010a\3\2\2\2\u06ed\u06ee\7u\2\2\u06ee\u06ef\7g\2"+
-		"\2\u06ef\u06f0\7v\2\2\u06f0\u06f1\7g\2\2\u06f1\u010c\3\2\2\2\u06f2\u06f3"+
-		"\7u\2\2\u06f3\u06f4\7g\2\2\u06f4\u06f5\7v\2\2\u06f5\u06f6\7i\2\2\u06f6"+
-		"\u010e\3\2\2\2\u06f7\u06f8\7u\2\2\u06f8\u06f9\7g\2\2\u06f9\u06fa\7v\2"+
-		"\2\u06fa\u06fb\7i\2\2\u06fb\u06fc\7g\2\2\u06fc\u0110\3\2\2\2\u06fd\u06fe"+
-		"\7u\2\2\u06fe\u06ff\7g\2\2\u06ff\u0700\7v\2\2\u0700\u0701\7n\2\2\u0701"+
-		"\u0112\3\2\2\2\u0702\u0703\7u\2\2\u0703\u0704\7g\2\2\u0704\u0705\7v\2"+
-		"\2\u0705\u0706\7n\2\2\u0706\u0707\7g\2\2\u0707\u0114\3\2\2\2\u0708\u0709"+
-		"\7u\2\2\u0709\u070a\7g\2\2\u070a\u070b\7v\2\2\u070b\u070c\7p\2\2\u070c"+
-		"\u070d\7c\2\2\u070d\u0116\3\2\2\2\u070e\u070f\7u\2\2\u070f\u0710\7g\2"+
-		"\2\u0710\u0711\7v\2\2\u0711\u0712\7p\2\2\u0712\u0713\7c\2\2\u0713\u0714"+
-		"\7g\2\2\u0714\u0118\3\2\2\2\u0715\u0716\7u\2\2\u0716\u0717\7g\2\2\u0717"+
-		"\u0718\7v\2\2\u0718\u0719\7p\2\2\u0719\u071a\7d\2\2\u071a\u011a\3\2\2"+
-		"\2\u071b\u071c\7u\2\2\u071c\u071d\7g\2\2\u071d\u071e\7v\2\2\u071e\u071f"+
-		"\7p\2\2\u071f\u0720\7d\2\2\u0720\u0721\7g\2\2\u0721\u011c\3\2\2\2\u0722"+
-		"\u0723\7u\2\2\u0723\u0724\7g\2\2\u0724\u0725\7v\2\2\u0725\u0726\7p\2\2"+
-		"\u0726\u0727\7e\2\2\u0727\u011e\3\2\2\2\u0728\u0729\7u\2\2\u0729\u072a"+
-		"\7g\2\2\u072a\u072b\7v\2\2\u072b\u072c\7p\2\2\u072c\u072d\7g\2\2\u072d"+
-		"\u0120\3\2\2\2\u072e\u072f\7u\2\2\u072f\u0730\7g\2\2\u0730\u0731\7v\2"+
-		"\2\u0731\u0732\7p\2\2\u0732\u0733\7i\2\2\u0733\u0122\3\2\2\2\u0734\u0735"+
-		"\7u\2\2\u0735\u0736\7g\2\2\u0736\u0737\7v\2\2\u0737\u0738\7p\2\2\u0738"+
-		"\u0739\7i\2\2\u0739\u073a\7g\2\2\u073a\u0124\3\2\2\2\u073b\u073c\7u\2"+
-		"\2\u073c\u073d\7g\2\2\u073d\u073e\7v\2\2\u073e\u073f\7p\2\2\u073f\u0740"+
-		"\7n\2\2\u0740\u0126\3\2\2\2\u0741\u0742\7u\2\2\u0742\u0743\7g\2\2\u0743"+
-		"\u0744\7v\2\2\u0744\u0745\7p\2\2\u0745\u0746\7n\2\2\u0746\u0747\7g\2\2"+
-		"\u0747\u0128\3\2\2\2\u0748\u0749\7u\2\2\u0749\u074a\7g\2\2\u074a\u074b"+
-		"\7v\2\2\u074b\u074c\7p\2\2\u074c\u074d\7q\2\2\u074d\u012a\3\2\2\2\u074e"+
-		"\u074f\7u\2\2\u074f\u0750\7g\2\2\u0750\u0751\7v\2\2\u0751\u0752\7p\2\2"+
-		"\u0752\u0753\7r\2\2\u0753\u012c\3\2\2\2\u0754\u0755\7u\2\2\u0755\u0756"+
-		"\7g\2\2\u0756\u0757\7v\2\2\u0757\u0758\7p\2\2\u0758\u0759\7u\2\2\u0759"+
-		"\u012e\3\2\2\2\u075a\u075b\7u\2\2\u075b\u075c\7g\2\2\u075c\u075d\7v\2"+
-		"\2\u075d\u075e\7p\2\2\u075e\u075f\7|\2\2\u075f\u0130\3\2\2\2\u0760\u0761"+
-		"\7u\2\2\u0761\u0762\7g\2\2\u0762\u0763\7v\2\2\u0763\u0764\7q\2\2\u0764"+
-		"\u0132\3\2\2\2\u0765\u0766\7u\2\2\u0766\u0767\7g\2\2\u0767\u0768\7v\2"+
-		"\2\u0768\u0769\7r\2\2\u0769\u0134\3\2\2\2\u076a\u076b\7u\2\2\u076b\u076c"+
-		"\7g\2\2\u076c\u076d\7v\2\2\u076d\u076e\7r\2\2\u076e\u076f\7g\2\2\u076f"+
-		"\u0136\3\2\2\2\u0770\u0771\7u\2\2\u0771\u0772\7g\2\2\u0772\u0773\7v\2"+
-		"\2\u0773\u0774\7r\2\2\u0774\u0775\7q\2\2\u0775\u0138\3\2\2\2\u0776\u0777"+
-		"\7u\2\2\u0777\u0778\7g\2\2\u0778\u0779\7v\2\2\u0779\u077a\7u\2\2\u077a"+
-		"\u013a\3\2\2\2\u077b\u077c\7u\2\2\u077c\u077d\7g\2\2\u077d\u077e\7v\2"+
-		"\2\u077e\u077f\7|\2\2\u077f\u013c\3\2\2\2\u0780\u0781\7r\2\2\u0781\u0782"+
-		"\7w\2\2\u0782\u0783\7u\2\2\u0783\u0784\7j\2\2\u0784\u013e\3\2\2\2\u0785"+
-		"\u0786\7r\2\2\u0786\u0787\7q\2\2\u0787\u0788\7r\2\2\u0788\u0140\3\2\2"+
-		"\2\u0789\u078a\7e\2\2\u078a\u078b\7o\2\2\u078b\u078c\7r\2\2\u078c\u078d"+
-		"\7z\2\2\u078d\u078e\7e\2\2\u078e\u078f\7j\2\2\u078f\u0790\7i\2\2\u0790"+
-		"\u0791\7:\2\2\u0791\u0792\7d\2\2\u0792\u0142\3\2\2\2\u0793\u0794\7e\2"+
-		"\2\u0794\u0795\7o\2\2\u0795\u0796\7r\2\2\u0796\u0797\7z\2\2\u0797\u0798"+
-		"\7e\2\2\u0798\u0799\7j\2\2\u0799\u079a\7i\2\2\u079a\u079b\7\63\2\2\u079b"+
-		"\u079c\78\2\2\u079c\u079d\7d\2\2\u079d\u0144\3\2\2\2\u079e\u079f\7o\2"+
-		"\2\u079f\u07a0\7q\2\2\u07a0\u07a1\7x\2\2\u07a1\u07a2\7d\2\2\u07a2\u0146"+
-		"\3\2\2\2\u07a3\u07a4\7z\2\2\u07a4\u07a5\7c\2\2\u07a5\u07a6\7f\2\2\u07a6"+
-		"\u07a7\7f\2\2\u07a7\u07a8\7d\2\2\u07a8\u0148\3\2\2\2\u07a9\u07aa\7z\2"+
-		"\2\u07aa\u07ab\7e\2\2\u07ab\u07ac\7j\2\2\u07ac\u07ad\7i\2\2\u07ad\u07ae"+
-		"\7d\2\2\u07ae\u014a\3\2\2\2\u07af\u07b0\7c\2\2\u07b0\u07b1\7f\2\2\u07b1"+
-		"\u07b2\7e\2\2\u07b2\u07b3\7d\2\2\u07b3\u014c\3\2\2\2\u07b4\u07b5\7c\2"+
-		"\2\u07b5\u07b6\7f\2\2\u07b6\u07b7\7f\2\2\u07b7\u07b8\7d\2\2\u07b8\u014e"+
+		"\7n\2\2\u069b\u00e6\3\2\2\2\u069c\u069d\7d\2\2\u069d\u069e\7u\2\2\u069e"+
+		"\u069f\7y\2\2\u069f\u06a0\7c\2\2\u06a0\u06a1\7r\2\2\u06a1\u06a2\7n\2\2"+
+		"\u06a2\u00e8\3\2\2\2\u06a3\u06a4\7r\2\2\u06a4\u06a5\7w\2\2\u06a5\u06a6"+
+		"\7u\2\2\u06a6\u06a7\7j\2\2\u06a7\u06a8\7n\2\2\u06a8\u00ea\3\2\2\2\u06a9"+
+		"\u06aa\7r\2\2\u06aa\u06ab\7q\2\2\u06ab\u06ac\7r\2\2\u06ac\u06ad\7n\2\2"+
+		"\u06ad\u00ec\3\2\2\2\u06ae\u06af\7k\2\2\u06af\u06b0\7p\2\2\u06b0\u06b1"+
+		"\7e\2\2\u06b1\u06b2\7s\2\2\u06b2\u00ee\3\2\2\2\u06b3\u06b4\7f\2\2\u06b4"+
+		"\u06b5\7g\2\2\u06b5\u06b6\7e\2\2\u06b6\u06b7\7s\2\2\u06b7\u00f0\3\2\2"+
+		"\2\u06b8\u06b9\7p\2\2\u06b9\u06ba\7g\2\2\u06ba\u06bb\7i\2\2\u06bb\u06bc"+
+		"\7s\2\2\u06bc\u00f2\3\2\2\2\u06bd\u06be\7p\2\2\u06be\u06bf\7q\2\2\u06bf"+
+		"\u06c0\7v\2\2\u06c0\u06c1\7s\2\2\u06c1\u00f4\3\2\2\2\u06c2\u06c3\7f\2"+
+		"\2\u06c3\u06c4\7k\2\2\u06c4\u06c5\7x\2\2\u06c5\u06c6\7s\2\2\u06c6\u00f6"+
+		"\3\2\2\2\u06c7\u06c8\7o\2\2\u06c8\u06c9\7w\2\2\u06c9\u06ca\7n\2\2\u06ca"+
+		"\u06cb\7s\2\2\u06cb\u00f8\3\2\2\2\u06cc\u06cd\7d\2\2\u06cd\u06ce\7u\2"+
+		"\2\u06ce\u06cf\7y\2\2\u06cf\u06d0\7c\2\2\u06d0\u06d1\7r\2\2\u06d1\u06d2"+
+		"\7s\2\2\u06d2\u00fa\3\2\2\2\u06d3\u06d4\7r\2\2\u06d4\u06d5\7w\2\2\u06d5"+
+		"\u06d6\7u\2\2\u06d6\u06d7\7j\2\2\u06d7\u06d8\7s\2\2\u06d8\u00fc\3\2\2"+
+		"\2\u06d9\u06da\7r\2\2\u06da\u06db\7q\2\2\u06db\u06dc\7r\2\2\u06dc\u06dd"+
+		"\7s\2\2\u06dd\u00fe\3\2\2\2\u06de\u06df\7k\2\2\u06df\u06e0\7p\2\2\u06e0"+
+		"\u06e1\7e\2\2\u06e1\u0100\3\2\2\2\u06e2\u06e3\7f\2\2\u06e3\u06e4\7g\2"+
+		"\2\u06e4\u06e5\7e\2\2\u06e5\u0102\3\2\2\2\u06e6\u06e7\7p\2\2\u06e7\u06e8"+
+		"\7g\2\2\u06e8\u06e9\7i\2\2\u06e9\u0104\3\2\2\2\u06ea\u06eb\7p\2\2\u06eb"+
+		"\u06ec\7q\2\2\u06ec\u06ed\7v\2\2\u06ed\u0106\3\2\2\2\u06ee\u06ef\7d\2"+
+		"\2\u06ef\u06f0\7u\2\2\u06f0\u06f1\7y\2\2\u06f1\u06f2\7c\2\2\u06f2\u06f3"+
+		"\7r\2\2\u06f3\u0108\3\2\2\2\u06f4\u06f5\7t\2\2\u06f5\u06f6\7f\2\2\u06f6"+
+		"\u06f7\7t\2\2\u06f7\u06f8\7c\2\2\u06f8\u06f9\7p\2\2\u06f9\u06fa\7f\2\2"+
+		"\u06fa\u010a\3\2\2\2\u06fb\u06fc\7t\2\2\u06fc\u06fd\7f\2\2\u06fd\u06fe"+
+		"\7u\2\2\u06fe\u06ff\7g\2\2\u06ff\u0700\7g\2\2\u0700\u0701\7f\2\2\u0701"+
+		"\u010c\3\2\2\2\u0702\u0703\7u\2\2\u0703\u0704\7g\2\2\u0704\u0705\7v\2"+
+		"\2\u0705\u0706\7c\2\2\u0706\u010e\3\2\2\2\u0707\u0708\7u\2\2\u0708\u0709"+
+		"\7g\2\2\u0709\u070a\7v\2\2\u070a\u070b\7c\2\2\u070b\u070c\7g\2\2\u070c"+
+		"\u0110\3\2\2\2\u070d\u070e\7u\2\2\u070e\u070f\7g\2\2\u070f\u0710\7v\2"+
+		"\2\u0710\u0711\7d\2\2\u0711\u0112\3\2\2\2\u0712\u0713\7u\2\2\u0713\u0714"+
+		"\7g\2\2\u0714\u0715\7v\2\2\u0715\u0716\7d\2\2\u0716\u0717\7g\2\2\u0717"+
+		"\u0114\3\2\2\2\u0718\u0719\7u\2\2\u0719\u071a\7g\2\2\u071a\u071b\7v\2"+
+		"\2\u071b\u071c\7e\2\2\u071c\u0116\3\2\2\2\u071d\u071e\7u\2\2\u071e\u071f"+
+		"\7g\2\2\u071f\u0720\7v\2\2\u0720\u0721\7g\2\2\u0721\u0118\3\2\2\2\u0722"+
+		"\u0723\7u\2\2\u0723\u0724\7g\2\2\u0724\u0725\7v\2\2\u0725\u0726\7i\2\2"+
+		"\u0726\u011a\3\2\2\2\u0727\u0728\7u\2\2\u0728\u0729\7g\2\2\u0729\u072a"+
+		"\7v\2\2\u072a\u072b\7i\2\2\u072b\u072c\7g\2\2\u072c\u011c\3\2\2\2\u072d"+
+		"\u072e\7u\2\2\u072e\u072f\7g\2\2\u072f\u0730\7v\2\2\u0730\u0731\7n\2\2"+
+		"\u0731\u011e\3\2\2\2\u0732\u0733\7u\2\2\u0733\u0734\7g\2\2\u0734\u0735"+
+		"\7v\2\2\u0735\u0736\7n\2\2\u0736\u0737\7g\2\2\u0737\u0120\3\2\2\2\u0738"+
+		"\u0739\7u\2\2\u0739\u073a\7g\2\2\u073a\u073b\7v\2\2\u073b\u073c\7p\2\2"+
+		"\u073c\u073d\7c\2\2\u073d\u0122\3\2\2\2\u073e\u073f\7u\2\2\u073f\u0740"+
+		"\7g\2\2\u0740\u0741\7v\2\2\u0741\u0742\7p\2\2\u0742\u0743\7c\2\2\u0743"+
+		"\u0744\7g\2\2\u0744\u0124\3\2\2\2\u0745\u0746\7u\2\2\u0746\u0747\7g\2"+
+		"\2\u0747\u0748\7v\2\2\u0748\u0749\7p\2\2\u0749\u074a\7d\2\2\u074a\u0126"+
+		"\3\2\2\2\u074b\u074c\7u\2\2\u074c\u074d\7g\2\2\u074d\u074e\7v\2\2\u074e"+
+		"\u074f\7p\2\2\u074f\u0750\7d\2\2\u0750\u0751\7g\2\2\u0751\u0128\3\2\2"+
+		"\2\u0752\u0753\7u\2\2\u0753\u0754\7g\2\2\u0754\u0755\7v\2\2\u0755\u0756"+
+		"\7p\2\2\u0756\u0757\7e\2\2\u0757\u012a\3\2\2\2\u0758\u0759\7u\2\2\u0759"+
+		"\u075a\7g\2\2\u075a\u075b\7v\2\2\u075b\u075c\7p\2\2\u075c\u075d\7g\2\2"+
+		"\u075d\u012c\3\2\2\2\u075e\u075f\7u\2\2\u075f\u0760\7g\2\2\u0760\u0761"+
+		"\7v\2\2\u0761\u0762\7p\2\2\u0762\u0763\7i\2\2\u0763\u012e\3\2\2\2\u0764"+
+		"\u0765\7u\2\2\u0765\u0766\7g\2\2\u0766\u0767\7v\2\2\u0767\u0768\7p\2\2"+
+		"\u0768\u0769\7i\2\2\u0769\u076a\7g\2\2\u076a\u0130\3\2\2\2\u076b\u076c"+
+		"\7u\2\2\u076c\u076d\7g\2\2\u076d\u076e\7v\2\2\u076e\u076f\7p\2\2\u076f"+
+		"\u0770\7n\2\2\u0770\u0132\3\2\2\2\u0771\u0772\7u\2\2\u0772\u0773\7g\2"+
+		"\2\u0773\u0774\7v\2\2\u0774\u0775\7p\2\2\u0775\u0776\7n\2\2\u0776\u0777"+
+		"\7g\2\2\u0777\u0134\3\2\2\2\u0778\u0779\7u\2\2\u0779\u077a\7g\2\2\u077a"+
+		"\u077b\7v\2\2\u077b\u077c\7p\2\2\u077c\u077d\7q\2\2\u077d\u0136\3\2\2"+
+		"\2\u077e\u077f\7u\2\2\u077f\u0780\7g\2\2\u0780\u0781\7v\2\2\u0781\u0782"+
+		"\7p\2\2\u0782\u0783\7r\2\2\u0783\u0138\3\2\2\2\u0784\u0785\7u\2\2\u0785"+
+		"\u0786\7g\2\2\u0786\u0787\7v\2\2\u0787\u0788\7p\2\2\u0788\u0789\7u\2\2"+
+		"\u0789\u013a\3\2\2\2\u078a\u078b\7u\2\2\u078b\u078c\7g\2\2\u078c\u078d"+
+		"\7v\2\2\u078d\u078e\7p\2\2\u078e\u078f\7|\2\2\u078f\u013c\3\2\2\2\u0790"+
+		"\u0791\7u\2\2\u0791\u0792\7g\2\2\u0792\u0793\7v\2\2\u0793\u0794\7q\2\2"+
+		"\u0794\u013e\3\2\2\2\u0795\u0796\7u\2\2\u0796\u0797\7g\2\2\u0797\u0798"+
+		"\7v\2\2\u0798\u0799\7r\2\2\u0799\u0140\3\2\2\2\u079a\u079b\7u\2\2\u079b"+
+		"\u079c\7g\2\2\u079c\u079d\7v\2\2\u079d\u079e\7r\2\2\u079e\u079f\7g\2\2"+
+		"\u079f\u0142\3\2\2\2\u07a0\u07a1\7u\2\2\u07a1\u07a2\7g\2\2\u07a2\u07a3"+
+		"\7v\2\2\u07a3\u07a4\7r\2\2\u07a4\u07a5\7q\2\2\u07a5\u0144\3\2\2\2\u07a6"+
+		"\u07a7\7u\2\2\u07a7\u07a8\7g\2\2\u07a8\u07a9\7v\2\2\u07a9\u07aa\7u\2\2"+
+		"\u07aa\u0146\3\2\2\2\u07ab\u07ac\7u\2\2\u07ac\u07ad\7g\2\2\u07ad\u07ae"+
+		"\7v\2\2\u07ae\u07af\7|\2\2\u07af\u0148\3\2\2\2\u07b0\u07b1\7r\2\2\u07b1"+
+		"\u07b2\7w\2\2\u07b2\u07b3\7u\2\2\u07b3\u07b4\7j\2\2\u07b4\u014a\3\2\2"+
+		"\2\u07b5\u07b6\7r\2\2\u07b6\u07b7\7q\2\2\u07b7\u07b8\7r\2\2\u07b8\u014c"+
 		"\3\2\2\2\u07b9\u07ba\7e\2\2\u07ba\u07bb\7o\2\2\u07bb\u07bc\7r\2\2\u07bc"+
-		"\u07bd\7d\2\2\u07bd\u0150\3\2\2\2\u07be\u07bf\7u\2\2\u07bf\u07c0\7d\2"+
-		"\2\u07c0\u07c1\7d\2\2\u07c1\u07c2\7d\2\2\u07c2\u0152\3\2\2\2\u07c3\u07c4"+
-		"\7u\2\2\u07c4\u07c5\7w\2\2\u07c5\u07c6\7d\2\2\u07c6\u07c7\7d\2\2\u07c7"+
-		"\u0154\3\2\2\2\u07c8\u07c9\7c\2\2\u07c9\u07ca\7p\2\2\u07ca\u07cb\7f\2"+
-		"\2\u07cb\u07cc\7d\2\2\u07cc\u0156\3\2\2\2\u07cd\u07ce\7q\2\2\u07ce\u07cf"+
-		"\7t\2\2\u07cf\u07d0\7d\2\2\u07d0\u0158\3\2\2\2\u07d1\u07d2\7z\2\2\u07d2"+
-		"\u07d3\7q\2\2\u07d3\u07d4\7t\2\2\u07d4\u07d5\7d\2\2\u07d5\u015a\3\2\2"+
-		"\2\u07d6\u07d7\7t\2\2\u07d7\u07d8\7e\2\2\u07d8\u07d9\7n\2\2\u07d9\u07da"+
-		"\7d\2\2\u07da\u015c\3\2\2\2\u07db\u07dc\7t\2\2\u07dc\u07dd\7e\2\2\u07dd"+
-		"\u07de\7t\2\2\u07de\u07df\7d\2\2\u07df\u015e\3\2\2\2\u07e0\u07e1\7t\2"+
-		"\2\u07e1\u07e2\7q\2\2\u07e2\u07e3\7n\2\2\u07e3\u07e4\7d\2\2\u07e4\u0160"+
-		"\3\2\2\2\u07e5\u07e6\7t\2\2\u07e6\u07e7\7q\2\2\u07e7\u07e8\7t\2\2\u07e8"+
-		"\u07e9\7d\2\2\u07e9\u0162\3\2\2\2\u07ea\u07eb\7u\2\2\u07eb\u07ec\7c\2"+
-		"\2\u07ec\u07ed\7n\2\2\u07ed\u07ee\7d\2\2\u07ee\u0164\3\2\2\2\u07ef\u07f0"+
-		"\7u\2\2\u07f0\u07f1\7c\2\2\u07f1\u07f2\7t\2\2\u07f2\u07f3\7d\2\2\u07f3"+
-		"\u0166\3\2\2\2\u07f4";
+		"\u07bd\7z\2\2\u07bd\u07be\7e\2\2\u07be\u07bf\7j\2\2\u07bf\u07c0\7i\2\2"+
+		"\u07c0\u07c1\7:\2\2\u07c1\u07c2\7d\2\2\u07c2\u014e\3\2\2\2\u07c3\u07c4"+
+		"\7e\2\2\u07c4\u07c5\7o\2\2\u07c5\u07c6\7r\2\2\u07c6\u07c7\7z\2\2\u07c7"+
+		"\u07c8\7e\2\2\u07c8\u07c9\7j\2\2\u07c9\u07ca\7i\2\2\u07ca\u07cb\7\63\2"+
+		"\2\u07cb\u07cc\78\2\2\u07cc\u07cd\7d\2\2\u07cd\u0150\3\2\2\2\u07ce\u07cf"+
+		"\7o\2\2\u07cf\u07d0\7q\2\2\u07d0\u07d1\7x\2\2\u07d1\u07d2\7d\2\2\u07d2"+
+		"\u0152\3\2\2\2\u07d3\u07d4\7z\2\2\u07d4\u07d5\7c\2\2\u07d5\u07d6\7f\2"+
+		"\2\u07d6\u07d7\7f\2\2\u07d7\u07d8\7d\2\2\u07d8\u0154\3\2\2\2\u07d9\u07da"+
+		"\7z\2\2\u07da\u07db\7e\2\2\u07db\u07dc\7j\2\2\u07dc\u07dd\7i\2\2\u07dd"+
+		"\u07de\7d\2\2\u07de\u0156\3\2\2\2\u07df\u07e0\7c\2\2\u07e0\u07e1\7f\2"+
+		"\2\u07e1\u07e2\7e\2\2\u07e2";
 	private static final String _serializedATNSegment1 =
-		"\u07f5\7u\2\2\u07f5\u07f6\7j\2\2\u07f6\u07f7\7n\2\2\u07f7\u07f8\7d\2\2"+
-		"\u07f8\u0168\3\2\2\2\u07f9\u07fa\7u\2\2\u07fa\u07fb\7j\2\2\u07fb\u07fc"+
-		"\7t\2\2\u07fc\u07fd\7d\2\2\u07fd\u016a\3\2\2\2\u07fe\u07ff\7v\2\2\u07ff"+
-		"\u0800\7g\2\2\u0800\u0801\7u\2\2\u0801\u0802\7v\2\2\u0802\u0803\7d\2\2"+
-		"\u0803\u016c\3\2\2\2\u0804\u0805\7e\2\2\u0805\u0806\7o\2\2\u0806\u0807"+
-		"\7r\2\2\u0807\u0808\7z\2\2\u0808\u0809\7e\2\2\u0809\u080a\7j\2\2\u080a"+
-		"\u080b\7i\2\2\u080b\u080c\7d\2\2\u080c\u016e\3\2\2\2\u080d\u080e\7e\2"+
-		"\2\u080e\u080f\7o\2\2\u080f\u0810\7q\2\2\u0810\u0811\7x\2\2\u0811\u0812"+
-		"\7c\2\2\u0812\u0813\7y\2\2\u0813\u0170\3\2\2\2\u0814\u0815\7e\2\2\u0815"+
-		"\u0816\7o\2\2\u0816\u0817\7q\2\2\u0817\u0818\7x\2\2\u0818\u0819\7c\2\2"+
-		"\u0819\u081a\7g\2\2\u081a\u081b\7y\2\2\u081b\u0172\3\2\2\2\u081c\u081d"+
-		"\7e\2\2\u081d\u081e\7o\2\2\u081e\u081f\7q\2\2\u081f\u0820\7x\2\2\u0820"+
-		"\u0821\7d\2\2\u0821\u0822\7y\2\2\u0822\u0174\3\2\2\2\u0823\u0824\7e\2"+
-		"\2\u0824\u0825\7o\2\2\u0825\u0826\7q\2\2\u0826\u0827\7x\2\2\u0827\u0828"+
-		"\7d\2\2\u0828\u0829\7g\2\2\u0829\u082a\7y\2\2\u082a\u0176\3\2\2\2\u082b"+
-		"\u082c\7e\2\2\u082c\u082d\7o\2\2\u082d\u082e\7q\2\2\u082e\u082f\7x\2\2"+
-		"\u082f\u0830\7e\2\2\u0830\u0831\7y\2\2\u0831\u0178\3\2\2\2\u0832\u0833"+
-		"\7e\2\2\u0833\u0834\7o\2\2\u0834\u0835\7q\2\2\u0835\u0836\7x\2\2\u0836"+
-		"\u0837\7g\2\2\u0837\u0838\7y\2\2\u0838\u017a\3\2\2\2\u0839\u083a\7e\2"+
-		"\2\u083a\u083b\7o\2\2\u083b\u083c\7q\2\2\u083c\u083d\7x\2\2\u083d\u083e"+
-		"\7i\2\2\u083e\u083f\7y\2\2\u083f\u017c\3\2\2\2\u0840\u0841\7e\2\2\u0841"+
-		"\u0842\7o\2\2\u0842\u0843\7q\2\2\u0843\u0844\7x\2\2\u0844\u0845\7i\2\2"+
-		"\u0845\u0846\7g\2\2\u0846\u0847\7y\2\2\u0847\u017e\3\2\2\2\u0848\u0849"+
-		"\7e\2\2\u0849\u084a\7o\2\2\u084a\u084b\7q\2\2\u084b\u084c\7x\2\2\u084c"+
-		"\u084d\7n\2\2\u084d\u084e\7y\2\2\u084e\u0180\3\2\2\2\u084f\u0850\7e\2"+
-		"\2\u0850\u0851\7o\2\2\u0851\u0852\7q\2\2\u0852\u0853\7x\2\2\u0853\u0854"+
-		"\7n\2\2\u0854\u0855\7g\2\2\u0855\u0856\7y\2\2\u0856\u0182\3\2\2\2\u0857"+
-		"\u0858\7e\2\2\u0858\u0859\7o\2\2\u0859\u085a\7q\2\2\u085a\u085b\7x\2\2"+
-		"\u085b\u085c\7p\2\2\u085c\u085d\7c\2\2\u085d\u085e\7y\2\2\u085e\u0184"+
-		"\3\2\2\2\u085f\u0860\7e\2\2\u0860\u0861\7o\2\2\u0861\u0862\7q\2\2\u0862"+
-		"\u0863\7x\2\2\u0863\u0864\7p\2\2\u0864\u0865\7c\2\2\u0865\u0866\7g\2\2"+
-		"\u0866\u0867\7y\2\2\u0867\u0186\3\2\2\2\u0868\u0869\7e\2\2\u0869\u086a"+
-		"\7o\2\2\u086a\u086b\7q\2\2\u086b\u086c\7x\2\2\u086c\u086d\7p\2\2\u086d"+
-		"\u086e\7d\2\2\u086e\u086f\7y\2\2\u086f\u0188\3\2\2\2\u0870\u0871\7e\2"+
-		"\2\u0871\u0872\7o\2\2\u0872\u0873\7q\2\2\u0873\u0874\7x\2\2\u0874\u0875"+
-		"\7p\2\2\u0875\u0876\7d\2\2\u0876\u0877\7g\2\2\u0877\u0878\7y\2\2\u0878"+
-		"\u018a\3\2\2\2\u0879\u087a\7e\2\2\u087a\u087b\7o\2\2\u087b\u087c\7q\2"+
-		"\2\u087c\u087d\7x\2\2\u087d\u087e\7p\2\2\u087e\u087f\7e\2\2\u087f\u0880"+
-		"\7y\2\2\u0880\u018c\3\2\2\2\u0881\u0882\7e\2\2\u0882\u0883\7o\2\2\u0883"+
-		"\u0884\7q\2\2\u0884\u0885\7x\2\2\u0885\u0886\7p\2\2\u0886\u0887\7g\2\2"+
-		"\u0887\u0888\7y\2\2\u0888\u018e\3\2\2\2\u0889\u088a\7e\2\2\u088a\u088b"+
-		"\7o\2\2\u088b\u088c\7q\2\2\u088c\u088d\7x\2\2\u088d\u088e\7p\2\2\u088e"+
-		"\u088f\7i\2\2\u088f\u0890\7y\2\2\u0890\u0190\3\2\2\2\u0891\u0892\7e\2"+
-		"\2\u0892\u0893\7o\2\2\u0893\u0894\7q\2\2\u0894\u0895\7x\2\2\u0895\u0896"+
-		"\7p\2\2\u0896\u0897\7i\2\2\u0897\u0898\7g\2\2\u0898\u0899\7y\2\2\u0899"+
-		"\u0192\3\2\2\2\u089a\u089b\7e\2\2\u089b\u089c\7o\2\2\u089c\u089d\7q\2"+
-		"\2\u089d\u089e\7x\2\2\u089e\u089f\7p\2\2\u089f\u08a0\7n\2\2\u08a0\u08a1"+
-		"\7y\2\2\u08a1\u0194\3\2\2\2\u08a2\u08a3\7e\2\2\u08a3\u08a4\7o\2\2\u08a4"+
-		"\u08a5\7q\2\2\u08a5\u08a6\7x\2\2\u08a6\u08a7\7p\2\2\u08a7\u08a8\7n\2\2"+
-		"\u08a8\u08a9\7g\2\2\u08a9\u08aa\7y\2\2\u08aa\u0196\3\2\2\2\u08ab\u08ac"+
-		"\7e\2\2\u08ac\u08ad\7o\2\2\u08ad\u08ae\7q\2\2\u08ae\u08af\7x\2\2\u08af"+
-		"\u08b0\7p\2\2\u08b0\u08b1\7q\2\2\u08b1\u08b2\7y\2\2\u08b2\u0198\3\2\2"+
-		"\2\u08b3\u08b4\7e\2\2\u08b4\u08b5\7o\2\2\u08b5\u08b6\7q\2\2\u08b6\u08b7"+
-		"\7x\2\2\u08b7\u08b8\7p\2\2\u08b8\u08b9\7r\2\2\u08b9\u08ba\7y\2\2\u08ba"+
-		"\u019a\3\2\2\2\u08bb\u08bc\7e\2\2\u08bc\u08bd\7o\2\2\u08bd\u08be\7q\2"+
-		"\2\u08be\u08bf\7x\2\2\u08bf\u08c0\7p\2\2\u08c0\u08c1\7u\2\2\u08c1\u08c2"+
-		"\7y\2\2\u08c2\u019c\3\2\2\2\u08c3\u08c4\7e\2\2\u08c4\u08c5\7o\2\2\u08c5"+
-		"\u08c6\7q\2\2\u08c6\u08c7\7x\2\2\u08c7\u08c8\7p\2\2\u08c8\u08c9\7|\2\2"+
-		"\u08c9\u08ca\7y\2\2\u08ca\u019e\3\2\2\2\u08cb\u08cc\7e\2\2\u08cc\u08cd"+
-		"\7o\2\2\u08cd\u08ce\7q\2\2\u08ce\u08cf\7x\2\2\u08cf\u08d0\7q\2\2\u08d0"+
-		"\u08d1\7y\2\2\u08d1\u01a0\3\2\2\2\u08d2\u08d3\7e\2\2\u08d3\u08d4\7o\2"+
-		"\2\u08d4\u08d5\7q\2\2\u08d5\u08d6\7x\2\2\u08d6\u08d7\7r\2\2\u08d7\u08d8"+
-		"\7y\2\2\u08d8\u01a2\3\2\2\2\u08d9\u08da\7e\2\2\u08da\u08db\7o\2\2\u08db"+
-		"\u08dc\7q\2\2\u08dc\u08dd\7x\2\2\u08dd\u08de\7r\2\2\u08de\u08df\7g\2\2"+
-		"\u08df\u08e0\7y\2\2\u08e0\u01a4\3\2\2\2\u08e1\u08e2\7e\2\2\u08e2\u08e3"+
-		"\7o\2\2\u08e3\u08e4\7q\2\2\u08e4\u08e5\7x\2\2\u08e5\u08e6\7r\2\2\u08e6"+
-		"\u08e7\7q\2\2\u08e7\u08e8\7y\2\2\u08e8\u01a6\3\2\2\2\u08e9\u08ea\7e\2"+
-		"\2\u08ea\u08eb\7o\2\2\u08eb\u08ec\7q\2\2\u08ec\u08ed\7x\2\2\u08ed\u08ee"+
-		"\7u\2\2\u08ee\u08ef\7y\2\2\u08ef\u01a8\3\2\2\2\u08f0\u08f1\7e\2\2\u08f1"+
-		"\u08f2\7o\2\2\u08f2\u08f3\7q\2\2\u08f3\u08f4\7x\2\2\u08f4\u08f5\7|\2\2"+
-		"\u08f5\u08f6\7y\2\2\u08f6\u01aa\3\2\2\2\u08f7\u08f8\7e\2\2\u08f8\u08f9"+
-		"\7o\2\2\u08f9\u08fa\7r\2\2\u08fa\u08fb\7z\2\2\u08fb\u08fc\7e\2\2\u08fc"+
-		"\u08fd\7j\2\2\u08fd\u08fe\7i\2\2\u08fe\u08ff\7y\2\2\u08ff\u01ac\3\2\2"+
-		"\2\u0900\u0901\7o\2\2\u0901\u0902\7q\2\2\u0902\u0903\7x\2\2\u0903\u0904"+
-		"\7y\2\2\u0904\u01ae\3\2\2\2\u0905\u0906\7z\2\2\u0906\u0907\7c\2\2\u0907"+
-		"\u0908\7f\2\2\u0908\u0909\7f\2\2\u0909\u090a\7y\2\2\u090a\u01b0\3\2\2"+
-		"\2\u090b\u090c\7z\2\2\u090c\u090d\7e\2\2\u090d\u090e\7j\2\2\u090e\u090f"+
-		"\7i\2\2\u090f\u0910\7y\2\2\u0910\u01b2\3\2\2\2\u0911\u0912\7c\2\2\u0912"+
-		"\u0913\7f\2\2\u0913\u0914\7e\2\2\u0914\u0915\7y\2\2\u0915\u01b4\3\2\2"+
-		"\2\u0916\u0917\7c\2\2\u0917\u0918\7f\2\2\u0918\u0919\7f\2\2\u0919\u091a"+
-		"\7y\2\2\u091a\u01b6\3\2\2\2\u091b\u091c\7e\2\2\u091c\u091d\7o\2\2\u091d"+
-		"\u091e\7r\2\2\u091e\u091f\7y\2\2\u091f\u01b8\3\2\2\2\u0920\u0921\7u\2"+
-		"\2\u0921\u0922\7d\2\2\u0922\u0923\7d\2\2\u0923\u0924\7y\2\2\u0924\u01ba"+
-		"\3\2\2\2\u0925\u0926\7u\2\2\u0926\u0927\7w\2\2\u0927\u0928\7d\2\2\u0928"+
-		"\u0929\7y\2\2\u0929\u01bc\3\2\2\2\u092a\u092b\7c\2\2\u092b\u092c\7p\2"+
-		"\2\u092c\u092d\7f\2\2\u092d\u092e\7y\2\2\u092e\u01be\3\2\2\2\u092f\u0930"+
-		"\7q\2\2\u0930\u0931\7t\2\2\u0931\u0932\7y\2\2\u0932\u01c0\3\2\2\2\u0933"+
-		"\u0934\7z\2\2\u0934\u0935\7q\2\2\u0935\u0936\7t\2\2\u0936\u0937\7y\2\2"+
-		"\u0937\u01c2\3\2\2\2\u0938\u0939\7v\2\2\u0939\u093a\7g\2\2\u093a\u093b"+
-		"\7u\2\2\u093b\u093c\7v\2\2\u093c\u093d\7y\2\2\u093d\u01c4\3\2\2\2\u093e"+
-		"\u093f\7d\2\2\u093f\u0940\7u\2\2\u0940\u0941\7h\2\2\u0941\u0942\7y\2\2"+
-		"\u0942\u01c6\3\2\2\2\u0943\u0944\7d\2\2\u0944\u0945\7u\2\2\u0945\u0946"+
-		"\7t\2\2\u0946\u0947\7y\2\2\u0947\u01c8\3\2\2\2\u0948\u0949\7d\2\2\u0949"+
-		"\u094a\7v\2\2\u094a\u094b\7y\2\2\u094b\u01ca\3\2\2\2\u094c\u094d\7d\2"+
-		"\2\u094d\u094e\7v\2\2\u094e\u094f\7e\2\2\u094f\u0950\7y\2\2\u0950\u01cc"+
-		"\3\2\2\2\u0951\u0952\7d\2\2\u0952\u0953\7v\2\2\u0953\u0954\7t\2\2\u0954"+
-		"\u0955\7y\2\2\u0955\u01ce\3\2\2\2\u0956\u0957\7d\2\2\u0957\u0958\7v\2"+
-		"\2\u0958\u0959\7u\2\2\u0959\u095a\7y\2\2\u095a\u01d0\3\2\2\2\u095b\u095c"+
-		"\7t\2\2\u095c\u095d\7e\2\2\u095d\u095e\7n\2\2\u095e\u095f\7y\2\2\u095f"+
-		"\u01d2\3\2\2\2\u0960\u0961\7t\2\2\u0961\u0962\7e\2\2\u0962\u0963\7t\2"+
-		"\2\u0963\u0964\7y\2\2\u0964\u01d4\3\2\2\2\u0965\u0966\7t\2\2\u0966\u0967"+
-		"\7q\2\2\u0967\u0968\7n\2\2\u0968\u0969\7y\2\2\u0969\u01d6\3\2\2\2\u096a"+
-		"\u096b\7t\2\2\u096b\u096c\7q\2\2\u096c\u096d\7t\2\2\u096d\u096e\7y\2\2"+
-		"\u096e\u01d8\3\2\2\2\u096f\u0970\7u\2\2\u0970\u0971\7c\2\2\u0971\u0972"+
-		"\7n\2\2\u0972\u0973\7y\2\2\u0973\u01da\3\2\2\2\u0974\u0975\7u\2\2\u0975"+
-		"\u0976\7c\2\2\u0976\u0977\7t\2\2\u0977\u0978\7y\2\2\u0978\u01dc\3\2\2"+
-		"\2\u0979\u097a\7u\2\2\u097a\u097b\7j\2\2\u097b\u097c\7n\2\2\u097c\u097d"+
-		"\7y\2\2\u097d\u01de\3\2\2\2\u097e\u097f\7u\2\2\u097f\u0980\7j\2\2\u0980"+
-		"\u0981\7t\2\2\u0981\u0982\7y\2\2\u0982\u01e0\3\2\2\2\u0983\u0984\7o\2"+
-		"\2\u0984\u0985\7q\2\2\u0985\u0986\7x\2\2\u0986\u0987\7u\2\2\u0987\u0988"+
-		"\7d\2\2\u0988\u0989\7y\2\2\u0989\u01e2\3\2\2\2\u098a\u098b\7o\2\2\u098b"+
-		"\u098c\7q\2\2\u098c\u098d\7x\2\2\u098d\u098e\7|\2\2\u098e\u098f\7d\2\2"+
-		"\u098f\u0990\7y\2\2\u0990\u01e4\3\2\2\2\u0991\u0992\7e\2\2\u0992\u0993"+
-		"\7o\2\2\u0993\u0994\7q\2\2\u0994\u0995\7x\2\2\u0995\u0996\7c\2\2\u0996"+
-		"\u0997\7n\2\2\u0997\u01e6\3\2\2\2\u0998\u0999\7e\2\2\u0999\u099a\7o\2"+
-		"\2\u099a\u099b\7q\2\2\u099b\u099c\7x\2\2\u099c\u099d\7c\2\2\u099d\u099e"+
-		"\7g\2\2\u099e\u099f\7n\2\2\u099f\u01e8\3\2\2\2\u09a0\u09a1\7e\2\2\u09a1"+
-		"\u09a2\7o\2\2\u09a2\u09a3\7q\2\2\u09a3\u09a4\7x\2\2\u09a4\u09a5\7d\2\2"+
-		"\u09a5\u09a6\7n\2\2\u09a6\u01ea\3\2\2\2\u09a7\u09a8\7e\2\2\u09a8\u09a9"+
-		"\7o\2\2\u09a9\u09aa\7q\2\2\u09aa\u09ab\7x\2\2\u09ab\u09ac\7d\2\2\u09ac"+
-		"\u09ad\7g\2\2\u09ad\u09ae\7n\2\2\u09ae\u01ec\3\2\2\2\u09af\u09b0\7e\2"+
-		"\2\u09b0\u09b1\7o\2\2\u09b1\u09b2\7q\2\2\u09b2\u09b3\7x\2\2\u09b3\u09b4"+
-		"\7e\2\2\u09b4\u09b5\7n\2\2\u09b5\u01ee\3\2\2\2\u09b6\u09b7\7e\2\2\u09b7"+
-		"\u09b8\7o\2\2\u09b8\u09b9\7q\2\2\u09b9\u09ba\7x\2\2\u09ba\u09bb\7g\2\2"+
-		"\u09bb\u09bc\7n\2\2\u09bc\u01f0\3\2\2\2\u09bd\u09be\7e\2\2\u09be\u09bf"+
-		"\7o\2\2\u09bf\u09c0\7q\2\2\u09c0\u09c1\7x\2\2\u09c1\u09c2\7i\2\2\u09c2"+
-		"\u09c3\7n\2\2\u09c3\u01f2\3\2\2\2\u09c4\u09c5\7e\2\2\u09c5\u09c6\7o\2"+
-		"\2\u09c6\u09c7\7q\2\2\u09c7\u09c8\7x\2\2\u09c8\u09c9\7i\2\2\u09c9\u09ca"+
-		"\7g\2\2\u09ca\u09cb\7n\2\2\u09cb\u01f4\3\2\2\2\u09cc\u09cd\7e\2\2\u09cd"+
-		"\u09ce\7o\2\2\u09ce\u09cf\7q\2\2\u09cf\u09d0\7x\2\2\u09d0\u09d1\7n\2\2"+
-		"\u09d1\u09d2\7n\2\2\u09d2\u01f6\3\2\2\2\u09d3\u09d4\7e\2\2\u09d4\u09d5"+
-		"\7o\2\2\u09d5\u09d6\7q\2\2\u09d6\u09d7\7x\2\2\u09d7\u09d8\7n\2\2\u09d8"+
-		"\u09d9\7g\2\2\u09d9\u09da\7n\2\2\u09da\u01f8\3\2\2\2\u09db\u09dc\7e\2"+
-		"\2\u09dc\u09dd\7o\2\2\u09dd\u09de\7q\2\2\u09de\u09df\7x\2\2\u09df\u09e0"+
-		"\7p\2\2\u09e0\u09e1\7c\2\2\u09e1\u09e2\7n\2\2\u09e2\u01fa\3\2\2\2\u09e3"+
-		"\u09e4\7e\2\2\u09e4\u09e5\7o\2\2\u09e5\u09e6\7q\2\2\u09e6\u09e7\7x\2\2"+
-		"\u09e7\u09e8\7p\2\2\u09e8\u09e9\7c\2\2\u09e9\u09ea\7g\2\2\u09ea\u09eb"+
-		"\7n\2\2\u09eb\u01fc\3\2\2\2\u09ec\u09ed\7e\2\2\u09ed\u09ee\7o\2\2\u09ee"+
-		"\u09ef\7q\2\2\u09ef\u09f0\7x\2\2\u09f0\u09f1\7p\2\2\u09f1\u09f2\7d\2\2"+
-		"\u09f2\u09f3\7n\2\2\u09f3\u01fe\3\2\2\2\u09f4\u09f5\7e\2\2\u09f5\u09f6"+
-		"\7o\2\2\u09f6\u09f7\7q\2\2\u09f7\u09f8\7x\2\2\u09f8\u09f9\7p\2\2\u09f9"+
-		"\u09fa\7d\2\2\u09fa\u09fb\7g\2\2\u09fb\u09fc\7n\2\2\u09fc\u0200\3\2\2"+
-		"\2\u09fd\u09fe\7e\2\2\u09fe\u09ff\7o\2\2\u09ff\u0a00\7q\2\2\u0a00\u0a01"+
-		"\7x\2\2\u0a01\u0a02\7p\2\2\u0a02\u0a03\7e\2\2\u0a03\u0a04\7n\2\2\u0a04"+
-		"\u0202\3\2\2\2\u0a05\u0a06\7e\2\2\u0a06\u0a07\7o\2\2\u0a07\u0a08\7q\2"+
-		"\2\u0a08\u0a09\7x\2\2\u0a09\u0a0a\7p\2\2\u0a0a\u0a0b\7g\2\2\u0a0b\u0a0c"+
-		"\7n\2\2\u0a0c\u0204\3\2\2\2\u0a0d\u0a0e\7e\2\2\u0a0e\u0a0f\7o\2\2\u0a0f"+
-		"\u0a10\7q\2\2\u0a10\u0a11\7x\2\2\u0a11\u0a12\7p\2\2\u0a12\u0a13\7i\2\2"+
-		"\u0a13\u0a14\7n\2\2\u0a14\u0206\3\2\2\2\u0a15\u0a16\7e\2\2\u0a16\u0a17"+
-		"\7o\2\2\u0a17\u0a18\7q\2\2\u0a18\u0a19\7x\2\2\u0a19\u0a1a\7p\2\2\u0a1a"+
-		"\u0a1b\7i\2\2\u0a1b\u0a1c\7g\2\2\u0a1c\u0a1d\7n\2\2\u0a1d\u0208\3\2\2"+
-		"\2\u0a1e\u0a1f\7e\2\2\u0a1f\u0a20\7o\2\2\u0a20\u0a21\7q\2\2\u0a21\u0a22"+
-		"\7x\2\2\u0a22\u0a23\7p\2\2\u0a23\u0a24\7n\2\2\u0a24\u0a25\7n\2\2\u0a25"+
-		"\u020a\3\2\2\2\u0a26\u0a27\7e\2\2\u0a27\u0a28\7o\2\2\u0a28\u0a29\7q\2"+
-		"\2\u0a29\u0a2a\7x\2\2\u0a2a\u0a2b\7p\2\2\u0a2b\u0a2c\7n\2\2\u0a2c\u0a2d"+
-		"\7g\2\2\u0a2d\u0a2e\7n\2\2\u0a2e\u020c\3\2\2\2\u0a2f\u0a30\7e\2\2\u0a30"+
-		"\u0a31\7o\2\2\u0a31\u0a32\7q\2\2\u0a32\u0a33\7x\2\2\u0a33\u0a34\7p\2\2"+
-		"\u0a34\u0a35\7q\2\2\u0a35\u0a36\7n\2\2\u0a36\u020e\3\2\2\2\u0a37\u0a38"+
-		"\7e\2\2\u0a38\u0a39\7o\2\2\u0a39\u0a3a\7q\2\2\u0a3a\u0a3b\7x\2\2\u0a3b"+
-		"\u0a3c\7p\2\2\u0a3c\u0a3d\7r\2\2\u0a3d\u0a3e\7n\2\2\u0a3e\u0210\3\2\2"+
-		"\2\u0a3f\u0a40\7e\2\2\u0a40\u0a41\7o\2\2\u0a41\u0a42\7q\2\2\u0a42\u0a43"+
-		"\7x\2\2\u0a43\u0a44\7p\2\2\u0a44\u0a45\7u\2\2\u0a45\u0a46\7n\2\2\u0a46"+
-		"\u0212\3\2\2\2\u0a47\u0a48\7e\2\2\u0a48\u0a49\7o\2\2\u0a49\u0a4a\7q\2"+
-		"\2\u0a4a\u0a4b\7x\2\2\u0a4b\u0a4c\7p\2\2\u0a4c\u0a4d\7|\2\2\u0a4d\u0a4e"+
-		"\7n\2\2\u0a4e\u0214\3\2\2\2\u0a4f\u0a50\7e\2\2\u0a50\u0a51\7o\2\2\u0a51"+
-		"\u0a52\7q\2\2\u0a52\u0a53\7x\2\2\u0a53\u0a54\7q\2\2\u0a54\u0a55\7n\2\2"+
-		"\u0a55\u0216\3\2\2\2\u0a56\u0a57\7e\2\2\u0a57\u0a58\7o\2\2\u0a58\u0a59"+
-		"\7q\2\2\u0a59\u0a5a\7x\2\2\u0a5a\u0a5b\7r\2\2\u0a5b\u0a5c\7n\2\2\u0a5c"+
-		"\u0218\3\2\2\2\u0a5d\u0a5e\7e\2\2\u0a5e\u0a5f\7o\2\2\u0a5f\u0a60\7q\2"+
-		"\2\u0a60\u0a61\7x\2\2\u0a61\u0a62\7r\2\2\u0a62\u0a63\7g\2\2\u0a63\u0a64"+
-		"\7n\2\2\u0a64\u021a\3\2\2\2\u0a65\u0a66\7e\2\2\u0a66\u0a67\7o\2\2\u0a67"+
-		"\u0a68\7q\2\2\u0a68\u0a69\7x\2\2\u0a69\u0a6a\7r\2\2\u0a6a\u0a6b\7q\2\2"+
-		"\u0a6b\u0a6c\7n\2\2\u0a6c\u021c\3\2\2\2\u0a6d\u0a6e\7e\2\2\u0a6e\u0a6f"+
-		"\7o\2\2\u0a6f\u0a70\7q\2\2\u0a70\u0a71\7x\2\2\u0a71\u0a72\7u\2\2\u0a72"+
-		"\u0a73\7n\2\2\u0a73\u021e\3\2\2\2\u0a74\u0a75\7e\2\2\u0a75\u0a76\7o\2"+
-		"\2\u0a76\u0a77\7q\2\2\u0a77\u0a78\7x\2\2\u0a78\u0a79\7|\2\2\u0a79\u0a7a"+
-		"\7n\2\2\u0a7a\u0220\3\2\2\2\u0a7b\u0a7c\7e\2\2\u0a7c\u0a7d\7o\2\2\u0a7d"+
-		"\u0a7e\7r\2\2\u0a7e\u0a7f\7z\2\2\u0a7f\u0a80\7e\2\2\u0a80\u0a81\7j\2\2"+
-		"\u0a81\u0a82\7i\2\2\u0a82\u0a83\7n\2\2\u0a83\u0222\3\2\2\2\u0a84\u0a85"+
-		"\7o\2\2\u0a85\u0a86\7q\2\2\u0a86\u0a87\7x\2\2\u0a87\u0a88\7n\2\2\u0a88"+
-		"\u0224\3\2\2\2\u0a89\u0a8a\7z\2\2\u0a8a\u0a8b\7c\2\2\u0a8b\u0a8c\7f\2"+
-		"\2\u0a8c\u0a8d\7f\2\2\u0a8d\u0a8e\7n\2\2\u0a8e\u0226\3\2\2\2\u0a8f\u0a90"+
-		"\7z\2\2\u0a90\u0a91\7e\2\2\u0a91\u0a92\7j\2\2\u0a92\u0a93\7i\2\2\u0a93"+
-		"\u0a94\7n\2\2\u0a94\u0228\3\2\2\2\u0a95\u0a96\7c\2\2\u0a96\u0a97\7f\2"+
-		"\2\u0a97\u0a98\7e\2\2\u0a98\u0a99\7n\2\2\u0a99\u022a\3\2\2\2\u0a9a\u0a9b"+
-		"\7c\2\2\u0a9b\u0a9c\7f\2\2\u0a9c\u0a9d\7f\2\2\u0a9d\u0a9e\7n\2\2\u0a9e"+
-		"\u022c\3\2\2\2\u0a9f\u0aa0\7e\2\2\u0aa0\u0aa1\7o\2\2\u0aa1\u0aa2\7r\2"+
-		"\2\u0aa2\u0aa3\7n\2\2\u0aa3\u022e\3\2\2\2\u0aa4\u0aa5\7u\2\2\u0aa5\u0aa6"+
-		"\7d\2\2\u0aa6\u0aa7\7d\2\2\u0aa7\u0aa8\7n\2\2\u0aa8\u0230\3\2\2\2\u0aa9"+
-		"\u0aaa\7u\2\2\u0aaa\u0aab\7w\2\2\u0aab\u0aac\7d\2\2\u0aac\u0aad\7n\2\2"+
-		"\u0aad\u0232\3\2\2\2\u0aae\u0aaf\7c\2\2\u0aaf\u0ab0\7p\2\2\u0ab0\u0ab1"+
-		"\7f\2\2\u0ab1\u0ab2\7n\2\2\u0ab2\u0234\3\2\2\2\u0ab3\u0ab4\7q\2\2\u0ab4"+
-		"\u0ab5\7t\2\2\u0ab5\u0ab6\7n\2\2\u0ab6\u0236\3\2\2\2\u0ab7\u0ab8\7z\2"+
-		"\2\u0ab8\u0ab9\7q\2\2\u0ab9\u0aba\7t\2\2\u0aba\u0abb\7n\2\2\u0abb\u0238"+
-		"\3\2\2\2\u0abc\u0abd\7v\2\2\u0abd\u0abe\7g\2\2\u0abe\u0abf\7u\2\2\u0abf"+
-		"\u0ac0\7v\2\2\u0ac0\u0ac1\7n\2\2\u0ac1\u023a\3\2\2\2\u0ac2\u0ac3\7d\2"+
-		"\2\u0ac3\u0ac4\7u\2\2\u0ac4\u0ac5\7h\2\2\u0ac5\u0ac6\7n\2\2\u0ac6\u023c"+
-		"\3\2\2\2\u0ac7\u0ac8\7d\2\2\u0ac8\u0ac9\7u\2\2\u0ac9\u0aca\7t\2\2\u0aca"+
-		"\u0acb\7n\2\2\u0acb\u023e\3\2\2\2\u0acc\u0acd\7d\2\2\u0acd\u0ace\7v\2"+
-		"\2\u0ace\u0acf\7n\2\2\u0acf\u0240\3\2\2\2\u0ad0\u0ad1\7d\2\2\u0ad1\u0ad2"+
-		"\7v\2\2\u0ad2\u0ad3\7e\2\2\u0ad3\u0ad4\7n\2\2\u0ad4\u0242\3\2\2\2\u0ad5"+
-		"\u0ad6\7d\2\2\u0ad6\u0ad7\7v\2\2\u0ad7\u0ad8\7t\2\2\u0ad8\u0ad9\7n\2\2"+
-		"\u0ad9\u0244\3\2\2\2\u0ada\u0adb\7d\2\2\u0adb\u0adc\7v\2\2\u0adc\u0add"+
-		"\7u\2\2\u0add\u0ade\7n\2\2\u0ade\u0246\3\2\2\2\u0adf\u0ae0\7t\2\2\u0ae0"+
-		"\u0ae1\7e\2\2\u0ae1\u0ae2\7n\2\2\u0ae2\u0ae3\7n\2\2\u0ae3\u0248\3\2\2"+
-		"\2\u0ae4\u0ae5\7t\2\2\u0ae5\u0ae6\7e\2\2\u0ae6\u0ae7\7t\2\2\u0ae7\u0ae8"+
-		"\7n\2\2\u0ae8\u024a\3\2\2\2\u0ae9\u0aea\7t\2\2\u0aea\u0aeb\7q\2\2\u0aeb"+
-		"\u0aec\7n\2\2\u0aec\u0aed\7n\2\2\u0aed\u024c\3\2\2\2\u0aee\u0aef\7t\2"+
-		"\2\u0aef\u0af0\7q\2\2\u0af0\u0af1\7t\2\2\u0af1\u0af2\7n\2\2\u0af2\u024e"+
-		"\3\2\2\2\u0af3\u0af4\7u\2\2\u0af4\u0af5\7c\2\2\u0af5\u0af6\7n\2\2\u0af6"+
-		"\u0af7\7n\2\2\u0af7\u0250\3\2\2\2\u0af8\u0af9\7u\2\2\u0af9\u0afa\7c\2"+
-		"\2\u0afa\u0afb\7t\2\2\u0afb\u0afc\7n\2\2\u0afc\u0252\3\2\2\2\u0afd\u0afe"+
-		"\7u\2\2\u0afe\u0aff\7j\2\2\u0aff\u0b00\7n\2\2\u0b00\u0b01\7n\2\2\u0b01"+
-		"\u0254\3\2\2\2\u0b02\u0b03\7u\2\2\u0b03\u0b04\7j\2\2\u0b04\u0b05\7t\2"+
-		"\2\u0b05\u0b06\7n\2\2\u0b06\u0256\3\2\2\2\u0b07\u0b08\7o\2\2\u0b08\u0b09"+
-		"\7q\2\2\u0b09\u0b0a\7x\2\2\u0b0a\u0b0b\7u\2\2\u0b0b\u0b0c\7d\2\2\u0b0c"+
-		"\u0b0d\7n\2\2\u0b0d\u0258\3\2\2\2\u0b0e\u0b0f\7o\2\2\u0b0f\u0b10\7q\2"+
-		"\2\u0b10\u0b11\7x\2\2\u0b11\u0b12\7u\2\2\u0b12\u0b13\7y\2\2\u0b13\u0b14"+
-		"\7n\2\2\u0b14\u025a\3\2\2\2\u0b15\u0b16\7o\2\2\u0b16\u0b17\7q\2\2\u0b17"+
-		"\u0b18\7x\2\2\u0b18\u0b19\7|\2\2\u0b19\u0b1a\7d\2\2\u0b1a\u0b1b\7n\2\2"+
-		"\u0b1b\u025c\3\2\2\2\u0b1c\u0b1d\7o\2\2\u0b1d\u0b1e\7q\2\2\u0b1e\u0b1f"+
-		"\7x\2\2\u0b1f\u0b20\7|\2\2\u0b20\u0b21\7y\2\2\u0b21\u0b22\7n\2\2\u0b22"+
-		"\u025e\3\2\2\2\u0b23\u0b24\7e\2\2\u0b24\u0b25\7o\2\2\u0b25\u0b26\7q\2"+
-		"\2\u0b26\u0b27\7x\2\2\u0b27\u0b28\7c\2\2\u0b28\u0b29\7s\2\2\u0b29\u0260"+
-		"\3\2\2\2\u0b2a\u0b2b\7e\2\2\u0b2b\u0b2c\7o\2\2\u0b2c\u0b2d\7q\2\2\u0b2d"+
-		"\u0b2e\7x\2\2\u0b2e\u0b2f\7c\2\2\u0b2f\u0b30\7g\2\2\u0b30\u0b31\7s\2\2"+
-		"\u0b31\u0262\3\2\2\2\u0b32\u0b33\7e\2\2\u0b33\u0b34\7o\2\2\u0b34\u0b35"+
-		"\7q\2\2\u0b35\u0b36\7x\2\2\u0b36\u0b37\7d\2\2\u0b37\u0b38\7s\2\2\u0b38"+
-		"\u0264\3\2\2\2\u0b39\u0b3a\7e\2\2\u0b3a\u0b3b\7o\2\2\u0b3b\u0b3c\7q\2"+
-		"\2\u0b3c\u0b3d\7x\2\2\u0b3d\u0b3e\7d\2\2\u0b3e\u0b3f\7g\2\2\u0b3f\u0b40"+
-		"\7s\2\2\u0b40\u0266\3\2\2\2\u0b41\u0b42\7e\2\2\u0b42\u0b43\7o\2\2\u0b43"+
-		"\u0b44\7q\2\2\u0b44\u0b45\7x\2\2\u0b45\u0b46\7e\2\2\u0b46\u0b47\7s\2\2"+
-		"\u0b47\u0268\3\2\2\2\u0b48\u0b49\7e\2\2\u0b49\u0b4a\7o\2\2\u0b4a\u0b4b"+
-		"\7q\2\2\u0b4b\u0b4c\7x\2\2\u0b4c\u0b4d\7g\2\2\u0b4d\u0b4e\7s\2\2\u0b4e"+
-		"\u026a\3\2\2\2\u0b4f\u0b50\7e\2\2\u0b50\u0b51\7o\2\2\u0b51\u0b52\7q\2"+
-		"\2\u0b52\u0b53\7x\2\2\u0b53\u0b54\7i\2\2\u0b54\u0b55\7s\2\2\u0b55\u026c"+
-		"\3\2\2\2\u0b56\u0b57\7e\2\2\u0b57\u0b58\7o\2\2\u0b58\u0b59\7q\2\2\u0b59"+
-		"\u0b5a\7x\2\2\u0b5a\u0b5b\7i\2\2\u0b5b\u0b5c\7g\2\2\u0b5c\u0b5d\7s\2\2"+
-		"\u0b5d\u026e\3\2\2\2\u0b5e\u0b5f\7e\2\2\u0b5f\u0b60\7o\2\2\u0b60\u0b61"+
-		"\7q\2\2\u0b61\u0b62\7x\2\2\u0b62\u0b63\7n\2\2\u0b63\u0b64\7s\2\2\u0b64"+
-		"\u0270\3\2\2\2\u0b65\u0b66\7e\2\2\u0b66\u0b67\7o\2\2\u0b67\u0b68\7q\2"+
-		"\2\u0b68\u0b69\7x\2\2\u0b69\u0b6a\7n\2\2\u0b6a\u0b6b\7g\2\2\u0b6b\u0b6c"+
-		"\7s\2\2\u0b6c\u0272\3\2\2\2\u0b6d\u0b6e\7e\2\2\u0b6e\u0b6f\7o\2\2\u0b6f"+
-		"\u0b70\7q\2\2\u0b70\u0b71\7x\2\2\u0b71\u0b72\7p\2\2\u0b72\u0b73\7c\2\2"+
-		"\u0b73\u0b74\7s\2\2\u0b74\u0274\3\2\2\2\u0b75\u0b76\7e\2\2\u0b76\u0b77"+
-		"\7o\2\2\u0b77\u0b78\7q\2\2\u0b78\u0b79\7x\2\2\u0b79\u0b7a\7p\2\2\u0b7a"+
-		"\u0b7b\7c\2\2\u0b7b\u0b7c\7g\2\2\u0b7c\u0b7d\7s\2\2\u0b7d\u0276\3\2\2"+
-		"\2\u0b7e\u0b7f\7e\2\2\u0b7f\u0b80\7o\2\2\u0b80\u0b81\7q\2\2\u0b81\u0b82"+
-		"\7x\2\2\u0b82\u0b83\7p\2\2\u0b83\u0b84\7d\2\2\u0b84\u0b85\7s\2\2\u0b85"+
-		"\u0278\3\2\2\2\u0b86\u0b87\7e\2\2\u0b87\u0b88\7o\2\2\u0b88\u0b89\7q\2"+
-		"\2\u0b89\u0b8a\7x\2\2\u0b8a\u0b8b\7p\2\2\u0b8b\u0b8c\7d\2\2\u0b8c\u0b8d"+
-		"\7g\2\2\u0b8d\u0b8e\7s\2\2\u0b8e\u027a\3\2\2\2\u0b8f\u0b90\7e\2\2\u0b90"+
-		"\u0b91\7o\2\2\u0b91\u0b92\7q\2\2\u0b92\u0b93\7x\2\2\u0b93\u0b94\7p\2\2"+
-		"\u0b94\u0b95\7e\2\2\u0b95\u0b96\7s\2\2\u0b96\u027c\3\2\2\2\u0b97\u0b98"+
-		"\7e\2\2\u0b98\u0b99\7o\2\2\u0b99\u0b9a\7q\2\2\u0b9a\u0b9b\7x\2\2\u0b9b"+
-		"\u0b9c\7p\2\2\u0b9c\u0b9d\7g\2\2\u0b9d\u0b9e\7s\2\2\u0b9e\u027e\3\2\2"+
-		"\2\u0b9f\u0ba0\7e\2\2\u0ba0\u0ba1\7o\2\2\u0ba1\u0ba2\7q\2\2\u0ba2\u0ba3"+
-		"\7x\2\2\u0ba3\u0ba4\7p\2\2\u0ba4\u0ba5\7i\2\2\u0ba5\u0ba6\7s\2\2\u0ba6"+
-		"\u0280\3\2\2\2\u0ba7\u0ba8\7e\2\2\u0ba8\u0ba9\7o\2\2\u0ba9\u0baa\7q\2"+
-		"\2\u0baa\u0bab\7x\2\2\u0bab\u0bac\7p\2\2\u0bac\u0bad\7i\2\2\u0bad\u0bae"+
-		"\7g\2\2\u0bae\u0baf\7s\2\2\u0baf\u0282\3\2\2\2\u0bb0\u0bb1\7e\2\2\u0bb1"+
-		"\u0bb2\7o\2\2\u0bb2\u0bb3\7q\2\2\u0bb3\u0bb4\7x\2\2\u0bb4\u0bb5\7p\2\2"+
-		"\u0bb5\u0bb6\7n\2\2\u0bb6\u0bb7\7s\2\2\u0bb7\u0284\3\2\2\2\u0bb8\u0bb9"+
-		"\7e\2\2\u0bb9\u0bba\7o\2\2\u0bba\u0bbb\7q\2\2\u0bbb\u0bbc\7x\2\2\u0bbc"+
-		"\u0bbd\7p\2\2\u0bbd\u0bbe\7n\2\2\u0bbe\u0bbf\7g\2\2\u0bbf\u0bc0\7s\2\2"+
-		"\u0bc0\u0286\3\2\2\2\u0bc1\u0bc2\7e\2\2\u0bc2\u0bc3\7o\2\2\u0bc3\u0bc4"+
-		"\7q\2\2\u0bc4\u0bc5\7x\2\2\u0bc5\u0bc6\7p\2\2\u0bc6\u0bc7\7q\2\2\u0bc7"+
-		"\u0bc8\7s\2\2\u0bc8\u0288\3\2\2\2\u0bc9\u0bca\7e\2\2\u0bca\u0bcb\7o\2"+
-		"\2\u0bcb\u0bcc\7q\2\2\u0bcc\u0bcd\7x\2\2\u0bcd\u0bce\7p\2\2\u0bce\u0bcf"+
-		"\7r\2\2\u0bcf\u0bd0\7s\2\2\u0bd0\u028a\3\2\2\2\u0bd1\u0bd2\7e\2\2\u0bd2"+
-		"\u0bd3\7o\2\2\u0bd3\u0bd4\7q\2\2\u0bd4\u0bd5\7x\2\2\u0bd5\u0bd6\7p\2\2"+
-		"\u0bd6\u0bd7\7u\2\2\u0bd7\u0bd8\7s\2\2\u0bd8\u028c\3\2\2\2\u0bd9\u0bda"+
-		"\7e\2\2\u0bda\u0bdb\7o\2\2\u0bdb\u0bdc\7q\2\2\u0bdc\u0bdd\7x\2\2\u0bdd"+
-		"\u0bde\7p\2\2\u0bde\u0bdf\7|\2\2\u0bdf\u0be0\7s\2\2\u0be0\u028e\3\2\2"+
-		"\2\u0be1\u0be2\7e\2\2\u0be2\u0be3\7o\2\2\u0be3\u0be4\7q\2\2\u0be4\u0be5"+
-		"\7x\2\2\u0be5\u0be6\7q\2\2\u0be6\u0be7\7s\2\2\u0be7\u0290\3\2\2\2\u0be8"+
-		"\u0be9\7e\2\2\u0be9\u0bea\7o\2\2\u0bea\u0beb\7q\2\2\u0beb\u0bec\7x\2\2"+
-		"\u0bec\u0bed\7r\2\2\u0bed\u0bee\7s\2\2\u0bee\u0292\3\2\2\2\u0bef\u0bf0"+
-		"\7e\2\2\u0bf0\u0bf1\7o\2\2\u0bf1\u0bf2\7q\2\2\u0bf2\u0bf3\7x\2\2\u0bf3"+
-		"\u0bf4\7r\2\2\u0bf4\u0bf5\7g\2\2\u0bf5\u0bf6\7s\2\2\u0bf6\u0294\3\2\2"+
-		"\2\u0bf7\u0bf8\7e\2\2\u0bf8\u0bf9\7o\2\2\u0bf9\u0bfa\7q\2\2\u0bfa\u0bfb"+
-		"\7x\2\2\u0bfb\u0bfc\7r\2\2\u0bfc\u0bfd\7q\2\2\u0bfd\u0bfe\7s\2\2\u0bfe"+
-		"\u0296\3\2\2\2\u0bff\u0c00\7e\2\2\u0c00\u0c01\7o\2\2\u0c01\u0c02\7q\2"+
-		"\2\u0c02\u0c03\7x\2\2\u0c03\u0c04\7u\2\2\u0c04\u0c05\7s\2\2\u0c05\u0298"+
-		"\3\2\2\2\u0c06\u0c07\7e\2\2\u0c07\u0c08\7o\2\2\u0c08\u0c09\7q\2\2\u0c09"+
-		"\u0c0a\7x\2\2\u0c0a\u0c0b\7|\2\2\u0c0b\u0c0c\7s\2\2\u0c0c\u029a\3\2\2"+
-		"\2\u0c0d\u0c0e\7e\2\2\u0c0e\u0c0f\7o\2\2\u0c0f\u0c10\7r\2\2\u0c10\u0c11"+
-		"\7z\2\2\u0c11\u0c12\7e\2\2\u0c12\u0c13\7j\2\2\u0c13\u0c14\7i\2\2\u0c14"+
-		"\u0c15\7s\2\2\u0c15\u029c\3\2\2\2\u0c16\u0c17\7o\2\2\u0c17\u0c18\7q\2"+
-		"\2\u0c18\u0c19\7x\2\2\u0c19\u0c1a\7s\2\2\u0c1a\u029e\3\2\2\2\u0c1b\u0c1c"+
-		"\7z\2\2\u0c1c\u0c1d\7c\2\2\u0c1d\u0c1e\7f\2\2\u0c1e\u0c1f\7f\2\2\u0c1f"+
-		"\u0c20\7s\2\2\u0c20\u02a0\3\2\2\2\u0c21\u0c22\7z\2\2\u0c22\u0c23\7e\2"+
-		"\2\u0c23\u0c24\7j\2\2\u0c24\u0c25\7i\2\2\u0c25\u0c26\7s\2\2\u0c26\u02a2"+
-		"\3\2\2\2\u0c27\u0c28\7c\2\2\u0c28\u0c29\7f\2\2\u0c29\u0c2a\7e\2\2\u0c2a"+
-		"\u0c2b\7s\2\2\u0c2b\u02a4\3\2\2\2\u0c2c\u0c2d\7c\2\2\u0c2d\u0c2e\7f\2"+
-		"\2\u0c2e\u0c2f\7f\2\2\u0c2f\u0c30\7s\2\2\u0c30\u02a6\3\2\2\2\u0c31\u0c32"+
-		"\7e\2\2\u0c32\u0c33\7o\2\2\u0c33\u0c34\7r\2\2\u0c34\u0c35\7s\2\2\u0c35"+
-		"\u02a8\3\2\2\2\u0c36\u0c37\7u\2\2\u0c37\u0c38\7d\2\2\u0c38\u0c39\7d\2"+
-		"\2\u0c39\u0c3a\7s\2\2\u0c3a\u02aa\3\2\2\2\u0c3b\u0c3c\7u\2\2\u0c3c\u0c3d"+
-		"\7w\2\2\u0c3d\u0c3e\7d\2\2\u0c3e\u0c3f\7s\2\2\u0c3f\u02ac\3\2\2\2\u0c40"+
-		"\u0c41\7c\2\2\u0c41\u0c42\7p\2\2\u0c42\u0c43\7f\2\2\u0c43\u0c44\7s\2\2"+
-		"\u0c44\u02ae\3\2\2\2\u0c45\u0c46\7q\2\2\u0c46\u0c47\7t\2\2\u0c47\u0c48"+
-		"\7s\2\2\u0c48\u02b0\3\2\2\2\u0c49\u0c4a\7z\2\2\u0c4a\u0c4b\7q\2\2\u0c4b"+
-		"\u0c4c\7t\2\2\u0c4c\u0c4d\7s\2\2\u0c4d\u02b2\3\2\2\2\u0c4e\u0c4f\7v\2"+
-		"\2\u0c4f\u0c50\7g\2\2\u0c50\u0c51\7u\2\2\u0c51\u0c52\7v\2\2\u0c52\u0c53"+
-		"\7s\2\2\u0c53\u02b4\3\2\2\2\u0c54\u0c55\7d\2\2\u0c55\u0c56\7u\2\2\u0c56"+
-		"\u0c57\7h\2\2\u0c57\u0c58\7s\2\2\u0c58\u02b6\3\2\2\2\u0c59\u0c5a\7d\2"+
-		"\2\u0c5a\u0c5b\7u\2\2\u0c5b\u0c5c\7t\2\2\u0c5c\u0c5d\7s\2\2\u0c5d\u02b8"+
-		"\3\2\2\2\u0c5e\u0c5f\7d\2\2\u0c5f\u0c60\7v\2\2\u0c60\u0c61\7s\2\2\u0c61"+
-		"\u02ba\3\2\2\2\u0c62\u0c63\7d\2\2\u0c63\u0c64\7v\2\2\u0c64\u0c65\7e\2"+
-		"\2\u0c65\u0c66\7s\2\2\u0c66\u02bc\3\2\2\2\u0c67\u0c68\7d\2\2\u0c68\u0c69"+
-		"\7v\2\2\u0c69\u0c6a\7t\2\2\u0c6a\u0c6b\7s\2\2\u0c6b\u02be\3\2\2\2\u0c6c"+
-		"\u0c6d\7d\2\2\u0c6d\u0c6e\7v\2\2\u0c6e\u0c6f\7u\2\2\u0c6f\u0c70\7s\2\2"+
-		"\u0c70\u02c0\3\2\2\2\u0c71\u0c72\7t\2\2\u0c72\u0c73\7e\2\2\u0c73\u0c74"+
-		"\7n\2\2\u0c74\u0c75\7s\2\2\u0c75\u02c2\3\2\2\2\u0c76\u0c77\7t\2\2\u0c77"+
-		"\u0c78\7e\2\2\u0c78\u0c79\7t\2\2\u0c79\u0c7a\7s\2\2\u0c7a\u02c4\3\2\2"+
-		"\2\u0c7b\u0c7c\7t\2\2\u0c7c\u0c7d\7q\2\2\u0c7d\u0c7e\7n\2\2\u0c7e\u0c7f"+
-		"\7s\2\2\u0c7f\u02c6\3\2\2\2\u0c80\u0c81\7t\2\2\u0c81\u0c82\7q\2\2\u0c82"+
-		"\u0c83\7t\2\2\u0c83\u0c84\7s\2\2\u0c84\u02c8\3\2\2\2\u0c85\u0c86\7u\2"+
-		"\2\u0c86\u0c87\7c\2\2\u0c87\u0c88\7n\2\2\u0c88\u0c89\7s\2\2\u0c89\u02ca"+
-		"\3\2\2\2\u0c8a\u0c8b\7u\2\2\u0c8b\u0c8c\7c\2\2\u0c8c\u0c8d\7t\2\2\u0c8d"+
-		"\u0c8e\7s\2\2\u0c8e\u02cc\3\2\2\2\u0c8f\u0c90\7u\2\2\u0c90\u0c91\7j\2"+
-		"\2\u0c91\u0c92\7n\2\2\u0c92\u0c93\7s\2\2\u0c93\u02ce\3\2\2\2\u0c94\u0c95"+
-		"\7u\2\2\u0c95\u0c96\7j\2\2\u0c96\u0c97\7t\2\2\u0c97\u0c98\7s\2\2\u0c98"+
-		"\u02d0\3\2\2\2\u0c99\u0c9a\7o\2\2\u0c9a\u0c9b\7q\2\2\u0c9b\u0c9c\7x\2"+
-		"\2\u0c9c\u0c9d\7u\2\2\u0c9d\u0c9e\7d\2\2\u0c9e\u0c9f\7s\2\2\u0c9f\u02d2"+
-		"\3\2\2\2\u0ca0\u0ca1\7o\2\2\u0ca1\u0ca2\7q\2\2\u0ca2\u0ca3\7x\2\2\u0ca3"+
-		"\u0ca4\7|\2\2\u0ca4\u0ca5\7d\2\2\u0ca5\u0ca6\7s\2\2\u0ca6\u02d4\3\2\2"+
-		"\2\u0ca7\u0ca8\7o\2\2\u0ca8\u0ca9\7q\2\2\u0ca9\u0caa\7x\2\2\u0caa\u0cab"+
-		"\7u\2\2\u0cab\u0cac\7y\2\2\u0cac\u0cad\7s\2\2\u0cad\u02d6\3\2\2\2\u0cae"+
-		"\u0caf\7o\2\2\u0caf\u0cb0\7q\2\2\u0cb0\u0cb1\7x\2\2\u0cb1\u0cb2\7|\2\2"+
-		"\u0cb2\u0cb3\7y\2\2\u0cb3\u0cb4\7s\2\2\u0cb4\u02d8\3\2\2\2\u0cb5\u0cb6"+
-		"\7o\2\2\u0cb6\u0cb7\7q\2\2\u0cb7\u0cb8\7x\2\2\u0cb8\u0cb9\7u\2\2\u0cb9"+
-		"\u0cba\7n\2\2\u0cba\u0cbb\7s\2\2\u0cbb\u02da\3\2\2\2\u0cbc\u0cbd\7e\2"+
-		"\2\u0cbd\u0cbe\7o\2\2\u0cbe\u0cbf\7q\2\2\u0cbf\u0cc0\7x\2\2\u0cc0\u0cc1"+
-		"\7c\2\2\u0cc1\u02dc\3\2\2\2\u0cc2\u0cc3\7e\2\2\u0cc3\u0cc4\7o\2\2\u0cc4"+
-		"\u0cc5\7q\2\2\u0cc5\u0cc6\7x\2\2\u0cc6\u0cc7\7c\2\2\u0cc7\u0cc8\7g\2\2"+
-		"\u0cc8\u02de\3\2\2\2\u0cc9\u0cca\7e\2\2\u0cca\u0ccb\7o\2\2\u0ccb\u0ccc"+
-		"\7q\2\2\u0ccc\u0ccd\7x\2\2\u0ccd\u0cce\7d\2\2\u0cce\u02e0\3\2\2\2\u0ccf"+
-		"\u0cd0\7e\2\2\u0cd0\u0cd1\7o\2\2\u0cd1\u0cd2\7q\2\2\u0cd2\u0cd3\7x\2\2"+
-		"\u0cd3\u0cd4\7d\2\2\u0cd4\u0cd5\7g\2\2\u0cd5\u02e2\3\2\2\2\u0cd6\u0cd7"+
-		"\7e\2\2\u0cd7\u0cd8\7o\2\2\u0cd8\u0cd9\7q\2\2\u0cd9\u0cda\7x\2\2\u0cda"+
-		"\u0cdb\7e\2\2\u0cdb\u02e4\3\2\2\2\u0cdc\u0cdd\7e\2\2\u0cdd\u0cde\7o\2"+
-		"\2\u0cde\u0cdf\7q\2\2\u0cdf\u0ce0\7x\2\2\u0ce0\u0ce1\7g\2\2\u0ce1\u02e6"+
-		"\3\2\2\2\u0ce2\u0ce3\7e\2\2\u0ce3\u0ce4\7o\2\2\u0ce4\u0ce5\7q\2\2\u0ce5"+
-		"\u0ce6\7x\2\2\u0ce6\u0ce7\7i\2\2\u0ce7\u02e8\3\2\2\2\u0ce8\u0ce9\7e\2"+
-		"\2\u0ce9\u0cea\7o\2\2\u0cea\u0ceb\7q\2\2\u0ceb\u0cec\7x\2\2\u0cec\u0ced"+
-		"\7i\2\2\u0ced\u0cee\7g\2\2\u0cee\u02ea\3\2\2\2\u0cef\u0cf0\7e\2\2\u0cf0"+
-		"\u0cf1\7o\2\2\u0cf1\u0cf2\7q\2\2\u0cf2\u0cf3\7x\2\2\u0cf3\u0cf4\7n\2\2"+
-		"\u0cf4\u02ec\3\2\2\2\u0cf5\u0cf6\7e\2\2\u0cf6\u0cf7\7o\2\2\u0cf7\u0cf8"+
-		"\7q\2\2\u0cf8\u0cf9\7x\2\2\u0cf9\u0cfa\7n\2\2\u0cfa\u0cfb\7g\2\2\u0cfb"+
-		"\u02ee\3\2\2\2\u0cfc\u0cfd\7e\2\2\u0cfd\u0cfe\7o\2\2\u0cfe\u0cff\7q\2"+
-		"\2\u0cff\u0d00\7x\2\2\u0d00\u0d01\7p\2\2\u0d01\u0d02\7c\2\2\u0d02\u02f0"+
-		"\3\2\2\2\u0d03\u0d04\7e\2\2\u0d04\u0d05\7o\2\2\u0d05\u0d06\7q\2\2\u0d06"+
-		"\u0d07\7x\2\2\u0d07\u0d08\7p\2\2\u0d08\u0d09\7c\2\2\u0d09\u0d0a\7g\2\2"+
-		"\u0d0a\u02f2\3\2\2\2\u0d0b\u0d0c\7e\2\2\u0d0c\u0d0d\7o\2\2\u0d0d\u0d0e"+
-		"\7q\2\2\u0d0e\u0d0f\7x\2\2\u0d0f\u0d10\7p\2\2\u0d10\u0d11\7d\2\2\u0d11"+
-		"\u02f4\3\2\2\2\u0d12\u0d13\7e\2\2\u0d13\u0d14\7o\2\2\u0d14\u0d15\7q\2"+
-		"\2\u0d15\u0d16\7x\2\2\u0d16\u0d17\7p\2\2\u0d17\u0d18\7d\2\2\u0d18\u0d19"+
-		"\7g\2\2\u0d19\u02f6\3\2\2\2\u0d1a\u0d1b\7e\2\2\u0d1b\u0d1c\7o\2\2\u0d1c"+
-		"\u0d1d\7q\2\2\u0d1d\u0d1e\7x\2\2\u0d1e\u0d1f\7p\2\2\u0d1f\u0d20\7e\2\2"+
-		"\u0d20\u02f8\3\2\2\2\u0d21\u0d22\7e\2\2\u0d22\u0d23\7o\2\2\u0d23\u0d24"+
-		"\7q\2\2\u0d24\u0d25\7x\2\2\u0d25\u0d26\7p\2\2\u0d26\u0d27\7g\2\2\u0d27"+
-		"\u02fa\3\2\2\2\u0d28\u0d29\7e\2\2\u0d29\u0d2a\7o\2\2\u0d2a\u0d2b\7q\2"+
-		"\2\u0d2b\u0d2c\7x\2\2\u0d2c\u0d2d\7p\2\2\u0d2d\u0d2e\7i\2\2\u0d2e\u02fc"+
-		"\3\2\2\2\u0d2f\u0d30\7e\2\2\u0d30\u0d31\7o\2\2\u0d31\u0d32\7q\2\2\u0d32"+
-		"\u0d33\7x\2\2\u0d33\u0d34\7p\2\2\u0d34\u0d35\7i\2\2\u0d35\u0d36\7g\2\2"+
-		"\u0d36\u02fe\3\2\2\2\u0d37\u0d38\7e\2\2\u0d38\u0d39\7o\2\2\u0d39\u0d3a"+
-		"\7q\2\2\u0d3a\u0d3b\7x\2\2\u0d3b\u0d3c\7p\2\2\u0d3c\u0d3d\7n\2\2\u0d3d"+
-		"\u0300\3\2\2\2\u0d3e\u0d3f\7e\2\2\u0d3f\u0d40\7o\2\2\u0d40\u0d41\7q\2"+
-		"\2\u0d41\u0d42\7x\2\2\u0d42\u0d43\7p\2\2\u0d43\u0d44\7n\2\2\u0d44\u0d45"+
-		"\7g\2\2\u0d45\u0302\3\2\2\2\u0d46\u0d47\7e\2\2\u0d47\u0d48\7o\2\2\u0d48"+
-		"\u0d49\7q\2\2\u0d49\u0d4a\7x\2\2\u0d4a\u0d4b\7p\2\2\u0d4b\u0d4c\7q\2\2"+
-		"\u0d4c\u0304\3\2\2\2\u0d4d\u0d4e\7e\2\2\u0d4e\u0d4f\7o\2\2\u0d4f\u0d50"+
-		"\7q\2\2\u0d50\u0d51\7x\2\2\u0d51\u0d52\7p\2\2\u0d52\u0d53\7r\2\2\u0d53"+
-		"\u0306\3\2\2\2\u0d54\u0d55\7e\2\2\u0d55\u0d56\7o\2\2\u0d56\u0d57\7q\2"+
-		"\2\u0d57\u0d58\7x\2\2\u0d58\u0d59\7p\2\2\u0d59\u0d5a\7u\2\2\u0d5a\u0308"+
-		"\3\2\2\2\u0d5b\u0d5c\7e\2\2\u0d5c\u0d5d\7o\2\2\u0d5d\u0d5e\7q\2\2\u0d5e"+
-		"\u0d5f\7x\2\2\u0d5f\u0d60\7p\2\2\u0d60\u0d61\7|\2\2\u0d61\u030a\3\2\2"+
-		"\2\u0d62\u0d63\7e\2\2\u0d63\u0d64\7o\2\2\u0d64\u0d65\7q\2\2\u0d65\u0d66"+
-		"\7x\2\2\u0d66\u0d67\7q\2\2\u0d67\u030c\3\2\2\2\u0d68\u0d69\7e\2\2\u0d69"+
-		"\u0d6a\7o\2\2\u0d6a\u0d6b\7q\2\2\u0d6b\u0d6c\7x\2\2\u0d6c\u0d6d\7r\2\2"+
-		"\u0d6d\u030e\3\2\2\2\u0d6e\u0d6f\7e\2\2\u0d6f\u0d70\7o\2\2\u0d70\u0d71"+
-		"\7q\2\2\u0d71\u0d72\7x\2\2\u0d72\u0d73\7r\2\2\u0d73\u0d74\7g\2\2\u0d74"+
-		"\u0310\3\2\2\2\u0d75\u0d76\7e\2\2\u0d76\u0d77\7o\2\2\u0d77\u0d78\7q\2"+
-		"\2\u0d78\u0d79\7x\2\2\u0d79\u0d7a\7r\2\2\u0d7a\u0d7b\7q\2\2\u0d7b\u0312"+
-		"\3\2\2\2\u0d7c\u0d7d\7e\2\2\u0d7d\u0d7e\7o\2\2\u0d7e\u0d7f\7q\2\2\u0d7f"+
-		"\u0d80\7x\2\2\u0d80\u0d81\7u\2\2\u0d81\u0314\3\2\2\2\u0d82\u0d83\7e\2"+
-		"\2\u0d83\u0d84\7o\2\2\u0d84\u0d85\7q\2\2\u0d85\u0d86\7x\2\2\u0d86\u0d87"+
-		"\7|\2\2\u0d87\u0316\3\2\2\2\u0d88\u0d89\7e\2\2\u0d89\u0d8a\7o\2\2\u0d8a"+
-		"\u0d8b\7r\2\2\u0d8b\u0d8c\7z\2\2\u0d8c\u0d8d\7e\2\2\u0d8d\u0d8e\7j\2\2"+
-		"\u0d8e\u0d8f\7i\2\2\u0d8f\u0318\3\2\2\2\u0d90\u0d91\7r\2\2\u0d91\u0d92"+
-		"\7o\2\2\u0d92\u0d93\7q\2\2\u0d93\u0d94\7x\2\2\u0d94\u0d95\7o\2\2\u0d95"+
-		"\u0d96\7u\2\2\u0d96\u0d97\7m\2\2\u0d97\u0d98\7d\2\2\u0d98\u031a\3\2\2"+
-		"\2\u0d99\u0d9a\7o\2\2\u0d9a\u0d9b\7q\2\2\u0d9b\u0d9c\7x\2\2\u0d9c\u031c"+
-		"\3\2\2\2\u0d9d\u0d9e\7z\2\2\u0d9e\u0d9f\7c\2\2\u0d9f\u0da0\7f\2\2\u0da0"+
-		"\u0da1\7f\2\2\u0da1\u031e\3\2\2\2\u0da2\u0da3\7z\2\2\u0da3\u0da4\7e\2"+
-		"\2\u0da4\u0da5\7j\2\2\u0da5\u0da6\7i\2\2\u0da6\u0320\3\2\2\2\u0da7\u0da8"+
-		"\7c\2\2\u0da8\u0da9\7f\2\2\u0da9\u0daa\7e\2\2\u0daa\u0322\3\2\2\2\u0dab"+
-		"\u0dac\7c\2\2\u0dac\u0dad\7f\2\2\u0dad\u0dae\7f\2\2\u0dae\u0324\3\2\2"+
-		"\2\u0daf\u0db0\7e\2\2\u0db0\u0db1\7o\2\2\u0db1\u0db2\7r\2\2\u0db2\u0326"+
-		"\3\2\2\2\u0db3\u0db4\7f\2\2\u0db4\u0db5\7k\2\2\u0db5\u0db6\7x\2\2\u0db6"+
-		"\u0328\3\2\2\2\u0db7\u0db8\7o\2\2\u0db8\u0db9\7w\2\2\u0db9\u0dba\7n\2"+
-		"\2\u0dba\u032a\3\2\2\2\u0dbb\u0dbc\7u\2\2\u0dbc\u0dbd\7d\2\2\u0dbd\u0dbe"+
-		"\7d\2\2\u0dbe\u032c\3\2\2\2\u0dbf\u0dc0\7u\2\2\u0dc0\u0dc1\7w\2\2\u0dc1"+
-		"\u0dc2\7d\2\2\u0dc2\u032e\3\2\2\2\u0dc3\u0dc4\7c\2\2\u0dc4\u0dc5\7p\2"+
-		"\2\u0dc5\u0dc6\7f\2\2\u0dc6\u0330\3\2\2\2\u0dc7\u0dc8\7q\2\2\u0dc8\u0dc9"+
-		"\7t\2\2\u0dc9\u0332\3\2\2\2\u0dca\u0dcb\7z\2\2\u0dcb\u0dcc\7q\2\2\u0dcc"+
-		"\u0dcd\7t\2\2\u0dcd\u0334\3\2\2\2\u0dce\u0dcf\7t\2\2\u0dcf\u0dd0\7e\2"+
-		"\2\u0dd0\u0dd1\7n\2\2\u0dd1\u0336\3\2\2\2\u0dd2\u0dd3\7t\2\2\u0dd3\u0dd4"+
-		"\7e\2\2\u0dd4\u0dd5\7t\2\2\u0dd5\u0338\3\2\2\2\u0dd6\u0dd7\7t\2\2\u0dd7"+
-		"\u0dd8\7q\2\2\u0dd8\u0dd9\7n\2\2\u0dd9\u033a\3\2\2\2\u0dda\u0ddb\7t\2"+
-		"\2\u0ddb\u0ddc\7q\2\2\u0ddc\u0ddd\7t\2\2\u0ddd\u033c\3\2\2\2\u0dde\u0ddf"+
-		"\7u\2\2\u0ddf\u0de0\7c\2\2\u0de0\u0de1\7n\2\2\u0de1\u033e\3\2\2\2\u0de2"+
-		"\u0de3\7u\2\2\u0de3\u0de4\7c\2\2\u0de4\u0de5\7t\2\2\u0de5\u0340\3\2\2"+
-		"\2\u0de6\u0de7\7u\2\2\u0de7\u0de8\7j\2\2\u0de8\u0de9\7n\2\2\u0de9\u0342"+
-		"\3\2\2\2\u0dea\u0deb\7u\2\2\u0deb\u0dec\7j\2\2\u0dec\u0ded\7t\2\2\u0ded"+
-		"\u0344\3\2\2\2\u0dee\u0def\7n\2\2\u0def\u0df0\7g\2\2\u0df0\u0df1\7c\2"+
-		"\2\u0df1\u0346\3\2\2\2\u0df2\u0df3\7d\2\2\u0df3\u0df4\7u\2\2\u0df4\u0df5"+
-		"\7h\2\2\u0df5\u0348\3\2\2\2\u0df6\u0df7\7d\2\2\u0df7\u0df8\7u\2\2\u0df8"+
-		"\u0df9\7t\2\2\u0df9\u034a\3\2\2\2\u0dfa\u0dfb\7<\2\2\u0dfb\u034c\3\2\2"+
-		"\2\u0dfc\u0dfd\7*\2\2\u0dfd\u034e\3\2\2\2\u0dfe\u0dff\7+\2\2\u0dff\u0350"+
-		"\3\2\2\2\u0e00\u0e01\7\'\2\2\u0e01\u0e02\7c\2\2\u0e02\u0e03\7j\2\2\u0e03"+
-		"\u0352\3\2\2\2\u0e04\u0e05\7\'\2\2\u0e05\u0e06\7c\2\2\u0e06\u0e07\7n\2"+
-		"\2\u0e07\u0354\3\2\2\2\u0e08\u0e09\7\'\2\2\u0e09\u0e0a\7d\2\2\u0e0a\u0e0b"+
-		"\7j\2\2\u0e0b\u0356\3\2\2\2\u0e0c\u0e0d\7\'\2\2\u0e0d\u0e0e\7d\2\2\u0e0e"+
-		"\u0e0f\7n\2\2\u0e0f\u0358\3\2\2\2\u0e10\u0e11\7\'\2\2\u0e11\u0e12\7e\2"+
-		"\2\u0e12\u0e13\7j\2\2\u0e13\u035a\3\2\2\2\u0e14\u0e15\7\'\2\2\u0e15\u0e16"+
-		"\7e\2\2\u0e16\u0e17\7n\2\2\u0e17\u035c\3\2\2\2\u0e18\u0e19\7\'\2\2\u0e19"+
-		"\u0e1a\7f\2\2\u0e1a\u0e1b\7j\2\2\u0e1b\u035e\3\2\2\2\u0e1c\u0e1d\7\'\2"+
-		"\2\u0e1d\u0e1e\7f\2\2\u0e1e\u0e1f\7n\2\2\u0e1f\u0360\3\2\2\2\u0e20\u0e21"+
-		"\7\'\2\2\u0e21\u0e22\7t\2\2\u0e22\u0e23\7\62\2\2\u0e23\u0e24\7n\2\2\u0e24"+
-		"\u0362\3\2\2\2\u0e25\u0e26\7\'\2\2\u0e26\u0e27\7t\2\2\u0e27\u0e28\7\63"+
-		"\2\2\u0e28\u0e29\7n\2\2\u0e29\u0364\3\2\2\2\u0e2a\u0e2b\7\'\2\2\u0e2b"+
-		"\u0e2c\7t\2\2\u0e2c\u0e2d\7\64\2\2\u0e2d\u0e2e\7n\2\2\u0e2e\u0366\3\2"+
-		"\2\2\u0e2f\u0e30\7\'\2\2\u0e30\u0e31\7t\2\2\u0e31\u0e32\7\65\2\2\u0e32"+
-		"\u0e33\7n\2\2\u0e33\u0368\3\2\2\2\u0e34\u0e35\7\'\2\2\u0e35\u0e36\7t\2"+
-		"\2\u0e36\u0e37\7\66\2\2\u0e37\u0e38\7n\2\2\u0e38\u036a\3\2\2\2\u0e39\u0e3a"+
-		"\7\'\2\2\u0e3a\u0e3b\7t\2\2\u0e3b\u0e3c\7\67\2\2\u0e3c\u0e3d\7n\2\2\u0e3d"+
-		"\u036c\3\2\2\2\u0e3e\u0e3f\7\'\2\2\u0e3f\u0e40\7t\2\2\u0e40\u0e41\78\2"+
-		"\2\u0e41\u0e42\7n\2\2\u0e42\u036e\3\2\2\2\u0e43\u0e44\7\'\2\2\u0e44\u0e45"+
-		"\7t\2\2\u0e45\u0e46\79\2\2\u0e46\u0e47\7n\2\2\u0e47\u0370\3\2\2\2\u0e48"+
-		"\u0e49\7\'\2\2\u0e49\u0e4a\7t\2\2\u0e4a\u0e4b\7:\2\2\u0e4b\u0e4c\7n\2"+
-		"\2\u0e4c\u0372\3\2\2\2\u0e4d\u0e4e\7\'\2\2\u0e4e\u0e4f\7t\2\2\u0e4f\u0e50"+
-		"\7;\2\2\u0e50\u0e51\7n\2\2\u0e51\u0374\3\2\2\2\u0e52\u0e53\7\'\2\2\u0e53"+
-		"\u0e54\7t\2\2\u0e54\u0e55\7\63\2\2\u0e55\u0e56\7\62\2\2\u0e56\u0e57\7"+
-		"n\2\2\u0e57\u0376\3\2\2\2\u0e58\u0e59\7\'\2\2\u0e59\u0e5a\7t\2\2\u0e5a"+
-		"\u0e5b\7\63\2\2\u0e5b\u0e5c\7\63\2\2\u0e5c\u0e5d\7n\2\2\u0e5d\u0378\3"+
-		"\2\2\2\u0e5e\u0e5f\7\'\2\2\u0e5f\u0e60\7t\2\2\u0e60\u0e61\7\63\2\2\u0e61"+
-		"\u0e62\7\64\2\2\u0e62\u0e63\7n\2\2\u0e63\u037a\3\2\2\2\u0e64\u0e65\7\'"+
-		"\2\2\u0e65\u0e66\7t\2\2\u0e66\u0e67\7\63\2\2\u0e67\u0e68\7\65\2\2\u0e68"+
-		"\u0e69\7n\2\2\u0e69\u037c\3\2\2\2\u0e6a\u0e6b\7\'\2\2\u0e6b\u0e6c\7t\2"+
-		"\2\u0e6c\u0e6d\7\63\2\2\u0e6d\u0e6e\7\66\2\2\u0e6e\u0e6f\7n\2\2\u0e6f"+
-		"\u037e\3\2\2\2\u0e70\u0e71\7\'\2\2\u0e71\u0e72\7t\2\2\u0e72\u0e73\7\63"+
-		"\2\2\u0e73\u0e74\7\67\2\2\u0e74\u0e75\7n\2\2\u0e75\u0380\3\2\2\2\u0e76"+
-		"\u0e77\7\'\2\2\u0e77\u0e78\7c\2\2\u0e78\u0e79\7z\2\2\u0e79\u0382\3\2\2"+
-		"\2\u0e7a\u0e7b\7\'\2\2\u0e7b\u0e7c\7d\2\2\u0e7c\u0e7d\7z\2\2\u0e7d\u0384"+
-		"\3\2\2\2\u0e7e\u0e7f\7\'\2\2\u0e7f\u0e80\7e\2\2\u0e80\u0e81\7z\2\2\u0e81"+
-		"\u0386\3\2\2\2\u0e82\u0e83\7\'\2\2\u0e83\u0e84\7f\2\2\u0e84\u0e85\7z\2"+
-		"\2\u0e85\u0388\3\2\2\2\u0e86\u0e87\7\'\2\2\u0e87\u0e88\7u\2\2\u0e88\u0e89"+
-		"\7k\2\2\u0e89\u038a\3\2\2\2\u0e8a\u0e8b\7\'\2\2\u0e8b\u0e8c\7f\2\2\u0e8c"+
-		"\u0e8d\7k\2\2\u0e8d\u038c\3\2\2\2\u0e8e\u0e8f\7\'\2\2\u0e8f\u0e90\7d\2"+
-		"\2\u0e90\u0e91\7r\2\2\u0e91\u038e\3\2\2\2\u0e92\u0e93\7\'\2\2\u0e93\u0e94"+
-		"\7u\2\2\u0e94\u0e95\7r\2\2\u0e95\u0390\3\2\2\2\u0e96\u0e97\7\'\2\2\u0e97"+
-		"\u0e98\7t\2\2\u0e98\u0e99\7\62\2\2\u0e99\u0e9a\7y\2\2\u0e9a\u0392\3\2"+
-		"\2\2\u0e9b\u0e9c\7\'\2\2\u0e9c\u0e9d\7t\2\2\u0e9d\u0e9e\7\63\2\2\u0e9e"+
-		"\u0e9f\7y\2\2\u0e9f\u0394\3\2\2\2\u0ea0\u0ea1\7\'\2\2\u0ea1\u0ea2\7t\2"+
-		"\2\u0ea2\u0ea3\7\64\2\2\u0ea3\u0ea4\7y\2\2\u0ea4\u0396\3\2\2\2\u0ea5\u0ea6"+
-		"\7\'\2\2\u0ea6\u0ea7\7t\2\2\u0ea7\u0ea8\7\65\2\2\u0ea8\u0ea9\7y\2\2\u0ea9"+
-		"\u0398\3\2\2\2\u0eaa\u0eab\7\'\2\2\u0eab\u0eac\7t\2\2\u0eac\u0ead\7\66"+
-		"\2\2\u0ead\u0eae\7y\2\2\u0eae\u039a\3\2\2\2\u0eaf\u0eb0\7\'\2\2\u0eb0"+
-		"\u0eb1\7t\2\2\u0eb1\u0eb2\7\67\2\2\u0eb2\u0eb3\7y\2\2\u0eb3\u039c\3\2"+
-		"\2\2\u0eb4\u0eb5\7\'\2\2\u0eb5\u0eb6\7t\2\2\u0eb6\u0eb7\78\2\2\u0eb7\u0eb8"+
-		"\7y\2\2\u0eb8\u039e\3\2\2\2\u0eb9\u0eba\7\'\2\2\u0eba\u0ebb\7t\2\2\u0ebb"+
-		"\u0ebc\79\2\2\u0ebc\u0ebd\7y\2\2\u0ebd\u03a0\3\2\2\2\u0ebe\u0ebf\7\'\2"+
-		"\2\u0ebf\u0ec0\7t\2\2\u0ec0\u0ec1\7:\2\2\u0ec1\u0ec2\7y\2\2\u0ec2\u03a2"+
-		"\3\2\2\2\u0ec3\u0ec4\7\'\2\2\u0ec4\u0ec5\7t\2\2\u0ec5\u0ec6\7;\2\2\u0ec6"+
-		"\u0ec7\7y\2\2\u0ec7\u03a4\3\2\2\2\u0ec8\u0ec9\7\'\2\2\u0ec9\u0eca\7t\2"+
-		"\2\u0eca\u0ecb\7\63\2\2\u0ecb\u0ecc\7\62\2\2\u0ecc\u0ecd\7y\2\2\u0ecd"+
-		"\u03a6\3\2\2\2\u0ece\u0ecf\7\'\2\2\u0ecf\u0ed0\7t\2\2\u0ed0\u0ed1\7\63"+
-		"\2\2\u0ed1\u0ed2\7\63\2\2\u0ed2\u0ed3\7y\2\2\u0ed3\u03a8\3\2\2\2\u0ed4"+
-		"\u0ed5\7\'\2\2\u0ed5\u0ed6\7t\2\2\u0ed6\u0ed7\7\63\2\2\u0ed7\u0ed8\7\64"+
-		"\2\2\u0ed8\u0ed9\7y\2\2\u0ed9\u03aa\3\2\2\2\u0eda\u0edb\7\'\2\2\u0edb"+
-		"\u0edc\7t\2\2\u0edc\u0edd\7\63\2\2\u0edd\u0ede\7\65\2\2\u0ede\u0edf\7"+
-		"y\2\2\u0edf\u03ac\3\2\2\2\u0ee0\u0ee1\7\'\2\2\u0ee1\u0ee2\7t\2\2\u0ee2"+
-		"\u0ee3\7\63\2\2\u0ee3\u0ee4\7\66\2\2\u0ee4\u0ee5\7y\2\2\u0ee5\u03ae\3"+
-		"\2\2\2\u0ee6\u0ee7\7\'\2\2\u0ee7\u0ee8\7t\2\2\u0ee8\u0ee9\7\63\2\2\u0ee9"+
-		"\u0eea\7\67\2\2\u0eea\u0eeb\7y\2\2\u0eeb\u03b0\3\2\2\2\u0eec\u0eed\7\'"+
-		"\2\2\u0eed\u0eee\7g\2\2\u0eee\u0eef\7c\2\2\u0eef\u0ef0\7z\2\2\u0ef0\u03b2"+
-		"\3\2\2\2\u0ef1\u0ef2\7\'\2\2\u0ef2\u0ef3\7g\2\2\u0ef3\u0ef4\7d\2\2\u0ef4"+
-		"\u0ef5\7z\2\2\u0ef5\u03b4\3\2\2\2\u0ef6\u0ef7\7\'\2\2\u0ef7\u0ef8\7g\2"+
-		"\2\u0ef8\u0ef9\7e\2\2\u0ef9\u0efa\7z\2\2\u0efa\u03b6\3\2\2\2\u0efb\u0efc"+
-		"\7\'\2\2\u0efc\u0efd\7g\2\2\u0efd\u0efe\7f\2\2\u0efe\u0eff\7z\2\2\u0eff"+
-		"\u03b8\3\2\2\2\u0f00\u0f01\7\'\2\2\u0f01\u0f02\7g\2\2\u0f02\u0f03\7u\2"+
-		"\2\u0f03\u0f04\7k\2\2\u0f04\u03ba\3\2\2\2\u0f05\u0f06\7\'\2\2\u0f06\u0f07"+
-		"\7g\2\2\u0f07\u0f08\7f\2\2\u0f08\u0f09\7k\2\2\u0f09\u03bc\3\2\2\2\u0f0a"+
-		"\u0f0b\7\'\2\2\u0f0b\u0f0c\7g\2\2\u0f0c\u0f0d\7d\2\2\u0f0d\u0f0e\7r\2"+
-		"\2\u0f0e\u03be\3\2\2\2\u0f0f\u0f10\7\'\2\2\u0f10\u0f11\7g\2\2\u0f11\u0f12"+
-		"\7u\2\2\u0f12\u0f13\7r\2\2\u0f13\u03c0\3\2\2\2\u0f14\u0f15\7\'\2\2\u0f15"+
-		"\u0f16\7t\2\2\u0f16\u0f17\7\62\2\2\u0f17\u0f18\7f\2\2\u0f18\u03c2\3\2"+
-		"\2\2\u0f19\u0f1a\7\'\2\2\u0f1a\u0f1b\7t\2\2\u0f1b\u0f1c\7\63\2\2\u0f1c"+
-		"\u0f1d\7f\2\2\u0f1d\u03c4\3\2\2\2\u0f1e\u0f1f\7\'\2\2\u0f1f\u0f20\7t\2"+
-		"\2\u0f20\u0f21\7\64\2\2\u0f21\u0f22\7f\2\2\u0f22\u03c6\3\2\2\2\u0f23\u0f24"+
-		"\7\'\2\2\u0f24\u0f25\7t\2\2\u0f25\u0f26\7\65\2\2\u0f26\u0f27\7f\2\2\u0f27"+
-		"\u03c8\3\2\2\2\u0f28\u0f29\7\'\2\2\u0f29\u0f2a\7t\2\2\u0f2a\u0f2b\7\66"+
-		"\2\2\u0f2b\u0f2c\7f\2\2\u0f2c\u03ca\3\2\2\2\u0f2d\u0f2e\7\'\2\2\u0f2e"+
-		"\u0f2f\7t\2\2\u0f2f\u0f30\7\67\2\2\u0f30\u0f31\7f\2\2\u0f31\u03cc\3\2"+
-		"\2\2\u0f32\u0f33\7\'\2\2\u0f33\u0f34\7t\2\2\u0f34\u0f35\78\2\2\u0f35\u0f36"+
-		"\7f\2\2\u0f36\u03ce\3\2\2\2\u0f37\u0f38\7\'\2\2\u0f38\u0f39\7t\2\2\u0f39"+
-		"\u0f3a\79\2\2\u0f3a\u0f3b\7f\2\2\u0f3b\u03d0\3\2\2\2\u0f3c\u0f3d\7\'\2"+
-		"\2\u0f3d\u0f3e\7t\2\2\u0f3e\u0f3f\7:\2\2\u0f3f\u0f40\7f\2\2\u0f40\u03d2"+
-		"\3\2\2\2\u0f41\u0f42\7\'\2\2\u0f42\u0f43\7t\2\2\u0f43\u0f44\7;\2\2\u0f44"+
-		"\u0f45\7f\2\2\u0f45\u03d4\3\2\2\2\u0f46\u0f47\7\'\2\2\u0f47\u0f48\7t\2"+
-		"\2\u0f48\u0f49\7\63\2\2\u0f49\u0f4a\7\62\2\2\u0f4a\u0f4b\7f\2\2\u0f4b"+
-		"\u03d6\3\2\2\2\u0f4c\u0f4d\7\'\2\2\u0f4d\u0f4e\7t\2\2\u0f4e\u0f4f\7\63"+
-		"\2\2\u0f4f\u0f50\7\63\2\2\u0f50\u0f51\7f\2\2\u0f51\u03d8\3\2\2\2\u0f52"+
-		"\u0f53\7\'\2\2\u0f53\u0f54\7t\2\2\u0f54\u0f55\7\63\2\2\u0f55\u0f56\7\64"+
-		"\2\2\u0f56\u0f57\7f\2\2\u0f57\u03da\3\2\2\2\u0f58\u0f59\7\'\2\2\u0f59"+
-		"\u0f5a\7t\2\2\u0f5a\u0f5b\7\63\2\2\u0f5b\u0f5c\7\65\2\2\u0f5c\u0f5d\7"+
-		"f\2\2\u0f5d\u03dc\3\2\2\2\u0f5e\u0f5f\7\'\2\2\u0f5f\u0f60\7t\2\2\u0f60"+
-		"\u0f61\7\63\2\2\u0f61\u0f62\7\66\2\2\u0f62\u0f63\7f\2\2\u0f63\u03de\3"+
-		"\2\2\2\u0f64\u0f65\7\'\2\2\u0f65\u0f66\7t\2\2\u0f66\u0f67\7\63\2\2\u0f67"+
-		"\u0f68\7\67\2\2\u0f68\u0f69\7f\2\2\u0f69\u03e0\3\2\2\2\u0f6a\u0f6b\7\'"+
-		"\2\2\u0f6b\u0f6c\7t\2\2\u0f6c\u0f6d\7c\2\2\u0f6d\u0f6e\7z\2\2\u0f6e\u03e2"+
-		"\3\2\2\2\u0f6f\u0f70\7\'\2\2\u0f70\u0f71\7t\2\2\u0f71\u0f72\7d\2\2\u0f72"+
-		"\u0f73\7z\2\2\u0f73\u03e4\3\2\2\2\u0f74\u0f75\7\'\2\2\u0f75\u0f76\7t\2"+
-		"\2\u0f76\u0f77\7e\2\2\u0f77\u0f78\7z\2\2\u0f78\u03e6\3\2\2\2\u0f79\u0f7a"+
-		"\7\'\2\2\u0f7a\u0f7b\7t\2\2\u0f7b\u0f7c\7f\2\2\u0f7c\u0f7d\7z\2\2\u0f7d"+
-		"\u03e8\3\2\2\2\u0f7e\u0f7f\7\'\2\2\u0f7f\u0f80\7t\2\2\u0f80\u0f81\7u\2"+
-		"\2\u0f81\u0f82\7r\2\2\u0f82\u03ea\3\2\2\2\u0f83\u0f84\7\'\2\2\u0f84\u0f85"+
-		"\7t\2\2\u0f85\u0f86\7d\2\2\u0f86\u0f87\7r\2\2\u0f87\u03ec\3\2\2\2\u0f88"+
-		"\u0f89\7\'\2\2\u0f89\u0f8a\7t\2\2\u0f8a\u0f8b\7u\2\2\u0f8b\u0f8c\7k\2"+
-		"\2\u0f8c\u03ee\3\2\2\2\u0f8d\u0f8e\7\'\2\2\u0f8e\u0f8f\7t\2\2\u0f8f\u0f90"+
-		"\7f\2\2\u0f90\u0f91\7k\2\2\u0f91\u03f0\3\2\2\2\u0f92\u0f93\7\'\2\2\u0f93"+
-		"\u0f94\7t\2\2\u0f94\u0f95\7\62\2\2\u0f95\u03f2\3\2\2\2\u0f96\u0f97\7\'"+
-		"\2\2\u0f97\u0f98\7t\2\2\u0f98\u0f99\7\63\2\2\u0f99\u03f4\3\2\2\2\u0f9a"+
-		"\u0f9b\7\'\2\2\u0f9b\u0f9c\7t\2\2\u0f9c\u0f9d\7\64\2\2\u0f9d\u03f6\3\2"+
-		"\2\2\u0f9e\u0f9f\7\'\2\2\u0f9f\u0fa0\7t\2\2\u0fa0\u0fa1\7\65\2\2\u0fa1"+
-		"\u03f8\3\2\2\2\u0fa2\u0fa3\7\'\2\2\u0fa3\u0fa4\7t\2\2\u0fa4\u0fa5\7\66"+
-		"\2\2\u0fa5\u03fa\3\2\2\2\u0fa6\u0fa7\7\'\2\2\u0fa7\u0fa8\7t\2\2\u0fa8"+
-		"\u0fa9\7\67\2\2\u0fa9\u03fc\3\2\2\2\u0faa\u0fab\7\'\2\2\u0fab\u0fac\7"+
-		"t\2\2\u0fac\u0fad\78\2\2\u0fad\u03fe\3\2\2\2\u0fae\u0faf\7\'\2\2\u0faf"+
-		"\u0fb0\7t\2\2\u0fb0\u0fb1\79\2\2\u0fb1\u0400\3\2\2\2\u0fb2\u0fb3\7\'\2"+
-		"\2\u0fb3\u0fb4\7t\2\2\u0fb4\u0fb5\7:\2\2\u0fb5\u0402\3\2\2\2\u0fb6\u0fb7"+
-		"\7\'\2\2\u0fb7\u0fb8\7t\2\2\u0fb8\u0fb9\7;\2\2\u0fb9\u0404\3\2\2\2\u0fba"+
-		"\u0fbb\7\'\2\2\u0fbb\u0fbc\7t\2\2\u0fbc\u0fbd\7\63\2\2\u0fbd\u0fbe\7\62"+
-		"\2\2\u0fbe\u0406\3\2\2\2\u0fbf\u0fc0\7\'\2\2\u0fc0\u0fc1\7t\2\2\u0fc1"+
-		"\u0fc2\7\63\2\2\u0fc2\u0fc3\7\63\2\2\u0fc3\u0408\3\2\2\2\u0fc4\u0fc5\7"+
-		"\'\2\2\u0fc5\u0fc6\7t\2\2\u0fc6\u0fc7\7\63\2\2\u0fc7\u0fc8\7\64\2\2\u0fc8"+
-		"\u040a\3\2\2\2\u0fc9\u0fca\7\'\2\2\u0fca\u0fcb\7t\2\2\u0fcb\u0fcc\7\63"+
-		"\2\2\u0fcc\u0fcd\7\65\2\2\u0fcd\u040c\3\2\2\2\u0fce\u0fcf\7\'\2\2\u0fcf"+
-		"\u0fd0\7t\2\2\u0fd0\u0fd1\7\63\2\2\u0fd1\u0fd2\7\66\2\2\u0fd2\u040e\3"+
-		"\2\2\2\u0fd3\u0fd4\7\'\2\2\u0fd4\u0fd5\7t\2\2\u0fd5\u0fd6\7\63\2\2\u0fd6"+
-		"\u0fd7\7\67\2\2\u0fd7\u0410\3\2\2\2\u0fd8\u0fd9\7\'\2\2\u0fd9\u0fda\7"+
-		"z\2\2\u0fda\u0fdb\7o\2\2\u0fdb\u0fdc\7o\2\2\u0fdc\u0fdd\7\62\2\2\u0fdd"+
-		"\u0412\3\2\2\2\u0fde\u0fdf\7\'\2\2\u0fdf\u0fe0\7z\2\2\u0fe0\u0fe1\7o\2"+
-		"\2\u0fe1\u0fe2\7o\2\2\u0fe2\u0fe3\7\63\2\2\u0fe3\u0414\3\2\2\2\u0fe4\u0fe5"+
-		"\7\'\2\2\u0fe5\u0fe6\7z\2\2\u0fe6\u0fe7\7o\2\2\u0fe7\u0fe8\7o\2\2\u0fe8"+
-		"\u0fe9\7\64\2\2\u0fe9\u0416\3\2\2\2\u0fea\u0feb\7\'\2\2\u0feb\u0fec\7"+
-		"z\2\2\u0fec\u0fed\7o\2\2\u0fed\u0fee\7o\2\2\u0fee\u0fef\7\65\2\2\u0fef"+
-		"\u0418\3\2\2\2\u0ff0\u0ff1\7\'\2\2\u0ff1\u0ff2\7z\2\2\u0ff2\u0ff3\7o\2"+
-		"\2\u0ff3\u0ff4\7o\2\2\u0ff4\u0ff5\7\66\2\2\u0ff5\u041a\3\2\2\2\u0ff6\u0ff7"+
-		"\7\'\2\2\u0ff7\u0ff8\7z\2\2\u0ff8\u0ff9\7o\2\2\u0ff9\u0ffa\7o\2\2\u0ffa"+
-		"\u0ffb\7\67\2\2\u0ffb\u041c\3\2\2\2\u0ffc\u0ffd\7\'\2\2\u0ffd\u0ffe\7"+
-		"z\2\2\u0ffe\u0fff\7o\2\2\u0fff\u1000\7o\2\2\u1000\u1001\78\2\2\u1001\u041e"+
-		"\3\2\2\2\u1002\u1003\7\'\2\2\u1003\u1004\7z\2\2\u1004\u1005\7o\2\2\u1005"+
-		"\u1006\7o\2\2\u1006\u1007\79\2\2\u1007\u0420\3\2\2\2\u1008\u1009\7\'\2"+
-		"\2\u1009\u100a\7z\2\2\u100a\u100b\7o\2\2\u100b\u100c\7o\2\2\u100c\u100d"+
-		"\7:\2\2\u100d\u0422\3\2\2\2\u100e\u100f\7\'\2\2\u100f\u1010\7z\2\2\u1010"+
-		"\u1011\7o\2\2\u1011\u1012\7o\2\2\u1012\u1013\7;\2\2\u1013\u0424\3\2\2"+
-		"\2\u1014\u1015\7\'\2\2\u1015\u1016\7z\2\2\u1016\u1017\7o\2\2\u1017\u1018"+
-		"\7o\2\2\u1018\u1019\7\63\2\2\u1019\u101a\7\62\2\2\u101a\u0426\3\2\2\2"+
-		"\u101b\u101c\7\'\2\2\u101c\u101d\7z\2\2\u101d\u101e\7o\2\2\u101e\u101f"+
-		"\7o\2\2\u101f\u1020\7\63\2\2\u1020\u1021\7\63\2\2\u1021\u0428\3\2\2\2"+
-		"\u1022\u1023\7\'\2\2\u1023\u1024\7z\2\2\u1024\u1025\7o\2\2\u1025\u1026"+
-		"\7o\2\2\u1026\u1027\7\63\2\2\u1027\u1028\7\64\2\2\u1028\u042a\3\2\2\2"+
-		"\u1029\u102a\7\'\2\2\u102a\u102b\7z\2\2\u102b\u102c\7o\2\2\u102c\u102d"+
-		"\7o\2\2\u102d\u102e\7\63\2\2\u102e\u102f\7\65\2\2\u102f\u042c\3\2\2\2"+
-		"\u1030\u1031\7\'\2\2\u1031\u1032\7z\2\2\u1032\u1033\7o\2\2\u1033\u1034"+
-		"\7o\2\2\u1034\u1035\7\63\2\2\u1035\u1036\7\66\2\2\u1036\u042e\3\2\2\2"+
-		"\u1037\u1038\7\'\2\2\u1038\u1039\7z\2\2\u1039\u103a\7o\2\2\u103a\u103b"+
-		"\7o\2\2\u103b\u103c\7\63\2\2\u103c\u103d\7\67\2\2\u103d\u0430\3\2\2\2"+
-		"\u103e\u103f\7\'\2\2\u103f\u1040\7e\2\2\u1040\u1041\7u\2\2\u1041\u0432"+
-		"\3\2\2\2\u1042\u1043\7\'\2\2\u1043\u1044\7f\2\2\u1044\u1045\7u\2\2\u1045"+
-		"\u0434\3\2\2\2\u1046\u1047\7\'\2\2\u1047\u1048\7g\2\2\u1048\u1049\7u\2"+
-		"\2\u1049\u0436\3\2\2\2\u104a\u104b\7\'\2\2\u104b\u104c\7h\2\2\u104c\u104d"+
-		"\7u\2\2\u104d\u0438\3\2\2\2\u104e\u104f\7\'\2\2\u104f\u1050\7i\2\2\u1050"+
-		"\u1051\7u\2\2\u1051\u043a\3\2\2\2\u1052\u1053\7\'\2\2\u1053\u1054\7u\2"+
-		"\2\u1054\u1055\7u\2\2\u1055\u043c\3\2\2\2\u1056\u1057\7&\2\2\u1057\u1058"+
-		"\7&\2\2\u1058\u043e\3\2\2\2\u1059\u105a\7&\2\2\u105a\u0440\3\2\2\2\u105b"+
-		"\u105c\7}\2\2\u105c\u0442\3\2\2\2\u105d\u105e\7d\2\2\u105e\u0444\3\2\2"+
-		"\2\u105f\u1060\7j\2\2\u1060\u0446\3\2\2\2\u1061\u1062\7y\2\2\u1062\u0448"+
-		"\3\2\2\2\u1063\u1064\7m\2\2\u1064\u044a\3\2\2\2\u1065\u1066\7s\2\2\u1066"+
-		"\u044c\3\2\2\2\u1067\u1068\7\177\2\2\u1068\u044e\3\2\2\2\u1069\u106a\t"+
-		"\2\2\2\u106a\u0450\3\2\2\2\u106b\u106c\t\3\2\2\u106c\u0452\3\2\2\2\u106d"+
-		"\u106e\t\4\2\2\u106e\u0454\3\2\2\2\u106f\u1071\t\5\2\2\u1070\u106f\3\2"+
-		"\2\2\u1071\u0456\3\2\2\2\u1072\u1073\t\6\2\2\u1073\u0458\3\2\2\2\u1074"+
-		"\u107a\5\u0457\u022c\2\u1075\u1079\5\u0457\u022c\2\u1076\u1079\5\u044f"+
-		"\u0228\2\u1077\u1079\7a\2\2\u1078\u1075\3\2\2\2\u1078\u1076\3\2\2\2\u1078"+
-		"\u1077\3\2\2\2\u1079\u107c\3\2\2\2\u107a\u1078\3\2\2\2\u107a\u107b\3\2"+
-		"\2\2\u107b\u045a\3\2\2\2\u107c\u107a\3\2\2\2\u107d\u107e\7\62\2\2\u107e"+
-		"\u107f\7d\2\2\u107f\u1081\3\2\2\2\u1080\u1082\5\u0451\u0229\2\u1081\u1080"+
-		"\3\2\2\2\u1082\u1083\3\2\2\2\u1083\u1081\3\2\2\2\u1083\u1084\3\2\2\2\u1084"+
-		"\u045c\3\2\2\2\u1085\u1086\7\62\2\2\u1086\u1087\7z\2\2\u1087\u1089\3\2"+
-		"\2\2\u1088\u108a\5\u0455\u022b\2\u1089\u1088\3\2\2\2\u108a\u108b\3\2\2"+
-		"\2\u108b\u1089\3\2\2\2\u108b\u108c\3\2\2\2\u108c\u045e\3\2\2\2\u108d\u108f"+
-		"\7/\2\2\u108e\u108d\3\2\2\2\u108e\u108f\3\2\2\2\u108f\u1091\3\2\2\2\u1090"+
-		"\u1092\5\u044f\u0228\2\u1091\u1090\3\2\2\2\u1092\u1093\3\2\2\2\u1093\u1091"+
-		"\3\2\2\2\u1093\u1094\3\2\2\2\u1094\u0460\3\2\2\2\u1095\u1097\7\"\2\2\u1096"+
-		"\u1095\3\2\2\2\u1097\u1098\3\2\2\2\u1098\u1096\3\2\2\2\u1098\u1099\3\2"+
-		"\2\2\u1099\u109a\3\2\2\2\u109a\u109b\b\u0231\2\2\u109b\u0462\3\2\2\2\13"+
-		"\2\u1070\u1078\u107a\u1083\u108b\u108e\u1093\u1098\3\b\2\2";
+		"\u07e3\7d\2\2\u07e3\u0158\3\2\2\2\u07e4\u07e5\7c\2\2\u07e5\u07e6\7f\2"+
+		"\2\u07e6\u07e7\7f\2\2\u07e7\u07e8\7d\2\2\u07e8\u015a\3\2\2\2\u07e9\u07ea"+
+		"\7e\2\2\u07ea\u07eb\7o\2\2\u07eb\u07ec\7r\2\2\u07ec\u07ed\7d\2\2\u07ed"+
+		"\u015c\3\2\2\2\u07ee\u07ef\7u\2\2\u07ef\u07f0\7d\2\2\u07f0\u07f1\7d\2"+
+		"\2\u07f1\u07f2\7d\2\2\u07f2\u015e\3\2\2\2\u07f3\u07f4\7u\2\2\u07f4\u07f5"+
+		"\7w\2\2\u07f5\u07f6\7d\2\2\u07f6\u07f7\7d\2\2\u07f7\u0160\3\2\2\2\u07f8"+
+		"\u07f9\7c\2\2\u07f9\u07fa\7p\2\2\u07fa\u07fb\7f\2\2\u07fb\u07fc\7d\2\2"+
+		"\u07fc\u0162\3\2\2\2\u07fd\u07fe\7q\2\2\u07fe\u07ff\7t\2\2\u07ff\u0800"+
+		"\7d\2\2\u0800\u0164\3\2\2\2\u0801\u0802\7z\2\2\u0802\u0803\7q\2\2\u0803"+
+		"\u0804\7t\2\2\u0804\u0805\7d\2\2\u0805\u0166\3\2\2\2\u0806\u0807\7t\2"+
+		"\2\u0807\u0808\7e\2\2\u0808\u0809\7n\2\2\u0809\u080a\7d\2\2\u080a\u0168"+
+		"\3\2\2\2\u080b\u080c\7t\2\2\u080c\u080d\7e\2\2\u080d\u080e\7t\2\2\u080e"+
+		"\u080f\7d\2\2\u080f\u016a\3\2\2\2\u0810\u0811\7t\2\2\u0811\u0812\7q\2"+
+		"\2\u0812\u0813\7n\2\2\u0813\u0814\7d\2\2\u0814\u016c\3\2\2\2\u0815\u0816"+
+		"\7t\2\2\u0816\u0817\7q\2\2\u0817\u0818\7t\2\2\u0818\u0819\7d\2\2\u0819"+
+		"\u016e\3\2\2\2\u081a\u081b\7u\2\2\u081b\u081c\7c\2\2\u081c\u081d\7n\2"+
+		"\2\u081d\u081e\7d\2\2\u081e\u0170\3\2\2\2\u081f\u0820\7u\2\2\u0820\u0821"+
+		"\7c\2\2\u0821\u0822\7t\2\2\u0822\u0823\7d\2\2\u0823\u0172\3\2\2\2\u0824"+
+		"\u0825\7u\2\2\u0825\u0826\7j\2\2\u0826\u0827\7n\2\2\u0827\u0828\7d\2\2"+
+		"\u0828\u0174\3\2\2\2\u0829\u082a\7u\2\2\u082a\u082b\7j\2\2\u082b\u082c"+
+		"\7t\2\2\u082c\u082d\7d\2\2\u082d\u0176\3\2\2\2\u082e\u082f\7v\2\2\u082f"+
+		"\u0830\7g\2\2\u0830\u0831\7u\2\2\u0831\u0832\7v\2\2\u0832\u0833\7d\2\2"+
+		"\u0833\u0178\3\2\2\2\u0834\u0835\7e\2\2\u0835\u0836\7o\2\2\u0836\u0837"+
+		"\7r\2\2\u0837\u0838\7z\2\2\u0838\u0839\7e\2\2\u0839\u083a\7j\2\2\u083a"+
+		"\u083b\7i\2\2\u083b\u083c\7d\2\2\u083c\u017a\3\2\2\2\u083d\u083e\7e\2"+
+		"\2\u083e\u083f\7o\2\2\u083f\u0840\7q\2\2\u0840\u0841\7x\2\2\u0841\u0842"+
+		"\7c\2\2\u0842\u0843\7y\2\2\u0843\u017c\3\2\2\2\u0844\u0845\7e\2\2\u0845"+
+		"\u0846\7o\2\2\u0846\u0847\7q\2\2\u0847\u0848\7x\2\2\u0848\u0849\7c\2\2"+
+		"\u0849\u084a\7g\2\2\u084a\u084b\7y\2\2\u084b\u017e\3\2\2\2\u084c\u084d"+
+		"\7e\2\2\u084d\u084e\7o\2\2\u084e\u084f\7q\2\2\u084f\u0850\7x\2\2\u0850"+
+		"\u0851\7d\2\2\u0851\u0852\7y\2\2\u0852\u0180\3\2\2\2\u0853\u0854\7e\2"+
+		"\2\u0854\u0855\7o\2\2\u0855\u0856\7q\2\2\u0856\u0857\7x\2\2\u0857\u0858"+
+		"\7d\2\2\u0858\u0859\7g\2\2\u0859\u085a\7y\2\2\u085a\u0182\3\2\2\2\u085b"+
+		"\u085c\7e\2\2\u085c\u085d\7o\2\2\u085d\u085e\7q\2\2\u085e\u085f\7x\2\2"+
+		"\u085f\u0860\7e\2\2\u0860\u0861\7y\2\2\u0861\u0184\3\2\2\2\u0862\u0863"+
+		"\7e\2\2\u0863\u0864\7o\2\2\u0864\u0865\7q\2\2\u0865\u0866\7x\2\2\u0866"+
+		"\u0867\7g\2\2\u0867\u0868\7y\2\2\u0868\u0186\3\2\2\2\u0869\u086a\7e\2"+
+		"\2\u086a\u086b\7o\2\2\u086b\u086c\7q\2\2\u086c\u086d\7x\2\2\u086d\u086e"+
+		"\7i\2\2\u086e\u086f\7y\2\2\u086f\u0188\3\2\2\2\u0870\u0871\7e\2\2\u0871"+
+		"\u0872\7o\2\2\u0872\u0873\7q\2\2\u0873\u0874\7x\2\2\u0874\u0875\7i\2\2"+
+		"\u0875\u0876\7g\2\2\u0876\u0877\7y\2\2\u0877\u018a\3\2\2\2\u0878\u0879"+
+		"\7e\2\2\u0879\u087a\7o\2\2\u087a\u087b\7q\2\2\u087b\u087c\7x\2\2\u087c"+
+		"\u087d\7n\2\2\u087d\u087e\7y\2\2\u087e\u018c\3\2\2\2\u087f\u0880\7e\2"+
+		"\2\u0880\u0881\7o\2\2\u0881\u0882\7q\2\2\u0882\u0883\7x\2\2\u0883\u0884"+
+		"\7n\2\2\u0884\u0885\7g\2\2\u0885\u0886\7y\2\2\u0886\u018e\3\2\2\2\u0887"+
+		"\u0888\7e\2\2\u0888\u0889\7o\2\2\u0889\u088a\7q\2\2\u088a\u088b\7x\2\2"+
+		"\u088b\u088c\7p\2\2\u088c\u088d\7c\2\2\u088d\u088e\7y\2\2\u088e\u0190"+
+		"\3\2\2\2\u088f\u0890\7e\2\2\u0890\u0891\7o\2\2\u0891\u0892\7q\2\2\u0892"+
+		"\u0893\7x\2\2\u0893\u0894\7p\2\2\u0894\u0895\7c\2\2\u0895\u0896\7g\2\2"+
+		"\u0896\u0897\7y\2\2\u0897\u0192\3\2\2\2\u0898\u0899\7e\2\2\u0899\u089a"+
+		"\7o\2\2\u089a\u089b\7q\2\2\u089b\u089c\7x\2\2\u089c\u089d\7p\2\2\u089d"+
+		"\u089e\7d\2\2\u089e\u089f\7y\2\2\u089f\u0194\3\2\2\2\u08a0\u08a1\7e\2"+
+		"\2\u08a1\u08a2\7o\2\2\u08a2\u08a3\7q\2\2\u08a3\u08a4\7x\2\2\u08a4\u08a5"+
+		"\7p\2\2\u08a5\u08a6\7d\2\2\u08a6\u08a7\7g\2\2\u08a7\u08a8\7y\2\2\u08a8"+
+		"\u0196\3\2\2\2\u08a9\u08aa\7e\2\2\u08aa\u08ab\7o\2\2\u08ab\u08ac\7q\2"+
+		"\2\u08ac\u08ad\7x\2\2\u08ad\u08ae\7p\2\2\u08ae\u08af\7e\2\2\u08af\u08b0"+
+		"\7y\2\2\u08b0\u0198\3\2\2\2\u08b1\u08b2\7e\2\2\u08b2\u08b3\7o\2\2\u08b3"+
+		"\u08b4\7q\2\2\u08b4\u08b5\7x\2\2\u08b5\u08b6\7p\2\2\u08b6\u08b7\7g\2\2"+
+		"\u08b7\u08b8\7y\2\2\u08b8\u019a\3\2\2\2\u08b9\u08ba\7e\2\2\u08ba\u08bb"+
+		"\7o\2\2\u08bb\u08bc\7q\2\2\u08bc\u08bd\7x\2\2\u08bd\u08be\7p\2\2\u08be"+
+		"\u08bf\7i\2\2\u08bf\u08c0\7y\2\2\u08c0\u019c\3\2\2\2\u08c1\u08c2\7e\2"+
+		"\2\u08c2\u08c3\7o\2\2\u08c3\u08c4\7q\2\2\u08c4\u08c5\7x\2\2\u08c5\u08c6"+
+		"\7p\2\2\u08c6\u08c7\7i\2\2\u08c7\u08c8\7g\2\2\u08c8\u08c9\7y\2\2\u08c9"+
+		"\u019e\3\2\2\2\u08ca\u08cb\7e\2\2\u08cb\u08cc\7o\2\2\u08cc\u08cd\7q\2"+
+		"\2\u08cd\u08ce\7x\2\2\u08ce\u08cf\7p\2\2\u08cf\u08d0\7n\2\2\u08d0\u08d1"+
+		"\7y\2\2\u08d1\u01a0\3\2\2\2\u08d2\u08d3\7e\2\2\u08d3\u08d4\7o\2\2\u08d4"+
+		"\u08d5\7q\2\2\u08d5\u08d6\7x\2\2\u08d6\u08d7\7p\2\2\u08d7\u08d8\7n\2\2"+
+		"\u08d8\u08d9\7g\2\2\u08d9\u08da\7y\2\2\u08da\u01a2\3\2\2\2\u08db\u08dc"+
+		"\7e\2\2\u08dc\u08dd\7o\2\2\u08dd\u08de\7q\2\2\u08de\u08df\7x\2\2\u08df"+
+		"\u08e0\7p\2\2\u08e0\u08e1\7q\2\2\u08e1\u08e2\7y\2\2\u08e2\u01a4\3\2\2"+
+		"\2\u08e3\u08e4\7e\2\2\u08e4\u08e5\7o\2\2\u08e5\u08e6\7q\2\2\u08e6\u08e7"+
+		"\7x\2\2\u08e7\u08e8\7p\2\2\u08e8\u08e9\7r\2\2\u08e9\u08ea\7y\2\2\u08ea"+
+		"\u01a6\3\2\2\2\u08eb\u08ec\7e\2\2\u08ec\u08ed\7o\2\2\u08ed\u08ee\7q\2"+
+		"\2\u08ee\u08ef\7x\2\2\u08ef\u08f0\7p\2\2\u08f0\u08f1\7u\2\2\u08f1\u08f2"+
+		"\7y\2\2\u08f2\u01a8\3\2\2\2\u08f3\u08f4\7e\2\2\u08f4\u08f5\7o\2\2\u08f5"+
+		"\u08f6\7q\2\2\u08f6\u08f7\7x\2\2\u08f7\u08f8\7p\2\2\u08f8\u08f9\7|\2\2"+
+		"\u08f9\u08fa\7y\2\2\u08fa\u01aa\3\2\2\2\u08fb\u08fc\7e\2\2\u08fc\u08fd"+
+		"\7o\2\2\u08fd\u08fe\7q\2\2\u08fe\u08ff\7x\2\2\u08ff\u0900\7q\2\2\u0900"+
+		"\u0901\7y\2\2\u0901\u01ac\3\2\2\2\u0902\u0903\7e\2\2\u0903\u0904\7o\2"+
+		"\2\u0904\u0905\7q\2\2\u0905\u0906\7x\2\2\u0906\u0907\7r\2\2\u0907\u0908"+
+		"\7y\2\2\u0908\u01ae\3\2\2\2\u0909\u090a\7e\2\2\u090a\u090b\7o\2\2\u090b"+
+		"\u090c\7q\2\2\u090c\u090d\7x\2\2\u090d\u090e\7r\2\2\u090e\u090f\7g\2\2"+
+		"\u090f\u0910\7y\2\2\u0910\u01b0\3\2\2\2\u0911\u0912\7e\2\2\u0912\u0913"+
+		"\7o\2\2\u0913\u0914\7q\2\2\u0914\u0915\7x\2\2\u0915\u0916\7r\2\2\u0916"+
+		"\u0917\7q\2\2\u0917\u0918\7y\2\2\u0918\u01b2\3\2\2\2\u0919\u091a\7e\2"+
+		"\2\u091a\u091b\7o\2\2\u091b\u091c\7q\2\2\u091c\u091d\7x\2\2\u091d\u091e"+
+		"\7u\2\2\u091e\u091f\7y\2\2\u091f\u01b4\3\2\2\2\u0920\u0921\7e\2\2\u0921"+
+		"\u0922\7o\2\2\u0922\u0923\7q\2\2\u0923\u0924\7x\2\2\u0924\u0925\7|\2\2"+
+		"\u0925\u0926\7y\2\2\u0926\u01b6\3\2\2\2\u0927\u0928\7e\2\2\u0928\u0929"+
+		"\7o\2\2\u0929\u092a\7r\2\2\u092a\u092b\7z\2\2\u092b\u092c\7e\2\2\u092c"+
+		"\u092d\7j\2\2\u092d\u092e\7i\2\2\u092e\u092f\7y\2\2\u092f\u01b8\3\2\2"+
+		"\2\u0930\u0931\7o\2\2\u0931\u0932\7q\2\2\u0932\u0933\7x\2\2\u0933\u0934"+
+		"\7y\2\2\u0934\u01ba\3\2\2\2\u0935\u0936\7z\2\2\u0936\u0937\7c\2\2\u0937"+
+		"\u0938\7f\2\2\u0938\u0939\7f\2\2\u0939\u093a\7y\2\2\u093a\u01bc\3\2\2"+
+		"\2\u093b\u093c\7z\2\2\u093c\u093d\7e\2\2\u093d\u093e\7j\2\2\u093e\u093f"+
+		"\7i\2\2\u093f\u0940\7y\2\2\u0940\u01be\3\2\2\2\u0941\u0942\7c\2\2\u0942"+
+		"\u0943\7f\2\2\u0943\u0944\7e\2\2\u0944\u0945\7y\2\2\u0945\u01c0\3\2\2"+
+		"\2\u0946\u0947\7c\2\2\u0947\u0948\7f\2\2\u0948\u0949\7f\2\2\u0949\u094a"+
+		"\7y\2\2\u094a\u01c2\3\2\2\2\u094b\u094c\7e\2\2\u094c\u094d\7o\2\2\u094d"+
+		"\u094e\7r\2\2\u094e\u094f\7y\2\2\u094f\u01c4\3\2\2\2\u0950\u0951\7u\2"+
+		"\2\u0951\u0952\7d\2\2\u0952\u0953\7d\2\2\u0953\u0954\7y\2\2\u0954\u01c6"+
+		"\3\2\2\2\u0955\u0956\7u\2\2\u0956\u0957\7w\2\2\u0957\u0958\7d\2\2\u0958"+
+		"\u0959\7y\2\2\u0959\u01c8\3\2\2\2\u095a\u095b\7c\2\2\u095b\u095c\7p\2"+
+		"\2\u095c\u095d\7f\2\2\u095d\u095e\7y\2\2\u095e\u01ca\3\2\2\2\u095f\u0960"+
+		"\7q\2\2\u0960\u0961\7t\2\2\u0961\u0962\7y\2\2\u0962\u01cc\3\2\2\2\u0963"+
+		"\u0964\7z\2\2\u0964\u0965\7q\2\2\u0965\u0966\7t\2\2\u0966\u0967\7y\2\2"+
+		"\u0967\u01ce\3\2\2\2\u0968\u0969\7v\2\2\u0969\u096a\7g\2\2\u096a\u096b"+
+		"\7u\2\2\u096b\u096c\7v\2\2\u096c\u096d\7y\2\2\u096d\u01d0\3\2\2\2\u096e"+
+		"\u096f\7d\2\2\u096f\u0970\7u\2\2\u0970\u0971\7h\2\2\u0971\u0972\7y\2\2"+
+		"\u0972\u01d2\3\2\2\2\u0973\u0974\7d\2\2\u0974\u0975\7u\2\2\u0975\u0976"+
+		"\7t\2\2\u0976\u0977\7y\2\2\u0977\u01d4\3\2\2\2\u0978\u0979\7d\2\2\u0979"+
+		"\u097a\7v\2\2\u097a\u097b\7y\2\2\u097b\u01d6\3\2\2\2\u097c\u097d\7d\2"+
+		"\2\u097d\u097e\7v\2\2\u097e\u097f\7e\2\2\u097f\u0980\7y\2\2\u0980\u01d8"+
+		"\3\2\2\2\u0981\u0982\7d\2\2\u0982\u0983\7v\2\2\u0983\u0984\7t\2\2\u0984"+
+		"\u0985\7y\2\2\u0985\u01da\3\2\2\2\u0986\u0987\7d\2\2\u0987\u0988\7v\2"+
+		"\2\u0988\u0989\7u\2\2\u0989\u098a\7y\2\2\u098a\u01dc\3\2\2\2\u098b\u098c"+
+		"\7t\2\2\u098c\u098d\7e\2\2\u098d\u098e\7n\2\2\u098e\u098f\7y\2\2\u098f"+
+		"\u01de\3\2\2\2\u0990\u0991\7t\2\2\u0991\u0992\7e\2\2\u0992\u0993\7t\2"+
+		"\2\u0993\u0994\7y\2\2\u0994\u01e0\3\2\2\2\u0995\u0996\7t\2\2\u0996\u0997"+
+		"\7q\2\2\u0997\u0998\7n\2\2\u0998\u0999\7y\2\2\u0999\u01e2\3\2\2\2\u099a"+
+		"\u099b\7t\2\2\u099b\u099c\7q\2\2\u099c\u099d\7t\2\2\u099d\u099e\7y\2\2"+
+		"\u099e\u01e4\3\2\2\2\u099f\u09a0\7u\2\2\u09a0\u09a1\7c\2\2\u09a1\u09a2"+
+		"\7n\2\2\u09a2\u09a3\7y\2\2\u09a3\u01e6\3\2\2\2\u09a4\u09a5\7u\2\2\u09a5"+
+		"\u09a6\7c\2\2\u09a6\u09a7\7t\2\2\u09a7\u09a8\7y\2\2\u09a8\u01e8\3\2\2"+
+		"\2\u09a9\u09aa\7u\2\2\u09aa\u09ab\7j\2\2\u09ab\u09ac\7n\2\2\u09ac\u09ad"+
+		"\7y\2\2\u09ad\u01ea\3\2\2\2\u09ae\u09af\7u\2\2\u09af\u09b0\7j\2\2\u09b0"+
+		"\u09b1\7t\2\2\u09b1\u09b2\7y\2\2\u09b2\u01ec\3\2\2\2\u09b3\u09b4\7o\2"+
+		"\2\u09b4\u09b5\7q\2\2\u09b5\u09b6\7x\2\2\u09b6\u09b7\7u\2\2\u09b7\u09b8"+
+		"\7d\2\2\u09b8\u09b9\7y\2\2\u09b9\u01ee\3\2\2\2\u09ba\u09bb\7o\2\2\u09bb"+
+		"\u09bc\7q\2\2\u09bc\u09bd\7x\2\2\u09bd\u09be\7|\2\2\u09be\u09bf\7d\2\2"+
+		"\u09bf\u09c0\7y\2\2\u09c0\u01f0\3\2\2\2\u09c1\u09c2\7e\2\2\u09c2\u09c3"+
+		"\7o\2\2\u09c3\u09c4\7q\2\2\u09c4\u09c5\7x\2\2\u09c5\u09c6\7c\2\2\u09c6"+
+		"\u09c7\7n\2\2\u09c7\u01f2\3\2\2\2\u09c8\u09c9\7e\2\2\u09c9\u09ca\7o\2"+
+		"\2\u09ca\u09cb\7q\2\2\u09cb\u09cc\7x\2\2\u09cc\u09cd\7c\2\2\u09cd\u09ce"+
+		"\7g\2\2\u09ce\u09cf\7n\2\2\u09cf\u01f4\3\2\2\2\u09d0\u09d1\7e\2\2\u09d1"+
+		"\u09d2\7o\2\2\u09d2\u09d3\7q\2\2\u09d3\u09d4\7x\2\2\u09d4\u09d5\7d\2\2"+
+		"\u09d5\u09d6\7n\2\2\u09d6\u01f6\3\2\2\2\u09d7\u09d8\7e\2\2\u09d8\u09d9"+
+		"\7o\2\2\u09d9\u09da\7q\2\2\u09da\u09db\7x\2\2\u09db\u09dc\7d\2\2\u09dc"+
+		"\u09dd\7g\2\2\u09dd\u09de\7n\2\2\u09de\u01f8\3\2\2\2\u09df\u09e0\7e\2"+
+		"\2\u09e0\u09e1\7o\2\2\u09e1\u09e2\7q\2\2\u09e2\u09e3\7x\2\2\u09e3\u09e4"+
+		"\7e\2\2\u09e4\u09e5\7n\2\2\u09e5\u01fa\3\2\2\2\u09e6\u09e7\7e\2\2\u09e7"+
+		"\u09e8\7o\2\2\u09e8\u09e9\7q\2\2\u09e9\u09ea\7x\2\2\u09ea\u09eb\7g\2\2"+
+		"\u09eb\u09ec\7n\2\2\u09ec\u01fc\3\2\2\2\u09ed\u09ee\7e\2\2\u09ee\u09ef"+
+		"\7o\2\2\u09ef\u09f0\7q\2\2\u09f0\u09f1\7x\2\2\u09f1\u09f2\7i\2\2\u09f2"+
+		"\u09f3\7n\2\2\u09f3\u01fe\3\2\2\2\u09f4\u09f5\7e\2\2\u09f5\u09f6\7o\2"+
+		"\2\u09f6\u09f7\7q\2\2\u09f7\u09f8\7x\2\2\u09f8\u09f9\7i\2\2\u09f9\u09fa"+
+		"\7g\2\2\u09fa\u09fb\7n\2\2\u09fb\u0200\3\2\2\2\u09fc\u09fd\7e\2\2\u09fd"+
+		"\u09fe\7o\2\2\u09fe\u09ff\7q\2\2\u09ff\u0a00\7x\2\2\u0a00\u0a01\7n\2\2"+
+		"\u0a01\u0a02\7n\2\2\u0a02\u0202\3\2\2\2\u0a03\u0a04\7e\2\2\u0a04\u0a05"+
+		"\7o\2\2\u0a05\u0a06\7q\2\2\u0a06\u0a07\7x\2\2\u0a07\u0a08\7n\2\2\u0a08"+
+		"\u0a09\7g\2\2\u0a09\u0a0a\7n\2\2\u0a0a\u0204\3\2\2\2\u0a0b\u0a0c\7e\2"+
+		"\2\u0a0c\u0a0d\7o\2\2\u0a0d\u0a0e\7q\2\2\u0a0e\u0a0f\7x\2\2\u0a0f\u0a10"+
+		"\7p\2\2\u0a10\u0a11\7c\2\2\u0a11\u0a12\7n\2\2\u0a12\u0206\3\2\2\2\u0a13"+
+		"\u0a14\7e\2\2\u0a14\u0a15\7o\2\2\u0a15\u0a16\7q\2\2\u0a16\u0a17\7x\2\2"+
+		"\u0a17\u0a18\7p\2\2\u0a18\u0a19\7c\2\2\u0a19\u0a1a\7g\2\2\u0a1a\u0a1b"+
+		"\7n\2\2\u0a1b\u0208\3\2\2\2\u0a1c\u0a1d\7e\2\2\u0a1d\u0a1e\7o\2\2\u0a1e"+
+		"\u0a1f\7q\2\2\u0a1f\u0a20\7x\2\2\u0a20\u0a21\7p\2\2\u0a21\u0a22\7d\2\2"+
+		"\u0a22\u0a23\7n\2\2\u0a23\u020a\3\2\2\2\u0a24\u0a25\7e\2\2\u0a25\u0a26"+
+		"\7o\2\2\u0a26\u0a27\7q\2\2\u0a27\u0a28\7x\2\2\u0a28\u0a29\7p\2\2\u0a29"+
+		"\u0a2a\7d\2\2\u0a2a\u0a2b\7g\2\2\u0a2b\u0a2c\7n\2\2\u0a2c\u020c\3\2\2"+
+		"\2\u0a2d\u0a2e\7e\2\2\u0a2e\u0a2f\7o\2\2\u0a2f\u0a30\7q\2\2\u0a30\u0a31"+
+		"\7x\2\2\u0a31\u0a32\7p\2\2\u0a32\u0a33\7e\2\2\u0a33\u0a34\7n\2\2\u0a34"+
+		"\u020e\3\2\2\2\u0a35\u0a36\7e\2\2\u0a36\u0a37\7o\2\2\u0a37\u0a38\7q\2"+
+		"\2\u0a38\u0a39\7x\2\2\u0a39\u0a3a\7p\2\2\u0a3a\u0a3b\7g\2\2\u0a3b\u0a3c"+
+		"\7n\2\2\u0a3c\u0210\3\2\2\2\u0a3d\u0a3e\7e\2\2\u0a3e\u0a3f\7o\2\2\u0a3f"+
+		"\u0a40\7q\2\2\u0a40\u0a41\7x\2\2\u0a41\u0a42\7p\2\2\u0a42\u0a43\7i\2\2"+
+		"\u0a43\u0a44\7n\2\2\u0a44\u0212\3\2\2\2\u0a45\u0a46\7e\2\2\u0a46\u0a47"+
+		"\7o\2\2\u0a47\u0a48\7q\2\2\u0a48\u0a49\7x\2\2\u0a49\u0a4a\7p\2\2\u0a4a"+
+		"\u0a4b\7i\2\2\u0a4b\u0a4c\7g\2\2\u0a4c\u0a4d\7n\2\2\u0a4d\u0214\3\2\2"+
+		"\2\u0a4e\u0a4f\7e\2\2\u0a4f\u0a50\7o\2\2\u0a50\u0a51\7q\2\2\u0a51\u0a52"+
+		"\7x\2\2\u0a52\u0a53\7p\2\2\u0a53\u0a54\7n\2\2\u0a54\u0a55\7n\2\2\u0a55"+
+		"\u0216\3\2\2\2\u0a56\u0a57\7e\2\2\u0a57\u0a58\7o\2\2\u0a58\u0a59\7q\2"+
+		"\2\u0a59\u0a5a\7x\2\2\u0a5a\u0a5b\7p\2\2\u0a5b\u0a5c\7n\2\2\u0a5c\u0a5d"+
+		"\7g\2\2\u0a5d\u0a5e\7n\2\2\u0a5e\u0218\3\2\2\2\u0a5f\u0a60\7e\2\2\u0a60"+
+		"\u0a61\7o\2\2\u0a61\u0a62\7q\2\2\u0a62\u0a63\7x\2\2\u0a63\u0a64\7p\2\2"+
+		"\u0a64\u0a65\7q\2\2\u0a65\u0a66\7n\2\2\u0a66\u021a\3\2\2\2\u0a67\u0a68"+
+		"\7e\2\2\u0a68\u0a69\7o\2\2\u0a69\u0a6a\7q\2\2\u0a6a\u0a6b\7x\2\2\u0a6b"+
+		"\u0a6c\7p\2\2\u0a6c\u0a6d\7r\2\2\u0a6d\u0a6e\7n\2\2\u0a6e\u021c\3\2\2"+
+		"\2\u0a6f\u0a70\7e\2\2\u0a70\u0a71\7o\2\2\u0a71\u0a72\7q\2\2\u0a72\u0a73"+
+		"\7x\2\2\u0a73\u0a74\7p\2\2\u0a74\u0a75\7u\2\2\u0a75\u0a76\7n\2\2\u0a76"+
+		"\u021e\3\2\2\2\u0a77\u0a78\7e\2\2\u0a78\u0a79\7o\2\2\u0a79\u0a7a\7q\2"+
+		"\2\u0a7a\u0a7b\7x\2\2\u0a7b\u0a7c\7p\2\2\u0a7c\u0a7d\7|\2\2\u0a7d\u0a7e"+
+		"\7n\2\2\u0a7e\u0220\3\2\2\2\u0a7f\u0a80\7e\2\2\u0a80\u0a81\7o\2\2\u0a81"+
+		"\u0a82\7q\2\2\u0a82\u0a83\7x\2\2\u0a83\u0a84\7q\2\2\u0a84\u0a85\7n\2\2"+
+		"\u0a85\u0222\3\2\2\2\u0a86\u0a87\7e\2\2\u0a87\u0a88\7o\2\2\u0a88\u0a89"+
+		"\7q\2\2\u0a89\u0a8a\7x\2\2\u0a8a\u0a8b\7r\2\2\u0a8b\u0a8c\7n\2\2\u0a8c"+
+		"\u0224\3\2\2\2\u0a8d\u0a8e\7e\2\2\u0a8e\u0a8f\7o\2\2\u0a8f\u0a90\7q\2"+
+		"\2\u0a90\u0a91\7x\2\2\u0a91\u0a92\7r\2\2\u0a92\u0a93\7g\2\2\u0a93\u0a94"+
+		"\7n\2\2\u0a94\u0226\3\2\2\2\u0a95\u0a96\7e\2\2\u0a96\u0a97\7o\2\2\u0a97"+
+		"\u0a98\7q\2\2\u0a98\u0a99\7x\2\2\u0a99\u0a9a\7r\2\2\u0a9a\u0a9b\7q\2\2"+
+		"\u0a9b\u0a9c\7n\2\2\u0a9c\u0228\3\2\2\2\u0a9d\u0a9e\7e\2\2\u0a9e\u0a9f"+
+		"\7o\2\2\u0a9f\u0aa0\7q\2\2\u0aa0\u0aa1\7x\2\2\u0aa1\u0aa2\7u\2\2\u0aa2"+
+		"\u0aa3\7n\2\2\u0aa3\u022a\3\2\2\2\u0aa4\u0aa5\7e\2\2\u0aa5\u0aa6\7o\2"+
+		"\2\u0aa6\u0aa7\7q\2\2\u0aa7\u0aa8\7x\2\2\u0aa8\u0aa9\7|\2\2\u0aa9\u0aaa"+
+		"\7n\2\2\u0aaa\u022c\3\2\2\2\u0aab\u0aac\7e\2\2\u0aac\u0aad\7o\2\2\u0aad"+
+		"\u0aae\7r\2\2\u0aae\u0aaf\7z\2\2\u0aaf\u0ab0\7e\2\2\u0ab0\u0ab1\7j\2\2"+
+		"\u0ab1\u0ab2\7i\2\2\u0ab2\u0ab3\7n\2\2\u0ab3\u022e\3\2\2\2\u0ab4\u0ab5"+
+		"\7o\2\2\u0ab5\u0ab6\7q\2\2\u0ab6\u0ab7\7x\2\2\u0ab7\u0ab8\7n\2\2\u0ab8"+
+		"\u0230\3\2\2\2\u0ab9\u0aba\7z\2\2\u0aba\u0abb\7c\2\2\u0abb\u0abc\7f\2"+
+		"\2\u0abc\u0abd\7f\2\2\u0abd\u0abe\7n\2\2\u0abe\u0232\3\2\2\2\u0abf\u0ac0"+
+		"\7z\2\2\u0ac0\u0ac1\7e\2\2\u0ac1\u0ac2\7j\2\2\u0ac2\u0ac3\7i\2\2\u0ac3"+
+		"\u0ac4\7n\2\2\u0ac4\u0234\3\2\2\2\u0ac5\u0ac6\7c\2\2\u0ac6\u0ac7\7f\2"+
+		"\2\u0ac7\u0ac8\7e\2\2\u0ac8\u0ac9\7n\2\2\u0ac9\u0236\3\2\2\2\u0aca\u0acb"+
+		"\7c\2\2\u0acb\u0acc\7f\2\2\u0acc\u0acd\7f\2\2\u0acd\u0ace\7n\2\2\u0ace"+
+		"\u0238\3\2\2\2\u0acf\u0ad0\7e\2\2\u0ad0\u0ad1\7o\2\2\u0ad1\u0ad2\7r\2"+
+		"\2\u0ad2\u0ad3\7n\2\2\u0ad3\u023a\3\2\2\2\u0ad4\u0ad5\7u\2\2\u0ad5\u0ad6"+
+		"\7d\2\2\u0ad6\u0ad7\7d\2\2\u0ad7\u0ad8\7n\2\2\u0ad8\u023c\3\2\2\2\u0ad9"+
+		"\u0ada\7u\2\2\u0ada\u0adb\7w\2\2\u0adb\u0adc\7d\2\2\u0adc\u0add\7n\2\2"+
+		"\u0add\u023e\3\2\2\2\u0ade\u0adf\7c\2\2\u0adf\u0ae0\7p\2\2\u0ae0\u0ae1"+
+		"\7f\2\2\u0ae1\u0ae2\7n\2\2\u0ae2\u0240\3\2\2\2\u0ae3\u0ae4\7q\2\2\u0ae4"+
+		"\u0ae5\7t\2\2\u0ae5\u0ae6\7n\2\2\u0ae6\u0242\3\2\2\2\u0ae7\u0ae8\7z\2"+
+		"\2\u0ae8\u0ae9\7q\2\2\u0ae9\u0aea\7t\2\2\u0aea\u0aeb\7n\2\2\u0aeb\u0244"+
+		"\3\2\2\2\u0aec\u0aed\7v\2\2\u0aed\u0aee\7g\2\2\u0aee\u0aef\7u\2\2\u0aef"+
+		"\u0af0\7v\2\2\u0af0\u0af1\7n\2\2\u0af1\u0246\3\2\2\2\u0af2\u0af3\7d\2"+
+		"\2\u0af3\u0af4\7u\2\2\u0af4\u0af5\7h\2\2\u0af5\u0af6\7n\2\2\u0af6\u0248"+
+		"\3\2\2\2\u0af7\u0af8\7d\2\2\u0af8\u0af9\7u\2\2\u0af9\u0afa\7t\2\2\u0afa"+
+		"\u0afb\7n\2\2\u0afb\u024a\3\2\2\2\u0afc\u0afd\7d\2\2\u0afd\u0afe\7v\2"+
+		"\2\u0afe\u0aff\7n\2\2\u0aff\u024c\3\2\2\2\u0b00\u0b01\7d\2\2\u0b01\u0b02"+
+		"\7v\2\2\u0b02\u0b03\7e\2\2\u0b03\u0b04\7n\2\2\u0b04\u024e\3\2\2\2\u0b05"+
+		"\u0b06\7d\2\2\u0b06\u0b07\7v\2\2\u0b07\u0b08\7t\2\2\u0b08\u0b09\7n\2\2"+
+		"\u0b09\u0250\3\2\2\2\u0b0a\u0b0b\7d\2\2\u0b0b\u0b0c\7v\2\2\u0b0c\u0b0d"+
+		"\7u\2\2\u0b0d\u0b0e\7n\2\2\u0b0e\u0252\3\2\2\2\u0b0f\u0b10\7t\2\2\u0b10"+
+		"\u0b11\7e\2\2\u0b11\u0b12\7n\2\2\u0b12\u0b13\7n\2\2\u0b13\u0254\3\2\2"+
+		"\2\u0b14\u0b15\7t\2\2\u0b15\u0b16\7e\2\2\u0b16\u0b17\7t\2\2\u0b17\u0b18"+
+		"\7n\2\2\u0b18\u0256\3\2\2\2\u0b19\u0b1a\7t\2\2\u0b1a\u0b1b\7q\2\2\u0b1b"+
+		"\u0b1c\7n\2\2\u0b1c\u0b1d\7n\2\2\u0b1d\u0258\3\2\2\2\u0b1e\u0b1f\7t\2"+
+		"\2\u0b1f\u0b20\7q\2\2\u0b20\u0b21\7t\2\2\u0b21\u0b22\7n\2\2\u0b22\u025a"+
+		"\3\2\2\2\u0b23\u0b24\7u\2\2\u0b24\u0b25\7c\2\2\u0b25\u0b26\7n\2\2\u0b26"+
+		"\u0b27\7n\2\2\u0b27\u025c\3\2\2\2\u0b28\u0b29\7u\2\2\u0b29\u0b2a\7c\2"+
+		"\2\u0b2a\u0b2b\7t\2\2\u0b2b\u0b2c\7n\2\2\u0b2c\u025e\3\2\2\2\u0b2d\u0b2e"+
+		"\7u\2\2\u0b2e\u0b2f\7j\2\2\u0b2f\u0b30\7n\2\2\u0b30\u0b31\7n\2\2\u0b31"+
+		"\u0260\3\2\2\2\u0b32\u0b33\7u\2\2\u0b33\u0b34\7j\2\2\u0b34\u0b35\7t\2"+
+		"\2\u0b35\u0b36\7n\2\2\u0b36\u0262\3\2\2\2\u0b37\u0b38\7o\2\2\u0b38\u0b39"+
+		"\7q\2\2\u0b39\u0b3a\7x\2\2\u0b3a\u0b3b\7u\2\2\u0b3b\u0b3c\7d\2\2\u0b3c"+
+		"\u0b3d\7n\2\2\u0b3d\u0264\3\2\2\2\u0b3e\u0b3f\7o\2\2\u0b3f\u0b40\7q\2"+
+		"\2\u0b40\u0b41\7x\2\2\u0b41\u0b42\7u\2\2\u0b42\u0b43\7y\2\2\u0b43\u0b44"+
+		"\7n\2\2\u0b44\u0266\3\2\2\2\u0b45\u0b46\7o\2\2\u0b46\u0b47\7q\2\2\u0b47"+
+		"\u0b48\7x\2\2\u0b48\u0b49\7|\2\2\u0b49\u0b4a\7d\2\2\u0b4a\u0b4b\7n\2\2"+
+		"\u0b4b\u0268\3\2\2\2\u0b4c\u0b4d\7o\2\2\u0b4d\u0b4e\7q\2\2\u0b4e\u0b4f"+
+		"\7x\2\2\u0b4f\u0b50\7|\2\2\u0b50\u0b51\7y\2\2\u0b51\u0b52\7n\2\2\u0b52"+
+		"\u026a\3\2\2\2\u0b53\u0b54\7e\2\2\u0b54\u0b55\7o\2\2\u0b55\u0b56\7q\2"+
+		"\2\u0b56\u0b57\7x\2\2\u0b57\u0b58\7c\2\2\u0b58\u0b59\7s\2\2\u0b59\u026c"+
+		"\3\2\2\2\u0b5a\u0b5b\7e\2\2\u0b5b\u0b5c\7o\2\2\u0b5c\u0b5d\7q\2\2\u0b5d"+
+		"\u0b5e\7x\2\2\u0b5e\u0b5f\7c\2\2\u0b5f\u0b60\7g\2\2\u0b60\u0b61\7s\2\2"+
+		"\u0b61\u026e\3\2\2\2\u0b62\u0b63\7e\2\2\u0b63\u0b64\7o\2\2\u0b64\u0b65"+
+		"\7q\2\2\u0b65\u0b66\7x\2\2\u0b66\u0b67\7d\2\2\u0b67\u0b68\7s\2\2\u0b68"+
+		"\u0270\3\2\2\2\u0b69\u0b6a\7e\2\2\u0b6a\u0b6b\7o\2\2\u0b6b\u0b6c\7q\2"+
+		"\2\u0b6c\u0b6d\7x\2\2\u0b6d\u0b6e\7d\2\2\u0b6e\u0b6f\7g\2\2\u0b6f\u0b70"+
+		"\7s\2\2\u0b70\u0272\3\2\2\2\u0b71\u0b72\7e\2\2\u0b72\u0b73\7o\2\2\u0b73"+
+		"\u0b74\7q\2\2\u0b74\u0b75\7x\2\2\u0b75\u0b76\7e\2\2\u0b76\u0b77\7s\2\2"+
+		"\u0b77\u0274\3\2\2\2\u0b78\u0b79\7e\2\2\u0b79\u0b7a\7o\2\2\u0b7a\u0b7b"+
+		"\7q\2\2\u0b7b\u0b7c\7x\2\2\u0b7c\u0b7d\7g\2\2\u0b7d\u0b7e\7s\2\2\u0b7e"+
+		"\u0276\3\2\2\2\u0b7f\u0b80\7e\2\2\u0b80\u0b81\7o\2\2\u0b81\u0b82\7q\2"+
+		"\2\u0b82\u0b83\7x\2\2\u0b83\u0b84\7i\2\2\u0b84\u0b85\7s\2\2\u0b85\u0278"+
+		"\3\2\2\2\u0b86\u0b87\7e\2\2\u0b87\u0b88\7o\2\2\u0b88\u0b89\7q\2\2\u0b89"+
+		"\u0b8a\7x\2\2\u0b8a\u0b8b\7i\2\2\u0b8b\u0b8c\7g\2\2\u0b8c\u0b8d\7s\2\2"+
+		"\u0b8d\u027a\3\2\2\2\u0b8e\u0b8f\7e\2\2\u0b8f\u0b90\7o\2\2\u0b90\u0b91"+
+		"\7q\2\2\u0b91\u0b92\7x\2\2\u0b92\u0b93\7n\2\2\u0b93\u0b94\7s\2\2\u0b94"+
+		"\u027c\3\2\2\2\u0b95\u0b96\7e\2\2\u0b96\u0b97\7o\2\2\u0b97\u0b98\7q\2"+
+		"\2\u0b98\u0b99\7x\2\2\u0b99\u0b9a\7n\2\2\u0b9a\u0b9b\7g\2\2\u0b9b\u0b9c"+
+		"\7s\2\2\u0b9c\u027e\3\2\2\2\u0b9d\u0b9e\7e\2\2\u0b9e\u0b9f\7o\2\2\u0b9f"+
+		"\u0ba0\7q\2\2\u0ba0\u0ba1\7x\2\2\u0ba1\u0ba2\7p\2\2\u0ba2\u0ba3\7c\2\2"+
+		"\u0ba3\u0ba4\7s\2\2\u0ba4\u0280\3\2\2\2\u0ba5\u0ba6\7e\2\2\u0ba6\u0ba7"+
+		"\7o\2\2\u0ba7\u0ba8\7q\2\2\u0ba8\u0ba9\7x\2\2\u0ba9\u0baa\7p\2\2\u0baa"+
+		"\u0bab\7c\2\2\u0bab\u0bac\7g\2\2\u0bac\u0bad\7s\2\2\u0bad\u0282\3\2\2"+
+		"\2\u0bae\u0baf\7e\2\2\u0baf\u0bb0\7o\2\2\u0bb0\u0bb1\7q\2\2\u0bb1\u0bb2"+
+		"\7x\2\2\u0bb2\u0bb3\7p\2\2\u0bb3\u0bb4\7d\2\2\u0bb4\u0bb5\7s\2\2\u0bb5"+
+		"\u0284\3\2\2\2\u0bb6\u0bb7\7e\2\2\u0bb7\u0bb8\7o\2\2\u0bb8\u0bb9\7q\2"+
+		"\2\u0bb9\u0bba\7x\2\2\u0bba\u0bbb\7p\2\2\u0bbb\u0bbc\7d\2\2\u0bbc\u0bbd"+
+		"\7g\2\2\u0bbd\u0bbe\7s\2\2\u0bbe\u0286\3\2\2\2\u0bbf\u0bc0\7e\2\2\u0bc0"+
+		"\u0bc1\7o\2\2\u0bc1\u0bc2\7q\2\2\u0bc2\u0bc3\7x\2\2\u0bc3\u0bc4\7p\2\2"+
+		"\u0bc4\u0bc5\7e\2\2\u0bc5\u0bc6\7s\2\2\u0bc6\u0288\3\2\2\2\u0bc7\u0bc8"+
+		"\7e\2\2\u0bc8\u0bc9\7o\2\2\u0bc9\u0bca\7q\2\2\u0bca\u0bcb\7x\2\2\u0bcb"+
+		"\u0bcc\7p\2\2\u0bcc\u0bcd\7g\2\2\u0bcd\u0bce\7s\2\2\u0bce\u028a\3\2\2"+
+		"\2\u0bcf\u0bd0\7e\2\2\u0bd0\u0bd1\7o\2\2\u0bd1\u0bd2\7q\2\2\u0bd2\u0bd3"+
+		"\7x\2\2\u0bd3\u0bd4\7p\2\2\u0bd4\u0bd5\7i\2\2\u0bd5\u0bd6\7s\2\2\u0bd6"+
+		"\u028c\3\2\2\2\u0bd7\u0bd8\7e\2\2\u0bd8\u0bd9\7o\2\2\u0bd9\u0bda\7q\2"+
+		"\2\u0bda\u0bdb\7x\2\2\u0bdb\u0bdc\7p\2\2\u0bdc\u0bdd\7i\2\2\u0bdd\u0bde"+
+		"\7g\2\2\u0bde\u0bdf\7s\2\2\u0bdf\u028e\3\2\2\2\u0be0\u0be1\7e\2\2\u0be1"+
+		"\u0be2\7o\2\2\u0be2\u0be3\7q\2\2\u0be3\u0be4\7x\2\2\u0be4\u0be5\7p\2\2"+
+		"\u0be5\u0be6\7n\2\2\u0be6\u0be7\7s\2\2\u0be7\u0290\3\2\2\2\u0be8\u0be9"+
+		"\7e\2\2\u0be9\u0bea\7o\2\2\u0bea\u0beb\7q\2\2\u0beb\u0bec\7x\2\2\u0bec"+
+		"\u0bed\7p\2\2\u0bed\u0bee\7n\2\2\u0bee\u0bef\7g\2\2\u0bef\u0bf0\7s\2\2"+
+		"\u0bf0\u0292\3\2\2\2\u0bf1\u0bf2\7e\2\2\u0bf2\u0bf3\7o\2\2\u0bf3\u0bf4"+
+		"\7q\2\2\u0bf4\u0bf5\7x\2\2\u0bf5\u0bf6\7p\2\2\u0bf6\u0bf7\7q\2\2\u0bf7"+
+		"\u0bf8\7s\2\2\u0bf8\u0294\3\2\2\2\u0bf9\u0bfa\7e\2\2\u0bfa\u0bfb\7o\2"+
+		"\2\u0bfb\u0bfc\7q\2\2\u0bfc\u0bfd\7x\2\2\u0bfd\u0bfe\7p\2\2\u0bfe\u0bff"+
+		"\7r\2\2\u0bff\u0c00\7s\2\2\u0c00\u0296\3\2\2\2\u0c01\u0c02\7e\2\2\u0c02"+
+		"\u0c03\7o\2\2\u0c03\u0c04\7q\2\2\u0c04\u0c05\7x\2\2\u0c05\u0c06\7p\2\2"+
+		"\u0c06\u0c07\7u\2\2\u0c07\u0c08\7s\2\2\u0c08\u0298\3\2\2\2\u0c09\u0c0a"+
+		"\7e\2\2\u0c0a\u0c0b\7o\2\2\u0c0b\u0c0c\7q\2\2\u0c0c\u0c0d\7x\2\2\u0c0d"+
+		"\u0c0e\7p\2\2\u0c0e\u0c0f\7|\2\2\u0c0f\u0c10\7s\2\2\u0c10\u029a\3\2\2"+
+		"\2\u0c11\u0c12\7e\2\2\u0c12\u0c13\7o\2\2\u0c13\u0c14\7q\2\2\u0c14\u0c15"+
+		"\7x\2\2\u0c15\u0c16\7q\2\2\u0c16\u0c17\7s\2\2\u0c17\u029c\3\2\2\2\u0c18"+
+		"\u0c19\7e\2\2\u0c19\u0c1a\7o\2\2\u0c1a\u0c1b\7q\2\2\u0c1b\u0c1c\7x\2\2"+
+		"\u0c1c\u0c1d\7r\2\2\u0c1d\u0c1e\7s\2\2\u0c1e\u029e\3\2\2\2\u0c1f\u0c20"+
+		"\7e\2\2\u0c20\u0c21\7o\2\2\u0c21\u0c22\7q\2\2\u0c22\u0c23\7x\2\2\u0c23"+
+		"\u0c24\7r\2\2\u0c24\u0c25\7g\2\2\u0c25\u0c26\7s\2\2\u0c26\u02a0\3\2\2"+
+		"\2\u0c27\u0c28\7e\2\2\u0c28\u0c29\7o\2\2\u0c29\u0c2a\7q\2\2\u0c2a\u0c2b"+
+		"\7x\2\2\u0c2b\u0c2c\7r\2\2\u0c2c\u0c2d\7q\2\2\u0c2d\u0c2e\7s\2\2\u0c2e"+
+		"\u02a2\3\2\2\2\u0c2f\u0c30\7e\2\2\u0c30\u0c31\7o\2\2\u0c31\u0c32\7q\2"+
+		"\2\u0c32\u0c33\7x\2\2\u0c33\u0c34\7u\2\2\u0c34\u0c35\7s\2\2\u0c35\u02a4"+
+		"\3\2\2\2\u0c36\u0c37\7e\2\2\u0c37\u0c38\7o\2\2\u0c38\u0c39\7q\2\2\u0c39"+
+		"\u0c3a\7x\2\2\u0c3a\u0c3b\7|\2\2\u0c3b\u0c3c\7s\2\2\u0c3c\u02a6\3\2\2"+
+		"\2\u0c3d\u0c3e\7e\2\2\u0c3e\u0c3f\7o\2\2\u0c3f\u0c40\7r\2\2\u0c40\u0c41"+
+		"\7z\2\2\u0c41\u0c42\7e\2\2\u0c42\u0c43\7j\2\2\u0c43\u0c44\7i\2\2\u0c44"+
+		"\u0c45\7s\2\2\u0c45\u02a8\3\2\2\2\u0c46\u0c47\7o\2\2\u0c47\u0c48\7q\2"+
+		"\2\u0c48\u0c49\7x\2\2\u0c49\u0c4a\7s\2\2\u0c4a\u02aa\3\2\2\2\u0c4b\u0c4c"+
+		"\7z\2\2\u0c4c\u0c4d\7c\2\2\u0c4d\u0c4e\7f\2\2\u0c4e\u0c4f\7f\2\2\u0c4f"+
+		"\u0c50\7s\2\2\u0c50\u02ac\3\2\2\2\u0c51\u0c52\7z\2\2\u0c52\u0c53\7e\2"+
+		"\2\u0c53\u0c54\7j\2\2\u0c54\u0c55\7i\2\2\u0c55\u0c56\7s\2\2\u0c56\u02ae"+
+		"\3\2\2\2\u0c57\u0c58\7c\2\2\u0c58\u0c59\7f\2\2\u0c59\u0c5a\7e\2\2\u0c5a"+
+		"\u0c5b\7s\2\2\u0c5b\u02b0\3\2\2\2\u0c5c\u0c5d\7c\2\2\u0c5d\u0c5e\7f\2"+
+		"\2\u0c5e\u0c5f\7f\2\2\u0c5f\u0c60\7s\2\2\u0c60\u02b2\3\2\2\2\u0c61\u0c62"+
+		"\7e\2\2\u0c62\u0c63\7o\2\2\u0c63\u0c64\7r\2\2\u0c64\u0c65\7s\2\2\u0c65"+
+		"\u02b4\3\2\2\2\u0c66\u0c67\7u\2\2\u0c67\u0c68\7d\2\2\u0c68\u0c69\7d\2"+
+		"\2\u0c69\u0c6a\7s\2\2\u0c6a\u02b6\3\2\2\2\u0c6b\u0c6c\7u\2\2\u0c6c\u0c6d"+
+		"\7w\2\2\u0c6d\u0c6e\7d\2\2\u0c6e\u0c6f\7s\2\2\u0c6f\u02b8\3\2\2\2\u0c70"+
+		"\u0c71\7c\2\2\u0c71\u0c72\7p\2\2\u0c72\u0c73\7f\2\2\u0c73\u0c74\7s\2\2"+
+		"\u0c74\u02ba\3\2\2\2\u0c75\u0c76\7q\2\2\u0c76\u0c77\7t\2\2\u0c77\u0c78"+
+		"\7s\2\2\u0c78\u02bc\3\2\2\2\u0c79\u0c7a\7z\2\2\u0c7a\u0c7b\7q\2\2\u0c7b"+
+		"\u0c7c\7t\2\2\u0c7c\u0c7d\7s\2\2\u0c7d\u02be\3\2\2\2\u0c7e\u0c7f\7v\2"+
+		"\2\u0c7f\u0c80\7g\2\2\u0c80\u0c81\7u\2\2\u0c81\u0c82\7v\2\2\u0c82\u0c83"+
+		"\7s\2\2\u0c83\u02c0\3\2\2\2\u0c84\u0c85\7d\2\2\u0c85\u0c86\7u\2\2\u0c86"+
+		"\u0c87\7h\2\2\u0c87\u0c88\7s\2\2\u0c88\u02c2\3\2\2\2\u0c89\u0c8a\7d\2"+
+		"\2\u0c8a\u0c8b\7u\2\2\u0c8b\u0c8c\7t\2\2\u0c8c\u0c8d\7s\2\2\u0c8d\u02c4"+
+		"\3\2\2\2\u0c8e\u0c8f\7d\2\2\u0c8f\u0c90\7v\2\2\u0c90\u0c91\7s\2\2\u0c91"+
+		"\u02c6\3\2\2\2\u0c92\u0c93\7d\2\2\u0c93\u0c94\7v\2\2\u0c94\u0c95\7e\2"+
+		"\2\u0c95\u0c96\7s\2\2\u0c96\u02c8\3\2\2\2\u0c97\u0c98\7d\2\2\u0c98\u0c99"+
+		"\7v\2\2\u0c99\u0c9a\7t\2\2\u0c9a\u0c9b\7s\2\2\u0c9b\u02ca\3\2\2\2\u0c9c"+
+		"\u0c9d\7d\2\2\u0c9d\u0c9e\7v\2\2\u0c9e\u0c9f\7u\2\2\u0c9f\u0ca0\7s\2\2"+
+		"\u0ca0\u02cc\3\2\2\2\u0ca1\u0ca2\7t\2\2\u0ca2\u0ca3\7e\2\2\u0ca3\u0ca4"+
+		"\7n\2\2\u0ca4\u0ca5\7s\2\2\u0ca5\u02ce\3\2\2\2\u0ca6\u0ca7\7t\2\2\u0ca7"+
+		"\u0ca8\7e\2\2\u0ca8\u0ca9\7t\2\2\u0ca9\u0caa\7s\2\2\u0caa\u02d0\3\2\2"+
+		"\2\u0cab\u0cac\7t\2\2\u0cac\u0cad\7q\2\2\u0cad\u0cae\7n\2\2\u0cae\u0caf"+
+		"\7s\2\2\u0caf\u02d2\3\2\2\2\u0cb0\u0cb1\7t\2\2\u0cb1\u0cb2\7q\2\2\u0cb2"+
+		"\u0cb3\7t\2\2\u0cb3\u0cb4\7s\2\2\u0cb4\u02d4\3\2\2\2\u0cb5\u0cb6\7u\2"+
+		"\2\u0cb6\u0cb7\7c\2\2\u0cb7\u0cb8\7n\2\2\u0cb8\u0cb9\7s\2\2\u0cb9\u02d6"+
+		"\3\2\2\2\u0cba\u0cbb\7u\2\2\u0cbb\u0cbc\7c\2\2\u0cbc\u0cbd\7t\2\2\u0cbd"+
+		"\u0cbe\7s\2\2\u0cbe\u02d8\3\2\2\2\u0cbf\u0cc0\7u\2\2\u0cc0\u0cc1\7j\2"+
+		"\2\u0cc1\u0cc2\7n\2\2\u0cc2\u0cc3\7s\2\2\u0cc3\u02da\3\2\2\2\u0cc4\u0cc5"+
+		"\7u\2\2\u0cc5\u0cc6\7j\2\2\u0cc6\u0cc7\7t\2\2\u0cc7\u0cc8\7s\2\2\u0cc8"+
+		"\u02dc\3\2\2\2\u0cc9\u0cca\7o\2\2\u0cca\u0ccb\7q\2\2\u0ccb\u0ccc\7x\2"+
+		"\2\u0ccc\u0ccd\7u\2\2\u0ccd\u0cce\7d\2\2\u0cce\u0ccf\7s\2\2\u0ccf\u02de"+
+		"\3\2\2\2\u0cd0\u0cd1\7o\2\2\u0cd1\u0cd2\7q\2\2\u0cd2\u0cd3\7x\2\2\u0cd3"+
+		"\u0cd4\7|\2\2\u0cd4\u0cd5\7d\2\2\u0cd5\u0cd6\7s\2\2\u0cd6\u02e0\3\2\2"+
+		"\2\u0cd7\u0cd8\7o\2\2\u0cd8\u0cd9\7q\2\2\u0cd9\u0cda\7x\2\2\u0cda\u0cdb"+
+		"\7u\2\2\u0cdb\u0cdc\7y\2\2\u0cdc\u0cdd\7s\2\2\u0cdd\u02e2\3\2\2\2\u0cde"+
+		"\u0cdf\7o\2\2\u0cdf\u0ce0\7q\2\2\u0ce0\u0ce1\7x\2\2\u0ce1\u0ce2\7|\2\2"+
+		"\u0ce2\u0ce3\7y\2\2\u0ce3\u0ce4\7s\2\2\u0ce4\u02e4\3\2\2\2\u0ce5\u0ce6"+
+		"\7o\2\2\u0ce6\u0ce7\7q\2\2\u0ce7\u0ce8\7x\2\2\u0ce8\u0ce9\7u\2\2\u0ce9"+
+		"\u0cea\7n\2\2\u0cea\u0ceb\7s\2\2\u0ceb\u02e6\3\2\2\2\u0cec\u0ced\7e\2"+
+		"\2\u0ced\u0cee\7o\2\2\u0cee\u0cef\7q\2\2\u0cef\u0cf0\7x\2\2\u0cf0\u0cf1"+
+		"\7c\2\2\u0cf1\u02e8\3\2\2\2\u0cf2\u0cf3\7e\2\2\u0cf3\u0cf4\7o\2\2\u0cf4"+
+		"\u0cf5\7q\2\2\u0cf5\u0cf6\7x\2\2\u0cf6\u0cf7\7c\2\2\u0cf7\u0cf8\7g\2\2"+
+		"\u0cf8\u02ea\3\2\2\2\u0cf9\u0cfa\7e\2\2\u0cfa\u0cfb\7o\2\2\u0cfb\u0cfc"+
+		"\7q\2\2\u0cfc\u0cfd\7x\2\2\u0cfd\u0cfe\7d\2\2\u0cfe\u02ec\3\2\2\2\u0cff"+
+		"\u0d00\7e\2\2\u0d00\u0d01\7o\2\2\u0d01\u0d02\7q\2\2\u0d02\u0d03\7x\2\2"+
+		"\u0d03\u0d04\7d\2\2\u0d04\u0d05\7g\2\2\u0d05\u02ee\3\2\2\2\u0d06\u0d07"+
+		"\7e\2\2\u0d07\u0d08\7o\2\2\u0d08\u0d09\7q\2\2\u0d09\u0d0a\7x\2\2\u0d0a"+
+		"\u0d0b\7e\2\2\u0d0b\u02f0\3\2\2\2\u0d0c\u0d0d\7e\2\2\u0d0d\u0d0e\7o\2"+
+		"\2\u0d0e\u0d0f\7q\2\2\u0d0f\u0d10\7x\2\2\u0d10\u0d11\7g\2\2\u0d11\u02f2"+
+		"\3\2\2\2\u0d12\u0d13\7e\2\2\u0d13\u0d14\7o\2\2\u0d14\u0d15\7q\2\2\u0d15"+
+		"\u0d16\7x\2\2\u0d16\u0d17\7i\2\2\u0d17\u02f4\3\2\2\2\u0d18\u0d19\7e\2"+
+		"\2\u0d19\u0d1a\7o\2\2\u0d1a\u0d1b\7q\2\2\u0d1b\u0d1c\7x\2\2\u0d1c\u0d1d"+
+		"\7i\2\2\u0d1d\u0d1e\7g\2\2\u0d1e\u02f6\3\2\2\2\u0d1f\u0d20\7e\2\2\u0d20"+
+		"\u0d21\7o\2\2\u0d21\u0d22\7q\2\2\u0d22\u0d23\7x\2\2\u0d23\u0d24\7n\2\2"+
+		"\u0d24\u02f8\3\2\2\2\u0d25\u0d26\7e\2\2\u0d26\u0d27\7o\2\2\u0d27\u0d28"+
+		"\7q\2\2\u0d28\u0d29\7x\2\2\u0d29\u0d2a\7n\2\2\u0d2a\u0d2b\7g\2\2\u0d2b"+
+		"\u02fa\3\2\2\2\u0d2c\u0d2d\7e\2\2\u0d2d\u0d2e\7o\2\2\u0d2e\u0d2f\7q\2"+
+		"\2\u0d2f\u0d30\7x\2\2\u0d30\u0d31\7p\2\2\u0d31\u0d32\7c\2\2\u0d32\u02fc"+
+		"\3\2\2\2\u0d33\u0d34\7e\2\2\u0d34\u0d35\7o\2\2\u0d35\u0d36\7q\2\2\u0d36"+
+		"\u0d37\7x\2\2\u0d37\u0d38\7p\2\2\u0d38\u0d39\7c\2\2\u0d39\u0d3a\7g\2\2"+
+		"\u0d3a\u02fe\3\2\2\2\u0d3b\u0d3c\7e\2\2\u0d3c\u0d3d\7o\2\2\u0d3d\u0d3e"+
+		"\7q\2\2\u0d3e\u0d3f\7x\2\2\u0d3f\u0d40\7p\2\2\u0d40\u0d41\7d\2\2\u0d41"+
+		"\u0300\3\2\2\2\u0d42\u0d43\7e\2\2\u0d43\u0d44\7o\2\2\u0d44\u0d45\7q\2"+
+		"\2\u0d45\u0d46\7x\2\2\u0d46\u0d47\7p\2\2\u0d47\u0d48\7d\2\2\u0d48\u0d49"+
+		"\7g\2\2\u0d49\u0302\3\2\2\2\u0d4a\u0d4b\7e\2\2\u0d4b\u0d4c\7o\2\2\u0d4c"+
+		"\u0d4d\7q\2\2\u0d4d\u0d4e\7x\2\2\u0d4e\u0d4f\7p\2\2\u0d4f\u0d50\7e\2\2"+
+		"\u0d50\u0304\3\2\2\2\u0d51\u0d52\7e\2\2\u0d52\u0d53\7o\2\2\u0d53\u0d54"+
+		"\7q\2\2\u0d54\u0d55\7x\2\2\u0d55\u0d56\7p\2\2\u0d56\u0d57\7g\2\2\u0d57"+
+		"\u0306\3\2\2\2\u0d58\u0d59\7e\2\2\u0d59\u0d5a\7o\2\2\u0d5a\u0d5b\7q\2"+
+		"\2\u0d5b\u0d5c\7x\2\2\u0d5c\u0d5d\7p\2\2\u0d5d\u0d5e\7i\2\2\u0d5e\u0308"+
+		"\3\2\2\2\u0d5f\u0d60\7e\2\2\u0d60\u0d61\7o\2\2\u0d61\u0d62\7q\2\2\u0d62"+
+		"\u0d63\7x\2\2\u0d63\u0d64\7p\2\2\u0d64\u0d65\7i\2\2\u0d65\u0d66\7g\2\2"+
+		"\u0d66\u030a\3\2\2\2\u0d67\u0d68\7e\2\2\u0d68\u0d69\7o\2\2\u0d69\u0d6a"+
+		"\7q\2\2\u0d6a\u0d6b\7x\2\2\u0d6b\u0d6c\7p\2\2\u0d6c\u0d6d\7n\2\2\u0d6d"+
+		"\u030c\3\2\2\2\u0d6e\u0d6f\7e\2\2\u0d6f\u0d70\7o\2\2\u0d70\u0d71\7q\2"+
+		"\2\u0d71\u0d72\7x\2\2\u0d72\u0d73\7p\2\2\u0d73\u0d74\7n\2\2\u0d74\u0d75"+
+		"\7g\2\2\u0d75\u030e\3\2\2\2\u0d76\u0d77\7e\2\2\u0d77\u0d78\7o\2\2\u0d78"+
+		"\u0d79\7q\2\2\u0d79\u0d7a\7x\2\2\u0d7a\u0d7b\7p\2\2\u0d7b\u0d7c\7q\2\2"+
+		"\u0d7c\u0310\3\2\2\2\u0d7d\u0d7e\7e\2\2\u0d7e\u0d7f\7o\2\2\u0d7f\u0d80"+
+		"\7q\2\2\u0d80\u0d81\7x\2\2\u0d81\u0d82\7p\2\2\u0d82\u0d83\7r\2\2\u0d83"+
+		"\u0312\3\2\2\2\u0d84\u0d85\7e\2\2\u0d85\u0d86\7o\2\2\u0d86\u0d87\7q\2"+
+		"\2\u0d87\u0d88\7x\2\2\u0d88\u0d89\7p\2\2\u0d89\u0d8a\7u\2\2\u0d8a\u0314"+
+		"\3\2\2\2\u0d8b\u0d8c\7e\2\2\u0d8c\u0d8d\7o\2\2\u0d8d\u0d8e\7q\2\2\u0d8e"+
+		"\u0d8f\7x\2\2\u0d8f\u0d90\7p\2\2\u0d90\u0d91\7|\2\2\u0d91\u0316\3\2\2"+
+		"\2\u0d92\u0d93\7e\2\2\u0d93\u0d94\7o\2\2\u0d94\u0d95\7q\2\2\u0d95\u0d96"+
+		"\7x\2\2\u0d96\u0d97\7q\2\2\u0d97\u0318\3\2\2\2\u0d98\u0d99\7e\2\2\u0d99"+
+		"\u0d9a\7o\2\2\u0d9a\u0d9b\7q\2\2\u0d9b\u0d9c\7x\2\2\u0d9c\u0d9d\7r\2\2"+
+		"\u0d9d\u031a\3\2\2\2\u0d9e\u0d9f\7e\2\2\u0d9f\u0da0\7o\2\2\u0da0\u0da1"+
+		"\7q\2\2\u0da1\u0da2\7x\2\2\u0da2\u0da3\7r\2\2\u0da3\u0da4\7g\2\2\u0da4"+
+		"\u031c\3\2\2\2\u0da5\u0da6\7e\2\2\u0da6\u0da7\7o\2\2\u0da7\u0da8\7q\2"+
+		"\2\u0da8\u0da9\7x\2\2\u0da9\u0daa\7r\2\2\u0daa\u0dab\7q\2\2\u0dab\u031e"+
+		"\3\2\2\2\u0dac\u0dad\7e\2\2\u0dad\u0dae\7o\2\2\u0dae\u0daf\7q\2\2\u0daf"+
+		"\u0db0\7x\2\2\u0db0\u0db1\7u\2\2\u0db1\u0320\3\2\2\2\u0db2\u0db3\7e\2"+
+		"\2\u0db3\u0db4\7o\2\2\u0db4\u0db5\7q\2\2\u0db5\u0db6\7x\2\2\u0db6\u0db7"+
+		"\7|\2\2\u0db7\u0322\3\2\2\2\u0db8\u0db9\7e\2\2\u0db9\u0dba\7o\2\2\u0dba"+
+		"\u0dbb\7r\2\2\u0dbb\u0dbc\7z\2\2\u0dbc\u0dbd\7e\2\2\u0dbd\u0dbe\7j\2\2"+
+		"\u0dbe\u0dbf\7i\2\2\u0dbf\u0324\3\2\2\2\u0dc0\u0dc1\7r\2\2\u0dc1\u0dc2"+
+		"\7o\2\2\u0dc2\u0dc3\7q\2\2\u0dc3\u0dc4\7x\2\2\u0dc4\u0dc5\7o\2\2\u0dc5"+
+		"\u0dc6\7u\2\2\u0dc6\u0dc7\7m\2\2\u0dc7\u0dc8\7d\2\2\u0dc8\u0326\3\2\2"+
+		"\2\u0dc9\u0dca\7o\2\2\u0dca\u0dcb\7q\2\2\u0dcb\u0dcc\7x\2\2\u0dcc\u0328"+
+		"\3\2\2\2\u0dcd\u0dce\7z\2\2\u0dce\u0dcf\7c\2\2\u0dcf\u0dd0\7f\2\2\u0dd0"+
+		"\u0dd1\7f\2\2\u0dd1\u032a\3\2\2\2\u0dd2\u0dd3\7z\2\2\u0dd3\u0dd4\7e\2"+
+		"\2\u0dd4\u0dd5\7j\2\2\u0dd5\u0dd6\7i\2\2\u0dd6\u032c\3\2\2\2\u0dd7\u0dd8"+
+		"\7c\2\2\u0dd8\u0dd9\7f\2\2\u0dd9\u0dda\7e\2\2\u0dda\u032e\3\2\2\2\u0ddb"+
+		"\u0ddc\7c\2\2\u0ddc\u0ddd\7f\2\2\u0ddd\u0dde\7f\2\2\u0dde\u0330\3\2\2"+
+		"\2\u0ddf\u0de0\7e\2\2\u0de0\u0de1\7o\2\2\u0de1\u0de2\7r\2\2\u0de2\u0332"+
+		"\3\2\2\2\u0de3\u0de4\7f\2\2\u0de4\u0de5\7k\2\2\u0de5\u0de6\7x\2\2\u0de6"+
+		"\u0334\3\2\2\2\u0de7\u0de8\7o\2\2\u0de8\u0de9\7w\2\2\u0de9\u0dea\7n\2"+
+		"\2\u0dea\u0336\3\2\2\2\u0deb\u0dec\7u\2\2\u0dec\u0ded\7d\2\2\u0ded\u0dee"+
+		"\7d\2\2\u0dee\u0338\3\2\2\2\u0def\u0df0\7u\2\2\u0df0\u0df1\7w\2\2\u0df1"+
+		"\u0df2\7d\2\2\u0df2\u033a\3\2\2\2\u0df3\u0df4\7c\2\2\u0df4\u0df5\7p\2"+
+		"\2\u0df5\u0df6\7f\2\2\u0df6\u033c\3\2\2\2\u0df7\u0df8\7q\2\2\u0df8\u0df9"+
+		"\7t\2\2\u0df9\u033e\3\2\2\2\u0dfa\u0dfb\7z\2\2\u0dfb\u0dfc\7q\2\2\u0dfc"+
+		"\u0dfd\7t\2\2\u0dfd\u0340\3\2\2\2\u0dfe\u0dff\7t\2\2\u0dff\u0e00\7e\2"+
+		"\2\u0e00\u0e01\7n\2\2\u0e01\u0342\3\2\2\2\u0e02\u0e03\7t\2\2\u0e03\u0e04"+
+		"\7e\2\2\u0e04\u0e05\7t\2\2\u0e05\u0344\3\2\2\2\u0e06\u0e07\7t\2\2\u0e07"+
+		"\u0e08\7q\2\2\u0e08\u0e09\7n\2\2\u0e09\u0346\3\2\2\2\u0e0a\u0e0b\7t\2"+
+		"\2\u0e0b\u0e0c\7q\2\2\u0e0c\u0e0d\7t\2\2\u0e0d\u0348\3\2\2\2\u0e0e\u0e0f"+
+		"\7u\2\2\u0e0f\u0e10\7c\2\2\u0e10\u0e11\7n\2\2\u0e11\u034a\3\2\2\2\u0e12"+
+		"\u0e13\7u\2\2\u0e13\u0e14\7c\2\2\u0e14\u0e15\7t\2\2\u0e15\u034c\3\2\2"+
+		"\2\u0e16\u0e17\7u\2\2\u0e17\u0e18\7j\2\2\u0e18\u0e19\7n\2\2\u0e19\u034e"+
+		"\3\2\2\2\u0e1a\u0e1b\7u\2\2\u0e1b\u0e1c\7j\2\2\u0e1c\u0e1d\7t\2\2\u0e1d"+
+		"\u0350\3\2\2\2\u0e1e\u0e1f\7n\2\2\u0e1f\u0e20\7g\2\2\u0e20\u0e21\7c\2"+
+		"\2\u0e21\u0352\3\2\2\2\u0e22\u0e23\7d\2\2\u0e23\u0e24\7u\2\2\u0e24\u0e25"+
+		"\7h\2\2\u0e25\u0354\3\2\2\2\u0e26\u0e27\7d\2\2\u0e27\u0e28\7u\2\2\u0e28"+
+		"\u0e29\7t\2\2\u0e29\u0356\3\2\2\2\u0e2a\u0e2b\7<\2\2\u0e2b\u0358\3\2\2"+
+		"\2\u0e2c\u0e2d\7*\2\2\u0e2d\u035a\3\2\2\2\u0e2e\u0e2f\7+\2\2\u0e2f\u035c"+
+		"\3\2\2\2\u0e30\u0e31\7\'\2\2\u0e31\u0e32\7c\2\2\u0e32\u0e33\7j\2\2\u0e33"+
+		"\u035e\3\2\2\2\u0e34\u0e35\7\'\2\2\u0e35\u0e36\7c\2\2\u0e36\u0e37\7n\2"+
+		"\2\u0e37\u0360\3\2\2\2\u0e38\u0e39\7\'\2\2\u0e39\u0e3a\7d\2\2\u0e3a\u0e3b"+
+		"\7j\2\2\u0e3b\u0362\3\2\2\2\u0e3c\u0e3d\7\'\2\2\u0e3d\u0e3e\7d\2\2\u0e3e"+
+		"\u0e3f\7n\2\2\u0e3f\u0364\3\2\2\2\u0e40\u0e41\7\'\2\2\u0e41\u0e42\7e\2"+
+		"\2\u0e42\u0e43\7j\2\2\u0e43\u0366\3\2\2\2\u0e44\u0e45\7\'\2\2\u0e45\u0e46"+
+		"\7e\2\2\u0e46\u0e47\7n\2\2\u0e47\u0368\3\2\2\2\u0e48\u0e49\7\'\2\2\u0e49"+
+		"\u0e4a\7f\2\2\u0e4a\u0e4b\7j\2\2\u0e4b\u036a\3\2\2\2\u0e4c\u0e4d\7\'\2"+
+		"\2\u0e4d\u0e4e\7f\2\2\u0e4e\u0e4f\7n\2\2\u0e4f\u036c\3\2\2\2\u0e50\u0e51"+
+		"\7\'\2\2\u0e51\u0e52\7t\2\2\u0e52\u0e53\7\62\2\2\u0e53\u0e54\7n\2\2\u0e54"+
+		"\u036e\3\2\2\2\u0e55\u0e56\7\'\2\2\u0e56\u0e57\7t\2\2\u0e57\u0e58\7\63"+
+		"\2\2\u0e58\u0e59\7n\2\2\u0e59\u0370\3\2\2\2\u0e5a\u0e5b\7\'\2\2\u0e5b"+
+		"\u0e5c\7t\2\2\u0e5c\u0e5d\7\64\2\2\u0e5d\u0e5e\7n\2\2\u0e5e\u0372\3\2"+
+		"\2\2\u0e5f\u0e60\7\'\2\2\u0e60\u0e61\7t\2\2\u0e61\u0e62\7\65\2\2\u0e62"+
+		"\u0e63\7n\2\2\u0e63\u0374\3\2\2\2\u0e64\u0e65\7\'\2\2\u0e65\u0e66\7t\2"+
+		"\2\u0e66\u0e67\7\66\2\2\u0e67\u0e68\7n\2\2\u0e68\u0376\3\2\2\2\u0e69\u0e6a"+
+		"\7\'\2\2\u0e6a\u0e6b\7t\2\2\u0e6b\u0e6c\7\67\2\2\u0e6c\u0e6d\7n\2\2\u0e6d"+
+		"\u0378\3\2\2\2\u0e6e\u0e6f\7\'\2\2\u0e6f\u0e70\7t\2\2\u0e70\u0e71\78\2"+
+		"\2\u0e71\u0e72\7n\2\2\u0e72\u037a\3\2\2\2\u0e73\u0e74\7\'\2\2\u0e74\u0e75"+
+		"\7t\2\2\u0e75\u0e76\79\2\2\u0e76\u0e77\7n\2\2\u0e77\u037c\3\2\2\2\u0e78"+
+		"\u0e79\7\'\2\2\u0e79\u0e7a\7t\2\2\u0e7a\u0e7b\7:\2\2\u0e7b\u0e7c\7n\2"+
+		"\2\u0e7c\u037e\3\2\2\2\u0e7d\u0e7e\7\'\2\2\u0e7e\u0e7f\7t\2\2\u0e7f\u0e80"+
+		"\7;\2\2\u0e80\u0e81\7n\2\2\u0e81\u0380\3\2\2\2\u0e82\u0e83\7\'\2\2\u0e83"+
+		"\u0e84\7t\2\2\u0e84\u0e85\7\63\2\2\u0e85\u0e86\7\62\2\2\u0e86\u0e87\7"+
+		"n\2\2\u0e87\u0382\3\2\2\2\u0e88\u0e89\7\'\2\2\u0e89\u0e8a\7t\2\2\u0e8a"+
+		"\u0e8b\7\63\2\2\u0e8b\u0e8c\7\63\2\2\u0e8c\u0e8d\7n\2\2\u0e8d\u0384\3"+
+		"\2\2\2\u0e8e\u0e8f\7\'\2\2\u0e8f\u0e90\7t\2\2\u0e90\u0e91\7\63\2\2\u0e91"+
+		"\u0e92\7\64\2\2\u0e92\u0e93\7n\2\2\u0e93\u0386\3\2\2\2\u0e94\u0e95\7\'"+
+		"\2\2\u0e95\u0e96\7t\2\2\u0e96\u0e97\7\63\2\2\u0e97\u0e98\7\65\2\2\u0e98"+
+		"\u0e99\7n\2\2\u0e99\u0388\3\2\2\2\u0e9a\u0e9b\7\'\2\2\u0e9b\u0e9c\7t\2"+
+		"\2\u0e9c\u0e9d\7\63\2\2\u0e9d\u0e9e\7\66\2\2\u0e9e\u0e9f\7n\2\2\u0e9f"+
+		"\u038a\3\2\2\2\u0ea0\u0ea1\7\'\2\2\u0ea1\u0ea2\7t\2\2\u0ea2\u0ea3\7\63"+
+		"\2\2\u0ea3\u0ea4\7\67\2\2\u0ea4\u0ea5\7n\2\2\u0ea5\u038c\3\2\2\2\u0ea6"+
+		"\u0ea7\7\'\2\2\u0ea7\u0ea8\7c\2\2\u0ea8\u0ea9\7z\2\2\u0ea9\u038e\3\2\2"+
+		"\2\u0eaa\u0eab\7\'\2\2\u0eab\u0eac\7d\2\2\u0eac\u0ead\7z\2\2\u0ead\u0390"+
+		"\3\2\2\2\u0eae\u0eaf\7\'\2\2\u0eaf\u0eb0\7e\2\2\u0eb0\u0eb1\7z\2\2\u0eb1"+
+		"\u0392\3\2\2\2\u0eb2\u0eb3\7\'\2\2\u0eb3\u0eb4\7f\2\2\u0eb4\u0eb5\7z\2"+
+		"\2\u0eb5\u0394\3\2\2\2\u0eb6\u0eb7\7\'\2\2\u0eb7\u0eb8\7u\2\2\u0eb8\u0eb9"+
+		"\7k\2\2\u0eb9\u0396\3\2\2\2\u0eba\u0ebb\7\'\2\2\u0ebb\u0ebc\7f\2\2\u0ebc"+
+		"\u0ebd\7k\2\2\u0ebd\u0398\3\2\2\2\u0ebe\u0ebf\7\'\2\2\u0ebf\u0ec0\7d\2"+
+		"\2\u0ec0\u0ec1\7r\2\2\u0ec1\u039a\3\2\2\2\u0ec2\u0ec3\7\'\2\2\u0ec3\u0ec4"+
+		"\7u\2\2\u0ec4\u0ec5\7r\2\2\u0ec5\u039c\3\2\2\2\u0ec6\u0ec7\7\'\2\2\u0ec7"+
+		"\u0ec8\7t\2\2\u0ec8\u0ec9\7\62\2\2\u0ec9\u0eca\7y\2\2\u0eca\u039e\3\2"+
+		"\2\2\u0ecb\u0ecc\7\'\2\2\u0ecc\u0ecd\7t\2\2\u0ecd\u0ece\7\63\2\2\u0ece"+
+		"\u0ecf\7y\2\2\u0ecf\u03a0\3\2\2\2\u0ed0\u0ed1\7\'\2\2\u0ed1\u0ed2\7t\2"+
+		"\2\u0ed2\u0ed3\7\64\2\2\u0ed3\u0ed4\7y\2\2\u0ed4\u03a2\3\2\2\2\u0ed5\u0ed6"+
+		"\7\'\2\2\u0ed6\u0ed7\7t\2\2\u0ed7\u0ed8\7\65\2\2\u0ed8\u0ed9\7y\2\2\u0ed9"+
+		"\u03a4\3\2\2\2\u0eda\u0edb\7\'\2\2\u0edb\u0edc\7t\2\2\u0edc\u0edd\7\66"+
+		"\2\2\u0edd\u0ede\7y\2\2\u0ede\u03a6\3\2\2\2\u0edf\u0ee0\7\'\2\2\u0ee0"+
+		"\u0ee1\7t\2\2\u0ee1\u0ee2\7\67\2\2\u0ee2\u0ee3\7y\2\2\u0ee3\u03a8\3\2"+
+		"\2\2\u0ee4\u0ee5\7\'\2\2\u0ee5\u0ee6\7t\2\2\u0ee6\u0ee7\78\2\2\u0ee7\u0ee8"+
+		"\7y\2\2\u0ee8\u03aa\3\2\2\2\u0ee9\u0eea\7\'\2\2\u0eea\u0eeb\7t\2\2\u0eeb"+
+		"\u0eec\79\2\2\u0eec\u0eed\7y\2\2\u0eed\u03ac\3\2\2\2\u0eee\u0eef\7\'\2"+
+		"\2\u0eef\u0ef0\7t\2\2\u0ef0\u0ef1\7:\2\2\u0ef1\u0ef2\7y\2\2\u0ef2\u03ae"+
+		"\3\2\2\2\u0ef3\u0ef4\7\'\2\2\u0ef4\u0ef5\7t\2\2\u0ef5\u0ef6\7;\2\2\u0ef6"+
+		"\u0ef7\7y\2\2\u0ef7\u03b0\3\2\2\2\u0ef8\u0ef9\7\'\2\2\u0ef9\u0efa\7t\2"+
+		"\2\u0efa\u0efb\7\63\2\2\u0efb\u0efc\7\62\2\2\u0efc\u0efd\7y\2\2\u0efd"+
+		"\u03b2\3\2\2\2\u0efe\u0eff\7\'\2\2\u0eff\u0f00\7t\2\2\u0f00\u0f01\7\63"+
+		"\2\2\u0f01\u0f02\7\63\2\2\u0f02\u0f03\7y\2\2\u0f03\u03b4\3\2\2\2\u0f04"+
+		"\u0f05\7\'\2\2\u0f05\u0f06\7t\2\2\u0f06\u0f07\7\63\2\2\u0f07\u0f08\7\64"+
+		"\2\2\u0f08\u0f09\7y\2\2\u0f09\u03b6\3\2\2\2\u0f0a\u0f0b\7\'\2\2\u0f0b"+
+		"\u0f0c\7t\2\2\u0f0c\u0f0d\7\63\2\2\u0f0d\u0f0e\7\65\2\2\u0f0e\u0f0f\7"+
+		"y\2\2\u0f0f\u03b8\3\2\2\2\u0f10\u0f11\7\'\2\2\u0f11\u0f12\7t\2\2\u0f12"+
+		"\u0f13\7\63\2\2\u0f13\u0f14\7\66\2\2\u0f14\u0f15\7y\2\2\u0f15\u03ba\3"+
+		"\2\2\2\u0f16\u0f17\7\'\2\2\u0f17\u0f18\7t\2\2\u0f18\u0f19\7\63\2\2\u0f19"+
+		"\u0f1a\7\67\2\2\u0f1a\u0f1b\7y\2\2\u0f1b\u03bc\3\2\2\2\u0f1c\u0f1d\7\'"+
+		"\2\2\u0f1d\u0f1e\7g\2\2\u0f1e\u0f1f\7c\2\2\u0f1f\u0f20\7z\2\2\u0f20\u03be"+
+		"\3\2\2\2\u0f21\u0f22\7\'\2\2\u0f22\u0f23\7g\2\2\u0f23\u0f24\7d\2\2\u0f24"+
+		"\u0f25\7z\2\2\u0f25\u03c0\3\2\2\2\u0f26\u0f27\7\'\2\2\u0f27\u0f28\7g\2"+
+		"\2\u0f28\u0f29\7e\2\2\u0f29\u0f2a\7z\2\2\u0f2a\u03c2\3\2\2\2\u0f2b\u0f2c"+
+		"\7\'\2\2\u0f2c\u0f2d\7g\2\2\u0f2d\u0f2e\7f\2\2\u0f2e\u0f2f\7z\2\2\u0f2f"+
+		"\u03c4\3\2\2\2\u0f30\u0f31\7\'\2\2\u0f31\u0f32\7g\2\2\u0f32\u0f33\7u\2"+
+		"\2\u0f33\u0f34\7k\2\2\u0f34\u03c6\3\2\2\2\u0f35\u0f36\7\'\2\2\u0f36\u0f37"+
+		"\7g\2\2\u0f37\u0f38\7f\2\2\u0f38\u0f39\7k\2\2\u0f39\u03c8\3\2\2\2\u0f3a"+
+		"\u0f3b\7\'\2\2\u0f3b\u0f3c\7g\2\2\u0f3c\u0f3d\7d\2\2\u0f3d\u0f3e\7r\2"+
+		"\2\u0f3e\u03ca\3\2\2\2\u0f3f\u0f40\7\'\2\2\u0f40\u0f41\7g\2\2\u0f41\u0f42"+
+		"\7u\2\2\u0f42\u0f43\7r\2\2\u0f43\u03cc\3\2\2\2\u0f44\u0f45\7\'\2\2\u0f45"+
+		"\u0f46\7t\2\2\u0f46\u0f47\7\62\2\2\u0f47\u0f48\7f\2\2\u0f48\u03ce\3\2"+
+		"\2\2\u0f49\u0f4a\7\'\2\2\u0f4a\u0f4b\7t\2\2\u0f4b\u0f4c\7\63\2\2\u0f4c"+
+		"\u0f4d\7f\2\2\u0f4d\u03d0\3\2\2\2\u0f4e\u0f4f\7\'\2\2\u0f4f\u0f50\7t\2"+
+		"\2\u0f50\u0f51\7\64\2\2\u0f51\u0f52\7f\2\2\u0f52\u03d2\3\2\2\2\u0f53\u0f54"+
+		"\7\'\2\2\u0f54\u0f55\7t\2\2\u0f55\u0f56\7\65\2\2\u0f56\u0f57\7f\2\2\u0f57"+
+		"\u03d4\3\2\2\2\u0f58\u0f59\7\'\2\2\u0f59\u0f5a\7t\2\2\u0f5a\u0f5b\7\66"+
+		"\2\2\u0f5b\u0f5c\7f\2\2\u0f5c\u03d6\3\2\2\2\u0f5d\u0f5e\7\'\2\2\u0f5e"+
+		"\u0f5f\7t\2\2\u0f5f\u0f60\7\67\2\2\u0f60\u0f61\7f\2\2\u0f61\u03d8\3\2"+
+		"\2\2\u0f62\u0f63\7\'\2\2\u0f63\u0f64\7t\2\2\u0f64\u0f65\78\2\2\u0f65\u0f66"+
+		"\7f\2\2\u0f66\u03da\3\2\2\2\u0f67\u0f68\7\'\2\2\u0f68\u0f69\7t\2\2\u0f69"+
+		"\u0f6a\79\2\2\u0f6a\u0f6b\7f\2\2\u0f6b\u03dc\3\2\2\2\u0f6c\u0f6d\7\'\2"+
+		"\2\u0f6d\u0f6e\7t\2\2\u0f6e\u0f6f\7:\2\2\u0f6f\u0f70\7f\2\2\u0f70\u03de"+
+		"\3\2\2\2\u0f71\u0f72\7\'\2\2\u0f72\u0f73\7t\2\2\u0f73\u0f74\7;\2\2\u0f74"+
+		"\u0f75\7f\2\2\u0f75\u03e0\3\2\2\2\u0f76\u0f77\7\'\2\2\u0f77\u0f78\7t\2"+
+		"\2\u0f78\u0f79\7\63\2\2\u0f79\u0f7a\7\62\2\2\u0f7a\u0f7b\7f\2\2\u0f7b"+
+		"\u03e2\3\2\2\2\u0f7c\u0f7d\7\'\2\2\u0f7d\u0f7e\7t\2\2\u0f7e\u0f7f\7\63"+
+		"\2\2\u0f7f\u0f80\7\63\2\2\u0f80\u0f81\7f\2\2\u0f81\u03e4\3\2\2\2\u0f82"+
+		"\u0f83\7\'\2\2\u0f83\u0f84\7t\2\2\u0f84\u0f85\7\63\2\2\u0f85\u0f86\7\64"+
+		"\2\2\u0f86\u0f87\7f\2\2\u0f87\u03e6\3\2\2\2\u0f88\u0f89\7\'\2\2\u0f89"+
+		"\u0f8a\7t\2\2\u0f8a\u0f8b\7\63\2\2\u0f8b\u0f8c\7\65\2\2\u0f8c\u0f8d\7"+
+		"f\2\2\u0f8d\u03e8\3\2\2\2\u0f8e\u0f8f\7\'\2\2\u0f8f\u0f90\7t\2\2\u0f90"+
+		"\u0f91\7\63\2\2\u0f91\u0f92\7\66\2\2\u0f92\u0f93\7f\2\2\u0f93\u03ea\3"+
+		"\2\2\2\u0f94\u0f95\7\'\2\2\u0f95\u0f96\7t\2\2\u0f96\u0f97\7\63\2\2\u0f97"+
+		"\u0f98\7\67\2\2\u0f98\u0f99\7f\2\2\u0f99\u03ec\3\2\2\2\u0f9a\u0f9b\7\'"+
+		"\2\2\u0f9b\u0f9c\7t\2\2\u0f9c\u0f9d\7c\2\2\u0f9d\u0f9e\7z\2\2\u0f9e\u03ee"+
+		"\3\2\2\2\u0f9f\u0fa0\7\'\2\2\u0fa0\u0fa1\7t\2\2\u0fa1\u0fa2\7d\2\2\u0fa2"+
+		"\u0fa3\7z\2\2\u0fa3\u03f0\3\2\2\2\u0fa4\u0fa5\7\'\2\2\u0fa5\u0fa6\7t\2"+
+		"\2\u0fa6\u0fa7\7e\2\2\u0fa7\u0fa8\7z\2\2\u0fa8\u03f2\3\2\2\2\u0fa9\u0faa"+
+		"\7\'\2\2\u0faa\u0fab\7t\2\2\u0fab\u0fac\7f\2\2\u0fac\u0fad\7z\2\2\u0fad"+
+		"\u03f4\3\2\2\2\u0fae\u0faf\7\'\2\2\u0faf\u0fb0\7t\2\2\u0fb0\u0fb1\7u\2"+
+		"\2\u0fb1\u0fb2\7r\2\2\u0fb2\u03f6\3\2\2\2\u0fb3\u0fb4\7\'\2\2\u0fb4\u0fb5"+
+		"\7t\2\2\u0fb5\u0fb6\7d\2\2\u0fb6\u0fb7\7r\2\2\u0fb7\u03f8\3\2\2\2\u0fb8"+
+		"\u0fb9\7\'\2\2\u0fb9\u0fba\7t\2\2\u0fba\u0fbb\7u\2\2\u0fbb\u0fbc\7k\2"+
+		"\2\u0fbc\u03fa\3\2\2\2\u0fbd\u0fbe\7\'\2\2\u0fbe\u0fbf\7t\2\2\u0fbf\u0fc0"+
+		"\7f\2\2\u0fc0\u0fc1\7k\2\2\u0fc1\u03fc\3\2\2\2\u0fc2\u0fc3\7\'\2\2\u0fc3"+
+		"\u0fc4\7t\2\2\u0fc4\u0fc5\7\62\2\2\u0fc5\u03fe\3\2\2\2\u0fc6\u0fc7\7\'"+
+		"\2\2\u0fc7\u0fc8\7t\2\2\u0fc8\u0fc9\7\63\2\2\u0fc9\u0400\3\2\2\2\u0fca"+
+		"\u0fcb\7\'\2\2\u0fcb\u0fcc\7t\2\2\u0fcc\u0fcd\7\64\2\2\u0fcd\u0402\3\2"+
+		"\2\2\u0fce\u0fcf\7\'\2\2\u0fcf\u0fd0\7t\2\2\u0fd0\u0fd1\7\65\2\2\u0fd1"+
+		"\u0404\3\2\2\2\u0fd2\u0fd3\7\'\2\2\u0fd3\u0fd4\7t\2\2\u0fd4\u0fd5\7\66"+
+		"\2\2\u0fd5\u0406\3\2\2\2\u0fd6\u0fd7\7\'\2\2\u0fd7\u0fd8\7t\2\2\u0fd8"+
+		"\u0fd9\7\67\2\2\u0fd9\u0408\3\2\2\2\u0fda\u0fdb\7\'\2\2\u0fdb\u0fdc\7"+
+		"t\2\2\u0fdc\u0fdd\78\2\2\u0fdd\u040a\3\2\2\2\u0fde\u0fdf\7\'\2\2\u0fdf"+
+		"\u0fe0\7t\2\2\u0fe0\u0fe1\79\2\2\u0fe1\u040c\3\2\2\2\u0fe2\u0fe3\7\'\2"+
+		"\2\u0fe3\u0fe4\7t\2\2\u0fe4\u0fe5\7:\2\2\u0fe5\u040e\3\2\2\2\u0fe6\u0fe7"+
+		"\7\'\2\2\u0fe7\u0fe8\7t\2\2\u0fe8\u0fe9\7;\2\2\u0fe9\u0410\3\2\2\2\u0fea"+
+		"\u0feb\7\'\2\2\u0feb\u0fec\7t\2\2\u0fec\u0fed\7\63\2\2\u0fed\u0fee\7\62"+
+		"\2\2\u0fee\u0412\3\2\2\2\u0fef\u0ff0\7\'\2\2\u0ff0\u0ff1\7t\2\2\u0ff1"+
+		"\u0ff2\7\63\2\2\u0ff2\u0ff3\7\63\2\2\u0ff3\u0414\3\2\2\2\u0ff4\u0ff5\7"+
+		"\'\2\2\u0ff5\u0ff6\7t\2\2\u0ff6\u0ff7\7\63\2\2\u0ff7\u0ff8\7\64\2\2\u0ff8"+
+		"\u0416\3\2\2\2\u0ff9\u0ffa\7\'\2\2\u0ffa\u0ffb\7t\2\2\u0ffb\u0ffc\7\63"+
+		"\2\2\u0ffc\u0ffd\7\65\2\2\u0ffd\u0418\3\2\2\2\u0ffe\u0fff\7\'\2\2\u0fff"+
+		"\u1000\7t\2\2\u1000\u1001\7\63\2\2\u1001\u1002\7\66\2\2\u1002\u041a\3"+
+		"\2\2\2\u1003\u1004\7\'\2\2\u1004\u1005\7t\2\2\u1005\u1006\7\63\2\2\u1006"+
+		"\u1007\7\67\2\2\u1007\u041c\3\2\2\2\u1008\u1009\7\'\2\2\u1009\u100a\7"+
+		"z\2\2\u100a\u100b\7o\2\2\u100b\u100c\7o\2\2\u100c\u100d\7\62\2\2\u100d"+
+		"\u041e\3\2\2\2\u100e\u100f\7\'\2\2\u100f\u1010\7z\2\2\u1010\u1011\7o\2"+
+		"\2\u1011\u1012\7o\2\2\u1012\u1013\7\63\2\2\u1013\u0420\3\2\2\2\u1014\u1015"+
+		"\7\'\2\2\u1015\u1016\7z\2\2\u1016\u1017\7o\2\2\u1017\u1018\7o\2\2\u1018"+
+		"\u1019\7\64\2\2\u1019\u0422\3\2\2\2\u101a\u101b\7\'\2\2\u101b\u101c\7"+
+		"z\2\2\u101c\u101d\7o\2\2\u101d\u101e\7o\2\2\u101e\u101f\7\65\2\2\u101f"+
+		"\u0424\3\2\2\2\u1020\u1021\7\'\2\2\u1021\u1022\7z\2\2\u1022\u1023\7o\2"+
+		"\2\u1023\u1024\7o\2\2\u1024\u1025\7\66\2\2\u1025\u0426\3\2\2\2\u1026\u1027"+
+		"\7\'\2\2\u1027\u1028\7z\2\2\u1028\u1029\7o\2\2\u1029\u102a\7o\2\2\u102a"+
+		"\u102b\7\67\2\2\u102b\u0428\3\2\2\2\u102c\u102d\7\'\2\2\u102d\u102e\7"+
+		"z\2\2\u102e\u102f\7o\2\2\u102f\u1030\7o\2\2\u1030\u1031\78\2\2\u1031\u042a"+
+		"\3\2\2\2\u1032\u1033\7\'\2\2\u1033\u1034\7z\2\2\u1034\u1035\7o\2\2\u1035"+
+		"\u1036\7o\2\2\u1036\u1037\79\2\2\u1037\u042c\3\2\2\2\u1038\u1039\7\'\2"+
+		"\2\u1039\u103a\7z\2\2\u103a\u103b\7o\2\2\u103b\u103c\7o\2\2\u103c\u103d"+
+		"\7:\2\2\u103d\u042e\3\2\2\2\u103e\u103f\7\'\2\2\u103f\u1040\7z\2\2\u1040"+
+		"\u1041\7o\2\2\u1041\u1042\7o\2\2\u1042\u1043\7;\2\2\u1043\u0430\3\2\2"+
+		"\2\u1044\u1045\7\'\2\2\u1045\u1046\7z\2\2\u1046\u1047\7o\2\2\u1047\u1048"+
+		"\7o\2\2\u1048\u1049\7\63\2\2\u1049\u104a\7\62\2\2\u104a\u0432\3\2\2\2"+
+		"\u104b\u104c\7\'\2\2\u104c\u104d\7z\2\2\u104d\u104e\7o\2\2\u104e\u104f"+
+		"\7o\2\2\u104f\u1050\7\63\2\2\u1050\u1051\7\63\2\2\u1051\u0434\3\2\2\2"+
+		"\u1052\u1053\7\'\2\2\u1053\u1054\7z\2\2\u1054\u1055\7o\2\2\u1055\u1056"+
+		"\7o\2\2\u1056\u1057\7\63\2\2\u1057\u1058\7\64\2\2\u1058\u0436\3\2\2\2"+
+		"\u1059\u105a\7\'\2\2\u105a\u105b\7z\2\2\u105b\u105c\7o\2\2\u105c\u105d"+
+		"\7o\2\2\u105d\u105e\7\63\2\2\u105e\u105f\7\65\2\2\u105f\u0438\3\2\2\2"+
+		"\u1060\u1061\7\'\2\2\u1061\u1062\7z\2\2\u1062\u1063\7o\2\2\u1063\u1064"+
+		"\7o\2\2\u1064\u1065\7\63\2\2\u1065\u1066\7\66\2\2\u1066\u043a\3\2\2\2"+
+		"\u1067\u1068\7\'\2\2\u1068\u1069\7z\2\2\u1069\u106a\7o\2\2\u106a\u106b"+
+		"\7o\2\2\u106b\u106c\7\63\2\2\u106c\u106d\7\67\2\2\u106d\u043c\3\2\2\2"+
+		"\u106e\u106f\7\'\2\2\u106f\u1070\7e\2\2\u1070\u1071\7u\2\2\u1071\u043e"+
+		"\3\2\2\2\u1072\u1073\7\'\2\2\u1073\u1074\7f\2\2\u1074\u1075\7u\2\2\u1075"+
+		"\u0440\3\2\2\2\u1076\u1077\7\'\2\2\u1077\u1078\7g\2\2\u1078\u1079\7u\2"+
+		"\2\u1079\u0442\3\2\2\2\u107a\u107b\7\'\2\2\u107b\u107c\7h\2\2\u107c\u107d"+
+		"\7u\2\2\u107d\u0444\3\2\2\2\u107e\u107f\7\'\2\2\u107f\u1080\7i\2\2\u1080"+
+		"\u1081\7u\2\2\u1081\u0446\3\2\2\2\u1082\u1083\7\'\2\2\u1083\u1084\7u\2"+
+		"\2\u1084\u1085\7u\2\2\u1085\u0448\3\2\2\2\u1086\u1087\7&\2\2\u1087\u1088"+
+		"\7&\2\2\u1088\u044a\3\2\2\2\u1089\u108a\7&\2\2\u108a\u044c\3\2\2\2\u108b"+
+		"\u108c\7}\2\2\u108c\u044e\3\2\2\2\u108d\u108e\7d\2\2\u108e\u0450\3\2\2"+
+		"\2\u108f\u1090\7j\2\2\u1090\u0452\3\2\2\2\u1091\u1092\7y\2\2\u1092\u0454"+
+		"\3\2\2\2\u1093\u1094\7m\2\2\u1094\u0456\3\2\2\2\u1095\u1096\7s\2\2\u1096"+
+		"\u0458\3\2\2\2\u1097\u1098\7\177\2\2\u1098\u045a\3\2\2\2\u1099\u109a\t"+
+		"\2\2\2\u109a\u045c\3\2\2\2\u109b\u109c\t\3\2\2\u109c\u045e\3\2\2\2\u109d"+
+		"\u109e\t\4\2\2\u109e\u0460\3\2\2\2\u109f\u10a1\t\5\2\2\u10a0\u109f\3\2"+
+		"\2\2\u10a1\u0462\3\2\2\2\u10a2\u10a3\t\6\2\2\u10a3\u0464\3\2\2\2\u10a4"+
+		"\u10aa\5\u0463\u0232\2\u10a5\u10a9\5\u0463\u0232\2\u10a6\u10a9\5\u045b"+
+		"\u022e\2\u10a7\u10a9\7a\2\2\u10a8\u10a5\3\2\2\2\u10a8\u10a6\3\2\2\2\u10a8"+
+		"\u10a7\3\2\2\2\u10a9\u10ac\3\2\2\2\u10aa\u10a8\3\2\2\2\u10aa\u10ab\3\2"+
+		"\2\2\u10ab\u0466\3\2\2\2\u10ac\u10aa\3\2\2\2\u10ad\u10ae\7\62\2\2\u10ae"+
+		"\u10af\7d\2\2\u10af\u10b1\3\2\2\2\u10b0\u10b2\5\u045d\u022f\2\u10b1\u10b0"+
+		"\3\2\2\2\u10b2\u10b3\3\2\2\2\u10b3\u10b1\3\2\2\2\u10b3\u10b4\3\2\2\2\u10b4"+
+		"\u0468\3\2\2\2\u10b5\u10b6\7\62\2\2\u10b6\u10b7\7z\2\2\u10b7\u10b9\3\2"+
+		"\2\2\u10b8\u10ba\5\u0461\u0231\2\u10b9\u10b8\3\2\2\2\u10ba\u10bb\3\2\2"+
+		"\2\u10bb\u10b9\3\2\2\2\u10bb\u10bc\3\2\2\2\u10bc\u046a\3\2\2\2\u10bd\u10bf"+
+		"\7/\2\2\u10be\u10bd\3\2\2\2\u10be\u10bf\3\2\2\2\u10bf\u10c1\3\2\2\2\u10c0"+
+		"\u10c2\5\u045b\u022e\2\u10c1\u10c0\3\2\2\2\u10c2\u10c3\3\2\2\2\u10c3\u10c1"+
+		"\3\2\2\2\u10c3\u10c4\3\2\2\2\u10c4\u046c\3\2\2\2\u10c5\u10c7\7\"\2\2\u10c6"+
+		"\u10c5\3\2\2\2\u10c7\u10c8\3\2\2\2\u10c8\u10c6\3\2\2\2\u10c8\u10c9\3\2"+
+		"\2\2\u10c9\u10ca\3\2\2\2\u10ca\u10cb\b\u0237\2\2\u10cb\u046e\3\2\2\2\13"+
+		"\2\u10a0\u10a8\u10aa\u10b3\u10bb\u10be\u10c3\u10c8\3\b\2\2";
 	public static final String _serializedATN = Utils.join(
 		new String[] {
 			_serializedATNSegment0,
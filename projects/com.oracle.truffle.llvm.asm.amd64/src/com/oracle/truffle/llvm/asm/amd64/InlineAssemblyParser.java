@@ -145,8 +145,9 @@ public class InlineAssemblyParser extends Parser {
 		T__527=528, T__528=529, T__529=530, T__530=531, T__531=532, T__532=533, 
 		T__533=534, T__534=535, T__535=536, T__536=537, T__537=538, T__538=539, 
 		T__539=540, T__540=541, T__541=542, T__542=543, T__543=544, T__544=545, 
-		T__545=546, T__546=547, T__547=548, T__548=549, T__549=550, IDENT=551, 
-		BIN_NUMBER=552, HEX_NUMBER=553, NUMBER=554, WS=555;
+		T__545=546, T__546=547, T__547=548, T__548=549, T__549=550, T__550=551, 
+		T__551=552, T__552=553, T__553=554, T__554=555, T__555=556, IDENT=557, 
+		BIN_NUMBER=558, HEX_NUMBER=559, NUMBER=560, WS=561;
 	public static final int
 		RULE_inline_assembly = 0, RULE_prefix = 1, RULE_assembly_instruction = 2, 
 		RULE_int_value = 3, RULE_jump = 4, RULE_zero_op = 5, RULE_imul_div = 6, 
@@ -176,73 +177,74 @@ public class InlineAssemblyParser extends Parser {
 		"'loopz'", "'clc'", "'cld'", "'cli'", "'cmc'", "'lahf'", "'popf'", "'popfw'", 
 		"'pushf'", "'pushfw'", "'sahf'", "'stc'", "'std'", "'sti'", "'nop'", "'rdtsc'", 
 		"'cpuid'", "'xgetbv'", "'ud2'", "'mfence'", "'lfence'", "'sfence'", "'hlt'", 
-		"'syscall'", "'stosb'", "'stosw'", "'stosd'", "'stosq'", "'pause'", "'idivb'", 
-		"'imulb'", "','", "'idivw'", "'imulw'", "'idivl'", "'imull'", "'idivq'", 
-		"'imulq'", "'idiv'", "'imul'", "'incb'", "'decb'", "'negb'", "'notb'", 
-		"'divb'", "'mulb'", "'incw'", "'decw'", "'negw'", "'notw'", "'divw'", 
-		"'mulw'", "'pushw'", "'popw'", "'incl'", "'decl'", "'negl'", "'notl'", 
-		"'divl'", "'mull'", "'bswapl'", "'pushl'", "'popl'", "'incq'", "'decq'", 
-		"'negq'", "'notq'", "'divq'", "'mulq'", "'bswapq'", "'pushq'", "'popq'", 
-		"'inc'", "'dec'", "'neg'", "'not'", "'bswap'", "'rdrand'", "'rdseed'", 
-		"'seta'", "'setae'", "'setb'", "'setbe'", "'setc'", "'sete'", "'setg'", 
-		"'setge'", "'setl'", "'setle'", "'setna'", "'setnae'", "'setnb'", "'setnbe'", 
-		"'setnc'", "'setne'", "'setng'", "'setnge'", "'setnl'", "'setnle'", "'setno'", 
-		"'setnp'", "'setns'", "'setnz'", "'seto'", "'setp'", "'setpe'", "'setpo'", 
-		"'sets'", "'setz'", "'push'", "'pop'", "'cmpxchg8b'", "'cmpxchg16b'", 
-		"'movb'", "'xaddb'", "'xchgb'", "'adcb'", "'addb'", "'cmpb'", "'sbbb'", 
-		"'subb'", "'andb'", "'orb'", "'xorb'", "'rclb'", "'rcrb'", "'rolb'", "'rorb'", 
-		"'salb'", "'sarb'", "'shlb'", "'shrb'", "'testb'", "'cmpxchgb'", "'cmovaw'", 
-		"'cmovaew'", "'cmovbw'", "'cmovbew'", "'cmovcw'", "'cmovew'", "'cmovgw'", 
-		"'cmovgew'", "'cmovlw'", "'cmovlew'", "'cmovnaw'", "'cmovnaew'", "'cmovnbw'", 
-		"'cmovnbew'", "'cmovncw'", "'cmovnew'", "'cmovngw'", "'cmovngew'", "'cmovnlw'", 
-		"'cmovnlew'", "'cmovnow'", "'cmovnpw'", "'cmovnsw'", "'cmovnzw'", "'cmovow'", 
-		"'cmovpw'", "'cmovpew'", "'cmovpow'", "'cmovsw'", "'cmovzw'", "'cmpxchgw'", 
-		"'movw'", "'xaddw'", "'xchgw'", "'adcw'", "'addw'", "'cmpw'", "'sbbw'", 
-		"'subw'", "'andw'", "'orw'", "'xorw'", "'testw'", "'bsfw'", "'bsrw'", 
-		"'btw'", "'btcw'", "'btrw'", "'btsw'", "'rclw'", "'rcrw'", "'rolw'", "'rorw'", 
-		"'salw'", "'sarw'", "'shlw'", "'shrw'", "'movsbw'", "'movzbw'", "'cmoval'", 
-		"'cmovael'", "'cmovbl'", "'cmovbel'", "'cmovcl'", "'cmovel'", "'cmovgl'", 
-		"'cmovgel'", "'cmovll'", "'cmovlel'", "'cmovnal'", "'cmovnael'", "'cmovnbl'", 
-		"'cmovnbel'", "'cmovncl'", "'cmovnel'", "'cmovngl'", "'cmovngel'", "'cmovnll'", 
-		"'cmovnlel'", "'cmovnol'", "'cmovnpl'", "'cmovnsl'", "'cmovnzl'", "'cmovol'", 
-		"'cmovpl'", "'cmovpel'", "'cmovpol'", "'cmovsl'", "'cmovzl'", "'cmpxchgl'", 
-		"'movl'", "'xaddl'", "'xchgl'", "'adcl'", "'addl'", "'cmpl'", "'sbbl'", 
-		"'subl'", "'andl'", "'orl'", "'xorl'", "'testl'", "'bsfl'", "'bsrl'", 
-		"'btl'", "'btcl'", "'btrl'", "'btsl'", "'rcll'", "'rcrl'", "'roll'", "'rorl'", 
-		"'sall'", "'sarl'", "'shll'", "'shrl'", "'movsbl'", "'movswl'", "'movzbl'", 
-		"'movzwl'", "'cmovaq'", "'cmovaeq'", "'cmovbq'", "'cmovbeq'", "'cmovcq'", 
-		"'cmoveq'", "'cmovgq'", "'cmovgeq'", "'cmovlq'", "'cmovleq'", "'cmovnaq'", 
-		"'cmovnaeq'", "'cmovnbq'", "'cmovnbeq'", "'cmovncq'", "'cmovneq'", "'cmovngq'", 
-		"'cmovngeq'", "'cmovnlq'", "'cmovnleq'", "'cmovnoq'", "'cmovnpq'", "'cmovnsq'", 
-		"'cmovnzq'", "'cmovoq'", "'cmovpq'", "'cmovpeq'", "'cmovpoq'", "'cmovsq'", 
-		"'cmovzq'", "'cmpxchgq'", "'movq'", "'xaddq'", "'xchgq'", "'adcq'", "'addq'", 
-		"'cmpq'", "'sbbq'", "'subq'", "'andq'", "'orq'", "'xorq'", "'testq'", 
-		"'bsfq'", "'bsrq'", "'btq'", "'btcq'", "'btrq'", "'btsq'", "'rclq'", "'rcrq'", 
-		"'rolq'", "'rorq'", "'salq'", "'sarq'", "'shlq'", "'shrq'", "'movsbq'", 
-		"'movzbq'", "'movswq'", "'movzwq'", "'movslq'", "'cmova'", "'cmovae'", 
-		"'cmovb'", "'cmovbe'", "'cmovc'", "'cmove'", "'cmovg'", "'cmovge'", "'cmovl'", 
-		"'cmovle'", "'cmovna'", "'cmovnae'", "'cmovnb'", "'cmovnbe'", "'cmovnc'", 
-		"'cmovne'", "'cmovng'", "'cmovnge'", "'cmovnl'", "'cmovnle'", "'cmovno'", 
-		"'cmovnp'", "'cmovns'", "'cmovnz'", "'cmovo'", "'cmovp'", "'cmovpe'", 
-		"'cmovpo'", "'cmovs'", "'cmovz'", "'cmpxchg'", "'pmovmskb'", "'mov'", 
-		"'xadd'", "'xchg'", "'adc'", "'add'", "'cmp'", "'div'", "'mul'", "'sbb'", 
-		"'sub'", "'and'", "'or'", "'xor'", "'rcl'", "'rcr'", "'rol'", "'ror'", 
-		"'sal'", "'sar'", "'shl'", "'shr'", "'lea'", "'bsf'", "'bsr'", "':'", 
-		"'('", "')'", "'%ah'", "'%al'", "'%bh'", "'%bl'", "'%ch'", "'%cl'", "'%dh'", 
-		"'%dl'", "'%r0l'", "'%r1l'", "'%r2l'", "'%r3l'", "'%r4l'", "'%r5l'", "'%r6l'", 
-		"'%r7l'", "'%r8l'", "'%r9l'", "'%r10l'", "'%r11l'", "'%r12l'", "'%r13l'", 
-		"'%r14l'", "'%r15l'", "'%ax'", "'%bx'", "'%cx'", "'%dx'", "'%si'", "'%di'", 
-		"'%bp'", "'%sp'", "'%r0w'", "'%r1w'", "'%r2w'", "'%r3w'", "'%r4w'", "'%r5w'", 
-		"'%r6w'", "'%r7w'", "'%r8w'", "'%r9w'", "'%r10w'", "'%r11w'", "'%r12w'", 
-		"'%r13w'", "'%r14w'", "'%r15w'", "'%eax'", "'%ebx'", "'%ecx'", "'%edx'", 
-		"'%esi'", "'%edi'", "'%ebp'", "'%esp'", "'%r0d'", "'%r1d'", "'%r2d'", 
-		"'%r3d'", "'%r4d'", "'%r5d'", "'%r6d'", "'%r7d'", "'%r8d'", "'%r9d'", 
-		"'%r10d'", "'%r11d'", "'%r12d'", "'%r13d'", "'%r14d'", "'%r15d'", "'%rax'", 
-		"'%rbx'", "'%rcx'", "'%rdx'", "'%rsp'", "'%rbp'", "'%rsi'", "'%rdi'", 
-		"'%r0'", "'%r1'", "'%r2'", "'%r3'", "'%r4'", "'%r5'", "'%r6'", "'%r7'", 
-		"'%r8'", "'%r9'", "'%r10'", "'%r11'", "'%r12'", "'%r13'", "'%r14'", "'%r15'", 
-		"'%xmm0'", "'%xmm1'", "'%xmm2'", "'%xmm3'", "'%xmm4'", "'%xmm5'", "'%xmm6'", 
-		"'%xmm7'", "'%xmm8'", "'%xmm9'", "'%xmm10'", "'%xmm11'", "'%xmm12'", "'%xmm13'", 
+		"'syscall'", "'stosb'", "'stosw'", "'stosl'", "'stosd'", "'stosq'", "'movsb'", 
+		"'movsw'", "'movsl'", "'movsd'", "'movsq'", "'pause'", "'idivb'", "'imulb'", 
+		"','", "'idivw'", "'imulw'", "'idivl'", "'imull'", "'idivq'", "'imulq'", 
+		"'idiv'", "'imul'", "'incb'", "'decb'", "'negb'", "'notb'", "'divb'", 
+		"'mulb'", "'incw'", "'decw'", "'negw'", "'notw'", "'divw'", "'mulw'", 
+		"'pushw'", "'popw'", "'incl'", "'decl'", "'negl'", "'notl'", "'divl'", 
+		"'mull'", "'bswapl'", "'pushl'", "'popl'", "'incq'", "'decq'", "'negq'", 
+		"'notq'", "'divq'", "'mulq'", "'bswapq'", "'pushq'", "'popq'", "'inc'", 
+		"'dec'", "'neg'", "'not'", "'bswap'", "'rdrand'", "'rdseed'", "'seta'", 
+		"'setae'", "'setb'", "'setbe'", "'setc'", "'sete'", "'setg'", "'setge'", 
+		"'setl'", "'setle'", "'setna'", "'setnae'", "'setnb'", "'setnbe'", "'setnc'", 
+		"'setne'", "'setng'", "'setnge'", "'setnl'", "'setnle'", "'setno'", "'setnp'", 
+		"'setns'", "'setnz'", "'seto'", "'setp'", "'setpe'", "'setpo'", "'sets'", 
+		"'setz'", "'push'", "'pop'", "'cmpxchg8b'", "'cmpxchg16b'", "'movb'", 
+		"'xaddb'", "'xchgb'", "'adcb'", "'addb'", "'cmpb'", "'sbbb'", "'subb'", 
+		"'andb'", "'orb'", "'xorb'", "'rclb'", "'rcrb'", "'rolb'", "'rorb'", "'salb'", 
+		"'sarb'", "'shlb'", "'shrb'", "'testb'", "'cmpxchgb'", "'cmovaw'", "'cmovaew'", 
+		"'cmovbw'", "'cmovbew'", "'cmovcw'", "'cmovew'", "'cmovgw'", "'cmovgew'", 
+		"'cmovlw'", "'cmovlew'", "'cmovnaw'", "'cmovnaew'", "'cmovnbw'", "'cmovnbew'", 
+		"'cmovncw'", "'cmovnew'", "'cmovngw'", "'cmovngew'", "'cmovnlw'", "'cmovnlew'", 
+		"'cmovnow'", "'cmovnpw'", "'cmovnsw'", "'cmovnzw'", "'cmovow'", "'cmovpw'", 
+		"'cmovpew'", "'cmovpow'", "'cmovsw'", "'cmovzw'", "'cmpxchgw'", "'movw'", 
+		"'xaddw'", "'xchgw'", "'adcw'", "'addw'", "'cmpw'", "'sbbw'", "'subw'", 
+		"'andw'", "'orw'", "'xorw'", "'testw'", "'bsfw'", "'bsrw'", "'btw'", "'btcw'", 
+		"'btrw'", "'btsw'", "'rclw'", "'rcrw'", "'rolw'", "'rorw'", "'salw'", 
+		"'sarw'", "'shlw'", "'shrw'", "'movsbw'", "'movzbw'", "'cmoval'", "'cmovael'", 
+		"'cmovbl'", "'cmovbel'", "'cmovcl'", "'cmovel'", "'cmovgl'", "'cmovgel'", 
+		"'cmovll'", "'cmovlel'", "'cmovnal'", "'cmovnael'", "'cmovnbl'", "'cmovnbel'", 
+		"'cmovncl'", "'cmovnel'", "'cmovngl'", "'cmovngel'", "'cmovnll'", "'cmovnlel'", 
+		"'cmovnol'", "'cmovnpl'", "'cmovnsl'", "'cmovnzl'", "'cmovol'", "'cmovpl'", 
+		"'cmovpel'", "'cmovpol'", "'cmovsl'", "'cmovzl'", "'cmpxchgl'", "'movl'", 
+		"'xaddl'", "'xchgl'", "'adcl'", "'addl'", "'cmpl'", "'sbbl'", "'subl'", 
+		"'andl'", "'orl'", "'xorl'", "'testl'", "'bsfl'", "'bsrl'", "'btl'", "'btcl'", 
+		"'btrl'", "'btsl'", "'rcll'", "'rcrl'", "'roll'", "'rorl'", "'sall'", 
+		"'sarl'", "'shll'", "'shrl'", "'movsbl'", "'movswl'", "'movzbl'", "'movzwl'", 
+		"'cmovaq'", "'cmovaeq'", "'cmovbq'", "'cmovbeq'", "'cmovcq'", "'cmoveq'", 
+		"'cmovgq'", "'cmovgeq'", "'cmovlq'", "'cmovleq'", "'cmovnaq'", "'cmovnaeq'", 
+		"'cmovnbq'", "'cmovnbeq'", "'cmovncq'", "'cmovneq'", "'cmovngq'", "'cmovngeq'", 
+		"'cmovnlq'", "'cmovnleq'", "'cmovnoq'", "'cmovnpq'", "'cmovnsq'", "'cmovnzq'", 
+		"'cmovoq'", "'cmovpq'", "'cmovpeq'", "'cmovpoq'", "'cmovsq'", "'cmovzq'", 
+		"'cmpxchgq'", "'movq'", "'xaddq'", "'xchgq'", "'adcq'", "'addq'", "'cmpq'", 
+		"'sbbq'", "'subq'", "'andq'", "'orq'", "'xorq'", "'testq'", "'bsfq'", 
+		"'bsrq'", "'btq'", "'btcq'", "'btrq'", "'btsq'", "'rclq'", "'rcrq'", "'rolq'", 
+		"'rorq'", "'salq'", "'sarq'", "'shlq'", "'shrq'", "'movsbq'", "'movzbq'", 
+		"'movswq'", "'movzwq'", "'movslq'", "'cmova'", "'cmovae'", "'cmovb'", 
+		"'cmovbe'", "'cmovc'", "'cmove'", "'cmovg'", "'cmovge'", "'cmovl'", "'cmovle'", 
+		"'cmovna'", "'cmovnae'", "'cmovnb'", "'cmovnbe'", "'cmovnc'", "'cmovne'", 
+		"'cmovng'", "'cmovnge'", "'cmovnl'", "'cmovnle'", "'cmovno'", "'cmovnp'", 
+		"'cmovns'", "'cmovnz'", "'cmovo'", "'cmovp'", "'cmovpe'", "'cmovpo'", 
+		"'cmovs'", "'cmovz'", "'cmpxchg'", "'pmovmskb'", "'mov'", "'xadd'", "'xchg'", 
+		"'adc'", "'add'", "'cmp'", "'div'", "'mul'", "'sbb'", "'sub'", "'and'", 
+		"'or'", "'xor'", "'rcl'", "'rcr'", "'rol'", "'ror'", "'sal'", "'sar'", 
+		"'shl'", "'shr'", "'lea'", "'bsf'", "'bsr'", "':'", "'('", "')'", "'%ah'", 
+		"'%al'", "'%bh'", "'%bl'", "'%ch'", "'%cl'", "'%dh'", "'%dl'", "'%r0l'", 
+		"'%r1l'", "'%r2l'", "'%r3l'", "'%r4l'", "'%r5l'", "'%r6l'", "'%r7l'", 
+		"'%r8l'", "'%r9l'", "'%r10l'", "'%r11l'", "'%r12l'", "'%r13l'", "'%r14l'", 
+		"'%r15l'", "'%ax'", "'%bx'", "'%cx'", "'%dx'", "'%si'", "'%di'", "'%bp'", 
+		"'%sp'", "'%r0w'", "'%r1w'", "'%r2w'", "'%r3w'", "'%r4w'", "'%r5w'", "'%r6w'", 
+		"'%r7w'", "'%r8w'", "'%r9w'", "'%r10w'", "'%r11w'", "'%r12w'", "'%r13w'", 
+		"'%r14w'", "'%r15w'", "'%eax'", "'%ebx'", "'%ecx'", "'%edx'", "'%esi'", 
+		"'%edi'", "'%ebp'", "'%esp'", "'%r0d'", "'%r1d'", "'%r2d'", "'%r3d'", 
+		"'%r4d'", "'%r5d'", "'%r6d'", "'%r7d'", "'%r8d'", "'%r9d'", "'%r10d'", 
+		"'%r11d'", "'%r12d'", "'%r13d'", "'%r14d'", "'%r15d'", "'%rax'", "'%rbx'", 
+		"'%rcx'", "'%rdx'", "'%rsp'", "'%rbp'", "'%rsi'", "'%rdi'", "'%r0'", "'%r1'", 
+		"'%r2'", "'%r3'", "'%r4'", "'%r5'", "'%r6'", "'%r7'", "'%r8'", "'%r9'", 
+		"'%r10'", "'%r11'", "'%r12'", "'%r13'", "'%r14'", "'%r15'", "'%xmm0'", 
+		"'%xmm1'", "'%xmm2'", "'%xmm3'", "'%xmm4'", "'%xmm5'", "'%xmm6'", "'%xmm7'", 
+		"'%xmm8'", "'%xmm9'", "'%xmm10'", "'%xmm11'", "'%xmm12'", "'%xmm13'", 
 		"'%xmm14'", "'%xmm15'", "'%cs'", "'%ds'", "'%es'", "'%fs'", "'%gs'", "'%ss'", 
 		"'$$'", "'$'", "'{'", "'b'", "'h'", "'w'", "'k'", "'q'", "'}'"
 	};
@@ -292,8 +294,9 @@ public class InlineAssemblyParser extends Parser {
 		null, null, null, null, null, null, null, null, null, null, null, null, 
 		null, null, null, null, null, null, null, null, null, null, null, null, 
 		null, null, null, null, null, null, null, null, null, null, null, null, 
-		null, null, null, null, null, null, null, null, null, null, null, "IDENT", 
-		"BIN_NUMBER", "HEX_NUMBER", "NUMBER", "WS"
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, "IDENT", "BIN_NUMBER", "HEX_NUMBER", "NUMBER", 
+		"WS"
 	};
 	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
 
@@ -409,7 +412,7 @@ public class InlineAssemblyParser extends Parser {
 			setState(86);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__4) | (1L << T__5) | (1L << T__6) | (1L << T__7) | (1L << T__8) | (1L << T__9) | (1L << T__10) | (1L << T__11) | (1L << T__12) | (1L << T__13) | (1L << T__14) | (1L << T__15) | (1L << T__16) | (1L << T__17) | (1L << T__18) | (1L << T__19) | (1L << T__20) | (1L << T__21) | (1L << T__22) | (1L << T__23) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__27) | (1L << T__28) | (1L << T__29) | (1L << T__30) | (1L << T__31) | (1L << T__32) | (1L << T__33) | (1L << T__34) | (1L << T__35) | (1L << T__36) | (1L << T__37) | (1L << T__38) | (1L << T__39) | (1L << T__40) | (1L << T__41) | (1L << T__42) | (1L << T__43) | (1L << T__44) | (1L << T__45) | (1L << T__46) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__50) | (1L << T__51) | (1L << T__52) | (1L << T__53) | (1L << T__54) | (1L << T__55) | (1L << T__56) | (1L << T__57) | (1L << T__58) | (1L << T__59) | (1L << T__60) | (1L << T__61) | (1L << T__62))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (T__63 - 64)) | (1L << (T__64 - 64)) | (1L << (T__65 - 64)) | (1L << (T__66 - 64)) | (1L << (T__67 - 64)) | (1L << (T__68 - 64)) | (1L << (T__69 - 64)) | (1L << (T__70 - 64)) | (1L << (T__71 - 64)) | (1L << (T__72 - 64)) | (1L << (T__73 - 64)) | (1L << (T__74 - 64)) | (1L << (T__75 - 64)) | (1L << (T__76 - 64)) | (1L << (T__77 - 64)) | (1L << (T__78 - 64)) | (1L << (T__80 - 64)) | (1L << (T__81 - 64)) | (1L << (T__82 - 64)) | (1L << (T__83 - 64)) | (1L << (T__84 - 64)) | (1L << (T__85 - 64)) | (1L << (T__86 - 64)) | (1L << (T__87 - 64)) | (1L << (T__88 - 64)) | (1L << (T__89 - 64)) | (1L << (T__90 - 64)) | (1L << (T__91 - 64)) | (1L << (T__92 - 64)) | (1L << (T__93 - 64)) | (1L << (T__94 - 64)) | (1L << (T__95 - 64)) | (1L << (T__96 - 64)) | (1L << (T__97 - 64)) | (1L << (T__98 - 64)) | (1L << (T__99 - 64)) | (1L << (T__100 - 64)) | (1L << (T__101 - 64)) | (1L << (T__102 - 64)) | (1L << (T__103 - 64)) | (1L << (T__104 - 64)) | (1L << (T__105 - 64)) | (1L << (T__106 - 64)) | (1L << (T__107 - 64)) | (1L << (T__108 - 64)) | (1L << (T__109 - 64)) | (1L << (T__110 - 64)) | (1L << (T__111 - 64)) | (1L << (T__112 - 64)) | (1L << (T__113 - 64)) | (1L << (T__114 - 64)) | (1L << (T__115 - 64)) | (1L << (T__116 - 64)) | (1L << (T__117 - 64)) | (1L << (T__118 - 64)) | (1L << (T__119 - 64)) | (1L << (T__120 - 64)) | (1L << (T__121 - 64)) | (1L << (T__122 - 64)) | (1L << (T__123 - 64)) | (1L << (T__124 - 64)) | (1L << (T__125 - 64)) | (1L << (T__126 - 64)))) != 0) || ((((_la - 128)) & ~0x3f) == 0 && ((1L << (_la - 128)) & ((1L << (T__127 - 128)) | (1L << (T__128 - 128)) | (1L << (T__129 - 128)) | (1L << (T__130 - 128)) | (1L << (T__131 - 128)) | (1L << (T__132 - 128)) | (1L << (T__133 - 128)) | (1L << (T__134 - 128)) | (1L << (T__135 - 128)) | (1L << (T__136 - 128)) | (1L << (T__137 - 128)) | (1L << (T__138 - 128)) | (1L << (T__139 - 128)) | (1L << (T__140 - 128)) | (1L << (T__141 - 128)) | (1L << (T__142 - 128)) | (1L << (T__143 - 128)) | (1L << (T__144 - 128)) | (1L << (T__145 - 128)) | (1L << (T__146 - 128)) | (1L << (T__147 - 128)) | (1L << (T__148 - 128)) | (1L << (T__149 - 128)) | (1L << (T__150 - 128)) | (1L << (T__151 - 128)) | (1L << (T__152 - 128)) | (1L << (T__153 - 128)) | (1L << (T__154 - 128)) | (1L << (T__155 - 128)) | (1L << (T__156 - 128)) | (1L << (T__157 - 128)) | (1L << (T__158 - 128)) | (1L << (T__159 - 128)) | (1L << (T__160 - 128)) | (1L << (T__161 - 128)) | (1L << (T__162 - 128)) | (1L << (T__163 - 128)) | (1L << (T__164 - 128)) | (1L << (T__165 - 128)) | (1L << (T__166 - 128)) | (1L << (T__167 - 128)) | (1L << (T__168 - 128)) | (1L << (T__169 - 128)) | (1L << (T__170 - 128)) | (1L << (T__171 - 128)) | (1L << (T__172 - 128)) | (1L << (T__173 - 128)) | (1L << (T__174 - 128)) | (1L << (T__175 - 128)) | (1L << (T__176 - 128)) | (1L << (T__177 - 128)) | (1L << (T__178 - 128)) | (1L << (T__179 - 128)) | (1L << (T__180 - 128)) | (1L << (T__181 - 128)) | (1L << (T__182 - 128)) | (1L << (T__183 - 128)) | (1L << (T__184 - 128)) | (1L << (T__185 - 128)) | (1L << (T__186 - 128)) | (1L << (T__187 - 128)) | (1L << (T__188 - 128)) | (1L << (T__189 - 128)) | (1L << (T__190 - 128)))) != 0) || ((((_la - 192)) & ~0x3f) == 0 && ((1L << (_la - 192)) & ((1L << (T__191 - 192)) | (1L << (T__192 - 192)) | (1L << (T__193 - 192)) | (1L << (T__194 - 192)) | (1L << (T__195 - 192)) | (1L << (T__196 - 192)) | (1L << (T__197 - 192)) | (1L << (T__198 - 192)) | (1L << (T__199 - 192)) | (1L << (T__200 - 192)) | (1L << (T__201 - 192)) | (1L << (T__202 - 192)) | (1L << (T__203 - 192)) | (1L << (T__204 - 192)) | (1L << (T__205 - 192)) | (1L << (T__206 - 192)) | (1L << (T__207 - 192)) | (1L << (T__208 - 192)) | (1L << (T__209 - 192)) | (1L << (T__210 - 192)) | (1L << (T__211 - 192)) | (1L << (T__212 - 192)) | (1L << (T__213 - 192)) | (1L << (T__214 - 192)) | (1L << (T__215 - 192)) | (1L << (T__216 - 192)) | (1L << (T__217 - 192)) | (1L << (T__218 - 192)) | (1L << (T__219 - 192)) | (1L << (T__220 - 192)) | (1L << (T__221 - 192)) | (1L << (T__222 - 192)) | (1L << (T__223 - 192)) | (1L << (T__224 - 192)) | (1L << (T__225 - 192)) | (1L << (T__226 - 192)) | (1L << (T__227 - 192)) | (1L << (T__228 - 192)) | (1L << (T__229 - 192)) | (1L << (T__230 - 192)) | (1L << (T__231 - 192)) | (1L << (T__232 - 192)) | (1L << (T__233 - 192)) | (1L << (T__234 - 192)) | (1L << (T__235 - 192)) | (1L << (T__236 - 192)) | (1L << (T__237 - 192)) | (1L << (T__238 - 192)) | (1L << (T__239 - 192)) | (1L << (T__240 - 192)) | (1L << (T__241 - 192)) | (1L << (T__242 - 192)) | (1L << (T__243 - 192)) | (1L << (T__244 - 192)) | (1L << (T__245 - 192)) | (1L << (T__246 - 192)) | (1L << (T__247 - 192)) | (1L << (T__248 - 192)) | (1L << (T__249 - 192)) | (1L << (T__250 - 192)) | (1L << (T__251 - 192)) | (1L << (T__252 - 192)) | (1L << (T__253 - 192)) | (1L << (T__254 - 192)))) != 0) || ((((_la - 256)) & ~0x3f) == 0 && ((1L << (_la - 256)) & ((1L << (T__255 - 256)) | (1L << (T__256 - 256)) | (1L << (T__257 - 256)) | (1L << (T__258 - 256)) | (1L << (T__259 - 256)) | (1L << (T__260 - 256)) | (1L << (T__261 - 256)) | (1L << (T__262 - 256)) | (1L << (T__263 - 256)) | (1L << (T__264 - 256)) | (1L << (T__265 - 256)) | (1L << (T__266 - 256)) | (1L << (T__267 - 256)) | (1L << (T__268 - 256)) | (1L << (T__269 - 256)) | (1L << (T__270 - 256)) | (1L << (T__271 - 256)) | (1L << (T__272 - 256)) | (1L << (T__273 - 256)) | (1L << (T__274 - 256)) | (1L << (T__275 - 256)) | (1L << (T__276 - 256)) | (1L << (T__277 - 256)) | (1L << (T__278 - 256)) | (1L << (T__279 - 256)) | (1L << (T__280 - 256)) | (1L << (T__281 - 256)) | (1L << (T__282 - 256)) | (1L << (T__283 - 256)) | (1L << (T__284 - 256)) | (1L << (T__285 - 256)) | (1L << (T__286 - 256)) | (1L << (T__287 - 256)) | (1L << (T__288 - 256)) | (1L << (T__289 - 256)) | (1L << (T__290 - 256)) | (1L << (T__291 - 256)) | (1L << (T__292 - 256)) | (1L << (T__293 - 256)) | (1L << (T__294 - 256)) | (1L << (T__295 - 256)) | (1L << (T__296 - 256)) | (1L << (T__297 - 256)) | (1L << (T__298 - 256)) | (1L << (T__299 - 256)) | (1L << (T__300 - 256)) | (1L << (T__301 - 256)) | (1L << (T__302 - 256)) | (1L << (T__303 - 256)) | (1L << (T__304 - 256)) | (1L << (T__305 - 256)) | (1L << (T__306 - 256)) | (1L << (T__307 - 256)) | (1L << (T__308 - 256)) | (1L << (T__309 - 256)) | (1L << (T__310 - 256)) | (1L << (T__311 - 256)) | (1L << (T__312 - 256)) | (1L << (T__313 - 256)) | (1L << (T__314 - 256)) | (1L << (T__315 - 256)) | (1L << (T__316 - 256)) | (1L << (T__317 - 256)) | (1L << (T__318 - 256)))) != 0) || ((((_la - 320)) & ~0x3f) == 0 && ((1L << (_la - 320)) & ((1L << (T__319 - 320)) | (1L << (T__320 - 320)) | (1L << (T__321 - 320)) | (1L << (T__322 - 320)) | (1L << (T__323 - 320)) | (1L << (T__324 - 320)) | (1L << (T__325 - 320)) | (1L << (T__326 - 320)) | (1L << (T__327 - 320)) | (1L << (T__328 - 320)) | (1L << (T__329 - 320)) | (1L << (T__330 - 320)) | (1L << (T__331 - 320)) | (1L << (T__332 - 320)) | (1L << (T__333 - 320)) | (1L << (T__334 - 320)) | (1L << (T__335 - 320)) | (1L << (T__336 - 320)) | (1L << (T__337 - 320)) | (1L << (T__338 - 320)) | (1L << (T__339 - 320)) | (1L << (T__340 - 320)) | (1L << (T__341 - 320)) | (1L << (T__342 - 320)) | (1L << (T__343 - 320)) | (1L << (T__344 - 320)) | (1L << (T__345 - 320)) | (1L << (T__346 - 320)) | (1L << (T__347 - 320)) | (1L << (T__348 - 320)) | (1L << (T__349 - 320)) | (1L << (T__350 - 320)) | (1L << (T__351 - 320)) | (1L << (T__352 - 320)) | (1L << (T__353 - 320)) | (1L << (T__354 - 320)) | (1L << (T__355 - 320)) | (1L << (T__356 - 320)) | (1L << (T__357 - 320)) | (1L << (T__358 - 320)) | (1L << (T__359 - 320)) | (1L << (T__360 - 320)) | (1L << (T__361 - 320)) | (1L << (T__362 - 320)) | (1L << (T__363 - 320)) | (1L << (T__364 - 320)) | (1L << (T__365 - 320)) | (1L << (T__366 - 320)) | (1L << (T__367 - 320)) | (1L << (T__368 - 320)) | (1L << (T__369 - 320)) | (1L << (T__370 - 320)) | (1L << (T__371 - 320)) | (1L << (T__372 - 320)) | (1L << (T__373 - 320)) | (1L << (T__374 - 320)) | (1L << (T__375 - 320)) | (1L << (T__376 - 320)) | (1L << (T__377 - 320)) | (1L << (T__378 - 320)) | (1L << (T__379 - 320)) | (1L << (T__380 - 320)) | (1L << (T__381 - 320)) | (1L << (T__382 - 320)))) != 0) || ((((_la - 384)) & ~0x3f) == 0 && ((1L << (_la - 384)) & ((1L << (T__383 - 384)) | (1L << (T__384 - 384)) | (1L << (T__385 - 384)) | (1L << (T__386 - 384)) | (1L << (T__387 - 384)) | (1L << (T__388 - 384)) | (1L << (T__389 - 384)) | (1L << (T__390 - 384)) | (1L << (T__391 - 384)) | (1L << (T__392 - 384)) | (1L << (T__393 - 384)) | (1L << (T__394 - 384)) | (1L << (T__395 - 384)) | (1L << (T__396 - 384)) | (1L << (T__397 - 384)) | (1L << (T__398 - 384)) | (1L << (T__399 - 384)) | (1L << (T__400 - 384)) | (1L << (T__401 - 384)) | (1L << (T__402 - 384)) | (1L << (T__403 - 384)) | (1L << (T__404 - 384)) | (1L << (T__405 - 384)) | (1L << (T__406 - 384)) | (1L << (T__407 - 384)) | (1L << (T__408 - 384)) | (1L << (T__409 - 384)) | (1L << (T__410 - 384)) | (1L << (T__411 - 384)) | (1L << (T__412 - 384)) | (1L << (T__413 - 384)) | (1L << (T__414 - 384)) | (1L << (T__415 - 384)) | (1L << (T__416 - 384)) | (1L << (T__417 - 384)) | (1L << (T__418 - 384)) | (1L << (T__419 - 384)))) != 0)) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__4) | (1L << T__5) | (1L << T__6) | (1L << T__7) | (1L << T__8) | (1L << T__9) | (1L << T__10) | (1L << T__11) | (1L << T__12) | (1L << T__13) | (1L << T__14) | (1L << T__15) | (1L << T__16) | (1L << T__17) | (1L << T__18) | (1L << T__19) | (1L << T__20) | (1L << T__21) | (1L << T__22) | (1L << T__23) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__27) | (1L << T__28) | (1L << T__29) | (1L << T__30) | (1L << T__31) | (1L << T__32) | (1L << T__33) | (1L << T__34) | (1L << T__35) | (1L << T__36) | (1L << T__37) | (1L << T__38) | (1L << T__39) | (1L << T__40) | (1L << T__41) | (1L << T__42) | (1L << T__43) | (1L << T__44) | (1L << T__45) | (1L << T__46) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__50) | (1L << T__51) | (1L << T__52) | (1L << T__53) | (1L << T__54) | (1L << T__55) | (1L << T__56) | (1L << T__57) | (1L << T__58) | (1L << T__59) | (1L << T__60) | (1L << T__61) | (1L << T__62))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (T__63 - 64)) | (1L << (T__64 - 64)) | (1L << (T__65 - 64)) | (1L << (T__66 - 64)) | (1L << (T__67 - 64)) | (1L << (T__68 - 64)) | (1L << (T__69 - 64)) | (1L << (T__70 - 64)) | (1L << (T__71 - 64)) | (1L << (T__72 - 64)) | (1L << (T__73 - 64)) | (1L << (T__74 - 64)) | (1L << (T__75 - 64)) | (1L << (T__76 - 64)) | (1L << (T__77 - 64)) | (1L << (T__78 - 64)) | (1L << (T__79 - 64)) | (1L << (T__80 - 64)) | (1L << (T__81 - 64)) | (1L << (T__82 - 64)) | (1L << (T__83 - 64)) | (1L << (T__84 - 64)) | (1L << (T__86 - 64)) | (1L << (T__87 - 64)) | (1L << (T__88 - 64)) | (1L << (T__89 - 64)) | (1L << (T__90 - 64)) | (1L << (T__91 - 64)) | (1L << (T__92 - 64)) | (1L << (T__93 - 64)) | (1L << (T__94 - 64)) | (1L << (T__95 - 64)) | (1L << (T__96 - 64)) | (1L << (T__97 - 64)) | (1L << (T__98 - 64)) | (1L << (T__99 - 64)) | (1L << (T__100 - 64)) | (1L << (T__101 - 64)) | (1L << (T__102 - 64)) | (1L << (T__103 - 64)) | (1L << (T__104 - 64)) | (1L << (T__105 - 64)) | (1L << (T__106 - 64)) | (1L << (T__107 - 64)) | (1L << (T__108 - 64)) | (1L << (T__109 - 64)) | (1L << (T__110 - 64)) | (1L << (T__111 - 64)) | (1L << (T__112 - 64)) | (1L << (T__113 - 64)) | (1L << (T__114 - 64)) | (1L << (T__115 - 64)) | (1L << (T__116 - 64)) | (1L << (T__117 - 64)) | (1L << (T__118 - 64)) | (1L << (T__119 - 64)) | (1L << (T__120 - 64)) | (1L << (T__121 - 64)) | (1L << (T__122 - 64)) | (1L << (T__123 - 64)) | (1L << (T__124 - 64)) | (1L << (T__125 - 64)) | (1L << (T__126 - 64)))) != 0) || ((((_la - 128)) & ~0x3f) == 0 && ((1L << (_la - 128)) & ((1L << (T__127 - 128)) | (1L << (T__128 - 128)) | (1L << (T__129 - 128)) | (1L << (T__130 - 128)) | (1L << (T__131 - 128)) | (1L << (T__132 - 128)) | (1L << (T__133 - 128)) | (1L << (T__134 - 128)) | (1L << (T__135 - 128)) | (1L << (T__136 - 128)) | (1L << (T__137 - 128)) | (1L << (T__138 - 128)) | (1L << (T__139 - 128)) | (1L << (T__140 - 128)) | (1L << (T__141 - 128)) | (1L << (T__142 - 128)) | (1L << (T__143 - 128)) | (1L << (T__144 - 128)) | (1L << (T__145 - 128)) | (1L << (T__146 - 128)) | (1L << (T__147 - 128)) | (1L << (T__148 - 128)) | (1L << (T__149 - 128)) | (1L << (T__150 - 128)) | (1L << (T__151 - 128)) | (1L << (T__152 - 128)) | (1L << (T__153 - 128)) | (1L << (T__154 - 128)) | (1L << (T__155 - 128)) | (1L << (T__156 - 128)) | (1L << (T__157 - 128)) | (1L << (T__158 - 128)) | (1L << (T__159 - 128)) | (1L << (T__160 - 128)) | (1L << (T__161 - 128)) | (1L << (T__162 - 128)) | (1L << (T__163 - 128)) | (1L << (T__164 - 128)) | (1L << (T__165 - 128)) | (1L << (T__166 - 128)) | (1L << (T__167 - 128)) | (1L << (T__168 - 128)) | (1L << (T__169 - 128)) | (1L << (T__170 - 128)) | (1L << (T__171 - 128)) | (1L << (T__172 - 128)) | (1L << (T__173 - 128)) | (1L << (T__174 - 128)) | (1L << (T__175 - 128)) | (1L << (T__176 - 128)) | (1L << (T__177 - 128)) | (1L << (T__178 - 128)) | (1L << (T__179 - 128)) | (1L << (T__180 - 128)) | (1L << (T__181 - 128)) | (1L << (T__182 - 128)) | (1L << (T__183 - 128)) | (1L << (T__184 - 128)) | (1L << (T__185 - 128)) | (1L << (T__186 - 128)) | (1L << (T__187 - 128)) | (1L << (T__188 - 128)) | (1L << (T__189 - 128)) | (1L << (T__190 - 128)))) != 0) || ((((_la - 192)) & ~0x3f) == 0 && ((1L << (_la - 192)) & ((1L << (T__191 - 192)) | (1L << (T__192 - 192)) | (1L << (T__193 - 192)) | (1L << (T__194 - 192)) | (1L << (T__195 - 192)) | (1L << (T__196 - 192)) | (1L << (T__197 - 192)) | (1L << (T__198 - 192)) | (1L << (T__199 - 192)) | (1L << (T__200 - 192)) | (1L << (T__201 - 192)) | (1L << (T__202 - 192)) | (1L << (T__203 - 192)) | (1L << (T__204 - 192)) | (1L << (T__205 - 192)) | (1L << (T__206 - 192)) | (1L << (T__207 - 192)) | (1L << (T__208 - 192)) | (1L << (T__209 - 192)) | (1L << (T__210 - 192)) | (1L << (T__211 - 192)) | (1L << (T__212 - 192)) | (1L << (T__213 - 192)) | (1L << (T__214 - 192)) | (1L << (T__215 - 192)) | (1L << (T__216 - 192)) | (1L << (T__217 - 192)) | (1L << (T__218 - 192)) | (1L << (T__219 - 192)) | (1L << (T__220 - 192)) | (1L << (T__221 - 192)) | (1L << (T__222 - 192)) | (1L << (T__223 - 192)) | (1L << (T__224 - 192)) | (1L << (T__225 - 192)) | (1L << (T__226 - 192)) | (1L << (T__227 - 192)) | (1L << (T__228 - 192)) | (1L << (T__229 - 192)) | (1L << (T__230 - 192)) | (1L << (T__231 - 192)) | (1L << (T__232 - 192)) | (1L << (T__233 - 192)) | (1L << (T__234 - 192)) | (1L << (T__235 - 192)) | (1L << (T__236 - 192)) | (1L << (T__237 - 192)) | (1L << (T__238 - 192)) | (1L << (T__239 - 192)) | (1L << (T__240 - 192)) | (1L << (T__241 - 192)) | (1L << (T__242 - 192)) | (1L << (T__243 - 192)) | (1L << (T__244 - 192)) | (1L << (T__245 - 192)) | (1L << (T__246 - 192)) | (1L << (T__247 - 192)) | (1L << (T__248 - 192)) | (1L << (T__249 - 192)) | (1L << (T__250 - 192)) | (1L << (T__251 - 192)) | (1L << (T__252 - 192)) | (1L << (T__253 - 192)) | (1L << (T__254 - 192)))) != 0) || ((((_la - 256)) & ~0x3f) == 0 && ((1L << (_la - 256)) & ((1L << (T__255 - 256)) | (1L << (T__256 - 256)) | (1L << (T__257 - 256)) | (1L << (T__258 - 256)) | (1L << (T__259 - 256)) | (1L << (T__260 - 256)) | (1L << (T__261 - 256)) | (1L << (T__262 - 256)) | (1L << (T__263 - 256)) | (1L << (T__264 - 256)) | (1L << (T__265 - 256)) | (1L << (T__266 - 256)) | (1L << (T__267 - 256)) | (1L << (T__268 - 256)) | (1L << (T__269 - 256)) | (1L << (T__270 - 256)) | (1L << (T__271 - 256)) | (1L << (T__272 - 256)) | (1L << (T__273 - 256)) | (1L << (T__274 - 256)) | (1L << (T__275 - 256)) | (1L << (T__276 - 256)) | (1L << (T__277 - 256)) | (1L << (T__278 - 256)) | (1L << (T__279 - 256)) | (1L << (T__280 - 256)) | (1L << (T__281 - 256)) | (1L << (T__282 - 256)) | (1L << (T__283 - 256)) | (1L << (T__284 - 256)) | (1L << (T__285 - 256)) | (1L << (T__286 - 256)) | (1L << (T__287 - 256)) | (1L << (T__288 - 256)) | (1L << (T__289 - 256)) | (1L << (T__290 - 256)) | (1L << (T__291 - 256)) | (1L << (T__292 - 256)) | (1L << (T__293 - 256)) | (1L << (T__294 - 256)) | (1L << (T__295 - 256)) | (1L << (T__296 - 256)) | (1L << (T__297 - 256)) | (1L << (T__298 - 256)) | (1L << (T__299 - 256)) | (1L << (T__300 - 256)) | (1L << (T__301 - 256)) | (1L << (T__302 - 256)) | (1L << (T__303 - 256)) | (1L << (T__304 - 256)) | (1L << (T__305 - 256)) | (1L << (T__306 - 256)) | (1L << (T__307 - 256)) | (1L << (T__308 - 256)) | (1L << (T__309 - 256)) | (1L << (T__310 - 256)) | (1L << (T__311 - 256)) | (1L << (T__312 - 256)) | (1L << (T__313 - 256)) | (1L << (T__314 - 256)) | (1L << (T__315 - 256)) | (1L << (T__316 - 256)) | (1L << (T__317 - 256)) | (1L << (T__318 - 256)))) != 0) || ((((_la - 320)) & ~0x3f) == 0 && ((1L << (_la - 320)) & ((1L << (T__319 - 320)) | (1L << (T__320 - 320)) | (1L << (T__321 - 320)) | (1L << (T__322 - 320)) | (1L << (T__323 - 320)) | (1L << (T__324 - 320)) | (1L << (T__325 - 320)) | (1L << (T__326 - 320)) | (1L << (T__327 - 320)) | (1L << (T__328 - 320)) | (1L << (T__329 - 320)) | (1L << (T__330 - 320)) | (1L << (T__331 - 320)) | (1L << (T__332 - 320)) | (1L << (T__333 - 320)) | (1L << (T__334 - 320)) | (1L << (T__335 - 320)) | (1L << (T__336 - 320)) | (1L << (T__337 - 320)) | (1L << (T__338 - 320)) | (1L << (T__339 - 320)) | (1L << (T__340 - 320)) | (1L << (T__341 - 320)) | (1L << (T__342 - 320)) | (1L << (T__343 - 320)) | (1L << (T__344 - 320)) | (1L << (T__345 - 320)) | (1L << (T__346 - 320)) | (1L << (T__347 - 320)) | (1L << (T__348 - 320)) | (1L << (T__349 - 320)) | (1L << (T__350 - 320)) | (1L << (T__351 - 320)) | (1L << (T__352 - 320)) | (1L << (T__353 - 320)) | (1L << (T__354 - 320)) | (1L << (T__355 - 320)) | (1L << (T__356 - 320)) | (1L << (T__357 - 320)) | (1L << (T__358 - 320)) | (1L << (T__359 - 320)) | (1L << (T__360 - 320)) | (1L << (T__361 - 320)) | (1L << (T__362 - 320)) | (1L << (T__363 - 320)) | (1L << (T__364 - 320)) | (1L << (T__365 - 320)) | (1L << (T__366 - 320)) | (1L << (T__367 - 320)) | (1L << (T__368 - 320)) | (1L << (T__369 - 320)) | (1L << (T__370 - 320)) | (1L << (T__371 - 320)) | (1L << (T__372 - 320)) | (1L << (T__373 - 320)) | (1L << (T__374 - 320)) | (1L << (T__375 - 320)) | (1L << (T__376 - 320)) | (1L << (T__377 - 320)) | (1L << (T__378 - 320)) | (1L << (T__379 - 320)) | (1L << (T__380 - 320)) | (1L << (T__381 - 320)) | (1L << (T__382 - 320)))) != 0) || ((((_la - 384)) & ~0x3f) == 0 && ((1L << (_la - 384)) & ((1L << (T__383 - 384)) | (1L << (T__384 - 384)) | (1L << (T__385 - 384)) | (1L << (T__386 - 384)) | (1L << (T__387 - 384)) | (1L << (T__388 - 384)) | (1L << (T__389 - 384)) | (1L << (T__390 - 384)) | (1L << (T__391 - 384)) | (1L << (T__392 - 384)) | (1L << (T__393 - 384)) | (1L << (T__394 - 384)) | (1L << (T__395 - 384)) | (1L << (T__396 - 384)) | (1L << (T__397 - 384)) | (1L << (T__398 - 384)) | (1L << (T__399 - 384)) | (1L << (T__400 - 384)) | (1L << (T__401 - 384)) | (1L << (T__402 - 384)) | (1L << (T__403 - 384)) | (1L << (T__404 - 384)) | (1L << (T__405 - 384)) | (1L << (T__406 - 384)) | (1L << (T__407 - 384)) | (1L << (T__408 - 384)) | (1L << (T__409 - 384)) | (1L << (T__410 - 384)) | (1L << (T__411 - 384)) | (1L << (T__412 - 384)) | (1L << (T__413 - 384)) | (1L << (T__414 - 384)) | (1L << (T__415 - 384)) | (1L << (T__416 - 384)) | (1L << (T__417 - 384)) | (1L << (T__418 - 384)) | (1L << (T__419 - 384)) | (1L << (T__420 - 384)) | (1L << (T__421 - 384)) | (1L << (T__422 - 384)) | (1L << (T__423 - 384)) | (1L << (T__424 - 384)) | (1L << (T__425 - 384)))) != 0)) {
 				{
 				setState(70);
 				_errHandler.sync(this);
@@ -505,12 +508,12 @@ public class InlineAssemblyParser extends Parser {
 				case T__76:
 				case T__77:
 				case T__78:
+				case T__79:
 				case T__80:
 				case T__81:
 				case T__82:
 				case T__83:
 				case T__84:
-				case T__85:
 				case T__86:
 				case T__87:
 				case T__88:
@@ -845,6 +848,12 @@ public class InlineAssemblyParser extends Parser {
 				case T__417:
 				case T__418:
 				case T__419:
+				case T__420:
+				case T__421:
+				case T__422:
+				case T__423:
+				case T__424:
+				case T__425:
 					{
 					 factory.setPrefix(null); 
 					}
@@ -957,12 +966,12 @@ public class InlineAssemblyParser extends Parser {
 					case T__76:
 					case T__77:
 					case T__78:
+					case T__79:
 					case T__80:
 					case T__81:
 					case T__82:
 					case T__83:
 					case T__84:
-					case T__85:
 					case T__86:
 					case T__87:
 					case T__88:
@@ -1297,6 +1306,12 @@ public class InlineAssemblyParser extends Parser {
 					case T__417:
 					case T__418:
 					case T__419:
+					case T__420:
+					case T__421:
+					case T__422:
+					case T__423:
+					case T__424:
+					case T__425:
 						{
 						 factory.setPrefix(null); 
 						}
@@ -1307,7 +1322,7 @@ public class InlineAssemblyParser extends Parser {
 					setState(79);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
-					if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__9) | (1L << T__10) | (1L << T__11) | (1L << T__12) | (1L << T__13) | (1L << T__14) | (1L << T__15) | (1L << T__16) | (1L << T__17) | (1L << T__18) | (1L << T__19) | (1L << T__20) | (1L << T__21) | (1L << T__22) | (1L << T__23) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__27) | (1L << T__28) | (1L << T__29) | (1L << T__30) | (1L << T__31) | (1L << T__32) | (1L << T__33) | (1L << T__34) | (1L << T__35) | (1L << T__36) | (1L << T__37) | (1L << T__38) | (1L << T__39) | (1L << T__40) | (1L << T__41) | (1L << T__42) | (1L << T__43) | (1L << T__44) | (1L << T__45) | (1L << T__46) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__50) | (1L << T__51) | (1L << T__52) | (1L << T__53) | (1L << T__54) | (1L << T__55) | (1L << T__56) | (1L << T__57) | (1L << T__58) | (1L << T__59) | (1L << T__60) | (1L << T__61) | (1L << T__62))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (T__63 - 64)) | (1L << (T__64 - 64)) | (1L << (T__65 - 64)) | (1L << (T__66 - 64)) | (1L << (T__67 - 64)) | (1L << (T__68 - 64)) | (1L << (T__69 - 64)) | (1L << (T__70 - 64)) | (1L << (T__71 - 64)) | (1L << (T__72 - 64)) | (1L << (T__73 - 64)) | (1L << (T__74 - 64)) | (1L << (T__75 - 64)) | (1L << (T__76 - 64)) | (1L << (T__77 - 64)) | (1L << (T__78 - 64)) | (1L << (T__80 - 64)) | (1L << (T__81 - 64)) | (1L << (T__82 - 64)) | (1L << (T__83 - 64)) | (1L << (T__84 - 64)) | (1L << (T__85 - 64)) | (1L << (T__86 - 64)) | (1L << (T__87 - 64)) | (1L << (T__88 - 64)) | (1L << (T__89 - 64)) | (1L << (T__90 - 64)) | (1L << (T__91 - 64)) | (1L << (T__92 - 64)) | (1L << (T__93 - 64)) | (1L << (T__94 - 64)) | (1L << (T__95 - 64)) | (1L << (T__96 - 64)) | (1L << (T__97 - 64)) | (1L << (T__98 - 64)) | (1L << (T__99 - 64)) | (1L << (T__100 - 64)) | (1L << (T__101 - 64)) | (1L << (T__102 - 64)) | (1L << (T__103 - 64)) | (1L << (T__104 - 64)) | (1L << (T__105 - 64)) | (1L << (T__106 - 64)) | (1L << (T__107 - 64)) | (1L << (T__108 - 64)) | (1L << (T__109 - 64)) | (1L << (T__110 - 64)) | (1L << (T__111 - 64)) | (1L << (T__112 - 64)) | (1L << (T__113 - 64)) | (1L << (T__114 - 64)) | (1L << (T__115 - 64)) | (1L << (T__116 - 64)) | (1L << (T__117 - 64)) | (1L << (T__118 - 64)) | (1L << (T__119 - 64)) | (1L << (T__120 - 64)) | (1L << (T__121 - 64)) | (1L << (T__122 - 64)) | (1L << (T__123 - 64)) | (1L << (T__124 - 64)) | (1L << (T__125 - 64)) | (1L << (T__126 - 64)))) != 0) || ((((_la - 128)) & ~0x3f) == 0 && ((1L << (_la - 128)) & ((1L << (T__127 - 128)) | (1L << (T__128 - 128)) | (1L << (T__129 - 128)) | (1L << (T__130 - 128)) | (1L << (T__131 - 128)) | (1L << (T__132 - 128)) | (1L << (T__133 - 128)) | (1L << (T__134 - 128)) | (1L << (T__135 - 128)) | (1L << (T__136 - 128)) | (1L << (T__137 - 128)) | (1L << (T__138 - 128)) | (1L << (T__139 - 128)) | (1L << (T__140 - 128)) | (1L << (T__141 - 128)) | (1L << (T__142 - 128)) | (1L << (T__143 - 128)) | (1L << (T__144 - 128)) | (1L << (T__145 - 128)) | (1L << (T__146 - 128)) | (1L << (T__147 - 128)) | (1L << (T__148 - 128)) | (1L << (T__149 - 128)) | (1L << (T__150 - 128)) | (1L << (T__151 - 128)) | (1L << (T__152 - 128)) | (1L << (T__153 - 128)) | (1L << (T__154 - 128)) | (1L << (T__155 - 128)) | (1L << (T__156 - 128)) | (1L << (T__157 - 128)) | (1L << (T__158 - 128)) | (1L << (T__159 - 128)) | (1L << (T__160 - 128)) | (1L << (T__161 - 128)) | (1L << (T__162 - 128)) | (1L << (T__163 - 128)) | (1L << (T__164 - 128)) | (1L << (T__165 - 128)) | (1L << (T__166 - 128)) | (1L << (T__167 - 128)) | (1L << (T__168 - 128)) | (1L << (T__169 - 128)) | (1L << (T__170 - 128)) | (1L << (T__171 - 128)) | (1L << (T__172 - 128)) | (1L << (T__173 - 128)) | (1L << (T__174 - 128)) | (1L << (T__175 - 128)) | (1L << (T__176 - 128)) | (1L << (T__177 - 128)) | (1L << (T__178 - 128)) | (1L << (T__179 - 128)) | (1L << (T__180 - 128)) | (1L << (T__181 - 128)) | (1L << (T__182 - 128)) | (1L << (T__183 - 128)) | (1L << (T__184 - 128)) | (1L << (T__185 - 128)) | (1L << (T__186 - 128)) | (1L << (T__187 - 128)) | (1L << (T__188 - 128)) | (1L << (T__189 - 128)) | (1L << (T__190 - 128)))) != 0) || ((((_la - 192)) & ~0x3f) == 0 && ((1L << (_la - 192)) & ((1L << (T__191 - 192)) | (1L << (T__192 - 192)) | (1L << (T__193 - 192)) | (1L << (T__194 - 192)) | (1L << (T__195 - 192)) | (1L << (T__196 - 192)) | (1L << (T__197 - 192)) | (1L << (T__198 - 192)) | (1L << (T__199 - 192)) | (1L << (T__200 - 192)) | (1L << (T__201 - 192)) | (1L << (T__202 - 192)) | (1L << (T__203 - 192)) | (1L << (T__204 - 192)) | (1L << (T__205 - 192)) | (1L << (T__206 - 192)) | (1L << (T__207 - 192)) | (1L << (T__208 - 192)) | (1L << (T__209 - 192)) | (1L << (T__210 - 192)) | (1L << (T__211 - 192)) | (1L << (T__212 - 192)) | (1L << (T__213 - 192)) | (1L << (T__214 - 192)) | (1L << (T__215 - 192)) | (1L << (T__216 - 192)) | (1L << (T__217 - 192)) | (1L << (T__218 - 192)) | (1L << (T__219 - 192)) | (1L << (T__220 - 192)) | (1L << (T__221 - 192)) | (1L << (T__222 - 192)) | (1L << (T__223 - 192)) | (1L << (T__224 - 192)) | (1L << (T__225 - 192)) | (1L << (T__226 - 192)) | (1L << (T__227 - 192)) | (1L << (T__228 - 192)) | (1L << (T__229 - 192)) | (1L << (T__230 - 192)) | (1L << (T__231 - 192)) | (1L << (T__232 - 192)) | (1L << (T__233 - 192)) | (1L << (T__234 - 192)) | (1L << (T__235 - 192)) | (1L << (T__236 - 192)) | (1L << (T__237 - 192)) | (1L << (T__238 - 192)) | (1L << (T__239 - 192)) | (1L << (T__240 - 192)) | (1L << (T__241 - 192)) | (1L << (T__242 - 192)) | (1L << (T__243 - 192)) | (1L << (T__244 - 192)) | (1L << (T__245 - 192)) | (1L << (T__246 - 192)) | (1L << (T__247 - 192)) | (1L << (T__248 - 192)) | (1L << (T__249 - 192)) | (1L << (T__250 - 192)) | (1L << (T__251 - 192)) | (1L << (T__252 - 192)) | (1L << (T__253 - 192)) | (1L << (T__254 - 192)))) != 0) || ((((_la - 256)) & ~0x3f) == 0 && ((1L << (_la - 256)) & ((1L << (T__255 - 256)) | (1L << (T__256 - 256)) | (1L << (T__257 - 256)) | (1L << (T__258 - 256)) | (1L << (T__259 - 256)) | (1L << (T__260 - 256)) | (1L << (T__261 - 256)) | (1L << (T__262 - 256)) | (1L << (T__263 - 256)) | (1L << (T__264 - 256)) | (1L << (T__265 - 256)) | (1L << (T__266 - 256)) | (1L << (T__267 - 256)) | (1L << (T__268 - 256)) | (1L << (T__269 - 256)) | (1L << (T__270 - 256)) | (1L << (T__271 - 256)) | (1L << (T__272 - 256)) | (1L << (T__273 - 256)) | (1L << (T__274 - 256)) | (1L << (T__275 - 256)) | (1L << (T__276 - 256)) | (1L << (T__277 - 256)) | (1L << (T__278 - 256)) | (1L << (T__279 - 256)) | (1L << (T__280 - 256)) | (1L << (T__281 - 256)) | (1L << (T__282 - 256)) | (1L << (T__283 - 256)) | (1L << (T__284 - 256)) | (1L << (T__285 - 256)) | (1L << (T__286 - 256)) | (1L << (T__287 - 256)) | (1L << (T__288 - 256)) | (1L << (T__289 - 256)) | (1L << (T__290 - 256)) | (1L << (T__291 - 256)) | (1L << (T__292 - 256)) | (1L << (T__293 - 256)) | (1L << (T__294 - 256)) | (1L << (T__295 - 256)) | (1L << (T__296 - 256)) | (1L << (T__297 - 256)) | (1L << (T__298 - 256)) | (1L << (T__299 - 256)) | (1L << (T__300 - 256)) | (1L << (T__301 - 256)) | (1L << (T__302 - 256)) | (1L << (T__303 - 256)) | (1L << (T__304 - 256)) | (1L << (T__305 - 256)) | (1L << (T__306 - 256)) | (1L << (T__307 - 256)) | (1L << (T__308 - 256)) | (1L << (T__309 - 256)) | (1L << (T__310 - 256)) | (1L << (T__311 - 256)) | (1L << (T__312 - 256)) | (1L << (T__313 - 256)) | (1L << (T__314 - 256)) | (1L << (T__315 - 256)) | (1L << (T__316 - 256)) | (1L << (T__317 - 256)) | (1L << (T__318 - 256)))) != 0) || ((((_la - 320)) & ~0x3f) == 0 && ((1L << (_la - 320)) & ((1L << (T__319 - 320)) | (1L << (T__320 - 320)) | (1L << (T__321 - 320)) | (1L << (T__322 - 320)) | (1L << (T__323 - 320)) | (1L << (T__324 - 320)) | (1L << (T__325 - 320)) | (1L << (T__326 - 320)) | (1L << (T__327 - 320)) | (1L << (T__328 - 320)) | (1L << (T__329 - 320)) | (1L << (T__330 - 320)) | (1L << (T__331 - 320)) | (1L << (T__332 - 320)) | (1L << (T__333 - 320)) | (1L << (T__334 - 320)) | (1L << (T__335 - 320)) | (1L << (T__336 - 320)) | (1L << (T__337 - 320)) | (1L << (T__338 - 320)) | (1L << (T__339 - 320)) | (1L << (T__340 - 320)) | (1L << (T__341 - 320)) | (1L << (T__342 - 320)) | (1L << (T__343 - 320)) | (1L << (T__344 - 320)) | (1L << (T__345 - 320)) | (1L << (T__346 - 320)) | (1L << (T__347 - 320)) | (1L << (T__348 - 320)) | (1L << (T__349 - 320)) | (1L << (T__350 - 320)) | (1L << (T__351 - 320)) | (1L << (T__352 - 320)) | (1L << (T__353 - 320)) | (1L << (T__354 - 320)) | (1L << (T__355 - 320)) | (1L << (T__356 - 320)) | (1L << (T__357 - 320)) | (1L << (T__358 - 320)) | (1L << (T__359 - 320)) | (1L << (T__360 - 320)) | (1L << (T__361 - 320)) | (1L << (T__362 - 320)) | (1L << (T__363 - 320)) | (1L << (T__364 - 320)) | (1L << (T__365 - 320)) | (1L << (T__366 - 320)) | (1L << (T__367 - 320)) | (1L << (T__368 - 320)) | (1L << (T__369 - 320)) | (1L << (T__370 - 320)) | (1L << (T__371 - 320)) | (1L << (T__372 - 320)) | (1L << (T__373 - 320)) | (1L << (T__374 - 320)) | (1L << (T__375 - 320)) | (1L << (T__376 - 320)) | (1L << (T__377 - 320)) | (1L << (T__378 - 320)) | (1L << (T__379 - 320)) | (1L << (T__380 - 320)) | (1L << (T__381 - 320)) | (1L << (T__382 - 320)))) != 0) || ((((_la - 384)) & ~0x3f) == 0 && ((1L << (_la - 384)) & ((1L << (T__383 - 384)) | (1L << (T__384 - 384)) | (1L << (T__385 - 384)) | (1L << (T__386 - 384)) | (1L << (T__387 - 384)) | (1L << (T__388 - 384)) | (1L << (T__389 - 384)) | (1L << (T__390 - 384)) | (1L << (T__391 - 384)) | (1L << (T__392 - 384)) | (1L << (T__393 - 384)) | (1L << (T__394 - 384)) | (1L << (T__395 - 384)) | (1L << (T__396 - 384)) | (1L << (T__397 - 384)) | (1L << (T__398 - 384)) | (1L << (T__399 - 384)) | (1L << (T__400 - 384)) | (1L << (T__401 - 384)) | (1L << (T__402 - 384)) | (1L << (T__403 - 384)) | (1L << (T__404 - 384)) | (1L << (T__405 - 384)) | (1L << (T__406 - 384)) | (1L << (T__407 - 384)) | (1L << (T__408 - 384)) | (1L << (T__409 - 384)) | (1L << (T__410 - 384)) | (1L << (T__411 - 384)) | (1L << (T__412 - 384)) | (1L << (T__413 - 384)) | (1L << (T__414 - 384)) | (1L << (T__415 - 384)) | (1L << (T__416 - 384)) | (1L << (T__417 - 384)) | (1L << (T__418 - 384)) | (1L << (T__419 - 384)))) != 0)) {
+					if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__9) | (1L << T__10) | (1L << T__11) | (1L << T__12) | (1L << T__13) | (1L << T__14) | (1L << T__15) | (1L << T__16) | (1L << T__17) | (1L << T__18) | (1L << T__19) | (1L << T__20) | (1L << T__21) | (1L << T__22) | (1L << T__23) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__27) | (1L << T__28) | (1L << T__29) | (1L << T__30) | (1L << T__31) | (1L << T__32) | (1L << T__33) | (1L << T__34) | (1L << T__35) | (1L << T__36) | (1L << T__37) | (1L << T__38) | (1L << T__39) | (1L << T__40) | (1L << T__41) | (1L << T__42) | (1L << T__43) | (1L << T__44) | (1L << T__45) | (1L << T__46) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__50) | (1L << T__51) | (1L << T__52) | (1L << T__53) | (1L << T__54) | (1L << T__55) | (1L << T__56) | (1L << T__57) | (1L << T__58) | (1L << T__59) | (1L << T__60) | (1L << T__61) | (1L << T__62))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (T__63 - 64)) | (1L << (T__64 - 64)) | (1L << (T__65 - 64)) | (1L << (T__66 - 64)) | (1L << (T__67 - 64)) | (1L << (T__68 - 64)) | (1L << (T__69 - 64)) | (1L << (T__70 - 64)) | (1L << (T__71 - 64)) | (1L << (T__72 - 64)) | (1L << (T__73 - 64)) | (1L << (T__74 - 64)) | (1L << (T__75 - 64)) | (1L << (T__76 - 64)) | (1L << (T__77 - 64)) | (1L << (T__78 - 64)) | (1L << (T__79 - 64)) | (1L << (T__80 - 64)) | (1L << (T__81 - 64)) | (1L << (T__82 - 64)) | (1L << (T__83 - 64)) | (1L << (T__84 - 64)) | (1L << (T__86 - 64)) | (1L << (T__87 - 64)) | (1L << (T__88 - 64)) | (1L << (T__89 - 64)) | (1L << (T__90 - 64)) | (1L << (T__91 - 64)) | (1L << (T__92 - 64)) | (1L << (T__93 - 64)) | (1L << (T__94 - 64)) | (1L << (T__95 - 64)) | (1L << (T__96 - 64)) | (1L << (T__97 - 64)) | (1L << (T__98 - 64)) | (1L << (T__99 - 64)) | (1L << (T__100 - 64)) | (1L << (T__101 - 64)) | (1L << (T__102 - 64)) | (1L << (T__103 - 64)) | (1L << (T__104 - 64)) | (1L << (T__105 - 64)) | (1L << (T__106 - 64)) | (1L << (T__107 - 64)) | (1L << (T__108 - 64)) | (1L << (T__109 - 64)) | (1L << (T__110 - 64)) | (1L << (T__111 - 64)) | (1L << (T__112 - 64)) | (1L << (T__113 - 64)) | (1L << (T__114 - 64)) | (1L << (T__115 - 64)) | (1L << (T__116 - 64)) | (1L << (T__117 - 64)) | (1L << (T__118 - 64)) | (1L << (T__119 - 64)) | (1L << (T__120 - 64)) | (1L << (T__121 - 64)) | (1L << (T__122 - 64)) | (1L << (T__123 - 64)) | (1L << (T__124 - 64)) | (1L << (T__125 - 64)) | (1L << (T__126 - 64)))) != 0) || ((((_la - 128)) & ~0x3f) == 0 && ((1L << (_la - 128)) & ((1L << (T__127 - 128)) | (1L << (T__128 - 128)) | (1L << (T__129 - 128)) | (1L << (T__130 - 128)) | (1L << (T__131 - 128)) | (1L << (T__132 - 128)) | (1L << (T__133 - 128)) | (1L << (T__134 - 128)) | (1L << (T__135 - 128)) | (1L << (T__136 - 128)) | (1L << (T__137 - 128)) | (1L << (T__138 - 128)) | (1L << (T__139 - 128)) | (1L << (T__140 - 128)) | (1L << (T__141 - 128)) | (1L << (T__142 - 128)) | (1L << (T__143 - 128)) | (1L << (T__144 - 128)) | (1L << (T__145 - 128)) | (1L << (T__146 - 128)) | (1L << (T__147 - 128)) | (1L << (T__148 - 128)) | (1L << (T__149 - 128)) | (1L << (T__150 - 128)) | (1L << (T__151 - 128)) | (1L << (T__152 - 128)) | (1L << (T__153 - 128)) | (1L << (T__154 - 128)) | (1L << (T__155 - 128)) | (1L << (T__156 - 128)) | (1L << (T__157 - 128)) | (1L << (T__158 - 128)) | (1L << (T__159 - 128)) | (1L << (T__160 - 128)) | (1L << (T__161 - 128)) | (1L << (T__162 - 128)) | (1L << (T__163 - 128)) | (1L << (T__164 - 128)) | (1L << (T__165 - 128)) | (1L << (T__166 - 128)) | (1L << (T__167 - 128)) | (1L << (T__168 - 128)) | (1L << (T__169 - 128)) | (1L << (T__170 - 128)) | (1L << (T__171 - 128)) | (1L << (T__172 - 128)) | (1L << (T__173 - 128)) | (1L << (T__174 - 128)) | (1L << (T__175 - 128)) | (1L << (T__176 - 128)) | (1L << (T__177 - 128)) | (1L << (T__178 - 128)) | (1L << (T__179 - 128)) | (1L << (T__180 - 128)) | (1L << (T__181 - 128)) | (1L << (T__182 - 128)) | (1L << (T__183 - 128)) | (1L << (T__184 - 128)) | (1L << (T__185 - 128)) | (1L << (T__186 - 128)) | (1L << (T__187 - 128)) | (1L << (T__188 - 128)) | (1L << (T__189 - 128)) | (1L << (T__190 - 128)))) != 0) || ((((_la - 192)) & ~0x3f) == 0 && ((1L << (_la - 192)) & ((1L << (T__191 - 192)) | (1L << (T__192 - 192)) | (1L << (T__193 - 192)) | (1L << (T__194 - 192)) | (1L << (T__195 - 192)) | (1L << (T__196 - 192)) | (1L << (T__197 - 192)) | (1L << (T__198 - 192)) | (1L << (T__199 - 192)) | (1L << (T__200 - 192)) | (1L << (T__201 - 192)) | (1L << (T__202 - 192)) | (1L << (T__203 - 192)) | (1L << (T__204 - 192)) | (1L << (T__205 - 192)) | (1L << (T__206 - 192)) | (1L << (T__207 - 192)) | (1L << (T__208 - 192)) | (1L << (T__209 - 192)) | (1L << (T__210 - 192)) | (1L << (T__211 - 192)) | (1L << (T__212 - 192)) | (1L << (T__213 - 192)) | (1L << (T__214 - 192)) | (1L << (T__215 - 192)) | (1L << (T__216 - 192)) | (1L << (T__217 - 192)) | (1L << (T__218 - 192)) | (1L << (T__219 - 192)) | (1L << (T__220 - 192)) | (1L << (T__221 - 192)) | (1L << (T__222 - 192)) | (1L << (T__223 - 192)) | (1L << (T__224 - 192)) | (1L << (T__225 - 192)) | (1L << (T__226 - 192)) | (1L << (T__227 - 192)) | (1L << (T__228 - 192)) | (1L << (T__229 - 192)) | (1L << (T__230 - 192)) | (1L << (T__231 - 192)) | (1L << (T__232 - 192)) | (1L << (T__233 - 192)) | (1L << (T__234 - 192)) | (1L << (T__235 - 192)) | (1L << (T__236 - 192)) | (1L << (T__237 - 192)) | (1L << (T__238 - 192)) | (1L << (T__239 - 192)) | (1L << (T__240 - 192)) | (1L << (T__241 - 192)) | (1L << (T__242 - 192)) | (1L << (T__243 - 192)) | (1L << (T__244 - 192)) | (1L << (T__245 - 192)) | (1L << (T__246 - 192)) | (1L << (T__247 - 192)) | (1L << (T__248 - 192)) | (1L << (T__249 - 192)) | (1L << (T__250 - 192)) | (1L << (T__251 - 192)) | (1L << (T__252 - 192)) | (1L << (T__253 - 192)) | (1L << (T__254 - 192)))) != 0) || ((((_la - 256)) & ~0x3f) == 0 && ((1L << (_la - 256)) & ((1L << (T__255 - 256)) | (1L << (T__256 - 256)) | (1L << (T__257 - 256)) | (1L << (T__258 - 256)) | (1L << (T__259 - 256)) | (1L << (T__260 - 256)) | (1L << (T__261 - 256)) | (1L << (T__262 - 256)) | (1L << (T__263 - 256)) | (1L << (T__264 - 256)) | (1L << (T__265 - 256)) | (1L << (T__266 - 256)) | (1L << (T__267 - 256)) | (1L << (T__268 - 256)) | (1L << (T__269 - 256)) | (1L << (T__270 - 256)) | (1L << (T__271 - 256)) | (1L << (T__272 - 256)) | (1L << (T__273 - 256)) | (1L << (T__274 - 256)) | (1L << (T__275 - 256)) | (1L << (T__276 - 256)) | (1L << (T__277 - 256)) | (1L << (T__278 - 256)) | (1L << (T__279 - 256)) | (1L << (T__280 - 256)) | (1L << (T__281 - 256)) | (1L << (T__282 - 256)) | (1L << (T__283 - 256)) | (1L << (T__284 - 256)) | (1L << (T__285 - 256)) | (1L << (T__286 - 256)) | (1L << (T__287 - 256)) | (1L << (T__288 - 256)) | (1L << (T__289 - 256)) | (1L << (T__290 - 256)) | (1L << (T__291 - 256)) | (1L << (T__292 - 256)) | (1L << (T__293 - 256)) | (1L << (T__294 - 256)) | (1L << (T__295 - 256)) | (1L << (T__296 - 256)) | (1L << (T__297 - 256)) | (1L << (T__298 - 256)) | (1L << (T__299 - 256)) | (1L << (T__300 - 256)) | (1L << (T__301 - 256)) | (1L << (T__302 - 256)) | (1L << (T__303 - 256)) | (1L << (T__304 - 256)) | (1L << (T__305 - 256)) | (1L << (T__306 - 256)) | (1L << (T__307 - 256)) | (1L << (T__308 - 256)) | (1L << (T__309 - 256)) | (1L << (T__310 - 256)) | (1L << (T__311 - 256)) | (1L << (T__312 - 256)) | (1L << (T__313 - 256)) | (1L << (T__314 - 256)) | (1L << (T__315 - 256)) | (1L << (T__316 - 256)) | (1L << (T__317 - 256)) | (1L << (T__318 - 256)))) != 0) || ((((_la - 320)) & ~0x3f) == 0 && ((1L << (_la - 320)) & ((1L << (T__319 - 320)) | (1L << (T__320 - 320)) | (1L << (T__321 - 320)) | (1L << (T__322 - 320)) | (1L << (T__323 - 320)) | (1L << (T__324 - 320)) | (1L << (T__325 - 320)) | (1L << (T__326 - 320)) | (1L << (T__327 - 320)) | (1L << (T__328 - 320)) | (1L << (T__329 - 320)) | (1L << (T__330 - 320)) | (1L << (T__331 - 320)) | (1L << (T__332 - 320)) | (1L << (T__333 - 320)) | (1L << (T__334 - 320)) | (1L << (T__335 - 320)) | (1L << (T__336 - 320)) | (1L << (T__337 - 320)) | (1L << (T__338 - 320)) | (1L << (T__339 - 320)) | (1L << (T__340 - 320)) | (1L << (T__341 - 320)) | (1L << (T__342 - 320)) | (1L << (T__343 - 320)) | (1L << (T__344 - 320)) | (1L << (T__345 - 320)) | (1L << (T__346 - 320)) | (1L << (T__347 - 320)) | (1L << (T__348 - 320)) | (1L << (T__349 - 320)) | (1L << (T__350 - 320)) | (1L << (T__351 - 320)) | (1L << (T__352 - 320)) | (1L << (T__353 - 320)) | (1L << (T__354 - 320)) | (1L << (T__355 - 320)) | (1L << (T__356 - 320)) | (1L << (T__357 - 320)) | (1L << (T__358 - 320)) | (1L << (T__359 - 320)) | (1L << (T__360 - 320)) | (1L << (T__361 - 320)) | (1L << (T__362 - 320)) | (1L << (T__363 - 320)) | (1L << (T__364 - 320)) | (1L << (T__365 - 320)) | (1L << (T__366 - 320)) | (1L << (T__367 - 320)) | (1L << (T__368 - 320)) | (1L << (T__369 - 320)) | (1L << (T__370 - 320)) | (1L << (T__371 - 320)) | (1L << (T__372 - 320)) | (1L << (T__373 - 320)) | (1L << (T__374 - 320)) | (1L << (T__375 - 320)) | (1L << (T__376 - 320)) | (1L << (T__377 - 320)) | (1L << (T__378 - 320)) | (1L << (T__379 - 320)) | (1L << (T__380 - 320)) | (1L << (T__381 - 320)) | (1L << (T__382 - 320)))) != 0) || ((((_la - 384)) & ~0x3f) == 0 && ((1L << (_la - 384)) & ((1L << (T__383 - 384)) | (1L << (T__384 - 384)) | (1L << (T__385 - 384)) | (1L << (T__386 - 384)) | (1L << (T__387 - 384)) | (1L << (T__388 - 384)) | (1L << (T__389 - 384)) | (1L << (T__390 - 384)) | (1L << (T__391 - 384)) | (1L << (T__392 - 384)) | (1L << (T__393 - 384)) | (1L << (T__394 - 384)) | (1L << (T__395 - 384)) | (1L << (T__396 - 384)) | (1L << (T__397 - 384)) | (1L << (T__398 - 384)) | (1L << (T__399 - 384)) | (1L << (T__400 - 384)) | (1L << (T__401 - 384)) | (1L << (T__402 - 384)) | (1L << (T__403 - 384)) | (1L << (T__404 - 384)) | (1L << (T__405 - 384)) | (1L << (T__406 - 384)) | (1L << (T__407 - 384)) | (1L << (T__408 - 384)) | (1L << (T__409 - 384)) | (1L << (T__410 - 384)) | (1L << (T__411 - 384)) | (1L << (T__412 - 384)) | (1L << (T__413 - 384)) | (1L << (T__414 - 384)) | (1L << (T__415 - 384)) | (1L << (T__416 - 384)) | (1L << (T__417 - 384)) | (1L << (T__418 - 384)) | (1L << (T__419 - 384)) | (1L << (T__420 - 384)) | (1L << (T__421 - 384)) | (1L << (T__422 - 384)) | (1L << (T__423 - 384)) | (1L << (T__424 - 384)) | (1L << (T__425 - 384)))) != 0)) {
 						{
 						setState(78);
 						assembly_instruction();
@@ -1465,69 +1480,69 @@ public class InlineAssemblyParser extends Parser {
 			case T__74:
 			case T__75:
 			case T__76:
+			case T__77:
+			case T__78:
+			case T__79:
+			case T__80:
+			case T__81:
+			case T__82:
 				{
 				setState(94);
 				zero_op();
 				}
 				break;
-			case T__88:
-			case T__89:
-			case T__90:
-			case T__91:
-			case T__92:
-			case T__93:
-				{
-				setState(95);
-				unary_op8();
-				}
-				break;
 			case T__94:
 			case T__95:
 			case T__96:
 			case T__97:
 			case T__98:
 			case T__99:
-			case T__100:
-			case T__101:
 				{
-				setState(96);
-				unary_op16();
+				setState(95);
+				unary_op8();
 				}
 				break;
+			case T__100:
+			case T__101:
 			case T__102:
 			case T__103:
 			case T__104:
 			case T__105:
 			case T__106:
 			case T__107:
-			case T__108:
-			case T__109:
-			case T__110:
 				{
-				setState(97);
-				unary_op32();
+				setState(96);
+				unary_op16();
 				}
 				break;
+			case T__108:
+			case T__109:
+			case T__110:
 			case T__111:
 			case T__112:
 			case T__113:
 			case T__114:
 			case T__115:
 			case T__116:
-			case T__117:
-			case T__118:
-			case T__119:
 				{
-				setState(98);
-				unary_op64();
+				setState(97);
+				unary_op32();
 				}
 				break;
+			case T__117:
+			case T__118:
+			case T__119:
 			case T__120:
 			case T__121:
 			case T__122:
 			case T__123:
 			case T__124:
 			case T__125:
+				{
+				setState(98);
+				unary_op64();
+				}
+				break;
 			case T__126:
 			case T__127:
 			case T__128:
@@ -1563,17 +1578,17 @@ public class InlineAssemblyParser extends Parser {
 			case T__158:
 			case T__159:
 			case T__160:
-				{
-				setState(99);
-				unary_op();
-				}
-				break;
 			case T__161:
 			case T__162:
 			case T__163:
 			case T__164:
 			case T__165:
 			case T__166:
+				{
+				setState(99);
+				unary_op();
+				}
+				break;
 			case T__167:
 			case T__168:
 			case T__169:
@@ -1589,17 +1604,17 @@ public class InlineAssemblyParser extends Parser {
 			case T__179:
 			case T__180:
 			case T__181:
-				{
-				setState(100);
-				binary_op8();
-				}
-				break;
 			case T__182:
 			case T__183:
 			case T__184:
 			case T__185:
 			case T__186:
 			case T__187:
+				{
+				setState(100);
+				binary_op8();
+				}
+				break;
 			case T__188:
 			case T__189:
 			case T__190:
@@ -1653,17 +1668,17 @@ public class InlineAssemblyParser extends Parser {
 			case T__238:
 			case T__239:
 			case T__240:
-				{
-				setState(101);
-				binary_op16();
-				}
-				break;
 			case T__241:
 			case T__242:
 			case T__243:
 			case T__244:
 			case T__245:
 			case T__246:
+				{
+				setState(101);
+				binary_op16();
+				}
+				break;
 			case T__247:
 			case T__248:
 			case T__249:
@@ -1719,17 +1734,17 @@ public class InlineAssemblyParser extends Parser {
 			case T__299:
 			case T__300:
 			case T__301:
-				{
-				setState(102);
-				binary_op32();
-				}
-				break;
 			case T__302:
 			case T__303:
 			case T__304:
 			case T__305:
 			case T__306:
 			case T__307:
+				{
+				setState(102);
+				binary_op32();
+				}
+				break;
 			case T__308:
 			case T__309:
 			case T__310:
@@ -1786,17 +1801,17 @@ public class InlineAssemblyParser extends Parser {
 			case T__361:
 			case T__362:
 			case T__363:
-				{
-				setState(103);
-				binary_op64();
-				}
-				break;
 			case T__364:
 			case T__365:
 			case T__366:
 			case T__367:
 			case T__368:
 			case T__369:
+				{
+				setState(103);
+				binary_op64();
+				}
+				break;
 			case T__370:
 			case T__371:
 			case T__372:
@@ -1847,21 +1862,27 @@ public class InlineAssemblyParser extends Parser {
 			case T__417:
 			case T__418:
 			case T__419:
+			case T__420:
+			case T__421:
+			case T__422:
+			case T__423:
+			case T__424:
+			case T__425:
 				{
 				setState(104);
 				binary_op();
 				}
 				break;
-			case T__77:
-			case T__78:
-			case T__80:
-			case T__81:
-			case T__82:
 			case T__83:
 			case T__84:
-			case T__85:
 			case T__86:
 			case T__87:
+			case T__88:
+			case T__89:
+			case T__90:
+			case T__91:
+			case T__92:
+			case T__93:
 				{
 				setState(105);
 				imul_div();
@@ -2031,7 +2052,7 @@ public class InlineAssemblyParser extends Parser {
 			setState(117);
 			_localctx.op = _input.LT(1);
 			_la = _input.LA(1);
-			if ( !(((((_la - 50)) & ~0x3f) == 0 && ((1L << (_la - 50)) & ((1L << (T__49 - 50)) | (1L << (T__50 - 50)) | (1L << (T__51 - 50)) | (1L << (T__52 - 50)) | (1L << (T__53 - 50)) | (1L << (T__54 - 50)) | (1L << (T__55 - 50)) | (1L << (T__56 - 50)) | (1L << (T__57 - 50)) | (1L << (T__58 - 50)) | (1L << (T__59 - 50)) | (1L << (T__60 - 50)) | (1L << (T__61 - 50)) | (1L << (T__62 - 50)) | (1L << (T__63 - 50)) | (1L << (T__64 - 50)) | (1L << (T__65 - 50)) | (1L << (T__66 - 50)) | (1L << (T__67 - 50)) | (1L << (T__68 - 50)) | (1L << (T__69 - 50)) | (1L << (T__70 - 50)) | (1L << (T__71 - 50)) | (1L << (T__72 - 50)) | (1L << (T__73 - 50)) | (1L << (T__74 - 50)) | (1L << (T__75 - 50)) | (1L << (T__76 - 50)))) != 0)) ) {
+			if ( !(((((_la - 50)) & ~0x3f) == 0 && ((1L << (_la - 50)) & ((1L << (T__49 - 50)) | (1L << (T__50 - 50)) | (1L << (T__51 - 50)) | (1L << (T__52 - 50)) | (1L << (T__53 - 50)) | (1L << (T__54 - 50)) | (1L << (T__55 - 50)) | (1L << (T__56 - 50)) | (1L << (T__57 - 50)) | (1L << (T__58 - 50)) | (1L << (T__59 - 50)) | (1L << (T__60 - 50)) | (1L << (T__61 - 50)) | (1L << (T__62 - 50)) | (1L << (T__63 - 50)) | (1L << (T__64 - 50)) | (1L << (T__65 - 50)) | (1L << (T__66 - 50)) | (1L << (T__67 - 50)) | (1L << (T__68 - 50)) | (1L << (T__69 - 50)) | (1L << (T__70 - 50)) | (1L << (T__71 - 50)) | (1L << (T__72 - 50)) | (1L << (T__73 - 50)) | (1L << (T__74 - 50)) | (1L << (T__75 - 50)) | (1L << (T__76 - 50)) | (1L << (T__77 - 50)) | (1L << (T__78 - 50)) | (1L << (T__79 - 50)) | (1L << (T__80 - 50)) | (1L << (T__81 - 50)) | (1L << (T__82 - 50)))) != 0)) ) {
 				_localctx.op = _errHandler.recoverInline(this);
 			}
 			else {
@@ -2120,13 +2141,13 @@ public class InlineAssemblyParser extends Parser {
 			setState(190);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case T__77:
-			case T__78:
+			case T__83:
+			case T__84:
 				{
 				setState(120);
 				_localctx.op1 = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !(_la==T__77 || _la==T__78) ) {
+				if ( !(_la==T__83 || _la==T__84) ) {
 					_localctx.op1 = _errHandler.recoverInline(this);
 				}
 				else {
@@ -2146,10 +2167,10 @@ public class InlineAssemblyParser extends Parser {
 					 factory.createUnaryOperation(_localctx.op1.getText(), _localctx.a1.op); 
 					}
 					break;
-				case T__79:
+				case T__85:
 					{
 					setState(123);
-					match(T__79);
+					match(T__85);
 					setState(124);
 					_localctx.b1 = operand8();
 					setState(130);
@@ -2162,10 +2183,10 @@ public class InlineAssemblyParser extends Parser {
 						 factory.createBinaryOperation(_localctx.op1.getText(), _localctx.a1.op, _localctx.b1.op); 
 						}
 						break;
-					case T__79:
+					case T__85:
 						{
 						setState(126);
-						match(T__79);
+						match(T__85);
 						setState(127);
 						_localctx.c1 = operand8();
 						 factory.createTernaryOperation(_localctx.op1.getText(), _localctx.a1.op, _localctx.b1.op, _localctx.c1.op); 
@@ -2181,13 +2202,13 @@ public class InlineAssemblyParser extends Parser {
 				}
 				}
 				break;
-			case T__80:
-			case T__81:
+			case T__86:
+			case T__87:
 				{
 				setState(134);
 				_localctx.op2 = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !(_la==T__80 || _la==T__81) ) {
+				if ( !(_la==T__86 || _la==T__87) ) {
 					_localctx.op2 = _errHandler.recoverInline(this);
 				}
 				else {
@@ -2207,10 +2228,10 @@ public class InlineAssemblyParser extends Parser {
 					 factory.createUnaryOperation(_localctx.op2.getText(), _localctx.a2.op); 
 					}
 					break;
-				case T__79:
+				case T__85:
 					{
 					setState(137);
-					match(T__79);
+					match(T__85);
 					setState(138);
 					_localctx.b2 = operand16();
 					setState(144);
@@ -2223,10 +2244,10 @@ public class InlineAssemblyParser extends Parser {
 						 factory.createBinaryOperation(_localctx.op2.getText(), _localctx.a2.op, _localctx.b2.op); 
 						}
 						break;
-					case T__79:
+					case T__85:
 						{
 						setState(140);
-						match(T__79);
+						match(T__85);
 						setState(141);
 						_localctx.c2 = operand16();
 						 factory.createTernaryOperation(_localctx.op2.getText(), _localctx.a2.op, _localctx.b2.op, _localctx.c2.op); 
@@ -2242,13 +2263,13 @@ public class InlineAssemblyParser extends Parser {
 				}
 				}
 				break;
-			case T__82:
-			case T__83:
+			case T__88:
+			case T__89:
 				{
 				setState(148);
 				_localctx.op3 = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !(_la==T__82 || _la==T__83) ) {
+				if ( !(_la==T__88 || _la==T__89) ) {
 					_localctx.op3 = _errHandler.recoverInline(this);
 				}
 				else {
@@ -2268,10 +2289,10 @@ public class InlineAssemblyParser extends Parser {
 					 factory.createUnaryOperation(_localctx.op3.getText(), _localctx.a3.op); 
 					}
 					break;
-				case T__79:
+				case T__85:
 					{
 					setState(151);
-					match(T__79);
+					match(T__85);
 					setState(152);
 					_localctx.b3 = operand32();
 					setState(158);
@@ -2284,10 +2305,10 @@ public class InlineAssemblyParser extends Parser {
 						 factory.createBinaryOperation(_localctx.op3.getText(), _localctx.a3.op, _localctx.b3.op); 
 						}
 						break;
-					case T__79:
+					case T__85:
 						{
 						setState(154);
-						match(T__79);
+						match(T__85);
 						setState(155);
 						_localctx.c3 = operand32();
 						 factory.createTernaryOperation(_localctx.op3.getText(), _localctx.a3.op, _localctx.b3.op, _localctx.c3.op); 
@@ -2303,13 +2324,13 @@ public class InlineAssemblyParser extends Parser {
 				}
 				}
 				break;
-			case T__84:
-			case T__85:
+			case T__90:
+			case T__91:
 				{
 				setState(162);
 				_localctx.op4 = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !(_la==T__84 || _la==T__85) ) {
+				if ( !(_la==T__90 || _la==T__91) ) {
 					_localctx.op4 = _errHandler.recoverInline(this);
 				}
 				else {
@@ -2329,10 +2350,10 @@ public class InlineAssemblyParser extends Parser {
 					 factory.createUnaryOperation(_localctx.op4.getText(), _localctx.a4.op); 
 					}
 					break;
-				case T__79:
+				case T__85:
 					{
 					setState(165);
-					match(T__79);
+					match(T__85);
 					setState(166);
 					_localctx.b4 = operand64();
 					setState(172);
@@ -2345,10 +2366,10 @@ public class InlineAssemblyParser extends Parser {
 						 factory.createBinaryOperation(_localctx.op4.getText(), _localctx.a4.op, _localctx.b4.op); 
 						}
 						break;
-					case T__79:
+					case T__85:
 						{
 						setState(168);
-						match(T__79);
+						match(T__85);
 						setState(169);
 						_localctx.c4 = operand64();
 						 factory.createTernaryOperation(_localctx.op4.getText(), _localctx.a4.op, _localctx.b4.op, _localctx.c4.op); 
@@ -2364,13 +2385,13 @@ public class InlineAssemblyParser extends Parser {
 				}
 				}
 				break;
-			case T__86:
-			case T__87:
+			case T__92:
+			case T__93:
 				{
 				setState(176);
 				_localctx.op5 = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !(_la==T__86 || _la==T__87) ) {
+				if ( !(_la==T__92 || _la==T__93) ) {
 					_localctx.op5 = _errHandler.recoverInline(this);
 				}
 				else {
@@ -2390,10 +2411,10 @@ public class InlineAssemblyParser extends Parser {
 					 factory.createUnaryOperation(_localctx.op5.getText(), _localctx.a5.op); 
 					}
 					break;
-				case T__79:
+				case T__85:
 					{
 					setState(179);
-					match(T__79);
+					match(T__85);
 					setState(180);
 					_localctx.b5 = operand();
 					setState(186);
@@ -2406,10 +2427,10 @@ public class InlineAssemblyParser extends Parser {
 						 factory.createBinaryOperation(_localctx.op5.getText(), _localctx.a5.op, _localctx.b5.op); 
 						}
 						break;
-					case T__79:
+					case T__85:
 						{
 						setState(182);
-						match(T__79);
+						match(T__85);
 						setState(183);
 						_localctx.c5 = operand();
 						 factory.createTernaryOperation(_localctx.op5.getText(), _localctx.a5.op, _localctx.b5.op, _localctx.c5.op); 
@@ -2463,7 +2484,7 @@ public class InlineAssemblyParser extends Parser {
 			setState(192);
 			((Unary_op8Context)_localctx).op = _input.LT(1);
 			_la = _input.LA(1);
-			if ( !(((((_la - 89)) & ~0x3f) == 0 && ((1L << (_la - 89)) & ((1L << (T__88 - 89)) | (1L << (T__89 - 89)) | (1L << (T__90 - 89)) | (1L << (T__91 - 89)) | (1L << (T__92 - 89)) | (1L << (T__93 - 89)))) != 0)) ) {
+			if ( !(((((_la - 95)) & ~0x3f) == 0 && ((1L << (_la - 95)) & ((1L << (T__94 - 95)) | (1L << (T__95 - 95)) | (1L << (T__96 - 95)) | (1L << (T__97 - 95)) | (1L << (T__98 - 95)) | (1L << (T__99 - 95)))) != 0)) ) {
 				((Unary_op8Context)_localctx).op = _errHandler.recoverInline(this);
 			}
 			else {
@@ -2509,7 +2530,7 @@ public class InlineAssemblyParser extends Parser {
 			setState(196);
 			((Unary_op16Context)_localctx).op = _input.LT(1);
 			_la = _input.LA(1);
-			if ( !(((((_la - 95)) & ~0x3f) == 0 && ((1L << (_la - 95)) & ((1L << (T__94 - 95)) | (1L << (T__95 - 95)) | (1L << (T__96 - 95)) | (1L << (T__97 - 95)) | (1L << (T__98 - 95)) | (1L << (T__99 - 95)) | (1L << (T__100 - 95)) | (1L << (T__101 - 95)))) != 0)) ) {
+			if ( !(((((_la - 101)) & ~0x3f) == 0 && ((1L << (_la - 101)) & ((1L << (T__100 - 101)) | (1L << (T__101 - 101)) | (1L << (T__102 - 101)) | (1L << (T__103 - 101)) | (1L << (T__104 - 101)) | (1L << (T__105 - 101)) | (1L << (T__106 - 101)) | (1L << (T__107 - 101)))) != 0)) ) {
 				((Unary_op16Context)_localctx).op = _errHandler.recoverInline(this);
 			}
 			else {
@@ -2555,7 +2576,7 @@ public class InlineAssemblyParser extends Parser {
 			setState(200);
 			((Unary_op32Context)_localctx).op = _input.LT(1);
 			_la = _input.LA(1);
-			if ( !(((((_la - 103)) & ~0x3f) == 0 && ((1L << (_la - 103)) & ((1L << (T__102 - 103)) | (1L << (T__103 - 103)) | (1L << (T__104 - 103)) | (1L << (T__105 - 103)) | (1L << (T__106 - 103)) | (1L << (T__107 - 103)) | (1L << (T__108 - 103)) | (1L << (T__109 - 103)) | (1L << (T__110 - 103)))) != 0)) ) {
+			if ( !(((((_la - 109)) & ~0x3f) == 0 && ((1L << (_la - 109)) & ((1L << (T__108 - 109)) | (1L << (T__109 - 109)) | (1L << (T__110 - 109)) | (1L << (T__111 - 109)) | (1L << (T__112 - 109)) | (1L << (T__113 - 109)) | (1L << (T__114 - 109)) | (1L << (T__115 - 109)) | (1L << (T__116 - 109)))) != 0)) ) {
 				((Unary_op32Context)_localctx).op = _errHandler.recoverInline(this);
 			}
 			else {
@@ -2601,7 +2622,7 @@ public class InlineAssemblyParser extends Parser {
 			setState(204);
 			((Unary_op64Context)_localctx).op = _input.LT(1);
 			_la = _input.LA(1);
-			if ( !(((((_la - 112)) & ~0x3f) == 0 && ((1L << (_la - 112)) & ((1L << (T__111 - 112)) | (1L << (T__112 - 112)) | (1L << (T__113 - 112)) | (1L << (T__114 - 112)) | (1L << (T__115 - 112)) | (1L << (T__116 - 112)) | (1L << (T__117 - 112)) | (1L << (T__118 - 112)) | (1L << (T__119 - 112)))) != 0)) ) {
+			if ( !(((((_la - 118)) & ~0x3f) == 0 && ((1L << (_la - 118)) & ((1L << (T__117 - 118)) | (1L << (T__118 - 118)) | (1L << (T__119 - 118)) | (1L << (T__120 - 118)) | (1L << (T__121 - 118)) | (1L << (T__122 - 118)) | (1L << (T__123 - 118)) | (1L << (T__124 - 118)) | (1L << (T__125 - 118)))) != 0)) ) {
 				((Unary_op64Context)_localctx).op = _errHandler.recoverInline(this);
 			}
 			else {
@@ -2647,7 +2668,7 @@ public class InlineAssemblyParser extends Parser {
 			setState(208);
 			_localctx.op = _input.LT(1);
 			_la = _input.LA(1);
-			if ( !(((((_la - 121)) & ~0x3f) == 0 && ((1L << (_la - 121)) & ((1L << (T__120 - 121)) | (1L << (T__121 - 121)) | (1L << (T__122 - 121)) | (1L << (T__123 - 121)) | (1L << (T__124 - 121)) | (1L << (T__125 - 121)) | (1L << (T__126 - 121)) | (1L << (T__127 - 121)) | (1L << (T__128 - 121)) | (1L << (T__129 - 121)) | (1L << (T__130 - 121)) | (1L << (T__131 - 121)) | (1L << (T__132 - 121)) | (1L << (T__133 - 121)) | (1L << (T__134 - 121)) | (1L << (T__135 - 121)) | (1L << (T__136 - 121)) | (1L << (T__137 - 121)) | (1L << (T__138 - 121)) | (1L << (T__139 - 121)) | (1L << (T__140 - 121)) | (1L << (T__141 - 121)) | (1L << (T__142 - 121)) | (1L << (T__143 - 121)) | (1L << (T__144 - 121)) | (1L << (T__145 - 121)) | (1L << (T__146 - 121)) | (1L << (T__147 - 121)) | (1L << (T__148 - 121)) | (1L << (T__149 - 121)) | (1L << (T__150 - 121)) | (1L << (T__151 - 121)) | (1L << (T__152 - 121)) | (1L << (T__153 - 121)) | (1L << (T__154 - 121)) | (1L << (T__155 - 121)) | (1L << (T__156 - 121)) | (1L << (T__157 - 121)) | (1L << (T__158 - 121)) | (1L << (T__159 - 121)) | (1L << (T__160 - 121)))) != 0)) ) {
+			if ( !(((((_la - 127)) & ~0x3f) == 0 && ((1L << (_la - 127)) & ((1L << (T__126 - 127)) | (1L << (T__127 - 127)) | (1L << (T__128 - 127)) | (1L << (T__129 - 127)) | (1L << (T__130 - 127)) | (1L << (T__131 - 127)) | (1L << (T__132 - 127)) | (1L << (T__133 - 127)) | (1L << (T__134 - 127)) | (1L << (T__135 - 127)) | (1L << (T__136 - 127)) | (1L << (T__137 - 127)) | (1L << (T__138 - 127)) | (1L << (T__139 - 127)) | (1L << (T__140 - 127)) | (1L << (T__141 - 127)) | (1L << (T__142 - 127)) | (1L << (T__143 - 127)) | (1L << (T__144 - 127)) | (1L << (T__145 - 127)) | (1L << (T__146 - 127)) | (1L << (T__147 - 127)) | (1L << (T__148 - 127)) | (1L << (T__149 - 127)) | (1L << (T__150 - 127)) | (1L << (T__151 - 127)) | (1L << (T__152 - 127)) | (1L << (T__153 - 127)) | (1L << (T__154 - 127)) | (1L << (T__155 - 127)) | (1L << (T__156 - 127)) | (1L << (T__157 - 127)) | (1L << (T__158 - 127)) | (1L << (T__159 - 127)) | (1L << (T__160 - 127)) | (1L << (T__161 - 127)) | (1L << (T__162 - 127)) | (1L << (T__163 - 127)) | (1L << (T__164 - 127)) | (1L << (T__165 - 127)) | (1L << (T__166 - 127)))) != 0)) ) {
 				_localctx.op = _errHandler.recoverInline(this);
 			}
 			else {
@@ -2697,7 +2718,7 @@ public class InlineAssemblyParser extends Parser {
 			setState(212);
 			((Binary_op8Context)_localctx).op = _input.LT(1);
 			_la = _input.LA(1);
-			if ( !(((((_la - 162)) & ~0x3f) == 0 && ((1L << (_la - 162)) & ((1L << (T__161 - 162)) | (1L << (T__162 - 162)) | (1L << (T__163 - 162)) | (1L << (T__164 - 162)) | (1L << (T__165 - 162)) | (1L << (T__166 - 162)) | (1L << (T__167 - 162)) | (1L << (T__168 - 162)) | (1L << (T__169 - 162)) | (1L << (T__170 - 162)) | (1L << (T__171 - 162)) | (1L << (T__172 - 162)) | (1L << (T__173 - 162)) | (1L << (T__174 - 162)) | (1L << (T__175 - 162)) | (1L << (T__176 - 162)) | (1L << (T__177 - 162)) | (1L << (T__178 - 162)) | (1L << (T__179 - 162)) | (1L << (T__180 - 162)) | (1L << (T__181 - 162)))) != 0)) ) {
+			if ( !(((((_la - 168)) & ~0x3f) == 0 && ((1L << (_la - 168)) & ((1L << (T__167 - 168)) | (1L << (T__168 - 168)) | (1L << (T__169 - 168)) | (1L << (T__170 - 168)) | (1L << (T__171 - 168)) | (1L << (T__172 - 168)) | (1L << (T__173 - 168)) | (1L << (T__174 - 168)) | (1L << (T__175 - 168)) | (1L << (T__176 - 168)) | (1L << (T__177 - 168)) | (1L << (T__178 - 168)) | (1L << (T__179 - 168)) | (1L << (T__180 - 168)) | (1L << (T__181 - 168)) | (1L << (T__182 - 168)) | (1L << (T__183 - 168)) | (1L << (T__184 - 168)) | (1L << (T__185 - 168)) | (1L << (T__186 - 168)) | (1L << (T__187 - 168)))) != 0)) ) {
 				((Binary_op8Context)_localctx).op = _errHandler.recoverInline(this);
 			}
 			else {
@@ -2708,7 +2729,7 @@ public class InlineAssemblyParser extends Parser {
 			setState(213);
 			((Binary_op8Context)_localctx).a = operand8();
 			setState(214);
-			match(T__79);
+			match(T__85);
 			setState(215);
 			((Binary_op8Context)_localctx).b = operand8();
 			 factory.createBinaryOperation(((Binary_op8Context)_localctx).op.getText(), ((Binary_op8Context)_localctx).a.op, ((Binary_op8Context)_localctx).b.op); 
@@ -2758,12 +2779,6 @@ public class InlineAssemblyParser extends Parser {
 			setState(236);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case T__182:
-			case T__183:
-			case T__184:
-			case T__185:
-			case T__186:
-			case T__187:
 			case T__188:
 			case T__189:
 			case T__190:
@@ -2807,12 +2822,18 @@ public class InlineAssemblyParser extends Parser {
 			case T__228:
 			case T__229:
 			case T__230:
+			case T__231:
+			case T__232:
+			case T__233:
+			case T__234:
+			case T__235:
+			case T__236:
 				enterOuterAlt(_localctx, 1);
 				{
 				setState(218);
 				((Binary_op16Context)_localctx).op1 = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !(((((_la - 183)) & ~0x3f) == 0 && ((1L << (_la - 183)) & ((1L << (T__182 - 183)) | (1L << (T__183 - 183)) | (1L << (T__184 - 183)) | (1L << (T__185 - 183)) | (1L << (T__186 - 183)) | (1L << (T__187 - 183)) | (1L << (T__188 - 183)) | (1L << (T__189 - 183)) | (1L << (T__190 - 183)) | (1L << (T__191 - 183)) | (1L << (T__192 - 183)) | (1L << (T__193 - 183)) | (1L << (T__194 - 183)) | (1L << (T__195 - 183)) | (1L << (T__196 - 183)) | (1L << (T__197 - 183)) | (1L << (T__198 - 183)) | (1L << (T__199 - 183)) | (1L << (T__200 - 183)) | (1L << (T__201 - 183)) | (1L << (T__202 - 183)) | (1L << (T__203 - 183)) | (1L << (T__204 - 183)) | (1L << (T__205 - 183)) | (1L << (T__206 - 183)) | (1L << (T__207 - 183)) | (1L << (T__208 - 183)) | (1L << (T__209 - 183)) | (1L << (T__210 - 183)) | (1L << (T__211 - 183)) | (1L << (T__212 - 183)) | (1L << (T__213 - 183)) | (1L << (T__214 - 183)) | (1L << (T__215 - 183)) | (1L << (T__216 - 183)) | (1L << (T__217 - 183)) | (1L << (T__218 - 183)) | (1L << (T__219 - 183)) | (1L << (T__220 - 183)) | (1L << (T__221 - 183)) | (1L << (T__222 - 183)) | (1L << (T__223 - 183)) | (1L << (T__224 - 183)) | (1L << (T__225 - 183)) | (1L << (T__226 - 183)) | (1L << (T__227 - 183)) | (1L << (T__228 - 183)) | (1L << (T__229 - 183)) | (1L << (T__230 - 183)))) != 0)) ) {
+				if ( !(((((_la - 189)) & ~0x3f) == 0 && ((1L << (_la - 189)) & ((1L << (T__188 - 189)) | (1L << (T__189 - 189)) | (1L << (T__190 - 189)) | (1L << (T__191 - 189)) | (1L << (T__192 - 189)) | (1L << (T__193 - 189)) | (1L << (T__194 - 189)) | (1L << (T__195 - 189)) | (1L << (T__196 - 189)) | (1L << (T__197 - 189)) | (1L << (T__198 - 189)) | (1L << (T__199 - 189)) | (1L << (T__200 - 189)) | (1L << (T__201 - 189)) | (1L << (T__202 - 189)) | (1L << (T__203 - 189)) | (1L << (T__204 - 189)) | (1L << (T__205 - 189)) | (1L << (T__206 - 189)) | (1L << (T__207 - 189)) | (1L << (T__208 - 189)) | (1L << (T__209 - 189)) | (1L << (T__210 - 189)) | (1L << (T__211 - 189)) | (1L << (T__212 - 189)) | (1L << (T__213 - 189)) | (1L << (T__214 - 189)) | (1L << (T__215 - 189)) | (1L << (T__216 - 189)) | (1L << (T__217 - 189)) | (1L << (T__218 - 189)) | (1L << (T__219 - 189)) | (1L << (T__220 - 189)) | (1L << (T__221 - 189)) | (1L << (T__222 - 189)) | (1L << (T__223 - 189)) | (1L << (T__224 - 189)) | (1L << (T__225 - 189)) | (1L << (T__226 - 189)) | (1L << (T__227 - 189)) | (1L << (T__228 - 189)) | (1L << (T__229 - 189)) | (1L << (T__230 - 189)) | (1L << (T__231 - 189)) | (1L << (T__232 - 189)) | (1L << (T__233 - 189)) | (1L << (T__234 - 189)) | (1L << (T__235 - 189)) | (1L << (T__236 - 189)))) != 0)) ) {
 					((Binary_op16Context)_localctx).op1 = _errHandler.recoverInline(this);
 				}
 				else {
@@ -2823,26 +2844,26 @@ public class InlineAssemblyParser extends Parser {
 				setState(219);
 				((Binary_op16Context)_localctx).a1 = operand16();
 				setState(220);
-				match(T__79);
+				match(T__85);
 				setState(221);
 				((Binary_op16Context)_localctx).b1 = operand16();
 				 factory.createBinaryOperation(((Binary_op16Context)_localctx).op1.getText(), ((Binary_op16Context)_localctx).a1.op, ((Binary_op16Context)_localctx).b1.op); 
 				}
 				break;
-			case T__231:
-			case T__232:
-			case T__233:
-			case T__234:
-			case T__235:
-			case T__236:
 			case T__237:
 			case T__238:
+			case T__239:
+			case T__240:
+			case T__241:
+			case T__242:
+			case T__243:
+			case T__244:
 				enterOuterAlt(_localctx, 2);
 				{
 				setState(224);
 				((Binary_op16Context)_localctx).op2 = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !(((((_la - 232)) & ~0x3f) == 0 && ((1L << (_la - 232)) & ((1L << (T__231 - 232)) | (1L << (T__232 - 232)) | (1L << (T__233 - 232)) | (1L << (T__234 - 232)) | (1L << (T__235 - 232)) | (1L << (T__236 - 232)) | (1L << (T__237 - 232)) | (1L << (T__238 - 232)))) != 0)) ) {
+				if ( !(((((_la - 238)) & ~0x3f) == 0 && ((1L << (_la - 238)) & ((1L << (T__237 - 238)) | (1L << (T__238 - 238)) | (1L << (T__239 - 238)) | (1L << (T__240 - 238)) | (1L << (T__241 - 238)) | (1L << (T__242 - 238)) | (1L << (T__243 - 238)) | (1L << (T__244 - 238)))) != 0)) ) {
 					((Binary_op16Context)_localctx).op2 = _errHandler.recoverInline(this);
 				}
 				else {
@@ -2853,20 +2874,20 @@ public class InlineAssemblyParser extends Parser {
 				setState(225);
 				((Binary_op16Context)_localctx).a2 = operand8();
 				setState(226);
-				match(T__79);
+				match(T__85);
 				setState(227);
 				((Binary_op16Context)_localctx).b2 = operand16();
 				 factory.createBinaryOperation(((Binary_op16Context)_localctx).op2.getText(), ((Binary_op16Context)_localctx).a2.op, ((Binary_op16Context)_localctx).b2.op); 
 				}
 				break;
-			case T__239:
-			case T__240:
+			case T__245:
+			case T__246:
 				enterOuterAlt(_localctx, 3);
 				{
 				setState(230);
 				((Binary_op16Context)_localctx).op3 = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !(_la==T__239 || _la==T__240) ) {
+				if ( !(_la==T__245 || _la==T__246) ) {
 					((Binary_op16Context)_localctx).op3 = _errHandler.recoverInline(this);
 				}
 				else {
@@ -2877,7 +2898,7 @@ public class InlineAssemblyParser extends Parser {
 				setState(231);
 				((Binary_op16Context)_localctx).a3 = operand8();
 				setState(232);
-				match(T__79);
+				match(T__85);
 				setState(233);
 				((Binary_op16Context)_localctx).b3 = operand16();
 				 factory.createBinaryOperation(((Binary_op16Context)_localctx).op3.getText(), ((Binary_op16Context)_localctx).a3.op, ((Binary_op16Context)_localctx).b3.op); 
@@ -2937,12 +2958,6 @@ public class InlineAssemblyParser extends Parser {
 			setState(262);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case T__241:
-			case T__242:
-			case T__243:
-			case T__244:
-			case T__245:
-			case T__246:
 			case T__247:
 			case T__248:
 			case T__249:
@@ -2986,12 +3001,18 @@ public class InlineAssemblyParser extends Parser {
 			case T__287:
 			case T__288:
 			case T__289:
+			case T__290:
+			case T__291:
+			case T__292:
+			case T__293:
+			case T__294:
+			case T__295:
 				enterOuterAlt(_localctx, 1);
 				{
 				setState(238);
 				((Binary_op32Context)_localctx).op1 = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !(((((_la - 242)) & ~0x3f) == 0 && ((1L << (_la - 242)) & ((1L << (T__241 - 242)) | (1L << (T__242 - 242)) | (1L << (T__243 - 242)) | (1L << (T__244 - 242)) | (1L << (T__245 - 242)) | (1L << (T__246 - 242)) | (1L << (T__247 - 242)) | (1L << (T__248 - 242)) | (1L << (T__249 - 242)) | (1L << (T__250 - 242)) | (1L << (T__251 - 242)) | (1L << (T__252 - 242)) | (1L << (T__253 - 242)) | (1L << (T__254 - 242)) | (1L << (T__255 - 242)) | (1L << (T__256 - 242)) | (1L << (T__257 - 242)) | (1L << (T__258 - 242)) | (1L << (T__259 - 242)) | (1L << (T__260 - 242)) | (1L << (T__261 - 242)) | (1L << (T__262 - 242)) | (1L << (T__263 - 242)) | (1L << (T__264 - 242)) | (1L << (T__265 - 242)) | (1L << (T__266 - 242)) | (1L << (T__267 - 242)) | (1L << (T__268 - 242)) | (1L << (T__269 - 242)) | (1L << (T__270 - 242)) | (1L << (T__271 - 242)) | (1L << (T__272 - 242)) | (1L << (T__273 - 242)) | (1L << (T__274 - 242)) | (1L << (T__275 - 242)) | (1L << (T__276 - 242)) | (1L << (T__277 - 242)) | (1L << (T__278 - 242)) | (1L << (T__279 - 242)) | (1L << (T__280 - 242)) | (1L << (T__281 - 242)) | (1L << (T__282 - 242)) | (1L << (T__283 - 242)) | (1L << (T__284 - 242)) | (1L << (T__285 - 242)) | (1L << (T__286 - 242)) | (1L << (T__287 - 242)) | (1L << (T__288 - 242)) | (1L << (T__289 - 242)))) != 0)) ) {
+				if ( !(((((_la - 248)) & ~0x3f) == 0 && ((1L << (_la - 248)) & ((1L << (T__247 - 248)) | (1L << (T__248 - 248)) | (1L << (T__249 - 248)) | (1L << (T__250 - 248)) | (1L << (T__251 - 248)) | (1L << (T__252 - 248)) | (1L << (T__253 - 248)) | (1L << (T__254 - 248)) | (1L << (T__255 - 248)) | (1L << (T__256 - 248)) | (1L << (T__257 - 248)) | (1L << (T__258 - 248)) | (1L << (T__259 - 248)) | (1L << (T__260 - 248)) | (1L << (T__261 - 248)) | (1L << (T__262 - 248)) | (1L << (T__263 - 248)) | (1L << (T__264 - 248)) | (1L << (T__265 - 248)) | (1L << (T__266 - 248)) | (1L << (T__267 - 248)) | (1L << (T__268 - 248)) | (1L << (T__269 - 248)) | (1L << (T__270 - 248)) | (1L << (T__271 - 248)) | (1L << (T__272 - 248)) | (1L << (T__273 - 248)) | (1L << (T__274 - 248)) | (1L << (T__275 - 248)) | (1L << (T__276 - 248)) | (1L << (T__277 - 248)) | (1L << (T__278 - 248)) | (1L << (T__279 - 248)) | (1L << (T__280 - 248)) | (1L << (T__281 - 248)) | (1L << (T__282 - 248)) | (1L << (T__283 - 248)) | (1L << (T__284 - 248)) | (1L << (T__285 - 248)) | (1L << (T__286 - 248)) | (1L << (T__287 - 248)) | (1L << (T__288 - 248)) | (1L << (T__289 - 248)) | (1L << (T__290 - 248)) | (1L << (T__291 - 248)) | (1L << (T__292 - 248)) | (1L << (T__293 - 248)) | (1L << (T__294 - 248)) | (1L << (T__295 - 248)))) != 0)) ) {
 					((Binary_op32Context)_localctx).op1 = _errHandler.recoverInline(this);
 				}
 				else {
@@ -3002,26 +3023,26 @@ public class InlineAssemblyParser extends Parser {
 				setState(239);
 				((Binary_op32Context)_localctx).a1 = operand32();
 				setState(240);
-				match(T__79);
+				match(T__85);
 				setState(241);
 				((Binary_op32Context)_localctx).b1 = operand32();
 				 factory.createBinaryOperation(((Binary_op32Context)_localctx).op1.getText(), ((Binary_op32Context)_localctx).a1.op, ((Binary_op32Context)_localctx).b1.op); 
 				}
 				break;
-			case T__290:
-			case T__291:
-			case T__292:
-			case T__293:
-			case T__294:
-			case T__295:
 			case T__296:
 			case T__297:
+			case T__298:
+			case T__299:
+			case T__300:
+			case T__301:
+			case T__302:
+			case T__303:
 				enterOuterAlt(_localctx, 2);
 				{
 				setState(244);
 				((Binary_op32Context)_localctx).op2 = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !(((((_la - 291)) & ~0x3f) == 0 && ((1L << (_la - 291)) & ((1L << (T__290 - 291)) | (1L << (T__291 - 291)) | (1L << (T__292 - 291)) | (1L << (T__293 - 291)) | (1L << (T__294 - 291)) | (1L << (T__295 - 291)) | (1L << (T__296 - 291)) | (1L << (T__297 - 291)))) != 0)) ) {
+				if ( !(((((_la - 297)) & ~0x3f) == 0 && ((1L << (_la - 297)) & ((1L << (T__296 - 297)) | (1L << (T__297 - 297)) | (1L << (T__298 - 297)) | (1L << (T__299 - 297)) | (1L << (T__300 - 297)) | (1L << (T__301 - 297)) | (1L << (T__302 - 297)) | (1L << (T__303 - 297)))) != 0)) ) {
 					((Binary_op32Context)_localctx).op2 = _errHandler.recoverInline(this);
 				}
 				else {
@@ -3032,20 +3053,20 @@ public class InlineAssemblyParser extends Parser {
 				setState(245);
 				((Binary_op32Context)_localctx).a2 = operand8();
 				setState(246);
-				match(T__79);
+				match(T__85);
 				setState(247);
 				((Binary_op32Context)_localctx).b2 = operand32();
 				 factory.createBinaryOperation(((Binary_op32Context)_localctx).op2.getText(), ((Binary_op32Context)_localctx).a2.op, ((Binary_op32Context)_localctx).b2.op); 
 				}
 				break;
-			case T__298:
-			case T__299:
+			case T__304:
+			case T__305:
 				enterOuterAlt(_localctx, 3);
 				{
 				setState(250);
 				((Binary_op32Context)_localctx).op3 = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !(_la==T__298 || _la==T__299) ) {
+				if ( !(_la==T__304 || _la==T__305) ) {
 					((Binary_op32Context)_localctx).op3 = _errHandler.recoverInline(this);
 				}
 				else {
@@ -3056,20 +3077,20 @@ public class InlineAssemblyParser extends Parser {
 				setState(251);
 				((Binary_op32Context)_localctx).a3 = operand8();
 				setState(252);
-				match(T__79);
+				match(T__85);
 				setState(253);
 				((Binary_op32Context)_localctx).b3 = operand32();
 				 factory.createBinaryOperation(((Binary_op32Context)_localctx).op3.getText(), ((Binary_op32Context)_localctx).a3.op, ((Binary_op32Context)_localctx).b3.op); 
 				}
 				break;
-			case T__300:
-			case T__301:
+			case T__306:
+			case T__307:
 				enterOuterAlt(_localctx, 4);
 				{
 				setState(256);
 				((Binary_op32Context)_localctx).op4 = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !(_la==T__300 || _la==T__301) ) {
+				if ( !(_la==T__306 || _la==T__307) ) {
 					((Binary_op32Context)_localctx).op4 = _errHandler.recoverInline(this);
 				}
 				else {
@@ -3080,7 +3101,7 @@ public class InlineAssemblyParser extends Parser {
 				setState(257);
 				((Binary_op32Context)_localctx).a4 = operand16();
 				setState(258);
-				match(T__79);
+				match(T__85);
 				setState(259);
 				((Binary_op32Context)_localctx).b4 = operand32();
 				 factory.createBinaryOperation(((Binary_op32Context)_localctx).op4.getText(), ((Binary_op32Context)_localctx).a4.op, ((Binary_op32Context)_localctx).b4.op); 
@@ -3146,12 +3167,6 @@ public class InlineAssemblyParser extends Parser {
 			setState(294);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case T__302:
-			case T__303:
-			case T__304:
-			case T__305:
-			case T__306:
-			case T__307:
 			case T__308:
 			case T__309:
 			case T__310:
@@ -3195,12 +3210,18 @@ public class InlineAssemblyParser extends Parser {
 			case T__348:
 			case T__349:
 			case T__350:
+			case T__351:
+			case T__352:
+			case T__353:
+			case T__354:
+			case T__355:
+			case T__356:
 				enterOuterAlt(_localctx, 1);
 				{
 				setState(264);
 				((Binary_op64Context)_localctx).op1 = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !(((((_la - 303)) & ~0x3f) == 0 && ((1L << (_la - 303)) & ((1L << (T__302 - 303)) | (1L << (T__303 - 303)) | (1L << (T__304 - 303)) | (1L << (T__305 - 303)) | (1L << (T__306 - 303)) | (1L << (T__307 - 303)) | (1L << (T__308 - 303)) | (1L << (T__309 - 303)) | (1L << (T__310 - 303)) | (1L << (T__311 - 303)) | (1L << (T__312 - 303)) | (1L << (T__313 - 303)) | (1L << (T__314 - 303)) | (1L << (T__315 - 303)) | (1L << (T__316 - 303)) | (1L << (T__317 - 303)) | (1L << (T__318 - 303)) | (1L << (T__319 - 303)) | (1L << (T__320 - 303)) | (1L << (T__321 - 303)) | (1L << (T__322 - 303)) | (1L << (T__323 - 303)) | (1L << (T__324 - 303)) | (1L << (T__325 - 303)) | (1L << (T__326 - 303)) | (1L << (T__327 - 303)) | (1L << (T__328 - 303)) | (1L << (T__329 - 303)) | (1L << (T__330 - 303)) | (1L << (T__331 - 303)) | (1L << (T__332 - 303)) | (1L << (T__333 - 303)) | (1L << (T__334 - 303)) | (1L << (T__335 - 303)) | (1L << (T__336 - 303)) | (1L << (T__337 - 303)) | (1L << (T__338 - 303)) | (1L << (T__339 - 303)) | (1L << (T__340 - 303)) | (1L << (T__341 - 303)) | (1L << (T__342 - 303)) | (1L << (T__343 - 303)) | (1L << (T__344 - 303)) | (1L << (T__345 - 303)) | (1L << (T__346 - 303)) | (1L << (T__347 - 303)) | (1L << (T__348 - 303)) | (1L << (T__349 - 303)) | (1L << (T__350 - 303)))) != 0)) ) {
+				if ( !(((((_la - 309)) & ~0x3f) == 0 && ((1L << (_la - 309)) & ((1L << (T__308 - 309)) | (1L << (T__309 - 309)) | (1L << (T__310 - 309)) | (1L << (T__311 - 309)) | (1L << (T__312 - 309)) | (1L << (T__313 - 309)) | (1L << (T__314 - 309)) | (1L << (T__315 - 309)) | (1L << (T__316 - 309)) | (1L << (T__317 - 309)) | (1L << (T__318 - 309)) | (1L << (T__319 - 309)) | (1L << (T__320 - 309)) | (1L << (T__321 - 309)) | (1L << (T__322 - 309)) | (1L << (T__323 - 309)) | (1L << (T__324 - 309)) | (1L << (T__325 - 309)) | (1L << (T__326 - 309)) | (1L << (T__327 - 309)) | (1L << (T__328 - 309)) | (1L << (T__329 - 309)) | (1L << (T__330 - 309)) | (1L << (T__331 - 309)) | (1L << (T__332 - 309)) | (1L << (T__333 - 309)) | (1L << (T__334 - 309)) | (1L << (T__335 - 309)) | (1L << (T__336 - 309)) | (1L << (T__337 - 309)) | (1L << (T__338 - 309)) | (1L << (T__339 - 309)) | (1L << (T__340 - 309)) | (1L << (T__341 - 309)) | (1L << (T__342 - 309)) | (1L << (T__343 - 309)) | (1L << (T__344 - 309)) | (1L << (T__345 - 309)) | (1L << (T__346 - 309)) | (1L << (T__347 - 309)) | (1L << (T__348 - 309)) | (1L << (T__349 - 309)) | (1L << (T__350 - 309)) | (1L << (T__351 - 309)) | (1L << (T__352 - 309)) | (1L << (T__353 - 309)) | (1L << (T__354 - 309)) | (1L << (T__355 - 309)) | (1L << (T__356 - 309)))) != 0)) ) {
 					((Binary_op64Context)_localctx).op1 = _errHandler.recoverInline(this);
 				}
 				else {
@@ -3211,26 +3232,26 @@ public class InlineAssemblyParser extends Parser {
 				setState(265);
 				((Binary_op64Context)_localctx).a1 = operand64();
 				setState(266);
-				match(T__79);
+				match(T__85);
 				setState(267);
 				((Binary_op64Context)_localctx).b1 = operand64();
 				 factory.createBinaryOperation(((Binary_op64Context)_localctx).op1.getText(), ((Binary_op64Context)_localctx).a1.op, ((Binary_op64Context)_localctx).b1.op); 
 				}
 				break;
-			case T__351:
-			case T__352:
-			case T__353:
-			case T__354:
-			case T__355:
-			case T__356:
 			case T__357:
 			case T__358:
+			case T__359:
+			case T__360:
+			case T__361:
+			case T__362:
+			case T__363:
+			case T__364:
 				enterOuterAlt(_localctx, 2);
 				{
 				setState(270);
 				((Binary_op64Context)_localctx).op2 = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !(((((_la - 352)) & ~0x3f) == 0 && ((1L << (_la - 352)) & ((1L << (T__351 - 352)) | (1L << (T__352 - 352)) | (1L << (T__353 - 352)) | (1L << (T__354 - 352)) | (1L << (T__355 - 352)) | (1L << (T__356 - 352)) | (1L << (T__357 - 352)) | (1L << (T__358 - 352)))) != 0)) ) {
+				if ( !(((((_la - 358)) & ~0x3f) == 0 && ((1L << (_la - 358)) & ((1L << (T__357 - 358)) | (1L << (T__358 - 358)) | (1L << (T__359 - 358)) | (1L << (T__360 - 358)) | (1L << (T__361 - 358)) | (1L << (T__362 - 358)) | (1L << (T__363 - 358)) | (1L << (T__364 - 358)))) != 0)) ) {
 					((Binary_op64Context)_localctx).op2 = _errHandler.recoverInline(this);
 				}
 				else {
@@ -3241,20 +3262,20 @@ public class InlineAssemblyParser extends Parser {
 				setState(271);
 				((Binary_op64Context)_localctx).a2 = operand8();
 				setState(272);
-				match(T__79);
+				match(T__85);
 				setState(273);
 				((Binary_op64Context)_localctx).b2 = operand64();
 				 factory.createBinaryOperation(((Binary_op64Context)_localctx).op2.getText(), ((Binary_op64Context)_localctx).a2.op, ((Binary_op64Context)_localctx).b2.op); 
 				}
 				break;
-			case T__359:
-			case T__360:
+			case T__365:
+			case T__366:
 				enterOuterAlt(_localctx, 3);
 				{
 				setState(276);
 				((Binary_op64Context)_localctx).op3 = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !(_la==T__359 || _la==T__360) ) {
+				if ( !(_la==T__365 || _la==T__366) ) {
 					((Binary_op64Context)_localctx).op3 = _errHandler.recoverInline(this);
 				}
 				else {
@@ -3265,20 +3286,20 @@ public class InlineAssemblyParser extends Parser {
 				setState(277);
 				((Binary_op64Context)_localctx).a3 = operand8();
 				setState(278);
-				match(T__79);
+				match(T__85);
 				setState(279);
 				((Binary_op64Context)_localctx).b3 = operand64();
 				 factory.createBinaryOperation(((Binary_op64Context)_localctx).op3.getText(), ((Binary_op64Context)_localctx).a3.op, ((Binary_op64Context)_localctx).b3.op); 
 				}
 				break;
-			case T__361:
-			case T__362:
+			case T__367:
+			case T__368:
 				enterOuterAlt(_localctx, 4);
 				{
 				setState(282);
 				((Binary_op64Context)_localctx).op4 = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !(_la==T__361 || _la==T__362) ) {
+				if ( !(_la==T__367 || _la==T__368) ) {
 					((Binary_op64Context)_localctx).op4 = _errHandler.recoverInline(this);
 				}
 				else {
@@ -3289,21 +3310,21 @@ public class InlineAssemblyParser extends Parser {
 				setState(283);
 				((Binary_op64Context)_localctx).a4 = operand16();
 				setState(284);
-				match(T__79);
+				match(T__85);
 				setState(285);
 				((Binary_op64Context)_localctx).b4 = operand64();
 				 factory.createBinaryOperation(((Binary_op64Context)_localctx).op4.getText(), ((Binary_op64Context)_localctx).a4.op, ((Binary_op64Context)_localctx).b4.op); 
 				}
 				break;
-			case T__363:
+			case T__369:
 				enterOuterAlt(_localctx, 5);
 				{
 				setState(288);
-				((Binary_op64Context)_localctx).op5 = match(T__363);
+				((Binary_op64Context)_localctx).op5 = match(T__369);
 				setState(289);
 				((Binary_op64Context)_localctx).a5 = operand32();
 				setState(290);
-				match(T__79);
+				match(T__85);
 				setState(291);
 				((Binary_op64Context)_localctx).b5 = operand64();
 				 factory.createBinaryOperation(((Binary_op64Context)_localctx).op5.getText(), ((Binary_op64Context)_localctx).a5.op, ((Binary_op64Context)_localctx).b5.op); 
@@ -3350,7 +3371,7 @@ public class InlineAssemblyParser extends Parser {
 			setState(296);
 			_localctx.op = _input.LT(1);
 			_la = _input.LA(1);
-			if ( !(((((_la - 365)) & ~0x3f) == 0 && ((1L << (_la - 365)) & ((1L << (T__364 - 365)) | (1L << (T__365 - 365)) | (1L << (T__366 - 365)) | (1L << (T__367 - 365)) | (1L << (T__368 - 365)) | (1L << (T__369 - 365)) | (1L << (T__370 - 365)) | (1L << (T__371 - 365)) | (1L << (T__372 - 365)) | (1L << (T__373 - 365)) | (1L << (T__374 - 365)) | (1L << (T__375 - 365)) | (1L << (T__376 - 365)) | (1L << (T__377 - 365)) | (1L << (T__378 - 365)) | (1L << (T__379 - 365)) | (1L << (T__380 - 365)) | (1L << (T__381 - 365)) | (1L << (T__382 - 365)) | (1L << (T__383 - 365)) | (1L << (T__384 - 365)) | (1L << (T__385 - 365)) | (1L << (T__386 - 365)) | (1L << (T__387 - 365)) | (1L << (T__388 - 365)) | (1L << (T__389 - 365)) | (1L << (T__390 - 365)) | (1L << (T__391 - 365)) | (1L << (T__392 - 365)) | (1L << (T__393 - 365)) | (1L << (T__394 - 365)) | (1L << (T__395 - 365)) | (1L << (T__396 - 365)) | (1L << (T__397 - 365)) | (1L << (T__398 - 365)) | (1L << (T__399 - 365)) | (1L << (T__400 - 365)) | (1L << (T__401 - 365)) | (1L << (T__402 - 365)) | (1L << (T__403 - 365)) | (1L << (T__404 - 365)) | (1L << (T__405 - 365)) | (1L << (T__406 - 365)) | (1L << (T__407 - 365)) | (1L << (T__408 - 365)) | (1L << (T__409 - 365)) | (1L << (T__410 - 365)) | (1L << (T__411 - 365)) | (1L << (T__412 - 365)) | (1L << (T__413 - 365)) | (1L << (T__414 - 365)) | (1L << (T__415 - 365)) | (1L << (T__416 - 365)) | (1L << (T__417 - 365)) | (1L << (T__418 - 365)) | (1L << (T__419 - 365)))) != 0)) ) {
+			if ( !(((((_la - 371)) & ~0x3f) == 0 && ((1L << (_la - 371)) & ((1L << (T__370 - 371)) | (1L << (T__371 - 371)) | (1L << (T__372 - 371)) | (1L << (T__373 - 371)) | (1L << (T__374 - 371)) | (1L << (T__375 - 371)) | (1L << (T__376 - 371)) | (1L << (T__377 - 371)) | (1L << (T__378 - 371)) | (1L << (T__379 - 371)) | (1L << (T__380 - 371)) | (1L << (T__381 - 371)) | (1L << (T__382 - 371)) | (1L << (T__383 - 371)) | (1L << (T__384 - 371)) | (1L << (T__385 - 371)) | (1L << (T__386 - 371)) | (1L << (T__387 - 371)) | (1L << (T__388 - 371)) | (1L << (T__389 - 371)) | (1L << (T__390 - 371)) | (1L << (T__391 - 371)) | (1L << (T__392 - 371)) | (1L << (T__393 - 371)) | (1L << (T__394 - 371)) | (1L << (T__395 - 371)) | (1L << (T__396 - 371)) | (1L << (T__397 - 371)) | (1L << (T__398 - 371)) | (1L << (T__399 - 371)) | (1L << (T__400 - 371)) | (1L << (T__401 - 371)) | (1L << (T__402 - 371)) | (1L << (T__403 - 371)) | (1L << (T__404 - 371)) | (1L << (T__405 - 371)) | (1L << (T__406 - 371)) | (1L << (T__407 - 371)) | (1L << (T__408 - 371)) | (1L << (T__409 - 371)) | (1L << (T__410 - 371)) | (1L << (T__411 - 371)) | (1L << (T__412 - 371)) | (1L << (T__413 - 371)) | (1L << (T__414 - 371)) | (1L << (T__415 - 371)) | (1L << (T__416 - 371)) | (1L << (T__417 - 371)) | (1L << (T__418 - 371)) | (1L << (T__419 - 371)) | (1L << (T__420 - 371)) | (1L << (T__421 - 371)) | (1L << (T__422 - 371)) | (1L << (T__423 - 371)) | (1L << (T__424 - 371)) | (1L << (T__425 - 371)))) != 0)) ) {
 				_localctx.op = _errHandler.recoverInline(this);
 			}
 			else {
@@ -3361,7 +3382,7 @@ public class InlineAssemblyParser extends Parser {
 			setState(297);
 			_localctx.a = operand();
 			setState(298);
-			match(T__79);
+			match(T__85);
 			setState(299);
 			_localctx.b = operand();
 			 factory.createBinaryOperationImplicitSize(_localctx.op.getText(), _localctx.a.op, _localctx.b.op); 
@@ -3411,12 +3432,6 @@ public class InlineAssemblyParser extends Parser {
 			setState(314);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case T__423:
-			case T__424:
-			case T__425:
-			case T__426:
-			case T__427:
-			case T__428:
 			case T__429:
 			case T__430:
 			case T__431:
@@ -3435,19 +3450,25 @@ public class InlineAssemblyParser extends Parser {
 			case T__444:
 			case T__445:
 			case T__446:
+			case T__447:
+			case T__448:
+			case T__449:
+			case T__450:
+			case T__451:
+			case T__452:
 				{
 				setState(302);
 				((Operand8Context)_localctx).register8 = register8();
 				 ((Operand8Context)_localctx).op =  ((Operand8Context)_localctx).register8.op; 
 				}
 				break;
-			case T__421:
-			case T__535:
-			case T__536:
-			case T__537:
-			case T__538:
-			case T__539:
-			case T__540:
+			case T__427:
+			case T__541:
+			case T__542:
+			case T__543:
+			case T__544:
+			case T__545:
+			case T__546:
 			case IDENT:
 			case BIN_NUMBER:
 			case HEX_NUMBER:
@@ -3458,14 +3479,14 @@ public class InlineAssemblyParser extends Parser {
 				 ((Operand8Context)_localctx).op =  ((Operand8Context)_localctx).memory_reference.op; 
 				}
 				break;
-			case T__541:
+			case T__547:
 				{
 				setState(308);
 				((Operand8Context)_localctx).immediate = immediate();
 				 ((Operand8Context)_localctx).op =  ((Operand8Context)_localctx).immediate.op; 
 				}
 				break;
-			case T__542:
+			case T__548:
 				{
 				setState(311);
 				((Operand8Context)_localctx).argument = argument();
@@ -3521,12 +3542,6 @@ public class InlineAssemblyParser extends Parser {
 			setState(328);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case T__447:
-			case T__448:
-			case T__449:
-			case T__450:
-			case T__451:
-			case T__452:
 			case T__453:
 			case T__454:
 			case T__455:
@@ -3545,19 +3560,25 @@ public class InlineAssemblyParser extends Parser {
 			case T__468:
 			case T__469:
 			case T__470:
+			case T__471:
+			case T__472:
+			case T__473:
+			case T__474:
+			case T__475:
+			case T__476:
 				{
 				setState(316);
 				((Operand16Context)_localctx).register16 = register16();
 				 ((Operand16Context)_localctx).op =  ((Operand16Context)_localctx).register16.op; 
 				}
 				break;
-			case T__421:
-			case T__535:
-			case T__536:
-			case T__537:
-			case T__538:
-			case T__539:
-			case T__540:
+			case T__427:
+			case T__541:
+			case T__542:
+			case T__543:
+			case T__544:
+			case T__545:
+			case T__546:
 			case IDENT:
 			case BIN_NUMBER:
 			case HEX_NUMBER:
@@ -3568,14 +3589,14 @@ public class InlineAssemblyParser extends Parser {
 				 ((Operand16Context)_localctx).op =  ((Operand16Context)_localctx).memory_reference.op; 
 				}
 				break;
-			case T__541:
+			case T__547:
 				{
 				setState(322);
 				((Operand16Context)_localctx).immediate = immediate();
 				 ((Operand16Context)_localctx).op =  ((Operand16Context)_localctx).immediate.op; 
 				}
 				break;
-			case T__542:
+			case T__548:
 				{
 				setState(325);
 				((Operand16Context)_localctx).argument = argument();
@@ -3631,12 +3652,6 @@ public class InlineAssemblyParser extends Parser {
 			setState(342);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case T__471:
-			case T__472:
-			case T__473:
-			case T__474:
-			case T__475:
-			case T__476:
 			case T__477:
 			case T__478:
 			case T__479:
@@ -3655,19 +3670,25 @@ public class InlineAssemblyParser extends Parser {
 			case T__492:
 			case T__493:
 			case T__494:
+			case T__495:
+			case T__496:
+			case T__497:
+			case T__498:
+			case T__499:
+			case T__500:
 				{
 				setState(330);
 				((Operand32Context)_localctx).register32 = register32();
 				 ((Operand32Context)_localctx).op =  ((Operand32Context)_localctx).register32.op; 
 				}
 				break;
-			case T__421:
-			case T__535:
-			case T__536:
-			case T__537:
-			case T__538:
-			case T__539:
-			case T__540:
+			case T__427:
+			case T__541:
+			case T__542:
+			case T__543:
+			case T__544:
+			case T__545:
+			case T__546:
 			case IDENT:
 			case BIN_NUMBER:
 			case HEX_NUMBER:
@@ -3678,14 +3699,14 @@ public class InlineAssemblyParser extends Parser {
 				 ((Operand32Context)_localctx).op =  ((Operand32Context)_localctx).memory_reference.op; 
 				}
 				break;
-			case T__541:
+			case T__547:
 				{
 				setState(336);
 				((Operand32Context)_localctx).immediate = immediate();
 				 ((Operand32Context)_localctx).op =  ((Operand32Context)_localctx).immediate.op; 
 				}
 				break;
-			case T__542:
+			case T__548:
 				{
 				setState(339);
 				((Operand32Context)_localctx).argument = argument();
@@ -3741,12 +3762,6 @@ public class InlineAssemblyParser extends Parser {
 			setState(356);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case T__495:
-			case T__496:
-			case T__497:
-			case T__498:
-			case T__499:
-			case T__500:
 			case T__501:
 			case T__502:
 			case T__503:
@@ -3765,19 +3780,25 @@ public class InlineAssemblyParser extends Parser {
 			case T__516:
 			case T__517:
 			case T__518:
+			case T__519:
+			case T__520:
+			case T__521:
+			case T__522:
+			case T__523:
+			case T__524:
 				{
 				setState(344);
 				((Operand64Context)_localctx).register64 = register64();
 				 ((Operand64Context)_localctx).op =  ((Operand64Context)_localctx).register64.op; 
 				}
 				break;
-			case T__421:
-			case T__535:
-			case T__536:
-			case T__537:
-			case T__538:
-			case T__539:
-			case T__540:
+			case T__427:
+			case T__541:
+			case T__542:
+			case T__543:
+			case T__544:
+			case T__545:
+			case T__546:
 			case IDENT:
 			case BIN_NUMBER:
 			case HEX_NUMBER:
@@ -3788,14 +3809,14 @@ public class InlineAssemblyParser extends Parser {
 				 ((Operand64Context)_localctx).op =  ((Operand64Context)_localctx).memory_reference.op; 
 				}
 				break;
-			case T__541:
+			case T__547:
 				{
 				setState(350);
 				((Operand64Context)_localctx).immediate = immediate();
 				 ((Operand64Context)_localctx).op =  ((Operand64Context)_localctx).immediate.op; 
 				}
 				break;
-			case T__542:
+			case T__548:
 				{
 				setState(353);
 				((Operand64Context)_localctx).argument = argument();
@@ -3867,12 +3888,6 @@ public class InlineAssemblyParser extends Parser {
 			setState(382);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case T__423:
-			case T__424:
-			case T__425:
-			case T__426:
-			case T__427:
-			case T__428:
 			case T__429:
 			case T__430:
 			case T__431:
@@ -3891,18 +3906,18 @@ public class InlineAssemblyParser extends Parser {
 			case T__444:
 			case T__445:
 			case T__446:
-				{
-				setState(358);
-				_localctx.register8 = register8();
-				 _localctx.op =  _localctx.register8.op; 
-				}
-				break;
 			case T__447:
 			case T__448:
 			case T__449:
 			case T__450:
 			case T__451:
 			case T__452:
+				{
+				setState(358);
+				_localctx.register8 = register8();
+				 _localctx.op =  _localctx.register8.op; 
+				}
+				break;
 			case T__453:
 			case T__454:
 			case T__455:
@@ -3921,18 +3936,18 @@ public class InlineAssemblyParser extends Parser {
 			case T__468:
 			case T__469:
 			case T__470:
-				{
-				setState(361);
-				_localctx.register16 = register16();
-				 _localctx.op =  _localctx.register16.op; 
-				}
-				break;
 			case T__471:
 			case T__472:
 			case T__473:
 			case T__474:
 			case T__475:
 			case T__476:
+				{
+				setState(361);
+				_localctx.register16 = register16();
+				 _localctx.op =  _localctx.register16.op; 
+				}
+				break;
 			case T__477:
 			case T__478:
 			case T__479:
@@ -3951,18 +3966,18 @@ public class InlineAssemblyParser extends Parser {
 			case T__492:
 			case T__493:
 			case T__494:
-				{
-				setState(364);
-				_localctx.register32 = register32();
-				 _localctx.op =  _localctx.register32.op; 
-				}
-				break;
 			case T__495:
 			case T__496:
 			case T__497:
 			case T__498:
 			case T__499:
 			case T__500:
+				{
+				setState(364);
+				_localctx.register32 = register32();
+				 _localctx.op =  _localctx.register32.op; 
+				}
+				break;
 			case T__501:
 			case T__502:
 			case T__503:
@@ -3981,18 +3996,18 @@ public class InlineAssemblyParser extends Parser {
 			case T__516:
 			case T__517:
 			case T__518:
-				{
-				setState(367);
-				_localctx.register64 = register64();
-				 _localctx.op =  _localctx.register64.op; 
-				}
-				break;
 			case T__519:
 			case T__520:
 			case T__521:
 			case T__522:
 			case T__523:
 			case T__524:
+				{
+				setState(367);
+				_localctx.register64 = register64();
+				 _localctx.op =  _localctx.register64.op; 
+				}
+				break;
 			case T__525:
 			case T__526:
 			case T__527:
@@ -4003,19 +4018,25 @@ public class InlineAssemblyParser extends Parser {
 			case T__532:
 			case T__533:
 			case T__534:
-				{
-				setState(370);
-				_localctx.registerXmm = registerXmm();
-				 _localctx.op =  _localctx.registerXmm.op; 
-				}
-				break;
-			case T__421:
 			case T__535:
 			case T__536:
 			case T__537:
 			case T__538:
 			case T__539:
 			case T__540:
+				{
+				setState(370);
+				_localctx.registerXmm = registerXmm();
+				 _localctx.op =  _localctx.registerXmm.op; 
+				}
+				break;
+			case T__427:
+			case T__541:
+			case T__542:
+			case T__543:
+			case T__544:
+			case T__545:
+			case T__546:
 			case IDENT:
 			case BIN_NUMBER:
 			case HEX_NUMBER:
@@ -4026,14 +4047,14 @@ public class InlineAssemblyParser extends Parser {
 				 _localctx.op =  _localctx.memory_reference.op; 
 				}
 				break;
-			case T__541:
+			case T__547:
 				{
 				setState(376);
 				_localctx.immediate = immediate();
 				 _localctx.op =  _localctx.immediate.op; 
 				}
 				break;
-			case T__542:
+			case T__548:
 				{
 				setState(379);
 				_localctx.argument = argument();
@@ -4099,13 +4120,13 @@ public class InlineAssemblyParser extends Parser {
 			setState(389);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if (((((_la - 536)) & ~0x3f) == 0 && ((1L << (_la - 536)) & ((1L << (T__535 - 536)) | (1L << (T__536 - 536)) | (1L << (T__537 - 536)) | (1L << (T__538 - 536)) | (1L << (T__539 - 536)) | (1L << (T__540 - 536)))) != 0)) {
+			if (((((_la - 542)) & ~0x3f) == 0 && ((1L << (_la - 542)) & ((1L << (T__541 - 542)) | (1L << (T__542 - 542)) | (1L << (T__543 - 542)) | (1L << (T__544 - 542)) | (1L << (T__545 - 542)) | (1L << (T__546 - 542)))) != 0)) {
 				{
 				setState(385);
 				_localctx.segment_register = segment_register();
 				 segment = _localctx.segment_register.reg; 
 				setState(387);
-				match(T__420);
+				match(T__426);
 				}
 			}
 
@@ -4142,14 +4163,14 @@ public class InlineAssemblyParser extends Parser {
 				setState(416);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if (_la==T__421) {
+				if (_la==T__427) {
 					{
 					setState(398);
-					match(T__421);
+					match(T__427);
 					setState(402);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
-					if (((((_la - 422)) & ~0x3f) == 0 && ((1L << (_la - 422)) & ((1L << (T__421 - 422)) | (1L << (T__423 - 422)) | (1L << (T__424 - 422)) | (1L << (T__425 - 422)) | (1L << (T__426 - 422)) | (1L << (T__427 - 422)) | (1L << (T__428 - 422)) | (1L << (T__429 - 422)) | (1L << (T__430 - 422)) | (1L << (T__431 - 422)) | (1L << (T__432 - 422)) | (1L << (T__433 - 422)) | (1L << (T__434 - 422)) | (1L << (T__435 - 422)) | (1L << (T__436 - 422)) | (1L << (T__437 - 422)) | (1L << (T__438 - 422)) | (1L << (T__439 - 422)) | (1L << (T__440 - 422)) | (1L << (T__441 - 422)) | (1L << (T__442 - 422)) | (1L << (T__443 - 422)) | (1L << (T__444 - 422)) | (1L << (T__445 - 422)) | (1L << (T__446 - 422)) | (1L << (T__447 - 422)) | (1L << (T__448 - 422)) | (1L << (T__449 - 422)) | (1L << (T__450 - 422)) | (1L << (T__451 - 422)) | (1L << (T__452 - 422)) | (1L << (T__453 - 422)) | (1L << (T__454 - 422)) | (1L << (T__455 - 422)) | (1L << (T__456 - 422)) | (1L << (T__457 - 422)) | (1L << (T__458 - 422)) | (1L << (T__459 - 422)) | (1L << (T__460 - 422)) | (1L << (T__461 - 422)) | (1L << (T__462 - 422)) | (1L << (T__463 - 422)) | (1L << (T__464 - 422)) | (1L << (T__465 - 422)) | (1L << (T__466 - 422)) | (1L << (T__467 - 422)) | (1L << (T__468 - 422)) | (1L << (T__469 - 422)) | (1L << (T__470 - 422)) | (1L << (T__471 - 422)) | (1L << (T__472 - 422)) | (1L << (T__473 - 422)) | (1L << (T__474 - 422)) | (1L << (T__475 - 422)) | (1L << (T__476 - 422)) | (1L << (T__477 - 422)) | (1L << (T__478 - 422)) | (1L << (T__479 - 422)) | (1L << (T__480 - 422)) | (1L << (T__481 - 422)) | (1L << (T__482 - 422)) | (1L << (T__483 - 422)) | (1L << (T__484 - 422)))) != 0) || ((((_la - 486)) & ~0x3f) == 0 && ((1L << (_la - 486)) & ((1L << (T__485 - 486)) | (1L << (T__486 - 486)) | (1L << (T__487 - 486)) | (1L << (T__488 - 486)) | (1L << (T__489 - 486)) | (1L << (T__490 - 486)) | (1L << (T__491 - 486)) | (1L << (T__492 - 486)) | (1L << (T__493 - 486)) | (1L << (T__494 - 486)) | (1L << (T__495 - 486)) | (1L << (T__496 - 486)) | (1L << (T__497 - 486)) | (1L << (T__498 - 486)) | (1L << (T__499 - 486)) | (1L << (T__500 - 486)) | (1L << (T__501 - 486)) | (1L << (T__502 - 486)) | (1L << (T__503 - 486)) | (1L << (T__504 - 486)) | (1L << (T__505 - 486)) | (1L << (T__506 - 486)) | (1L << (T__507 - 486)) | (1L << (T__508 - 486)) | (1L << (T__509 - 486)) | (1L << (T__510 - 486)) | (1L << (T__511 - 486)) | (1L << (T__512 - 486)) | (1L << (T__513 - 486)) | (1L << (T__514 - 486)) | (1L << (T__515 - 486)) | (1L << (T__516 - 486)) | (1L << (T__517 - 486)) | (1L << (T__518 - 486)) | (1L << (T__519 - 486)) | (1L << (T__520 - 486)) | (1L << (T__521 - 486)) | (1L << (T__522 - 486)) | (1L << (T__523 - 486)) | (1L << (T__524 - 486)) | (1L << (T__525 - 486)) | (1L << (T__526 - 486)) | (1L << (T__527 - 486)) | (1L << (T__528 - 486)) | (1L << (T__529 - 486)) | (1L << (T__530 - 486)) | (1L << (T__531 - 486)) | (1L << (T__532 - 486)) | (1L << (T__533 - 486)) | (1L << (T__534 - 486)) | (1L << (T__535 - 486)) | (1L << (T__536 - 486)) | (1L << (T__537 - 486)) | (1L << (T__538 - 486)) | (1L << (T__539 - 486)) | (1L << (T__540 - 486)) | (1L << (T__541 - 486)) | (1L << (T__542 - 486)))) != 0) || ((((_la - 551)) & ~0x3f) == 0 && ((1L << (_la - 551)) & ((1L << (IDENT - 551)) | (1L << (BIN_NUMBER - 551)) | (1L << (HEX_NUMBER - 551)) | (1L << (NUMBER - 551)))) != 0)) {
+					if (((((_la - 428)) & ~0x3f) == 0 && ((1L << (_la - 428)) & ((1L << (T__427 - 428)) | (1L << (T__429 - 428)) | (1L << (T__430 - 428)) | (1L << (T__431 - 428)) | (1L << (T__432 - 428)) | (1L << (T__433 - 428)) | (1L << (T__434 - 428)) | (1L << (T__435 - 428)) | (1L << (T__436 - 428)) | (1L << (T__437 - 428)) | (1L << (T__438 - 428)) | (1L << (T__439 - 428)) | (1L << (T__440 - 428)) | (1L << (T__441 - 428)) | (1L << (T__442 - 428)) | (1L << (T__443 - 428)) | (1L << (T__444 - 428)) | (1L << (T__445 - 428)) | (1L << (T__446 - 428)) | (1L << (T__447 - 428)) | (1L << (T__448 - 428)) | (1L << (T__449 - 428)) | (1L << (T__450 - 428)) | (1L << (T__451 - 428)) | (1L << (T__452 - 428)) | (1L << (T__453 - 428)) | (1L << (T__454 - 428)) | (1L << (T__455 - 428)) | (1L << (T__456 - 428)) | (1L << (T__457 - 428)) | (1L << (T__458 - 428)) | (1L << (T__459 - 428)) | (1L << (T__460 - 428)) | (1L << (T__461 - 428)) | (1L << (T__462 - 428)) | (1L << (T__463 - 428)) | (1L << (T__464 - 428)) | (1L << (T__465 - 428)) | (1L << (T__466 - 428)) | (1L << (T__467 - 428)) | (1L << (T__468 - 428)) | (1L << (T__469 - 428)) | (1L << (T__470 - 428)) | (1L << (T__471 - 428)) | (1L << (T__472 - 428)) | (1L << (T__473 - 428)) | (1L << (T__474 - 428)) | (1L << (T__475 - 428)) | (1L << (T__476 - 428)) | (1L << (T__477 - 428)) | (1L << (T__478 - 428)) | (1L << (T__479 - 428)) | (1L << (T__480 - 428)) | (1L << (T__481 - 428)) | (1L << (T__482 - 428)) | (1L << (T__483 - 428)) | (1L << (T__484 - 428)) | (1L << (T__485 - 428)) | (1L << (T__486 - 428)) | (1L << (T__487 - 428)) | (1L << (T__488 - 428)) | (1L << (T__489 - 428)) | (1L << (T__490 - 428)))) != 0) || ((((_la - 492)) & ~0x3f) == 0 && ((1L << (_la - 492)) & ((1L << (T__491 - 492)) | (1L << (T__492 - 492)) | (1L << (T__493 - 492)) | (1L << (T__494 - 492)) | (1L << (T__495 - 492)) | (1L << (T__496 - 492)) | (1L << (T__497 - 492)) | (1L << (T__498 - 492)) | (1L << (T__499 - 492)) | (1L << (T__500 - 492)) | (1L << (T__501 - 492)) | (1L << (T__502 - 492)) | (1L << (T__503 - 492)) | (1L << (T__504 - 492)) | (1L << (T__505 - 492)) | (1L << (T__506 - 492)) | (1L << (T__507 - 492)) | (1L << (T__508 - 492)) | (1L << (T__509 - 492)) | (1L << (T__510 - 492)) | (1L << (T__511 - 492)) | (1L << (T__512 - 492)) | (1L << (T__513 - 492)) | (1L << (T__514 - 492)) | (1L << (T__515 - 492)) | (1L << (T__516 - 492)) | (1L << (T__517 - 492)) | (1L << (T__518 - 492)) | (1L << (T__519 - 492)) | (1L << (T__520 - 492)) | (1L << (T__521 - 492)) | (1L << (T__522 - 492)) | (1L << (T__523 - 492)) | (1L << (T__524 - 492)) | (1L << (T__525 - 492)) | (1L << (T__526 - 492)) | (1L << (T__527 - 492)) | (1L << (T__528 - 492)) | (1L << (T__529 - 492)) | (1L << (T__530 - 492)) | (1L << (T__531 - 492)) | (1L << (T__532 - 492)) | (1L << (T__533 - 492)) | (1L << (T__534 - 492)) | (1L << (T__535 - 492)) | (1L << (T__536 - 492)) | (1L << (T__537 - 492)) | (1L << (T__538 - 492)) | (1L << (T__539 - 492)) | (1L << (T__540 - 492)) | (1L << (T__541 - 492)) | (1L << (T__542 - 492)) | (1L << (T__543 - 492)) | (1L << (T__544 - 492)) | (1L << (T__545 - 492)) | (1L << (T__546 - 492)) | (1L << (T__547 - 492)) | (1L << (T__548 - 492)))) != 0) || ((((_la - 557)) & ~0x3f) == 0 && ((1L << (_la - 557)) & ((1L << (IDENT - 557)) | (1L << (BIN_NUMBER - 557)) | (1L << (HEX_NUMBER - 557)) | (1L << (NUMBER - 557)))) != 0)) {
 						{
 						setState(399);
 						_localctx.operand = operand();
@@ -4160,20 +4181,20 @@ public class InlineAssemblyParser extends Parser {
 					setState(413);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
-					if (_la==T__79) {
+					if (_la==T__85) {
 						{
 						setState(404);
-						match(T__79);
+						match(T__85);
 						setState(405);
 						_localctx.operand = operand();
 						 offset = _localctx.operand.op; 
 						setState(411);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
-						if (_la==T__79) {
+						if (_la==T__85) {
 							{
 							setState(407);
-							match(T__79);
+							match(T__85);
 							setState(408);
 							_localctx.number = number();
 							 scale = (int) _localctx.number.n; 
@@ -4184,20 +4205,20 @@ public class InlineAssemblyParser extends Parser {
 					}
 
 					setState(415);
-					match(T__422);
+					match(T__428);
 					}
 				}
 
 				}
 				break;
-			case T__421:
+			case T__427:
 				{
 				setState(418);
-				match(T__421);
+				match(T__427);
 				setState(422);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if (((((_la - 422)) & ~0x3f) == 0 && ((1L << (_la - 422)) & ((1L << (T__421 - 422)) | (1L << (T__423 - 422)) | (1L << (T__424 - 422)) | (1L << (T__425 - 422)) | (1L << (T__426 - 422)) | (1L << (T__427 - 422)) | (1L << (T__428 - 422)) | (1L << (T__429 - 422)) | (1L << (T__430 - 422)) | (1L << (T__431 - 422)) | (1L << (T__432 - 422)) | (1L << (T__433 - 422)) | (1L << (T__434 - 422)) | (1L << (T__435 - 422)) | (1L << (T__436 - 422)) | (1L << (T__437 - 422)) | (1L << (T__438 - 422)) | (1L << (T__439 - 422)) | (1L << (T__440 - 422)) | (1L << (T__441 - 422)) | (1L << (T__442 - 422)) | (1L << (T__443 - 422)) | (1L << (T__444 - 422)) | (1L << (T__445 - 422)) | (1L << (T__446 - 422)) | (1L << (T__447 - 422)) | (1L << (T__448 - 422)) | (1L << (T__449 - 422)) | (1L << (T__450 - 422)) | (1L << (T__451 - 422)) | (1L << (T__452 - 422)) | (1L << (T__453 - 422)) | (1L << (T__454 - 422)) | (1L << (T__455 - 422)) | (1L << (T__456 - 422)) | (1L << (T__457 - 422)) | (1L << (T__458 - 422)) | (1L << (T__459 - 422)) | (1L << (T__460 - 422)) | (1L << (T__461 - 422)) | (1L << (T__462 - 422)) | (1L << (T__463 - 422)) | (1L << (T__464 - 422)) | (1L << (T__465 - 422)) | (1L << (T__466 - 422)) | (1L << (T__467 - 422)) | (1L << (T__468 - 422)) | (1L << (T__469 - 422)) | (1L << (T__470 - 422)) | (1L << (T__471 - 422)) | (1L << (T__472 - 422)) | (1L << (T__473 - 422)) | (1L << (T__474 - 422)) | (1L << (T__475 - 422)) | (1L << (T__476 - 422)) | (1L << (T__477 - 422)) | (1L << (T__478 - 422)) | (1L << (T__479 - 422)) | (1L << (T__480 - 422)) | (1L << (T__481 - 422)) | (1L << (T__482 - 422)) | (1L << (T__483 - 422)) | (1L << (T__484 - 422)))) != 0) || ((((_la - 486)) & ~0x3f) == 0 && ((1L << (_la - 486)) & ((1L << (T__485 - 486)) | (1L << (T__486 - 486)) | (1L << (T__487 - 486)) | (1L << (T__488 - 486)) | (1L << (T__489 - 486)) | (1L << (T__490 - 486)) | (1L << (T__491 - 486)) | (1L << (T__492 - 486)) | (1L << (T__493 - 486)) | (1L << (T__494 - 486)) | (1L << (T__495 - 486)) | (1L << (T__496 - 486)) | (1L << (T__497 - 486)) | (1L << (T__498 - 486)) | (1L << (T__499 - 486)) | (1L << (T__500 - 486)) | (1L << (T__501 - 486)) | (1L << (T__502 - 486)) | (1L << (T__503 - 486)) | (1L << (T__504 - 486)) | (1L << (T__505 - 486)) | (1L << (T__506 - 486)) | (1L << (T__507 - 486)) | (1L << (T__508 - 486)) | (1L << (T__509 - 486)) | (1L << (T__510 - 486)) | (1L << (T__511 - 486)) | (1L << (T__512 - 486)) | (1L << (T__513 - 486)) | (1L << (T__514 - 486)) | (1L << (T__515 - 486)) | (1L << (T__516 - 486)) | (1L << (T__517 - 486)) | (1L << (T__518 - 486)) | (1L << (T__519 - 486)) | (1L << (T__520 - 486)) | (1L << (T__521 - 486)) | (1L << (T__522 - 486)) | (1L << (T__523 - 486)) | (1L << (T__524 - 486)) | (1L << (T__525 - 486)) | (1L << (T__526 - 486)) | (1L << (T__527 - 486)) | (1L << (T__528 - 486)) | (1L << (T__529 - 486)) | (1L << (T__530 - 486)) | (1L << (T__531 - 486)) | (1L << (T__532 - 486)) | (1L << (T__533 - 486)) | (1L << (T__534 - 486)) | (1L << (T__535 - 486)) | (1L << (T__536 - 486)) | (1L << (T__537 - 486)) | (1L << (T__538 - 486)) | (1L << (T__539 - 486)) | (1L << (T__540 - 486)) | (1L << (T__541 - 486)) | (1L << (T__542 - 486)))) != 0) || ((((_la - 551)) & ~0x3f) == 0 && ((1L << (_la - 551)) & ((1L << (IDENT - 551)) | (1L << (BIN_NUMBER - 551)) | (1L << (HEX_NUMBER - 551)) | (1L << (NUMBER - 551)))) != 0)) {
+				if (((((_la - 428)) & ~0x3f) == 0 && ((1L << (_la - 428)) & ((1L << (T__427 - 428)) | (1L << (T__429 - 428)) | (1L << (T__430 - 428)) | (1L << (T__431 - 428)) | (1L << (T__432 - 428)) | (1L << (T__433 - 428)) | (1L << (T__434 - 428)) | (1L << (T__435 - 428)) | (1L << (T__436 - 428)) | (1L << (T__437 - 428)) | (1L << (T__438 - 428)) | (1L << (T__439 - 428)) | (1L << (T__440 - 428)) | (1L << (T__441 - 428)) | (1L << (T__442 - 428)) | (1L << (T__443 - 428)) | (1L << (T__444 - 428)) | (1L << (T__445 - 428)) | (1L << (T__446 - 428)) | (1L << (T__447 - 428)) | (1L << (T__448 - 428)) | (1L << (T__449 - 428)) | (1L << (T__450 - 428)) | (1L << (T__451 - 428)) | (1L << (T__452 - 428)) | (1L << (T__453 - 428)) | (1L << (T__454 - 428)) | (1L << (T__455 - 428)) | (1L << (T__456 - 428)) | (1L << (T__457 - 428)) | (1L << (T__458 - 428)) | (1L << (T__459 - 428)) | (1L << (T__460 - 428)) | (1L << (T__461 - 428)) | (1L << (T__462 - 428)) | (1L << (T__463 - 428)) | (1L << (T__464 - 428)) | (1L << (T__465 - 428)) | (1L << (T__466 - 428)) | (1L << (T__467 - 428)) | (1L << (T__468 - 428)) | (1L << (T__469 - 428)) | (1L << (T__470 - 428)) | (1L << (T__471 - 428)) | (1L << (T__472 - 428)) | (1L << (T__473 - 428)) | (1L << (T__474 - 428)) | (1L << (T__475 - 428)) | (1L << (T__476 - 428)) | (1L << (T__477 - 428)) | (1L << (T__478 - 428)) | (1L << (T__479 - 428)) | (1L << (T__480 - 428)) | (1L << (T__481 - 428)) | (1L << (T__482 - 428)) | (1L << (T__483 - 428)) | (1L << (T__484 - 428)) | (1L << (T__485 - 428)) | (1L << (T__486 - 428)) | (1L << (T__487 - 428)) | (1L << (T__488 - 428)) | (1L << (T__489 - 428)) | (1L << (T__490 - 428)))) != 0) || ((((_la - 492)) & ~0x3f) == 0 && ((1L << (_la - 492)) & ((1L << (T__491 - 492)) | (1L << (T__492 - 492)) | (1L << (T__493 - 492)) | (1L << (T__494 - 492)) | (1L << (T__495 - 492)) | (1L << (T__496 - 492)) | (1L << (T__497 - 492)) | (1L << (T__498 - 492)) | (1L << (T__499 - 492)) | (1L << (T__500 - 492)) | (1L << (T__501 - 492)) | (1L << (T__502 - 492)) | (1L << (T__503 - 492)) | (1L << (T__504 - 492)) | (1L << (T__505 - 492)) | (1L << (T__506 - 492)) | (1L << (T__507 - 492)) | (1L << (T__508 - 492)) | (1L << (T__509 - 492)) | (1L << (T__510 - 492)) | (1L << (T__511 - 492)) | (1L << (T__512 - 492)) | (1L << (T__513 - 492)) | (1L << (T__514 - 492)) | (1L << (T__515 - 492)) | (1L << (T__516 - 492)) | (1L << (T__517 - 492)) | (1L << (T__518 - 492)) | (1L << (T__519 - 492)) | (1L << (T__520 - 492)) | (1L << (T__521 - 492)) | (1L << (T__522 - 492)) | (1L << (T__523 - 492)) | (1L << (T__524 - 492)) | (1L << (T__525 - 492)) | (1L << (T__526 - 492)) | (1L << (T__527 - 492)) | (1L << (T__528 - 492)) | (1L << (T__529 - 492)) | (1L << (T__530 - 492)) | (1L << (T__531 - 492)) | (1L << (T__532 - 492)) | (1L << (T__533 - 492)) | (1L << (T__534 - 492)) | (1L << (T__535 - 492)) | (1L << (T__536 - 492)) | (1L << (T__537 - 492)) | (1L << (T__538 - 492)) | (1L << (T__539 - 492)) | (1L << (T__540 - 492)) | (1L << (T__541 - 492)) | (1L << (T__542 - 492)) | (1L << (T__543 - 492)) | (1L << (T__544 - 492)) | (1L << (T__545 - 492)) | (1L << (T__546 - 492)) | (1L << (T__547 - 492)) | (1L << (T__548 - 492)))) != 0) || ((((_la - 557)) & ~0x3f) == 0 && ((1L << (_la - 557)) & ((1L << (IDENT - 557)) | (1L << (BIN_NUMBER - 557)) | (1L << (HEX_NUMBER - 557)) | (1L << (NUMBER - 557)))) != 0)) {
 					{
 					setState(419);
 					_localctx.operand = operand();
@@ -4208,20 +4229,20 @@ public class InlineAssemblyParser extends Parser {
 				setState(433);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if (_la==T__79) {
+				if (_la==T__85) {
 					{
 					setState(424);
-					match(T__79);
+					match(T__85);
 					setState(425);
 					_localctx.operand = operand();
 					 offset = _localctx.operand.op; 
 					setState(431);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
-					if (_la==T__79) {
+					if (_la==T__85) {
 						{
 						setState(427);
-						match(T__79);
+						match(T__85);
 						setState(428);
 						_localctx.number = number();
 						 scale = (int) _localctx.number.n; 
@@ -4232,7 +4253,7 @@ public class InlineAssemblyParser extends Parser {
 				}
 
 				setState(435);
-				match(T__422);
+				match(T__428);
 				}
 				break;
 			default:
@@ -4271,7 +4292,7 @@ public class InlineAssemblyParser extends Parser {
 			setState(440);
 			((Register8Context)_localctx).r = _input.LT(1);
 			_la = _input.LA(1);
-			if ( !(((((_la - 424)) & ~0x3f) == 0 && ((1L << (_la - 424)) & ((1L << (T__423 - 424)) | (1L << (T__424 - 424)) | (1L << (T__425 - 424)) | (1L << (T__426 - 424)) | (1L << (T__427 - 424)) | (1L << (T__428 - 424)) | (1L << (T__429 - 424)) | (1L << (T__430 - 424)) | (1L << (T__431 - 424)) | (1L << (T__432 - 424)) | (1L << (T__433 - 424)) | (1L << (T__434 - 424)) | (1L << (T__435 - 424)) | (1L << (T__436 - 424)) | (1L << (T__437 - 424)) | (1L << (T__438 - 424)) | (1L << (T__439 - 424)) | (1L << (T__440 - 424)) | (1L << (T__441 - 424)) | (1L << (T__442 - 424)) | (1L << (T__443 - 424)) | (1L << (T__444 - 424)) | (1L << (T__445 - 424)) | (1L << (T__446 - 424)))) != 0)) ) {
+			if ( !(((((_la - 430)) & ~0x3f) == 0 && ((1L << (_la - 430)) & ((1L << (T__429 - 430)) | (1L << (T__430 - 430)) | (1L << (T__431 - 430)) | (1L << (T__432 - 430)) | (1L << (T__433 - 430)) | (1L << (T__434 - 430)) | (1L << (T__435 - 430)) | (1L << (T__436 - 430)) | (1L << (T__437 - 430)) | (1L << (T__438 - 430)) | (1L << (T__439 - 430)) | (1L << (T__440 - 430)) | (1L << (T__441 - 430)) | (1L << (T__442 - 430)) | (1L << (T__443 - 430)) | (1L << (T__444 - 430)) | (1L << (T__445 - 430)) | (1L << (T__446 - 430)) | (1L << (T__447 - 430)) | (1L << (T__448 - 430)) | (1L << (T__449 - 430)) | (1L << (T__450 - 430)) | (1L << (T__451 - 430)) | (1L << (T__452 - 430)))) != 0)) ) {
 				((Register8Context)_localctx).r = _errHandler.recoverInline(this);
 			}
 			else {
@@ -4312,7 +4333,7 @@ public class InlineAssemblyParser extends Parser {
 			setState(443);
 			((Register16Context)_localctx).r = _input.LT(1);
 			_la = _input.LA(1);
-			if ( !(((((_la - 448)) & ~0x3f) == 0 && ((1L << (_la - 448)) & ((1L << (T__447 - 448)) | (1L << (T__448 - 448)) | (1L << (T__449 - 448)) | (1L << (T__450 - 448)) | (1L << (T__451 - 448)) | (1L << (T__452 - 448)) | (1L << (T__453 - 448)) | (1L << (T__454 - 448)) | (1L << (T__455 - 448)) | (1L << (T__456 - 448)) | (1L << (T__457 - 448)) | (1L << (T__458 - 448)) | (1L << (T__459 - 448)) | (1L << (T__460 - 448)) | (1L << (T__461 - 448)) | (1L << (T__462 - 448)) | (1L << (T__463 - 448)) | (1L << (T__464 - 448)) | (1L << (T__465 - 448)) | (1L << (T__466 - 448)) | (1L << (T__467 - 448)) | (1L << (T__468 - 448)) | (1L << (T__469 - 448)) | (1L << (T__470 - 448)))) != 0)) ) {
+			if ( !(((((_la - 454)) & ~0x3f) == 0 && ((1L << (_la - 454)) & ((1L << (T__453 - 454)) | (1L << (T__454 - 454)) | (1L << (T__455 - 454)) | (1L << (T__456 - 454)) | (1L << (T__457 - 454)) | (1L << (T__458 - 454)) | (1L << (T__459 - 454)) | (1L << (T__460 - 454)) | (1L << (T__461 - 454)) | (1L << (T__462 - 454)) | (1L << (T__463 - 454)) | (1L << (T__464 - 454)) | (1L << (T__465 - 454)) | (1L << (T__466 - 454)) | (1L << (T__467 - 454)) | (1L << (T__468 - 454)) | (1L << (T__469 - 454)) | (1L << (T__470 - 454)) | (1L << (T__471 - 454)) | (1L << (T__472 - 454)) | (1L << (T__473 - 454)) | (1L << (T__474 - 454)) | (1L << (T__475 - 454)) | (1L << (T__476 - 454)))) != 0)) ) {
 				((Register16Context)_localctx).r = _errHandler.recoverInline(this);
 			}
 			else {
@@ -4353,7 +4374,7 @@ public class InlineAssemblyParser extends Parser {
 			setState(446);
 			((Register32Context)_localctx).r = _input.LT(1);
 			_la = _input.LA(1);
-			if ( !(((((_la - 472)) & ~0x3f) == 0 && ((1L << (_la - 472)) & ((1L << (T__471 - 472)) | (1L << (T__472 - 472)) | (1L << (T__473 - 472)) | (1L << (T__474 - 472)) | (1L << (T__475 - 472)) | (1L << (T__476 - 472)) | (1L << (T__477 - 472)) | (1L << (T__478 - 472)) | (1L << (T__479 - 472)) | (1L << (T__480 - 472)) | (1L << (T__481 - 472)) | (1L << (T__482 - 472)) | (1L << (T__483 - 472)) | (1L << (T__484 - 472)) | (1L << (T__485 - 472)) | (1L << (T__486 - 472)) | (1L << (T__487 - 472)) | (1L << (T__488 - 472)) | (1L << (T__489 - 472)) | (1L << (T__490 - 472)) | (1L << (T__491 - 472)) | (1L << (T__492 - 472)) | (1L << (T__493 - 472)) | (1L << (T__494 - 472)))) != 0)) ) {
+			if ( !(((((_la - 478)) & ~0x3f) == 0 && ((1L << (_la - 478)) & ((1L << (T__477 - 478)) | (1L << (T__478 - 478)) | (1L << (T__479 - 478)) | (1L << (T__480 - 478)) | (1L << (T__481 - 478)) | (1L << (T__482 - 478)) | (1L << (T__483 - 478)) | (1L << (T__484 - 478)) | (1L << (T__485 - 478)) | (1L << (T__486 - 478)) | (1L << (T__487 - 478)) | (1L << (T__488 - 478)) | (1L << (T__489 - 478)) | (1L << (T__490 - 478)) | (1L << (T__491 - 478)) | (1L << (T__492 - 478)) | (1L << (T__493 - 478)) | (1L << (T__494 - 478)) | (1L << (T__495 - 478)) | (1L << (T__496 - 478)) | (1L << (T__497 - 478)) | (1L << (T__498 - 478)) | (1L << (T__499 - 478)) | (1L << (T__500 - 478)))) != 0)) ) {
 				((Register32Context)_localctx).r = _errHandler.recoverInline(this);
 			}
 			else {
@@ -4394,7 +4415,7 @@ public class InlineAssemblyParser extends Parser {
 			setState(449);
 			((Register64Context)_localctx).r = _input.LT(1);
 			_la = _input.LA(1);
-			if ( !(((((_la - 496)) & ~0x3f) == 0 && ((1L << (_la - 496)) & ((1L << (T__495 - 496)) | (1L << (T__496 - 496)) | (1L << (T__497 - 496)) | (1L << (T__498 - 496)) | (1L << (T__499 - 496)) | (1L << (T__500 - 496)) | (1L << (T__501 - 496)) | (1L << (T__502 - 496)) | (1L << (T__503 - 496)) | (1L << (T__504 - 496)) | (1L << (T__505 - 496)) | (1L << (T__506 - 496)) | (1L << (T__507 - 496)) | (1L << (T__508 - 496)) | (1L << (T__509 - 496)) | (1L << (T__510 - 496)) | (1L << (T__511 - 496)) | (1L << (T__512 - 496)) | (1L << (T__513 - 496)) | (1L << (T__514 - 496)) | (1L << (T__515 - 496)) | (1L << (T__516 - 496)) | (1L << (T__517 - 496)) | (1L << (T__518 - 496)))) != 0)) ) {
+			if ( !(((((_la - 502)) & ~0x3f) == 0 && ((1L << (_la - 502)) & ((1L << (T__501 - 502)) | (1L << (T__502 - 502)) | (1L << (T__503 - 502)) | (1L << (T__504 - 502)) | (1L << (T__505 - 502)) | (1L << (T__506 - 502)) | (1L << (T__507 - 502)) | (1L << (T__508 - 502)) | (1L << (T__509 - 502)) | (1L << (T__510 - 502)) | (1L << (T__511 - 502)) | (1L << (T__512 - 502)) | (1L << (T__513 - 502)) | (1L << (T__514 - 502)) | (1L << (T__515 - 502)) | (1L << (T__516 - 502)) | (1L << (T__517 - 502)) | (1L << (T__518 - 502)) | (1L << (T__519 - 502)) | (1L << (T__520 - 502)) | (1L << (T__521 - 502)) | (1L << (T__522 - 502)) | (1L << (T__523 - 502)) | (1L << (T__524 - 502)))) != 0)) ) {
 				((Register64Context)_localctx).r = _errHandler.recoverInline(this);
 			}
 			else {
@@ -4435,7 +4456,7 @@ public class InlineAssemblyParser extends Parser {
 			setState(452);
 			_localctx.r = _input.LT(1);
 			_la = _input.LA(1);
-			if ( !(((((_la - 520)) & ~0x3f) == 0 && ((1L << (_la - 520)) & ((1L << (T__519 - 520)) | (1L << (T__520 - 520)) | (1L << (T__521 - 520)) | (1L << (T__522 - 520)) | (1L << (T__523 - 520)) | (1L << (T__524 - 520)) | (1L << (T__525 - 520)) | (1L << (T__526 - 520)) | (1L << (T__527 - 520)) | (1L << (T__528 - 520)) | (1L << (T__529 - 520)) | (1L << (T__530 - 520)) | (1L << (T__531 - 520)) | (1L << (T__532 - 520)) | (1L << (T__533 - 520)) | (1L << (T__534 - 520)))) != 0)) ) {
+			if ( !(((((_la - 526)) & ~0x3f) == 0 && ((1L << (_la - 526)) & ((1L << (T__525 - 526)) | (1L << (T__526 - 526)) | (1L << (T__527 - 526)) | (1L << (T__528 - 526)) | (1L << (T__529 - 526)) | (1L << (T__530 - 526)) | (1L << (T__531 - 526)) | (1L << (T__532 - 526)) | (1L << (T__533 - 526)) | (1L << (T__534 - 526)) | (1L << (T__535 - 526)) | (1L << (T__536 - 526)) | (1L << (T__537 - 526)) | (1L << (T__538 - 526)) | (1L << (T__539 - 526)) | (1L << (T__540 - 526)))) != 0)) ) {
 				_localctx.r = _errHandler.recoverInline(this);
 			}
 			else {
@@ -4476,7 +4497,7 @@ public class InlineAssemblyParser extends Parser {
 			setState(455);
 			_localctx.r = _input.LT(1);
 			_la = _input.LA(1);
-			if ( !(((((_la - 536)) & ~0x3f) == 0 && ((1L << (_la - 536)) & ((1L << (T__535 - 536)) | (1L << (T__536 - 536)) | (1L << (T__537 - 536)) | (1L << (T__538 - 536)) | (1L << (T__539 - 536)) | (1L << (T__540 - 536)))) != 0)) ) {
+			if ( !(((((_la - 542)) & ~0x3f) == 0 && ((1L << (_la - 542)) & ((1L << (T__541 - 542)) | (1L << (T__542 - 542)) | (1L << (T__543 - 542)) | (1L << (T__544 - 542)) | (1L << (T__545 - 542)) | (1L << (T__546 - 542)))) != 0)) ) {
 				_localctx.r = _errHandler.recoverInline(this);
 			}
 			else {
@@ -4575,7 +4596,7 @@ public class InlineAssemblyParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			setState(466);
-			match(T__541);
+			match(T__547);
 			setState(467);
 			_localctx.number = number();
 			 _localctx.op =  new AsmImmediateOperand(_localctx.number.n); 
@@ -4611,7 +4632,7 @@ public class InlineAssemblyParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			setState(470);
-			match(T__542);
+			match(T__548);
 			setState(493);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
@@ -4624,50 +4645,50 @@ public class InlineAssemblyParser extends Parser {
 				 _localctx.op =  new AsmArgumentOperand((int) _localctx.n.n); 
 				}
 				break;
-			case T__543:
+			case T__549:
 				{
 				setState(474);
-				match(T__543);
+				match(T__549);
 				setState(475);
 				_localctx.n = number();
 				setState(476);
-				match(T__420);
+				match(T__426);
 				 int size = -1; int shift = 0; 
 				setState(488);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
-				case T__544:
+				case T__550:
 					{
 					setState(478);
-					match(T__544);
+					match(T__550);
 					 size = 8; 
 					}
 					break;
-				case T__545:
+				case T__551:
 					{
 					setState(480);
-					match(T__545);
+					match(T__551);
 					 size = 8; shift = 8; 
 					}
 					break;
-				case T__546:
+				case T__552:
 					{
 					setState(482);
-					match(T__546);
+					match(T__552);
 					 size = 16; 
 					}
 					break;
-				case T__547:
+				case T__553:
 					{
 					setState(484);
-					match(T__547);
+					match(T__553);
 					 size = 32; 
 					}
 					break;
-				case T__548:
+				case T__554:
 					{
 					setState(486);
-					match(T__548);
+					match(T__554);
 					 size = 64; 
 					}
 					break;
@@ -4676,7 +4697,7 @@ public class InlineAssemblyParser extends Parser {
 				}
 				 _localctx.op =  new AsmArgumentOperand((int) _localctx.n.n, size, shift); 
 				setState(491);
-				match(T__549);
+				match(T__555);
 				}
 				break;
 			default:
@@ -4696,7 +4717,7 @@ public class InlineAssemblyParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\u022d\u01f2\4\2\t"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\u0233\u01f2\4\2\t"+
 		"\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
 		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
@@ -4733,155 +4754,155 @@ public class InlineAssemblyParser extends Parser {
 		"\5\37\u01d3\n\37\3 \3 \3 \3 \3!\3!\3!\3!\3!\3!\3!\3!\3!\3!\3!\3!\3!\3"+
 		"!\3!\3!\3!\3!\5!\u01eb\n!\3!\3!\3!\5!\u01f0\n!\3!\2\2\"\2\4\6\b\n\f\16"+
 		"\20\22\24\26\30\32\34\36 \"$&(*,.\60\62\64\668:<>@\2#\3\2\4\5\3\2\6\13"+
-		"\3\2\r\63\3\2\64O\3\2PQ\3\2ST\3\2UV\3\2WX\3\2YZ\3\2[`\3\2ah\3\2iq\3\2"+
-		"rz\3\2{\u00a3\3\2\u00a4\u00b8\3\2\u00b9\u00e9\3\2\u00ea\u00f1\3\2\u00f2"+
-		"\u00f3\3\2\u00f4\u0124\3\2\u0125\u012c\3\2\u012d\u012e\3\2\u012f\u0130"+
-		"\3\2\u0131\u0161\3\2\u0162\u0169\3\2\u016a\u016b\3\2\u016c\u016d\3\2\u016f"+
-		"\u01a6\3\2\u01aa\u01c1\3\2\u01c2\u01d9\3\2\u01da\u01f1\3\2\u01f2\u0209"+
-		"\3\2\u020a\u0219\3\2\u021a\u021f\2\u021f\2B\3\2\2\2\4]\3\2\2\2\6n\3\2"+
-		"\2\2\bp\3\2\2\2\nt\3\2\2\2\fw\3\2\2\2\16\u00c0\3\2\2\2\20\u00c2\3\2\2"+
-		"\2\22\u00c6\3\2\2\2\24\u00ca\3\2\2\2\26\u00ce\3\2\2\2\30\u00d2\3\2\2\2"+
-		"\32\u00d6\3\2\2\2\34\u00ee\3\2\2\2\36\u0108\3\2\2\2 \u0128\3\2\2\2\"\u012a"+
-		"\3\2\2\2$\u013c\3\2\2\2&\u014a\3\2\2\2(\u0158\3\2\2\2*\u0166\3\2\2\2,"+
-		"\u0180\3\2\2\2.\u0182\3\2\2\2\60\u01ba\3\2\2\2\62\u01bd\3\2\2\2\64\u01c0"+
-		"\3\2\2\2\66\u01c3\3\2\2\28\u01c6\3\2\2\2:\u01c9\3\2\2\2<\u01d2\3\2\2\2"+
-		">\u01d4\3\2\2\2@\u01d8\3\2\2\2BX\7\3\2\2CE\5\4\3\2DF\7\4\2\2ED\3\2\2\2"+
-		"EF\3\2\2\2FI\3\2\2\2GI\b\2\1\2HC\3\2\2\2HG\3\2\2\2IJ\3\2\2\2JU\5\6\4\2"+
-		"KN\t\2\2\2LO\5\4\3\2MO\b\2\1\2NL\3\2\2\2NM\3\2\2\2OQ\3\2\2\2PR\5\6\4\2"+
-		"QP\3\2\2\2QR\3\2\2\2RT\3\2\2\2SK\3\2\2\2TW\3\2\2\2US\3\2\2\2UV\3\2\2\2"+
-		"VY\3\2\2\2WU\3\2\2\2XH\3\2\2\2XY\3\2\2\2YZ\3\2\2\2Z[\7\3\2\2[\\\b\2\1"+
-		"\2\\\3\3\2\2\2]^\t\3\2\2^_\b\3\1\2_\5\3\2\2\2`o\5\f\7\2ao\5\20\t\2bo\5"+
-		"\22\n\2co\5\24\13\2do\5\26\f\2eo\5\30\r\2fo\5\32\16\2go\5\34\17\2ho\5"+
-		"\36\20\2io\5 \21\2jo\5\"\22\2ko\5\16\b\2lo\5\n\6\2mo\5\b\5\2n`\3\2\2\2"+
-		"na\3\2\2\2nb\3\2\2\2nc\3\2\2\2nd\3\2\2\2ne\3\2\2\2nf\3\2\2\2ng\3\2\2\2"+
-		"nh\3\2\2\2ni\3\2\2\2nj\3\2\2\2nk\3\2\2\2nl\3\2\2\2nm\3\2\2\2o\7\3\2\2"+
-		"\2pq\7\f\2\2qr\5> \2rs\b\5\1\2s\t\3\2\2\2tu\t\4\2\2uv\5*\26\2v\13\3\2"+
-		"\2\2wx\t\5\2\2xy\b\7\1\2y\r\3\2\2\2z{\t\6\2\2{\u0086\5$\23\2|\u0087\b"+
-		"\b\1\2}~\7R\2\2~\u0084\5$\23\2\177\u0085\b\b\1\2\u0080\u0081\7R\2\2\u0081"+
-		"\u0082\5$\23\2\u0082\u0083\b\b\1\2\u0083\u0085\3\2\2\2\u0084\177\3\2\2"+
-		"\2\u0084\u0080\3\2\2\2\u0085\u0087\3\2\2\2\u0086|\3\2\2\2\u0086}\3\2\2"+
-		"\2\u0087\u00c1\3\2\2\2\u0088\u0089\t\7\2\2\u0089\u0094\5&\24\2\u008a\u0095"+
-		"\b\b\1\2\u008b\u008c\7R\2\2\u008c\u0092\5&\24\2\u008d\u0093\b\b\1\2\u008e"+
-		"\u008f\7R\2\2\u008f\u0090\5&\24\2\u0090\u0091\b\b\1\2\u0091\u0093\3\2"+
-		"\2\2\u0092\u008d\3\2\2\2\u0092\u008e\3\2\2\2\u0093\u0095\3\2\2\2\u0094"+
-		"\u008a\3\2\2\2\u0094\u008b\3\2\2\2\u0095\u00c1\3\2\2\2\u0096\u0097\t\b"+
-		"\2\2\u0097\u00a2\5(\25\2\u0098\u00a3\b\b\1\2\u0099\u009a\7R\2\2\u009a"+
-		"\u00a0\5(\25\2\u009b\u00a1\b\b\1\2\u009c\u009d\7R\2\2\u009d\u009e\5(\25"+
-		"\2\u009e\u009f\b\b\1\2\u009f\u00a1\3\2\2\2\u00a0\u009b\3\2\2\2\u00a0\u009c"+
-		"\3\2\2\2\u00a1\u00a3\3\2\2\2\u00a2\u0098\3\2\2\2\u00a2\u0099\3\2\2\2\u00a3"+
-		"\u00c1\3\2\2\2\u00a4\u00a5\t\t\2\2\u00a5\u00b0\5*\26\2\u00a6\u00b1\b\b"+
-		"\1\2\u00a7\u00a8\7R\2\2\u00a8\u00ae\5*\26\2\u00a9\u00af\b\b\1\2\u00aa"+
-		"\u00ab\7R\2\2\u00ab\u00ac\5*\26\2\u00ac\u00ad\b\b\1\2\u00ad\u00af\3\2"+
-		"\2\2\u00ae\u00a9\3\2\2\2\u00ae\u00aa\3\2\2\2\u00af\u00b1\3\2\2\2\u00b0"+
-		"\u00a6\3\2\2\2\u00b0\u00a7\3\2\2\2\u00b1\u00c1\3\2\2\2\u00b2\u00b3\t\n"+
-		"\2\2\u00b3\u00be\5,\27\2\u00b4\u00bf\b\b\1\2\u00b5\u00b6\7R\2\2\u00b6"+
-		"\u00bc\5,\27\2\u00b7\u00bd\b\b\1\2\u00b8\u00b9\7R\2\2\u00b9\u00ba\5,\27"+
-		"\2\u00ba\u00bb\b\b\1\2\u00bb\u00bd\3\2\2\2\u00bc\u00b7\3\2\2\2\u00bc\u00b8"+
-		"\3\2\2\2\u00bd\u00bf\3\2\2\2\u00be\u00b4\3\2\2\2\u00be\u00b5\3\2\2\2\u00bf"+
-		"\u00c1\3\2\2\2\u00c0z\3\2\2\2\u00c0\u0088\3\2\2\2\u00c0\u0096\3\2\2\2"+
-		"\u00c0\u00a4\3\2\2\2\u00c0\u00b2\3\2\2\2\u00c1\17\3\2\2\2\u00c2\u00c3"+
-		"\t\13\2\2\u00c3\u00c4\5$\23\2\u00c4\u00c5\b\t\1\2\u00c5\21\3\2\2\2\u00c6"+
-		"\u00c7\t\f\2\2\u00c7\u00c8\5&\24\2\u00c8\u00c9\b\n\1\2\u00c9\23\3\2\2"+
-		"\2\u00ca\u00cb\t\r\2\2\u00cb\u00cc\5(\25\2\u00cc\u00cd\b\13\1\2\u00cd"+
-		"\25\3\2\2\2\u00ce\u00cf\t\16\2\2\u00cf\u00d0\5*\26\2\u00d0\u00d1\b\f\1"+
-		"\2\u00d1\27\3\2\2\2\u00d2\u00d3\t\17\2\2\u00d3\u00d4\5,\27\2\u00d4\u00d5"+
-		"\b\r\1\2\u00d5\31\3\2\2\2\u00d6\u00d7\t\20\2\2\u00d7\u00d8\5$\23\2\u00d8"+
-		"\u00d9\7R\2\2\u00d9\u00da\5$\23\2\u00da\u00db\b\16\1\2\u00db\33\3\2\2"+
-		"\2\u00dc\u00dd\t\21\2\2\u00dd\u00de\5&\24\2\u00de\u00df\7R\2\2\u00df\u00e0"+
-		"\5&\24\2\u00e0\u00e1\b\17\1\2\u00e1\u00ef\3\2\2\2\u00e2\u00e3\t\22\2\2"+
-		"\u00e3\u00e4\5$\23\2\u00e4\u00e5\7R\2\2\u00e5\u00e6\5&\24\2\u00e6\u00e7"+
-		"\b\17\1\2\u00e7\u00ef\3\2\2\2\u00e8\u00e9\t\23\2\2\u00e9\u00ea\5$\23\2"+
-		"\u00ea\u00eb\7R\2\2\u00eb\u00ec\5&\24\2\u00ec\u00ed\b\17\1\2\u00ed\u00ef"+
-		"\3\2\2\2\u00ee\u00dc\3\2\2\2\u00ee\u00e2\3\2\2\2\u00ee\u00e8\3\2\2\2\u00ef"+
-		"\35\3\2\2\2\u00f0\u00f1\t\24\2\2\u00f1\u00f2\5(\25\2\u00f2\u00f3\7R\2"+
-		"\2\u00f3\u00f4\5(\25\2\u00f4\u00f5\b\20\1\2\u00f5\u0109\3\2\2\2\u00f6"+
-		"\u00f7\t\25\2\2\u00f7\u00f8\5$\23\2\u00f8\u00f9\7R\2\2\u00f9\u00fa\5("+
-		"\25\2\u00fa\u00fb\b\20\1\2\u00fb\u0109\3\2\2\2\u00fc\u00fd\t\26\2\2\u00fd"+
-		"\u00fe\5$\23\2\u00fe\u00ff\7R\2\2\u00ff\u0100\5(\25\2\u0100\u0101\b\20"+
-		"\1\2\u0101\u0109\3\2\2\2\u0102\u0103\t\27\2\2\u0103\u0104\5&\24\2\u0104"+
-		"\u0105\7R\2\2\u0105\u0106\5(\25\2\u0106\u0107\b\20\1\2\u0107\u0109\3\2"+
-		"\2\2\u0108\u00f0\3\2\2\2\u0108\u00f6\3\2\2\2\u0108\u00fc\3\2\2\2\u0108"+
-		"\u0102\3\2\2\2\u0109\37\3\2\2\2\u010a\u010b\t\30\2\2\u010b\u010c\5*\26"+
-		"\2\u010c\u010d\7R\2\2\u010d\u010e\5*\26\2\u010e\u010f\b\21\1\2\u010f\u0129"+
-		"\3\2\2\2\u0110\u0111\t\31\2\2\u0111\u0112\5$\23\2\u0112\u0113\7R\2\2\u0113"+
-		"\u0114\5*\26\2\u0114\u0115\b\21\1\2\u0115\u0129\3\2\2\2\u0116\u0117\t"+
-		"\32\2\2\u0117\u0118\5$\23\2\u0118\u0119\7R\2\2\u0119\u011a\5*\26\2\u011a"+
-		"\u011b\b\21\1\2\u011b\u0129\3\2\2\2\u011c\u011d\t\33\2\2\u011d\u011e\5"+
-		"&\24\2\u011e\u011f\7R\2\2\u011f\u0120\5*\26\2\u0120\u0121\b\21\1\2\u0121"+
-		"\u0129\3\2\2\2\u0122\u0123\7\u016e\2\2\u0123\u0124\5(\25\2\u0124\u0125"+
-		"\7R\2\2\u0125\u0126\5*\26\2\u0126\u0127\b\21\1\2\u0127\u0129\3\2\2\2\u0128"+
-		"\u010a\3\2\2\2\u0128\u0110\3\2\2\2\u0128\u0116\3\2\2\2\u0128\u011c\3\2"+
-		"\2\2\u0128\u0122\3\2\2\2\u0129!\3\2\2\2\u012a\u012b\t\34\2\2\u012b\u012c"+
-		"\5,\27\2\u012c\u012d\7R\2\2\u012d\u012e\5,\27\2\u012e\u012f\b\22\1\2\u012f"+
-		"#\3\2\2\2\u0130\u0131\5\60\31\2\u0131\u0132\b\23\1\2\u0132\u013d\3\2\2"+
-		"\2\u0133\u0134\5.\30\2\u0134\u0135\b\23\1\2\u0135\u013d\3\2\2\2\u0136"+
-		"\u0137\5> \2\u0137\u0138\b\23\1\2\u0138\u013d\3\2\2\2\u0139\u013a\5@!"+
-		"\2\u013a\u013b\b\23\1\2\u013b\u013d\3\2\2\2\u013c\u0130\3\2\2\2\u013c"+
-		"\u0133\3\2\2\2\u013c\u0136\3\2\2\2\u013c\u0139\3\2\2\2\u013d%\3\2\2\2"+
-		"\u013e\u013f\5\62\32\2\u013f\u0140\b\24\1\2\u0140\u014b\3\2\2\2\u0141"+
-		"\u0142\5.\30\2\u0142\u0143\b\24\1\2\u0143\u014b\3\2\2\2\u0144\u0145\5"+
-		"> \2\u0145\u0146\b\24\1\2\u0146\u014b\3\2\2\2\u0147\u0148\5@!\2\u0148"+
-		"\u0149\b\24\1\2\u0149\u014b\3\2\2\2\u014a\u013e\3\2\2\2\u014a\u0141\3"+
-		"\2\2\2\u014a\u0144\3\2\2\2\u014a\u0147\3\2\2\2\u014b\'\3\2\2\2\u014c\u014d"+
-		"\5\64\33\2\u014d\u014e\b\25\1\2\u014e\u0159\3\2\2\2\u014f\u0150\5.\30"+
-		"\2\u0150\u0151\b\25\1\2\u0151\u0159\3\2\2\2\u0152\u0153\5> \2\u0153\u0154"+
-		"\b\25\1\2\u0154\u0159\3\2\2\2\u0155\u0156\5@!\2\u0156\u0157\b\25\1\2\u0157"+
-		"\u0159\3\2\2\2\u0158\u014c\3\2\2\2\u0158\u014f\3\2\2\2\u0158\u0152\3\2"+
-		"\2\2\u0158\u0155\3\2\2\2\u0159)\3\2\2\2\u015a\u015b\5\66\34\2\u015b\u015c"+
-		"\b\26\1\2\u015c\u0167\3\2\2\2\u015d\u015e\5.\30\2\u015e\u015f\b\26\1\2"+
-		"\u015f\u0167\3\2\2\2\u0160\u0161\5> \2\u0161\u0162\b\26\1\2\u0162\u0167"+
-		"\3\2\2\2\u0163\u0164\5@!\2\u0164\u0165\b\26\1\2\u0165\u0167\3\2\2\2\u0166"+
-		"\u015a\3\2\2\2\u0166\u015d\3\2\2\2\u0166\u0160\3\2\2\2\u0166\u0163\3\2"+
-		"\2\2\u0167+\3\2\2\2\u0168\u0169\5\60\31\2\u0169\u016a\b\27\1\2\u016a\u0181"+
-		"\3\2\2\2\u016b\u016c\5\62\32\2\u016c\u016d\b\27\1\2\u016d\u0181\3\2\2"+
-		"\2\u016e\u016f\5\64\33\2\u016f\u0170\b\27\1\2\u0170\u0181\3\2\2\2\u0171"+
-		"\u0172\5\66\34\2\u0172\u0173\b\27\1\2\u0173\u0181\3\2\2\2\u0174\u0175"+
-		"\58\35\2\u0175\u0176\b\27\1\2\u0176\u0181\3\2\2\2\u0177\u0178\5.\30\2"+
-		"\u0178\u0179\b\27\1\2\u0179\u0181\3\2\2\2\u017a\u017b\5> \2\u017b\u017c"+
-		"\b\27\1\2\u017c\u0181\3\2\2\2\u017d\u017e\5@!\2\u017e\u017f\b\27\1\2\u017f"+
-		"\u0181\3\2\2\2\u0180\u0168\3\2\2\2\u0180\u016b\3\2\2\2\u0180\u016e\3\2"+
-		"\2\2\u0180\u0171\3\2\2\2\u0180\u0174\3\2\2\2\u0180\u0177\3\2\2\2\u0180"+
-		"\u017a\3\2\2\2\u0180\u017d\3\2\2\2\u0181-\3\2\2\2\u0182\u0187\b\30\1\2"+
-		"\u0183\u0184\5:\36\2\u0184\u0185\b\30\1\2\u0185\u0186\7\u01a7\2\2\u0186"+
-		"\u0188\3\2\2\2\u0187\u0183\3\2\2\2\u0187\u0188\3\2\2\2\u0188\u01b6\3\2"+
-		"\2\2\u0189\u018a\7\u0229\2\2\u018a\u018f\b\30\1\2\u018b\u018c\5<\37\2"+
-		"\u018c\u018d\b\30\1\2\u018d\u018f\3\2\2\2\u018e\u0189\3\2\2\2\u018e\u018b"+
-		"\3\2\2\2\u018f\u01a2\3\2\2\2\u0190\u0194\7\u01a8\2\2\u0191\u0192\5,\27"+
-		"\2\u0192\u0193\b\30\1\2\u0193\u0195\3\2\2\2\u0194\u0191\3\2\2\2\u0194"+
-		"\u0195\3\2\2\2\u0195\u019f\3\2\2\2\u0196\u0197\7R\2\2\u0197\u0198\5,\27"+
-		"\2\u0198\u019d\b\30\1\2\u0199\u019a\7R\2\2\u019a\u019b\5<\37\2\u019b\u019c"+
-		"\b\30\1\2\u019c\u019e\3\2\2\2\u019d\u0199\3\2\2\2\u019d\u019e\3\2\2\2"+
-		"\u019e\u01a0\3\2\2\2\u019f\u0196\3\2\2\2\u019f\u01a0\3\2\2\2\u01a0\u01a1"+
-		"\3\2\2\2\u01a1\u01a3\7\u01a9\2\2\u01a2\u0190\3\2\2\2\u01a2\u01a3\3\2\2"+
-		"\2\u01a3\u01b7\3\2\2\2\u01a4\u01a8\7\u01a8\2\2\u01a5\u01a6\5,\27\2\u01a6"+
-		"\u01a7\b\30\1\2\u01a7\u01a9\3\2\2\2\u01a8\u01a5\3\2\2\2\u01a8\u01a9\3"+
-		"\2\2\2\u01a9\u01b3\3\2\2\2\u01aa\u01ab\7R\2\2\u01ab\u01ac\5,\27\2\u01ac"+
-		"\u01b1\b\30\1\2\u01ad\u01ae\7R\2\2\u01ae\u01af\5<\37\2\u01af\u01b0\b\30"+
-		"\1\2\u01b0\u01b2\3\2\2\2\u01b1\u01ad\3\2\2\2\u01b1\u01b2\3\2\2\2\u01b2"+
-		"\u01b4\3\2\2\2\u01b3\u01aa\3\2\2\2\u01b3\u01b4\3\2\2\2\u01b4\u01b5\3\2"+
-		"\2\2\u01b5\u01b7\7\u01a9\2\2\u01b6\u018e\3\2\2\2\u01b6\u01a4\3\2\2\2\u01b7"+
-		"\u01b8\3\2\2\2\u01b8\u01b9\b\30\1\2\u01b9/\3\2\2\2\u01ba\u01bb\t\35\2"+
-		"\2\u01bb\u01bc\b\31\1\2\u01bc\61\3\2\2\2\u01bd\u01be\t\36\2\2\u01be\u01bf"+
-		"\b\32\1\2\u01bf\63\3\2\2\2\u01c0\u01c1\t\37\2\2\u01c1\u01c2\b\33\1\2\u01c2"+
-		"\65\3\2\2\2\u01c3\u01c4\t \2\2\u01c4\u01c5\b\34\1\2\u01c5\67\3\2\2\2\u01c6"+
-		"\u01c7\t!\2\2\u01c7\u01c8\b\35\1\2\u01c89\3\2\2\2\u01c9\u01ca\t\"\2\2"+
-		"\u01ca\u01cb\b\36\1\2\u01cb;\3\2\2\2\u01cc\u01cd\7\u022c\2\2\u01cd\u01d3"+
-		"\b\37\1\2\u01ce\u01cf\7\u022a\2\2\u01cf\u01d3\b\37\1\2\u01d0\u01d1\7\u022b"+
-		"\2\2\u01d1\u01d3\b\37\1\2\u01d2\u01cc\3\2\2\2\u01d2\u01ce\3\2\2\2\u01d2"+
-		"\u01d0\3\2\2\2\u01d3=\3\2\2\2\u01d4\u01d5\7\u0220\2\2\u01d5\u01d6\5<\37"+
-		"\2\u01d6\u01d7\b \1\2\u01d7?\3\2\2\2\u01d8\u01ef\7\u0221\2\2\u01d9\u01da"+
-		"\5<\37\2\u01da\u01db\b!\1\2\u01db\u01f0\3\2\2\2\u01dc\u01dd\7\u0222\2"+
-		"\2\u01dd\u01de\5<\37\2\u01de\u01df\7\u01a7\2\2\u01df\u01ea\b!\1\2\u01e0"+
-		"\u01e1\7\u0223\2\2\u01e1\u01eb\b!\1\2\u01e2\u01e3\7\u0224\2\2\u01e3\u01eb"+
-		"\b!\1\2\u01e4\u01e5\7\u0225\2\2\u01e5\u01eb\b!\1\2\u01e6\u01e7\7\u0226"+
-		"\2\2\u01e7\u01eb\b!\1\2\u01e8\u01e9\7\u0227\2\2\u01e9\u01eb\b!\1\2\u01ea"+
-		"\u01e0\3\2\2\2\u01ea\u01e2\3\2\2\2\u01ea\u01e4\3\2\2\2\u01ea\u01e6\3\2"+
-		"\2\2\u01ea\u01e8\3\2\2\2\u01eb\u01ec\3\2\2\2\u01ec\u01ed\b!\1\2\u01ed"+
-		"\u01ee\7\u0228\2\2\u01ee\u01f0\3\2\2\2\u01ef\u01d9\3\2\2\2\u01ef\u01dc"+
-		"\3\2\2\2\u01f0A\3\2\2\2)EHNQUXn\u0084\u0086\u0092\u0094\u00a0\u00a2\u00ae"+
-		"\u00b0\u00bc\u00be\u00c0\u00ee\u0108\u0128\u013c\u014a\u0158\u0166\u0180"+
-		"\u0187\u018e\u0194\u019d\u019f\u01a2\u01a8\u01b1\u01b3\u01b6\u01d2\u01ea"+
-		"\u01ef";
+		"\3\2\r\63\3\2\64U\3\2VW\3\2YZ\3\2[\\\3\2]^\3\2_`\3\2af\3\2gn\3\2ow\3\2"+
+		"x\u0080\3\2\u0081\u00a9\3\2\u00aa\u00be\3\2\u00bf\u00ef\3\2\u00f0\u00f7"+
+		"\3\2\u00f8\u00f9\3\2\u00fa\u012a\3\2\u012b\u0132\3\2\u0133\u0134\3\2\u0135"+
+		"\u0136\3\2\u0137\u0167\3\2\u0168\u016f\3\2\u0170\u0171\3\2\u0172\u0173"+
+		"\3\2\u0175\u01ac\3\2\u01b0\u01c7\3\2\u01c8\u01df\3\2\u01e0\u01f7\3\2\u01f8"+
+		"\u020f\3\2\u0210\u021f\3\2\u0220\u0225\2\u021f\2B\3\2\2\2\4]\3\2\2\2\6"+
+		"n\3\2\2\2\bp\3\2\2\2\nt\3\2\2\2\fw\3\2\2\2\16\u00c0\3\2\2\2\20\u00c2\3"+
+		"\2\2\2\22\u00c6\3\2\2\2\24\u00ca\3\2\2\2\26\u00ce\3\2\2\2\30\u00d2\3\2"+
+		"\2\2\32\u00d6\3\2\2\2\34\u00ee\3\2\2\2\36\u0108\3\2\2\2 \u0128\3\2\2\2"+
+		"\"\u012a\3\2\2\2$\u013c\3\2\2\2&\u014a\3\2\2\2(\u0158\3\2\2\2*\u0166\3"+
+		"\2\2\2,\u0180\3\2\2\2.\u0182\3\2\2\2\60\u01ba\3\2\2\2\62\u01bd\3\2\2\2"+
+		"\64\u01c0\3\2\2\2\66\u01c3\3\2\2\28\u01c6\3\2\2\2:\u01c9\3\2\2\2<\u01d2"+
+		"\3\2\2\2>\u01d4\3\2\2\2@\u01d8\3\2\2\2BX\7\3\2\2CE\5\4\3\2DF\7\4\2\2E"+
+		"D\3\2\2\2EF\3\2\2\2FI\3\2\2\2GI\b\2\1\2HC\3\2\2\2HG\3\2\2\2IJ\3\2\2\2"+
+		"JU\5\6\4\2KN\t\2\2\2LO\5\4\3\2MO\b\2\1\2NL\3\2\2\2NM\3\2\2\2OQ\3\2\2\2"+
+		"PR\5\6\4\2QP\3\2\2\2QR\3\2\2\2RT\3\2\2\2SK\3\2\2\2TW\3\2\2\2US\3\2\2\2"+
+		"UV\3\2\2\2VY\3\2\2\2WU\3\2\2\2XH\3\2\2\2XY\3\2\2\2YZ\3\2\2\2Z[\7\3\2\2"+
+		"[\\\b\2\1\2\\\3\3\2\2\2]^\t\3\2\2^_\b\3\1\2_\5\3\2\2\2`o\5\f\7\2ao\5\20"+
+		"\t\2bo\5\22\n\2co\5\24\13\2do\5\26\f\2eo\5\30\r\2fo\5\32\16\2go\5\34\17"+
+		"\2ho\5\36\20\2io\5 \21\2jo\5\"\22\2ko\5\16\b\2lo\5\n\6\2mo\5\b\5\2n`\3"+
+		"\2\2\2na\3\2\2\2nb\3\2\2\2nc\3\2\2\2nd\3\2\2\2ne\3\2\2\2nf\3\2\2\2ng\3"+
+		"\2\2\2nh\3\2\2\2ni\3\2\2\2nj\3\2\2\2nk\3\2\2\2nl\3\2\2\2nm\3\2\2\2o\7"+
+		"\3\2\2\2pq\7\f\2\2qr\5> \2rs\b\5\1\2s\t\3\2\2\2tu\t\4\2\2uv\5*\26\2v\13"+
+		"\3\2\2\2wx\t\5\2\2xy\b\7\1\2y\r\3\2\2\2z{\t\6\2\2{\u0086\5$\23\2|\u0087"+
+		"\b\b\1\2}~\7X\2\2~\u0084\5$\23\2\177\u0085\b\b\1\2\u0080\u0081\7X\2\2"+
+		"\u0081\u0082\5$\23\2\u0082\u0083\b\b\1\2\u0083\u0085\3\2\2\2\u0084\177"+
+		"\3\2\2\2\u0084\u0080\3\2\2\2\u0085\u0087\3\2\2\2\u0086|\3\2\2\2\u0086"+
+		"}\3\2\2\2\u0087\u00c1\3\2\2\2\u0088\u0089\t\7\2\2\u0089\u0094\5&\24\2"+
+		"\u008a\u0095\b\b\1\2\u008b\u008c\7X\2\2\u008c\u0092\5&\24\2\u008d\u0093"+
+		"\b\b\1\2\u008e\u008f\7X\2\2\u008f\u0090\5&\24\2\u0090\u0091\b\b\1\2\u0091"+
+		"\u0093\3\2\2\2\u0092\u008d\3\2\2\2\u0092\u008e\3\2\2\2\u0093\u0095\3\2"+
+		"\2\2\u0094\u008a\3\2\2\2\u0094\u008b\3\2\2\2\u0095\u00c1\3\2\2\2\u0096"+
+		"\u0097\t\b\2\2\u0097\u00a2\5(\25\2\u0098\u00a3\b\b\1\2\u0099\u009a\7X"+
+		"\2\2\u009a\u00a0\5(\25\2\u009b\u00a1\b\b\1\2\u009c\u009d\7X\2\2\u009d"+
+		"\u009e\5(\25\2\u009e\u009f\b\b\1\2\u009f\u00a1\3\2\2\2\u00a0\u009b\3\2"+
+		"\2\2\u00a0\u009c\3\2\2\2\u00a1\u00a3\3\2\2\2\u00a2\u0098\3\2\2\2\u00a2"+
+		"\u0099\3\2\2\2\u00a3\u00c1\3\2\2\2\u00a4\u00a5\t\t\2\2\u00a5\u00b0\5*"+
+		"\26\2\u00a6\u00b1\b\b\1\2\u00a7\u00a8\7X\2\2\u00a8\u00ae\5*\26\2\u00a9"+
+		"\u00af\b\b\1\2\u00aa\u00ab\7X\2\2\u00ab\u00ac\5*\26\2\u00ac\u00ad\b\b"+
+		"\1\2\u00ad\u00af\3\2\2\2\u00ae\u00a9\3\2\2\2\u00ae\u00aa\3\2\2\2\u00af"+
+		"\u00b1\3\2\2\2\u00b0\u00a6\3\2\2\2\u00b0\u00a7\3\2\2\2\u00b1\u00c1\3\2"+
+		"\2\2\u00b2\u00b3\t\n\2\2\u00b3\u00be\5,\27\2\u00b4\u00bf\b\b\1\2\u00b5"+
+		"\u00b6\7X\2\2\u00b6\u00bc\5,\27\2\u00b7\u00bd\b\b\1\2\u00b8\u00b9\7X\2"+
+		"\2\u00b9\u00ba\5,\27\2\u00ba\u00bb\b\b\1\2\u00bb\u00bd\3\2\2\2\u00bc\u00b7"+
+		"\3\2\2\2\u00bc\u00b8\3\2\2\2\u00bd\u00bf\3\2\2\2\u00be\u00b4\3\2\2\2\u00be"+
+		"\u00b5\3\2\2\2\u00bf\u00c1\3\2\2\2\u00c0z\3\2\2\2\u00c0\u0088\3\2\2\2"+
+		"\u00c0\u0096\3\2\2\2\u00c0\u00a4\3\2\2\2\u00c0\u00b2\3\2\2\2\u00c1\17"+
+		"\3\2\2\2\u00c2\u00c3\t\13\2\2\u00c3\u00c4\5$\23\2\u00c4\u00c5\b\t\1\2"+
+		"\u00c5\21\3\2\2\2\u00c6\u00c7\t\f\2\2\u00c7\u00c8\5&\24\2\u00c8\u00c9"+
+		"\b\n\1\2\u00c9\23\3\2\2\2\u00ca\u00cb\t\r\2\2\u00cb\u00cc\5(\25\2\u00cc"+
+		"\u00cd\b\13\1\2\u00cd\25\3\2\2\2\u00ce\u00cf\t\16\2\2\u00cf\u00d0\5*\26"+
+		"\2\u00d0\u00d1\b\f\1\2\u00d1\27\3\2\2\2\u00d2\u00d3\t\17\2\2\u00d3\u00d4"+
+		"\5,\27\2\u00d4\u00d5\b\r\1\2\u00d5\31\3\2\2\2\u00d6\u00d7\t\20\2\2\u00d7"+
+		"\u00d8\5$\23\2\u00d8\u00d9\7X\2\2\u00d9\u00da\5$\23\2\u00da\u00db\b\16"+
+		"\1\2\u00db\33\3\2\2\2\u00dc\u00dd\t\21\2\2\u00dd\u00de\5&\24\2\u00de\u00df"+
+		"\7X\2\2\u00df\u00e0\5&\24\2\u00e0\u00e1\b\17\1\2\u00e1\u00ef\3\2\2\2\u00e2"+
+		"\u00e3\t\22\2\2\u00e3\u00e4\5$\23\2\u00e4\u00e5\7X\2\2\u00e5\u00e6\5&"+
+		"\24\2\u00e6\u00e7\b\17\1\2\u00e7\u00ef\3\2\2\2\u00e8\u00e9\t\23\2\2\u00e9"+
+		"\u00ea\5$\23\2\u00ea\u00eb\7X\2\2\u00eb\u00ec\5&\24\2\u00ec\u00ed\b\17"+
+		"\1\2\u00ed\u00ef\3\2\2\2\u00ee\u00dc\3\2\2\2\u00ee\u00e2\3\2\2\2\u00ee"+
+		"\u00e8\3\2\2\2\u00ef\35\3\2\2\2\u00f0\u00f1\t\24\2\2\u00f1\u00f2\5(\25"+
+		"\2\u00f2\u00f3\7X\2\2\u00f3\u00f4\5(\25\2\u00f4\u00f5\b\20\1\2\u00f5\u0109"+
+		"\3\2\2\2\u00f6\u00f7\t\25\2\2\u00f7\u00f8\5$\23\2\u00f8\u00f9\7X\2\2\u00f9"+
+		"\u00fa\5(\25\2\u00fa\u00fb\b\20\1\2\u00fb\u0109\3\2\2\2\u00fc\u00fd\t"+
+		"\26\2\2\u00fd\u00fe\5$\23\2\u00fe\u00ff\7X\2\2\u00ff\u0100\5(\25\2\u0100"+
+		"\u0101\b\20\1\2\u0101\u0109\3\2\2\2\u0102\u0103\t\27\2\2\u0103\u0104\5"+
+		"&\24\2\u0104\u0105\7X\2\2\u0105\u0106\5(\25\2\u0106\u0107\b\20\1\2\u0107"+
+		"\u0109\3\2\2\2\u0108\u00f0\3\2\2\2\u0108\u00f6\3\2\2\2\u0108\u00fc\3\2"+
+		"\2\2\u0108\u0102\3\2\2\2\u0109\37\3\2\2\2\u010a\u010b\t\30\2\2\u010b\u010c"+
+		"\5*\26\2\u010c\u010d\7X\2\2\u010d\u010e\5*\26\2\u010e\u010f\b\21\1\2\u010f"+
+		"\u0129\3\2\2\2\u0110\u0111\t\31\2\2\u0111\u0112\5$\23\2\u0112\u0113\7"+
+		"X\2\2\u0113\u0114\5*\26\2\u0114\u0115\b\21\1\2\u0115\u0129\3\2\2\2\u0116"+
+		"\u0117\t\32\2\2\u0117\u0118\5$\23\2\u0118\u0119\7X\2\2\u0119\u011a\5*"+
+		"\26\2\u011a\u011b\b\21\1\2\u011b\u0129\3\2\2\2\u011c\u011d\t\33\2\2\u011d"+
+		"\u011e\5&\24\2\u011e\u011f\7X\2\2\u011f\u0120\5*\26\2\u0120\u0121\b\21"+
+		"\1\2\u0121\u0129\3\2\2\2\u0122\u0123\7\u0174\2\2\u0123\u0124\5(\25\2\u0124"+
+		"\u0125\7X\2\2\u0125\u0126\5*\26\2\u0126\u0127\b\21\1\2\u0127\u0129\3\2"+
+		"\2\2\u0128\u010a\3\2\2\2\u0128\u0110\3\2\2\2\u0128\u0116\3\2\2\2\u0128"+
+		"\u011c\3\2\2\2\u0128\u0122\3\2\2\2\u0129!\3\2\2\2\u012a\u012b\t\34\2\2"+
+		"\u012b\u012c\5,\27\2\u012c\u012d\7X\2\2\u012d\u012e\5,\27\2\u012e\u012f"+
+		"\b\22\1\2\u012f#\3\2\2\2\u0130\u0131\5\60\31\2\u0131\u0132\b\23\1\2\u0132"+
+		"\u013d\3\2\2\2\u0133\u0134\5.\30\2\u0134\u0135\b\23\1\2\u0135\u013d\3"+
+		"\2\2\2\u0136\u0137\5> \2\u0137\u0138\b\23\1\2\u0138\u013d\3\2\2\2\u0139"+
+		"\u013a\5@!\2\u013a\u013b\b\23\1\2\u013b\u013d\3\2\2\2\u013c\u0130\3\2"+
+		"\2\2\u013c\u0133\3\2\2\2\u013c\u0136\3\2\2\2\u013c\u0139\3\2\2\2\u013d"+
+		"%\3\2\2\2\u013e\u013f\5\62\32\2\u013f\u0140\b\24\1\2\u0140\u014b\3\2\2"+
+		"\2\u0141\u0142\5.\30\2\u0142\u0143\b\24\1\2\u0143\u014b\3\2\2\2\u0144"+
+		"\u0145\5> \2\u0145\u0146\b\24\1\2\u0146\u014b\3\2\2\2\u0147\u0148\5@!"+
+		"\2\u0148\u0149\b\24\1\2\u0149\u014b\3\2\2\2\u014a\u013e\3\2\2\2\u014a"+
+		"\u0141\3\2\2\2\u014a\u0144\3\2\2\2\u014a\u0147\3\2\2\2\u014b\'\3\2\2\2"+
+		"\u014c\u014d\5\64\33\2\u014d\u014e\b\25\1\2\u014e\u0159\3\2\2\2\u014f"+
+		"\u0150\5.\30\2\u0150\u0151\b\25\1\2\u0151\u0159\3\2\2\2\u0152\u0153\5"+
+		"> \2\u0153\u0154\b\25\1\2\u0154\u0159\3\2\2\2\u0155\u0156\5@!\2\u0156"+
+		"\u0157\b\25\1\2\u0157\u0159\3\2\2\2\u0158\u014c\3\2\2\2\u0158\u014f\3"+
+		"\2\2\2\u0158\u0152\3\2\2\2\u0158\u0155\3\2\2\2\u0159)\3\2\2\2\u015a\u015b"+
+		"\5\66\34\2\u015b\u015c\b\26\1\2\u015c\u0167\3\2\2\2\u015d\u015e\5.\30"+
+		"\2\u015e\u015f\b\26\1\2\u015f\u0167\3\2\2\2\u0160\u0161\5> \2\u0161\u0162"+
+		"\b\26\1\2\u0162\u0167\3\2\2\2\u0163\u0164\5@!\2\u0164\u0165\b\26\1\2\u0165"+
+		"\u0167\3\2\2\2\u0166\u015a\3\2\2\2\u0166\u015d\3\2\2\2\u0166\u0160\3\2"+
+		"\2\2\u0166\u0163\3\2\2\2\u0167+\3\2\2\2\u0168\u0169\5\60\31\2\u0169\u016a"+
+		"\b\27\1\2\u016a\u0181\3\2\2\2\u016b\u016c\5\62\32\2\u016c\u016d\b\27\1"+
+		"\2\u016d\u0181\3\2\2\2\u016e\u016f\5\64\33\2\u016f\u0170\b\27\1\2\u0170"+
+		"\u0181\3\2\2\2\u0171\u0172\5\66\34\2\u0172\u0173\b\27\1\2\u0173\u0181"+
+		"\3\2\2\2\u0174\u0175\58\35\2\u0175\u0176\b\27\1\2\u0176\u0181\3\2\2\2"+
+		"\u0177\u0178\5.\30\2\u0178\u0179\b\27\1\2\u0179\u0181\3\2\2\2\u017a\u017b"+
+		"\5> \2\u017b\u017c\b\27\1\2\u017c\u0181\3\2\2\2\u017d\u017e\5@!\2\u017e"+
+		"\u017f\b\27\1\2\u017f\u0181\3\2\2\2\u0180\u0168\3\2\2\2\u0180\u016b\3"+
+		"\2\2\2\u0180\u016e\3\2\2\2\u0180\u0171\3\2\2\2\u0180\u0174\3\2\2\2\u0180"+
+		"\u0177\3\2\2\2\u0180\u017a\3\2\2\2\u0180\u017d\3\2\2\2\u0181-\3\2\2\2"+
+		"\u0182\u0187\b\30\1\2\u0183\u0184\5:\36\2\u0184\u0185\b\30\1\2\u0185\u0186"+
+		"\7\u01ad\2\2\u0186\u0188\3\2\2\2\u0187\u0183\3\2\2\2\u0187\u0188\3\2\2"+
+		"\2\u0188\u01b6\3\2\2\2\u0189\u018a\7\u022f\2\2\u018a\u018f\b\30\1\2\u018b"+
+		"\u018c\5<\37\2\u018c\u018d\b\30\1\2\u018d\u018f\3\2\2\2\u018e\u0189\3"+
+		"\2\2\2\u018e\u018b\3\2\2\2\u018f\u01a2\3\2\2\2\u0190\u0194\7\u01ae\2\2"+
+		"\u0191\u0192\5,\27\2\u0192\u0193\b\30\1\2\u0193\u0195\3\2\2\2\u0194\u0191"+
+		"\3\2\2\2\u0194\u0195\3\2\2\2\u0195\u019f\3\2\2\2\u0196\u0197\7X\2\2\u0197"+
+		"\u0198\5,\27\2\u0198\u019d\b\30\1\2\u0199\u019a\7X\2\2\u019a\u019b\5<"+
+		"\37\2\u019b\u019c\b\30\1\2\u019c\u019e\3\2\2\2\u019d\u0199\3\2\2\2\u019d"+
+		"\u019e\3\2\2\2\u019e\u01a0\3\2\2\2\u019f\u0196\3\2\2\2\u019f\u01a0\3\2"+
+		"\2\2\u01a0\u01a1\3\2\2\2\u01a1\u01a3\7\u01af\2\2\u01a2\u0190\3\2\2\2\u01a2"+
+		"\u01a3\3\2\2\2\u01a3\u01b7\3\2\2\2\u01a4\u01a8\7\u01ae\2\2\u01a5\u01a6"+
+		"\5,\27\2\u01a6\u01a7\b\30\1\2\u01a7\u01a9\3\2\2\2\u01a8\u01a5\3\2\2\2"+
+		"\u01a8\u01a9\3\2\2\2\u01a9\u01b3\3\2\2\2\u01aa\u01ab\7X\2\2\u01ab\u01ac"+
+		"\5,\27\2\u01ac\u01b1\b\30\1\2\u01ad\u01ae\7X\2\2\u01ae\u01af\5<\37\2\u01af"+
+		"\u01b0\b\30\1\2\u01b0\u01b2\3\2\2\2\u01b1\u01ad\3\2\2\2\u01b1\u01b2\3"+
+		"\2\2\2\u01b2\u01b4\3\2\2\2\u01b3\u01aa\3\2\2\2\u01b3\u01b4\3\2\2\2\u01b4"+
+		"\u01b5\3\2\2\2\u01b5\u01b7\7\u01af\2\2\u01b6\u018e\3\2\2\2\u01b6\u01a4"+
+		"\3\2\2\2\u01b7\u01b8\3\2\2\2\u01b8\u01b9\b\30\1\2\u01b9/\3\2\2\2\u01ba"+
+		"\u01bb\t\35\2\2\u01bb\u01bc\b\31\1\2\u01bc\61\3\2\2\2\u01bd\u01be\t\36"+
+		"\2\2\u01be\u01bf\b\32\1\2\u01bf\63\3\2\2\2\u01c0\u01c1\t\37\2\2\u01c1"+
+		"\u01c2\b\33\1\2\u01c2\65\3\2\2\2\u01c3\u01c4\t \2\2\u01c4\u01c5\b\34\1"+
+		"\2\u01c5\67\3\2\2\2\u01c6\u01c7\t!\2\2\u01c7\u01c8\b\35\1\2\u01c89\3\2"+
+		"\2\2\u01c9\u01ca\t\"\2\2\u01ca\u01cb\b\36\1\2\u01cb;\3\2\2\2\u01cc\u01cd"+
+		"\7\u0232\2\2\u01cd\u01d3\b\37\1\2\u01ce\u01cf\7\u0230\2\2\u01cf\u01d3"+
+		"\b\37\1\2\u01d0\u01d1\7\u0231\2\2\u01d1\u01d3\b\37\1\2\u01d2\u01cc\3\2"+
+		"\2\2\u01d2\u01ce\3\2\2\2\u01d2\u01d0\3\2\2\2\u01d3=\3\2\2\2\u01d4\u01d5"+
+		"\7\u0226\2\2\u01d5\u01d6\5<\37\2\u01d6\u01d7\b \1\2\u01d7?\3\2\2\2\u01d8"+
+		"\u01ef\7\u0227\2\2\u01d9\u01da\5<\37\2\u01da\u01db\b!\1\2\u01db\u01f0"+
+		"\3\2\2\2\u01dc\u01dd\7\u0228\2\2\u01dd\u01de\5<\37\2\u01de\u01df\7\u01ad"+
+		"\2\2\u01df\u01ea\b!\1\2\u01e0\u01e1\7\u0229\2\2\u01e1\u01eb\b!\1\2\u01e2"+
+		"\u01e3\7\u022a\2\2\u01e3\u01eb\b!\1\2\u01e4\u01e5\7\u022b\2\2\u01e5\u01eb"+
+		"\b!\1\2\u01e6\u01e7\7\u022c\2\2\u01e7\u01eb\b!\1\2\u01e8\u01e9\7\u022d"+
+		"\2\2\u01e9\u01eb\b!\1\2\u01ea\u01e0\3\2\2\2\u01ea\u01e2\3\2\2\2\u01ea"+
+		"\u01e4\3\2\2\2\u01ea\u01e6\3\2\2\2\u01ea\u01e8\3\2\2\2\u01eb\u01ec\3\2"+
+		"\2\2\u01ec\u01ed\b!\1\2\u01ed\u01ee\7\u022e\2\2\u01ee\u01f0\3\2\2\2\u01ef"+
+		"\u01d9\3\2\2\2\u01ef\u01dc\3\2\2\2\u01f0A\3\2\2\2)EHNQUXn\u0084\u0086"+
+		"\u0092\u0094\u00a0\u00a2\u00ae\u00b0\u00bc\u00be\u00c0\u00ee\u0108\u0128"+
+		"\u013c\u014a\u0158\u0166\u0180\u0187\u018e\u0194\u019d\u019f\u01a2\u01a8"+
+		"\u01b1\u01b3\u01b6\u01d2\u01ea\u01ef";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs a counter that is protected by a mutex from several host threads that share one context.
+ * The {@code futex} variants sleep in {@code FUTEX_WAIT} when the mutex is contended, the
+ * {@code spin} variants busy-wait.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FutexBenchmark {
+
+    private static final int ITERATIONS = 1000;
+
+    @State(Scope.Benchmark)
+    public static class LockState {
+
+        Context context;
+        Value runFutex;
+        Value runSpin;
+
+        @Setup
+        public void setup() {
+            context = BenchmarkUtil.createContext();
+            Value library = BenchmarkUtil.loadBitcode(context, "futexlock");
+            runFutex = library.getMember("run_futex");
+            runSpin = library.getMember("run_spin");
+        }
+
+        @TearDown
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long futex01(LockState state) {
+        return state.runFutex.execute(ITERATIONS).asLong();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long futex04(LockState state) {
+        return state.runFutex.execute(ITERATIONS).asLong();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long futex08(LockState state) {
+        return state.runFutex.execute(ITERATIONS).asLong();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long spin01(LockState state) {
+        return state.runSpin.execute(ITERATIONS).asLong();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long spin04(LockState state) {
+        return state.runSpin.execute(ITERATIONS).asLong();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long spin08(LockState state) {
+        return state.runSpin.execute(ITERATIONS).asLong();
+    }
+}
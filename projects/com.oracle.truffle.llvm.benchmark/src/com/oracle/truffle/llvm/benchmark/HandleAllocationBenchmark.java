@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.oracle.truffle.llvm.runtime.memory.LLVMNativeMemory;
+
+/**
+ * Measures the throughput of handle allocation and release in {@link LLVMNativeMemory} with an
+ * increasing number of concurrent threads.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HandleAllocationBenchmark {
+
+    @State(Scope.Thread)
+    public static class HandleState {
+
+        @Param({"1", "16"}) int live;
+
+        LLVMNativeMemory memory;
+        long[] handles;
+
+        @Setup
+        @SuppressWarnings("deprecation")
+        public void setup() {
+            memory = LLVMNativeMemory.getInstance();
+            handles = new long[live];
+            for (int i = 0; i < live; i++) {
+                handles[i] = memory.allocateHandle(false);
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            for (long handle : handles) {
+                memory.free(handle);
+            }
+        }
+
+        long cycle() {
+            long last = 0;
+            for (int i = 0; i < handles.length; i++) {
+                memory.free(handles[i]);
+                last = memory.allocateHandle(false);
+                handles[i] = last;
+            }
+            return last;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long threads01(HandleState state) {
+        return state.cycle();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public long threads02(HandleState state) {
+        return state.cycle();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long threads04(HandleState state) {
+        return state.cycle();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long threads08(HandleState state) {
+        return state.cycle();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long threads16(HandleState state) {
+        return state.cycle();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public long threads32(HandleState state) {
+        return state.cycle();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.benchmark;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.oracle.truffle.llvm.runtime.LLVMIVarBit;
+
+/**
+ * Measures {@code i128} arithmetic. The {@code bigInteger} benchmarks compute the same results the
+ * way {@link LLVMIVarBit} did before values of up to 128 bits were kept in two longs.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class Int128Benchmark {
+
+    private static final int BITS = 128;
+
+    Context context;
+    Value run;
+
+    LLVMIVarBit x;
+    LLVMIVarBit y;
+
+    @Setup
+    public void setup() {
+        context = BenchmarkUtil.createContext();
+        run = BenchmarkUtil.loadBitcode(context, "int128").getMember("run");
+        x = LLVMIVarBit.fromBigInteger(BITS, new BigInteger("123456789abcdef0fedcba9876543210", 16));
+        y = LLVMIVarBit.fromBigInteger(BITS, new BigInteger("0fedcba98765432", 16));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long run() {
+        return run.execute(100000).asLong();
+    }
+
+    @Benchmark
+    public LLVMIVarBit mulAdd() {
+        return x.mul(y).add(x);
+    }
+
+    @Benchmark
+    public LLVMIVarBit mulAddBigInteger() {
+        BigInteger product = LLVMIVarBit.fromBigInteger(BITS, x.asBigInteger().multiply(y.asBigInteger())).asBigInteger();
+        return LLVMIVarBit.fromBigInteger(BITS, product.add(x.asBigInteger()));
+    }
+
+    @Benchmark
+    public LLVMIVarBit unsignedDiv() {
+        return x.unsignedDiv(y);
+    }
+
+    @Benchmark
+    public LLVMIVarBit unsignedDivBigInteger() {
+        return LLVMIVarBit.fromBigInteger(BITS, x.asUnsignedBigInteger().divide(y.asBigInteger()));
+    }
+
+    @Benchmark
+    public LLVMIVarBit shift() {
+        return x.logicalRightShift(LLVMIVarBit.fromInt(BITS, 67));
+    }
+
+    @Benchmark
+    public LLVMIVarBit shiftBigInteger() {
+        BigInteger mask = BigInteger.valueOf(-1).shiftLeft(BITS - 67).not();
+        return LLVMIVarBit.fromBigInteger(BITS, new BigInteger(x.getBytes()).shiftRight(67).and(mask));
+    }
+
+    @Benchmark
+    public int compare() {
+        return x.signedCompare(y);
+    }
+
+    @Benchmark
+    public int compareBigInteger() {
+        return x.asBigInteger().compareTo(y.asBigInteger());
+    }
+}
@@ -612,6 +612,44 @@ __POLYGLOT_DECLARE_GENERIC_ARRAY(int64_t, i64)
 __POLYGLOT_DECLARE_GENERIC_ARRAY(float, float)
 __POLYGLOT_DECLARE_GENERIC_ARRAY(double, double)
 
+/**
+ * Copy elements of a polyglot array to memory.
+ *
+ * Copies the array elements with index offset to offset + len - 1 to the
+ * memory at dst. The element type must be a primitive typeid, for example:
+ *
+ * \code
+ * double *buf = malloc(len * sizeof(double));
+ * polyglot_copy_from_array(buf, array, 0, len, polyglot_double_typeid());
+ * \endcode
+ *
+ * This is equivalent to calling {@link polyglot_get_array_element} for every
+ * element, but primitive Java arrays and native arrays (for example from
+ * polyglot_from_double_array) of the same element type are copied in a single
+ * operation.
+ *
+ * @param dst the memory to copy to
+ * @param array the polyglot array to copy from
+ * @param offset the index of the first copied array element
+ * @param len the number of copied array elements
+ * @param elementType the type of the elements in dst
+ */
+void polyglot_copy_from_array(void *dst, const void *array, uint64_t offset, uint64_t len, polyglot_typeid elementType);
+
+/**
+ * Copy elements from memory to a polyglot array.
+ *
+ * Copies len elements at src to the array elements with index offset to
+ * offset + len - 1. This is the reverse of {@link polyglot_copy_from_array}.
+ *
+ * @param array the polyglot array to copy to
+ * @param offset the index of the first written array element
+ * @param src the memory to copy from
+ * @param len the number of copied array elements
+ * @param elementType the type of the elements in src
+ */
+void polyglot_copy_to_array(void *array, uint64_t offset, const void *src, uint64_t len, polyglot_typeid elementType);
+
 /**
  * Internal macro. Do not use directly.
  *
@@ -27,17 +27,49 @@
  * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
  * OF THE POSSIBILITY OF SUCH DAMAGE.
  */
+#include <errno.h>
 #include <sys/types.h>
 #include <unistd.h>
 #include <pthread.h>
 
 #include "unsupported.h"
 
+/*
+ * pthread_create, pthread_join, pthread_detach, pthread_self, pthread_exit, the mutex, condition
+ * variable and thread-specific data functions are intrinsics (see LLVMPThreadIntrinsics).
+ */
+
+int __sulong_pthread_create(pthread_t *thread, void *(*start_routine)(void *), void *arg);
+int __sulong_pthread_mutex_init(pthread_mutex_t *mutex, int kind);
+
+// the mutex kinds of LLVMPThreadContext
+#define SULONG_MUTEX_NORMAL 0
+#define SULONG_MUTEX_RECURSIVE 1
+#define SULONG_MUTEX_ERRORCHECK 2
+
+// the states of a pthread_once_t, PTHREAD_ONCE_INIT is 0
+#define ONCE_INIT 0
+#define ONCE_DONE 1
+#define ONCE_RUNNING 2
+
+// the default of llvm.stackSize
+#define DEFAULT_STACK_SIZE (81920 * 1024)
+
+// the layout of pthread_attr_t is private to this file
+struct sulong_pthread_attr {
+  int detachstate;
+  size_t stacksize;
+};
+
+static pthread_mutex_t once_mutex = PTHREAD_MUTEX_INITIALIZER;
+static pthread_cond_t once_done = PTHREAD_COND_INITIALIZER;
+
 int pthread_attr_destroy(pthread_attr_t *attr) {
-  ERR_UNSUPPORTED(pthread_attr_destroy);
+  return 0;
 }
 int pthread_attr_getdetachstate(const pthread_attr_t *attr, int *detachstate) {
-  ERR_UNSUPPORTED(pthread_attr_getdetachstate);
+  *detachstate = ((const struct sulong_pthread_attr *) attr)->detachstate;
+  return 0;
 }
 int pthread_attr_getguardsize(const pthread_attr_t *attr, size_t *guardsize) {
   ERR_UNSUPPORTED(pthread_attr_getguardsize);
@@ -58,13 +90,21 @@ int pthread_attr_getstackaddr(const pthread_attr_t *attr, void **stackaddr) {
   ERR_UNSUPPORTED(pthread_attr_getstackaddr);
 }
 int pthread_attr_getstacksize(const pthread_attr_t *restrict attr, size_t *restrict stacksize) {
-  ERR_UNSUPPORTED(pthread_attr_getstacksize);
+  *stacksize = ((const struct sulong_pthread_attr *) attr)->stacksize;
+  return 0;
 }
 int pthread_attr_init(pthread_attr_t *attr) {
-  ERR_UNSUPPORTED(pthread_attr_init);
+  struct sulong_pthread_attr *a = (struct sulong_pthread_attr *) attr;
+  a->detachstate = PTHREAD_CREATE_JOINABLE;
+  a->stacksize = DEFAULT_STACK_SIZE;
+  return 0;
 }
 int pthread_attr_setdetachstate(pthread_attr_t *attr, int detachstate) {
-  ERR_UNSUPPORTED(pthread_attr_setdetachstate);
+  if (detachstate != PTHREAD_CREATE_JOINABLE && detachstate != PTHREAD_CREATE_DETACHED) {
+    return EINVAL;
+  }
+  ((struct sulong_pthread_attr *) attr)->detachstate = detachstate;
+  return 0;
 }
 int pthread_attr_setguardsize(pthread_attr_t *attr, size_t guardsize) {
   ERR_UNSUPPORTED(pthread_attr_setguardsize);
@@ -85,99 +125,64 @@ int pthread_attr_setstackaddr(pthread_attr_t *attr, void *stackaddr) {
   ERR_UNSUPPORTED(pthread_attr_setstackaddr);
 }
 int pthread_attr_setstacksize(pthread_attr_t *attr, size_t stacksize) {
-  ERR_UNSUPPORTED(pthread_attr_setstacksize);
+  // all threads use a stack of llvm.stackSize bytes, the value is only recorded
+  ((struct sulong_pthread_attr *) attr)->stacksize = stacksize;
+  return 0;
 }
 int pthread_cancel(pthread_t thread) {
   ERR_UNSUPPORTED(pthread_cancel);
 }
 // void  pthread_cleanup_push(void*, void *);
 // void  pthread_cleanup_pop(int);
-int pthread_cond_broadcast(pthread_cond_t *cond) {
-  ERR_UNSUPPORTED(pthread_cond_broadcast);
-}
-int pthread_cond_destroy(pthread_cond_t *cond) {
-  ERR_UNSUPPORTED(pthread_cond_destroy);
-}
-int pthread_cond_init(pthread_cond_t *restrict cond, const pthread_condattr_t *restrict attr) {
-  ERR_UNSUPPORTED(pthread_cond_init);
-}
-int pthread_cond_signal(pthread_cond_t *cond) {
-  ERR_UNSUPPORTED(pthread_cond_signal);
-}
-int pthread_cond_timedwait(pthread_cond_t *restrict cond, pthread_mutex_t *restrict mutex, const struct timespec *restrict abstime) {
-  ERR_UNSUPPORTED(pthread_cond_timedwait);
-}
-int pthread_cond_wait(pthread_cond_t *restrict cond, pthread_mutex_t *restrict mutex) {
-  ERR_UNSUPPORTED(pthread_cond_wait);
-}
 int pthread_condattr_destroy(pthread_condattr_t *attr) {
-  ERR_UNSUPPORTED(pthread_condattr_destroy);
+  return 0;
 }
 int pthread_condattr_getpshared(const pthread_condattr_t *restrict attr, int *restrict pshared) {
   ERR_UNSUPPORTED(pthread_condattr_getpshared);
 }
 int pthread_condattr_init(pthread_condattr_t *attr) {
-  ERR_UNSUPPORTED(pthread_condattr_init);
+  return 0;
 }
 int pthread_condattr_setpshared(pthread_condattr_t *attr, int pshared) {
   ERR_UNSUPPORTED(pthread_condattr_setpshared);
 }
 int pthread_create(pthread_t *restrict thread, const pthread_attr_t *restrict attr, void *(*start_routine)(void *), void *restrict arg) {
-  ERR_UNSUPPORTED(pthread_create);
-}
-int pthread_detach(pthread_t thread) {
-  ERR_UNSUPPORTED(pthread_detach);
+  int ret = __sulong_pthread_create(thread, start_routine, arg);
+  if (ret == 0 && attr != NULL && ((const struct sulong_pthread_attr *) attr)->detachstate == PTHREAD_CREATE_DETACHED) {
+    pthread_detach(*thread);
+  }
+  return ret;
 }
 // this function might be defined as a macro
 #ifndef pthread_equal
 int pthread_equal(pthread_t t1, pthread_t t2) {
-  ERR_UNSUPPORTED(pthread_equal);
+  return t1 == t2;
 }
 #endif
-void pthread_exit(void *value_ptr) {
-  ERR_UNSUPPORTED(pthread_exit);
-}
 int pthread_getconcurrency(void) {
   ERR_UNSUPPORTED(pthread_getconcurrency);
 }
 int pthread_getschedparam(pthread_t thread, int *restrict policy, struct sched_param *restrict param) {
   ERR_UNSUPPORTED(pthread_getschedparam);
 }
-void *pthread_getspecific(pthread_key_t key) {
-  ERR_UNSUPPORTED(pthread_getspecific);
-}
-int pthread_join(pthread_t thread, void **value_ptr) {
-  ERR_UNSUPPORTED(pthread_join);
-}
-int pthread_key_create(pthread_key_t *key, void (*destructor)(void *)) {
-  ERR_UNSUPPORTED(pthread_key_create);
-}
-int pthread_key_delete(pthread_key_t key) {
-  ERR_UNSUPPORTED(pthread_key_delete);
-}
-int pthread_mutex_destroy(pthread_mutex_t *mutex) {
-  ERR_UNSUPPORTED(pthread_mutex_destroy);
-}
 int pthread_mutex_getprioceiling(const pthread_mutex_t *restrict mutex, int *restrict prioceiling) {
   ERR_UNSUPPORTED(pthread_mutex_getprioceiling);
 }
 int pthread_mutex_init(pthread_mutex_t *restrict mutex, const pthread_mutexattr_t *restrict attr) {
-  ERR_UNSUPPORTED(pthread_mutex_init);
-}
-int pthread_mutex_lock(pthread_mutex_t *mutex) {
-  ERR_UNSUPPORTED(pthread_mutex_lock);
+  int type = attr == NULL ? PTHREAD_MUTEX_DEFAULT : *(const int *) attr;
+  if (type == PTHREAD_MUTEX_RECURSIVE) {
+    return __sulong_pthread_mutex_init(mutex, SULONG_MUTEX_RECURSIVE);
+  } else if (type == PTHREAD_MUTEX_ERRORCHECK) {
+    return __sulong_pthread_mutex_init(mutex, SULONG_MUTEX_ERRORCHECK);
+  } else {
+    return __sulong_pthread_mutex_init(mutex, SULONG_MUTEX_NORMAL);
+  }
 }
 int pthread_mutex_setprioceiling(pthread_mutex_t *restrict mutex, int prioceiling, int *restrict old_ceiling) {
   ERR_UNSUPPORTED(pthread_mutex_setprioceiling);
 }
-int pthread_mutex_trylock(pthread_mutex_t *mutex) {
-  ERR_UNSUPPORTED(pthread_mutex_trylock);
-}
-int pthread_mutex_unlock(pthread_mutex_t *mutex) {
-  ERR_UNSUPPORTED(pthread_mutex_unlock);
-}
 int pthread_mutexattr_destroy(pthread_mutexattr_t *attr) {
-  ERR_UNSUPPORTED(pthread_mutexattr_destroy);
+  return 0;
 }
 int pthread_mutexattr_getprioceiling(const pthread_mutexattr_t *restrict attr, int *restrict prioceiling) {
   ERR_UNSUPPORTED(pthread_mutexattr_getprioceiling);
@@ -189,10 +194,12 @@ int pthread_mutexattr_getpshared(const pthread_mutexattr_t *restrict attr, int *
   ERR_UNSUPPORTED(pthread_mutexattr_getpshared);
 }
 int pthread_mutexattr_gettype(const pthread_mutexattr_t *restrict attr, int *restrict type) {
-  ERR_UNSUPPORTED(pthread_mutexattr_gettype);
+  *type = *(const int *) attr;
+  return 0;
 }
 int pthread_mutexattr_init(pthread_mutexattr_t *attr) {
-  ERR_UNSUPPORTED(pthread_mutexattr_init);
+  *(int *) attr = PTHREAD_MUTEX_DEFAULT;
+  return 0;
 }
 int pthread_mutexattr_setprioceiling(pthread_mutexattr_t *attr, int protocol) {
   ERR_UNSUPPORTED(pthread_mutexattr_setprioceiling);
@@ -204,10 +211,29 @@ int pthread_mutexattr_setpshared(pthread_mutexattr_t *attr, int pshared) {
   ERR_UNSUPPORTED(pthread_mutexattr_setpshared);
 }
 int pthread_mutexattr_settype(pthread_mutexattr_t *attr, int type) {
-  ERR_UNSUPPORTED(pthread_mutexattr_settype);
+  // pthread_mutex_init passes the type on
+  *(int *) attr = type;
+  return 0;
 }
 int pthread_once(pthread_once_t *once_control, void (*init_routine)(void)) {
-  ERR_UNSUPPORTED(pthread_once);
+  if (__atomic_load_n(once_control, __ATOMIC_ACQUIRE) == ONCE_DONE) {
+    return 0;
+  }
+  pthread_mutex_lock(&once_mutex);
+  while (*once_control == ONCE_RUNNING) {
+    pthread_cond_wait(&once_done, &once_mutex);
+  }
+  if (*once_control == ONCE_INIT) {
+    *once_control = ONCE_RUNNING;
+    // init_routine runs without the lock, so that it may call pthread_once itself
+    pthread_mutex_unlock(&once_mutex);
+    init_routine();
+    pthread_mutex_lock(&once_mutex);
+    __atomic_store_n(once_control, ONCE_DONE, __ATOMIC_RELEASE);
+    pthread_cond_broadcast(&once_done);
+  }
+  pthread_mutex_unlock(&once_mutex);
+  return 0;
 }
 int pthread_rwlock_destroy(pthread_rwlock_t *rwlock) {
   ERR_UNSUPPORTED(pthread_rwlock_destroy);
@@ -242,9 +268,6 @@ int pthread_rwlockattr_init(pthread_rwlockattr_t *attr) {
 int pthread_rwlockattr_setpshared(pthread_rwlockattr_t *attr, int pshared) {
   ERR_UNSUPPORTED(pthread_rwlockattr_setpshared);
 }
-pthread_t pthread_self(void) {
-  ERR_UNSUPPORTED(pthread_self);
-}
 int pthread_setcancelstate(int state, int *oldstate) {
   ERR_UNSUPPORTED(pthread_setcancelstate);
 }
@@ -257,9 +280,6 @@ int pthread_setconcurrency(int new_level) {
 int pthread_setschedparam(pthread_t thread, int policy, const struct sched_param *param) {
   ERR_UNSUPPORTED(pthread_setschedparam);
 }
-int pthread_setspecific(pthread_key_t key, const void *value) {
-  ERR_UNSUPPORTED(pthread_setspecific);
-}
 void pthread_testcancel(void) {
   // do nothing - this is fine as long as no other pthread methods are supported
 }
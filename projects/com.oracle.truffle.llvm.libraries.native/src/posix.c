@@ -150,6 +150,16 @@ int __sulong_posix_munmap(void* addr, size_t length)
 	CALL(int, munmap, addr, length);
 }
 
+int __sulong_posix_mprotect(void* addr, size_t length, int prot)
+{
+	CALL(int, mprotect, addr, length, prot);
+}
+
+int __sulong_posix_madvise(void* addr, size_t length, int advice)
+{
+	CALL(int, madvise, addr, length, advice);
+}
+
 int __sulong_posix_unlink(const char *path)
 {
 	CALL(int, unlink, path);
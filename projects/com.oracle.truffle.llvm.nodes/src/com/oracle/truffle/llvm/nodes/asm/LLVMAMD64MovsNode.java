@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.nodes.asm;
+
+import com.oracle.truffle.api.dsl.NodeChild;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.llvm.nodes.asm.support.LLVMAMD64WriteValueNode;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMLoadNode;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMStatementNode;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMStoreNode;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMToPointerNode;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMToPointerNodeGen;
+import com.oracle.truffle.llvm.runtime.pointer.LLVMPointer;
+
+@NodeChild(value = "rsi", type = LLVMExpressionNode.class)
+@NodeChild(value = "rdi", type = LLVMExpressionNode.class)
+@NodeChild(value = "df", type = LLVMExpressionNode.class)
+public abstract class LLVMAMD64MovsNode extends LLVMStatementNode {
+    private final int elementSize;
+
+    @Child private LLVMLoadNode load;
+    @Child private LLVMStoreNode store;
+    @Child private LLVMAMD64WriteValueNode writeRSI;
+    @Child private LLVMAMD64WriteValueNode writeRDI;
+    @Child private LLVMToPointerNode toSource = LLVMToPointerNodeGen.create();
+    @Child private LLVMToPointerNode toTarget = LLVMToPointerNodeGen.create();
+
+    public LLVMAMD64MovsNode(int elementSize, LLVMLoadNode load, LLVMStoreNode store, LLVMAMD64WriteValueNode writeRSI, LLVMAMD64WriteValueNode writeRDI) {
+        this.elementSize = elementSize;
+        this.load = load;
+        this.store = store;
+        this.writeRSI = writeRSI;
+        this.writeRDI = writeRDI;
+    }
+
+    @Specialization
+    protected void doOp(VirtualFrame frame, Object rsi, Object rdi, boolean df) {
+        LLVMPointer source = toSource.executeWithTarget(rsi);
+        LLVMPointer target = toTarget.executeWithTarget(rdi);
+        store.executeWithTarget(target, load.executeWithTarget(source));
+        long step = df ? -elementSize : elementSize;
+        writeRSI.execute(frame, source.increment(step));
+        writeRDI.execute(frame, target.increment(step));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.nodes.asm;
+
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.ImportStatic;
+import com.oracle.truffle.api.dsl.NodeChild;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.llvm.nodes.asm.support.LLVMAMD64WriteValueNode;
+import com.oracle.truffle.llvm.runtime.memory.LLVMMemMoveNode;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMStatementNode;
+import com.oracle.truffle.llvm.runtime.pointer.LLVMNativePointer;
+
+/**
+ * Executes {@code rep movs} on native memory as a single copy instead of one load and store per
+ * element. An element-wise copy only equals a {@code memmove} if no element is overwritten before
+ * it is read, so copies that overlap in copy direction, as well as copies of managed memory, are
+ * executed element by element by the {@code loop} node.
+ */
+@ImportStatic(LLVMAMD64RepNode.class)
+@NodeChild(value = "rcx", type = LLVMExpressionNode.class)
+@NodeChild(value = "rsi", type = LLVMExpressionNode.class)
+@NodeChild(value = "rdi", type = LLVMExpressionNode.class)
+@NodeChild(value = "df", type = LLVMExpressionNode.class)
+public abstract class LLVMAMD64RepMovsNode extends LLVMStatementNode {
+    private final int elementSize;
+
+    @Child private LLVMMemMoveNode memMove;
+    @Child private LLVMAMD64WriteValueNode writeRCX;
+    @Child private LLVMAMD64WriteValueNode writeRSI;
+    @Child private LLVMAMD64WriteValueNode writeRDI;
+    @Child private LLVMStatementNode loop;
+
+    public LLVMAMD64RepMovsNode(int elementSize, LLVMMemMoveNode memMove, LLVMAMD64WriteValueNode writeRCX, LLVMAMD64WriteValueNode writeRSI, LLVMAMD64WriteValueNode writeRDI,
+                    LLVMStatementNode loop) {
+        this.elementSize = elementSize;
+        this.memMove = memMove;
+        this.writeRCX = writeRCX;
+        this.writeRSI = writeRSI;
+        this.writeRDI = writeRDI;
+        this.loop = loop;
+    }
+
+    @Specialization(guards = {"rcx >= 0", "isNative(rsi)", "isNative(rdi)", "!overlapsInCopyDirection(rcx, rsi, rdi, df)"})
+    protected void doNative(VirtualFrame frame, long rcx, Object rsi, Object rdi, boolean df) {
+        if (rcx == 0) {
+            return;
+        }
+        long source = LLVMAMD64RepNode.asNative(rsi);
+        long target = LLVMAMD64RepNode.asNative(rdi);
+        long length = rcx * elementSize;
+        if (df) {
+            long offset = length - elementSize;
+            memMove.executeWithTarget(LLVMNativePointer.create(target - offset), LLVMNativePointer.create(source - offset), length);
+            writeRSI.execute(frame, source - length);
+            writeRDI.execute(frame, target - length);
+        } else {
+            memMove.executeWithTarget(LLVMNativePointer.create(target), LLVMNativePointer.create(source), length);
+            writeRSI.execute(frame, source + length);
+            writeRDI.execute(frame, target + length);
+        }
+        writeRCX.execute(frame, 0L);
+    }
+
+    @Fallback
+    protected void doLoop(VirtualFrame frame, @SuppressWarnings("unused") Object rcx, @SuppressWarnings("unused") Object rsi, @SuppressWarnings("unused") Object rdi,
+                    @SuppressWarnings("unused") Object df) {
+        loop.execute(frame);
+    }
+
+    protected boolean overlapsInCopyDirection(long rcx, Object rsi, Object rdi, boolean df) {
+        long source = LLVMAMD64RepNode.asNative(rsi);
+        long target = LLVMAMD64RepNode.asNative(rdi);
+        long length = rcx * elementSize;
+        if (df) {
+            return target < source && source - target < length;
+        } else {
+            return target > source && target - source < length;
+        }
+    }
+}
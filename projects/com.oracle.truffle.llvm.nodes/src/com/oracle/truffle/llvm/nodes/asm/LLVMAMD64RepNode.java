@@ -39,6 +39,7 @@ import com.oracle.truffle.llvm.nodes.asm.support.LLVMAMD64WriteValueNode;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMNode;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMStatementNode;
+import com.oracle.truffle.llvm.runtime.pointer.LLVMNativePointer;
 
 public class LLVMAMD64RepNode extends LLVMStatementNode {
     @Child private LoopNode loop;
@@ -52,6 +53,14 @@ public class LLVMAMD64RepNode extends LLVMStatementNode {
         loop.executeLoop(frame);
     }
 
+    static boolean isNative(Object address) {
+        return address instanceof Long || LLVMNativePointer.isInstance(address);
+    }
+
+    static long asNative(Object address) {
+        return address instanceof Long ? (long) address : LLVMNativePointer.cast(address).asNative();
+    }
+
     private static class LLVMAMD64RepLoopNode extends LLVMNode implements RepeatingNode {
         @Child private LLVMAMD64WriteValueNode writeRCX;
         @Child private LLVMExpressionNode rcx;
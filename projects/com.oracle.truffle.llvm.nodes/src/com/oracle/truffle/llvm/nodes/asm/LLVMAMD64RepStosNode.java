@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.nodes.asm;
+
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.ImportStatic;
+import com.oracle.truffle.api.dsl.NodeChild;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.llvm.nodes.asm.support.LLVMAMD64WriteValueNode;
+import com.oracle.truffle.llvm.runtime.memory.LLVMMemSetNode;
+import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMStatementNode;
+import com.oracle.truffle.llvm.runtime.pointer.LLVMNativePointer;
+
+/**
+ * Executes {@code rep stos} on native memory as a single fill instead of one store per element.
+ * Stores into managed memory are executed element by element by the {@code loop} node.
+ */
+@ImportStatic(LLVMAMD64RepNode.class)
+@NodeChild(value = "rcx", type = LLVMExpressionNode.class)
+@NodeChild(value = "rax", type = LLVMExpressionNode.class)
+@NodeChild(value = "rdi", type = LLVMExpressionNode.class)
+@NodeChild(value = "df", type = LLVMExpressionNode.class)
+public abstract class LLVMAMD64RepStosNode extends LLVMStatementNode {
+    private final int elementSize;
+
+    @Child private LLVMMemSetNode memSet;
+    @Child private LLVMAMD64WriteValueNode writeRCX;
+    @Child private LLVMAMD64WriteValueNode writeRDI;
+    @Child private LLVMStatementNode loop;
+
+    public LLVMAMD64RepStosNode(int elementSize, LLVMMemSetNode memSet, LLVMAMD64WriteValueNode writeRCX, LLVMAMD64WriteValueNode writeRDI, LLVMStatementNode loop) {
+        this.elementSize = elementSize;
+        this.memSet = memSet;
+        this.writeRCX = writeRCX;
+        this.writeRDI = writeRDI;
+        this.loop = loop;
+    }
+
+    @Specialization(guards = {"rcx >= 0", "isNative(rdi)"})
+    protected void doNative(VirtualFrame frame, long rcx, long rax, Object rdi, boolean df,
+                    @Cached("getLLVMMemory()") LLVMMemory memory) {
+        if (rcx == 0) {
+            return;
+        }
+        long target = LLVMAMD64RepNode.asNative(rdi);
+        long length = rcx * elementSize;
+        // both directions fill the same range
+        long start = df ? target - length + elementSize : target;
+        if (isBytePattern(rax)) {
+            memSet.executeWithTarget(LLVMNativePointer.create(start), (byte) rax, length);
+        } else {
+            fill(memory, start, rcx, rax);
+        }
+        writeRCX.execute(frame, 0L);
+        writeRDI.execute(frame, df ? target - length : target + length);
+    }
+
+    @Fallback
+    protected void doLoop(VirtualFrame frame, @SuppressWarnings("unused") Object rcx, @SuppressWarnings("unused") Object rax, @SuppressWarnings("unused") Object rdi,
+                    @SuppressWarnings("unused") Object df) {
+        loop.execute(frame);
+    }
+
+    private boolean isBytePattern(long value) {
+        switch (elementSize) {
+            case 1:
+                return true;
+            case 2:
+                return (short) value == (short) ((value & 0xFF) * 0x0101L);
+            case 4:
+                return (int) value == (int) ((value & 0xFF) * 0x01010101L);
+            default:
+                return value == (value & 0xFF) * 0x0101010101010101L;
+        }
+    }
+
+    private void fill(LLVMMemory memory, long start, long count, long value) {
+        long address = start;
+        for (long i = 0; i < count; i++) {
+            switch (elementSize) {
+                case 2:
+                    memory.putI16(address, (short) value);
+                    break;
+                case 4:
+                    memory.putI32(address, (int) value);
+                    break;
+                default:
+                    memory.putI64(address, value);
+                    break;
+            }
+            address += elementSize;
+        }
+    }
+}
@@ -45,8 +45,26 @@ public class LLVMAMD64Memory {
     public static final int MAP_TYPE = 0x0f;
     public static final int MAP_FIXED = 0x10;
     public static final int MAP_ANONYMOUS = 0x20;
+    public static final int MAP_FIXED_NOREPLACE = 0x100000;
     public static final int MAP_UNINITIALIZED = 0x4000000;
 
+    public static final long PAGE_SIZE = 4096;
+
+    public static boolean isPageAligned(long value) {
+        return (value & (PAGE_SIZE - 1)) == 0;
+    }
+
+    public static long alignToPage(long value) {
+        return (value + PAGE_SIZE - 1) & -PAGE_SIZE;
+    }
+
+    /**
+     * Native calls return {@code -errno} on failure, which no valid mapping address can be.
+     */
+    public static boolean isError(long result) {
+        return result < 0 && result >= -PAGE_SIZE;
+    }
+
     public static long brk(@SuppressWarnings("unused") LLVMPointer ptr) {
         return -LLVMAMD64Error.ENOSYS; // this will never be supported
     }
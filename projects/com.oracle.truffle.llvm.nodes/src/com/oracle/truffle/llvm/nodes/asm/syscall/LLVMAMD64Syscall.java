@@ -40,6 +40,7 @@ public class LLVMAMD64Syscall {
     public static final int SYS_poll = 7;
     public static final int SYS_lseek = 8;
     public static final int SYS_mmap = 9;
+    public static final int SYS_mprotect = 10;
     public static final int SYS_munmap = 11;
     public static final int SYS_brk = 12;
     public static final int SYS_rt_sigaction = 13;
@@ -49,6 +50,7 @@ public class LLVMAMD64Syscall {
     public static final int SYS_writev = 20;
     public static final int SYS_access = 21;
     public static final int SYS_pipe = 22;
+    public static final int SYS_madvise = 28;
     public static final int SYS_dup = 32;
     public static final int SYS_dup2 = 33;
     public static final int SYS_getpid = 39;
@@ -29,25 +29,108 @@
  */
 package com.oracle.truffle.llvm.nodes.asm.syscall;
 
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.CachedContext;
 import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.llvm.runtime.LLVMContext;
+import com.oracle.truffle.llvm.runtime.LLVMLanguage;
+import com.oracle.truffle.llvm.runtime.memory.LLVMFutexTable;
+import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
 import com.oracle.truffle.llvm.runtime.memory.LLVMSyscallOperationNode;
 import com.oracle.truffle.llvm.runtime.pointer.LLVMNativePointer;
 
+/**
+ * Implements {@code FUTEX_WAIT} and {@code FUTEX_WAKE} on native memory, including their
+ * {@code _PRIVATE} variants and the {@code _BITSET} variants for {@code FUTEX_BITSET_MATCH_ANY}.
+ * All futexes are treated as private to the context.
+ */
 public abstract class LLVMAMD64SyscallFutexNode extends LLVMSyscallOperationNode {
 
+    private static final int FUTEX_WAIT = 0;
+    private static final int FUTEX_WAKE = 1;
+    private static final int FUTEX_WAIT_BITSET = 9;
+    private static final int FUTEX_WAKE_BITSET = 10;
+    private static final int FUTEX_PRIVATE_FLAG = 128;
+    private static final int FUTEX_CLOCK_REALTIME = 256;
+    private static final int FUTEX_CMD_MASK = ~(FUTEX_PRIVATE_FLAG | FUTEX_CLOCK_REALTIME);
+    private static final int FUTEX_BITSET_MATCH_ANY = 0xffffffff;
+
+    private static final long NANOS_PER_SECOND = 1000000000L;
+
     @Override
     public final String getName() {
         return "futex";
     }
 
-    @SuppressWarnings("unused")
     @Specialization
-    protected long doI64(LLVMNativePointer uaddr, long futexOp, long val, LLVMNativePointer timeout, LLVMNativePointer uaddr2, long val3) {
-        return -LLVMAMD64Error.ENOSYS;
+    protected long doI64(LLVMNativePointer uaddr, long futexOp, long val, LLVMNativePointer timeout, @SuppressWarnings("unused") LLVMNativePointer uaddr2, long val3,
+                    @CachedContext(LLVMLanguage.class) LLVMContext ctx,
+                    @Cached("getLLVMMemory()") LLVMMemory memory) {
+        return futex(ctx.getFutexTable(), memory, uaddr.asNative(), (int) futexOp, (int) val, timeout.asNative(), (int) val3);
     }
 
     @Specialization
-    protected long doI64(long uaddr, long futexOp, long val, long timeout, long uaddr2, long val3) {
-        return doI64(LLVMNativePointer.create(uaddr), futexOp, val, LLVMNativePointer.create(timeout), LLVMNativePointer.create(uaddr2), val3);
+    protected long doI64(long uaddr, long futexOp, long val, long timeout, @SuppressWarnings("unused") long uaddr2, long val3,
+                    @CachedContext(LLVMLanguage.class) LLVMContext ctx,
+                    @Cached("getLLVMMemory()") LLVMMemory memory) {
+        return futex(ctx.getFutexTable(), memory, uaddr, (int) futexOp, (int) val, timeout, (int) val3);
+    }
+
+    @TruffleBoundary
+    private static long futex(LLVMFutexTable table, LLVMMemory memory, long uaddr, int futexOp, int val, long timeout, int val3) {
+        if ((uaddr & 3) != 0) {
+            return -LLVMAMD64Error.EINVAL;
+        }
+        switch (futexOp & FUTEX_CMD_MASK) {
+            case FUTEX_WAIT:
+                return wait(table, memory, uaddr, val, timeout, false, false);
+            case FUTEX_WAIT_BITSET:
+                if (val3 != FUTEX_BITSET_MATCH_ANY) {
+                    return -LLVMAMD64Error.ENOSYS;
+                }
+                return wait(table, memory, uaddr, val, timeout, true, (futexOp & FUTEX_CLOCK_REALTIME) != 0);
+            case FUTEX_WAKE:
+                return table.wake(uaddr, val);
+            case FUTEX_WAKE_BITSET:
+                if (val3 != FUTEX_BITSET_MATCH_ANY) {
+                    return -LLVMAMD64Error.ENOSYS;
+                }
+                return table.wake(uaddr, val);
+            default:
+                return -LLVMAMD64Error.ENOSYS;
+        }
+    }
+
+    /**
+     * {@code FUTEX_WAIT} takes a relative timeout, {@code FUTEX_WAIT_BITSET} an absolute one on
+     * {@code CLOCK_MONOTONIC} or, with {@code FUTEX_CLOCK_REALTIME}, on {@code CLOCK_REALTIME}.
+     */
+    private static long wait(LLVMFutexTable table, LLVMMemory memory, long uaddr, int val, long timeout, boolean absolute, boolean realtime) {
+        long timeoutNanos = -1;
+        if (timeout != 0) {
+            long sec = memory.getI64(timeout);
+            long nsec = memory.getI64(timeout + 8);
+            if (sec < 0 || nsec < 0 || nsec >= NANOS_PER_SECOND) {
+                return -LLVMAMD64Error.EINVAL;
+            }
+            long nanos = sec >= Long.MAX_VALUE / NANOS_PER_SECOND ? Long.MAX_VALUE : sec * NANOS_PER_SECOND + nsec;
+            if (absolute) {
+                // same time bases as clock_gettime
+                long now = realtime ? System.currentTimeMillis() * 1000000L : System.nanoTime();
+                nanos = Math.max(nanos - now, 0);
+            }
+            timeoutNanos = nanos;
+        }
+        switch (table.await(memory, uaddr, val, timeoutNanos)) {
+            case WOKEN:
+                return 0;
+            case VALUE_CHANGED:
+                return -LLVMAMD64Error.EAGAIN;
+            case TIMED_OUT:
+                return -LLVMAMD64Error.ETIMEDOUT;
+            default:
+                return -LLVMAMD64Error.EINTR;
+        }
     }
 }
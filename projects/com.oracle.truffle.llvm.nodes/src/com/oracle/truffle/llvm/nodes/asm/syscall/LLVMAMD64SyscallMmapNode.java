@@ -30,14 +30,32 @@
 package com.oracle.truffle.llvm.nodes.asm.syscall;
 
 import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.CachedContext;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.profiles.ConditionProfile;
+import com.oracle.truffle.llvm.nodes.asm.syscall.posix.LLVMAMD64PosixCallNode;
+import com.oracle.truffle.llvm.nodes.asm.syscall.posix.LLVMAMD64PosixCallNodeGen;
+import com.oracle.truffle.llvm.runtime.LLVMContext;
+import com.oracle.truffle.llvm.runtime.LLVMLanguage;
+import com.oracle.truffle.llvm.runtime.NFIContextExtension;
 import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
+import com.oracle.truffle.llvm.runtime.memory.LLVMMemoryRegionTable;
 import com.oracle.truffle.llvm.runtime.memory.LLVMSyscallOperationNode;
 import com.oracle.truffle.llvm.runtime.pointer.LLVMNativePointer;
 
+/**
+ * Creates anonymous and file-backed mappings with the native {@code mmap} and records them in the
+ * {@link LLVMMemoryRegionTable} of the context. {@code MAP_FIXED} replaces memory that was mapped by
+ * the program. Elsewhere it only maps address space that is still free, like
+ * {@code MAP_FIXED_NOREPLACE}, so that it cannot replace memory of Sulong itself, and fails with
+ * {@code EEXIST} otherwise. Without native access, anonymous mappings fall back to
+ * {@link LLVMMemory#allocateMemory}.
+ */
 public abstract class LLVMAMD64SyscallMmapNode extends LLVMSyscallOperationNode {
 
+    @Child private LLVMAMD64PosixCallNode mmap = LLVMAMD64PosixCallNodeGen.create("mmap", "(UINT64,UINT64,SINT32,SINT32,SINT32,SINT64):UINT64");
+    @Child private LLVMAMD64PosixCallNode munmap = LLVMAMD64PosixCallNodeGen.create("munmap", "(UINT64,UINT64):SINT32");
+
     @Override
     public final String getName() {
         return "mmap";
@@ -45,9 +63,55 @@ public abstract class LLVMAMD64SyscallMmapNode extends LLVMSyscallOperationNode
 
     private final ConditionProfile mapAnonymousProfile = ConditionProfile.createCountingProfile();
 
+    protected boolean hasNativeAccess() {
+        return lookupContextReference(LLVMLanguage.class).get().hasContextExtension(NFIContextExtension.class);
+    }
+
+    @Specialization(guards = "nativeAccess")
+    protected long doNative(LLVMNativePointer addr, long len, long prot, long flags, long fildes, long off,
+                    @Cached("hasNativeAccess()") @SuppressWarnings("unused") boolean nativeAccess,
+                    @CachedContext(LLVMLanguage.class) LLVMContext ctx) {
+        int type = (int) flags & LLVMAMD64Memory.MAP_TYPE;
+        if (len <= 0 || !LLVMAMD64Memory.isPageAligned(off) || (type != LLVMAMD64Memory.MAP_SHARED && type != LLVMAMD64Memory.MAP_PRIVATE)) {
+            return -LLVMAMD64Error.EINVAL;
+        }
+        long start = addr.asNative();
+        long length = LLVMAMD64Memory.alignToPage(len);
+        LLVMMemoryRegionTable regions = ctx.getMemoryRegions();
+        if ((flags & LLVMAMD64Memory.MAP_FIXED) != 0) {
+            if (!LLVMAMD64Memory.isPageAligned(start)) {
+                return -LLVMAMD64Error.EINVAL;
+            }
+            if (!regions.covers(start, length)) {
+                return mapFixedNoReplace(regions, start, length, prot, flags, fildes, off);
+            }
+        }
+        long result = (long) mmap.execute(start, length, (int) prot, (int) flags, (int) fildes, off);
+        if (!LLVMAMD64Memory.isError(result)) {
+            regions.add(result, length, (int) prot, (int) flags);
+        }
+        return result;
+    }
+
+    private long mapFixedNoReplace(LLVMMemoryRegionTable regions, long start, long length, long prot, long flags, long fildes, long off) {
+        int noReplaceFlags = ((int) flags & ~LLVMAMD64Memory.MAP_FIXED) | LLVMAMD64Memory.MAP_FIXED_NOREPLACE;
+        long result = (long) mmap.execute(start, length, (int) prot, noReplaceFlags, (int) fildes, off);
+        if (LLVMAMD64Memory.isError(result)) {
+            return result;
+        }
+        if (result != start) {
+            // kernels before 4.17 do not know MAP_FIXED_NOREPLACE and take the address as a hint
+            munmap.execute(result, length);
+            return -LLVMAMD64Error.EEXIST;
+        }
+        regions.add(result, length, (int) prot, (int) flags);
+        return result;
+    }
+
     @SuppressWarnings("unused")
-    @Specialization
-    protected long doOp(LLVMNativePointer addr, long len, long prot, long flags, long fildes, long off,
+    @Specialization(guards = "!nativeAccess")
+    protected long doManaged(LLVMNativePointer addr, long len, long prot, long flags, long fildes, long off,
+                    @Cached("hasNativeAccess()") boolean nativeAccess,
                     @Cached("getLLVMMemory()") LLVMMemory memory) {
         if (mapAnonymousProfile.profile((flags & LLVMAMD64Memory.MAP_ANONYMOUS) != 0)) {
             LLVMNativePointer ptr = memory.allocateMemory(len);
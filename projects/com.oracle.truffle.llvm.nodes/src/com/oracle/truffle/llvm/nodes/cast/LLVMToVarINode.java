@@ -91,7 +91,7 @@ public abstract class LLVMToVarINode extends LLVMExpressionNode {
 
         @Specialization
         protected LLVMIVarBit doIVarBit(LLVMIVarBit from) {
-            return LLVMIVarBit.create(getBits(), from.getSignExtendedBytes(), from.getBitSize(), true);
+            return from.signExtendOrTruncate(getBits());
         }
 
         @Specialization
@@ -129,7 +129,7 @@ public abstract class LLVMToVarINode extends LLVMExpressionNode {
 
         @Specialization
         protected LLVMIVarBit doIVarBit(LLVMIVarBit from) {
-            return LLVMIVarBit.create(getBits(), from.getBytes(), from.getBitSize(), false);
+            return from.zeroExtendOrTruncate(getBits());
         }
     }
 
@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.nodes.control;
+
+import com.oracle.truffle.api.CompilerAsserts;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
+import com.oracle.truffle.api.nodes.ExplodeLoop.LoopExplosionKind;
+import com.oracle.truffle.api.nodes.LoopNode;
+import com.oracle.truffle.llvm.nodes.base.LLVMBasicBlockNode;
+import com.oracle.truffle.llvm.nodes.base.LLVMFrameNullerUtil;
+import com.oracle.truffle.llvm.nodes.func.LLVMInvokeNode;
+import com.oracle.truffle.llvm.nodes.func.LLVMResumeNode;
+import com.oracle.truffle.llvm.nodes.others.LLVMUnreachableNode;
+import com.oracle.truffle.llvm.runtime.except.LLVMUserException;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMControlFlowNode;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMNode;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMStatementNode;
+
+/**
+ * Dispatches between the basic blocks of a function or of a loop body. Blocks that belong to a
+ * nested loop are not part of the region; instead, the region contains a {@link LLVMLoopNode} at the
+ * index of the loop header.
+ */
+final class LLVMBasicBlockRegionNode extends LLVMNode {
+
+    static final int NO_LOOP = -1;
+
+    private final int entryIndex;
+    private final FrameSlot exceptionValueSlot;
+    private final FrameSlot loopSuccessorSlot;
+    @Children private final LLVMBasicBlockNode[] bodyNodes;
+    @Children private final LLVMLoopNode[] loopNodes;
+    @CompilationFinal(dimensions = 2) private final FrameSlot[][] beforeBlockNuller;
+    @CompilationFinal(dimensions = 2) private final FrameSlot[][] afterBlockNuller;
+
+    private LLVMBasicBlockRegionNode(int entryIndex, LLVMBasicBlockNode[] bodyNodes, LLVMLoopNode[] loopNodes, FrameSlot exceptionValueSlot, FrameSlot loopSuccessorSlot,
+                    FrameSlot[][] beforeBlockNuller, FrameSlot[][] afterBlockNuller) {
+        this.entryIndex = entryIndex;
+        this.bodyNodes = bodyNodes;
+        this.loopNodes = loopNodes;
+        this.exceptionValueSlot = exceptionValueSlot;
+        this.loopSuccessorSlot = loopSuccessorSlot;
+        this.beforeBlockNuller = beforeBlockNuller;
+        this.afterBlockNuller = afterBlockNuller;
+    }
+
+    /**
+     * Creates the region of the function body, or of the loop with the given header.
+     *
+     * @param header the index of the loop header, or {@link #NO_LOOP} for the function body
+     * @param enclosingLoops for each loop header the header of the enclosing loop, for each other
+     *            block the header of the innermost loop containing it, or {@link #NO_LOOP}
+     * @param loopExits for each loop header the blocks the loop can exit to, {@code null} for all
+     *            other blocks
+     */
+    static LLVMBasicBlockRegionNode create(int header, LLVMBasicBlockNode[] allBlocks, int[] enclosingLoops, int[][] loopExits, FrameSlot exceptionValueSlot, FrameSlot loopSuccessorSlot,
+                    FrameSlot[][] beforeBlockNuller, FrameSlot[][] afterBlockNuller) {
+        LLVMBasicBlockNode[] bodyNodes = new LLVMBasicBlockNode[allBlocks.length];
+        LLVMLoopNode[] loopNodes = new LLVMLoopNode[allBlocks.length];
+        for (int i = 0; i < allBlocks.length; i++) {
+            boolean isLoopHeader = loopExits != null && loopExits[i] != null;
+            int enclosingLoop = enclosingLoops == null ? NO_LOOP : enclosingLoops[i];
+            if (isLoopHeader && i == header) {
+                bodyNodes[i] = allBlocks[i];
+            } else if (enclosingLoop == header) {
+                if (isLoopHeader) {
+                    LLVMBasicBlockRegionNode loopBody = create(i, allBlocks, enclosingLoops, loopExits, exceptionValueSlot, loopSuccessorSlot, beforeBlockNuller, afterBlockNuller);
+                    loopNodes[i] = new LLVMLoopNode(loopBody, loopSuccessorSlot, i, loopExits[i]);
+                } else {
+                    bodyNodes[i] = allBlocks[i];
+                }
+            }
+        }
+        if (header == NO_LOOP) {
+            return new LLVMBasicBlockRegionNode(0, bodyNodes, loopNodes, exceptionValueSlot, null, beforeBlockNuller, afterBlockNuller);
+        } else {
+            return new LLVMBasicBlockRegionNode(header, bodyNodes, loopNodes, exceptionValueSlot, loopSuccessorSlot, beforeBlockNuller, afterBlockNuller);
+        }
+    }
+
+    /**
+     * Executes the blocks of this region, starting at the entry block, until the control flow
+     * leaves the region. For a loop body, this also happens when the loop header is reached again,
+     * and the index of the next block is written to the loop successor slot.
+     *
+     * @return the return value of the function, if the region is left by returning
+     */
+    @ExplodeLoop(kind = LoopExplosionKind.MERGE_EXPLODE)
+    Object execute(VirtualFrame frame) {
+        Object returnValue = null;
+
+        CompilerAsserts.compilationConstant(bodyNodes.length);
+        int basicBlockIndex = entryIndex;
+        int backEdgeCounter = 0;
+        outer: while (true) {
+            CompilerAsserts.partialEvaluationConstant(basicBlockIndex);
+            LLVMLoopNode loopNode = loopNodes[basicBlockIndex];
+            if (loopNode != null) {
+                // the loop itself writes phis and nulls dead slots when it is left
+                int loopSuccessor = loopNode.executeLoop(frame);
+                int[] exits = loopNode.getExits();
+                for (int i = 0; i < exits.length; i++) {
+                    if (exits[i] == loopSuccessor) {
+                        basicBlockIndex = exits[i];
+                        if (leavesRegion(basicBlockIndex)) {
+                            break outer;
+                        }
+                        continue outer;
+                    }
+                }
+                CompilerDirectives.transferToInterpreter();
+                throw new IllegalStateException("unexpected loop successor: " + loopSuccessor);
+            }
+
+            LLVMBasicBlockNode bb = bodyNodes[basicBlockIndex];
+
+            // lazily insert the basic block into the AST
+            bb = bb.initialize();
+
+            // execute all statements
+            bb.execute(frame);
+
+            // execute control flow node, write phis, null stack frame slots, and dispatch to
+            // the correct successor block
+            LLVMControlFlowNode controlFlowNode = bb.termInstruction;
+            if (controlFlowNode instanceof LLVMConditionalBranchNode) {
+                LLVMConditionalBranchNode conditionalBranchNode = (LLVMConditionalBranchNode) controlFlowNode;
+                boolean condition = conditionalBranchNode.executeCondition(frame);
+                if (CompilerDirectives.injectBranchProbability(bb.getBranchProbability(LLVMConditionalBranchNode.TRUE_SUCCESSOR), condition)) {
+                    if (CompilerDirectives.inInterpreter()) {
+                        bb.increaseBranchProbability(LLVMConditionalBranchNode.TRUE_SUCCESSOR);
+                        if (conditionalBranchNode.getTrueSuccessor() <= basicBlockIndex) {
+                            backEdgeCounter++;
+                        }
+                    }
+                    nullDeadSlots(frame, basicBlockIndex, afterBlockNuller);
+                    executePhis(frame, conditionalBranchNode, LLVMConditionalBranchNode.TRUE_SUCCESSOR);
+                    basicBlockIndex = conditionalBranchNode.getTrueSuccessor();
+                    nullDeadSlots(frame, basicBlockIndex, beforeBlockNuller);
+                    if (leavesRegion(basicBlockIndex)) {
+                        break outer;
+                    }
+                    continue outer;
+                } else {
+                    if (CompilerDirectives.inInterpreter()) {
+                        bb.increaseBranchProbability(LLVMConditionalBranchNode.FALSE_SUCCESSOR);
+                        if (conditionalBranchNode.getFalseSuccessor() <= basicBlockIndex) {
+                            backEdgeCounter++;
+                        }
+                    }
+                    nullDeadSlots(frame, basicBlockIndex, afterBlockNuller);
+                    executePhis(frame, conditionalBranchNode, LLVMConditionalBranchNode.FALSE_SUCCESSOR);
+                    basicBlockIndex = conditionalBranchNode.getFalseSuccessor();
+                    nullDeadSlots(frame, basicBlockIndex, beforeBlockNuller);
+                    if (leavesRegion(basicBlockIndex)) {
+                        break outer;
+                    }
+                    continue outer;
+                }
+            } else if (controlFlowNode instanceof LLVMSwitchNode) {
+                LLVMSwitchNode switchNode = (LLVMSwitchNode) controlFlowNode;
+                int caseIndex = switchNode.executeCaseIndex(frame);
+                int[] successors = switchNode.getSuccessors();
+                for (int i = 0; i < successors.length - 1; i++) {
+                    if (CompilerDirectives.injectBranchProbability(bb.getBranchProbability(i), caseIndex == i)) {
+                        if (CompilerDirectives.inInterpreter()) {
+                            bb.increaseBranchProbability(i);
+                            if (successors[i] <= basicBlockIndex) {
+                                backEdgeCounter++;
+                            }
+                        }
+                        nullDeadSlots(frame, basicBlockIndex, afterBlockNuller);
+                        executePhis(frame, switchNode, i);
+                        basicBlockIndex = successors[i];
+                        nullDeadSlots(frame, basicBlockIndex, beforeBlockNuller);
+                        if (leavesRegion(basicBlockIndex)) {
+                            break outer;
+                        }
+                        continue outer;
+                    }
+                }
+
+                int i = successors.length - 1;
+                if (CompilerDirectives.inInterpreter()) {
+                    bb.increaseBranchProbability(i);
+                    if (successors[i] <= basicBlockIndex) {
+                        backEdgeCounter++;
+                    }
+                }
+                nullDeadSlots(frame, basicBlockIndex, afterBlockNuller);
+                executePhis(frame, switchNode, i);
+                basicBlockIndex = successors[i];
+                nullDeadSlots(frame, basicBlockIndex, beforeBlockNuller);
+                if (leavesRegion(basicBlockIndex)) {
+                    break outer;
+                }
+                continue outer;
+            } else if (controlFlowNode instanceof LLVMIndirectBranchNode) {
+                LLVMIndirectBranchNode indirectBranchNode = (LLVMIndirectBranchNode) controlFlowNode;
+                int[] successors = indirectBranchNode.getSuccessors();
+                int successorIndex = indirectBranchNode.executeSuccessorIndex(frame);
+                for (int i = 0; i < successors.length; i++) {
+                    if (indirectBranchNode.isProfiledSuccessor(i) && CompilerDirectives.injectBranchProbability(bb.getBranchProbability(i), successorIndex == i)) {
+                        if (CompilerDirectives.inInterpreter()) {
+                            bb.increaseBranchProbability(i);
+                            if (successors[i] <= basicBlockIndex) {
+                                backEdgeCounter++;
+                            }
+                        }
+                        nullDeadSlots(frame, basicBlockIndex, afterBlockNuller);
+                        executePhis(frame, indirectBranchNode, i);
+                        basicBlockIndex = successors[i];
+                        nullDeadSlots(frame, basicBlockIndex, beforeBlockNuller);
+                        if (leavesRegion(basicBlockIndex)) {
+                            break outer;
+                        }
+                        continue outer;
+                    }
+                }
+
+                // the successor is taken for the first time, this is never reached in compiled
+                // code so the successor does not need to be a constant
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                indirectBranchNode.addProfiledSuccessor(successorIndex);
+                bb.increaseBranchProbability(successorIndex);
+                if (successors[successorIndex] <= basicBlockIndex) {
+                    backEdgeCounter++;
+                }
+                nullDeadSlots(frame, basicBlockIndex, afterBlockNuller);
+                executePhis(frame, indirectBranchNode, successorIndex);
+                basicBlockIndex = successors[successorIndex];
+                nullDeadSlots(frame, basicBlockIndex, beforeBlockNuller);
+                if (leavesRegion(basicBlockIndex)) {
+                    break outer;
+                }
+                continue outer;
+            } else if (controlFlowNode instanceof LLVMBrUnconditionalNode) {
+                LLVMBrUnconditionalNode unconditionalNode = (LLVMBrUnconditionalNode) controlFlowNode;
+                if (CompilerDirectives.inInterpreter()) {
+                    if (unconditionalNode.getSuccessor() <= basicBlockIndex) {
+                        backEdgeCounter++;
+                    }
+                }
+                unconditionalNode.execute(frame); // required for instrumentation
+                nullDeadSlots(frame, basicBlockIndex, afterBlockNuller);
+                executePhis(frame, unconditionalNode, 0);
+                basicBlockIndex = unconditionalNode.getSuccessor();
+                nullDeadSlots(frame, basicBlockIndex, beforeBlockNuller);
+                if (leavesRegion(basicBlockIndex)) {
+                    break outer;
+                }
+                continue outer;
+            } else if (controlFlowNode instanceof LLVMInvokeNode) {
+                LLVMInvokeNode invokeNode = (LLVMInvokeNode) controlFlowNode;
+                try {
+                    invokeNode.execute(frame);
+                    if (CompilerDirectives.inInterpreter()) {
+                        if (invokeNode.getNormalSuccessor() <= basicBlockIndex) {
+                            backEdgeCounter++;
+                        }
+                    }
+                    nullDeadSlots(frame, basicBlockIndex, afterBlockNuller);
+                    executePhis(frame, invokeNode, LLVMInvokeNode.NORMAL_SUCCESSOR);
+                    basicBlockIndex = invokeNode.getNormalSuccessor();
+                    nullDeadSlots(frame, basicBlockIndex, beforeBlockNuller);
+                    if (leavesRegion(basicBlockIndex)) {
+                        break outer;
+                    }
+                    continue outer;
+                } catch (LLVMUserException e) {
+                    frame.setObject(exceptionValueSlot, e);
+                    if (CompilerDirectives.inInterpreter()) {
+                        if (invokeNode.getUnwindSuccessor() <= basicBlockIndex) {
+                            backEdgeCounter++;
+                        }
+                    }
+                    nullDeadSlots(frame, basicBlockIndex, afterBlockNuller);
+                    executePhis(frame, invokeNode, LLVMInvokeNode.UNWIND_SUCCESSOR);
+                    basicBlockIndex = invokeNode.getUnwindSuccessor();
+                    nullDeadSlots(frame, basicBlockIndex, beforeBlockNuller);
+                    if (leavesRegion(basicBlockIndex)) {
+                        break outer;
+                    }
+                    continue outer;
+                }
+            } else if (controlFlowNode instanceof LLVMRetNode) {
+                LLVMRetNode retNode = (LLVMRetNode) controlFlowNode;
+                returnValue = retNode.execute(frame);
+                assert noPhisNecessary(retNode);
+                nullDeadSlots(frame, basicBlockIndex, afterBlockNuller);
+                basicBlockIndex = retNode.getSuccessor();
+                break outer;
+            } else if (controlFlowNode instanceof LLVMResumeNode) {
+                LLVMResumeNode resumeNode = (LLVMResumeNode) controlFlowNode;
+                assert noPhisNecessary(resumeNode);
+                nullDeadSlots(frame, basicBlockIndex, afterBlockNuller);
+                resumeNode.execute(frame);
+                CompilerAsserts.neverPartOfCompilation();
+                throw new IllegalStateException("must not reach here");
+            } else if (controlFlowNode instanceof LLVMUnreachableNode) {
+                LLVMUnreachableNode unreachableNode = (LLVMUnreachableNode) controlFlowNode;
+                assert noPhisNecessary(unreachableNode);
+                unreachableNode.execute();
+                CompilerAsserts.neverPartOfCompilation();
+                throw new IllegalStateException("must not reach here");
+            } else {
+                CompilerAsserts.neverPartOfCompilation();
+                throw new UnsupportedOperationException("unexpected controlFlowNode type: " + controlFlowNode);
+            }
+        }
+        assert backEdgeCounter >= 0;
+        LoopNode.reportLoopCount(this, backEdgeCounter);
+        if (isLoopBody()) {
+            frame.setInt(loopSuccessorSlot, basicBlockIndex);
+        }
+        return returnValue;
+    }
+
+    private boolean isLoopBody() {
+        return loopSuccessorSlot != null;
+    }
+
+    private boolean leavesRegion(int successor) {
+        if (successor == LLVMBasicBlockNode.RETURN_FROM_FUNCTION) {
+            return true;
+        }
+        // reaching the header again ends the current iteration of the loop
+        return (isLoopBody() && successor == entryIndex) || (bodyNodes[successor] == null && loopNodes[successor] == null);
+    }
+
+    @ExplodeLoop
+    private static void executePhis(VirtualFrame frame, LLVMControlFlowNode controlFlowNode, int successorIndex) {
+        LLVMStatementNode phi = controlFlowNode.getPhiNode(successorIndex);
+        if (phi != null) {
+            phi.execute(frame);
+        }
+    }
+
+    @ExplodeLoop
+    private static void nullDeadSlots(VirtualFrame frame, int bci, FrameSlot[][] blockNullers) {
+        FrameSlot[] frameSlotsToNull = blockNullers[bci];
+        if (frameSlotsToNull != null) {
+            assert frameSlotsToNull.length > 0;
+            for (int i = 0; i < frameSlotsToNull.length; i++) {
+                LLVMFrameNullerUtil.nullFrameSlot(frame, frameSlotsToNull[i], false);
+            }
+        }
+    }
+
+    private static boolean noPhisNecessary(LLVMControlFlowNode controlFlowNode) {
+        return controlFlowNode.getSuccessorCount() == 0 || controlFlowNode.getSuccessorCount() == 1 && controlFlowNode.getPhiNode(0) == null;
+    }
+}
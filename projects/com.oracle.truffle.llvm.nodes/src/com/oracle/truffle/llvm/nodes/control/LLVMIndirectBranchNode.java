@@ -29,6 +29,9 @@
  */
 package com.oracle.truffle.llvm.nodes.control;
 
+import java.util.Arrays;
+
+import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
 import com.oracle.truffle.api.frame.VirtualFrame;
@@ -67,22 +70,55 @@ public abstract class LLVMIndirectBranchNode extends LLVMControlFlowNode impleme
         return getSourceLocation() != null;
     }
 
-    public abstract int executeCondition(VirtualFrame frame);
+    /**
+     * Returns the index of the successor that the computed block address refers to.
+     */
+    public abstract int executeSuccessorIndex(VirtualFrame frame);
 
     public abstract int[] getSuccessors();
 
+    /**
+     * Compiled code only dispatches to successors that were already taken, any other successor
+     * deoptimizes. Once too many different successors were taken, all of them are considered
+     * profiled.
+     */
+    public abstract boolean isProfiledSuccessor(int successorIndex);
+
+    public abstract void addProfiledSuccessor(int successorIndex);
+
     private static final class LLVMIndirectBranchNodeImpl extends LLVMIndirectBranchNode {
 
+        private static final int MAX_PROFILED_SUCCESSORS = 8;
+
         @Child private LLVMBranchAddressNode branchAddress;
         @Children private final LLVMStatementNode[] phiWriteNodes;
         @CompilationFinal(dimensions = 1) private final int[] successors;
 
+        // maps a target block index to the index of its successor, or -1
+        @CompilationFinal(dimensions = 1) private final int[] successorIndices;
+
+        @CompilationFinal(dimensions = 1) private final boolean[] profiledSuccessors;
+        @CompilationFinal private int profiledSuccessorCount;
+        @CompilationFinal private boolean megamorphic;
+
         private LLVMIndirectBranchNodeImpl(LLVMBranchAddressNode branchAddress, int[] indices, LLVMStatementNode[] phiWriteNodes, LLVMSourceLocation sourceSection) {
             super(sourceSection);
             assert indices.length > 1;
             this.successors = indices;
             this.branchAddress = branchAddress;
             this.phiWriteNodes = phiWriteNodes;
+            this.profiledSuccessors = new boolean[indices.length];
+
+            int maxBlockIndex = 0;
+            for (int blockIndex : indices) {
+                maxBlockIndex = Math.max(maxBlockIndex, blockIndex);
+            }
+            this.successorIndices = new int[maxBlockIndex + 1];
+            Arrays.fill(successorIndices, -1);
+            // the same block may be listed more than once, the phis are the same for all entries
+            for (int i = indices.length - 1; i >= 0; i--) {
+                successorIndices[indices[i]] = i;
+            }
         }
 
         @Override
@@ -96,14 +132,39 @@ public abstract class LLVMIndirectBranchNode extends LLVMControlFlowNode impleme
         }
 
         @Override
-        public int executeCondition(VirtualFrame frame) {
-            return branchAddress.branchAddress(frame);
+        public int executeSuccessorIndex(VirtualFrame frame) {
+            int blockIndex = branchAddress.branchAddress(frame);
+            if (blockIndex >= 0 && blockIndex < successorIndices.length) {
+                int successorIndex = successorIndices[blockIndex];
+                if (successorIndex >= 0) {
+                    return successorIndex;
+                }
+            }
+            CompilerDirectives.transferToInterpreter();
+            throw new IllegalStateException("indirect branch to a block that is not a successor: " + blockIndex);
         }
 
         @Override
         public int[] getSuccessors() {
             return successors;
         }
+
+        @Override
+        public boolean isProfiledSuccessor(int successorIndex) {
+            return megamorphic || profiledSuccessors[successorIndex];
+        }
+
+        @Override
+        public void addProfiledSuccessor(int successorIndex) {
+            CompilerAsserts.neverPartOfCompilation();
+            if (!profiledSuccessors[successorIndex]) {
+                profiledSuccessors[successorIndex] = true;
+                profiledSuccessorCount++;
+                if (profiledSuccessorCount > MAX_PROFILED_SUCCESSORS) {
+                    megamorphic = true;
+                }
+            }
+        }
     }
 
     public abstract static class LLVMBranchAddressNode extends LLVMNode {
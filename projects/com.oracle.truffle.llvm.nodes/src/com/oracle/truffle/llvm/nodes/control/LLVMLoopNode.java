@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.nodes.control;
+
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.Truffle;
+import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.frame.FrameUtil;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.LoopNode;
+import com.oracle.truffle.api.nodes.RepeatingNode;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMNode;
+
+/**
+ * A natural loop of a function. Executing the loop through a Truffle {@link LoopNode} allows
+ * long-running loops to be compiled with on-stack replacement.
+ */
+final class LLVMLoopNode extends LLVMNode {
+
+    @Child private LoopNode loop;
+    private final FrameSlot loopSuccessorSlot;
+    @CompilationFinal(dimensions = 1) private final int[] exits;
+
+    LLVMLoopNode(LLVMBasicBlockRegionNode body, FrameSlot loopSuccessorSlot, int header, int[] exits) {
+        this.loop = Truffle.getRuntime().createLoopNode(new LLVMLoopBodyNode(body, loopSuccessorSlot, header));
+        this.loopSuccessorSlot = loopSuccessorSlot;
+        this.exits = exits;
+    }
+
+    /**
+     * @return the index of the block that is executed after the loop
+     */
+    int executeLoop(VirtualFrame frame) {
+        loop.executeLoop(frame);
+        return FrameUtil.getIntSafe(frame, loopSuccessorSlot);
+    }
+
+    int[] getExits() {
+        return exits;
+    }
+
+    private static final class LLVMLoopBodyNode extends LLVMNode implements RepeatingNode {
+
+        @Child private LLVMBasicBlockRegionNode body;
+        private final FrameSlot loopSuccessorSlot;
+        private final int header;
+
+        LLVMLoopBodyNode(LLVMBasicBlockRegionNode body, FrameSlot loopSuccessorSlot, int header) {
+            this.body = body;
+            this.loopSuccessorSlot = loopSuccessorSlot;
+            this.header = header;
+        }
+
+        @Override
+        public boolean executeRepeating(VirtualFrame frame) {
+            body.execute(frame);
+            return FrameUtil.getIntSafe(frame, loopSuccessorSlot) == header;
+        }
+
+        @Override
+        public String toString() {
+            return "loop at block " + header;
+        }
+    }
+}
@@ -29,16 +29,23 @@
  */
 package com.oracle.truffle.llvm.nodes.control;
 
+import java.util.Arrays;
+
+import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.instrumentation.GenerateWrapper;
 import com.oracle.truffle.api.instrumentation.InstrumentableNode;
 import com.oracle.truffle.api.instrumentation.ProbeNode;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
+import com.oracle.truffle.api.nodes.UnexpectedResultException;
 import com.oracle.truffle.api.profiles.ValueProfile;
+import com.oracle.truffle.llvm.nodes.cast.LLVMToI64Node;
 import com.oracle.truffle.llvm.runtime.debug.scope.LLVMSourceLocation;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMControlFlowNode;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMStatementNode;
+import com.oracle.truffle.llvm.runtime.types.PrimitiveType.PrimitiveKind;
 
 @GenerateWrapper
 public abstract class LLVMSwitchNode extends LLVMControlFlowNode implements InstrumentableNode {
@@ -66,12 +73,14 @@ public abstract class LLVMSwitchNode extends LLVMControlFlowNode implements Inst
         return getSourceLocation() != null;
     }
 
-    public abstract Object executeCondition(VirtualFrame frame);
+    /**
+     * Returns the index of the case that matches the condition, or the number of cases if the
+     * default successor is taken.
+     */
+    public abstract int executeCaseIndex(VirtualFrame frame);
 
     public abstract int[] getSuccessors();
 
-    public abstract LLVMExpressionNode getCase(int i);
-
     public static class LLVMSwitchNodeImpl extends LLVMSwitchNode {
         @Children private final LLVMStatementNode[] phiNodes;
         @Child protected LLVMExpressionNode cond;
@@ -90,8 +99,17 @@ public abstract class LLVMSwitchNode extends LLVMControlFlowNode implements Inst
         }
 
         @Override
-        public Object executeCondition(VirtualFrame frame) {
-            return conditionValueClass.profile(cond.executeGeneric(frame));
+        @ExplodeLoop
+        public int executeCaseIndex(VirtualFrame frame) {
+            Object condition = conditionValueClass.profile(cond.executeGeneric(frame));
+            for (int i = 0; i < cases.length; i++) {
+                Object caseValue = cases[i].executeGeneric(frame);
+                assert caseValue.getClass() == condition.getClass() : "must be the same type - otherwise equals might wrongly return false";
+                if (condition.equals(caseValue)) {
+                    return i;
+                }
+            }
+            return cases.length;
         }
 
         @Override
@@ -109,9 +127,145 @@ public abstract class LLVMSwitchNode extends LLVMControlFlowNode implements Inst
             return phiNodes[successorIndex];
         }
 
+    }
+
+    /**
+     * Switch over an i8, i16, i32 or i64 condition with constant cases. The condition is read
+     * unboxed and the matching case is found with a lookup table if the case values are dense, and
+     * with a binary search otherwise. Once the condition evaluates to something other than a
+     * primitive, such as a pointer, it is read generically and converted to a native value.
+     */
+    public static final class LLVMIntegerSwitchNode extends LLVMSwitchNode {
+
+        private static final int MAX_TABLE_SIZE = 1 << 16;
+        private static final int MIN_TABLE_DENSITY = 4;
+
+        @Children private final LLVMStatementNode[] phiNodes;
+        @Child private LLVMExpressionNode cond;
+        @Child private LLVMToI64Node toI64;
+        @CompilationFinal(dimensions = 1) private final int[] successors;
+        private final PrimitiveKind kind;
+        private final int caseCount;
+
+        // dense cases: case index of every value in [tableStart, tableStart + table.length)
+        private final long tableStart;
+        @CompilationFinal(dimensions = 1) private final int[] table;
+
+        // sparse cases: sorted case values and their case index
+        @CompilationFinal(dimensions = 1) private final long[] sortedValues;
+        @CompilationFinal(dimensions = 1) private final int[] sortedCases;
+
+        public LLVMIntegerSwitchNode(int[] successors, LLVMStatementNode[] phiNodes, LLVMExpressionNode cond, PrimitiveKind kind, long[] caseValues, LLVMSourceLocation sourceSection) {
+            super(sourceSection);
+            assert successors.length == caseValues.length + 1 : "the last entry of the successors array must be the default case";
+            this.successors = successors;
+            this.phiNodes = phiNodes;
+            this.cond = cond;
+            this.kind = kind;
+            this.caseCount = caseValues.length;
+
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (long value : caseValues) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            long range = max - min;
+            if (caseCount > 0 && range >= 0 && range < MAX_TABLE_SIZE && range < (long) caseCount * MIN_TABLE_DENSITY) {
+                this.tableStart = min;
+                this.table = new int[(int) range + 1];
+                Arrays.fill(table, caseCount);
+                // LLVM does not allow duplicate cases, the first one would win otherwise
+                for (int i = caseCount - 1; i >= 0; i--) {
+                    table[(int) (caseValues[i] - min)] = i;
+                }
+                this.sortedValues = null;
+                this.sortedCases = null;
+            } else {
+                this.tableStart = 0;
+                this.table = null;
+                Integer[] order = new Integer[caseCount];
+                for (int i = 0; i < caseCount; i++) {
+                    order[i] = i;
+                }
+                Arrays.sort(order, (a, b) -> Long.compare(caseValues[a], caseValues[b]));
+                this.sortedValues = new long[caseCount];
+                this.sortedCases = new int[caseCount];
+                for (int i = 0; i < caseCount; i++) {
+                    sortedValues[i] = caseValues[order[i]];
+                    sortedCases[i] = order[i];
+                }
+            }
+        }
+
+        private long executeCondition(VirtualFrame frame) {
+            if (toI64 != null) {
+                return convertCondition(cond.executeGeneric(frame));
+            }
+            try {
+                switch (kind) {
+                    case I8:
+                        return cond.executeI8(frame);
+                    case I16:
+                        return cond.executeI16(frame);
+                    case I32:
+                        return cond.executeI32(frame);
+                    case I64:
+                        return cond.executeI64(frame);
+                    default:
+                        throw new IllegalStateException("unexpected switch type: " + kind);
+                }
+            } catch (UnexpectedResultException e) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                toI64 = insert((LLVMToI64Node) getNodeFactory().createSignedCast(null, PrimitiveKind.I64));
+                return convertCondition(e.getResult());
+            }
+        }
+
+        private long convertCondition(Object condition) {
+            return (long) toI64.executeWithTarget(condition);
+        }
+
+        @Override
+        public int executeCaseIndex(VirtualFrame frame) {
+            long value = executeCondition(frame);
+            if (table != null) {
+                long index = value - tableStart;
+                if (index >= 0 && index < table.length) {
+                    return table[(int) index];
+                }
+                return caseCount;
+            }
+
+            int low = 0;
+            int high = sortedValues.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                long midValue = sortedValues[mid];
+                if (midValue < value) {
+                    low = mid + 1;
+                } else if (midValue > value) {
+                    high = mid - 1;
+                } else {
+                    return sortedCases[mid];
+                }
+            }
+            return caseCount;
+        }
+
         @Override
-        public LLVMExpressionNode getCase(int i) {
-            return cases[i];
+        public int[] getSuccessors() {
+            return successors;
+        }
+
+        @Override
+        public int getSuccessorCount() {
+            return successors.length;
+        }
+
+        @Override
+        public LLVMStatementNode getPhiNode(int successorIndex) {
+            return phiNodes[successorIndex];
         }
     }
 }
@@ -46,6 +46,7 @@ import com.oracle.truffle.api.nodes.DirectCallNode;
 import com.oracle.truffle.api.nodes.ExplodeLoop;
 import com.oracle.truffle.api.nodes.IndirectCallNode;
 import com.oracle.truffle.llvm.nodes.func.LLVMDispatchNodeGen.LLVMLookupDispatchForeignNodeGen;
+import com.oracle.truffle.llvm.nodes.func.LLVMNativeCallUtils.CallSites;
 import com.oracle.truffle.llvm.runtime.LLVMContext;
 import com.oracle.truffle.llvm.runtime.LLVMFunctionDescriptor;
 import com.oracle.truffle.llvm.runtime.LLVMFunctionDescriptor.Intrinsic;
@@ -61,6 +62,7 @@ import com.oracle.truffle.llvm.runtime.interop.nfi.LLVMNativeConvertNode;
 import com.oracle.truffle.llvm.runtime.memory.LLVMStack.StackPointer;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMNode;
 import com.oracle.truffle.llvm.runtime.pointer.LLVMNativePointer;
+import com.oracle.truffle.llvm.runtime.profiling.LLVMNativeCallProfiler.CallSite;
 import com.oracle.truffle.llvm.runtime.types.FunctionType;
 import com.oracle.truffle.llvm.runtime.types.VoidType;
 
@@ -160,20 +162,34 @@ public abstract class LLVMDispatchNode extends LLVMNode {
                     @Cached("bindSymbol(cachedDescriptor)") Object cachedBoundFunction,
                     @CachedLibrary("cachedBoundFunction") InteropLibrary nativeCall,
                     @CachedContext(LLVMLanguage.class) ContextReference<LLVMContext> context,
-                    @Cached("nativeCallStatisticsEnabled(context)") boolean statistics) {
+                    @Cached("createCallSite(context, cachedDescriptor)") CallSite callSite) {
 
+        long start = LLVMNativeCallUtils.timestamp(callSite);
         Object[] nativeArgs = prepareNativeArguments(arguments, toNative);
+        long converted = LLVMNativeCallUtils.timestamp(callSite);
         Object returnValue;
         try (StackPointer save = ((StackPointer) arguments[0]).newFrame()) {
-            returnValue = LLVMNativeCallUtils.callNativeFunction(statistics, context, nativeCall, cachedBoundFunction, nativeArgs, cachedDescriptor);
+            returnValue = LLVMNativeCallUtils.callNativeFunction(nativeCall, cachedBoundFunction, nativeArgs);
         }
-        return fromNative.executeConvert(returnValue);
+        long returned = LLVMNativeCallUtils.timestamp(callSite);
+        Object result = fromNative.executeConvert(returnValue);
+        LLVMNativeCallUtils.record(callSite, start, converted, returned);
+        return result;
+    }
+
+    protected CallSite createCallSite(ContextReference<LLVMContext> context, LLVMFunctionDescriptor descriptor) {
+        return LLVMNativeCallUtils.getCallSite(context.get(), this, descriptor.getName());
+    }
+
+    protected CallSites createCallSites(ContextReference<LLVMContext> context) {
+        return LLVMNativeCallUtils.getCallSites(context.get(), this);
     }
 
     protected Object bindSymbol(LLVMFunctionDescriptor descriptor) {
         CompilerAsserts.neverPartOfCompilation();
         assert descriptor.getNativeFunction() != null : descriptor.getName();
-        return LLVMNativeCallUtils.bindNativeSymbol(InteropLibrary.getFactory().getUncached(), descriptor.getNativeFunction(), getSignature());
+        LLVMContext context = lookupContextReference(LLVMLanguage.class).get();
+        return context.getContextExtension(NFIContextExtension.class).bindNativeSymbol(descriptor.getNativeFunction(), getSignature());
     }
 
     @Specialization(replaces = "doCachedNative", guards = "descriptor.isNativeFunction()")
@@ -183,15 +199,21 @@ public abstract class LLVMDispatchNode extends LLVMNode {
                     @CachedLibrary(limit = "3") InteropLibrary nativeCall,
                     @CachedLibrary(limit = "3") InteropLibrary bind,
                     @CachedContext(LLVMLanguage.class) ContextReference<LLVMContext> context,
-                    @Cached("nativeCallStatisticsEnabled(context)") boolean statistics) {
+                    @Cached("createCallSites(context)") CallSites callSites) {
 
+        CallSite callSite = callSites != null ? callSites.get(descriptor) : null;
+        long start = LLVMNativeCallUtils.timestamp(callSite);
         Object[] nativeArgs = prepareNativeArguments(arguments, toNative);
         Object boundSymbol = LLVMNativeCallUtils.bindNativeSymbol(bind, descriptor.getNativeFunction(), getSignature());
+        long converted = LLVMNativeCallUtils.timestamp(callSite);
         Object returnValue;
         try (StackPointer save = ((StackPointer) arguments[0]).newFrame()) {
-            returnValue = LLVMNativeCallUtils.callNativeFunction(statistics, context, nativeCall, boundSymbol, nativeArgs, descriptor);
+            returnValue = LLVMNativeCallUtils.callNativeFunction(nativeCall, boundSymbol, nativeArgs);
         }
-        return fromNative.executeConvert(returnValue);
+        long returned = LLVMNativeCallUtils.timestamp(callSite);
+        Object result = fromNative.executeConvert(returnValue);
+        LLVMNativeCallUtils.record(callSite, start, converted, returned);
+        return result;
     }
 
     @ExplodeLoop
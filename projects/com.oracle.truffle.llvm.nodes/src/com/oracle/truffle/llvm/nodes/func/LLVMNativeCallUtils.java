@@ -30,16 +30,21 @@
 package com.oracle.truffle.llvm.nodes.func;
 
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 
-import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
-import com.oracle.truffle.api.TruffleLanguage.ContextReference;
 import com.oracle.truffle.api.interop.InteropException;
 import com.oracle.truffle.api.interop.InteropLibrary;
 import com.oracle.truffle.api.interop.TruffleObject;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.nodes.RootNode;
 import com.oracle.truffle.llvm.runtime.LLVMContext;
 import com.oracle.truffle.llvm.runtime.LLVMFunctionDescriptor;
+import com.oracle.truffle.llvm.runtime.debug.scope.LLVMSourceLocation;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMNode;
+import com.oracle.truffle.llvm.runtime.profiling.LLVMNativeCallProfiler;
+import com.oracle.truffle.llvm.runtime.profiling.LLVMNativeCallProfiler.CallSite;
 
 public final class LLVMNativeCallUtils {
 
@@ -52,13 +57,7 @@ public final class LLVMNativeCallUtils {
         }
     }
 
-    static Object callNativeFunction(boolean enabled, ContextReference<LLVMContext> context, InteropLibrary nativeCall, Object function, Object[] nativeArgs, LLVMFunctionDescriptor descriptor) {
-        CompilerAsserts.partialEvaluationConstant(enabled);
-        if (enabled) {
-            if (descriptor != null) {
-                traceNativeCall(context.get(), descriptor);
-            }
-        }
+    static Object callNativeFunction(InteropLibrary nativeCall, Object function, Object[] nativeArgs) {
         try {
             return nativeCall.execute(function, nativeArgs);
         } catch (InteropException e) {
@@ -67,6 +66,106 @@ public final class LLVMNativeCallUtils {
         }
     }
 
+    /**
+     * Returns the profile of native calls from {@code node} to {@code callee}, or {@code null} if
+     * native call statistics are disabled.
+     */
+    @TruffleBoundary
+    static CallSite getCallSite(LLVMContext context, Node node, String callee) {
+        LLVMNativeCallProfiler profiler = context.getNativeCallProfiler();
+        if (profiler == null) {
+            return null;
+        }
+        return profiler.getCallSite(findSourceLocation(node), getCallerName(node), callee);
+    }
+
+    /**
+     * The profiles of a node that calls different functions. The caller and the source location
+     * are looked up once for the node, so a call only has to find the profile of its callee.
+     */
+    static final class CallSites {
+
+        private final LLVMNativeCallProfiler profiler;
+        private final LLVMSourceLocation location;
+        private final String caller;
+        private final ConcurrentHashMap<Object, CallSite> sites = new ConcurrentHashMap<>();
+
+        private CallSites(LLVMNativeCallProfiler profiler, LLVMSourceLocation location, String caller) {
+            this.profiler = profiler;
+            this.location = location;
+            this.caller = caller;
+        }
+
+        @TruffleBoundary
+        CallSite get(LLVMFunctionDescriptor descriptor) {
+            CallSite site = sites.get(descriptor);
+            if (site == null) {
+                site = sites.computeIfAbsent(descriptor, d -> profiler.getCallSite(location, caller, descriptor.getName()));
+            }
+            return site;
+        }
+
+        @TruffleBoundary
+        CallSite get(long address) {
+            CallSite site = sites.get(address);
+            if (site == null) {
+                site = sites.computeIfAbsent(address, a -> profiler.getCallSite(location, caller, describeNativeFunction(address)));
+            }
+            return site;
+        }
+    }
+
+    /**
+     * Returns the profiles of native calls from {@code node}, or {@code null} if native call
+     * statistics are disabled.
+     */
+    @TruffleBoundary
+    static CallSites getCallSites(LLVMContext context, Node node) {
+        LLVMNativeCallProfiler profiler = context.getNativeCallProfiler();
+        if (profiler == null) {
+            return null;
+        }
+        return new CallSites(profiler, findSourceLocation(node), getCallerName(node));
+    }
+
+    private static String getCallerName(Node node) {
+        RootNode root = node.getRootNode();
+        return root != null && root.getName() != null ? root.getName() : "<unknown>";
+    }
+
+    @TruffleBoundary
+    static String describeNativeFunction(long address) {
+        return String.format("0x%x", address);
+    }
+
+    private static LLVMSourceLocation findSourceLocation(Node node) {
+        for (Node current = node; current != null; current = current.getParent()) {
+            if (current instanceof LLVMNode) {
+                LLVMSourceLocation location = ((LLVMNode) current).getSourceLocation();
+                if (location != null) {
+                    return location;
+                }
+            }
+        }
+        return null;
+    }
+
+    static long timestamp(CallSite callSite) {
+        return callSite != null ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records a native call that started converting its arguments at {@code start}, called the
+     * native function at {@code converted} and returned from it at {@code returned}. The time
+     * until now is spent converting the return value.
+     */
+    static void record(CallSite callSite, long start, long converted, long returned) {
+        if (callSite != null) {
+            long end = System.nanoTime();
+            callSite.record(converted - start + end - returned, returned - converted);
+        }
+    }
+
     @TruffleBoundary
     private static String argsToString(Object[] nativeArgs) {
         StringJoiner joiner = new StringJoiner(", ", "(", ")");
@@ -75,9 +174,4 @@ public final class LLVMNativeCallUtils {
         }
         return joiner.toString();
     }
-
-    @TruffleBoundary
-    private static void traceNativeCall(LLVMContext context, LLVMFunctionDescriptor descriptor) {
-        context.registerNativeCall(descriptor);
-    }
 }
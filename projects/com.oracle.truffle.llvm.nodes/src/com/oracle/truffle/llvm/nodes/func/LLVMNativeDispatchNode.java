@@ -44,6 +44,7 @@ import com.oracle.truffle.api.interop.UnsupportedMessageException;
 import com.oracle.truffle.api.interop.UnsupportedTypeException;
 import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.ExplodeLoop;
+import com.oracle.truffle.llvm.nodes.func.LLVMNativeCallUtils.CallSites;
 import com.oracle.truffle.llvm.runtime.LLVMContext;
 import com.oracle.truffle.llvm.runtime.LLVMLanguage;
 import com.oracle.truffle.llvm.runtime.NFIContextExtension;
@@ -52,6 +53,7 @@ import com.oracle.truffle.llvm.runtime.interop.nfi.LLVMNativeConvertNode;
 import com.oracle.truffle.llvm.runtime.memory.LLVMStack.StackPointer;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMNode;
 import com.oracle.truffle.llvm.runtime.pointer.LLVMNativePointer;
+import com.oracle.truffle.llvm.runtime.profiling.LLVMNativeCallProfiler.CallSite;
 import com.oracle.truffle.llvm.runtime.types.FunctionType;
 
 public abstract class LLVMNativeDispatchNode extends LLVMNode {
@@ -128,13 +130,26 @@ public abstract class LLVMNativeDispatchNode extends LLVMNode {
                     @CachedLibrary("nativeFunctionHandle") InteropLibrary nativeCall,
                     @Cached("createToNativeNodes()") LLVMNativeConvertNode[] toNative,
                     @Cached("createFromNativeNode()") LLVMNativeConvertNode fromNative,
-                    @Cached("nativeCallStatisticsEnabled(context)") boolean statistics) {
+                    @Cached("createCallSite(context, cachedFunction.asNative())") CallSite callSite) {
+        long start = LLVMNativeCallUtils.timestamp(callSite);
         Object[] nativeArgs = prepareNativeArguments(arguments, toNative);
+        long converted = LLVMNativeCallUtils.timestamp(callSite);
         Object returnValue;
         try (StackPointer save = ((StackPointer) arguments[0]).newFrame()) {
-            returnValue = LLVMNativeCallUtils.callNativeFunction(statistics, context, nativeCall, nativeFunctionHandle, nativeArgs, null);
+            returnValue = LLVMNativeCallUtils.callNativeFunction(nativeCall, nativeFunctionHandle, nativeArgs);
         }
-        return fromNative.executeConvert(returnValue);
+        long returned = LLVMNativeCallUtils.timestamp(callSite);
+        Object result = fromNative.executeConvert(returnValue);
+        LLVMNativeCallUtils.record(callSite, start, converted, returned);
+        return result;
+    }
+
+    protected CallSite createCallSite(ContextReference<LLVMContext> context, long function) {
+        return LLVMNativeCallUtils.getCallSite(context.get(), this, LLVMNativeCallUtils.describeNativeFunction(function));
+    }
+
+    protected CallSites createCallSites(ContextReference<LLVMContext> context) {
+        return LLVMNativeCallUtils.getCallSites(context.get(), this);
     }
 
     @Specialization
@@ -143,12 +158,18 @@ public abstract class LLVMNativeDispatchNode extends LLVMNode {
                     @Cached("createToNativeNodes()") LLVMNativeConvertNode[] toNative,
                     @Cached("createFromNativeNode()") LLVMNativeConvertNode fromNative,
                     @CachedLibrary(limit = "5") InteropLibrary nativeCall,
-                    @Cached("nativeCallStatisticsEnabled(context)") boolean statistics) {
+                    @Cached("createCallSites(context)") CallSites callSites) {
+        CallSite callSite = callSites != null ? callSites.get(function.asNative()) : null;
+        long start = LLVMNativeCallUtils.timestamp(callSite);
         Object[] nativeArgs = prepareNativeArguments(arguments, toNative);
+        long converted = LLVMNativeCallUtils.timestamp(callSite);
         Object returnValue;
         try (StackPointer save = ((StackPointer) arguments[0]).newFrame()) {
-            returnValue = LLVMNativeCallUtils.callNativeFunction(statistics, context, nativeCall, dispatchIdentity(function.asNative()), nativeArgs, null);
+            returnValue = LLVMNativeCallUtils.callNativeFunction(nativeCall, dispatchIdentity(function.asNative()), nativeArgs);
         }
-        return fromNative.executeConvert(returnValue);
+        long returned = LLVMNativeCallUtils.timestamp(callSite);
+        Object result = fromNative.executeConvert(returnValue);
+        LLVMNativeCallUtils.record(callSite, start, converted, returned);
+        return result;
     }
 }
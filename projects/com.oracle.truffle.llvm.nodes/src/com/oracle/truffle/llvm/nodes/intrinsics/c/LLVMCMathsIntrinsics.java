@@ -476,8 +476,7 @@ public abstract class LLVMCMathsIntrinsics {
 
         @Specialization
         protected LLVM80BitFloat doIntrinsic(LLVM80BitFloat value, LLVM80BitFloat denom) {
-            double result = doIntrinsic(value.getDoubleValue(), denom.getDoubleValue());
-            return LLVM80BitFloat.fromDouble(result);
+            return LLVM80BitFloat.rem(value, denom);
         }
     }
 
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.nodes.intrinsics.c;
+
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.CachedContext;
+import com.oracle.truffle.api.dsl.NodeChild;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.llvm.nodes.memory.store.LLVMI32StoreNodeGen;
+import com.oracle.truffle.llvm.nodes.memory.store.LLVMI64StoreNodeGen;
+import com.oracle.truffle.llvm.nodes.memory.store.LLVMPointerStoreNodeGen;
+import com.oracle.truffle.llvm.runtime.LLVMContext;
+import com.oracle.truffle.llvm.runtime.LLVMLanguage;
+import com.oracle.truffle.llvm.runtime.LLVMPThreadContext;
+import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMStoreNode;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMToNativeNode;
+import com.oracle.truffle.llvm.runtime.pointer.LLVMPointer;
+
+/**
+ * Intrinsics for the {@code pthread} functions. The state behind them is kept in the
+ * {@link LLVMPThreadContext} of the context.
+ */
+public abstract class LLVMPThreadIntrinsics extends LLVMExpressionNode {
+
+    /**
+     * {@code pthread_create} without attributes, which are handled in {@code pthreads.c}.
+     */
+    @NodeChild(type = LLVMExpressionNode.class, value = "thread")
+    @NodeChild(type = LLVMExpressionNode.class, value = "startRoutine")
+    @NodeChild(type = LLVMExpressionNode.class, value = "arg")
+    public abstract static class LLVMPThreadCreate extends LLVMPThreadIntrinsics {
+        @Child private LLVMStoreNode storeThread = LLVMI64StoreNodeGen.create(null, null);
+
+        @Specialization
+        protected int doCreate(Object thread, Object startRoutine, Object arg,
+                        @CachedContext(LLVMLanguage.class) LLVMContext ctx) {
+            long id = ctx.getPThreadContext().create(startRoutine, arg);
+            if (id < 0) {
+                return (int) -id;
+            }
+            storeThread.executeWithTarget(thread, id);
+            return 0;
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "thread")
+    @NodeChild(type = LLVMExpressionNode.class, value = "retval")
+    public abstract static class LLVMPThreadJoin extends LLVMPThreadIntrinsics {
+        @Child private LLVMStoreNode storeReturnValue = LLVMPointerStoreNodeGen.create(null, null);
+
+        @Specialization
+        protected int doJoin(long thread, LLVMPointer retval,
+                        @CachedContext(LLVMLanguage.class) LLVMContext ctx) {
+            LLVMPThreadContext pthreads = ctx.getPThreadContext();
+            int error = pthreads.getJoinError(thread);
+            if (error != 0) {
+                return error;
+            }
+            Object result = pthreads.join(thread);
+            if (result == null) {
+                // joined or detached by another thread in the meantime
+                return LLVMPThreadContext.ESRCH;
+            }
+            if (!retval.isNull()) {
+                storeReturnValue.executeWithTarget(retval, result);
+            }
+            return 0;
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "thread")
+    public abstract static class LLVMPThreadDetach extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        protected int doDetach(long thread,
+                        @CachedContext(LLVMLanguage.class) LLVMContext ctx) {
+            return ctx.getPThreadContext().detach(thread);
+        }
+    }
+
+    public abstract static class LLVMPThreadSelf extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        protected long doSelf() {
+            return Thread.currentThread().getId();
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "retval")
+    public abstract static class LLVMPThreadExit extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        protected Object doExit(Object retval,
+                        @CachedContext(LLVMLanguage.class) LLVMContext ctx) {
+            throw ctx.getPThreadContext().exit(retval);
+        }
+    }
+
+    /**
+     * {@code pthread_mutex_init} with the mutex type already translated by {@code pthreads.c}.
+     */
+    @NodeChild(type = LLVMExpressionNode.class, value = "mutex")
+    @NodeChild(type = LLVMExpressionNode.class, value = "kind")
+    public abstract static class LLVMPThreadMutexInit extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        protected int doInit(Object mutex, int kind,
+                        @Cached("createToNativeWithTarget()") LLVMToNativeNode toNative,
+                        @CachedContext(LLVMLanguage.class) LLVMContext ctx) {
+            return ctx.getPThreadContext().mutexInit(toNative.executeWithTarget(mutex).asNative(), kind);
+        }
+    }
+
+    public enum MutexOperation {
+        LOCK,
+        TRYLOCK,
+        UNLOCK,
+        DESTROY
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "mutex")
+    public abstract static class LLVMPThreadMutex extends LLVMPThreadIntrinsics {
+        private final MutexOperation operation;
+
+        public LLVMPThreadMutex(MutexOperation operation) {
+            this.operation = operation;
+        }
+
+        @Specialization
+        protected int doMutex(Object mutex,
+                        @Cached("createToNativeWithTarget()") LLVMToNativeNode toNative,
+                        @CachedContext(LLVMLanguage.class) LLVMContext ctx) {
+            long address = toNative.executeWithTarget(mutex).asNative();
+            LLVMPThreadContext pthreads = ctx.getPThreadContext();
+            switch (operation) {
+                case LOCK:
+                    return pthreads.mutexLock(address);
+                case TRYLOCK:
+                    return pthreads.mutexTryLock(address);
+                case UNLOCK:
+                    return pthreads.mutexUnlock(address);
+                default:
+                    return pthreads.mutexDestroy(address);
+            }
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "cond")
+    @NodeChild(type = LLVMExpressionNode.class, value = "attr")
+    public abstract static class LLVMPThreadCondInit extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        protected int doInit(@SuppressWarnings("unused") Object cond, @SuppressWarnings("unused") Object attr) {
+            // condition variables are created on first use
+            return 0;
+        }
+    }
+
+    public enum CondOperation {
+        SIGNAL,
+        BROADCAST,
+        DESTROY
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "cond")
+    public abstract static class LLVMPThreadCond extends LLVMPThreadIntrinsics {
+        private final CondOperation operation;
+
+        public LLVMPThreadCond(CondOperation operation) {
+            this.operation = operation;
+        }
+
+        @Specialization
+        protected int doCond(Object cond,
+                        @Cached("createToNativeWithTarget()") LLVMToNativeNode toNative,
+                        @CachedContext(LLVMLanguage.class) LLVMContext ctx) {
+            long address = toNative.executeWithTarget(cond).asNative();
+            LLVMPThreadContext pthreads = ctx.getPThreadContext();
+            switch (operation) {
+                case SIGNAL:
+                    return pthreads.condSignal(address, false);
+                case BROADCAST:
+                    return pthreads.condSignal(address, true);
+                default:
+                    return pthreads.condDestroy(address);
+            }
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "cond")
+    @NodeChild(type = LLVMExpressionNode.class, value = "mutex")
+    public abstract static class LLVMPThreadCondWait extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        protected int doWait(Object cond, Object mutex,
+                        @Cached("createToNativeWithTarget()") LLVMToNativeNode toNative,
+                        @CachedContext(LLVMLanguage.class) LLVMContext ctx) {
+            return ctx.getPThreadContext().condWait(toNative.executeWithTarget(cond).asNative(), toNative.executeWithTarget(mutex).asNative(), -1);
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "cond")
+    @NodeChild(type = LLVMExpressionNode.class, value = "mutex")
+    @NodeChild(type = LLVMExpressionNode.class, value = "abstime")
+    public abstract static class LLVMPThreadCondTimedWait extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        protected int doWait(Object cond, Object mutex, Object abstime,
+                        @Cached("createToNativeWithTarget()") LLVMToNativeNode toNative,
+                        @Cached("getLLVMMemory()") LLVMMemory memory,
+                        @CachedContext(LLVMLanguage.class) LLVMContext ctx) {
+            long timespec = toNative.executeWithTarget(abstime).asNative();
+            long sec = memory.getI64(timespec);
+            long nsec = memory.getI64(timespec + 8);
+            if (sec < 0 || nsec < 0 || nsec >= 1000000000L) {
+                return LLVMPThreadContext.EINVAL;
+            }
+            long deadlineMillis = sec >= Long.MAX_VALUE / 1000 ? Long.MAX_VALUE : sec * 1000 + nsec / 1000000;
+            return ctx.getPThreadContext().condWait(toNative.executeWithTarget(cond).asNative(), toNative.executeWithTarget(mutex).asNative(), deadlineMillis);
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "key")
+    @NodeChild(type = LLVMExpressionNode.class, value = "destructor")
+    public abstract static class LLVMPThreadKeyCreate extends LLVMPThreadIntrinsics {
+        @Child private LLVMStoreNode storeKey = LLVMI32StoreNodeGen.create(null, null);
+
+        @Specialization
+        protected int doCreate(Object key, LLVMPointer destructor,
+                        @CachedContext(LLVMLanguage.class) LLVMContext ctx) {
+            int id = ctx.getPThreadContext().keyCreate(destructor.isNull() ? null : destructor);
+            storeKey.executeWithTarget(key, id);
+            return 0;
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "key")
+    public abstract static class LLVMPThreadKeyDelete extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        protected int doDelete(int key,
+                        @CachedContext(LLVMLanguage.class) LLVMContext ctx) {
+            return ctx.getPThreadContext().keyDelete(key);
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "key")
+    public abstract static class LLVMPThreadGetSpecific extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        protected Object doGet(int key,
+                        @CachedContext(LLVMLanguage.class) LLVMContext ctx) {
+            return ctx.getPThreadContext().getSpecific(key);
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "key")
+    @NodeChild(type = LLVMExpressionNode.class, value = "value")
+    public abstract static class LLVMPThreadSetSpecific extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        protected int doSet(int key, LLVMPointer value,
+                        @CachedContext(LLVMLanguage.class) LLVMContext ctx) {
+            return ctx.getPThreadContext().setSpecific(key, value);
+        }
+    }
+}
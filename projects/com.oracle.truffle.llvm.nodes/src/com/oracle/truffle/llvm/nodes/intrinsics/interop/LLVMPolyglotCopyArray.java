@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.nodes.intrinsics.interop;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.TruffleLanguage.ContextReference;
+import com.oracle.truffle.api.TruffleLanguage.Env;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.CachedContext;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.NodeChild;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.interop.InteropException;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.InvalidArrayIndexException;
+import com.oracle.truffle.api.interop.TruffleObject;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.profiles.BranchProfile;
+import com.oracle.truffle.api.profiles.ConditionProfile;
+import com.oracle.truffle.llvm.nodes.intrinsics.llvm.LLVMIntrinsic;
+import com.oracle.truffle.llvm.runtime.LLVMContext;
+import com.oracle.truffle.llvm.runtime.LLVMLanguage;
+import com.oracle.truffle.llvm.runtime.except.LLVMPolyglotException;
+import com.oracle.truffle.llvm.runtime.interop.LLVMAsForeignNode;
+import com.oracle.truffle.llvm.runtime.interop.access.LLVMInteropType;
+import com.oracle.truffle.llvm.runtime.interop.access.LLVMInteropType.ValueKind;
+import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
+import com.oracle.truffle.llvm.runtime.memory.UnsafeArrayAccess;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+import com.oracle.truffle.llvm.runtime.pointer.LLVMManagedPointer;
+import com.oracle.truffle.llvm.runtime.pointer.LLVMNativePointer;
+
+/**
+ * Copies a range of elements between a polyglot array and native memory.
+ *
+ * Primitive host arrays and arrays in native memory whose element type matches the typeid are
+ * copied in bulk. Other polyglot arrays are copied element by element.
+ */
+public abstract class LLVMPolyglotCopyArray extends LLVMIntrinsic {
+
+    @NodeChild(value = "dst", type = LLVMExpressionNode.class)
+    @NodeChild(value = "array", type = LLVMExpressionNode.class)
+    @NodeChild(value = "offset", type = LLVMExpressionNode.class)
+    @NodeChild(value = "len", type = LLVMExpressionNode.class)
+    @NodeChild(value = "typeid", type = LLVMExpressionNode.class)
+    public abstract static class LLVMPolyglotCopyFromArray extends LLVMPolyglotCopyArray {
+
+        @Specialization(guards = {"isPrimitive(type)", "isArrayOf(array, type)"})
+        protected Object doNative(LLVMNativePointer dst, LLVMNativePointer array, long offset, long len, LLVMInteropType.Value type,
+                        @Cached("getLLVMMemory()") LLVMMemory memory,
+                        @Cached BranchProfile exception) {
+            checkRange(offset, len, getArrayLength(array), exception);
+            long size = type.getSize();
+            memory.copyMemory(array.asNative() + offset * size, dst.asNative(), len * size);
+            return null;
+        }
+
+        @Specialization(guards = {"isPrimitive(type)", "!isArrayOf(array, type)"})
+        protected Object doNativeElements(LLVMNativePointer dst, LLVMNativePointer array, long offset, long len, LLVMInteropType.Value type,
+                        @Cached("getLLVMMemory()") LLVMMemory memory,
+                        @CachedLibrary(limit = "3") InteropLibrary interop,
+                        @CachedLibrary(limit = "3") InteropLibrary elements,
+                        @Cached BranchProfile exception) {
+            checkRange(offset, len, Long.MAX_VALUE, exception);
+            copyElements(memory, interop, elements, type, dst, array, offset, len, exception);
+            return null;
+        }
+
+        @Specialization(guards = "isPrimitive(type)")
+        protected Object doForeign(LLVMNativePointer dst, LLVMManagedPointer array, long offset, long len, LLVMInteropType.Value type,
+                        @Cached LLVMAsForeignNode asForeign,
+                        @CachedContext(LLVMLanguage.class) ContextReference<LLVMContext> context,
+                        @Cached("getLLVMMemory()") LLVMMemory memory,
+                        @Cached("getUnsafeArrayAccess()") UnsafeArrayAccess arrayAccess,
+                        @CachedLibrary(limit = "3") InteropLibrary interop,
+                        @CachedLibrary(limit = "3") InteropLibrary elements,
+                        @Cached("createBinaryProfile()") ConditionProfile isHostArray,
+                        @Cached BranchProfile exception) {
+            checkRange(offset, len, Long.MAX_VALUE, exception);
+            TruffleObject foreign = asForeign.execute(array);
+            ValueKind kind = type.getKind();
+            long size = type.getSize();
+            Object hostArray = asHostArray(context.get().getEnv(), foreign, kind);
+            if (isHostArray.profile(hostArray != null)) {
+                checkRange(offset, len, getHostArrayLength(hostArray, kind), exception);
+                arrayAccess.copyToNative(hostArray, offset * size, dst.asNative(), len * size);
+            } else {
+                copyElements(memory, interop, elements, type, dst, foreign, offset, len, exception);
+            }
+            return null;
+        }
+
+        private void copyElements(LLVMMemory memory, InteropLibrary interop, InteropLibrary elements, LLVMInteropType.Value type, LLVMNativePointer dst, TruffleObject foreign, long offset,
+                        long len, BranchProfile exception) {
+            ValueKind kind = type.getKind();
+            long size = type.getSize();
+            long ptr = dst.asNative();
+            for (long i = 0; i < len; i++) {
+                Object element = readElement(interop, foreign, offset + i, exception);
+                storeElement(memory, elements, kind, ptr + i * size, element, offset + i, exception);
+            }
+        }
+
+        @Fallback
+        @TruffleBoundary
+        @SuppressWarnings("unused")
+        public Object fallback(Object dst, Object array, Object offset, Object len, Object type) {
+            throw new LLVMPolyglotException(this, "Invalid argument to polyglot builtin.");
+        }
+    }
+
+    @NodeChild(value = "array", type = LLVMExpressionNode.class)
+    @NodeChild(value = "offset", type = LLVMExpressionNode.class)
+    @NodeChild(value = "src", type = LLVMExpressionNode.class)
+    @NodeChild(value = "len", type = LLVMExpressionNode.class)
+    @NodeChild(value = "typeid", type = LLVMExpressionNode.class)
+    public abstract static class LLVMPolyglotCopyToArray extends LLVMPolyglotCopyArray {
+
+        @Specialization(guards = {"isPrimitive(type)", "isArrayOf(array, type)"})
+        protected Object doNative(LLVMNativePointer array, long offset, LLVMNativePointer src, long len, LLVMInteropType.Value type,
+                        @Cached("getLLVMMemory()") LLVMMemory memory,
+                        @Cached BranchProfile exception) {
+            checkRange(offset, len, getArrayLength(array), exception);
+            long size = type.getSize();
+            memory.copyMemory(src.asNative(), array.asNative() + offset * size, len * size);
+            return null;
+        }
+
+        @Specialization(guards = {"isPrimitive(type)", "!isArrayOf(array, type)"})
+        protected Object doNativeElements(LLVMNativePointer array, long offset, LLVMNativePointer src, long len, LLVMInteropType.Value type,
+                        @Cached("getLLVMMemory()") LLVMMemory memory,
+                        @CachedLibrary(limit = "3") InteropLibrary interop,
+                        @Cached BranchProfile exception) {
+            checkRange(offset, len, Long.MAX_VALUE, exception);
+            copyElements(memory, interop, type, array, offset, src, len, exception);
+            return null;
+        }
+
+        @Specialization(guards = "isPrimitive(type)")
+        protected Object doForeign(LLVMManagedPointer array, long offset, LLVMNativePointer src, long len, LLVMInteropType.Value type,
+                        @Cached LLVMAsForeignNode asForeign,
+                        @CachedContext(LLVMLanguage.class) ContextReference<LLVMContext> context,
+                        @Cached("getLLVMMemory()") LLVMMemory memory,
+                        @Cached("getUnsafeArrayAccess()") UnsafeArrayAccess arrayAccess,
+                        @CachedLibrary(limit = "3") InteropLibrary interop,
+                        @Cached("createBinaryProfile()") ConditionProfile isHostArray,
+                        @Cached BranchProfile exception) {
+            checkRange(offset, len, Long.MAX_VALUE, exception);
+            TruffleObject foreign = asForeign.execute(array);
+            ValueKind kind = type.getKind();
+            long size = type.getSize();
+            Object hostArray = asHostArray(context.get().getEnv(), foreign, kind);
+            if (isHostArray.profile(hostArray != null)) {
+                checkRange(offset, len, getHostArrayLength(hostArray, kind), exception);
+                arrayAccess.copyFromNative(src.asNative(), hostArray, offset * size, len * size);
+            } else {
+                copyElements(memory, interop, type, foreign, offset, src, len, exception);
+            }
+            return null;
+        }
+
+        private void copyElements(LLVMMemory memory, InteropLibrary interop, LLVMInteropType.Value type, TruffleObject foreign, long offset, LLVMNativePointer src, long len,
+                        BranchProfile exception) {
+            ValueKind kind = type.getKind();
+            long size = type.getSize();
+            long ptr = src.asNative();
+            for (long i = 0; i < len; i++) {
+                Object element = loadElement(memory, kind, ptr + i * size);
+                writeElement(interop, foreign, offset + i, element, exception);
+            }
+        }
+
+        @Fallback
+        @TruffleBoundary
+        @SuppressWarnings("unused")
+        public Object fallback(Object array, Object offset, Object src, Object len, Object type) {
+            throw new LLVMPolyglotException(this, "Invalid argument to polyglot builtin.");
+        }
+    }
+
+    protected static boolean isPrimitive(LLVMInteropType.Value type) {
+        return type.getKind() != ValueKind.POINTER;
+    }
+
+    /**
+     * Checks whether a pointer to native memory was exported as an array with elements of the
+     * typeid, so that the range can be copied in bulk and checked against the array length.
+     */
+    protected static boolean isArrayOf(LLVMNativePointer array, LLVMInteropType.Value type) {
+        LLVMInteropType exportType = array.getExportType();
+        if (exportType instanceof LLVMInteropType.Array) {
+            LLVMInteropType.Array arrayType = (LLVMInteropType.Array) exportType;
+            LLVMInteropType elementType = arrayType.getElementType();
+            return elementType instanceof LLVMInteropType.Value && ((LLVMInteropType.Value) elementType).getKind() == type.getKind() && arrayType.getElementSize() == type.getSize();
+        }
+        return false;
+    }
+
+    protected static long getArrayLength(LLVMNativePointer array) {
+        return ((LLVMInteropType.Array) array.getExportType()).getLength();
+    }
+
+    /**
+     * Every specialization checks the range before it copies anything, with {@link Long#MAX_VALUE}
+     * as length if the length of the array is not known, so that a negative offset or length fails
+     * the same way on the bulk and on the element-wise paths.
+     */
+    protected void checkRange(long offset, long len, long length, BranchProfile exception) {
+        if (offset < 0 || len < 0 || offset > length - len) {
+            exception.enter();
+            throw new LLVMPolyglotException(this, "Range of %d elements at index %d is out of bounds of the polyglot array.", len, offset);
+        }
+    }
+
+    /**
+     * Returns the primitive host array behind {@code foreign} if its element type is
+     * {@code kind}, or {@code null} otherwise.
+     */
+    private static Object asHostArray(Env env, TruffleObject foreign, ValueKind kind) {
+        if (!env.isHostObject(foreign)) {
+            return null;
+        }
+        Object host = env.asHostObject(foreign);
+        switch (kind) {
+            case I1:
+                return host instanceof boolean[] ? host : null;
+            case I8:
+                return host instanceof byte[] ? host : null;
+            case I16:
+                return host instanceof short[] ? host : null;
+            case I32:
+                return host instanceof int[] ? host : null;
+            case I64:
+                return host instanceof long[] ? host : null;
+            case FLOAT:
+                return host instanceof float[] ? host : null;
+            case DOUBLE:
+                return host instanceof double[] ? host : null;
+            default:
+                return null;
+        }
+    }
+
+    private static long getHostArrayLength(Object hostArray, ValueKind kind) {
+        switch (kind) {
+            case I1:
+                return ((boolean[]) hostArray).length;
+            case I8:
+                return ((byte[]) hostArray).length;
+            case I16:
+                return ((short[]) hostArray).length;
+            case I32:
+                return ((int[]) hostArray).length;
+            case I64:
+                return ((long[]) hostArray).length;
+            case FLOAT:
+                return ((float[]) hostArray).length;
+            case DOUBLE:
+                return ((double[]) hostArray).length;
+            default:
+                throw new IllegalStateException("unexpected value kind " + kind);
+        }
+    }
+
+    private Object readElement(InteropLibrary interop, TruffleObject foreign, long index, BranchProfile exception) {
+        try {
+            return interop.readArrayElement(foreign, index);
+        } catch (UnsupportedMessageException e) {
+            exception.enter();
+            throw new LLVMPolyglotException(interop, "Can not read from index %d of polyglot value.", index);
+        } catch (InvalidArrayIndexException e) {
+            exception.enter();
+            throw new LLVMPolyglotException(interop, "Index %d does not exist.", index);
+        }
+    }
+
+    private void writeElement(InteropLibrary interop, TruffleObject foreign, long index, Object value, BranchProfile exception) {
+        try {
+            interop.writeArrayElement(foreign, index, value);
+        } catch (InvalidArrayIndexException e) {
+            exception.enter();
+            throw new LLVMPolyglotException(interop, "Index %d does not exist.", index);
+        } catch (InteropException e) {
+            exception.enter();
+            throw new LLVMPolyglotException(interop, "Can not write to index %d of polyglot value.", index);
+        }
+    }
+
+    private void storeElement(LLVMMemory memory, InteropLibrary elements, ValueKind kind, long ptr, Object element, long index, BranchProfile exception) {
+        try {
+            switch (kind) {
+                case I1:
+                    memory.putI1(ptr, elements.asBoolean(element));
+                    break;
+                case I8:
+                    memory.putI8(ptr, elements.asByte(element));
+                    break;
+                case I16:
+                    memory.putI16(ptr, elements.asShort(element));
+                    break;
+                case I32:
+                    memory.putI32(ptr, elements.asInt(element));
+                    break;
+                case I64:
+                    memory.putI64(ptr, elements.asLong(element));
+                    break;
+                case FLOAT:
+                    memory.putFloat(ptr, elements.asFloat(element));
+                    break;
+                case DOUBLE:
+                    memory.putDouble(ptr, elements.asDouble(element));
+                    break;
+                default:
+                    throw new IllegalStateException("unexpected value kind " + kind);
+            }
+        } catch (UnsupportedMessageException e) {
+            exception.enter();
+            throw new LLVMPolyglotException(this, "Element %d of polyglot array can not be converted to %s.", index, kind);
+        }
+    }
+
+    private static Object loadElement(LLVMMemory memory, ValueKind kind, long ptr) {
+        switch (kind) {
+            case I1:
+                return memory.getI1(ptr);
+            case I8:
+                return memory.getI8(ptr);
+            case I16:
+                return memory.getI16(ptr);
+            case I32:
+                return memory.getI32(ptr);
+            case I64:
+                return memory.getI64(ptr);
+            case FLOAT:
+                return memory.getFloat(ptr);
+            case DOUBLE:
+                return memory.getDouble(ptr);
+            default:
+                throw new IllegalStateException("unexpected value kind " + kind);
+        }
+    }
+}
@@ -29,6 +29,8 @@
  */
 package com.oracle.truffle.llvm.nodes.intrinsics.interop;
 
+import java.util.Arrays;
+
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Shared;
@@ -69,6 +71,14 @@ public abstract class LLVMTruffleManagedMalloc extends LLVMIntrinsic {
             contents[index] = value;
         }
 
+        public void copyFrom(int index, ManagedMallocObject source, int sourceIndex, int length) {
+            System.arraycopy(source.contents, sourceIndex, contents, index, length);
+        }
+
+        public void fill(int index, int length, Object value) {
+            Arrays.fill(contents, index, index + length, value);
+        }
+
         @ExportMessage
         boolean hasArrayElements() {
             return true;
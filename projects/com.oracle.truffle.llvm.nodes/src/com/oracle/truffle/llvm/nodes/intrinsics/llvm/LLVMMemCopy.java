@@ -32,11 +32,12 @@ package com.oracle.truffle.llvm.nodes.intrinsics.llvm;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.NodeChild;
 import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.llvm.nodes.intrinsics.interop.LLVMTruffleManagedMalloc.ManagedMallocObject;
 import com.oracle.truffle.llvm.runtime.LLVMVirtualAllocationAddress;
 import com.oracle.truffle.llvm.runtime.memory.LLVMMemMoveNode;
-import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
 import com.oracle.truffle.llvm.runtime.memory.UnsafeArrayAccess;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+import com.oracle.truffle.llvm.runtime.pointer.LLVMManagedPointer;
 import com.oracle.truffle.llvm.runtime.pointer.LLVMNativePointer;
 import com.oracle.truffle.llvm.runtime.pointer.LLVMPointer;
 
@@ -60,15 +61,15 @@ public abstract class LLVMMemCopy extends LLVMBuiltin {
     }
 
     @Specialization
-    protected Object doVoid(LLVMVirtualAllocationAddress target, LLVMNativePointer source, int length, boolean isVolatile, @Cached("getLLVMMemory()") LLVMMemory memory,
+    protected Object doVoid(LLVMVirtualAllocationAddress target, LLVMNativePointer source, int length, boolean isVolatile,
                     @Cached("getUnsafeArrayAccess()") UnsafeArrayAccess arrayAccess) {
-        return doVoid(target, source, (long) length, isVolatile, memory, arrayAccess);
+        return doVoid(target, source, (long) length, isVolatile, arrayAccess);
     }
 
     @Specialization
-    protected Object doVoid(LLVMNativePointer target, LLVMVirtualAllocationAddress source, int length, boolean isVolatile, @Cached("getLLVMMemory()") LLVMMemory memory,
+    protected Object doVoid(LLVMNativePointer target, LLVMVirtualAllocationAddress source, int length, boolean isVolatile,
                     @Cached("getUnsafeArrayAccess()") UnsafeArrayAccess arrayAccess) {
-        return doVoid(target, source, (long) length, isVolatile, memory, arrayAccess);
+        return doVoid(target, source, (long) length, isVolatile, arrayAccess);
     }
 
     @Specialization
@@ -86,20 +87,34 @@ public abstract class LLVMMemCopy extends LLVMBuiltin {
 
     @SuppressWarnings("unused")
     @Specialization
-    protected Object doVoid(LLVMVirtualAllocationAddress target, LLVMNativePointer source, long length, boolean isVolatile, @Cached("getLLVMMemory()") LLVMMemory memory,
+    protected Object doVoid(LLVMVirtualAllocationAddress target, LLVMNativePointer source, long length, boolean isVolatile,
                     @Cached("getUnsafeArrayAccess()") UnsafeArrayAccess arrayAccess) {
-        copy(arrayAccess, memory, target, source.asNative(), length);
+        copy(arrayAccess, target, source.asNative(), length);
         return null;
     }
 
     @SuppressWarnings("unused")
     @Specialization
-    protected Object doVoid(LLVMNativePointer target, LLVMVirtualAllocationAddress source, long length, boolean isVolatile, @Cached("getLLVMMemory()") LLVMMemory memory,
+    protected Object doVoid(LLVMNativePointer target, LLVMVirtualAllocationAddress source, long length, boolean isVolatile,
                     @Cached("getUnsafeArrayAccess()") UnsafeArrayAccess arrayAccess) {
-        copy(arrayAccess, memory, target.asNative(), source, length);
+        copy(arrayAccess, target.asNative(), source, length);
+        return null;
+    }
+
+    @SuppressWarnings("unused")
+    @Specialization(guards = "isWordCopy(target, source, length)")
+    protected Object doManaged(LLVMManagedPointer target, LLVMManagedPointer source, long length, boolean isVolatile) {
+        ManagedMallocObject targetObject = (ManagedMallocObject) target.getObject();
+        ManagedMallocObject sourceObject = (ManagedMallocObject) source.getObject();
+        targetObject.copyFrom((int) (target.getOffset() / ADDRESS_SIZE_IN_BYTES), sourceObject, (int) (source.getOffset() / ADDRESS_SIZE_IN_BYTES), (int) (length / ADDRESS_SIZE_IN_BYTES));
         return null;
     }
 
+    protected static boolean isWordCopy(LLVMManagedPointer target, LLVMManagedPointer source, long length) {
+        return target.getObject() instanceof ManagedMallocObject && source.getObject() instanceof ManagedMallocObject &&
+                        (target.getOffset() | source.getOffset() | length) % ADDRESS_SIZE_IN_BYTES == 0;
+    }
+
     @SuppressWarnings("unused")
     @Specialization
     protected Object doVoid(LLVMPointer target, LLVMPointer source, long length, boolean isVolatile) {
@@ -107,36 +122,15 @@ public abstract class LLVMMemCopy extends LLVMBuiltin {
         return null;
     }
 
-    private static void copy(UnsafeArrayAccess arrayAccess, LLVMMemory memory, LLVMVirtualAllocationAddress target, long source, long length) {
-        long sourcePointer = source;
-        LLVMVirtualAllocationAddress targetAddress = target;
-        for (long i = 0; i < length; i++) {
-            byte value = memory.getI8(sourcePointer);
-            targetAddress.writeI8(arrayAccess, value);
-            targetAddress = targetAddress.increment(1);
-            sourcePointer++;
-        }
+    private static void copy(UnsafeArrayAccess arrayAccess, LLVMVirtualAllocationAddress target, long source, long length) {
+        arrayAccess.copyFromNative(source, target.getObject(), target.getOffset(), length);
     }
 
-    private static void copy(UnsafeArrayAccess arrayAccess, LLVMMemory memory, long target, LLVMVirtualAllocationAddress source, long length) {
-        LLVMVirtualAllocationAddress sourcePointer = source;
-        long targetAddress = target;
-        for (long i = 0; i < length; i++) {
-            byte value = sourcePointer.getI8(arrayAccess);
-            sourcePointer = sourcePointer.increment(1);
-            memory.putI8(targetAddress, value);
-            targetAddress++;
-        }
+    private static void copy(UnsafeArrayAccess arrayAccess, long target, LLVMVirtualAllocationAddress source, long length) {
+        arrayAccess.copyToNative(source.getObject(), source.getOffset(), target, length);
     }
 
     private static void copy(UnsafeArrayAccess memory, LLVMVirtualAllocationAddress target, LLVMVirtualAllocationAddress source, long length) {
-        LLVMVirtualAllocationAddress sourcePointer = source;
-        LLVMVirtualAllocationAddress targetAddress = target;
-        for (long i = 0; i < length; i++) {
-            byte value = sourcePointer.getI8(memory);
-            sourcePointer = sourcePointer.increment(1);
-            targetAddress.writeI8(memory, value);
-            targetAddress = targetAddress.increment(1);
-        }
+        memory.copyMemory(source.getObject(), source.getOffset(), target.getObject(), target.getOffset(), length);
     }
 }
@@ -31,11 +31,15 @@ package com.oracle.truffle.llvm.nodes.intrinsics.llvm;
 
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.CachedContext;
 import com.oracle.truffle.api.dsl.NodeChild;
 import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.llvm.runtime.LLVMContext;
+import com.oracle.truffle.llvm.runtime.LLVMLanguage;
 import com.oracle.truffle.llvm.runtime.memory.LLVMMemSetNode;
 import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
 import com.oracle.truffle.llvm.runtime.memory.LLVMMemoryOpNode;
+import com.oracle.truffle.llvm.runtime.memory.LLVMSlabAllocator;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
 import com.oracle.truffle.llvm.runtime.pointer.LLVMNativePointer;
 
@@ -46,21 +50,22 @@ public abstract class LLVMMemoryIntrinsic extends LLVMExpressionNode {
 
         @Specialization
         protected LLVMNativePointer doVoid(int size,
+                        @CachedContext(LLVMLanguage.class) LLVMContext ctx,
                         @Cached("getLLVMMemory()") LLVMMemory memory) {
-            try {
-                return memory.allocateMemory(size);
-            } catch (OutOfMemoryError e) {
-                CompilerDirectives.transferToInterpreter();
-                return LLVMNativePointer.createNull();
-            }
+            return doVoid((long) size, ctx, memory);
         }
 
         @Specialization
         protected LLVMNativePointer doVoid(long size,
+                        @CachedContext(LLVMLanguage.class) LLVMContext ctx,
                         @Cached("getLLVMMemory()") LLVMMemory memory) {
             try {
+                LLVMSlabAllocator allocator = ctx.getSlabAllocator();
+                if (allocator != null) {
+                    return LLVMNativePointer.create(allocator.allocate(memory, size));
+                }
                 return memory.allocateMemory(size);
-            } catch (OutOfMemoryError e) {
+            } catch (OutOfMemoryError | IllegalArgumentException e) {
                 CompilerDirectives.transferToInterpreter();
                 return LLVMNativePointer.createNull();
             }
@@ -78,27 +83,25 @@ public abstract class LLVMMemoryIntrinsic extends LLVMExpressionNode {
 
         @Specialization
         protected LLVMNativePointer doVoid(int n, int size,
+                        @CachedContext(LLVMLanguage.class) LLVMContext ctx,
                         @Cached("getLLVMMemory()") LLVMMemory memory) {
-            try {
-                long length = Math.multiplyExact(n, size);
-                LLVMNativePointer address = memory.allocateMemory(length);
-                memSet.executeWithTarget(address, (byte) 0, length);
-                return address;
-            } catch (OutOfMemoryError | ArithmeticException e) {
-                CompilerDirectives.transferToInterpreter();
-                return LLVMNativePointer.createNull();
-            }
+            return doVoid((long) n, (long) size, ctx, memory);
         }
 
         @Specialization
         protected LLVMNativePointer doVoid(long n, long size,
+                        @CachedContext(LLVMLanguage.class) LLVMContext ctx,
                         @Cached("getLLVMMemory()") LLVMMemory memory) {
             try {
                 long length = Math.multiplyExact(n, size);
+                LLVMSlabAllocator allocator = ctx.getSlabAllocator();
+                if (allocator != null) {
+                    return LLVMNativePointer.create(allocator.allocateZeroed(memory, length));
+                }
                 LLVMNativePointer address = memory.allocateMemory(length);
                 memSet.executeWithTarget(address, (byte) 0, length);
                 return address;
-            } catch (OutOfMemoryError | ArithmeticException e) {
+            } catch (OutOfMemoryError | IllegalArgumentException | ArithmeticException e) {
                 CompilerDirectives.transferToInterpreter();
                 return LLVMNativePointer.createNull();
             }
@@ -113,17 +116,23 @@ public abstract class LLVMMemoryIntrinsic extends LLVMExpressionNode {
 
         @Specialization
         protected LLVMNativePointer doVoid(LLVMNativePointer addr, int size,
+                        @CachedContext(LLVMLanguage.class) LLVMContext ctx,
                         @Cached("getLLVMMemory()") LLVMMemory memory) {
-            return doVoid(addr, (long) size, memory);
+            return doVoid(addr, (long) size, ctx, memory);
         }
 
         @Specialization
         @SuppressWarnings("deprecation")
         protected LLVMNativePointer doVoid(LLVMNativePointer addr, long size,
+                        @CachedContext(LLVMLanguage.class) LLVMContext ctx,
                         @Cached("getLLVMMemory()") LLVMMemory memory) {
             try {
+                LLVMSlabAllocator allocator = ctx.getSlabAllocator();
+                if (allocator != null) {
+                    return LLVMNativePointer.create(allocator.reallocate(memory, addr.asNative(), size));
+                }
                 return memory.reallocateMemory(addr, size);
-            } catch (OutOfMemoryError e) {
+            } catch (OutOfMemoryError | IllegalArgumentException e) {
                 CompilerDirectives.transferToInterpreter();
                 return LLVMNativePointer.createNull();
             }
@@ -135,8 +144,14 @@ public abstract class LLVMMemoryIntrinsic extends LLVMExpressionNode {
 
         @Specialization
         protected Object doVoid(LLVMNativePointer address,
+                        @CachedContext(LLVMLanguage.class) LLVMContext ctx,
                         @Cached("getLLVMMemory()") LLVMMemory memory) {
-            memory.free(address);
+            LLVMSlabAllocator allocator = ctx.getSlabAllocator();
+            if (allocator != null) {
+                allocator.free(memory, address.asNative());
+            } else {
+                memory.free(address);
+            }
             return null;
         }
     }
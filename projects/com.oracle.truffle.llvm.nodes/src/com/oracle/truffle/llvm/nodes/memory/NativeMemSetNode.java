@@ -97,9 +97,7 @@ public abstract class NativeMemSetNode extends LLVMMemSetNode {
 
         final ManagedMallocObject obj = (ManagedMallocObject) object.getObject();
         int arrayOffset = (int) (object.getOffset() / ADDRESS_SIZE_IN_BYTES);
-        for (int i = 0; i < length / ADDRESS_SIZE_IN_BYTES; i++) {
-            obj.set(arrayOffset + i, LLVMNativePointer.createNull());
-        }
+        obj.fill(arrayOffset, (int) (length / ADDRESS_SIZE_IN_BYTES), LLVMNativePointer.createNull());
     }
 
     protected boolean isManagedMallocObject(LLVMManagedPointer object) {
@@ -45,6 +45,10 @@ import com.oracle.truffle.llvm.runtime.vector.LLVMI64Vector;
 import com.oracle.truffle.llvm.runtime.vector.LLVMI8Vector;
 import com.oracle.truffle.llvm.runtime.vector.LLVMPointerVector;
 
+/**
+ * The new element is selected per lane instead of being stored at a dynamic index. The result vector
+ * thus only sees stores at constant indices and can be scalar-replaced.
+ */
 @NodeChild(type = LLVMExpressionNode.class)
 @NodeChild(type = LLVMExpressionNode.class, value = "element")
 @NodeChild(type = LLVMExpressionNode.class, value = "index")
@@ -60,9 +64,8 @@ public abstract class LLVMInsertElementNode extends LLVMExpressionNode {
             assert vector.getLength() == getVectorLength();
             boolean[] result = new boolean[getVectorLength()];
             for (int i = 0; i < getVectorLength(); i++) {
-                result[i] = vector.getValue(i);
+                result[i] = i == index ? element : vector.getValue(i);
             }
-            result[index] = element;
             return LLVMI1Vector.create(result);
         }
     }
@@ -74,9 +77,8 @@ public abstract class LLVMInsertElementNode extends LLVMExpressionNode {
             assert vector.getLength() == getVectorLength();
             byte[] result = new byte[getVectorLength()];
             for (int i = 0; i < getVectorLength(); i++) {
-                result[i] = vector.getValue(i);
+                result[i] = i == index ? element : vector.getValue(i);
             }
-            result[index] = element;
             return LLVMI8Vector.create(result);
         }
     }
@@ -88,9 +90,8 @@ public abstract class LLVMInsertElementNode extends LLVMExpressionNode {
             assert vector.getLength() == getVectorLength();
             short[] result = new short[getVectorLength()];
             for (int i = 0; i < getVectorLength(); i++) {
-                result[i] = vector.getValue(i);
+                result[i] = i == index ? element : vector.getValue(i);
             }
-            result[index] = element;
             return LLVMI16Vector.create(result);
         }
     }
@@ -102,9 +103,8 @@ public abstract class LLVMInsertElementNode extends LLVMExpressionNode {
             assert vector.getLength() == getVectorLength();
             int[] result = new int[getVectorLength()];
             for (int i = 0; i < getVectorLength(); i++) {
-                result[i] = vector.getValue(i);
+                result[i] = i == index ? element : vector.getValue(i);
             }
-            result[index] = element;
             return LLVMI32Vector.create(result);
         }
     }
@@ -116,9 +116,8 @@ public abstract class LLVMInsertElementNode extends LLVMExpressionNode {
             assert vector.getLength() == getVectorLength();
             long[] result = new long[getVectorLength()];
             for (int i = 0; i < getVectorLength(); i++) {
-                result[i] = vector.getValue(i);
+                result[i] = i == index ? element : vector.getValue(i);
             }
-            result[index] = element;
             return LLVMI64Vector.create(result);
         }
 
@@ -128,9 +127,8 @@ public abstract class LLVMInsertElementNode extends LLVMExpressionNode {
             assert vector.getLength() == getVectorLength();
             LLVMPointer[] result = new LLVMPointer[getVectorLength()];
             for (int i = 0; i < getVectorLength(); i++) {
-                result[i] = vector.getValue(i);
+                result[i] = i == index ? element : vector.getValue(i);
             }
-            result[index] = element;
             return LLVMPointerVector.create(result);
         }
 
@@ -147,9 +145,8 @@ public abstract class LLVMInsertElementNode extends LLVMExpressionNode {
             assert vector.getLength() == getVectorLength();
             float[] result = new float[getVectorLength()];
             for (int i = 0; i < getVectorLength(); i++) {
-                result[i] = vector.getValue(i);
+                result[i] = i == index ? element : vector.getValue(i);
             }
-            result[index] = element;
             return LLVMFloatVector.create(result);
         }
     }
@@ -161,9 +158,8 @@ public abstract class LLVMInsertElementNode extends LLVMExpressionNode {
             assert vector.getLength() == getVectorLength();
             double[] result = new double[getVectorLength()];
             for (int i = 0; i < getVectorLength(); i++) {
-                result[i] = vector.getValue(i);
+                result[i] = i == index ? element : vector.getValue(i);
             }
-            result[index] = element;
             return LLVMDoubleVector.create(result);
         }
     }
@@ -29,11 +29,12 @@
  */
 package com.oracle.truffle.llvm.nodes.vector;
 
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
 import com.oracle.truffle.api.dsl.NodeChild;
 import com.oracle.truffle.api.dsl.NodeField;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.ExplodeLoop;
-import com.oracle.truffle.api.profiles.ConditionProfile;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
 import com.oracle.truffle.llvm.runtime.pointer.LLVMNativePointer;
 import com.oracle.truffle.llvm.runtime.pointer.LLVMPointer;
@@ -45,6 +46,7 @@ import com.oracle.truffle.llvm.runtime.vector.LLVMI32Vector;
 import com.oracle.truffle.llvm.runtime.vector.LLVMI64Vector;
 import com.oracle.truffle.llvm.runtime.vector.LLVMI8Vector;
 import com.oracle.truffle.llvm.runtime.vector.LLVMPointerVector;
+import com.oracle.truffle.llvm.runtime.vector.LLVMVector;
 
 @NodeChild(value = "left")
 @NodeChild(value = "right")
@@ -52,20 +54,45 @@ import com.oracle.truffle.llvm.runtime.vector.LLVMPointerVector;
 @NodeField(name = "vectorLength", type = int.class)
 public abstract class LLVMShuffleVectorNode extends LLVMExpressionNode {
 
-    protected final ConditionProfile conditionProfile = ConditionProfile.createCountingProfile();
+    @CompilationFinal(dimensions = 1) private int[] cachedMask;
+    @CompilationFinal private int cachedLeftVectorLength;
 
     protected abstract int getVectorLength();
 
+    /**
+     * The mask of a {@code shufflevector} is always a constant, so it is read once and cached
+     * together with the length of the left operand. Every lane index is then a compilation constant,
+     * which allows partial evaluation to scalar-replace the operand and result vectors.
+     */
+    protected final int[] getMask(LLVMVector leftVector, LLVMI32Vector maskVector) {
+        if (cachedMask == null) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            int[] mask = new int[getVectorLength()];
+            for (int i = 0; i < mask.length; i++) {
+                mask[i] = maskVector.getValue(i);
+            }
+            cachedLeftVectorLength = leftVector.getLength();
+            cachedMask = mask;
+        }
+        assert leftVector.getLength() == cachedLeftVectorLength;
+        return cachedMask;
+    }
+
+    protected final int getLeftVectorLength() {
+        return cachedLeftVectorLength;
+    }
+
     public abstract static class LLVMShuffleI1VectorNode extends LLVMShuffleVectorNode {
         @Specialization
         @ExplodeLoop
         protected LLVMI1Vector doI1Vector(LLVMI1Vector leftVector, LLVMI1Vector rightVector, LLVMI32Vector maskVector) {
             assert maskVector.getLength() == getVectorLength();
             boolean[] newValues = new boolean[getVectorLength()];
-            int leftVectorLength = leftVector.getLength();
+            int[] mask = getMask(leftVector, maskVector);
+            int leftVectorLength = getLeftVectorLength();
             for (int i = 0; i < getVectorLength(); i++) {
-                int element = maskVector.getValue(i);
-                newValues[i] = conditionProfile.profile(element < leftVectorLength) ? leftVector.getValue(element) : rightVector.getValue(element - leftVectorLength);
+                int element = mask[i];
+                newValues[i] = element < leftVectorLength ? leftVector.getValue(element) : rightVector.getValue(element - leftVectorLength);
             }
             return LLVMI1Vector.create(newValues);
         }
@@ -77,10 +104,11 @@ public abstract class LLVMShuffleVectorNode extends LLVMExpressionNode {
         protected LLVMI8Vector doI8Vector(LLVMI8Vector leftVector, LLVMI8Vector rightVector, LLVMI32Vector maskVector) {
             assert maskVector.getLength() == getVectorLength();
             byte[] newValues = new byte[getVectorLength()];
-            int leftVectorLength = leftVector.getLength();
+            int[] mask = getMask(leftVector, maskVector);
+            int leftVectorLength = getLeftVectorLength();
             for (int i = 0; i < getVectorLength(); i++) {
-                int element = maskVector.getValue(i);
-                newValues[i] = conditionProfile.profile(element < leftVectorLength) ? leftVector.getValue(element) : rightVector.getValue(element - leftVectorLength);
+                int element = mask[i];
+                newValues[i] = element < leftVectorLength ? leftVector.getValue(element) : rightVector.getValue(element - leftVectorLength);
             }
             return LLVMI8Vector.create(newValues);
         }
@@ -92,10 +120,11 @@ public abstract class LLVMShuffleVectorNode extends LLVMExpressionNode {
         protected LLVMI16Vector doI8Vector(LLVMI16Vector leftVector, LLVMI16Vector rightVector, LLVMI32Vector maskVector) {
             assert maskVector.getLength() == getVectorLength();
             short[] newValues = new short[getVectorLength()];
-            int leftVectorLength = leftVector.getLength();
+            int[] mask = getMask(leftVector, maskVector);
+            int leftVectorLength = getLeftVectorLength();
             for (int i = 0; i < getVectorLength(); i++) {
-                int element = maskVector.getValue(i);
-                newValues[i] = conditionProfile.profile(element < leftVectorLength) ? leftVector.getValue(element) : rightVector.getValue(element - leftVectorLength);
+                int element = mask[i];
+                newValues[i] = element < leftVectorLength ? leftVector.getValue(element) : rightVector.getValue(element - leftVectorLength);
             }
             return LLVMI16Vector.create(newValues);
         }
@@ -107,10 +136,11 @@ public abstract class LLVMShuffleVectorNode extends LLVMExpressionNode {
         protected LLVMI32Vector doI32Vector(LLVMI32Vector leftVector, LLVMI32Vector rightVector, LLVMI32Vector maskVector) {
             assert maskVector.getLength() == getVectorLength();
             int[] newValues = new int[getVectorLength()];
-            int leftVectorLength = leftVector.getLength();
+            int[] mask = getMask(leftVector, maskVector);
+            int leftVectorLength = getLeftVectorLength();
             for (int i = 0; i < getVectorLength(); i++) {
-                int element = maskVector.getValue(i);
-                newValues[i] = conditionProfile.profile(element < leftVectorLength) ? leftVector.getValue(element) : rightVector.getValue(element - leftVectorLength);
+                int element = mask[i];
+                newValues[i] = element < leftVectorLength ? leftVector.getValue(element) : rightVector.getValue(element - leftVectorLength);
             }
             return LLVMI32Vector.create(newValues);
         }
@@ -122,10 +152,11 @@ public abstract class LLVMShuffleVectorNode extends LLVMExpressionNode {
         protected LLVMI64Vector doI64Vector(LLVMI64Vector leftVector, LLVMI64Vector rightVector, LLVMI32Vector maskVector) {
             assert maskVector.getLength() == getVectorLength();
             long[] newValues = new long[getVectorLength()];
-            int leftVectorLength = leftVector.getLength();
+            int[] mask = getMask(leftVector, maskVector);
+            int leftVectorLength = getLeftVectorLength();
             for (int i = 0; i < getVectorLength(); i++) {
-                int element = maskVector.getValue(i);
-                newValues[i] = conditionProfile.profile(element < leftVectorLength) ? leftVector.getValue(element) : rightVector.getValue(element - leftVectorLength);
+                int element = mask[i];
+                newValues[i] = element < leftVectorLength ? leftVector.getValue(element) : rightVector.getValue(element - leftVectorLength);
             }
             return LLVMI64Vector.create(newValues);
         }
@@ -135,10 +166,11 @@ public abstract class LLVMShuffleVectorNode extends LLVMExpressionNode {
         protected LLVMPointerVector doPointerVector(LLVMPointerVector leftVector, LLVMI64Vector rightVector, LLVMI32Vector maskVector) {
             assert maskVector.getLength() == getVectorLength();
             LLVMPointer[] newValues = new LLVMPointer[getVectorLength()];
-            int leftVectorLength = leftVector.getLength();
+            int[] mask = getMask(leftVector, maskVector);
+            int leftVectorLength = getLeftVectorLength();
             for (int i = 0; i < getVectorLength(); i++) {
-                int element = maskVector.getValue(i);
-                newValues[i] = conditionProfile.profile(element < leftVectorLength) ? leftVector.getValue(element) : LLVMNativePointer.create(rightVector.getValue(element - leftVectorLength));
+                int element = mask[i];
+                newValues[i] = element < leftVectorLength ? leftVector.getValue(element) : LLVMNativePointer.create(rightVector.getValue(element - leftVectorLength));
             }
             return LLVMPointerVector.create(newValues);
         }
@@ -148,10 +180,11 @@ public abstract class LLVMShuffleVectorNode extends LLVMExpressionNode {
         protected LLVMPointerVector doPointerVector(LLVMI64Vector leftVector, LLVMPointerVector rightVector, LLVMI32Vector maskVector) {
             assert maskVector.getLength() == getVectorLength();
             LLVMPointer[] newValues = new LLVMPointer[getVectorLength()];
-            int leftVectorLength = leftVector.getLength();
+            int[] mask = getMask(leftVector, maskVector);
+            int leftVectorLength = getLeftVectorLength();
             for (int i = 0; i < getVectorLength(); i++) {
-                int element = maskVector.getValue(i);
-                newValues[i] = conditionProfile.profile(element < leftVectorLength) ? LLVMNativePointer.create(leftVector.getValue(element)) : rightVector.getValue(element - leftVectorLength);
+                int element = mask[i];
+                newValues[i] = element < leftVectorLength ? LLVMNativePointer.create(leftVector.getValue(element)) : rightVector.getValue(element - leftVectorLength);
             }
             return LLVMPointerVector.create(newValues);
         }
@@ -161,10 +194,11 @@ public abstract class LLVMShuffleVectorNode extends LLVMExpressionNode {
         protected LLVMPointerVector doPointerVector(LLVMPointerVector leftVector, LLVMPointerVector rightVector, LLVMI32Vector maskVector) {
             assert maskVector.getLength() == getVectorLength();
             LLVMPointer[] newValues = new LLVMPointer[getVectorLength()];
-            int leftVectorLength = leftVector.getLength();
+            int[] mask = getMask(leftVector, maskVector);
+            int leftVectorLength = getLeftVectorLength();
             for (int i = 0; i < getVectorLength(); i++) {
-                int element = maskVector.getValue(i);
-                newValues[i] = conditionProfile.profile(element < leftVectorLength) ? leftVector.getValue(element) : rightVector.getValue(element - leftVectorLength);
+                int element = mask[i];
+                newValues[i] = element < leftVectorLength ? leftVector.getValue(element) : rightVector.getValue(element - leftVectorLength);
             }
             return LLVMPointerVector.create(newValues);
         }
@@ -176,10 +210,11 @@ public abstract class LLVMShuffleVectorNode extends LLVMExpressionNode {
         protected LLVMFloatVector doOp(LLVMFloatVector leftVector, LLVMFloatVector rightVector, LLVMI32Vector maskVector) {
             assert maskVector.getLength() == getVectorLength();
             float[] newValues = new float[getVectorLength()];
-            int leftVectorLength = leftVector.getLength();
+            int[] mask = getMask(leftVector, maskVector);
+            int leftVectorLength = getLeftVectorLength();
             for (int i = 0; i < getVectorLength(); i++) {
-                int element = maskVector.getValue(i);
-                newValues[i] = conditionProfile.profile(element < leftVectorLength) ? leftVector.getValue(element) : rightVector.getValue(element - leftVectorLength);
+                int element = mask[i];
+                newValues[i] = element < leftVectorLength ? leftVector.getValue(element) : rightVector.getValue(element - leftVectorLength);
             }
             return LLVMFloatVector.create(newValues);
         }
@@ -191,10 +226,11 @@ public abstract class LLVMShuffleVectorNode extends LLVMExpressionNode {
         protected LLVMDoubleVector doOp(LLVMDoubleVector leftVector, LLVMDoubleVector rightVector, LLVMI32Vector maskVector) {
             assert maskVector.getLength() == getVectorLength();
             double[] newValues = new double[getVectorLength()];
-            int leftVectorLength = leftVector.getLength();
+            int[] mask = getMask(leftVector, maskVector);
+            int leftVectorLength = getLeftVectorLength();
             for (int i = 0; i < getVectorLength(); i++) {
-                int element = maskVector.getValue(i);
-                newValues[i] = conditionProfile.profile(element < leftVectorLength) ? leftVector.getValue(element) : rightVector.getValue(element - leftVectorLength);
+                int element = mask[i];
+                newValues[i] = element < leftVectorLength ? leftVector.getValue(element) : rightVector.getValue(element - leftVectorLength);
             }
             return LLVMDoubleVector.create(newValues);
         }
@@ -84,12 +84,31 @@ import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMCTypeIntrinsicsFactory.LLV
 import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMExitNodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMMemIntrinsicFactory.LLVMLibcMemcpyNodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMMemIntrinsicFactory.LLVMLibcMemsetNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsics.CondOperation;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsics.MutexOperation;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadCondInitNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadCondNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadCondTimedWaitNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadCondWaitNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadCreateNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadDetachNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadExitNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadGetSpecificNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadJoinNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadKeyCreateNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadKeyDeleteNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadMutexInitNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadMutexNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadSelfNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadSetSpecificNodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMSignalNodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMSyscall;
 import com.oracle.truffle.llvm.nodes.intrinsics.interop.LLVMLoadLibraryNodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.interop.LLVMPolyglotAsPrimitive;
 import com.oracle.truffle.llvm.nodes.intrinsics.interop.LLVMPolyglotAsString;
 import com.oracle.truffle.llvm.nodes.intrinsics.interop.LLVMPolyglotBoxedPredicateNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.interop.LLVMPolyglotCopyArrayFactory.LLVMPolyglotCopyFromArrayNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.interop.LLVMPolyglotCopyArrayFactory.LLVMPolyglotCopyToArrayNodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.interop.LLVMPolyglotEval;
 import com.oracle.truffle.llvm.nodes.intrinsics.interop.LLVMPolyglotExportNodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.interop.LLVMPolyglotFromString;
@@ -352,6 +371,7 @@ public class BasicIntrinsicsProvider implements LLVMIntrinsicProvider, ContextEx
         registerComplexNumberIntrinsics();
         registerCTypeIntrinsics();
         registerManagedAllocationIntrinsics();
+        registerPThreadIntrinsics();
     }
 
     protected static LLVMExpressionNode[] argumentsArray(List<LLVMExpressionNode> arguments, int startIndex, int arity) {
@@ -419,6 +439,8 @@ public class BasicIntrinsicsProvider implements LLVMIntrinsicProvider, ContextEx
         add("@polyglot_has_members", (args, context) -> LLVMPolyglotBoxedPredicateNodeGen.create(InteropLibrary::hasMembers, args.get(1)));
         add("@polyglot_has_member", (args, context) -> LLVMPolyglotHasMemberNodeGen.create(args.get(1), args.get(2)));
         add("@polyglot_get_array_size", (args, context) -> LLVMPolyglotGetArraySizeNodeGen.create(args.get(1)));
+        add("@polyglot_copy_from_array", (args, context) -> LLVMPolyglotCopyFromArrayNodeGen.create(args.get(1), args.get(2), args.get(3), args.get(4), args.get(5)));
+        add("@polyglot_copy_to_array", (args, context) -> LLVMPolyglotCopyToArrayNodeGen.create(args.get(1), args.get(2), args.get(3), args.get(4), args.get(5)));
 
         add("@polyglot_get_string_size", (args, context) -> LLVMPolyglotGetStringSizeNodeGen.create(args.get(1)));
         add("@polyglot_as_string", (args, context) -> LLVMPolyglotAsString.create(args.get(1), args.get(2), args.get(3), args.get(4)));
@@ -512,6 +534,32 @@ public class BasicIntrinsicsProvider implements LLVMIntrinsicProvider, ContextEx
         add("@memcpy", "@__memcpy_chk", (args, context) -> LLVMLibcMemcpyNodeGen.create(context.getNodeFactory().createMemMove(), args.get(1), args.get(2), args.get(3)));
     }
 
+    private static void registerPThreadIntrinsics() {
+        add("@__sulong_pthread_create", (args, context) -> LLVMPThreadCreateNodeGen.create(args.get(1), args.get(2), args.get(3)));
+        add("@pthread_join", (args, context) -> LLVMPThreadJoinNodeGen.create(args.get(1), args.get(2)));
+        add("@pthread_detach", (args, context) -> LLVMPThreadDetachNodeGen.create(args.get(1)));
+        add("@pthread_self", (args, context) -> LLVMPThreadSelfNodeGen.create());
+        add("@pthread_exit", (args, context) -> LLVMPThreadExitNodeGen.create(args.get(1)));
+
+        add("@__sulong_pthread_mutex_init", (args, context) -> LLVMPThreadMutexInitNodeGen.create(args.get(1), args.get(2)));
+        add("@pthread_mutex_lock", (args, context) -> LLVMPThreadMutexNodeGen.create(MutexOperation.LOCK, args.get(1)));
+        add("@pthread_mutex_trylock", (args, context) -> LLVMPThreadMutexNodeGen.create(MutexOperation.TRYLOCK, args.get(1)));
+        add("@pthread_mutex_unlock", (args, context) -> LLVMPThreadMutexNodeGen.create(MutexOperation.UNLOCK, args.get(1)));
+        add("@pthread_mutex_destroy", (args, context) -> LLVMPThreadMutexNodeGen.create(MutexOperation.DESTROY, args.get(1)));
+
+        add("@pthread_cond_init", (args, context) -> LLVMPThreadCondInitNodeGen.create(args.get(1), args.get(2)));
+        add("@pthread_cond_signal", (args, context) -> LLVMPThreadCondNodeGen.create(CondOperation.SIGNAL, args.get(1)));
+        add("@pthread_cond_broadcast", (args, context) -> LLVMPThreadCondNodeGen.create(CondOperation.BROADCAST, args.get(1)));
+        add("@pthread_cond_destroy", (args, context) -> LLVMPThreadCondNodeGen.create(CondOperation.DESTROY, args.get(1)));
+        add("@pthread_cond_wait", (args, context) -> LLVMPThreadCondWaitNodeGen.create(args.get(1), args.get(2)));
+        add("@pthread_cond_timedwait", (args, context) -> LLVMPThreadCondTimedWaitNodeGen.create(args.get(1), args.get(2), args.get(3)));
+
+        add("@pthread_key_create", (args, context) -> LLVMPThreadKeyCreateNodeGen.create(args.get(1), args.get(2)));
+        add("@pthread_key_delete", (args, context) -> LLVMPThreadKeyDeleteNodeGen.create(args.get(1)));
+        add("@pthread_getspecific", (args, context) -> LLVMPThreadGetSpecificNodeGen.create(args.get(1)));
+        add("@pthread_setspecific", (args, context) -> LLVMPThreadSetSpecificNodeGen.create(args.get(1), args.get(2)));
+    }
+
     private static void registerExceptionIntrinsics() {
         add("@_Unwind_RaiseException", (args, context) -> new LLVMRaiseExceptionNode(args.get(1)));
         add("@__cxa_call_unexpected", (args, context) -> LLVMAbortNodeGen.create());
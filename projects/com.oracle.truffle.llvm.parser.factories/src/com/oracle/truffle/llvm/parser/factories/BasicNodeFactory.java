@@ -35,7 +35,6 @@ import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import com.oracle.truffle.api.Truffle;
 import com.oracle.truffle.api.frame.FrameDescriptor;
 import com.oracle.truffle.api.frame.FrameSlot;
 import com.oracle.truffle.api.interop.TruffleObject;
@@ -107,6 +106,7 @@ import com.oracle.truffle.llvm.nodes.control.LLVMRetNodeFactory.LLVMIVarBitRetNo
 import com.oracle.truffle.llvm.nodes.control.LLVMRetNodeFactory.LLVMStructRetNodeGen;
 import com.oracle.truffle.llvm.nodes.control.LLVMRetNodeFactory.LLVMVectorRetNodeGen;
 import com.oracle.truffle.llvm.nodes.control.LLVMRetNodeFactory.LLVMVoidReturnNodeGen;
+import com.oracle.truffle.llvm.nodes.control.LLVMSwitchNode.LLVMIntegerSwitchNode;
 import com.oracle.truffle.llvm.nodes.control.LLVMSwitchNode.LLVMSwitchNodeImpl;
 import com.oracle.truffle.llvm.nodes.control.LLVMWritePhisNode;
 import com.oracle.truffle.llvm.nodes.func.LLVMArgNodeGen;
@@ -384,7 +384,6 @@ import com.oracle.truffle.llvm.runtime.GetStackSpaceFactory;
 import com.oracle.truffle.llvm.runtime.LLVMContext;
 import com.oracle.truffle.llvm.runtime.LLVMContext.ExternalLibrary;
 import com.oracle.truffle.llvm.runtime.LLVMFunctionDescriptor;
-import com.oracle.truffle.llvm.runtime.LLVMFunctionDescriptor.LLVMIRFunction;
 import com.oracle.truffle.llvm.runtime.LLVMIVarBit;
 import com.oracle.truffle.llvm.runtime.LLVMUnsupportedException;
 import com.oracle.truffle.llvm.runtime.LLVMUnsupportedException.UnsupportedReason;
@@ -1491,10 +1490,37 @@ public class BasicNodeFactory implements NodeFactory {
 
     @Override
     public LLVMControlFlowNode createSwitch(LLVMExpressionNode cond, int[] successors, LLVMExpressionNode[] cases, Type llvmType, LLVMStatementNode[] phiWriteNodes, LLVMSourceLocation source) {
+        if (llvmType instanceof PrimitiveType) {
+            PrimitiveKind kind = ((PrimitiveType) llvmType).getPrimitiveKind();
+            long[] caseValues = getIntegerCaseValues(kind, cases);
+            if (caseValues != null) {
+                return new LLVMIntegerSwitchNode(successors, phiWriteNodes, cond, kind, caseValues, source);
+            }
+        }
         LLVMExpressionNode[] caseNodes = Arrays.copyOf(cases, cases.length, LLVMExpressionNode[].class);
         return new LLVMSwitchNodeImpl(successors, phiWriteNodes, cond, caseNodes, source);
     }
 
+    private static long[] getIntegerCaseValues(PrimitiveKind kind, LLVMExpressionNode[] cases) {
+        long[] caseValues = new long[cases.length];
+        for (int i = 0; i < cases.length; i++) {
+            // literal nodes do not access the frame
+            LLVMExpressionNode caseNode = cases[i];
+            if (kind == PrimitiveKind.I8 && caseNode instanceof LLVMI8LiteralNode) {
+                caseValues[i] = ((LLVMI8LiteralNode) caseNode).executeI8(null);
+            } else if (kind == PrimitiveKind.I16 && caseNode instanceof LLVMI16LiteralNode) {
+                caseValues[i] = ((LLVMI16LiteralNode) caseNode).executeI16(null);
+            } else if (kind == PrimitiveKind.I32 && caseNode instanceof LLVMI32LiteralNode) {
+                caseValues[i] = ((LLVMI32LiteralNode) caseNode).executeI32(null);
+            } else if (kind == PrimitiveKind.I64 && caseNode instanceof LLVMI64LiteralNode) {
+                caseValues[i] = ((LLVMI64LiteralNode) caseNode).executeI64(null);
+            } else {
+                return null;
+            }
+        }
+        return caseValues;
+    }
+
     @Override
     public LLVMControlFlowNode createConditionalBranch(int trueIndex, int falseIndex, LLVMExpressionNode conditionNode, LLVMStatementNode truePhiWriteNodes,
                     LLVMStatementNode falsePhiWriteNodes, LLVMSourceLocation sourceSection) {
@@ -1687,11 +1713,12 @@ public class BasicNodeFactory implements NodeFactory {
     @Override
     public LLVMExpressionNode createFunctionBlockNode(FrameSlot exceptionValueSlot, List<? extends LLVMStatementNode> allFunctionNodes, UniquesRegionAllocator uniquesRegionAllocator,
                     FrameSlot[][] beforeBlockNuller,
-                    FrameSlot[][] afterBlockNuller, LLVMSourceLocation location, LLVMStatementNode[] copyArgumentsToFrame) {
+                    FrameSlot[][] afterBlockNuller, LLVMSourceLocation location, LLVMStatementNode[] copyArgumentsToFrame, FrameSlot loopSuccessorSlot, int[] enclosingLoops,
+                    int[][] loopExits) {
         LLVMUniquesRegionAllocNode uniquesRegionAllocNode = LLVMUniquesRegionAllocNodeGen.create(uniquesRegionAllocator);
         return new LLVMDispatchBasicBlockNode(exceptionValueSlot, allFunctionNodes.toArray(new LLVMBasicBlockNode[allFunctionNodes.size()]), uniquesRegionAllocNode, beforeBlockNuller,
                         afterBlockNuller, location,
-                        copyArgumentsToFrame);
+                        copyArgumentsToFrame, loopSuccessorSlot, enclosingLoops, loopExits);
     }
 
     @Override
@@ -1712,10 +1739,15 @@ public class BasicNodeFactory implements NodeFactory {
             retOffsets = getStackSpace.getOffsets();
         }
 
-        LLVMInlineAssemblyRootNode assemblyRoot = InlineAssemblyParser.parseInlineAssembly(context, sourceSection, asmExpression, asmFlags, argTypes, retType, retTypes,
-                        retOffsets);
-        LLVMFunctionDescriptor asm = LLVMFunctionDescriptor.createDescriptor(context, "<asm>", new FunctionType(MetaType.UNKNOWN, Type.EMPTY_ARRAY, false), -1);
-        asm.define(library, new LLVMIRFunction(Truffle.getRuntime().createCallTarget(assemblyRoot), null));
+        LLVMFunctionDescriptor asm;
+        InlineAssemblyCache cache = context.getContextExtensionOrNull(InlineAssemblyCache.class);
+        if (cache != null) {
+            asm = cache.getOrCreate(library, asmExpression, asmFlags, argTypes, retType, retTypes, retOffsets, sourceSection);
+        } else {
+            LLVMInlineAssemblyRootNode assemblyRoot = InlineAssemblyParser.parseInlineAssembly(context, sourceSection, asmExpression, asmFlags, argTypes, retType, retTypes,
+                            retOffsets);
+            asm = InlineAssemblyCache.createFunction(context, library, assemblyRoot);
+        }
         LLVMManagedPointerLiteralNode asmFunction = new LLVMManagedPointerLiteralNode(LLVMManagedPointer.create(asm));
 
         return new LLVMCallNode(new FunctionType(MetaType.UNKNOWN, argTypes, false), asmFunction, args, sourceSection);
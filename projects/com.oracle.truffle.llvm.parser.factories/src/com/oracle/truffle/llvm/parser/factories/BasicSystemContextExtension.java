@@ -67,7 +67,10 @@ import com.oracle.truffle.llvm.nodes.asm.syscall.LLVMAMD64SyscallIoctlNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.syscall.LLVMAMD64SyscallListenNode;
 import com.oracle.truffle.llvm.nodes.asm.syscall.LLVMAMD64SyscallLseekNode;
 import com.oracle.truffle.llvm.nodes.asm.syscall.LLVMAMD64SyscallLstatNodeGen;
+import com.oracle.truffle.llvm.nodes.asm.syscall.LLVMAMD64SyscallMadviseNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.syscall.LLVMAMD64SyscallMmapNodeGen;
+import com.oracle.truffle.llvm.nodes.asm.syscall.LLVMAMD64SyscallMprotectNodeGen;
+import com.oracle.truffle.llvm.nodes.asm.syscall.LLVMAMD64SyscallMunmapNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.syscall.LLVMAMD64SyscallOpenNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.syscall.LLVMAMD64SyscallPipe2NodeGen;
 import com.oracle.truffle.llvm.nodes.asm.syscall.LLVMAMD64SyscallPipeNodeGen;
@@ -144,6 +147,10 @@ public class BasicSystemContextExtension extends SystemContextExtension {
                 return new LLVMAMD64SyscallLseekNode();
             case LLVMAMD64Syscall.SYS_mmap:
                 return LLVMAMD64SyscallMmapNodeGen.create();
+            case LLVMAMD64Syscall.SYS_mprotect:
+                return LLVMAMD64SyscallMprotectNodeGen.create();
+            case LLVMAMD64Syscall.SYS_munmap:
+                return LLVMAMD64SyscallMunmapNodeGen.create();
             case LLVMAMD64Syscall.SYS_brk:
                 return LLVMAMD64SyscallBrkNodeGen.create();
             case LLVMAMD64Syscall.SYS_rt_sigaction:
@@ -160,6 +167,8 @@ public class BasicSystemContextExtension extends SystemContextExtension {
                 return LLVMAMD64SyscallAccessNodeGen.create();
             case LLVMAMD64Syscall.SYS_pipe:
                 return LLVMAMD64SyscallPipeNodeGen.create();
+            case LLVMAMD64Syscall.SYS_madvise:
+                return LLVMAMD64SyscallMadviseNodeGen.create();
             case LLVMAMD64Syscall.SYS_dup:
                 return new LLVMAMD64SyscallDupNode();
             case LLVMAMD64Syscall.SYS_dup2:
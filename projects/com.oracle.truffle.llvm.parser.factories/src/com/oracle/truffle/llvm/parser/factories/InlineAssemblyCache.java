@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.parser.factories;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.oracle.truffle.api.Truffle;
+import com.oracle.truffle.api.nodes.NodeUtil;
+import com.oracle.truffle.llvm.asm.amd64.InlineAssemblyParser;
+import com.oracle.truffle.llvm.nodes.func.LLVMInlineAssemblyRootNode;
+import com.oracle.truffle.llvm.nodes.intrinsics.llvm.debug.LLVMDebugTrapNode;
+import com.oracle.truffle.llvm.nodes.others.LLVMUnsupportedInlineAssemblerNode;
+import com.oracle.truffle.llvm.runtime.ContextExtension;
+import com.oracle.truffle.llvm.runtime.LLVMContext;
+import com.oracle.truffle.llvm.runtime.LLVMContext.ExternalLibrary;
+import com.oracle.truffle.llvm.runtime.LLVMFunctionDescriptor;
+import com.oracle.truffle.llvm.runtime.LLVMFunctionDescriptor.LLVMIRFunction;
+import com.oracle.truffle.llvm.runtime.debug.scope.LLVMSourceLocation;
+import com.oracle.truffle.llvm.runtime.options.SulongEngineOption;
+import com.oracle.truffle.llvm.runtime.types.FunctionType;
+import com.oracle.truffle.llvm.runtime.types.MetaType;
+import com.oracle.truffle.llvm.runtime.types.Type;
+
+/**
+ * Shares the call targets of inline assembly snippets between call sites. Macros in libc headers
+ * expand the same snippet at many sites, and parsing it with the ANTLR parser is expensive.
+ *
+ * Snippets are keyed by everything the parser sees except the source location. A shared snippet
+ * reports the location of the site that was parsed first, which is not visible since the root is
+ * internal. Snippets whose nodes report their location at run time, such as unsupported
+ * instructions, are parsed for every site.
+ */
+public final class InlineAssemblyCache implements ContextExtension {
+
+    private final LLVMContext context;
+    private final String statisticsTarget;
+
+    private final ConcurrentHashMap<Key, Entry> cache = new ConcurrentHashMap<>();
+
+    private final LongAdder parsed = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder notShareable = new LongAdder();
+    private final LongAdder savedNanos = new LongAdder();
+
+    public InlineAssemblyCache(LLVMContext context) {
+        this.context = context;
+        String target = context.getEnv().getOptions().get(SulongEngineOption.LAZY_PARSING_STATS);
+        this.statisticsTarget = SulongEngineOption.isTrue(target) ? target : null;
+    }
+
+    LLVMFunctionDescriptor getOrCreate(ExternalLibrary library, String asmExpression, String asmFlags, Type[] argTypes, Type retType, Type[] retTypes, int[] retOffsets,
+                    LLVMSourceLocation sourceSection) {
+        Key key = new Key(library, asmExpression, asmFlags, argTypes, retType, retTypes, retOffsets);
+        Entry entry = cache.get(key);
+        if (entry != null) {
+            reused.increment();
+            savedNanos.add(entry.parseNanos);
+            return entry.function;
+        }
+
+        long start = System.nanoTime();
+        LLVMInlineAssemblyRootNode assemblyRoot = InlineAssemblyParser.parseInlineAssembly(context, sourceSection, asmExpression, asmFlags, argTypes, retType, retTypes, retOffsets);
+        long parseNanos = System.nanoTime() - start;
+        parsed.increment();
+
+        LLVMFunctionDescriptor function = createFunction(context, library, assemblyRoot);
+        if (NodeUtil.findFirstNodeInstance(assemblyRoot, LLVMUnsupportedInlineAssemblerNode.class) != null ||
+                        NodeUtil.findFirstNodeInstance(assemblyRoot, LLVMDebugTrapNode.class) != null) {
+            notShareable.increment();
+            return function;
+        }
+
+        // another thread may have parsed the same snippet in the meantime
+        Entry existing = cache.putIfAbsent(key, new Entry(function, parseNanos));
+        return existing != null ? existing.function : function;
+    }
+
+    static LLVMFunctionDescriptor createFunction(LLVMContext context, ExternalLibrary library, LLVMInlineAssemblyRootNode assemblyRoot) {
+        LLVMFunctionDescriptor asm = LLVMFunctionDescriptor.createDescriptor(context, "<asm>", new FunctionType(MetaType.UNKNOWN, Type.EMPTY_ARRAY, false), -1);
+        asm.define(library, new LLVMIRFunction(Truffle.getRuntime().createCallTarget(assemblyRoot), null));
+        return asm;
+    }
+
+    @Override
+    public void dispose() {
+        if (statisticsTarget != null) {
+            PrintStream out = SulongEngineOption.getStream(statisticsTarget);
+            out.println(String.format("Inline assembly: %d snippets parsed, %d reused (%.3f ms of parsing saved), %d not shareable", parsed.sum(), reused.sum(), savedNanos.sum() / 1e6,
+                            notShareable.sum()));
+        }
+    }
+
+    private static final class Entry {
+
+        final LLVMFunctionDescriptor function;
+        final long parseNanos;
+
+        Entry(LLVMFunctionDescriptor function, long parseNanos) {
+            this.function = function;
+            this.parseNanos = parseNanos;
+        }
+    }
+
+    private static final class Key {
+
+        private final ExternalLibrary library;
+        private final String asmExpression;
+        private final String asmFlags;
+        private final String types;
+        private final int[] retOffsets;
+        private final int hash;
+
+        Key(ExternalLibrary library, String asmExpression, String asmFlags, Type[] argTypes, Type retType, Type[] retTypes, int[] retOffsets) {
+            this.library = library;
+            this.asmExpression = asmExpression;
+            this.asmFlags = asmFlags;
+            this.types = describeTypes(argTypes, retType, retTypes);
+            this.retOffsets = retOffsets;
+            this.hash = Objects.hash(asmExpression, asmFlags, types, Arrays.hashCode(retOffsets));
+        }
+
+        /**
+         * {@link Type#equals} does not compare pointee types, but the parser derives the width of
+         * memory operands from them. The textual form of a type includes its pointee types, and
+         * named structures are unique within a library.
+         */
+        private static String describeTypes(Type[] argTypes, Type retType, Type[] retTypes) {
+            StringBuilder sb = new StringBuilder();
+            sb.append(Arrays.toString(argTypes)).append(" -> ").append(retType);
+            if (retTypes != null) {
+                sb.append(' ').append(Arrays.toString(retTypes));
+            }
+            return sb.toString();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hash == other.hash && library == other.library && asmExpression.equals(other.asmExpression) && Objects.equals(asmFlags, other.asmFlags) &&
+                            types.equals(other.types) && Arrays.equals(retOffsets, other.retOffsets);
+        }
+    }
+}
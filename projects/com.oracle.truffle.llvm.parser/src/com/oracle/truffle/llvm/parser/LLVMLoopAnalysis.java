@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import com.oracle.truffle.llvm.parser.model.blocks.InstructionBlock;
+import com.oracle.truffle.llvm.parser.model.functions.FunctionDefinition;
+import com.oracle.truffle.llvm.parser.model.symbols.instructions.TerminatingInstruction;
+
+/**
+ * Finds the natural loops of a function, i.e., the strongly connected regions of the control flow
+ * graph that are entered through a single header block which dominates all blocks of the loop.
+ * Irreducible control flow is not treated as a loop.
+ */
+public final class LLVMLoopAnalysis {
+
+    public static final String LOOP_SUCCESSOR_FRAME_SLOT_ID = "<loop successor>";
+
+    public static final int NO_LOOP = -1;
+
+    /**
+     * For a loop header, the header of the enclosing loop. For any other block, the header of the
+     * innermost loop containing the block. {@link #NO_LOOP} if there is no such loop.
+     */
+    private final int[] enclosingLoops;
+
+    /**
+     * For a loop header, the sorted indices of all blocks outside the loop that are successors of a
+     * block in the loop. {@code null} for other blocks.
+     */
+    private final int[][] loopExits;
+
+    private final boolean hasLoops;
+
+    private LLVMLoopAnalysis(int[] enclosingLoops, int[][] loopExits, boolean hasLoops) {
+        this.enclosingLoops = enclosingLoops;
+        this.loopExits = loopExits;
+        this.hasLoops = hasLoops;
+    }
+
+    public boolean hasLoops() {
+        return hasLoops;
+    }
+
+    public int[] getEnclosingLoops() {
+        return enclosingLoops;
+    }
+
+    public int[][] getLoopExits() {
+        return loopExits;
+    }
+
+    public static LLVMLoopAnalysis computeLoops(FunctionDefinition functionDefinition) {
+        List<InstructionBlock> blocks = functionDefinition.getBlocks();
+        int blockCount = blocks.size();
+        int[][] successors = computeSuccessors(blocks);
+        ArrayList<Integer>[] predecessors = computePredecessors(successors);
+
+        int[] postOrder = computePostOrder(successors);
+        int[] postOrderIndex = new int[blockCount];
+        Arrays.fill(postOrderIndex, -1);
+        for (int i = 0; i < postOrder.length; i++) {
+            postOrderIndex[postOrder[i]] = i;
+        }
+        int[] dominators = computeDominators(postOrder, postOrderIndex, predecessors);
+
+        // collect the blocks of every loop, loops with the same header are merged
+        BitSet[] loopBodies = new BitSet[blockCount];
+        boolean hasLoops = false;
+        for (int block : postOrder) {
+            for (int successor : successors[block]) {
+                if (dominates(dominators, postOrderIndex, successor, block)) {
+                    if (loopBodies[successor] == null) {
+                        loopBodies[successor] = new BitSet(blockCount);
+                        loopBodies[successor].set(successor);
+                    }
+                    addLoopBody(loopBodies[successor], block, predecessors, postOrderIndex);
+                    hasLoops = true;
+                }
+            }
+        }
+
+        int[] enclosingLoops = new int[blockCount];
+        Arrays.fill(enclosingLoops, NO_LOOP);
+        int[][] loopExits = new int[blockCount][];
+        if (!hasLoops) {
+            return new LLVMLoopAnalysis(enclosingLoops, loopExits, false);
+        }
+
+        // natural loops are either disjoint or nested, so the innermost loop is the smallest one
+        int[] enclosingLoopSize = new int[blockCount];
+        for (int header = 0; header < blockCount; header++) {
+            BitSet body = loopBodies[header];
+            if (body == null) {
+                continue;
+            }
+            int size = body.cardinality();
+            for (int block = body.nextSetBit(0); block >= 0; block = body.nextSetBit(block + 1)) {
+                if (block == header) {
+                    continue;
+                }
+                if (enclosingLoops[block] == NO_LOOP || size < enclosingLoopSize[block]) {
+                    enclosingLoops[block] = header;
+                    enclosingLoopSize[block] = size;
+                }
+            }
+
+            BitSet exits = new BitSet(blockCount);
+            for (int block = body.nextSetBit(0); block >= 0; block = body.nextSetBit(block + 1)) {
+                for (int successor : successors[block]) {
+                    if (!body.get(successor)) {
+                        exits.set(successor);
+                    }
+                }
+            }
+            loopExits[header] = exits.stream().toArray();
+        }
+        return new LLVMLoopAnalysis(enclosingLoops, loopExits, true);
+    }
+
+    private static int[][] computeSuccessors(List<InstructionBlock> blocks) {
+        int[][] result = new int[blocks.size()][];
+        for (InstructionBlock block : blocks) {
+            TerminatingInstruction terminatingInstruction = block.getTerminatingInstruction();
+            int[] blockSuccessors = new int[terminatingInstruction.getSuccessorCount()];
+            for (int i = 0; i < blockSuccessors.length; i++) {
+                blockSuccessors[i] = terminatingInstruction.getSuccessor(i).getBlockIndex();
+            }
+            result[block.getBlockIndex()] = blockSuccessors;
+        }
+        return result;
+    }
+
+    private static ArrayList<Integer>[] computePredecessors(int[][] successors) {
+        @SuppressWarnings("unchecked")
+        ArrayList<Integer>[] result = new ArrayList[successors.length];
+        for (int i = 0; i < successors.length; i++) {
+            result[i] = new ArrayList<>(2);
+        }
+        for (int block = 0; block < successors.length; block++) {
+            for (int successor : successors[block]) {
+                result[successor].add(block);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the blocks reachable from the entry block in post order.
+     */
+    private static int[] computePostOrder(int[][] successors) {
+        int[] result = new int[successors.length];
+        int count = 0;
+        if (successors.length == 0) {
+            return result;
+        }
+
+        BitSet visited = new BitSet(successors.length);
+        int[] blockStack = new int[successors.length];
+        int[] successorStack = new int[successors.length];
+        int depth = 0;
+        blockStack[0] = 0;
+        visited.set(0);
+        while (depth >= 0) {
+            int block = blockStack[depth];
+            int next = successorStack[depth];
+            if (next < successors[block].length) {
+                successorStack[depth]++;
+                int successor = successors[block][next];
+                if (!visited.get(successor)) {
+                    visited.set(successor);
+                    depth++;
+                    blockStack[depth] = successor;
+                    successorStack[depth] = 0;
+                }
+            } else {
+                result[count++] = block;
+                depth--;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Computes the immediate dominators of all reachable blocks as post order indices, see
+     * "A Simple, Fast Dominance Algorithm" by Cooper, Harvey and Kennedy.
+     */
+    private static int[] computeDominators(int[] postOrder, int[] postOrderIndex, ArrayList<Integer>[] predecessors) {
+        int count = postOrder.length;
+        int[] dominators = new int[count];
+        Arrays.fill(dominators, -1);
+        if (count == 0) {
+            return dominators;
+        }
+        int entry = count - 1;
+        dominators[entry] = entry;
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            // iterate in reverse post order, skipping the entry block
+            for (int i = entry - 1; i >= 0; i--) {
+                int newDominator = -1;
+                for (int predecessor : predecessors[postOrder[i]]) {
+                    int p = postOrderIndex[predecessor];
+                    if (p < 0 || dominators[p] < 0) {
+                        continue;
+                    }
+                    newDominator = newDominator < 0 ? p : intersect(dominators, p, newDominator);
+                }
+                if (dominators[i] != newDominator) {
+                    dominators[i] = newDominator;
+                    changed = true;
+                }
+            }
+        }
+        return dominators;
+    }
+
+    private static int intersect(int[] dominators, int first, int second) {
+        int finger1 = first;
+        int finger2 = second;
+        while (finger1 != finger2) {
+            while (finger1 < finger2) {
+                finger1 = dominators[finger1];
+            }
+            while (finger2 < finger1) {
+                finger2 = dominators[finger2];
+            }
+        }
+        return finger1;
+    }
+
+    private static boolean dominates(int[] dominators, int[] postOrderIndex, int dominator, int block) {
+        int d = postOrderIndex[dominator];
+        int b = postOrderIndex[block];
+        if (d < 0 || b < 0) {
+            return false;
+        }
+        // dominators have a higher post order index than the blocks they dominate
+        while (b < d) {
+            b = dominators[b];
+        }
+        return b == d;
+    }
+
+    private static void addLoopBody(BitSet body, int backEdgeSource, ArrayList<Integer>[] predecessors, int[] postOrderIndex) {
+        ArrayList<Integer> workList = new ArrayList<>();
+        if (!body.get(backEdgeSource)) {
+            body.set(backEdgeSource);
+            workList.add(backEdgeSource);
+        }
+        while (!workList.isEmpty()) {
+            int block = workList.remove(workList.size() - 1);
+            for (int predecessor : predecessors[block]) {
+                // unreachable blocks cannot be part of the loop
+                if (postOrderIndex[predecessor] >= 0 && !body.get(predecessor)) {
+                    body.set(predecessor);
+                    workList.add(predecessor);
+                }
+            }
+        }
+    }
+}
@@ -39,6 +39,7 @@ import com.oracle.truffle.api.RootCallTarget;
 import com.oracle.truffle.api.Truffle;
 import com.oracle.truffle.api.frame.FrameDescriptor;
 import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.frame.FrameSlotKind;
 import com.oracle.truffle.api.nodes.RootNode;
 import com.oracle.truffle.api.source.Source;
 import com.oracle.truffle.llvm.parser.LLVMLivenessAnalysis.LLVMLivenessAnalysisResult;
@@ -127,8 +128,20 @@ public class LazyToTruffleConverterImpl implements LazyToTruffleConverter {
 
         List<LLVMStatementNode> copyArgumentsToFrame = copyArgumentsToFrame(frame);
         LLVMStatementNode[] copyArgumentsToFrameArray = copyArgumentsToFrame.toArray(LLVMStatementNode.NO_STATEMENTS);
+
+        LLVMLoopAnalysis loops = LLVMLoopAnalysis.computeLoops(method);
+        FrameSlot loopSuccessorSlot = null;
+        int[] enclosingLoops = null;
+        int[][] loopExits = null;
+        if (loops.hasLoops()) {
+            // added after the liveness analysis, the slot is only written and read when leaving a loop
+            loopSuccessorSlot = frame.addFrameSlot(LLVMLoopAnalysis.LOOP_SUCCESSOR_FRAME_SLOT_ID, null, FrameSlotKind.Int);
+            enclosingLoops = loops.getEnclosingLoops();
+            loopExits = loops.getLoopExits();
+        }
+
         LLVMExpressionNode body = runtime.getContext().getNodeFactory().createFunctionBlockNode(frame.findFrameSlot(LLVMUserException.FRAME_SLOT_ID), visitor.getBlocks(), uniquesRegion.build(),
-                        nullableBeforeBlock, nullableAfterBlock, location, copyArgumentsToFrameArray);
+                        nullableBeforeBlock, nullableAfterBlock, location, copyArgumentsToFrameArray, loopSuccessorSlot, enclosingLoops, loopExits);
 
         RootNode rootNode = runtime.getContext().getNodeFactory().createFunctionStartNode(body, frame, method.getName(), method.getSourceName(),
                         method.getParameters().size(), source, location);
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2017, 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.parser.elf;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.graalvm.polyglot.io.ByteSequence;
+
+/**
+ * The {@code .dynsym} section, which lists the symbols that a shared object imports and exports.
+ */
+public final class ElfDynamicSymbolTable {
+
+    private static final int SHT_DYNSYM = 11;
+    private static final int SHT_GNU_VERSYM = 0x6fffffff;
+    private static final int VERSYM_HIDDEN = 0x8000;
+    private static final int SHN_UNDEF = 0;
+
+    private static final int STB_GLOBAL = 1;
+    private static final int STB_WEAK = 2;
+    private static final int STB_GNU_UNIQUE = 10;
+
+    private static final int STV_DEFAULT = 0;
+    private static final int STV_PROTECTED = 3;
+
+    private static final int ELF32_SYM_SIZE = 16;
+    private static final int ELF64_SYM_SIZE = 24;
+
+    private final List<String> exportedSymbols;
+
+    private ElfDynamicSymbolTable(List<String> exportedSymbols) {
+        this.exportedSymbols = exportedSymbols;
+    }
+
+    public static ElfDynamicSymbolTable create(ElfSectionHeaderTable sht, ElfReader buffer) {
+        ElfSectionHeaderTable.Entry[] entries = sht.getEntries();
+        ElfSectionHeaderTable.Entry versions = null;
+        for (ElfSectionHeaderTable.Entry e : entries) {
+            if (e.getType() == SHT_GNU_VERSYM) {
+                versions = e;
+            }
+        }
+        for (ElfSectionHeaderTable.Entry e : entries) {
+            if (e.getType() == SHT_DYNSYM && e.getLink() < entries.length) {
+                ElfSectionHeaderTable.Entry strTab = entries[e.getLink()];
+                ByteSequence strings = buffer.getStringTable(strTab.getOffset(), strTab.getSize());
+                return new ElfDynamicSymbolTable(readExportedSymbols(buffer, e, strings, versions));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Symbols with a hidden version are left out, since they cannot be looked up by name.
+     */
+    private static List<String> readExportedSymbols(ElfReader buffer, ElfSectionHeaderTable.Entry section, ByteSequence strings, ElfSectionHeaderTable.Entry versions) {
+        long entrySize = section.getEntrySize() > 0 ? section.getEntrySize() : buffer.is64Bit() ? ELF64_SYM_SIZE : ELF32_SYM_SIZE;
+        List<String> symbols = new ArrayList<>();
+        // the first entry is always the undefined symbol
+        for (long index = 1; (index + 1) * entrySize <= section.getSize(); index++) {
+            if (versions != null && (index + 1) * 2 <= versions.getSize()) {
+                buffer.setPosition((int) (versions.getOffset() + index * 2));
+                if ((buffer.getShort() & VERSYM_HIDDEN) != 0) {
+                    continue;
+                }
+            }
+            buffer.setPosition((int) (section.getOffset() + index * entrySize));
+            int name = buffer.getInt();
+            if (!buffer.is64Bit()) {
+                // st_value and st_size come before st_info in ELF32
+                buffer.skip(8);
+            }
+            byte info = buffer.getByte();
+            byte other = buffer.getByte();
+            short shndx = buffer.getShort();
+            int bind = (info & 0xff) >>> 4;
+            int visibility = other & 3;
+            if (shndx != SHN_UNDEF && (bind == STB_GLOBAL || bind == STB_WEAK || bind == STB_GNU_UNIQUE) && (visibility == STV_DEFAULT || visibility == STV_PROTECTED)) {
+                symbols.add(getString(strings, name));
+            }
+        }
+        return symbols;
+    }
+
+    private static String getString(ByteSequence strings, int offset) {
+        StringBuilder sb = new StringBuilder();
+        for (int pos = offset; pos < strings.length(); pos++) {
+            byte b = strings.byteAt(pos);
+            if (b == 0) {
+                break;
+            }
+            sb.append((char) b);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the names of the symbols that the shared object defines and exports.
+     */
+    public List<String> getExportedSymbols() {
+        return exportedSymbols;
+    }
+}
@@ -29,19 +29,28 @@
  */
 package com.oracle.truffle.llvm.parser.elf;
 
+import java.io.IOException;
+import java.util.Collections;
+
 import org.graalvm.polyglot.io.ByteSequence;
 
+import com.oracle.truffle.api.TruffleFile;
+import com.oracle.truffle.llvm.parser.filereader.MappedByteSequence;
+import com.oracle.truffle.llvm.runtime.NFIContextExtension.ExportedSymbols;
+
 public final class ElfFile {
 
     private final ElfHeader header;
     private final ElfSectionHeaderTable sectionHeaderTable;
     private final ElfDynamicSection dynamicSection;
+    private final ElfReader reader;
 
-    private ElfFile(ElfHeader header, ElfSectionHeaderTable sectionHeaderTable, ElfDynamicSection dynamicSection) {
+    private ElfFile(ElfHeader header, ElfSectionHeaderTable sectionHeaderTable, ElfDynamicSection dynamicSection, ElfReader reader) {
         super();
         this.header = header;
         this.sectionHeaderTable = sectionHeaderTable;
         this.dynamicSection = dynamicSection;
+        this.reader = reader;
     }
 
     public static ElfFile create(ByteSequence data) {
@@ -50,7 +59,7 @@ public final class ElfFile {
         ElfHeader header = ElfHeader.create(reader);
         ElfSectionHeaderTable sectionHeaderTable = ElfSectionHeaderTable.create(header, reader);
         ElfDynamicSection dynamicSection = ElfDynamicSection.create(sectionHeaderTable, reader);
-        return new ElfFile(header, sectionHeaderTable, dynamicSection);
+        return new ElfFile(header, sectionHeaderTable, dynamicSection, reader);
     }
 
     public ElfHeader getHeader() {
@@ -61,6 +70,43 @@ public final class ElfFile {
         return dynamicSection;
     }
 
+    /**
+     * Reads the {@code .dynsym} section, or returns {@code null} if there is none.
+     */
+    public ElfDynamicSymbolTable getDynamicSymbolTable() {
+        return ElfDynamicSymbolTable.create(sectionHeaderTable, reader);
+    }
+
+    /**
+     * Returns the symbols that a shared object exports and the entries of its dynamic section that
+     * name its dependencies, or {@code null} if the data is not an ELF file with a dynamic symbol
+     * table.
+     */
+    public static ExportedSymbols readExportedSymbols(ByteSequence data) {
+        if (!ElfReader.isElfFile(data)) {
+            return null;
+        }
+        ElfFile elfFile = create(data);
+        ElfDynamicSymbolTable symbolTable = elfFile.getDynamicSymbolTable();
+        if (symbolTable == null) {
+            return null;
+        }
+        ElfDynamicSection dynamicSection = elfFile.getDynamicSection();
+        if (dynamicSection == null) {
+            return new ExportedSymbols(symbolTable.getExportedSymbols(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        }
+        return new ExportedSymbols(symbolTable.getExportedSymbols(), dynamicSection.getDTNeeded(), dynamicSection.getDTRPath(), dynamicSection.getDTRunPath());
+    }
+
+    /**
+     * Like {@link #readExportedSymbols(ByteSequence)}, but maps the file if possible, so that only
+     * the pages of the headers, the dynamic section and the dynamic symbol table are read.
+     */
+    public static ExportedSymbols readExportedSymbols(TruffleFile file) throws IOException {
+        MappedByteSequence mapped = MappedByteSequence.map(file);
+        return readExportedSymbols(mapped != null ? mapped : ByteSequence.create(file.readAllBytes()));
+    }
+
     public ElfSectionHeaderTable getSectionHeaderTable() {
         return sectionHeaderTable;
     }
@@ -54,6 +54,10 @@ public final class ElfReader extends ObjectFileReader {
         return new ElfReader(byteSequence, !isBigEndian(byteSequence), is64Bit(byteSequence));
     }
 
+    static boolean isElfFile(ByteSequence byteSequence) {
+        return byteSequence.length() >= EI_NIDENT && byteSequence.byteAt(0) == 0x7f && byteSequence.byteAt(1) == 'E' && byteSequence.byteAt(2) == 'L' && byteSequence.byteAt(3) == 'F';
+    }
+
     public boolean is64Bit() {
         return is64Bit;
     }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.parser.filereader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+
+import org.graalvm.polyglot.io.ByteSequence;
+
+import com.oracle.truffle.api.TruffleFile;
+
+/**
+ * A {@link ByteSequence} that is backed by a {@link ByteBuffer}, typically a memory mapped file.
+ * Slices share the underlying buffer, so no data is copied.
+ */
+public final class MappedByteSequence implements ByteSequence {
+
+    private final ByteBuffer buffer;
+
+    private MappedByteSequence(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Maps the file into memory. Returns {@code null} if the file system of the file does not
+     * support memory mapping or the file is too large to be mapped into a single buffer.
+     */
+    public static MappedByteSequence map(TruffleFile file) throws IOException {
+        try (SeekableByteChannel channel = file.newByteChannel(Collections.singleton(StandardOpenOption.READ))) {
+            if (!(channel instanceof FileChannel) || channel.size() > Integer.MAX_VALUE) {
+                return null;
+            }
+            return new MappedByteSequence(((FileChannel) channel).map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Returns a little-endian view of the bytes. The view shares the content with the sequence if
+     * possible, otherwise the bytes are copied once.
+     */
+    public static ByteBuffer asByteBuffer(ByteSequence bytes) {
+        ByteBuffer result;
+        if (bytes instanceof MappedByteSequence) {
+            result = ((MappedByteSequence) bytes).buffer.duplicate();
+        } else {
+            result = ByteBuffer.wrap(bytes.toByteArray());
+        }
+        return result.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public int length() {
+        return buffer.limit();
+    }
+
+    @Override
+    public byte byteAt(int index) {
+        return buffer.get(index);
+    }
+
+    @Override
+    public ByteSequence subSequence(int startIndex, int endIndex) {
+        if (startIndex < 0 || endIndex > length() || startIndex > endIndex) {
+            throw new IndexOutOfBoundsException("start: " + startIndex + ", end: " + endIndex + ", length: " + length());
+        }
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(startIndex);
+        slice.limit(endIndex);
+        return new MappedByteSequence(slice.slice());
+    }
+
+    @Override
+    public byte[] toByteArray() {
+        byte[] result = new byte[length()];
+        ByteBuffer copy = buffer.duplicate();
+        copy.position(0);
+        copy.get(result);
+        return result;
+    }
+}
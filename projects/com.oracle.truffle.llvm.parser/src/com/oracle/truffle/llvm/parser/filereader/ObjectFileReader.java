@@ -29,23 +29,26 @@
  */
 package com.oracle.truffle.llvm.parser.filereader;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 import org.graalvm.polyglot.io.ByteSequence;
 
 public class ObjectFileReader {
 
     protected final ByteSequence byteSequence;
-    private final boolean littleEndian;
+    private final ByteBuffer buffer;
 
     private int position;
 
     public ObjectFileReader(ByteSequence buffer, boolean littleEndian) {
         this.byteSequence = buffer;
+        this.buffer = MappedByteSequence.asByteBuffer(buffer).order(littleEndian ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
         this.position = 0;
-        this.littleEndian = littleEndian;
     }
 
     public final byte getByte() {
-        return byteSequence.byteAt(position++);
+        return buffer.get(position++);
     }
 
     public final int getPosition() {
@@ -61,57 +64,29 @@ public class ObjectFileReader {
     }
 
     public final short getShort() {
-        int ret = getByte() & 0xff;
-        ret = (ret << 8) | (getByte() & 0xff);
-
-        if (littleEndian) {
-            return Short.reverseBytes((short) ret);
-        }
-        return (short) ret;
+        short ret = buffer.getShort(position);
+        position += Short.BYTES;
+        return ret;
     }
 
     public final int getInt() {
-        int ret = getByte() & 0xff;
-        ret = (ret << 8) | (getByte() & 0xff);
-        ret = (ret << 8) | (getByte() & 0xff);
-        ret = (ret << 8) | (getByte() & 0xff);
-
-        if (littleEndian) {
-            return Integer.reverseBytes(ret);
-        }
+        int ret = buffer.getInt(position);
+        position += Integer.BYTES;
         return ret;
     }
 
     public final long getLong() {
-        long ret = getByte() & 0xff;
-        ret = (ret << 8) | (getByte() & 0xff);
-        ret = (ret << 8) | (getByte() & 0xff);
-        ret = (ret << 8) | (getByte() & 0xff);
-        ret = (ret << 8) | (getByte() & 0xff);
-        ret = (ret << 8) | (getByte() & 0xff);
-        ret = (ret << 8) | (getByte() & 0xff);
-        ret = (ret << 8) | (getByte() & 0xff);
-
-        if (littleEndian) {
-            return Long.reverseBytes(ret);
-        }
+        long ret = buffer.getLong(position);
+        position += Long.BYTES;
         return ret;
     }
 
     public final byte getByte(int pos) {
-        return byteSequence.byteAt(pos);
+        return buffer.get(pos);
     }
 
     public final int getInt(int pos) {
-        int ret = getByte(pos) & 0xff;
-        ret = (ret << 8) | (getByte(pos + 1) & 0xff);
-        ret = (ret << 8) | (getByte(pos + 2) & 0xff);
-        ret = (ret << 8) | (getByte(pos + 3) & 0xff);
-
-        if (littleEndian) {
-            return Integer.reverseBytes(ret);
-        }
-        return ret;
+        return buffer.getInt(pos);
     }
 
     public final ByteSequence slice() {
@@ -119,9 +94,9 @@ public class ObjectFileReader {
     }
 
     public final void get(byte[] compressedData) {
-        int length = compressedData.length;
-        for (int writeIdx = 0; writeIdx < length; writeIdx++) {
-            compressedData[writeIdx] = getByte();
-        }
+        ByteBuffer source = buffer.duplicate();
+        source.position(position);
+        source.get(compressedData);
+        position += compressedData.length;
     }
 }
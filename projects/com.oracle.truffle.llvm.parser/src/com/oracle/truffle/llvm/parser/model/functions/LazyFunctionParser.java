@@ -43,7 +43,7 @@ public final class LazyFunctionParser {
     private final Function parser;
     private final LLSourceBuilder llSource;
 
-    private boolean isParsed;
+    private volatile boolean isParsed;
 
     public LazyFunctionParser(LLVMScanner.LazyScanner scanner, Function parser, LLSourceBuilder llSource) {
         this.scanner = scanner;
@@ -54,15 +54,34 @@ public final class LazyFunctionParser {
 
     public void parse(DebugInfoFunctionProcessor diProcessor, Source bitcodeSource, LLVMParserRuntime runtime) {
         if (!isParsed) {
-            synchronized (parser.getScope()) {
-                parser.setupScope();
-                scanner.scanBlock(parser);
-                diProcessor.process(parser.getFunction(), parser.getScope(), bitcodeSource, runtime.getContext());
-                if (runtime.getContext().getEnv().getOptions().get(SulongEngineOption.LL_DEBUG)) {
-                    llSource.applySourceLocations(parser.getFunction(), runtime);
+            if (SulongEngineOption.isConcurrentParsing(runtime.getContext().getEnv().getOptions())) {
+                // decoding the bitstream does not need the shared scope, only building the
+                // function model does
+                final LLVMScanner.BlockRecording records = scanner.record();
+                synchronized (parser.getScope()) {
+                    if (!isParsed) {
+                        parser.setupScope();
+                        records.replay(parser);
+                        processFunction(diProcessor, bitcodeSource, runtime);
+                    }
+                }
+            } else {
+                synchronized (parser.getScope()) {
+                    if (!isParsed) {
+                        parser.setupScope();
+                        scanner.scanBlock(parser);
+                        processFunction(diProcessor, bitcodeSource, runtime);
+                    }
                 }
-                isParsed = true;
             }
         }
     }
+
+    private void processFunction(DebugInfoFunctionProcessor diProcessor, Source bitcodeSource, LLVMParserRuntime runtime) {
+        diProcessor.process(parser.getFunction(), parser.getScope(), bitcodeSource, runtime.getContext());
+        if (runtime.getContext().getEnv().getOptions().get(SulongEngineOption.LL_DEBUG)) {
+            llSource.applySourceLocations(parser.getFunction(), runtime);
+        }
+        isParsed = true;
+    }
 }
@@ -29,23 +29,34 @@
  */
 package com.oracle.truffle.llvm.parser.scanner;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 import org.graalvm.polyglot.io.ByteSequence;
 
+import com.oracle.truffle.llvm.parser.filereader.MappedByteSequence;
+
+/**
+ * Reads bit fields from a little-endian byte buffer. Reads are served from a single unaligned
+ * 64-bit load wherever the buffer is large enough, only the last bytes of the stream are read one
+ * byte at a time.
+ */
 public final class BitStream {
 
     private static final int BYTE_BITS_SHIFT = 3;
     private static final int BYTE_BITS_MASK = 0x7;
 
     private static final long BYTE_MASK = 0xffL;
-    private final ByteSequence bitstream;
+    private final ByteBuffer bitstream;
+    private final int length;
 
-    private BitStream(ByteSequence bitstream) {
+    private BitStream(ByteBuffer bitstream) {
         this.bitstream = bitstream;
+        this.length = bitstream.limit();
     }
 
     public static BitStream create(ByteSequence bytes) {
-
-        return new BitStream(bytes);
+        return new BitStream(MappedByteSequence.asByteBuffer(bytes));
     }
 
     public static BitStream createFromBlob(long[] args, int blobStartIndex) {
@@ -57,7 +68,7 @@ public final class BitStream {
                 blob[to++] = (byte) ((l >> (Byte.SIZE * i)) & BYTE_MASK);
             }
         }
-        return new BitStream(ByteSequence.create(blob));
+        return new BitStream(ByteBuffer.wrap(blob).order(ByteOrder.LITTLE_ENDIAN));
     }
 
     public static long widthVBR(long value, long width) {
@@ -70,19 +81,39 @@ public final class BitStream {
         return total;
     }
 
+    private static long mask(int bits) {
+        return bits == Long.SIZE ? -1L : (1L << bits) - 1;
+    }
+
     public long read(long offset, int bits) {
         int byteIndex = (int) (offset >> BYTE_BITS_SHIFT);
         int bitOffsetInByte = (int) (offset & BYTE_BITS_MASK);
+
+        if (byteIndex <= length - Long.BYTES) {
+            long value = bitstream.getLong(byteIndex) >>> bitOffsetInByte;
+            int availableBits = Long.SIZE - bitOffsetInByte;
+            if (bits <= availableBits) {
+                return value & mask(bits);
+            } else if (byteIndex + Long.BYTES < length) {
+                long next = bitstream.get(byteIndex + Long.BYTES) & BYTE_MASK;
+                return (value | (next << availableBits)) & mask(bits);
+            }
+        }
+        return readSlow(byteIndex, bitOffsetInByte, bits);
+    }
+
+    private long readSlow(int startByteIndex, int bitOffsetInByte, int bits) {
+        int byteIndex = startByteIndex;
         int availableBits = Byte.SIZE - bitOffsetInByte;
 
-        long value = (bitstream.byteAt(byteIndex++) & BYTE_MASK) >> bitOffsetInByte;
+        long value = (bitstream.get(byteIndex++) & BYTE_MASK) >> bitOffsetInByte;
         if (bits <= availableBits) {
             return value & (BYTE_MASK >> (8 - bits));
         }
         int remainingBits = bits - availableBits;
         int shift = availableBits;
         while (true) {
-            byte byteValue = bitstream.byteAt(byteIndex++);
+            byte byteValue = bitstream.get(byteIndex++);
 
             if (remainingBits > Byte.SIZE) {
                 value = value | ((byteValue & BYTE_MASK) << shift);
@@ -99,7 +130,28 @@ public final class BitStream {
         long shift = 0;
         long datum;
         long o = offset;
-        long dmask = 1 << (width - 1);
+        long dmask = 1L << (width - 1);
+
+        // decode as many chunks as possible from a single 64-bit load
+        int byteIndex = (int) (offset >> BYTE_BITS_SHIFT);
+        if (byteIndex <= length - Long.BYTES) {
+            int bitOffsetInByte = (int) (offset & BYTE_BITS_MASK);
+            long word = bitstream.getLong(byteIndex) >>> bitOffsetInByte;
+            int availableBits = Long.SIZE - bitOffsetInByte;
+            long chunkMask = mask(width);
+            while (availableBits >= width) {
+                datum = word & chunkMask;
+                value += (datum & (dmask - 1)) << shift;
+                if ((datum & dmask) == 0) {
+                    return value;
+                }
+                word >>>= width;
+                availableBits -= width;
+                o += width;
+                shift += width - 1;
+            }
+        }
+
         do {
             datum = read(o, width);
             o += width;
@@ -110,6 +162,6 @@ public final class BitStream {
     }
 
     public long size() {
-        return bitstream.length() * Byte.SIZE;
+        return (long) length * Byte.SIZE;
     }
 }
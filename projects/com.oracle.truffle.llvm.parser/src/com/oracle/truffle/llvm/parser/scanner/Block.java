@@ -79,6 +79,10 @@ public enum Block {
         this.strategy = strategy;
     }
 
+    int getId() {
+        return id;
+    }
+
     boolean parseLazily() {
         return strategy == LAZY;
     }
@@ -98,13 +98,15 @@ public final class LLVMScanner {
         }
 
         public static Magic get(ByteSequence bytes) {
-            return get(BitStream.create(bytes));
+            return get(createHeaderStream(bytes));
         }
 
     }
 
     private static final int MAX_BLOCK_DEPTH = 3;
 
+    private static final int HEADER_BYTES = 16;
+
     private final List<AbbreviatedRecord[]> abbreviationDefinitions = new ArrayList<>();
 
     private final BitStream bitstream;
@@ -123,6 +125,14 @@ public final class LLVMScanner {
 
     private long offset;
 
+    /**
+     * Records the module-level events for the {@link ParseCache}, or {@code null} if no recording
+     * is required. Recording is suspended while the BLOCKINFO block is scanned.
+     */
+    private ScanRecording recording;
+
+    private boolean recordingSuspended;
+
     private LLVMScanner(BitStream bitstream, ParserListener listener) {
         this.bitstream = bitstream;
         this.parser = listener;
@@ -144,8 +154,16 @@ public final class LLVMScanner {
         return model;
     }
 
+    /**
+     * Creates a stream over the first bytes of the file, which is enough to read the magic word and
+     * the bitcode wrapper header without copying the whole file.
+     */
+    private static BitStream createHeaderStream(ByteSequence bytes) {
+        return BitStream.create(bytes.subSequence(0, Math.min(bytes.length(), HEADER_BYTES)));
+    }
+
     private static ByteSequence parseBitcode(ByteSequence bytes, ModelModule model) {
-        BitStream b = BitStream.create(bytes);
+        BitStream b = createHeaderStream(bytes);
         Magic magicWord = Magic.get(b);
         switch (magicWord) {
             case BC_MAGIC_WORD:
@@ -210,7 +228,21 @@ public final class LLVMScanner {
             throw new LLVMParserException("Not a valid Bitcode File!");
         }
 
-        scanner.scanToEnd();
+        final ParseCache cache = context.getContextExtensionOrNull(ParseCache.class);
+        if (cache != null) {
+            final byte[] key = ParseCache.computeKey(bitcode);
+            final ScanRecording cached = cache.load(key);
+            if (cached != null) {
+                scanner.replay(cached);
+            } else {
+                scanner.recording = new ScanRecording();
+                scanner.scanToEnd();
+                cache.store(key, scanner.recording);
+                scanner.recording = null;
+            }
+        } else {
+            scanner.scanToEnd();
+        }
 
         // the root block does not exist in the LLVM file and is therefore never exited by the
         // scanner
@@ -250,6 +282,68 @@ public final class LLVMScanner {
         return value;
     }
 
+    /**
+     * Passes the module-level events of a previous scan to the parser instead of decoding them from
+     * the bitstream. Only the BLOCKINFO block is scanned again, since the function blocks need the
+     * abbreviations it defines.
+     */
+    private void replay(ScanRecording events) {
+        final Deque<ParserListener> listeners = new ArrayDeque<>(MAX_BLOCK_DEPTH);
+        final Deque<Block> blocks = new ArrayDeque<>(MAX_BLOCK_DEPTH);
+        while (events.hasNext()) {
+            final byte tag = events.nextTag();
+            switch (tag) {
+                case ScanRecording.ENTER: {
+                    final Block subBlock = Block.lookup(events.nextNumber());
+                    listeners.push(parser);
+                    blocks.push(block);
+                    parser = parser.enter(subBlock);
+                    block = subBlock;
+                    break;
+                }
+
+                case ScanRecording.EXIT:
+                    if (listeners.isEmpty()) {
+                        throw new LLVMParserException("Malformed module recording");
+                    }
+                    parser.exit();
+                    parser = listeners.pop();
+                    block = blocks.pop();
+                    break;
+
+                case ScanRecording.RECORD: {
+                    final long id = events.nextNumber();
+                    parser.record(id, events.nextOperands());
+                    break;
+                }
+
+                case ScanRecording.SKIP: {
+                    final Block subBlock = Block.lookup(events.nextNumber());
+                    final long startingOffset = events.nextNumber();
+                    final long endingOffset = events.nextNumber();
+                    final int startingIdSize = (int) events.nextNumber();
+                    parser.skip(subBlock, new LazyScanner(new HashMap<>(defaultAbbreviations), startingOffset, endingOffset, startingIdSize, subBlock));
+                    break;
+                }
+
+                case ScanRecording.SCAN: {
+                    final long startingOffset = events.nextNumber();
+                    final long endingOffset = events.nextNumber();
+                    abbreviationDefinitions.clear();
+                    abbreviationDefinitions.addAll(defaultAbbreviations.getOrDefault(block, Collections.emptyList()));
+                    offset = startingOffset;
+                    enterSubBlock();
+                    scanToOffset(endingOffset);
+                    break;
+                }
+
+                default:
+                    throw new LLVMParserException("Malformed module recording");
+            }
+        }
+        offset = bitstream.size();
+    }
+
     private void scanToEnd() {
         scanToOffset(bitstream.size());
     }
@@ -287,7 +381,7 @@ public final class LLVMScanner {
         AbbreviatedRecord[] records = abbreviationDefinitions.get(recordId - BuiltinIDs.CUSTOM_ABBREV_OFFSET);
         for (AbbreviatedRecord record : records) {
             if (record != null) {
-                record.scan();
+                record.scan(this);
             }
         }
         passRecordToParser();
@@ -313,7 +407,7 @@ public final class LLVMScanner {
             final boolean isLiteral = read(Primitive.USER_OPERAND_LITERALBIT) == 1;
             if (isLiteral) {
                 final long fixedValue = read(Primitive.USER_OPERAND_LITERAL);
-                operandScanners[i] = () -> recordBuffer.addOp(fixedValue);
+                operandScanners[i] = scanner -> scanner.recordBuffer.addOp(fixedValue);
 
             } else {
 
@@ -322,18 +416,18 @@ public final class LLVMScanner {
                 switch ((int) recordType) {
                     case AbbrevRecordId.FIXED: {
                         final int width = (int) read(Primitive.USER_OPERAND_DATA);
-                        operandScanners[i] = () -> {
-                            final long op = read(width);
-                            recordBuffer.addOp(op);
+                        operandScanners[i] = scanner -> {
+                            final long op = scanner.read(width);
+                            scanner.recordBuffer.addOp(op);
                         };
                         break;
                     }
 
                     case AbbrevRecordId.VBR: {
                         final int width = (int) read(Primitive.USER_OPERAND_DATA);
-                        operandScanners[i] = () -> {
-                            final long op = readVBR(width);
-                            recordBuffer.addOp(op);
+                        operandScanners[i] = scanner -> {
+                            final long op = scanner.readVBR(width);
+                            scanner.recordBuffer.addOp(op);
                         };
                         break;
                     }
@@ -346,25 +440,25 @@ public final class LLVMScanner {
                         break;
 
                     case AbbrevRecordId.CHAR6:
-                        operandScanners[i] = () -> {
-                            final long op = readChar();
-                            recordBuffer.addOp(op);
+                        operandScanners[i] = scanner -> {
+                            final long op = scanner.readChar();
+                            scanner.recordBuffer.addOp(op);
                         };
                         break;
 
                     case AbbrevRecordId.BLOB:
-                        operandScanners[i] = () -> {
-                            long blobLength = read(Primitive.USER_OPERAND_BLOB_LENGTH);
-                            alignInt();
+                        operandScanners[i] = scanner -> {
+                            long blobLength = scanner.read(Primitive.USER_OPERAND_BLOB_LENGTH);
+                            scanner.alignInt();
                             final long maxBlobPartLength = Long.SIZE / Primitive.USER_OPERAND_LITERAL.getBits();
-                            recordBuffer.ensureFits(blobLength / maxBlobPartLength);
+                            scanner.recordBuffer.ensureFits(blobLength / maxBlobPartLength);
                             while (blobLength > 0) {
                                 final long l = blobLength <= maxBlobPartLength ? blobLength : maxBlobPartLength;
-                                final long blobValue = read((int) (Primitive.USER_OPERAND_LITERAL.getBits() * l));
-                                recordBuffer.addOp(blobValue);
+                                final long blobValue = scanner.read((int) (Primitive.USER_OPERAND_LITERAL.getBits() * l));
+                                scanner.recordBuffer.addOp(blobValue);
                                 blobLength -= l;
                             }
-                            alignInt();
+                            scanner.alignInt();
                         };
                         break;
 
@@ -378,11 +472,11 @@ public final class LLVMScanner {
 
         if (containsArrayOperand) {
             final AbbreviatedRecord elementScanner = operandScanners[operandScanners.length - 1];
-            final AbbreviatedRecord arrayScanner = () -> {
-                final long arrayLength = read(Primitive.USER_OPERAND_ARRAY_LENGTH);
-                recordBuffer.ensureFits(arrayLength);
+            final AbbreviatedRecord arrayScanner = scanner -> {
+                final long arrayLength = scanner.read(Primitive.USER_OPERAND_ARRAY_LENGTH);
+                scanner.recordBuffer.ensureFits(arrayLength);
                 for (int j = 0; j < arrayLength; j++) {
-                    elementScanner.scan();
+                    elementScanner.scan(scanner);
                 }
             };
             operandScanners[operandScanners.length - 1] = arrayScanner;
@@ -392,6 +486,7 @@ public final class LLVMScanner {
     }
 
     private void enterSubBlock() {
+        final long blockStart = offset;
         final long blockId = read(Primitive.SUBBLOCK_ID);
         final long newIdSize = read(Primitive.SUBBLOCK_ID_SIZE);
         alignInt();
@@ -403,6 +498,9 @@ public final class LLVMScanner {
 
         } else if (subBlock.parseLazily()) {
             final long endingOffset = offset + (numWords * Integer.SIZE);
+            if (recording != null) {
+                recording.skip(subBlock, offset, endingOffset, (int) newIdSize);
+            }
             final LazyScanner lazyScanner = new LazyScanner(new HashMap<>(defaultAbbreviations), offset, endingOffset, (int) newIdSize, subBlock);
             offset = endingOffset;
             parser.skip(subBlock, lazyScanner);
@@ -410,6 +508,14 @@ public final class LLVMScanner {
         } else {
             final int localAbbreviationDefinitionsOffset = defaultAbbreviations.getOrDefault(block, Collections.emptyList()).size();
             parents.push(new ScannerState(subList(abbreviationDefinitions, localAbbreviationDefinitionsOffset), block, idSize, parser));
+            if (recording != null) {
+                if (subBlock == Block.BLOCKINFO) {
+                    recording.scan(blockStart, offset + (numWords * Integer.SIZE));
+                    recordingSuspended = true;
+                } else {
+                    recording.enter(subBlock);
+                }
+            }
             parser = parser.enter(subBlock);
             startSubBlock(subBlock, (int) newIdSize);
         }
@@ -465,6 +571,14 @@ public final class LLVMScanner {
         alignInt();
         parser.exit();
 
+        if (recording != null) {
+            if (block == Block.BLOCKINFO) {
+                recordingSuspended = false;
+            } else {
+                recording.exit();
+            }
+        }
+
         if (parents.isEmpty()) {
             // after lazily parsed block
             return;
@@ -482,7 +596,12 @@ public final class LLVMScanner {
     }
 
     private void passRecordToParser() {
-        parser.record(recordBuffer.getId(), recordBuffer.getOps());
+        final long id = recordBuffer.getId();
+        final long[] ops = recordBuffer.getOps();
+        if (recording != null && !recordingSuspended) {
+            recording.record(id, ops);
+        }
+        parser.record(id, ops);
         recordBuffer.invalidate();
     }
 
@@ -518,13 +637,41 @@ public final class LLVMScanner {
         }
 
         public void scanBlock(ParserListener lazyParser) {
-            assert parents.isEmpty();
-            defaultAbbreviations.clear();
-            defaultAbbreviations.putAll(oldDefaultAbbreviations);
-            offset = startingOffset;
-            parser = lazyParser;
-            startSubBlock(startingBlock, startingIdSize);
-            scanToOffset(endingOffset);
+            // every block gets its own scanner, so that independent blocks can be scanned in
+            // parallel
+            final LLVMScanner scanner = new LLVMScanner(bitstream, lazyParser);
+            for (Map.Entry<Block, List<AbbreviatedRecord[]>> entry : oldDefaultAbbreviations.entrySet()) {
+                scanner.defaultAbbreviations.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+            }
+            scanner.offset = startingOffset;
+            scanner.startSubBlock(startingBlock, startingIdSize);
+            scanner.scanToOffset(endingOffset);
+        }
+
+        /**
+         * Decodes the block without passing the records to a parser yet. This needs no access to
+         * the module scope and can therefore run concurrently with the parsing of other blocks.
+         */
+        public BlockRecording record() {
+            final ScanRecording recording = new ScanRecording();
+            scanBlock(recording.asListener());
+            return new BlockRecording(recording);
+        }
+    }
+
+    /**
+     * The decoded records of a lazily parsed block.
+     */
+    public static final class BlockRecording {
+
+        private final ScanRecording recording;
+
+        private BlockRecording(ScanRecording recording) {
+            this.recording = recording;
+        }
+
+        public void replay(ParserListener listener) {
+            recording.replay(listener);
         }
     }
 }
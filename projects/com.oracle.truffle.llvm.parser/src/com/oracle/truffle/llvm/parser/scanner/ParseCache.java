@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.parser.scanner;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+import org.graalvm.polyglot.io.ByteSequence;
+
+import com.oracle.truffle.api.TruffleFile;
+import com.oracle.truffle.api.TruffleLanguage.Env;
+import com.oracle.truffle.llvm.parser.filereader.MappedByteSequence;
+import com.oracle.truffle.llvm.runtime.ContextExtension;
+import com.oracle.truffle.llvm.runtime.except.LLVMParserException;
+import com.oracle.truffle.llvm.runtime.options.SulongEngineOption;
+
+/**
+ * Persistent cache of the module-level structure of bitcode files. For every file the
+ * {@link LLVMScanner} stores the {@link ScanRecording records} it decoded outside of function
+ * bodies, keyed by the SHA-256 hash of the bitcode. On a hit the scanner replays these records
+ * instead of decoding the bitstream, and only the function blocks are scanned lazily from the file
+ * as before.
+ *
+ * Any problem with the cache directory or a cache file is treated as a miss, so the cache can never
+ * make parsing fail.
+ */
+public final class ParseCache implements ContextExtension {
+
+    private static final int MAGIC = 0x53424352; // 'SBCR'
+    private static final int FORMAT_VERSION = 1;
+    private static final String SUFFIX = ".bcrec";
+    private static final int KEY_BYTES = 32;
+    private static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES + KEY_BYTES + Long.BYTES + Integer.BYTES;
+
+    private final TruffleFile directory;
+    private final String statisticsTarget;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong failedStores = new AtomicLong();
+
+    public ParseCache(Env env) {
+        this.directory = env.getTruffleFile(env.getOptions().get(SulongEngineOption.PARSE_CACHE));
+        String target = env.getOptions().get(SulongEngineOption.PARSE_CACHE_STATS);
+        this.statisticsTarget = SulongEngineOption.isTrue(target) ? target : null;
+    }
+
+    public static boolean isEnabled(Env env) {
+        return !env.getOptions().get(SulongEngineOption.PARSE_CACHE).isEmpty();
+    }
+
+    static byte[] computeKey(ByteSequence bitcode) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(MappedByteSequence.asByteBuffer(bitcode));
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new LLVMParserException("SHA-256 is not available: " + e.getMessage());
+        }
+    }
+
+    ScanRecording load(byte[] key) {
+        ScanRecording recording = read(key);
+        if (recording == null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return recording;
+    }
+
+    private ScanRecording read(byte[] key) {
+        try {
+            TruffleFile file = directory.resolve(toFileName(key));
+            if (!file.exists()) {
+                return null;
+            }
+            byte[] content = file.readAllBytes();
+            if (content.length < HEADER_BYTES) {
+                return null;
+            }
+            ByteBuffer header = ByteBuffer.wrap(content);
+            if (header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+                return null;
+            }
+            byte[] storedKey = new byte[KEY_BYTES];
+            header.get(storedKey);
+            long checksum = header.getLong();
+            int length = header.getInt();
+            if (!Arrays.equals(key, storedKey) || length != content.length - HEADER_BYTES) {
+                return null;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(content, HEADER_BYTES, length);
+            if (crc.getValue() != checksum) {
+                return null;
+            }
+            return new ScanRecording(content, HEADER_BYTES, length);
+        } catch (IOException | SecurityException e) {
+            return null;
+        }
+    }
+
+    void store(byte[] key, ScanRecording recording) {
+        CRC32 crc = new CRC32();
+        crc.update(recording.getData(), 0, recording.size());
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).put(key).putLong(crc.getValue()).putInt(recording.size());
+
+        String name = toFileName(key);
+        try {
+            directory.createDirectories();
+            // write to a private file first so that concurrent readers never see a partial entry
+            TruffleFile tmp = directory.resolve(name + "." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+            try (OutputStream out = tmp.newOutputStream()) {
+                out.write(header.array());
+                out.write(recording.getData(), 0, recording.size());
+            }
+            tmp.move(directory.resolve(name), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | SecurityException | UnsupportedOperationException e) {
+            failedStores.incrementAndGet();
+        }
+    }
+
+    private static String toFileName(byte[] key) {
+        StringBuilder sb = new StringBuilder(key.length * 2 + SUFFIX.length());
+        for (byte b : key) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+            sb.append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.append(SUFFIX).toString();
+    }
+
+    @Override
+    public void dispose() {
+        if (statisticsTarget != null) {
+            PrintStream out = SulongEngineOption.getStream(statisticsTarget);
+            out.println(String.format("Parse cache %s: %d hits, %d misses, %d failed stores", directory.getPath(), hits.get(), misses.get(), failedStores.get()));
+        }
+    }
+}
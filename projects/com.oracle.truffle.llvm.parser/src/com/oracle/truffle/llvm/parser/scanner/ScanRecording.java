@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.parser.scanner;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import com.oracle.truffle.llvm.parser.listeners.ParserListener;
+import com.oracle.truffle.llvm.runtime.except.LLVMParserException;
+
+/**
+ * The events that the {@link LLVMScanner} passed to its listeners, in a compact binary form that can
+ * be replayed without decoding the bitstream again. Operands are stored as unsigned LEB128 numbers.
+ *
+ * Module-level recordings are stored in the {@link ParseCache}. They do not contain the BLOCKINFO
+ * block, only its location, since the scanner needs to rebuild the abbreviations it defines. Function
+ * blocks are recorded so that they can be decoded without holding the lock on the module scope.
+ */
+final class ScanRecording {
+
+    static final byte ENTER = 1;
+    static final byte EXIT = 2;
+    static final byte RECORD = 3;
+    static final byte SKIP = 4;
+    static final byte SCAN = 5;
+
+    private static final int INITIAL_SIZE = 4096;
+
+    private byte[] data;
+    private int size;
+    private int position;
+
+    ScanRecording() {
+        this.data = new byte[INITIAL_SIZE];
+        this.size = 0;
+    }
+
+    ScanRecording(byte[] data, int offset, int length) {
+        this.data = Arrays.copyOfRange(data, offset, offset + length);
+        this.size = length;
+        this.position = 0;
+    }
+
+    byte[] getData() {
+        return data;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void enter(Block block) {
+        put(ENTER);
+        putNumber(block.getId());
+    }
+
+    void exit() {
+        put(EXIT);
+    }
+
+    void record(long id, long[] args) {
+        put(RECORD);
+        putNumber(id);
+        putNumber(args.length);
+        for (long arg : args) {
+            putNumber(arg);
+        }
+    }
+
+    void skip(Block block, long startingOffset, long endingOffset, int idSize) {
+        put(SKIP);
+        putNumber(block.getId());
+        putNumber(startingOffset);
+        putNumber(endingOffset);
+        putNumber(idSize);
+    }
+
+    void scan(long startingOffset, long endingOffset) {
+        put(SCAN);
+        putNumber(startingOffset);
+        putNumber(endingOffset);
+    }
+
+    /**
+     * A listener that records all events of a block and its sub-blocks.
+     */
+    ParserListener asListener() {
+        return new ParserListener() {
+
+            @Override
+            public ParserListener enter(Block block) {
+                ScanRecording.this.enter(block);
+                return this;
+            }
+
+            @Override
+            public void exit() {
+                ScanRecording.this.exit();
+            }
+
+            @Override
+            public void record(long id, long[] args) {
+                ScanRecording.this.record(id, args);
+            }
+        };
+    }
+
+    /**
+     * Passes the recorded events of a block to the listener that {@link #asListener()} replaced.
+     * The final exit is the exit of the recorded block itself.
+     */
+    void replay(ParserListener listener) {
+        final Deque<ParserListener> parents = new ArrayDeque<>();
+        ParserListener current = listener;
+        position = 0;
+        while (hasNext()) {
+            final byte tag = nextTag();
+            switch (tag) {
+                case ENTER:
+                    parents.push(current);
+                    current = current.enter(Block.lookup(nextNumber()));
+                    break;
+
+                case EXIT:
+                    current.exit();
+                    if (!parents.isEmpty()) {
+                        current = parents.pop();
+                    }
+                    break;
+
+                case RECORD: {
+                    final long id = nextNumber();
+                    current.record(id, nextOperands());
+                    break;
+                }
+
+                default:
+                    throw new LLVMParserException("Unexpected event in block recording: " + tag);
+            }
+        }
+    }
+
+    boolean hasNext() {
+        return position < size;
+    }
+
+    byte nextTag() {
+        return data[position++];
+    }
+
+    long nextNumber() {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            if (position >= size || shift >= Long.SIZE) {
+                throw new LLVMParserException("Malformed module recording");
+            }
+            byte b = data[position++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    long[] nextOperands() {
+        long count = nextNumber();
+        if (count > size - position) {
+            // every operand takes at least one byte
+            throw new LLVMParserException("Malformed module recording");
+        }
+        long[] ops = new long[(int) count];
+        for (int i = 0; i < ops.length; i++) {
+            ops[i] = nextNumber();
+        }
+        return ops;
+    }
+
+    private void put(byte b) {
+        if (size == data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        data[size++] = b;
+    }
+
+    private void putNumber(long number) {
+        long value = number;
+        while ((value & ~0x7FL) != 0) {
+            put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        put((byte) value);
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.runtime;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.oracle.truffle.api.CompilerAsserts;
+import com.oracle.truffle.api.TruffleFile;
+import com.oracle.truffle.api.TruffleLanguage.Env;
+import com.oracle.truffle.llvm.runtime.LLVMContext.ExternalLibrary;
+import com.oracle.truffle.llvm.runtime.options.SulongEngineOption;
+
+/**
+ * Resolves lazily parsed functions on a background thread before they are called for the first
+ * time, so that the caller does not pay for parsing and AST construction.
+ *
+ * Functions that are listed in the parse profile of previous runs are resolved first, in the order
+ * in which they were needed back then, followed by the functions of the user libraries. When the
+ * context is disposed, the functions that still had to be resolved on the calling thread are
+ * appended to the profile. Each line of the profile names a function by its library and its name,
+ * separated by a tab, since different libraries can define functions with the same name.
+ *
+ * Independent of the background thread, this class counts how many functions were resolved on the
+ * calling thread (foreground) and how many ahead of time (background).
+ */
+public final class BackgroundFunctionParser {
+
+    private final Env env;
+    private final boolean enabled;
+    private final String statisticsTarget;
+    private final TruffleFile profileFile;
+
+    private final Map<String, Integer> profileRanking;
+    private final ConcurrentLinkedQueue<String> foregroundResolutions;
+
+    private final LongAdder foreground = new LongAdder();
+    private final LongAdder background = new LongAdder();
+
+    private final ArrayDeque<LLVMFunctionDescriptor> pending = new ArrayDeque<>();
+    private Thread worker;
+    private volatile boolean cancelled;
+
+    BackgroundFunctionParser(Env env) {
+        this.env = env;
+        this.enabled = env.getOptions().get(SulongEngineOption.LAZY_PARSING) && SulongEngineOption.isConcurrentParsing(env.getOptions());
+        String target = env.getOptions().get(SulongEngineOption.LAZY_PARSING_STATS);
+        this.statisticsTarget = SulongEngineOption.isTrue(target) ? target : null;
+
+        String profile = env.getOptions().get(SulongEngineOption.PARSE_PROFILE);
+        this.profileFile = profile.isEmpty() ? null : env.getTruffleFile(profile);
+        this.profileRanking = readProfile(profileFile);
+        this.foregroundResolutions = profileFile != null ? new ConcurrentLinkedQueue<>() : null;
+    }
+
+    private static Map<String, Integer> readProfile(TruffleFile file) {
+        Map<String, Integer> ranking = new HashMap<>();
+        if (file != null) {
+            try {
+                if (file.exists()) {
+                    for (String key : file.readAllLines(StandardCharsets.UTF_8)) {
+                        if (!key.isEmpty()) {
+                            ranking.putIfAbsent(key, ranking.size());
+                        }
+                    }
+                }
+            } catch (IOException | SecurityException e) {
+                // the profile only guides the order, parsing works without it
+            }
+        }
+        return ranking;
+    }
+
+    private static String getProfileKey(LLVMFunctionDescriptor function) {
+        ExternalLibrary library = function.getLibrary();
+        return (library != null ? library.getName() : "") + '\t' + function.getName();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues functions of a newly loaded module for background resolution. Functions of libraries
+     * that are not {@code complete} are only queued if they are in the parse profile.
+     */
+    public void schedule(List<LLVMFunctionDescriptor> functions, boolean complete) {
+        CompilerAsserts.neverPartOfCompilation();
+        if (!enabled) {
+            return;
+        }
+        ArrayList<LLVMFunctionDescriptor> profiled = new ArrayList<>();
+        ArrayList<LLVMFunctionDescriptor> others = new ArrayList<>();
+        for (LLVMFunctionDescriptor function : functions) {
+            if (profileRanking.containsKey(getProfileKey(function))) {
+                profiled.add(function);
+            } else if (complete) {
+                others.add(function);
+            }
+        }
+        profiled.sort((f1, f2) -> Integer.compare(profileRanking.get(getProfileKey(f1)), profileRanking.get(getProfileKey(f2))));
+
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            // profiled functions go before everything that was not yet resolved
+            for (int i = profiled.size() - 1; i >= 0; i--) {
+                pending.addFirst(profiled.get(i));
+            }
+            pending.addAll(others);
+            if (worker == null && !pending.isEmpty()) {
+                worker = env.createThread(this::run);
+                worker.setPriority(Thread.MIN_PRIORITY);
+                worker.start();
+            }
+        }
+    }
+
+    private void run() {
+        while (true) {
+            LLVMFunctionDescriptor function;
+            synchronized (this) {
+                if (cancelled || pending.isEmpty()) {
+                    worker = null;
+                    return;
+                }
+                function = pending.removeFirst();
+            }
+            try {
+                function.resolveInBackground();
+            } catch (RuntimeException e) {
+                // the same error will be reported when the function is called
+            }
+        }
+    }
+
+    void onResolved(LLVMFunctionDescriptor function, boolean inBackground) {
+        if (inBackground) {
+            background.increment();
+        } else {
+            foreground.increment();
+            if (foregroundResolutions != null) {
+                foregroundResolutions.add(getProfileKey(function));
+            }
+        }
+    }
+
+    /**
+     * Stops the background thread. Functions that were not resolved yet are resolved on demand.
+     */
+    void cancel() {
+        Thread t;
+        synchronized (this) {
+            cancelled = true;
+            pending.clear();
+            t = worker;
+        }
+        if (t != null) {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    t.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    void dispose() {
+        if (statisticsTarget != null) {
+            PrintStream out = SulongEngineOption.getStream(statisticsTarget);
+            out.println(String.format("Lazy function resolution: %d in the foreground, %d in the background", foreground.sum(), background.sum()));
+        }
+        if (profileFile != null) {
+            writeProfile();
+        }
+    }
+
+    private void writeProfile() {
+        ArrayList<String> ranked = new ArrayList<>(profileRanking.keySet());
+        ranked.sort((n1, n2) -> Integer.compare(profileRanking.get(n1), profileRanking.get(n2)));
+        LinkedHashSet<String> keys = new LinkedHashSet<>(ranked);
+        keys.addAll(foregroundResolutions);
+
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(profileFile.newOutputStream(), StandardCharsets.UTF_8))) {
+            for (String key : keys) {
+                writer.write(key);
+                writer.newLine();
+            }
+        } catch (IOException | SecurityException e) {
+            // a missing profile only costs performance in the next run
+        }
+    }
+}
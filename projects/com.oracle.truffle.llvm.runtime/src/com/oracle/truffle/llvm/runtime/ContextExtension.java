@@ -41,4 +41,7 @@ public interface ContextExtension {
 
     default void initialize() {
     }
+
+    default void dispose() {
+    }
 }
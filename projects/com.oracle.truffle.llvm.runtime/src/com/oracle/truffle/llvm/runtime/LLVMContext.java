@@ -29,22 +29,24 @@
  */
 package com.oracle.truffle.llvm.runtime;
 
+import java.io.IOException;
+import java.io.PrintStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import org.graalvm.collections.EconomicMap;
-
 import com.oracle.truffle.api.CallTarget;
 import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
@@ -71,16 +73,21 @@ import com.oracle.truffle.llvm.runtime.global.LLVMGlobal;
 import com.oracle.truffle.llvm.runtime.global.LLVMGlobalContainer;
 import com.oracle.truffle.llvm.runtime.interop.LLVMTypedForeignObject;
 import com.oracle.truffle.llvm.runtime.interop.access.LLVMInteropType;
+import com.oracle.truffle.llvm.runtime.memory.LLVMFutexTable;
 import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
 import com.oracle.truffle.llvm.runtime.memory.LLVMMemoryOpNode;
+import com.oracle.truffle.llvm.runtime.memory.LLVMMemoryRegionTable;
+import com.oracle.truffle.llvm.runtime.memory.LLVMSlabAllocator;
 import com.oracle.truffle.llvm.runtime.memory.LLVMStack;
 import com.oracle.truffle.llvm.runtime.memory.LLVMStack.StackPointer;
+import com.oracle.truffle.llvm.runtime.memory.LLVMStackPool;
 import com.oracle.truffle.llvm.runtime.memory.LLVMThreadingStack;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMStatementNode;
 import com.oracle.truffle.llvm.runtime.options.SulongEngineOption;
 import com.oracle.truffle.llvm.runtime.pointer.LLVMManagedPointer;
 import com.oracle.truffle.llvm.runtime.pointer.LLVMNativePointer;
 import com.oracle.truffle.llvm.runtime.pointer.LLVMPointer;
+import com.oracle.truffle.llvm.runtime.profiling.LLVMNativeCallProfiler;
 import com.oracle.truffle.llvm.runtime.types.AggregateType;
 import com.oracle.truffle.llvm.runtime.types.FunctionType;
 import com.oracle.truffle.llvm.runtime.types.Type;
@@ -102,24 +109,78 @@ public final class LLVMContext {
     private final Object[] mainArguments;
     private final Map<String, String> environment;
     private final LinkedList<LLVMNativePointer> caughtExceptionStack = new LinkedList<>();
-    private final HashMap<String, Integer> nativeCallStatistics;
+    private final LLVMNativeCallProfiler nativeCallProfiler;
 
     private static final class Handle {
 
-        private int refcnt;
+        private final AtomicInteger refcnt;
         private final LLVMNativePointer pointer;
         private final TruffleObject managed;
 
         private Handle(LLVMNativePointer pointer, TruffleObject managed) {
-            this.refcnt = 0;
+            this.refcnt = new AtomicInteger(1);
             this.pointer = pointer;
             this.managed = managed;
         }
+
+        /**
+         * Increments the reference count, unless the handle was already released. A released
+         * handle can never be revived, because its address may already be in use again.
+         */
+        boolean tryRetain(HandleStatistics stats) {
+            while (true) {
+                int current = refcnt.get();
+                if (current == 0) {
+                    return false;
+                }
+                if (refcnt.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+                if (stats != null) {
+                    stats.refcountRetries.increment();
+                }
+            }
+        }
+
+        /**
+         * Decrements the reference count and returns the new value, or -1 if the handle was
+         * already released.
+         */
+        int release(HandleStatistics stats) {
+            while (true) {
+                int current = refcnt.get();
+                if (current == 0) {
+                    return -1;
+                }
+                if (refcnt.compareAndSet(current, current - 1)) {
+                    return current - 1;
+                }
+                if (stats != null) {
+                    stats.refcountRetries.increment();
+                }
+            }
+        }
     }
 
-    private final Object handlesLock;
-    private final EconomicMap<TruffleObject, Handle> handleFromManaged;
-    private final EconomicMap<LLVMNativePointer, Handle> handleFromPointer;
+    /**
+     * Contention counters of the handle tables, collected if {@code llvm.printHandleStats} is
+     * enabled.
+     */
+    private static final class HandleStatistics {
+        private final LongAdder refcountRetries = new LongAdder();
+        private final LongAdder creationRaces = new LongAdder();
+        private final LongAdder releasedRetries = new LongAdder();
+
+        void print(PrintStream out) {
+            out.println(String.format("Handle table contention: %d refcount CAS retries, %d lost creation races, %d retries on released handles", refcountRetries.sum(), creationRaces.sum(),
+                            releasedRetries.sum()));
+        }
+    }
+
+    private final ConcurrentHashMap<TruffleObject, Handle> handleFromManaged;
+    private final ConcurrentHashMap<LLVMNativePointer, Handle> handleFromPointer;
+    private final HandleStatistics handleStatistics;
+    private final String handleStatisticsTarget;
 
     private final LLVMSourceContext sourceContext;
 
@@ -135,8 +196,12 @@ public final class LLVMContext {
     private final List<ContextExtension> contextExtensions;
 
     // we are not able to clean up ThreadLocals properly, so we are using maps instead
-    private final Map<Thread, Object> tls = new HashMap<>();
-    private final Map<Thread, LLVMPointer> clearChildTid = new HashMap<>();
+    private final Map<Thread, Object> tls = new ConcurrentHashMap<>();
+    private final Map<Thread, LLVMPointer> clearChildTid = new ConcurrentHashMap<>();
+    private final LLVMFutexTable futexTable = new LLVMFutexTable();
+    private final LLVMPThreadContext pthreadContext = new LLVMPThreadContext(this);
+    private final LLVMMemoryRegionTable memoryRegions = new LLVMMemoryRegionTable();
+    private final LLVMSlabAllocator slabAllocator;
 
     // signals
     private final LLVMNativePointer sigDfl;
@@ -150,6 +215,8 @@ public final class LLVMContext {
 
     private final LLVMTracerInstrument tracer;
 
+    private final BackgroundFunctionParser backgroundParser;
+
     private final class LLVMFunctionPointerRegistry {
         private int currentFunctionIndex = 1;
         private final HashMap<LLVMNativePointer, LLVMFunctionDescriptor> functionDescriptors = new HashMap<>();
@@ -178,16 +245,22 @@ public final class LLVMContext {
 
         this.dataLayout = new DataLayout();
         this.destructorFunctions = new ArrayList<>();
-        this.nativeCallStatistics = SulongEngineOption.isTrue(env.getOptions().get(SulongEngineOption.NATIVE_CALL_STATS)) ? new HashMap<>() : null;
+        // an unknown format must fail now, not when the statistics are printed at the very end
+        LLVMNativeCallProfiler.Format nativeCallStatsFormat = LLVMNativeCallProfiler.Format.parse(env.getOptions().get(SulongEngineOption.NATIVE_CALL_STATS_FORMAT));
+        String nativeCallStats = env.getOptions().get(SulongEngineOption.NATIVE_CALL_STATS);
+        this.nativeCallProfiler = !nativeCallStats.isEmpty() && !"false".equalsIgnoreCase(nativeCallStats) ? new LLVMNativeCallProfiler(nativeCallStatsFormat) : null;
+        this.slabAllocator = "slab".equals(env.getOptions().get(SulongEngineOption.ALLOCATOR)) ? new LLVMSlabAllocator() : null;
         this.sigDfl = LLVMNativePointer.create(0);
         this.sigIgn = LLVMNativePointer.create(1);
         this.sigErr = LLVMNativePointer.create(-1);
-        this.handleFromManaged = EconomicMap.create();
-        this.handleFromPointer = EconomicMap.create();
-        this.handlesLock = new Object();
+        this.handleFromManaged = new ConcurrentHashMap<>();
+        this.handleFromPointer = new ConcurrentHashMap<>();
+        this.handleStatisticsTarget = env.getOptions().get(SulongEngineOption.HANDLE_STATS);
+        this.handleStatistics = SulongEngineOption.isTrue(handleStatisticsTarget) ? new HandleStatistics() : null;
         this.functionPointerRegistry = new LLVMFunctionPointerRegistry();
         this.interopTypeRegistry = new LLVMInteropType.InteropTypeRegistry();
         this.sourceContext = new LLVMSourceContext();
+        this.backgroundParser = new BackgroundFunctionParser(env);
 
         this.globalScope = new LLVMScope();
         this.dynamicLinkChain = new DynamicLinkChain();
@@ -246,7 +319,10 @@ public final class LLVMContext {
 
     public void initialize() {
         assert this.threadingStack == null;
-        this.threadingStack = new LLVMThreadingStack(Thread.currentThread(), parseStackSize(env.getOptions().get(SulongEngineOption.STACK_SIZE)));
+        long stackSize = parseStackSize(env.getOptions().get(SulongEngineOption.STACK_SIZE));
+        long stackCommitSize = parseStackSize(env.getOptions().get(SulongEngineOption.STACK_INITIAL_COMMIT));
+        LLVMStackPool stackPool = new LLVMStackPool(this, stackSize, stackCommitSize, env.getOptions().get(SulongEngineOption.STACK_POOL_SIZE));
+        this.threadingStack = new LLVMThreadingStack(Thread.currentThread(), stackPool);
         for (ContextExtension ext : contextExtensions) {
             ext.initialize();
         }
@@ -335,6 +411,8 @@ public final class LLVMContext {
     }
 
     public void finalizeContext() {
+        backgroundParser.cancel();
+
         // the following cases exist for cleanup:
         // - exit() or interop: execute all atexit functions, shutdown stdlib, flush IO, and execute
         // destructors
@@ -381,6 +459,9 @@ public final class LLVMContext {
 
     public void dispose(LLVMMemory memory) {
         printNativeCallStatistic();
+        if (handleStatistics != null) {
+            handleStatistics.print(SulongEngineOption.getStream(handleStatisticsTarget));
+        }
 
         if (isInitialized()) {
             threadingStack.freeMainStack(memory);
@@ -401,9 +482,23 @@ public final class LLVMContext {
             }
         }
 
+        if (slabAllocator != null) {
+            slabAllocator.dispose(memory);
+        }
+
         if (tracer != null) {
             tracer.dispose();
         }
+
+        for (ContextExtension ext : contextExtensions) {
+            ext.dispose();
+        }
+
+        backgroundParser.dispose();
+    }
+
+    public BackgroundFunctionParser getBackgroundParser() {
+        return backgroundParser;
     }
 
     public NodeFactory getNodeFactory() {
@@ -569,6 +664,45 @@ public final class LLVMContext {
         clearChildTid.put(Thread.currentThread(), value);
     }
 
+    public LLVMFutexTable getFutexTable() {
+        return futexTable;
+    }
+
+    public LLVMPThreadContext getPThreadContext() {
+        return pthreadContext;
+    }
+
+    public LLVMMemoryRegionTable getMemoryRegions() {
+        return memoryRegions;
+    }
+
+    /**
+     * Returns the allocator behind {@code malloc} and friends, or {@code null} if they use the
+     * system allocator.
+     */
+    public LLVMSlabAllocator getSlabAllocator() {
+        return slabAllocator;
+    }
+
+    /**
+     * Drops the thread local storage of a thread that ended. Like the kernel, this clears the
+     * thread's {@code clear_child_tid} word and wakes a thread that waits on it.
+     */
+    @TruffleBoundary
+    public void disposeThread(LLVMMemory memory, Thread thread) {
+        tls.remove(thread);
+        pthreadContext.disposeThread(thread);
+        if (slabAllocator != null) {
+            slabAllocator.disposeThread(thread);
+        }
+        LLVMPointer tid = clearChildTid.remove(thread);
+        if (LLVMNativePointer.isInstance(tid) && !tid.isNull()) {
+            long address = LLVMNativePointer.cast(tid).asNative();
+            memory.putI32(address, 0);
+            futexTable.wake(address, 1);
+        }
+    }
+
     @TruffleBoundary
     public LLVMFunctionDescriptor getFunctionDescriptor(LLVMNativePointer handle) {
         return functionPointerRegistry.getDescriptor(handle);
@@ -598,37 +732,34 @@ public final class LLVMContext {
 
     @TruffleBoundary
     public boolean isHandle(LLVMNativePointer address) {
-        synchronized (handlesLock) {
-            return handleFromPointer.containsKey(address);
-        }
+        return handleFromPointer.containsKey(address);
     }
 
     @TruffleBoundary
     public TruffleObject getManagedObjectForHandle(LLVMNativePointer address) {
-        synchronized (handlesLock) {
-            final Handle handle = handleFromPointer.get(address);
-
-            if (handle == null) {
-                throw new UnsupportedOperationException("Cannot resolve native handle: " + address);
-            }
+        final Handle handle = handleFromPointer.get(address);
 
-            return handle.managed;
+        if (handle == null) {
+            throw new UnsupportedOperationException("Cannot resolve native handle: " + address);
         }
+
+        return handle.managed;
     }
 
     @TruffleBoundary
     public void releaseHandle(LLVMMemory memory, LLVMNativePointer address) {
-        synchronized (handlesLock) {
-            Handle handle = handleFromPointer.get(address);
-            if (handle == null) {
-                throw new UnsupportedOperationException("Cannot resolve native handle: " + address);
-            }
+        Handle handle = handleFromPointer.get(address);
+        if (handle == null) {
+            throw new UnsupportedOperationException("Cannot resolve native handle: " + address);
+        }
 
-            if (--handle.refcnt == 0) {
-                handleFromPointer.removeKey(address);
-                handleFromManaged.removeKey(handle.managed);
-                memory.free(address);
-            }
+        int refcnt = handle.release(handleStatistics);
+        if (refcnt < 0) {
+            throw new UnsupportedOperationException("Cannot resolve native handle: " + address);
+        } else if (refcnt == 0) {
+            handleFromManaged.remove(handle.managed, handle);
+            handleFromPointer.remove(handle.pointer, handle);
+            memory.free(address);
         }
     }
 
@@ -642,33 +773,45 @@ public final class LLVMContext {
 
     @TruffleBoundary
     private LLVMNativePointer getHandle(LLVMMemory memory, TruffleObject object, boolean autoDeref) {
-        synchronized (handlesLock) {
+        while (true) {
             Handle handle = handleFromManaged.get(object);
-            if (handle == null) {
-                LLVMNativePointer allocatedMemory = LLVMNativePointer.create(memory.allocateHandle(autoDeref));
-                handle = new Handle(allocatedMemory, object);
-                handleFromManaged.put(object, handle);
-                handleFromPointer.put(allocatedMemory, handle);
+            if (handle != null) {
+                if (handle.tryRetain(handleStatistics)) {
+                    return handle.pointer;
+                }
+                // the handle was released concurrently, help removing it and retry
+                handleFromManaged.remove(object, handle);
+                if (handleStatistics != null) {
+                    handleStatistics.releasedRetries.increment();
+                }
+                continue;
             }
 
-            handle.refcnt++;
-            return handle.pointer;
-        }
-    }
+            LLVMNativePointer allocatedMemory = LLVMNativePointer.create(memory.allocateHandle(autoDeref));
+            Handle newHandle = new Handle(allocatedMemory, object);
+            // publish the pointer mapping first, so the handle resolves as soon as it is visible
+            handleFromPointer.put(allocatedMemory, newHandle);
+            if (handleFromManaged.putIfAbsent(object, newHandle) == null) {
+                return allocatedMemory;
+            }
 
-    @TruffleBoundary
-    public void registerNativeCall(LLVMFunctionDescriptor descriptor) {
-        if (nativeCallStatistics != null) {
-            String name = descriptor.getName() + " " + descriptor.getType();
-            if (nativeCallStatistics.containsKey(name)) {
-                int count = nativeCallStatistics.get(name) + 1;
-                nativeCallStatistics.put(name, count);
-            } else {
-                nativeCallStatistics.put(name, 1);
+            // another thread created a handle for the same object in the meantime
+            handleFromPointer.remove(allocatedMemory, newHandle);
+            memory.free(allocatedMemory.asNative());
+            if (handleStatistics != null) {
+                handleStatistics.creationRaces.increment();
             }
         }
     }
 
+    /**
+     * Returns the profiler of native calls, or {@code null} if native call statistics are
+     * disabled.
+     */
+    public LLVMNativeCallProfiler getNativeCallProfiler() {
+        return nativeCallProfiler;
+    }
+
     public LinkedList<LLVMNativePointer> getCaughtExceptionStack() {
         return caughtExceptionStack;
     }
@@ -771,14 +914,16 @@ public final class LLVMContext {
     }
 
     private void printNativeCallStatistic() {
-        if (nativeCallStatistics != null) {
-            LinkedHashMap<String, Integer> sorted = nativeCallStatistics.entrySet().stream().sorted(Map.Entry.comparingByValue()).collect(Collectors.toMap(
-                            Map.Entry::getKey,
-                            Map.Entry::getValue,
-                            (e1, e2) -> e1,
-                            LinkedHashMap::new));
-            for (String s : sorted.keySet()) {
-                System.err.println(String.format("Function %s \t count: %d", s, sorted.get(s)));
+        if (nativeCallProfiler != null) {
+            String target = env.getOptions().get(SulongEngineOption.NATIVE_CALL_STATS);
+            if (SulongEngineOption.isTrue(target)) {
+                nativeCallProfiler.print(SulongEngineOption.getStream(target));
+            } else {
+                try (PrintStream out = new PrintStream(env.getTruffleFile(target).newOutputStream(), false, "UTF-8")) {
+                    nativeCallProfiler.print(out);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Cannot write the native call statistics to " + target, e);
+                }
             }
         }
     }
@@ -196,15 +196,30 @@ public final class LLVMFunctionDescriptor implements LLVMSymbol, LLVMInternalTru
     public static final class LazyLLVMIRFunction extends ManagedFunction {
         private final LazyToTruffleConverter converter;
 
+        private boolean isConverted;
+
         public LazyLLVMIRFunction(LazyToTruffleConverter converter) {
             this.converter = converter;
         }
 
         @Override
         void resolve(LLVMFunctionDescriptor descriptor) {
-            final RootCallTarget callTarget = converter.convert();
+            resolve(descriptor, false);
+        }
+
+        void resolve(LLVMFunctionDescriptor descriptor, boolean inBackground) {
+            final RootCallTarget callTarget;
+            final boolean converted;
+            synchronized (this) {
+                converted = !isConverted;
+                callTarget = converter.convert();
+                isConverted = true;
+            }
             final LLVMSourceFunctionType sourceType = converter.getSourceType();
             descriptor.setFunction(new LLVMIRFunction(callTarget, sourceType));
+            if (converted) {
+                descriptor.getContext().getBackgroundParser().onResolved(descriptor, inBackground);
+            }
         }
     }
 
@@ -328,6 +343,17 @@ public final class LLVMFunctionDescriptor implements LLVMSymbol, LLVMInternalTru
         }
     }
 
+    void resolveInBackground() {
+        Function f = getFunction();
+        if (f instanceof LazyLLVMIRFunction) {
+            ((LazyLLVMIRFunction) f).resolve(this, true);
+        }
+    }
+
+    public boolean isLazyLLVMIRFunction() {
+        return getFunction() instanceof LazyLLVMIRFunction;
+    }
+
     public boolean isLLVMIRFunction() {
         return getFunction() instanceof LLVMIRFunction || getFunction() instanceof LazyLLVMIRFunction;
     }
@@ -39,76 +39,133 @@ import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.CompilerDirectives.ValueType;
 
 // see https://bugs.chromium.org/p/nativeclient/issues/detail?id=3360 for use cases where variable ints arise
+/**
+ * An integer of arbitrary bit width. Values of up to {@link #MAX_TWO_LONGS_BITS} bits, which
+ * includes {@code i128}, are kept in two longs and computed without allocation. Wider values are
+ * kept in a byte array and computed with {@link BigInteger}.
+ */
 @ValueType
 public final class LLVMIVarBit {
 
+    public static final int MAX_TWO_LONGS_BITS = 2 * Long.SIZE;
+
     private final int bits;
 
-    private final byte[] arr; // represents value as big-endian two's-complement
+    private final byte[] arr; // represents value as big-endian two's-complement, null if the value
+                              // is stored in lo and hi
+
+    // zero-extended value if bits <= MAX_TWO_LONGS_BITS
+    private final long lo;
+    private final long hi;
 
-    private LLVMIVarBit() {
-        this.bits = 0;
-        this.arr = new byte[0];
+    private LLVMIVarBit(int bits, long lo, long hi) {
+        assert bits <= MAX_TWO_LONGS_BITS;
+        this.bits = bits;
+        this.arr = null;
+        if (bits < Long.SIZE) {
+            this.lo = lo & ((1L << bits) - 1);
+            this.hi = 0;
+        } else if (bits == Long.SIZE) {
+            this.lo = lo;
+            this.hi = 0;
+        } else {
+            this.lo = lo;
+            this.hi = bits == MAX_TWO_LONGS_BITS ? hi : hi & ((1L << (bits - Long.SIZE)) - 1);
+        }
     }
 
     private LLVMIVarBit(int bits, byte[] arr, int arrBits, boolean signExtend) {
+        assert bits > MAX_TWO_LONGS_BITS;
         this.bits = bits;
-
-        this.arr = new byte[getByteSize()];
-        if (getByteSize() >= arr.length) {
-            System.arraycopy(arr, 0, this.arr, getByteSize() - arr.length, arr.length);
+        this.lo = 0;
+        this.hi = 0;
+        this.arr = resize(bits, arr, arrBits, signExtend);
+    }
+
+    /**
+     * Truncates or extends a big-endian two's-complement number of {@code arrBits} bits to the
+     * byte size of {@code bits}.
+     */
+    private static byte[] resize(int bits, byte[] arr, int arrBits, boolean signExtend) {
+        int byteSize = getByteSize(bits);
+        byte[] result = new byte[byteSize];
+        if (byteSize >= arr.length) {
+            System.arraycopy(arr, 0, result, byteSize - arr.length, arr.length);
         } else {
-            System.arraycopy(arr, arr.length - getByteSize(), this.arr, 0, this.arr.length);
+            System.arraycopy(arr, arr.length - byteSize, result, 0, result.length);
         }
 
         int mostSignificantByte = arr.length - (arrBits / Byte.SIZE) - (arrBits % Byte.SIZE != 0 ? 1 : 0);
         if (mostSignificantByte >= 0) {
             boolean shouldAddLeadingOnes = signExtend && ((arr[mostSignificantByte] & (1 << ((arrBits - 1) %
                             Byte.SIZE))) != 0);
-            int thisArrMostSignificantByte = Math.max(0, this.arr.length - arr.length + mostSignificantByte);
+            int thisArrMostSignificantByte = Math.max(0, result.length - arr.length + mostSignificantByte);
             if (shouldAddLeadingOnes) {
                 // set MSB bit's outside of given bitwidth
-                if (getByteSize() >= arr.length) {
-                    Arrays.fill(this.arr, 0, thisArrMostSignificantByte, (byte) 0xff);
+                if (byteSize >= arr.length) {
+                    Arrays.fill(result, 0, thisArrMostSignificantByte, (byte) 0xff);
                 }
                 if (arrBits % Byte.SIZE != 0) {
-                    this.arr[thisArrMostSignificantByte] |= 0xFF << (arrBits % Byte.SIZE);
+                    result[thisArrMostSignificantByte] |= 0xFF << (arrBits % Byte.SIZE);
                 }
             } else {
                 // clear MSB bit's outside of given bitwidth
-                if (getByteSize() >= arr.length) {
-                    Arrays.fill(this.arr, 0, thisArrMostSignificantByte, (byte) 0x00);
+                if (byteSize >= arr.length) {
+                    Arrays.fill(result, 0, thisArrMostSignificantByte, (byte) 0x00);
                 }
                 if (arrBits % Byte.SIZE != 0) {
-                    this.arr[thisArrMostSignificantByte] &= 0xFF >>> (8 - (arrBits % Byte.SIZE));
+                    result[thisArrMostSignificantByte] &= 0xFF >>> (8 - (arrBits % Byte.SIZE));
                 }
             }
         }
-
-        assert this.arr.length == getByteSize();
+        return result;
     }
 
     public static LLVMIVarBit create(int bitWidth, byte[] loadedBytes, int loadedArrBits, boolean signExtend) {
+        if (bitWidth <= MAX_TWO_LONGS_BITS) {
+            return fromBigEndianBytes(bitWidth, resize(bitWidth, loadedBytes, loadedArrBits, signExtend));
+        }
         return new LLVMIVarBit(bitWidth, loadedBytes, loadedArrBits, signExtend);
     }
 
+    /**
+     * Creates a value of at most {@link #MAX_TWO_LONGS_BITS} bits from its lower and upper 64 bits.
+     * Bits beyond the bit width are ignored.
+     */
+    public static LLVMIVarBit fromLongs(int bits, long lo, long hi) {
+        return new LLVMIVarBit(bits, lo, hi);
+    }
+
+    private static LLVMIVarBit fromBigEndianBytes(int bits, byte[] bytes) {
+        long lo = 0;
+        long hi = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            hi = (hi << Byte.SIZE) | (lo >>> (Long.SIZE - Byte.SIZE));
+            lo = (lo << Byte.SIZE) | (bytes[i] & 0xFF);
+        }
+        return new LLVMIVarBit(bits, lo, hi);
+    }
+
     public static LLVMIVarBit createNull() {
-        return new LLVMIVarBit();
+        return new LLVMIVarBit(0, 0, 0);
     }
 
     public static LLVMIVarBit createZeroExt(int bits, byte from) {
-        return create(bits, ByteBuffer.allocate(Byte.BYTES).put(from).array(), Byte.SIZE, false);
+        return createZeroExt(bits, from & 0xFFL);
     }
 
     public static LLVMIVarBit createZeroExt(int bits, short from) {
-        return create(bits, ByteBuffer.allocate(Short.BYTES).putShort(from).array(), Short.SIZE, false);
+        return createZeroExt(bits, from & 0xFFFFL);
     }
 
     public static LLVMIVarBit createZeroExt(int bits, int from) {
-        return create(bits, ByteBuffer.allocate(Integer.BYTES).putInt(from).array(), Integer.SIZE, false);
+        return createZeroExt(bits, from & 0xFFFFFFFFL);
     }
 
     public static LLVMIVarBit createZeroExt(int bits, long from) {
+        if (bits <= MAX_TWO_LONGS_BITS) {
+            return new LLVMIVarBit(bits, from, 0);
+        }
         return create(bits, ByteBuffer.allocate(Long.BYTES).putLong(from).array(), Long.SIZE, false);
     }
 
@@ -117,22 +174,54 @@ public final class LLVMIVarBit {
     }
 
     public static LLVMIVarBit fromByte(int bits, byte from) {
-        return create(bits, ByteBuffer.allocate(Byte.BYTES).put(from).array(), Byte.SIZE, true);
+        return fromLong(bits, from);
     }
 
     public static LLVMIVarBit fromShort(int bits, short from) {
-        return create(bits, ByteBuffer.allocate(Short.BYTES).putShort(from).array(), Short.SIZE, true);
+        return fromLong(bits, from);
     }
 
     public static LLVMIVarBit fromInt(int bits, int from) {
-        return create(bits, ByteBuffer.allocate(Integer.BYTES).putInt(from).array(), Integer.SIZE, true);
+        return fromLong(bits, from);
     }
 
     public static LLVMIVarBit fromLong(int bits, long from) {
+        if (bits <= MAX_TWO_LONGS_BITS) {
+            return new LLVMIVarBit(bits, from, from >> (Long.SIZE - 1));
+        }
         return create(bits, ByteBuffer.allocate(Long.BYTES).putLong(from).array(), Long.SIZE, true);
     }
 
+    /**
+     * Whether this value is stored in two longs, see {@link #getLowBits()} and
+     * {@link #getHighBits()}.
+     */
+    public boolean fitsInTwoLongs() {
+        return arr == null;
+    }
+
+    /**
+     * The lower 64 bits of a value that {@link #fitsInTwoLongs() fits in two longs}.
+     */
+    public long getLowBits() {
+        assert fitsInTwoLongs();
+        return lo;
+    }
+
+    /**
+     * The upper 64 bits of a value that {@link #fitsInTwoLongs() fits in two longs}, zero
+     * extended beyond the bit width.
+     */
+    public long getHighBits() {
+        assert fitsInTwoLongs();
+        return hi;
+    }
+
     private int getByteSize() {
+        return getByteSize(bits);
+    }
+
+    private static int getByteSize(int bits) {
         int nrFullBytes = bits / Byte.SIZE;
         if (bits % Byte.SIZE != 0) {
             return nrFullBytes + 1;
@@ -141,6 +230,30 @@ public final class LLVMIVarBit {
         }
     }
 
+    /**
+     * The lower 64 bits of this value sign extended from the bit width.
+     */
+    private long signExtendedLo() {
+        if (bits >= Long.SIZE) {
+            return lo;
+        } else if (bits == 0) {
+            return 0;
+        }
+        int shift = Long.SIZE - bits;
+        return (lo << shift) >> shift;
+    }
+
+    /**
+     * The upper 64 bits of this value sign extended from the bit width.
+     */
+    private long signExtendedHi() {
+        if (bits <= Long.SIZE) {
+            return signExtendedLo() >> (Long.SIZE - 1);
+        }
+        int shift = MAX_TWO_LONGS_BITS - bits;
+        return (hi << shift) >> shift;
+    }
+
     @TruffleBoundary
     private static BigInteger asBigInteger(LLVMIVarBit right) {
         if (right.getBytes() == null) {
@@ -151,18 +264,20 @@ public final class LLVMIVarBit {
 
     @TruffleBoundary
     public BigInteger asUnsignedBigInteger() {
-        if (arr == null || arr.length == 0) {
+        byte[] bytes = getBytes();
+        if (bytes.length == 0) {
             return BigInteger.ZERO;
         }
-        byte[] newArr = new byte[arr.length + 1];
-        System.arraycopy(arr, 0, newArr, 1, arr.length);
+        byte[] newArr = new byte[bytes.length + 1];
+        System.arraycopy(bytes, 0, newArr, 1, bytes.length);
         return new BigInteger(newArr);
     }
 
     @TruffleBoundary
     public BigInteger asBigInteger() {
-        if (arr != null && arr.length != 0) {
-            return new BigInteger(arr);
+        byte[] bytes = getBytes();
+        if (bytes.length != 0) {
+            return new BigInteger(bytes);
         } else {
             return BigInteger.ZERO;
         }
@@ -170,6 +285,7 @@ public final class LLVMIVarBit {
 
     @TruffleBoundary
     private ByteBuffer getByteBuffer(int minSizeBytes, boolean signExtend) {
+        byte[] arr = getBytes();
         int allocationSize = Math.max(minSizeBytes, getByteSize());
         ByteBuffer bb = ByteBuffer.allocate(allocationSize).order(ByteOrder.BIG_ENDIAN);
         boolean truncation = bits > minSizeBytes * Byte.SIZE;
@@ -225,49 +341,106 @@ public final class LLVMIVarBit {
     }
 
     private boolean getBit(int pos) {
+        byte[] arr = getBytes();
         int selectedBytePos = arr.length - 1 - (pos / Byte.SIZE);
         byte selectedByte = arr[selectedBytePos];
         int selectedBitPos = pos % Byte.SIZE;
         return ((selectedByte >> selectedBitPos) & 1) == 1;
     }
 
-    @TruffleBoundary
     public byte getByteValue() {
-        return getByteBuffer(Byte.BYTES, true).get();
+        if (fitsInTwoLongs()) {
+            return (byte) signExtendedLo();
+        }
+        return getByteValueSlow();
     }
 
     @TruffleBoundary
+    private byte getByteValueSlow() {
+        return getByteBuffer(Byte.BYTES, true).get();
+    }
+
     public byte getZeroExtendedByteValue() {
-        return getByteBuffer(Byte.BYTES, false).get();
+        if (fitsInTwoLongs()) {
+            return (byte) lo;
+        }
+        return getZeroExtendedByteValueSlow();
     }
 
     @TruffleBoundary
+    private byte getZeroExtendedByteValueSlow() {
+        return getByteBuffer(Byte.BYTES, false).get();
+    }
+
     public short getShortValue() {
-        return getByteBuffer(Short.BYTES, true).getShort();
+        if (fitsInTwoLongs()) {
+            return (short) signExtendedLo();
+        }
+        return getShortValueSlow();
     }
 
     @TruffleBoundary
+    private short getShortValueSlow() {
+        return getByteBuffer(Short.BYTES, true).getShort();
+    }
+
     public short getZeroExtendedShortValue() {
-        return getByteBuffer(Short.BYTES, false).getShort();
+        if (fitsInTwoLongs()) {
+            return (short) lo;
+        }
+        return getZeroExtendedShortValueSlow();
     }
 
     @TruffleBoundary
+    private short getZeroExtendedShortValueSlow() {
+        return getByteBuffer(Short.BYTES, false).getShort();
+    }
+
     public int getIntValue() {
-        return getByteBuffer(Integer.BYTES, true).getInt();
+        if (fitsInTwoLongs()) {
+            return (int) signExtendedLo();
+        }
+        return getIntValueSlow();
     }
 
     @TruffleBoundary
+    private int getIntValueSlow() {
+        return getByteBuffer(Integer.BYTES, true).getInt();
+    }
+
     public int getZeroExtendedIntValue() {
-        return getByteBuffer(Integer.BYTES, false).getInt();
+        if (fitsInTwoLongs()) {
+            return (int) lo;
+        }
+        return getZeroExtendedIntValueSlow();
     }
 
     @TruffleBoundary
+    private int getZeroExtendedIntValueSlow() {
+        return getByteBuffer(Integer.BYTES, false).getInt();
+    }
+
     public long getLongValue() {
-        return getByteBuffer(Long.BYTES, true).getLong();
+        if (fitsInTwoLongs()) {
+            return signExtendedLo();
+        }
+        return getLongValueSlow();
     }
 
     @TruffleBoundary
+    private long getLongValueSlow() {
+        return getByteBuffer(Long.BYTES, true).getLong();
+    }
+
     public long getZeroExtendedLongValue() {
+        if (fitsInTwoLongs()) {
+            return lo;
+        }
+        return getZeroExtendedLongValueSlow();
+    }
+
+    @TruffleBoundary
+    private long getZeroExtendedLongValueSlow() {
         return getByteBuffer(Long.BYTES, false).getLong();
     }
 
@@ -276,56 +449,217 @@ public final class LLVMIVarBit {
     }
 
     public byte[] getBytes() {
+        if (fitsInTwoLongs()) {
+            return toBigEndianBytes(lo, hi, getByteSize());
+        }
         assert arr.length == getByteSize() : arr.length + " " + getByteSize();
         return arr;
     }
 
     @TruffleBoundary
     public byte[] getSignExtendedBytes() {
+        if (fitsInTwoLongs()) {
+            return toBigEndianBytes(signExtendedLo(), signExtendedHi(), getByteSize());
+        }
         return getByteBuffer(arr.length, true).array();
     }
 
-    @TruffleBoundary
+    private static byte[] toBigEndianBytes(long lo, long hi, int byteSize) {
+        byte[] bytes = new byte[byteSize];
+        for (int i = 0; i < byteSize; i++) {
+            int shift = (i % Long.BYTES) * Byte.SIZE;
+            bytes[byteSize - 1 - i] = (byte) ((i < Long.BYTES ? lo : hi) >>> shift);
+        }
+        return bytes;
+    }
+
+    /**
+     * Sign extends or truncates this value to {@code newBits}.
+     */
+    public LLVMIVarBit signExtendOrTruncate(int newBits) {
+        if (fitsInTwoLongs() && newBits <= MAX_TWO_LONGS_BITS) {
+            return new LLVMIVarBit(newBits, signExtendedLo(), signExtendedHi());
+        }
+        return create(newBits, getSignExtendedBytes(), bits, true);
+    }
+
+    /**
+     * Zero extends or truncates this value to {@code newBits}.
+     */
+    public LLVMIVarBit zeroExtendOrTruncate(int newBits) {
+        if (fitsInTwoLongs() && newBits <= MAX_TWO_LONGS_BITS) {
+            return new LLVMIVarBit(newBits, lo, hi);
+        }
+        return create(newBits, getBytes(), bits, false);
+    }
+
     public LLVMIVarBit add(LLVMIVarBit right) {
-        return asIVar(asBigInteger().add(asBigInteger(right)));
+        if (fitsInTwoLongs()) {
+            long resultLo = lo + right.lo;
+            long carry = Long.compareUnsigned(resultLo, lo) < 0 ? 1 : 0;
+            return new LLVMIVarBit(bits, resultLo, hi + right.hi + carry);
+        }
+        return addSlow(right);
     }
 
     @TruffleBoundary
+    private LLVMIVarBit addSlow(LLVMIVarBit right) {
+        return asIVar(asBigInteger().add(asBigInteger(right)));
+    }
+
     public LLVMIVarBit mul(LLVMIVarBit right) {
-        return asIVar(asBigInteger().multiply(asBigInteger(right)));
+        if (fitsInTwoLongs()) {
+            long resultHi = multiplyHighUnsigned(lo, right.lo) + lo * right.hi + hi * right.lo;
+            return new LLVMIVarBit(bits, lo * right.lo, resultHi);
+        }
+        return mulSlow(right);
     }
 
     @TruffleBoundary
+    private LLVMIVarBit mulSlow(LLVMIVarBit right) {
+        return asIVar(asBigInteger().multiply(asBigInteger(right)));
+    }
+
     public LLVMIVarBit sub(LLVMIVarBit right) {
-        return asIVar(asBigInteger().subtract(asBigInteger(right)));
+        if (fitsInTwoLongs()) {
+            long borrow = Long.compareUnsigned(lo, right.lo) < 0 ? 1 : 0;
+            return new LLVMIVarBit(bits, lo - right.lo, hi - right.hi - borrow);
+        }
+        return subSlow(right);
     }
 
     @TruffleBoundary
+    private LLVMIVarBit subSlow(LLVMIVarBit right) {
+        return asIVar(asBigInteger().subtract(asBigInteger(right)));
+    }
+
     public LLVMIVarBit div(LLVMIVarBit right) {
-        return asIVar(asBigInteger().divide(asBigInteger(right)));
+        if (fitsInTwoLongs()) {
+            return signedDivRem(right, false);
+        }
+        return divSlow(right);
     }
 
     @TruffleBoundary
+    private LLVMIVarBit divSlow(LLVMIVarBit right) {
+        return asIVar(asBigInteger().divide(asBigInteger(right)));
+    }
+
     public LLVMIVarBit rem(LLVMIVarBit right) {
-        return asIVar(asBigInteger().remainder(asBigInteger(right)));
+        if (fitsInTwoLongs()) {
+            return signedDivRem(right, true);
+        }
+        return remSlow(right);
     }
 
     @TruffleBoundary
+    private LLVMIVarBit remSlow(LLVMIVarBit right) {
+        return asIVar(asBigInteger().remainder(asBigInteger(right)));
+    }
+
     public LLVMIVarBit unsignedRem(LLVMIVarBit right) {
-        return asIVar(asUnsignedBigInteger().remainder(asBigInteger(right)));
+        if (fitsInTwoLongs()) {
+            return unsignedDivRem(bits, lo, hi, right.lo, right.hi, true);
+        }
+        return unsignedRemSlow(right);
     }
 
     @TruffleBoundary
+    private LLVMIVarBit unsignedRemSlow(LLVMIVarBit right) {
+        return asIVar(asUnsignedBigInteger().remainder(asBigInteger(right)));
+    }
+
     public LLVMIVarBit unsignedDiv(LLVMIVarBit right) {
+        if (fitsInTwoLongs()) {
+            return unsignedDivRem(bits, lo, hi, right.lo, right.hi, false);
+        }
+        return unsignedDivSlow(right);
+    }
+
+    @TruffleBoundary
+    private LLVMIVarBit unsignedDivSlow(LLVMIVarBit right) {
         return asIVar(asUnsignedBigInteger().divide(asBigInteger(right)));
     }
 
+    private static long multiplyHighUnsigned(long x, long y) {
+        long x0 = x & 0xFFFFFFFFL;
+        long x1 = x >>> 32;
+        long y0 = y & 0xFFFFFFFFL;
+        long y1 = y >>> 32;
+        long p01 = x0 * y1;
+        long p10 = x1 * y0;
+        long mid = ((x0 * y0) >>> 32) + (p01 & 0xFFFFFFFFL) + (p10 & 0xFFFFFFFFL);
+        return x1 * y1 + (p01 >>> 32) + (p10 >>> 32) + (mid >>> 32);
+    }
+
+    private LLVMIVarBit signedDivRem(LLVMIVarBit right, boolean remainder) {
+        long xLo = signExtendedLo();
+        long xHi = signExtendedHi();
+        long yLo = right.signExtendedLo();
+        long yHi = right.signExtendedHi();
+        boolean xNegative = xHi < 0;
+        boolean yNegative = yHi < 0;
+        if (xNegative) {
+            xHi = xLo == 0 ? -xHi : ~xHi;
+            xLo = -xLo;
+        }
+        if (yNegative) {
+            yHi = yLo == 0 ? -yHi : ~yHi;
+            yLo = -yLo;
+        }
+        LLVMIVarBit result = unsignedDivRem(MAX_TWO_LONGS_BITS, xLo, xHi, yLo, yHi, remainder);
+        boolean negate = remainder ? xNegative : xNegative != yNegative;
+        if (negate) {
+            return new LLVMIVarBit(bits, -result.lo, result.lo == 0 ? -result.hi : ~result.hi);
+        }
+        return new LLVMIVarBit(bits, result.lo, result.hi);
+    }
+
+    /**
+     * Divides the unsigned 128 bit numbers {@code xHi:xLo} and {@code yHi:yLo}.
+     */
+    private static LLVMIVarBit unsignedDivRem(int bits, long xLo, long xHi, long yLo, long yHi, boolean remainder) {
+        if (yLo == 0 && yHi == 0) {
+            throw new ArithmeticException("division by zero");
+        }
+        if (xHi == 0 && yHi == 0) {
+            long result = remainder ? Long.remainderUnsigned(xLo, yLo) : Long.divideUnsigned(xLo, yLo);
+            return new LLVMIVarBit(bits, result, 0);
+        }
+        // shift-subtract division, starting at the highest bit of the dividend
+        int leadingZeros = xHi != 0 ? Long.numberOfLeadingZeros(xHi) : Long.SIZE + Long.numberOfLeadingZeros(xLo);
+        long qLo = 0;
+        long qHi = 0;
+        long rLo = 0;
+        long rHi = 0;
+        for (int i = MAX_TWO_LONGS_BITS - 1 - leadingZeros; i >= 0; i--) {
+            long bit = (i >= Long.SIZE ? xHi >>> (i - Long.SIZE) : xLo >>> i) & 1;
+            rHi = (rHi << 1) | (rLo >>> (Long.SIZE - 1));
+            rLo = (rLo << 1) | bit;
+            int cmp = Long.compareUnsigned(rHi, yHi);
+            if (cmp > 0 || (cmp == 0 && Long.compareUnsigned(rLo, yLo) >= 0)) {
+                long borrow = Long.compareUnsigned(rLo, yLo) < 0 ? 1 : 0;
+                rLo -= yLo;
+                rHi = rHi - yHi - borrow;
+                if (i >= Long.SIZE) {
+                    qHi |= 1L << (i - Long.SIZE);
+                } else {
+                    qLo |= 1L << i;
+                }
+            }
+        }
+        return remainder ? new LLVMIVarBit(bits, rLo, rHi) : new LLVMIVarBit(bits, qLo, qHi);
+    }
+
     public int compare(LLVMIVarBit other) {
         int thisWidth = bits;
         int otherWidth = other.bits;
         if (thisWidth != otherWidth) {
             return thisWidth - otherWidth;
         }
+        if (fitsInTwoLongs()) {
+            return unsignedCompare(lo, hi, other.lo, other.hi);
+        }
         for (int i = 0; i < getByteSize() - 1; i++) {
             int diff = arr[i] - other.getBytes()[i];
             if (diff != 0) {
@@ -354,23 +688,67 @@ public final class LLVMIVarBit {
         return new LLVMIVarBit(bits, newArr, bits, false);
     }
 
-    @TruffleBoundary
     public LLVMIVarBit and(LLVMIVarBit right) {
-        return performOp(right, (byte a, byte b) -> (byte) (a & b));
+        if (fitsInTwoLongs()) {
+            return new LLVMIVarBit(bits, lo & right.lo, hi & right.hi);
+        }
+        return andSlow(right);
     }
 
     @TruffleBoundary
+    private LLVMIVarBit andSlow(LLVMIVarBit right) {
+        return performOp(right, (byte a, byte b) -> (byte) (a & b));
+    }
+
     public LLVMIVarBit or(LLVMIVarBit right) {
-        return performOp(right, (byte a, byte b) -> (byte) (a | b));
+        if (fitsInTwoLongs()) {
+            return new LLVMIVarBit(bits, lo | right.lo, hi | right.hi);
+        }
+        return orSlow(right);
     }
 
     @TruffleBoundary
+    private LLVMIVarBit orSlow(LLVMIVarBit right) {
+        return performOp(right, (byte a, byte b) -> (byte) (a | b));
+    }
+
     public LLVMIVarBit xor(LLVMIVarBit right) {
-        return performOp(right, (byte a, byte b) -> (byte) (a ^ b));
+        if (fitsInTwoLongs()) {
+            return new LLVMIVarBit(bits, lo ^ right.lo, hi ^ right.hi);
+        }
+        return xorSlow(right);
     }
 
     @TruffleBoundary
+    private LLVMIVarBit xorSlow(LLVMIVarBit right) {
+        return performOp(right, (byte a, byte b) -> (byte) (a ^ b));
+    }
+
+    /**
+     * The shift amount of a value that fits in two longs, or -1 if it is not less than
+     * {@link #MAX_TWO_LONGS_BITS}.
+     */
+    private int getShiftAmount() {
+        return hi == 0 && Long.compareUnsigned(lo, MAX_TWO_LONGS_BITS) < 0 ? (int) lo : -1;
+    }
+
     public LLVMIVarBit leftShift(LLVMIVarBit right) {
+        if (fitsInTwoLongs()) {
+            int shift = right.getShiftAmount();
+            if (shift < 0) {
+                return new LLVMIVarBit(bits, 0, 0);
+            } else if (shift >= Long.SIZE) {
+                return new LLVMIVarBit(bits, 0, lo << (shift - Long.SIZE));
+            } else if (shift == 0) {
+                return this;
+            }
+            return new LLVMIVarBit(bits, lo << shift, (hi << shift) | (lo >>> (Long.SIZE - shift)));
+        }
+        return leftShiftSlow(right);
+    }
+
+    @TruffleBoundary
+    private LLVMIVarBit leftShiftSlow(LLVMIVarBit right) {
         BigInteger result = asBigInteger().shiftLeft(right.getIntValue());
         return asIVar(bits, result);
     }
@@ -381,6 +759,9 @@ public final class LLVMIVarBit {
     }
 
     private static LLVMIVarBit asIVar(int bitSize, BigInteger result) {
+        if (bitSize <= MAX_TWO_LONGS_BITS) {
+            return new LLVMIVarBit(bitSize, result.longValue(), result.shiftRight(Long.SIZE).longValue());
+        }
         int destSize = Math.max(Byte.BYTES, bitSize / Byte.SIZE);
         byte[] newArr = new byte[destSize];
         byte[] bigIntArr = result.toByteArray();
@@ -403,33 +784,92 @@ public final class LLVMIVarBit {
         return new LLVMIVarBit(bitSize, newArr, resultLengthIncludingSign, result.signum() == -1);
     }
 
-    @TruffleBoundary
     public LLVMIVarBit logicalRightShift(LLVMIVarBit right) {
+        if (fitsInTwoLongs()) {
+            return shiftRight(lo, hi, right.getShiftAmount(), 0);
+        }
+        return logicalRightShiftSlow(right);
+    }
+
+    private LLVMIVarBit shiftRight(long valueLo, long valueHi, int shift, long fill) {
+        if (shift < 0) {
+            return new LLVMIVarBit(bits, fill, fill);
+        } else if (shift >= Long.SIZE) {
+            long shifted = shift == Long.SIZE ? valueHi : fill == 0 ? valueHi >>> (shift - Long.SIZE) : valueHi >> (shift - Long.SIZE);
+            return new LLVMIVarBit(bits, shifted, fill);
+        } else if (shift == 0) {
+            return new LLVMIVarBit(bits, valueLo, valueHi);
+        }
+        long shiftedHi = fill == 0 ? valueHi >>> shift : valueHi >> shift;
+        return new LLVMIVarBit(bits, (valueLo >>> shift) | (valueHi << (Long.SIZE - shift)), shiftedHi);
+    }
+
+    @TruffleBoundary
+    private LLVMIVarBit logicalRightShiftSlow(LLVMIVarBit right) {
         int shiftAmount = right.getIntValue();
         BigInteger mask = BigInteger.valueOf(-1).shiftLeft(bits - shiftAmount).not();
         BigInteger result = new BigInteger(arr).shiftRight(shiftAmount).and(mask);
         return asIVar(result);
     }
 
-    @TruffleBoundary
     public LLVMIVarBit arithmeticRightShift(LLVMIVarBit right) {
+        if (fitsInTwoLongs()) {
+            long extendedHi = signExtendedHi();
+            return shiftRight(signExtendedLo(), extendedHi, right.getShiftAmount(), extendedHi >> (Long.SIZE - 1));
+        }
+        return arithmeticRightShiftSlow(right);
+    }
+
+    @TruffleBoundary
+    private LLVMIVarBit arithmeticRightShiftSlow(LLVMIVarBit right) {
         BigInteger result = asBigInteger().shiftRight(right.getIntValue());
         return asIVar(result);
     }
 
-    @TruffleBoundary
     public int signedCompare(LLVMIVarBit other) {
-        return asBigInteger().compareTo(other.asBigInteger());
+        if (fitsInTwoLongs()) {
+            long thisHi = signExtendedHi();
+            long otherHi = other.signExtendedHi();
+            if (thisHi != otherHi) {
+                return thisHi < otherHi ? -1 : 1;
+            }
+            return Long.compareUnsigned(signExtendedLo(), other.signExtendedLo());
+        }
+        return signedCompareSlow(other);
     }
 
     @TruffleBoundary
+    private int signedCompareSlow(LLVMIVarBit other) {
+        return asBigInteger().compareTo(other.asBigInteger());
+    }
+
     public int unsignedCompare(LLVMIVarBit other) {
-        return asUnsignedBigInteger().compareTo(other.asUnsignedBigInteger());
+        if (fitsInTwoLongs()) {
+            return unsignedCompare(lo, hi, other.lo, other.hi);
+        }
+        return unsignedCompareSlow(other);
+    }
+
+    private static int unsignedCompare(long xLo, long xHi, long yLo, long yHi) {
+        int cmp = Long.compareUnsigned(xHi, yHi);
+        return cmp != 0 ? cmp : Long.compareUnsigned(xLo, yLo);
     }
 
     @TruffleBoundary
+    private int unsignedCompareSlow(LLVMIVarBit other) {
+        return asUnsignedBigInteger().compareTo(other.asUnsignedBigInteger());
+    }
+
     public boolean isZero() {
-        return arr == null || arr.length == 0 || BigInteger.ZERO.equals(asBigInteger());
+        if (fitsInTwoLongs()) {
+            return lo == 0 && hi == 0;
+        }
+        return isZeroSlow();
+    }
+
+    @TruffleBoundary
+    private boolean isZeroSlow() {
+        return arr.length == 0 || BigInteger.ZERO.equals(asBigInteger());
     }
 
     @Override
@@ -445,7 +885,12 @@ public final class LLVMIVarBit {
     public int hashCode() {
         final int prime = 31;
         int result = 1;
-        result = prime * result + Arrays.hashCode(arr);
+        if (fitsInTwoLongs()) {
+            result = prime * result + Long.hashCode(lo);
+            result = prime * result + Long.hashCode(hi);
+        } else {
+            result = prime * result + Arrays.hashCode(arr);
+        }
         result = prime * result + bits;
         return result;
     }
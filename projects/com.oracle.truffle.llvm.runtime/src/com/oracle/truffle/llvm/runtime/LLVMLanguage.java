@@ -204,6 +204,7 @@ public class LLVMLanguage extends TruffleLanguage<LLVMContext> {
         super.disposeThread(context, thread);
         if (context.isInitialized()) {
             context.getThreadingStack().freeStack(getCapability(LLVMMemory.class), thread);
+            context.disposeThread(getCapability(LLVMMemory.class), thread);
         }
     }
 
@@ -0,0 +1,445 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.runtime;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.interop.InteropException;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.nodes.ControlFlowException;
+import com.oracle.truffle.llvm.runtime.pointer.LLVMNativePointer;
+
+/**
+ * The state behind the {@code pthread} intrinsics of one context. Threads are created with
+ * {@link com.oracle.truffle.api.TruffleLanguage.Env#createThread}, so every thread runs in the
+ * context with its own {@link com.oracle.truffle.llvm.runtime.memory.LLVMStack} from the
+ * {@link com.oracle.truffle.llvm.runtime.memory.LLVMThreadingStack}.
+ *
+ * Mutexes and condition variables are identified by their native address and are created lazily
+ * on first use, so that statically initialized ({@code PTHREAD_MUTEX_INITIALIZER}) objects work.
+ * The guest memory of these objects is not used. Mutexes have the type that was given to
+ * {@code pthread_mutex_init}, and are normal mutexes otherwise. Locking a normal mutex that the
+ * thread already holds reports {@code EDEADLK} instead of blocking the thread forever.
+ *
+ * A {@code pthread_t} is the id of the Java thread, which is also what {@code gettid} returns.
+ */
+public final class LLVMPThreadContext {
+
+    private static final InteropLibrary INTEROP = InteropLibrary.getFactory().getUncached();
+
+    public static final int EPERM = 1;
+    public static final int ESRCH = 3;
+    public static final int EAGAIN = 11;
+    public static final int EBUSY = 16;
+    public static final int EINVAL = 22;
+    public static final int EDEADLK = 35;
+    public static final int ETIMEDOUT = 110;
+
+    public static final int MUTEX_NORMAL = 0;
+    public static final int MUTEX_RECURSIVE = 1;
+    public static final int MUTEX_ERRORCHECK = 2;
+
+    private final LLVMContext context;
+
+    private final ConcurrentHashMap<Long, LLVMPThread> threads = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, LLVMMutex> mutexes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Object> conditions = new ConcurrentHashMap<>();
+
+    private final AtomicInteger nextKey = new AtomicInteger();
+    private final ConcurrentHashMap<Integer, Object> keyDestructors = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Thread, Map<Integer, Object>> specific = new ConcurrentHashMap<>();
+
+    public LLVMPThreadContext(LLVMContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Thrown by {@code pthread_exit} and caught at the bottom of the thread.
+     */
+    public static final class LLVMPThreadExitException extends ControlFlowException {
+        private static final long serialVersionUID = 1L;
+
+        private final Object returnValue;
+
+        public LLVMPThreadExitException(Object returnValue) {
+            this.returnValue = returnValue;
+        }
+
+        public Object getReturnValue() {
+            return returnValue;
+        }
+    }
+
+    private final class LLVMPThread implements LLVMThread, Runnable {
+        private final Object startRoutine;
+        private final Object arg;
+        private Thread thread;
+        private volatile boolean detached;
+        private volatile Object returnValue;
+
+        private LLVMPThread(Object startRoutine, Object arg) {
+            this.startRoutine = startRoutine;
+            this.arg = arg;
+        }
+
+        @Override
+        public void run() {
+            try {
+                returnValue = INTEROP.execute(startRoutine, arg);
+            } catch (LLVMPThreadExitException e) {
+                returnValue = e.getReturnValue();
+            } catch (InteropException e) {
+                throw new AssertionError(e);
+            } finally {
+                runKeyDestructors();
+                context.unregisterThread(this);
+                if (detached) {
+                    threads.remove(thread.getId());
+                }
+            }
+        }
+
+        @Override
+        public void stop() {
+            // a pthread can only end by itself
+        }
+
+        @Override
+        public void awaitFinish() {
+            joinUninterruptibly(thread);
+        }
+    }
+
+    @TruffleBoundary
+    public long create(Object startRoutine, Object arg) {
+        LLVMPThread pthread = new LLVMPThread(startRoutine, arg);
+        Thread thread;
+        try {
+            thread = context.getEnv().createThread(pthread);
+        } catch (IllegalStateException e) {
+            return -EAGAIN;
+        }
+        pthread.thread = thread;
+        threads.put(thread.getId(), pthread);
+        context.registerThread(pthread);
+        thread.start();
+        return thread.getId();
+    }
+
+    /**
+     * @return 0 if the current thread can join the thread, or the error code of
+     *         {@code pthread_join} otherwise
+     */
+    @TruffleBoundary
+    public int getJoinError(long id) {
+        if (id == Thread.currentThread().getId()) {
+            return EDEADLK;
+        }
+        LLVMPThread pthread = threads.get(id);
+        if (pthread == null) {
+            return ESRCH;
+        }
+        if (pthread.detached) {
+            return EINVAL;
+        }
+        return 0;
+    }
+
+    /**
+     * @return the return value of the thread, or {@code null} if it can not be joined
+     */
+    @TruffleBoundary
+    public Object join(long id) {
+        LLVMPThread pthread = threads.get(id);
+        if (pthread == null || pthread.detached || pthread.thread == Thread.currentThread()) {
+            return null;
+        }
+        joinUninterruptibly(pthread.thread);
+        threads.remove(id);
+        Object result = pthread.returnValue;
+        return result == null ? LLVMNativePointer.createNull() : result;
+    }
+
+    @TruffleBoundary
+    public int detach(long id) {
+        LLVMPThread pthread = threads.get(id);
+        if (pthread == null) {
+            return ESRCH;
+        }
+        pthread.detached = true;
+        if (!pthread.thread.isAlive()) {
+            threads.remove(id);
+        }
+        return 0;
+    }
+
+    /**
+     * {@code pthread_exit} on a thread that was not created by {@code pthread_create} waits for
+     * all other threads and then exits the program with status 0.
+     */
+    @TruffleBoundary
+    public RuntimeException exit(Object returnValue) {
+        if (threads.containsKey(Thread.currentThread().getId())) {
+            return new LLVMPThreadExitException(returnValue);
+        }
+        context.awaitThreadTermination();
+        return LLVMExitException.exit(0);
+    }
+
+    private static void joinUninterruptibly(Thread thread) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                thread.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class LLVMMutex extends ReentrantLock {
+        private static final long serialVersionUID = 1L;
+
+        private final int kind;
+
+        private LLVMMutex(int kind) {
+            this.kind = kind;
+        }
+
+        private boolean isRelockedByOwner() {
+            return kind != MUTEX_RECURSIVE && isHeldByCurrentThread();
+        }
+    }
+
+    private LLVMMutex getMutex(long address) {
+        return mutexes.computeIfAbsent(address, a -> new LLVMMutex(MUTEX_NORMAL));
+    }
+
+    /**
+     * @param kind one of {@link #MUTEX_NORMAL}, {@link #MUTEX_RECURSIVE} and
+     *            {@link #MUTEX_ERRORCHECK}
+     */
+    @TruffleBoundary
+    public int mutexInit(long address, int kind) {
+        if (kind != MUTEX_NORMAL && kind != MUTEX_RECURSIVE && kind != MUTEX_ERRORCHECK) {
+            return EINVAL;
+        }
+        LLVMMutex lock = mutexes.get(address);
+        if (lock != null && lock.isLocked()) {
+            return EBUSY;
+        }
+        mutexes.put(address, new LLVMMutex(kind));
+        return 0;
+    }
+
+    @TruffleBoundary
+    public int mutexLock(long address) {
+        LLVMMutex lock = getMutex(address);
+        if (lock.isRelockedByOwner()) {
+            return EDEADLK;
+        }
+        lock.lock();
+        return 0;
+    }
+
+    @TruffleBoundary
+    public int mutexTryLock(long address) {
+        LLVMMutex lock = getMutex(address);
+        if (lock.isRelockedByOwner()) {
+            return EBUSY;
+        }
+        return lock.tryLock() ? 0 : EBUSY;
+    }
+
+    @TruffleBoundary
+    public int mutexUnlock(long address) {
+        ReentrantLock lock = mutexes.get(address);
+        if (lock == null || !lock.isHeldByCurrentThread()) {
+            return EPERM;
+        }
+        lock.unlock();
+        return 0;
+    }
+
+    @TruffleBoundary
+    public int mutexDestroy(long address) {
+        ReentrantLock lock = mutexes.get(address);
+        if (lock != null && lock.isLocked()) {
+            return EBUSY;
+        }
+        mutexes.remove(address);
+        return 0;
+    }
+
+    private Object getCondition(long address) {
+        return conditions.computeIfAbsent(address, a -> new Object());
+    }
+
+    /**
+     * Releases the mutex and waits on the condition. The condition's monitor is entered before the
+     * mutex is released, so a signal from a thread that holds the mutex cannot be missed.
+     *
+     * @param deadlineMillis the absolute {@code CLOCK_REALTIME} deadline, or a negative value to
+     *            wait without timeout
+     */
+    @TruffleBoundary
+    public int condWait(long condAddress, long mutexAddress, long deadlineMillis) {
+        ReentrantLock lock = mutexes.get(mutexAddress);
+        if (lock == null || !lock.isHeldByCurrentThread()) {
+            return EINVAL;
+        }
+        Object condition = getCondition(condAddress);
+        int holdCount = lock.getHoldCount();
+        int result = 0;
+        synchronized (condition) {
+            for (int i = 0; i < holdCount; i++) {
+                lock.unlock();
+            }
+            try {
+                if (deadlineMillis < 0) {
+                    condition.wait();
+                } else {
+                    long remaining = deadlineMillis - System.currentTimeMillis();
+                    if (remaining > 0) {
+                        TimeUnit.MILLISECONDS.timedWait(condition, remaining);
+                    }
+                    if (System.currentTimeMillis() >= deadlineMillis) {
+                        result = ETIMEDOUT;
+                    }
+                }
+            } catch (InterruptedException e) {
+                // a spurious wakeup, which the caller has to expect anyway; the interrupt is not
+                // restored, since the caller waits again and would return immediately
+            }
+        }
+        for (int i = 0; i < holdCount; i++) {
+            lock.lock();
+        }
+        return result;
+    }
+
+    @TruffleBoundary
+    public int condSignal(long address, boolean broadcast) {
+        Object condition = getCondition(address);
+        synchronized (condition) {
+            if (broadcast) {
+                condition.notifyAll();
+            } else {
+                condition.notify();
+            }
+        }
+        return 0;
+    }
+
+    @TruffleBoundary
+    public int condDestroy(long address) {
+        conditions.remove(address);
+        return 0;
+    }
+
+    /**
+     * @param destructor a function pointer, or {@code null}
+     */
+    @TruffleBoundary
+    public int keyCreate(Object destructor) {
+        int key = nextKey.getAndIncrement();
+        if (destructor != null) {
+            keyDestructors.put(key, destructor);
+        }
+        return key;
+    }
+
+    @TruffleBoundary
+    public int keyDelete(int key) {
+        keyDestructors.remove(key);
+        return 0;
+    }
+
+    @TruffleBoundary
+    public Object getSpecific(int key) {
+        Map<Integer, Object> values = specific.get(Thread.currentThread());
+        Object value = values == null ? null : values.get(key);
+        return value == null ? LLVMNativePointer.createNull() : value;
+    }
+
+    @TruffleBoundary
+    public int setSpecific(int key, Object value) {
+        if (key < 0 || key >= nextKey.get()) {
+            return EINVAL;
+        }
+        specific.computeIfAbsent(Thread.currentThread(), t -> new HashMap<>()).put(key, value);
+        return 0;
+    }
+
+    /**
+     * Calls the destructors of all keys with a non-null value of the exiting thread, as long as
+     * destructors set new values (up to {@code PTHREAD_DESTRUCTOR_ITERATIONS} times).
+     */
+    private void runKeyDestructors() {
+        Map<Integer, Object> values = specific.get(Thread.currentThread());
+        if (values == null) {
+            return;
+        }
+        for (int iteration = 0; iteration < 4 && !values.isEmpty(); iteration++) {
+            ArrayList<Map.Entry<Integer, Object>> entries = new ArrayList<>(values.entrySet());
+            values.clear();
+            for (Map.Entry<Integer, Object> entry : entries) {
+                Object destructor = keyDestructors.get(entry.getKey());
+                Object value = entry.getValue();
+                if (destructor != null && !INTEROP.isNull(value)) {
+                    try {
+                        INTEROP.execute(destructor, value);
+                    } catch (InteropException e) {
+                        throw new AssertionError(e);
+                    }
+                }
+            }
+        }
+        specific.remove(Thread.currentThread());
+    }
+
+    /**
+     * Drops the thread-specific data of a thread that ended.
+     */
+    void disposeThread(Thread thread) {
+        specific.remove(thread);
+    }
+}
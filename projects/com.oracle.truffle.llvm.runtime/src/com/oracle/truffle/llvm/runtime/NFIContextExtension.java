@@ -29,15 +29,28 @@
  */
 package com.oracle.truffle.llvm.runtime;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import com.oracle.truffle.api.CompilerDirectives;
 import org.graalvm.collections.EconomicMap;
+import org.graalvm.collections.EconomicSet;
 import org.graalvm.collections.MapCursor;
 
 import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.TruffleFile;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.TruffleLanguage.Env;
 import com.oracle.truffle.api.interop.InteropException;
@@ -59,19 +72,95 @@ import com.oracle.truffle.llvm.runtime.types.VoidType;
 
 public final class NFIContextExtension implements ContextExtension {
 
+    /**
+     * Reads the names of the symbols that a native library exports. Returns {@code null} if they
+     * cannot be determined, for example because the library is not an ELF file. Implementations
+     * should only read the parts of the file that they need, since libc and the other dependencies
+     * of every library are read as well.
+     */
+    public interface ExportedSymbolsReader {
+        ExportedSymbols readExportedSymbols(TruffleFile library) throws IOException;
+    }
+
+    /**
+     * The symbols that a native library exports, and the dynamic section entries that the dynamic
+     * loader uses to find its dependencies.
+     */
+    public static final class ExportedSymbols {
+
+        private final List<String> symbols;
+        private final List<String> neededLibraries;
+        private final List<String> rPath;
+        private final List<String> runPath;
+
+        public ExportedSymbols(List<String> symbols, List<String> neededLibraries, List<String> rPath, List<String> runPath) {
+            this.symbols = symbols;
+            this.neededLibraries = neededLibraries;
+            this.rPath = rPath;
+            this.runPath = runPath;
+        }
+
+        public List<String> getSymbols() {
+            return symbols;
+        }
+
+        /**
+         * The {@code DT_NEEDED} entries.
+         */
+        public List<String> getNeededLibraries() {
+            return neededLibraries;
+        }
+
+        /**
+         * The {@code DT_RPATH} entries, which the loader ignores if there is a {@code DT_RUNPATH}.
+         */
+        public List<String> getRPath() {
+            return rPath;
+        }
+
+        public List<String> getRunPath() {
+            return runPath;
+        }
+    }
+
     private static final InteropLibrary INTEROP = InteropLibrary.getFactory().getUncached();
 
     @CompilerDirectives.CompilationFinal private TruffleObject defaultLibraryHandle;
     private final ExternalLibrary defaultLibrary;
+    /*
+     * Guards libraryHandles and the symbol index, since pthreads and the background function
+     * resolution look up native symbols concurrently with the threads that add libraries.
+     */
+    private final Object libraryLock = new Object();
     // we use an EconomicMap because iteration order must match the insertion order
     private final EconomicMap<ExternalLibrary, TruffleObject> libraryHandles = EconomicMap.create();
     private final TruffleLanguage.Env env;
     private final LLVMNativeFunctions nativeFunctions;
 
+    /*
+     * Maps each symbol to the first library in load order that exports it, either from its own
+     * dynamic symbol table or from one of its dependencies, since NFI looks up symbols with dlsym
+     * on the library handle. Libraries whose symbols or dependencies cannot be determined (for
+     * example libc++, which is loaded by its soname) are not indexed and are always probed.
+     */
+    private final ExportedSymbolsReader symbolsReader;
+    private final EconomicMap<String, ExternalLibrary> symbolIndex = EconomicMap.create();
+    private final EconomicSet<ExternalLibrary> indexedLibraries = EconomicSet.create();
+    // the dependencies that several libraries share, for example libc, are only read once
+    private final Map<String, ExportedSymbols> exportedSymbolsCache = new HashMap<>();
+
+    private final ConcurrentHashMap<BoundFunctionKey, TruffleObject> boundFunctions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<SignatureKey, String> signatures = new ConcurrentHashMap<>();
+
     public NFIContextExtension(Env env) {
+        this(env, null);
+    }
+
+    public NFIContextExtension(Env env, ExportedSymbolsReader symbolsReader) {
         this.env = env;
         this.defaultLibrary = ExternalLibrary.external("NativeDefault", true);
         this.nativeFunctions = new LLVMNativeFunctions(this);
+        this.symbolsReader = symbolsReader;
     }
 
     @Override
@@ -144,12 +233,30 @@ public final class NFIContextExtension implements ContextExtension {
             context.addInternalLibrary("libsulong++." + getNativeLibrarySuffix(), true);
         }
         List<ExternalLibrary> libraries = context.getExternalLibraries(lib -> lib.isNative());
-        for (ExternalLibrary l : libraries) {
-            addLibrary(l);
+        synchronized (libraryLock) {
+            List<ExternalLibrary> added = new ArrayList<>();
+            for (ExternalLibrary l : libraries) {
+                if (addLibrary(l)) {
+                    added.add(l);
+                }
+            }
+            // the loader has mapped all new libraries, so one snapshot of the mappings suffices
+            if (!added.isEmpty() && symbolsReader != null) {
+                Set<String> mappedFiles = readMappedFiles();
+                if (mappedFiles != null) {
+                    for (ExternalLibrary l : added) {
+                        indexLibrary(l, mappedFiles);
+                    }
+                }
+            }
         }
     }
 
-    private void addLibrary(ExternalLibrary lib) throws UnsatisfiedLinkError {
+    /**
+     * Loads the library, returning {@code true} if it got a new handle that still needs to be
+     * indexed.
+     */
+    private boolean addLibrary(ExternalLibrary lib) throws UnsatisfiedLinkError {
         CompilerAsserts.neverPartOfCompilation();
         if (!libraryHandles.containsKey(lib) && !handleSpecialLibraries(lib)) {
             try {
@@ -158,6 +265,151 @@ public final class NFIContextExtension implements ContextExtension {
                 System.err.println(lib.toString() + " not found!\n" + e.getMessage());
                 throw e;
             }
+            // the new library may take precedence over the default library
+            boundFunctions.clear();
+            return true;
+        }
+        return false;
+    }
+
+    private void indexLibrary(ExternalLibrary lib, Set<String> mappedFiles) {
+        Path path = lib.getPath();
+        if (path == null || !path.isAbsolute()) {
+            // a relative name is resolved by the dynamic loader, which may find another file
+            return;
+        }
+        Set<String> symbols = new HashSet<>();
+        if (collectExportedSymbols(env.getTruffleFile(path.toString()), mappedFiles, new HashSet<>(), symbols)) {
+            for (String symbol : symbols) {
+                if (!symbolIndex.containsKey(symbol)) {
+                    symbolIndex.put(symbol, lib);
+                }
+            }
+            indexedLibraries.add(lib);
+        }
+    }
+
+    /**
+     * Adds the symbols of a library and of all libraries it depends on. Returns {@code false} if
+     * any of them cannot be read, or if a file is not the one that the dynamic loader has mapped.
+     */
+    private boolean collectExportedSymbols(TruffleFile file, Set<String> mappedFiles, Set<String> visited, Set<String> symbols) {
+        String canonicalPath;
+        ExportedSymbols exported;
+        try {
+            canonicalPath = file.getCanonicalFile().getPath();
+            if (!mappedFiles.contains(canonicalPath)) {
+                return false;
+            }
+            if (!visited.add(canonicalPath)) {
+                return true;
+            }
+            exported = exportedSymbolsCache.get(canonicalPath);
+            if (exported == null && !exportedSymbolsCache.containsKey(canonicalPath)) {
+                exported = file.isRegularFile() ? symbolsReader.readExportedSymbols(file) : null;
+                exportedSymbolsCache.put(canonicalPath, exported);
+            }
+        } catch (IOException | SecurityException e) {
+            return false;
+        }
+        if (exported == null) {
+            return false;
+        }
+        symbols.addAll(exported.getSymbols());
+        for (String needed : exported.getNeededLibraries()) {
+            TruffleFile dependency = findDependency(needed, file, exported, mappedFiles);
+            if (dependency == null || !collectExportedSymbols(dependency, mappedFiles, visited, symbols)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final String[] DEFAULT_LIBRARY_DIRECTORIES = {"/lib64", "/usr/lib64", "/lib", "/usr/lib"};
+
+    /**
+     * Finds the file that the dynamic loader has mapped for a {@code DT_NEEDED} entry. Besides the
+     * search paths of the library and of the environment, this tries the directories of all mapped
+     * files, which covers the directories that the loader finds in its cache. Returns {@code null}
+     * if no mapped file or more than one fits, since then we cannot tell which one the loader used.
+     */
+    private TruffleFile findDependency(String needed, TruffleFile library, ExportedSymbols exported, Set<String> mappedFiles) {
+        if (needed.indexOf('/') >= 0) {
+            // a relative path is resolved against the working directory of the process
+            return needed.startsWith("/") ? env.getTruffleFile(needed) : null;
+        }
+        String origin = library.getParent() == null ? "/" : library.getParent().getPath();
+        Set<String> directories = new LinkedHashSet<>();
+        if (exported.getRunPath().isEmpty()) {
+            addSearchPaths(directories, exported.getRPath(), origin);
+        }
+        String ldLibraryPath = System.getenv("LD_LIBRARY_PATH");
+        if (ldLibraryPath != null) {
+            addSearchPaths(directories, Collections.singletonList(ldLibraryPath), origin);
+        }
+        addSearchPaths(directories, exported.getRunPath(), origin);
+        for (String directory : DEFAULT_LIBRARY_DIRECTORIES) {
+            directories.add(directory);
+        }
+        for (String mappedFile : mappedFiles) {
+            directories.add(mappedFile.substring(0, mappedFile.lastIndexOf('/') + 1));
+        }
+
+        TruffleFile found = null;
+        String foundPath = null;
+        for (String directory : directories) {
+            try {
+                TruffleFile candidate = env.getTruffleFile(directory).resolve(needed);
+                if (!candidate.exists()) {
+                    continue;
+                }
+                String canonicalPath = candidate.getCanonicalFile().getPath();
+                if (!mappedFiles.contains(canonicalPath)) {
+                    continue;
+                }
+                if (foundPath == null) {
+                    found = candidate;
+                    foundPath = canonicalPath;
+                } else if (!foundPath.equals(canonicalPath)) {
+                    return null;
+                }
+            } catch (IOException | SecurityException | IllegalArgumentException e) {
+                // not a usable directory
+            }
+        }
+        return found;
+    }
+
+    private static void addSearchPaths(Set<String> directories, List<String> searchPaths, String origin) {
+        for (String searchPath : searchPaths) {
+            for (String directory : searchPath.split(":")) {
+                if (!directory.isEmpty()) {
+                    directories.add(directory.replace("${ORIGIN}", origin).replace("$ORIGIN", origin));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the canonical paths of all files mapped into this process, or {@code null} if they
+     * cannot be determined, for example on systems without {@code /proc}.
+     */
+    private Set<String> readMappedFiles() {
+        try {
+            TruffleFile maps = env.getTruffleFile("/proc/self/maps");
+            if (!maps.exists()) {
+                return null;
+            }
+            Set<String> files = new HashSet<>();
+            for (String line : new String(maps.readAllBytes(), StandardCharsets.UTF_8).split("\n")) {
+                int start = line.indexOf('/');
+                if (start >= 0 && !line.endsWith(" (deleted)")) {
+                    files.add(line.substring(start));
+                }
+            }
+            return files;
+        } catch (IOException | SecurityException e) {
+            return null;
         }
     }
 
@@ -306,35 +558,41 @@ public final class NFIContextExtension implements ContextExtension {
     public NativeLookupResult getNativeFunctionOrNull(LLVMContext context, String name) {
         CompilerAsserts.neverPartOfCompilation();
         addLibraries(context);
-
-        MapCursor<ExternalLibrary, TruffleObject> cursor = libraryHandles.getEntries();
-        while (cursor.advance()) {
-            TruffleObject symbol = getNativeFunctionOrNull(cursor.getValue(), name);
-            if (symbol != null) {
-                return new NativeLookupResult(cursor.getKey(), symbol);
-            }
-        }
-        TruffleObject symbol = getNativeFunctionOrNull(defaultLibraryHandle, name);
-        if (symbol != null) {
-            assert isInitialized();
-            return new NativeLookupResult(defaultLibrary, symbol);
-        }
-        return null;
+        return lookup(name.substring(1), library -> getNativeFunctionOrNull(library, name));
     }
 
     private NativeLookupResult getNativeDataObjectOrNull(LLVMContext context, String name) {
         CompilerAsserts.neverPartOfCompilation();
         addLibraries(context);
-
         String realName = name.substring(1);
-        MapCursor<ExternalLibrary, TruffleObject> cursor = libraryHandles.getEntries();
-        while (cursor.advance()) {
-            TruffleObject symbol = getNativeDataObjectOrNull(cursor.getValue(), realName);
-            if (symbol != null) {
-                return new NativeLookupResult(cursor.getKey(), symbol);
+        return lookup(realName, library -> getNativeDataObjectOrNull(library, realName));
+    }
+
+    /**
+     * Looks up a symbol in load order. Indexed libraries that do not export the symbol, neither
+     * themselves nor through a dependency, are skipped without asking NFI. Should the library that
+     * the index names not provide the symbol after all, all remaining libraries are probed.
+     */
+    private NativeLookupResult lookup(String realName, Function<TruffleObject, TruffleObject> probe) {
+        synchronized (libraryLock) {
+            ExternalLibrary indexed = symbolIndex.get(realName);
+            boolean useIndex = true;
+            MapCursor<ExternalLibrary, TruffleObject> cursor = libraryHandles.getEntries();
+            while (cursor.advance()) {
+                ExternalLibrary library = cursor.getKey();
+                if (useIndex && library != indexed && indexedLibraries.contains(library)) {
+                    continue;
+                }
+                TruffleObject symbol = probe.apply(cursor.getValue());
+                if (symbol != null) {
+                    return new NativeLookupResult(library, symbol);
+                }
+                if (library == indexed) {
+                    useIndex = false;
+                }
             }
         }
-        TruffleObject symbol = getNativeDataObjectOrNull(defaultLibraryHandle, realName);
+        TruffleObject symbol = probe.apply(defaultLibraryHandle);
         if (symbol != null) {
             assert isInitialized();
             return new NativeLookupResult(defaultLibrary, symbol);
@@ -367,19 +625,69 @@ public final class NFIContextExtension implements ContextExtension {
         }
     }
 
+    /**
+     * Returns the native function bound to the signature. Bound functions are shared by all
+     * callers that ask for the same symbol with the same signature.
+     */
     public TruffleObject getNativeFunction(LLVMContext context, String name, String signature) {
         CompilerAsserts.neverPartOfCompilation();
-        NativeLookupResult result = getNativeFunctionOrNull(context, name);
-        if (result != null) {
-            return bindNativeFunction(result.getObject(), signature);
+        addLibraries(context);
+        BoundFunctionKey key = new BoundFunctionKey(name, signature);
+        TruffleObject bound = boundFunctions.get(key);
+        if (bound == null) {
+            NativeLookupResult result = getNativeFunctionOrNull(context, name);
+            if (result == null) {
+                throw new LLVMLinkerException(String.format("External function %s cannot be found.", name));
+            }
+            bound = bindNativeFunction(result.getObject(), signature);
+            TruffleObject existing = boundFunctions.putIfAbsent(key, bound);
+            if (existing != null) {
+                bound = existing;
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * Binds a native symbol, for example the native function of an
+     * {@link LLVMFunctionDescriptor}, to a signature. Like {@link #getNativeFunction}, this
+     * returns the same bound function for the same symbol and signature.
+     */
+    public TruffleObject bindNativeSymbol(TruffleObject symbol, String signature) {
+        CompilerAsserts.neverPartOfCompilation();
+        BoundFunctionKey key = new BoundFunctionKey(symbol, signature);
+        TruffleObject bound = boundFunctions.get(key);
+        if (bound == null) {
+            bound = bindNativeFunction(symbol, signature);
+            TruffleObject existing = boundFunctions.putIfAbsent(key, bound);
+            if (existing != null) {
+                bound = existing;
+            }
         }
-        throw new LLVMLinkerException(String.format("External function %s cannot be found.", name));
+        return bound;
     }
 
+    /**
+     * Signatures are cached per {@link FunctionType} instance. Function types cannot be compared
+     * with {@link FunctionType#equals}, since that treats all pointer types as equal, while
+     * function pointers have their own native signature.
+     */
     public String getNativeSignature(FunctionType type, int skipArguments) throws UnsupportedNativeTypeException {
         CompilerAsserts.neverPartOfCompilation();
+        SignatureKey key = new SignatureKey(type, skipArguments);
+        String signature = signatures.get(key);
+        if (signature == null) {
+            signature = createNativeSignature(type, skipArguments);
+            String existing = signatures.putIfAbsent(key, signature);
+            if (existing != null) {
+                signature = existing;
+            }
+        }
+        return signature;
+    }
+
+    private String createNativeSignature(FunctionType type, int skipArguments) throws UnsupportedNativeTypeException {
         // TODO varargs
-        CompilerAsserts.neverPartOfCompilation();
         String nativeRet = getNativeType(type.getReturnType());
         String[] argTypes = getNativeTypes(type.getArgumentTypes(), skipArguments);
         StringBuilder sb = new StringBuilder();
@@ -398,6 +706,57 @@ public final class NFIContextExtension implements ContextExtension {
         return sb.toString();
     }
 
+    /**
+     * The symbol is either the name of a native function or the symbol object itself.
+     */
+    private static final class BoundFunctionKey {
+        private final Object symbol;
+        private final String signature;
+
+        BoundFunctionKey(Object symbol, String signature) {
+            this.symbol = symbol;
+            this.signature = signature;
+        }
+
+        @Override
+        public int hashCode() {
+            return symbol.hashCode() * 31 + signature.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof BoundFunctionKey)) {
+                return false;
+            }
+            BoundFunctionKey other = (BoundFunctionKey) obj;
+            return symbol.equals(other.symbol) && signature.equals(other.signature);
+        }
+    }
+
+    private static final class SignatureKey {
+        private final FunctionType type;
+        private final int skipArguments;
+
+        SignatureKey(FunctionType type, int skipArguments) {
+            this.type = type;
+            this.skipArguments = skipArguments;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(type) * 31 + skipArguments;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof SignatureKey)) {
+                return false;
+            }
+            SignatureKey other = (SignatureKey) obj;
+            return type == other.type && skipArguments == other.skipArguments;
+        }
+    }
+
     public static final class NativeLookupResult {
         private final ExternalLibrary library;
         private final TruffleObject object;
@@ -35,19 +35,19 @@ import com.oracle.truffle.llvm.runtime.debug.scope.LLVMSourceSymbol;
 import com.oracle.truffle.llvm.runtime.debug.value.LLVMFrameValueAccess;
 import com.oracle.truffle.llvm.runtime.debug.value.LLVMDebugObjectBuilder;
 
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class LLVMSourceContext {
 
-    private final HashMap<LLVMSourceSymbol, LLVMDebugObjectBuilder> staticValues;
-    private final HashMap<LLVMSourceSymbol, LLVMFrameValueAccess> frameValues;
-    private final HashMap<String, LLVMSourceLocation> exportedScopes;
+    private final ConcurrentHashMap<LLVMSourceSymbol, LLVMDebugObjectBuilder> staticValues;
+    private final ConcurrentHashMap<LLVMSourceSymbol, LLVMFrameValueAccess> frameValues;
+    private final ConcurrentHashMap<String, LLVMSourceLocation> exportedScopes;
 
     @TruffleBoundary
     public LLVMSourceContext() {
-        staticValues = new HashMap<>();
-        frameValues = new HashMap<>();
-        exportedScopes = new HashMap<>();
+        staticValues = new ConcurrentHashMap<>();
+        frameValues = new ConcurrentHashMap<>();
+        exportedScopes = new ConcurrentHashMap<>();
     }
 
     @TruffleBoundary
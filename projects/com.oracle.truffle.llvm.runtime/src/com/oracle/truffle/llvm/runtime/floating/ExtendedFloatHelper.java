@@ -0,0 +1,543 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.runtime.floating;
+
+/**
+ * Exact x87 extended precision arithmetic on the sign, exponent and fraction fields of an
+ * {@link LLVM80BitFloat}. Results are rounded to nearest-even, which is what the x87 FPU does with
+ * its default control word. Unsupported encodings (pseudo-NaNs, pseudo-infinities and unnormals)
+ * are invalid operands and produce the indefinite NaN, as on current hardware.
+ */
+final class ExtendedFloatHelper {
+
+    private static final int EXPONENT_BIAS = 16383;
+    private static final int MAX_EXPONENT = 0x7FFF;
+    private static final long INTEGER_BIT = 0x80000000_00000000L;
+    private static final long QUIET_BIT = 0x40000000_00000000L;
+
+    static final LLVM80BitFloat INDEFINITE = new LLVM80BitFloat(true, MAX_EXPONENT, INTEGER_BIT | QUIET_BIT);
+
+    private static final int ZERO = 0;
+    private static final int FINITE = 1;
+    private static final int INFINITY = 2;
+    private static final int NAN = 3;
+    private static final int UNSUPPORTED = 4;
+
+    private ExtendedFloatHelper() {
+    }
+
+    private static int classify(LLVM80BitFloat x) {
+        int exponent = x.getExponent() & MAX_EXPONENT;
+        long fraction = x.getFraction();
+        if (exponent == MAX_EXPONENT) {
+            if ((fraction & INTEGER_BIT) == 0) {
+                return UNSUPPORTED;
+            }
+            return (fraction << 1) == 0 ? INFINITY : NAN;
+        } else if (exponent == 0) {
+            // denormals and pseudo-denormals are both finite
+            return fraction == 0 ? ZERO : FINITE;
+        } else {
+            return (fraction & INTEGER_BIT) == 0 ? UNSUPPORTED : FINITE;
+        }
+    }
+
+    /**
+     * The exponent of a finite value after shifting its fraction left until the integer bit is
+     * set. The result may be zero or negative for denormals.
+     */
+    private static int normalizedExponent(LLVM80BitFloat x) {
+        int exponent = x.getExponent() & MAX_EXPONENT;
+        return (exponent == 0 ? 1 : exponent) - Long.numberOfLeadingZeros(x.getFraction());
+    }
+
+    private static long normalizedFraction(LLVM80BitFloat x) {
+        return x.getFraction() << Long.numberOfLeadingZeros(x.getFraction());
+    }
+
+    private static LLVM80BitFloat zero(boolean sign) {
+        return new LLVM80BitFloat(sign, 0, 0);
+    }
+
+    private static LLVM80BitFloat infinity(boolean sign) {
+        return new LLVM80BitFloat(sign, MAX_EXPONENT, INTEGER_BIT);
+    }
+
+    private static LLVM80BitFloat quiet(LLVM80BitFloat nan) {
+        return new LLVM80BitFloat(nan.getSign(), MAX_EXPONENT, nan.getFraction() | QUIET_BIT);
+    }
+
+    /**
+     * Picks the NaN operand that the x87 FPU returns: a quiet NaN wins over a signaling one,
+     * otherwise the one with the larger significand.
+     */
+    private static LLVM80BitFloat propagateNaN(LLVM80BitFloat x, int xClass, LLVM80BitFloat y, int yClass) {
+        if (xClass != NAN) {
+            return quiet(y);
+        } else if (yClass != NAN) {
+            return quiet(x);
+        }
+        boolean xQuiet = (x.getFraction() & QUIET_BIT) != 0;
+        boolean yQuiet = (y.getFraction() & QUIET_BIT) != 0;
+        if (xQuiet != yQuiet) {
+            return quiet(xQuiet ? x : y);
+        }
+        int cmp = Long.compareUnsigned(x.getFraction(), y.getFraction());
+        if (cmp == 0) {
+            return quiet(x.getSign() ? y : x);
+        }
+        return quiet(cmp > 0 ? x : y);
+    }
+
+    /**
+     * Rounds the 128 bit significand {@code hi:lo}, whose integer bit is bit 63 of {@code hi}, to 64
+     * bits. Bit 0 of {@code lo} may hold a sticky bit for precision that was already shifted out.
+     */
+    private static LLVM80BitFloat round(boolean sign, int exponent, long hi, long lo) {
+        int e = exponent;
+        long h = hi;
+        long l = lo;
+        if (e <= 0) {
+            int shift = 1 - e;
+            long lost;
+            if (shift >= 128) {
+                lost = h | l;
+                l = 0;
+                h = 0;
+            } else if (shift >= 64) {
+                lost = shift == 64 ? l : l | (h << (128 - shift));
+                l = h >>> (shift - 64);
+                h = 0;
+            } else {
+                lost = l << (64 - shift);
+                l = (l >>> shift) | (h << (64 - shift));
+                h >>>= shift;
+            }
+            if (lost != 0) {
+                l |= 1;
+            }
+            e = 0;
+        }
+        boolean guard = l < 0;
+        if (guard && ((l << 1) != 0 || (h & 1) != 0)) {
+            h++;
+            if (h == 0) {
+                h = INTEGER_BIT;
+                e++;
+            } else if (e == 0 && h == INTEGER_BIT) {
+                e = 1;
+            }
+        }
+        if (e >= MAX_EXPONENT) {
+            return infinity(sign);
+        }
+        return new LLVM80BitFloat(sign, e, h);
+    }
+
+    private static LLVM80BitFloat normalize(LLVM80BitFloat x) {
+        return round(x.getSign(), normalizedExponent(x), normalizedFraction(x), 0);
+    }
+
+    static LLVM80BitFloat add(LLVM80BitFloat x, LLVM80BitFloat y) {
+        return add(x, y, false);
+    }
+
+    static LLVM80BitFloat sub(LLVM80BitFloat x, LLVM80BitFloat y) {
+        return add(x, y, true);
+    }
+
+    private static LLVM80BitFloat add(LLVM80BitFloat x, LLVM80BitFloat y, boolean subtract) {
+        int xClass = classify(x);
+        int yClass = classify(y);
+        if (xClass == UNSUPPORTED || yClass == UNSUPPORTED) {
+            return INDEFINITE;
+        } else if (xClass == NAN || yClass == NAN) {
+            return propagateNaN(x, xClass, y, yClass);
+        }
+        boolean xSign = x.getSign();
+        boolean ySign = y.getSign() ^ subtract;
+        if (xClass == INFINITY) {
+            return yClass == INFINITY && xSign != ySign ? INDEFINITE : infinity(xSign);
+        } else if (yClass == INFINITY) {
+            return infinity(ySign);
+        } else if (xClass == ZERO) {
+            return yClass == ZERO ? zero(xSign && ySign) : round(ySign, normalizedExponent(y), normalizedFraction(y), 0);
+        } else if (yClass == ZERO) {
+            return normalize(x);
+        }
+
+        int xExponent = normalizedExponent(x);
+        long xFraction = normalizedFraction(x);
+        int yExponent = normalizedExponent(y);
+        long yFraction = normalizedFraction(y);
+        if (xExponent < yExponent || (xExponent == yExponent && Long.compareUnsigned(xFraction, yFraction) < 0)) {
+            int tmpExponent = xExponent;
+            xExponent = yExponent;
+            yExponent = tmpExponent;
+            long tmpFraction = xFraction;
+            xFraction = yFraction;
+            yFraction = tmpFraction;
+            boolean tmpSign = xSign;
+            xSign = ySign;
+            ySign = tmpSign;
+        }
+
+        // align the smaller operand, collecting the bits shifted out beyond 128 bits in sticky
+        int shift = xExponent - yExponent;
+        long yHi;
+        long yLo;
+        boolean sticky;
+        if (shift == 0) {
+            yHi = yFraction;
+            yLo = 0;
+            sticky = false;
+        } else if (shift < 64) {
+            yHi = yFraction >>> shift;
+            yLo = yFraction << (64 - shift);
+            sticky = false;
+        } else if (shift < 128) {
+            yHi = 0;
+            yLo = yFraction >>> (shift - 64);
+            sticky = shift > 64 && (yFraction << (128 - shift)) != 0;
+        } else {
+            yHi = 0;
+            yLo = 0;
+            sticky = true;
+        }
+
+        long hi;
+        long lo;
+        int exponent = xExponent;
+        if (xSign == ySign) {
+            lo = yLo;
+            hi = xFraction + yHi;
+            if (Long.compareUnsigned(hi, xFraction) < 0) {
+                sticky |= (lo & 1) != 0;
+                lo = (lo >>> 1) | (hi << 63);
+                hi = (hi >>> 1) | INTEGER_BIT;
+                exponent++;
+            }
+        } else {
+            lo = -yLo;
+            hi = xFraction - yHi - (yLo != 0 ? 1 : 0);
+            if (sticky) {
+                // the exact result lies strictly between this and the next larger value
+                if (lo == 0) {
+                    hi--;
+                }
+                lo--;
+            }
+            if (hi == 0 && lo == 0) {
+                return zero(false);
+            }
+            int leadingZeros = hi != 0 ? Long.numberOfLeadingZeros(hi) : 64 + Long.numberOfLeadingZeros(lo);
+            if (leadingZeros >= 64) {
+                hi = lo << (leadingZeros - 64);
+                lo = 0;
+            } else if (leadingZeros > 0) {
+                hi = (hi << leadingZeros) | (lo >>> (64 - leadingZeros));
+                lo <<= leadingZeros;
+            }
+            exponent -= leadingZeros;
+        }
+        if (sticky) {
+            lo |= 1;
+        }
+        return round(xSign, exponent, hi, lo);
+    }
+
+    static LLVM80BitFloat mul(LLVM80BitFloat x, LLVM80BitFloat y) {
+        int xClass = classify(x);
+        int yClass = classify(y);
+        if (xClass == UNSUPPORTED || yClass == UNSUPPORTED) {
+            return INDEFINITE;
+        } else if (xClass == NAN || yClass == NAN) {
+            return propagateNaN(x, xClass, y, yClass);
+        }
+        boolean sign = x.getSign() ^ y.getSign();
+        if (xClass == INFINITY || yClass == INFINITY) {
+            return xClass == ZERO || yClass == ZERO ? INDEFINITE : infinity(sign);
+        } else if (xClass == ZERO || yClass == ZERO) {
+            return zero(sign);
+        }
+
+        long a = normalizedFraction(x);
+        long b = normalizedFraction(y);
+        long a0 = a & 0xFFFFFFFFL;
+        long a1 = a >>> 32;
+        long b0 = b & 0xFFFFFFFFL;
+        long b1 = b >>> 32;
+        long p00 = a0 * b0;
+        long p01 = a0 * b1;
+        long p10 = a1 * b0;
+        long mid = (p00 >>> 32) + (p01 & 0xFFFFFFFFL) + (p10 & 0xFFFFFFFFL);
+        long lo = (mid << 32) | (p00 & 0xFFFFFFFFL);
+        long hi = a1 * b1 + (p01 >>> 32) + (p10 >>> 32) + (mid >>> 32);
+
+        int exponent = normalizedExponent(x) + normalizedExponent(y) - EXPONENT_BIAS + 1;
+        if (hi >= 0) {
+            hi = (hi << 1) | (lo >>> 63);
+            lo <<= 1;
+            exponent--;
+        }
+        return round(sign, exponent, hi, lo);
+    }
+
+    static LLVM80BitFloat div(LLVM80BitFloat x, LLVM80BitFloat y) {
+        int xClass = classify(x);
+        int yClass = classify(y);
+        if (xClass == UNSUPPORTED || yClass == UNSUPPORTED) {
+            return INDEFINITE;
+        } else if (xClass == NAN || yClass == NAN) {
+            return propagateNaN(x, xClass, y, yClass);
+        }
+        boolean sign = x.getSign() ^ y.getSign();
+        if (xClass == INFINITY) {
+            return yClass == INFINITY ? INDEFINITE : infinity(sign);
+        } else if (yClass == INFINITY) {
+            return zero(sign);
+        } else if (yClass == ZERO) {
+            return xClass == ZERO ? INDEFINITE : infinity(sign);
+        } else if (xClass == ZERO) {
+            return zero(sign);
+        }
+
+        // restoring division yielding 66 quotient bits, the first of them the integer part
+        long divisor = normalizedFraction(y);
+        long remainder = normalizedFraction(x);
+        long qHi = 0;
+        long qLo = 0;
+        for (int i = 0; i < 66; i++) {
+            boolean carry = false;
+            if (i > 0) {
+                carry = remainder < 0;
+                remainder <<= 1;
+            }
+            qHi = (qHi << 1) | (qLo >>> 63);
+            qLo <<= 1;
+            if (carry || Long.compareUnsigned(remainder, divisor) >= 0) {
+                remainder -= divisor;
+                qLo |= 1;
+            }
+        }
+
+        int exponent = normalizedExponent(x) - normalizedExponent(y) + EXPONENT_BIAS;
+        long hi;
+        long lo;
+        if ((qHi & 2) != 0) {
+            hi = (qHi << 62) | (qLo >>> 2);
+            lo = qLo << 62;
+        } else {
+            hi = (qHi << 63) | (qLo >>> 1);
+            lo = qLo << 63;
+            exponent--;
+        }
+        if (remainder != 0) {
+            lo |= 1;
+        }
+        return round(sign, exponent, hi, lo);
+    }
+
+    /**
+     * The exact remainder of {@code x / y} with the quotient truncated towards zero, like
+     * {@code fmodl}. The result has the sign of {@code x}.
+     */
+    static LLVM80BitFloat rem(LLVM80BitFloat x, LLVM80BitFloat y) {
+        int xClass = classify(x);
+        int yClass = classify(y);
+        if (xClass == UNSUPPORTED || yClass == UNSUPPORTED) {
+            return INDEFINITE;
+        } else if (xClass == NAN || yClass == NAN) {
+            return propagateNaN(x, xClass, y, yClass);
+        } else if (xClass == INFINITY || yClass == ZERO) {
+            return INDEFINITE;
+        } else if (xClass == ZERO) {
+            return x;
+        } else if (yClass == INFINITY) {
+            return normalize(x);
+        }
+
+        int xExponent = normalizedExponent(x);
+        long xFraction = normalizedFraction(x);
+        int yExponent = normalizedExponent(y);
+        long yFraction = normalizedFraction(y);
+        if (xExponent < yExponent || (xExponent == yExponent && Long.compareUnsigned(xFraction, yFraction) < 0)) {
+            return normalize(x);
+        }
+
+        long remainder = xFraction;
+        if (Long.compareUnsigned(remainder, yFraction) >= 0) {
+            remainder -= yFraction;
+        }
+        for (int i = yExponent; i < xExponent; i++) {
+            boolean carry = remainder < 0;
+            remainder <<= 1;
+            if (carry || Long.compareUnsigned(remainder, yFraction) >= 0) {
+                remainder -= yFraction;
+            }
+        }
+        if (remainder == 0) {
+            return zero(x.getSign());
+        }
+        int leadingZeros = Long.numberOfLeadingZeros(remainder);
+        return round(x.getSign(), yExponent - leadingZeros, remainder << leadingZeros, 0);
+    }
+
+    /**
+     * Compares two ordered values. Positive and negative zero are equal.
+     */
+    static int compare(LLVM80BitFloat x, LLVM80BitFloat y) {
+        boolean xZero = x.getFraction() == 0;
+        boolean yZero = y.getFraction() == 0;
+        if (xZero && yZero) {
+            return 0;
+        } else if (x.getSign() != y.getSign()) {
+            return x.getSign() ? -1 : 1;
+        }
+        int magnitude;
+        if (xZero || yZero) {
+            magnitude = xZero ? -1 : 1;
+        } else {
+            int xExponent = normalizedExponent(x);
+            int yExponent = normalizedExponent(y);
+            if (xExponent != yExponent) {
+                magnitude = xExponent < yExponent ? -1 : 1;
+            } else {
+                magnitude = Long.compareUnsigned(normalizedFraction(x), normalizedFraction(y));
+            }
+        }
+        return x.getSign() ? -magnitude : magnitude;
+    }
+
+    /**
+     * Rounds to the raw bits of an IEEE binary format with the given field widths, e.g. 52 and 11
+     * for {@code double}.
+     */
+    static long toBinary(LLVM80BitFloat x, int fractionBits, int exponentBits) {
+        long signBit = x.getSign() ? 1L << (fractionBits + exponentBits) : 0;
+        int maxExponent = (1 << exponentBits) - 1;
+        long infinityBits = (long) maxExponent << fractionBits;
+        switch (classify(x)) {
+            case ZERO:
+                return signBit;
+            case INFINITY:
+                return signBit | infinityBits;
+            case NAN:
+                return signBit | infinityBits | (1L << (fractionBits - 1)) | ((x.getFraction() << 1) >>> (64 - fractionBits));
+            case UNSUPPORTED:
+                return toBinary(INDEFINITE, fractionBits, exponentBits);
+            default:
+                break;
+        }
+
+        int exponent = normalizedExponent(x) - EXPONENT_BIAS + (maxExponent >> 1);
+        if (exponent >= maxExponent) {
+            return signBit | infinityBits;
+        }
+        long fraction = normalizedFraction(x);
+        int shift = 63 - fractionBits;
+        if (exponent <= 0) {
+            shift += 1 - exponent;
+        }
+        long result;
+        boolean guard;
+        boolean rest;
+        if (shift > 64) {
+            result = 0;
+            guard = false;
+            rest = true;
+        } else if (shift == 64) {
+            result = 0;
+            guard = fraction < 0;
+            rest = (fraction << 1) != 0;
+        } else {
+            result = fraction >>> shift;
+            guard = ((fraction >>> (shift - 1)) & 1) != 0;
+            rest = (fraction << (65 - shift)) != 0;
+        }
+        if (guard && (rest || (result & 1) != 0)) {
+            result++;
+        }
+        // adding the significand with its integer bit carries into the exponent field
+        long bits = (exponent > 0 ? (long) (exponent - 1) << fractionBits : 0) + result;
+        if (bits >= infinityBits) {
+            return signBit | infinityBits;
+        }
+        return signBit | bits;
+    }
+
+    /**
+     * Converts the raw bits of an IEEE binary format with the given field widths exactly.
+     */
+    static LLVM80BitFloat fromBinary(long bits, int fractionBits, int exponentBits) {
+        boolean sign = ((bits >>> (fractionBits + exponentBits)) & 1) != 0;
+        int maxExponent = (1 << exponentBits) - 1;
+        int bias = maxExponent >> 1;
+        int exponent = (int) (bits >>> fractionBits) & maxExponent;
+        long fraction = bits & ((1L << fractionBits) - 1);
+        if (exponent == maxExponent) {
+            if (fraction == 0) {
+                return infinity(sign);
+            }
+            return new LLVM80BitFloat(sign, MAX_EXPONENT, INTEGER_BIT | QUIET_BIT | (fraction << (63 - fractionBits)));
+        } else if (exponent == 0) {
+            if (fraction == 0) {
+                return zero(sign);
+            }
+            int leadingZeros = Long.numberOfLeadingZeros(fraction);
+            return new LLVM80BitFloat(sign, 1 - bias - fractionBits - leadingZeros + 63 + EXPONENT_BIAS, fraction << leadingZeros);
+        } else {
+            return new LLVM80BitFloat(sign, exponent - bias + EXPONENT_BIAS, INTEGER_BIT | (fraction << (63 - fractionBits)));
+        }
+    }
+
+    /**
+     * Truncates towards zero. Returns {@link Long#MIN_VALUE}, the x87 integer indefinite, for NaNs,
+     * infinities and values out of range.
+     */
+    static long toLong(LLVM80BitFloat x) {
+        switch (classify(x)) {
+            case ZERO:
+                return 0;
+            case FINITE:
+                break;
+            default:
+                return Long.MIN_VALUE;
+        }
+        int exponent = normalizedExponent(x) - EXPONENT_BIAS;
+        if (exponent < 0) {
+            return 0;
+        } else if (exponent >= 63) {
+            return Long.MIN_VALUE;
+        }
+        long value = normalizedFraction(x) >>> (63 - exponent);
+        return x.getSign() ? -value : value;
+    }
+}
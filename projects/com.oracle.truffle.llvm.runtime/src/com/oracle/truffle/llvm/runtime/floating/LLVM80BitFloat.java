@@ -37,6 +37,7 @@ import javax.xml.bind.DatatypeConverter;
 
 import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.CompilerDirectives.ValueType;
 import com.oracle.truffle.api.dsl.Cached;
@@ -53,6 +54,7 @@ import com.oracle.truffle.llvm.runtime.floating.LLVM80BitFloatFactory.LLVM80BitF
 import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMArithmetic;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMNode;
+import com.oracle.truffle.llvm.runtime.options.SulongEngineOption;
 import com.oracle.truffle.llvm.runtime.pointer.LLVMNativePointer;
 
 @ValueType
@@ -120,26 +122,19 @@ public final class LLVM80BitFloat implements LLVMArithmetic {
     private static final byte UNDEFINED_FLOAT_TO_BYTE_VALUE = 0;
     private static final short UNDEFINED_FLOAT_TO_SHORT_VALUE = 0;
     private static final int UNDEFINED_FLOAT_TO_INT_VALUE = 0x80000000;
-    private static final long UNDEFINED_FLOAT_TO_LONG_VALUE = 0x8000000000000000L;
-
-    private static final long UNDEFINED_DOUBLE_VALUE = 0x80000000_00000000L;
 
     public static final int ALL_ONE_EXPONENT = 0b111111111111111;
 
     // all cached LLVM80BitFloat objects are escaping objects and must not be used directly
-    private static final LLVM80BitFloat DOUBLE_MINUS_INFINITY_CONVERSION_NUMBER = LLVM80BitFloat.fromRawValues(true, ALL_ONE_EXPONENT, UNDEFINED_DOUBLE_VALUE);
-    private static final LLVM80BitFloat DOUBLE_INFINITY_CONVERSION_NUMBER = LLVM80BitFloat.fromRawValues(false, ALL_ONE_EXPONENT, UNDEFINED_DOUBLE_VALUE);
-    private static final LLVM80BitFloat DOUBLE_NAN_CONVERSION_NUMBER = LLVM80BitFloat.fromRawValues(false, ALL_ONE_EXPONENT, 0xc000000000000000L);
-
     private static final LLVM80BitFloat POSITIVE_ZERO = new LLVM80BitFloat(false, 0, 0);
     private static final LLVM80BitFloat NEGATIVE_ZERO = new LLVM80BitFloat(true, 0, 0);
 
     private static final LLVM80BitFloat POSITIVE_INFINITY = new LLVM80BitFloat(false, ALL_ONE_EXPONENT, bit(63L));
     private static final LLVM80BitFloat NEGATIVE_INFINITY = new LLVM80BitFloat(true, ALL_ONE_EXPONENT, bit(63L));
 
-    private static final int EXPLICIT_LEADING_ONE_BITS = 1;
     private static final int EXPONENT_BIAS = 16383;
-    private static final int FLOAT_EXPONENT_BIAS = 127;
+    private static final int FLOAT_EXPONENT_BIT_WIDTH = 8;
+    private static final int DOUBLE_EXPONENT_BIT_WIDTH = 11;
 
     private final boolean sign;
     private final int biasedExponent; // 15 bit
@@ -157,10 +152,6 @@ public final class LLVM80BitFloat implements LLVMArithmetic {
         this.fraction = value.fraction;
     }
 
-    private int getUnbiasedExponent() {
-        return biasedExponent - EXPONENT_BIAS;
-    }
-
     private static long bit(int i) {
         return 1 << i;
     }
@@ -241,116 +232,11 @@ public final class LLVM80BitFloat implements LLVMArithmetic {
     }
 
     public static LLVM80BitFloat fromFloat(float val) {
-        boolean sign = val < 0;
-        if (FloatHelper.isPositiveZero(val)) {
-            return new LLVM80BitFloat(POSITIVE_ZERO);
-        } else if (FloatHelper.isNegativeZero(val)) {
-            return new LLVM80BitFloat(NEGATIVE_ZERO);
-        } else if (FloatHelper.isPositiveInfinty(val)) {
-            return new LLVM80BitFloat(DOUBLE_INFINITY_CONVERSION_NUMBER);
-        } else if (FloatHelper.isNegativeInfinity(val)) {
-            return new LLVM80BitFloat(DOUBLE_MINUS_INFINITY_CONVERSION_NUMBER);
-        } else if (FloatHelper.isNaN(val)) {
-            return new LLVM80BitFloat(DOUBLE_NAN_CONVERSION_NUMBER);
-        } else {
-            int rawValue = Float.floatToRawIntBits(val);
-            int floatExponent = FloatHelper.getUnbiasedExponent(val);
-            int biasedExponent = floatExponent + EXPONENT_BIAS;
-            long leadingOne = (long) EXPLICIT_LEADING_ONE_BITS << (FRACTION_BIT_WIDTH - 1);
-            long floatFraction = rawValue & FloatHelper.FRACTION_MASK;
-            long shiftedFloatFraction = floatFraction << (FRACTION_BIT_WIDTH - FloatHelper.FLOAT_FRACTION_BIT_WIDTH - EXPLICIT_LEADING_ONE_BITS);
-            long fraction = shiftedFloatFraction | leadingOne;
-            return LLVM80BitFloat.fromRawValues(sign, biasedExponent, fraction);
-        }
+        return ExtendedFloatHelper.fromBinary(Float.floatToRawIntBits(val) & BinaryHelper.INT_MASK, FloatHelper.FLOAT_FRACTION_BIT_WIDTH, FLOAT_EXPONENT_BIT_WIDTH);
     }
 
     public static LLVM80BitFloat fromDouble(double val) {
-        boolean sign = val < 0;
-        if (DoubleHelper.isPositiveZero(val)) {
-            return new LLVM80BitFloat(POSITIVE_ZERO);
-        } else if (DoubleHelper.isNegativeZero(val)) {
-            return new LLVM80BitFloat(NEGATIVE_ZERO);
-        } else if (DoubleHelper.isPositiveInfinty(val)) {
-            return new LLVM80BitFloat(DOUBLE_INFINITY_CONVERSION_NUMBER);
-        } else if (DoubleHelper.isNegativeInfinity(val)) {
-            return new LLVM80BitFloat(DOUBLE_MINUS_INFINITY_CONVERSION_NUMBER);
-        } else if (DoubleHelper.isNaN(val)) {
-            return new LLVM80BitFloat(DOUBLE_NAN_CONVERSION_NUMBER);
-        } else {
-            long rawValue = Double.doubleToRawLongBits(val);
-            int doubleExponent = DoubleHelper.getUnbiasedExponent(val);
-            int biasedExponent = doubleExponent + EXPONENT_BIAS;
-            long leadingOne = (long) EXPLICIT_LEADING_ONE_BITS << (FRACTION_BIT_WIDTH - 1);
-            long doubleFraction = rawValue & DoubleHelper.FRACTION_MASK;
-            long shiftedDoubleFraction = doubleFraction << (FRACTION_BIT_WIDTH - DoubleHelper.DOUBLE_FRACTION_BIT_WIDTH - EXPLICIT_LEADING_ONE_BITS);
-            long fraction = shiftedDoubleFraction | leadingOne;
-            return LLVM80BitFloat.fromRawValues(sign, biasedExponent, fraction);
-        }
-    }
-
-    private long getFractionAsLong() {
-        return fraction >>> (FRACTION_BIT_WIDTH - getUnbiasedExponent() - EXPLICIT_LEADING_ONE_BITS);
-    }
-
-    private long compareNoSign(LLVM80BitFloat val) {
-        if (getExponent() != val.getExponent()) {
-            return getExponent() - val.getExponent();
-        } else {
-            return (getFraction() - val.getFraction());
-        }
-    }
-
-    @SuppressWarnings("unused")
-    private LLVM80BitFloat add2(LLVM80BitFloat right) {
-        int leftExponent = getExponent();
-        int rightExponent = right.getExponent();
-        long leftFraction = getFraction();
-        long rightFraction = right.getFraction();
-
-        int shiftAmount = Math.abs(leftExponent - rightExponent);
-        if (leftExponent < rightExponent) {
-            leftFraction >>>= shiftAmount;
-            leftExponent = rightExponent;
-        } else {
-            rightFraction >>>= shiftAmount;
-            rightExponent = leftExponent;
-        }
-        boolean newSign;
-        if (getSign() == right.getSign()) {
-            newSign = getSign();
-        } else {
-            newSign = compareNoSign(right) < 0 ? right.getSign() : getSign();
-        }
-        boolean addition = getSign() == right.getSign();
-        long resultLo;
-        long resultHi;
-        long leftFractionLowerPart = leftFraction & BinaryHelper.getBitMask(Integer.SIZE);
-        long rightFractionLowerPart = rightFraction & BinaryHelper.getBitMask(Integer.SIZE);
-        long leftFractionHigherPart = leftFraction >>> Integer.SIZE;
-        long rightFractionHigherPart = rightFraction >>> Integer.SIZE;
-        if (addition) {
-            resultLo = -leftFractionLowerPart + rightFractionLowerPart;
-            long overFlowLowerPart = resultLo >>> Integer.SIZE;
-            resultHi = leftFractionHigherPart + rightFractionHigherPart + overFlowLowerPart;
-        } else if (getSign()) { // left is negative
-            resultLo = -leftFractionLowerPart + rightFractionLowerPart;
-            long overFlowLowerPart = resultLo >>> Integer.SIZE;
-            resultHi = -leftFractionHigherPart - rightFractionHigherPart - overFlowLowerPart;
-        } else {
-            resultLo = leftFractionLowerPart - rightFractionLowerPart;
-            long overFlowLowerPart = resultLo >>> Integer.SIZE;
-            resultHi = leftFractionHigherPart - rightFractionHigherPart - overFlowLowerPart;
-        }
-        int overFlow = (int) (resultHi >>> Integer.SIZE);
-        if (overFlow > 0) {
-            resultHi = resultHi >>> overFlow;
-            long lostBits = resultHi & overFlow;
-            long shiftedLostBits = lostBits << Integer.SIZE - overFlow;
-            resultLo = resultLo >>> overFlow | shiftedLostBits;
-        }
-        int newExponent = leftExponent + overFlow;
-        long newFraction = resultLo + resultHi << Integer.SIZE;
-        return LLVM80BitFloat.fromRawValues(newSign, newExponent, newFraction);
+        return ExtendedFloatHelper.fromBinary(Double.doubleToRawLongBits(val), (int) DoubleHelper.DOUBLE_FRACTION_BIT_WIDTH, DOUBLE_EXPONENT_BIT_WIDTH);
     }
 
     public LLVM80BitFloat abs() {
@@ -406,43 +292,7 @@ public final class LLVM80BitFloat implements LLVMArithmetic {
     }
 
     int compareOrdered(LLVM80BitFloat val) {
-        if (isNegativeInfinity()) {
-            if (val.isNegativeInfinity()) {
-                return 0;
-            } else {
-                return -1;
-            }
-        }
-        if (val.isNegativeInfinity()) {
-            if (isNegativeInfinity()) {
-                return 0;
-            } else {
-                return 1;
-            }
-        }
-        if (getSign() == val.getSign()) {
-            int expDifference = getExponent() - val.getExponent();
-            if (expDifference == 0) {
-                long fractionDifference = getFraction() - val.getFraction();
-                if (fractionDifference == 0) {
-                    return 0;
-                } else if (fractionDifference < 0) {
-                    return -1;
-                } else {
-                    return 1;
-                }
-            } else {
-                return expDifference;
-            }
-        } else {
-            if (isZero() && val.isZero()) {
-                return 0;
-            } else if (getSign()) {
-                return -1;
-            } else {
-                return 1;
-            }
-        }
+        return ExtendedFloatHelper.compare(this, val);
     }
 
     public short getExponent() {
@@ -525,8 +375,7 @@ public final class LLVM80BitFloat implements LLVMArithmetic {
         if (isNaN() || isInfinity()) {
             return UNDEFINED_FLOAT_TO_BYTE_VALUE;
         } else {
-            long value = getFractionAsLong();
-            return (byte) (sign ? -value : value);
+            return (byte) ExtendedFloatHelper.toLong(this);
         }
     }
 
@@ -534,69 +383,28 @@ public final class LLVM80BitFloat implements LLVMArithmetic {
         if (isNaN() || isInfinity()) {
             return UNDEFINED_FLOAT_TO_SHORT_VALUE;
         } else {
-            long value = getFractionAsLong();
-            return (short) (sign ? -value : value);
+            return (short) ExtendedFloatHelper.toLong(this);
         }
     }
 
     public int getIntValue() {
-        if (isNaN() || isInfinity()) {
+        long value = ExtendedFloatHelper.toLong(this);
+        if (value != (int) value) {
             return UNDEFINED_FLOAT_TO_INT_VALUE;
         }
-        int value = (int) getFractionAsLong();
-        return sign ? -value : value;
+        return (int) value;
     }
 
     public long getLongValue() {
-        if (isNaN() || isInfinity()) {
-            return UNDEFINED_FLOAT_TO_LONG_VALUE;
-        } else {
-            long value = getFractionAsLong();
-            return sign ? -value : value;
-        }
+        return ExtendedFloatHelper.toLong(this);
     }
 
     public float getFloatValue() {
-        if (isPositiveZero()) {
-            return FloatHelper.POSITIVE_ZERO;
-        } else if (isNegativeZero()) {
-            return FloatHelper.NEGATIVE_ZERO;
-        } else if (isPositiveInfinity()) {
-            return FloatHelper.POSITIVE_INFINITY;
-        } else if (isNegativeInfinity()) {
-            return FloatHelper.NEGATIVE_INFINITY;
-        } else if (isNaN()) {
-            return FloatHelper.NaN;
-        } else {
-            int floatExponent = getUnbiasedExponent() + FLOAT_EXPONENT_BIAS;
-            long longFraction = (getFractionWithoutImplicitZero()) >>> (FRACTION_BIT_WIDTH - FloatHelper.FLOAT_FRACTION_BIT_WIDTH);
-            int floatFraction = (int) longFraction;
-            int shiftedSignBit = (getSign() ? 1 : 0) << FloatHelper.FLOAT_SIGN_POS;
-            int shiftedExponent = floatExponent << FloatHelper.FLOAT_FRACTION_BIT_WIDTH;
-            int rawVal = floatFraction | shiftedExponent | shiftedSignBit;
-            return Float.intBitsToFloat(rawVal);
-        }
+        return Float.intBitsToFloat((int) ExtendedFloatHelper.toBinary(this, FloatHelper.FLOAT_FRACTION_BIT_WIDTH, FLOAT_EXPONENT_BIT_WIDTH));
     }
 
     public double getDoubleValue() {
-        if (isPositiveZero()) {
-            return DoubleHelper.POSITIVE_ZERO;
-        } else if (isNegativeZero()) {
-            return DoubleHelper.NEGATIVE_ZERO;
-        } else if (isPositiveInfinity()) {
-            return DoubleHelper.POSITIVE_INFINITY;
-        } else if (isNegativeInfinity()) {
-            return DoubleHelper.NEGATIVE_INFINITY;
-        } else if (isNaN()) {
-            return DoubleHelper.NaN;
-        } else {
-            int doubleExponent = getUnbiasedExponent() + DoubleHelper.DOUBLE_EXPONENT_BIAS;
-            long doubleFraction = (getFractionWithoutImplicitZero()) >>> (FRACTION_BIT_WIDTH - DoubleHelper.DOUBLE_FRACTION_BIT_WIDTH);
-            long shiftedSignBit = (getSign() ? 1L : 0L) << DoubleHelper.DOUBLE_SIGN_POS;
-            long shiftedExponent = (long) doubleExponent << DoubleHelper.DOUBLE_FRACTION_BIT_WIDTH;
-            long rawVal = doubleFraction | shiftedExponent | shiftedSignBit;
-            return Double.longBitsToDouble(rawVal);
-        }
+        return Double.longBitsToDouble(ExtendedFloatHelper.toBinary(this, (int) DoubleHelper.DOUBLE_FRACTION_BIT_WIDTH, DOUBLE_EXPONENT_BIT_WIDTH));
     }
 
     public LLVM80BitFloat negate() {
@@ -634,6 +442,29 @@ public final class LLVM80BitFloat implements LLVMArithmetic {
         return val1.compareOrdered(val2);
     }
 
+    public static LLVM80BitFloat add(LLVM80BitFloat x, LLVM80BitFloat y) {
+        return ExtendedFloatHelper.add(x, y);
+    }
+
+    public static LLVM80BitFloat sub(LLVM80BitFloat x, LLVM80BitFloat y) {
+        return ExtendedFloatHelper.sub(x, y);
+    }
+
+    public static LLVM80BitFloat mul(LLVM80BitFloat x, LLVM80BitFloat y) {
+        return ExtendedFloatHelper.mul(x, y);
+    }
+
+    public static LLVM80BitFloat div(LLVM80BitFloat x, LLVM80BitFloat y) {
+        return ExtendedFloatHelper.div(x, y);
+    }
+
+    /**
+     * The remainder of {@code x / y} with the quotient truncated towards zero, like {@code fmodl}.
+     */
+    public static LLVM80BitFloat rem(LLVM80BitFloat x, LLVM80BitFloat y) {
+        return ExtendedFloatHelper.rem(x, y);
+    }
+
     public static LLVM80BitFloat fromString(String stringValue) {
         if (stringValue.length() != HEX_WIDTH) {
             throw new IllegalArgumentException("unexpected length of input string!");
@@ -714,13 +545,22 @@ public final class LLVM80BitFloat implements LLVMArithmetic {
         }
     }
 
-    static class LLVM80BitFloatOpNode extends LLVMArithmeticOpNode {
+    /**
+     * Computes in Java unless {@link SulongEngineOption#FP80_NATIVE} asks for the native
+     * implementation, which is only kept for comparison.
+     */
+    abstract static class LLVM80BitFloatOpNode extends LLVMArithmeticOpNode {
+        private final String op;
+
+        @CompilationFinal private boolean initialized;
         @Child private LLVM80BitFloatNativeCallNode node;
 
         LLVM80BitFloatOpNode(String op) {
-            node = LLVM80BitFloatNativeCallNodeGen.create(op);
+            this.op = op;
         }
 
+        protected abstract LLVM80BitFloat doOperation(LLVM80BitFloat x, LLVM80BitFloat y);
+
         @Override
         public boolean canCompute(Object x, Object y) {
             return x instanceof LLVM80BitFloat && y instanceof LLVM80BitFloat;
@@ -728,35 +568,71 @@ public final class LLVM80BitFloat implements LLVMArithmetic {
 
         @Override
         public LLVM80BitFloat execute(Object x, Object y) {
+            if (!initialized) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                LLVMContext context = lookupContextReference(LLVMLanguage.class).get();
+                if (context.getEnv().getOptions().get(SulongEngineOption.FP80_NATIVE)) {
+                    node = insert(LLVM80BitFloatNativeCallNodeGen.create(op));
+                }
+                initialized = true;
+            }
             LLVM80BitFloat a = (LLVM80BitFloat) x;
             LLVM80BitFloat b = (LLVM80BitFloat) y;
-            return node.execute(a, b);
+            if (node != null) {
+                return node.execute(a, b);
+            }
+            return doOperation(a, b);
         }
     }
 
     @Override
     public LLVMArithmeticOpNode createAddNode() {
-        return new LLVM80BitFloatOpNode("add");
+        return new LLVM80BitFloatOpNode("add") {
+            @Override
+            protected LLVM80BitFloat doOperation(LLVM80BitFloat x, LLVM80BitFloat y) {
+                return add(x, y);
+            }
+        };
     }
 
     @Override
     public LLVMArithmeticOpNode createSubNode() {
-        return new LLVM80BitFloatOpNode("sub");
+        return new LLVM80BitFloatOpNode("sub") {
+            @Override
+            protected LLVM80BitFloat doOperation(LLVM80BitFloat x, LLVM80BitFloat y) {
+                return sub(x, y);
+            }
+        };
     }
 
     @Override
     public LLVMArithmeticOpNode createMulNode() {
-        return new LLVM80BitFloatOpNode("mul");
+        return new LLVM80BitFloatOpNode("mul") {
+            @Override
+            protected LLVM80BitFloat doOperation(LLVM80BitFloat x, LLVM80BitFloat y) {
+                return mul(x, y);
+            }
+        };
     }
 
     @Override
     public LLVMArithmeticOpNode createDivNode() {
-        return new LLVM80BitFloatOpNode("div");
+        return new LLVM80BitFloatOpNode("div") {
+            @Override
+            protected LLVM80BitFloat doOperation(LLVM80BitFloat x, LLVM80BitFloat y) {
+                return div(x, y);
+            }
+        };
     }
 
     @Override
     public LLVMArithmeticOpNode createRemNode() {
-        return new LLVM80BitFloatOpNode("mod");
+        return new LLVM80BitFloatOpNode("mod") {
+            @Override
+            protected LLVM80BitFloat doOperation(LLVM80BitFloat x, LLVM80BitFloat y) {
+                return rem(x, y);
+            }
+        };
     }
 
     @Override
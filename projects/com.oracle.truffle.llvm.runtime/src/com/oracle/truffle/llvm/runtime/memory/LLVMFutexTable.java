@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.runtime.memory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The wait queues of the {@code futex} system call. Waiters are kept in a fixed number of buckets
+ * that are selected by the futex address, so that threads waiting on unrelated futexes rarely
+ * contend on the same lock.
+ *
+ * As in the kernel, the value of the futex word is compared under the bucket lock before the
+ * waiter is enqueued. A thread that changes the futex word before calling {@link #wake} therefore
+ * either prevents the wait or finds the waiter in the queue, and no wakeup is lost.
+ */
+public final class LLVMFutexTable {
+
+    private static final int BUCKET_COUNT = 64;
+
+    public enum WaitResult {
+        WOKEN,
+        VALUE_CHANGED,
+        TIMED_OUT,
+        INTERRUPTED
+    }
+
+    private static final class Waiter {
+        private final long address;
+        private final Thread thread;
+        private volatile boolean woken;
+
+        private Waiter(long address, Thread thread) {
+            this.address = address;
+            this.thread = thread;
+        }
+    }
+
+    private static final class Bucket {
+        private final ArrayList<Waiter> waiters = new ArrayList<>();
+    }
+
+    private final Bucket[] buckets;
+
+    public LLVMFutexTable() {
+        buckets = new Bucket[BUCKET_COUNT];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    private Bucket getBucket(long address) {
+        long hash = (address >>> 2) * 0x9E3779B97F4A7C15L;
+        return buckets[(int) (hash >>> 58) & (BUCKET_COUNT - 1)];
+    }
+
+    /**
+     * Blocks the current thread until it is woken by {@link #wake}, if the 32 bit value at
+     * {@code address} equals {@code expected}.
+     *
+     * @param timeoutNanos the maximum time to wait, or a negative value to wait without timeout
+     */
+    public WaitResult await(LLVMMemory memory, long address, int expected, long timeoutNanos) {
+        Bucket bucket = getBucket(address);
+        Waiter waiter = new Waiter(address, Thread.currentThread());
+        synchronized (bucket) {
+            if (memory.getI32(address) != expected) {
+                return WaitResult.VALUE_CHANGED;
+            }
+            bucket.waiters.add(waiter);
+        }
+
+        long deadline = timeoutNanos >= 0 ? System.nanoTime() + timeoutNanos : 0;
+        while (!waiter.woken) {
+            // the interrupt is consumed by turning it into EINTR, otherwise a guest that retries
+            // the wait would find it pending again and spin
+            if (Thread.interrupted()) {
+                return dequeue(bucket, waiter, WaitResult.INTERRUPTED);
+            }
+            if (timeoutNanos >= 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return dequeue(bucket, waiter, WaitResult.TIMED_OUT);
+                }
+                LockSupport.parkNanos(this, remaining);
+            } else {
+                LockSupport.park(this);
+            }
+        }
+        return WaitResult.WOKEN;
+    }
+
+    private static WaitResult dequeue(Bucket bucket, Waiter waiter, WaitResult result) {
+        synchronized (bucket) {
+            if (bucket.waiters.remove(waiter)) {
+                return result;
+            }
+        }
+        // a concurrent wake already dequeued this waiter and counted it as woken
+        return WaitResult.WOKEN;
+    }
+
+    /**
+     * Wakes at most {@code count} threads that wait on {@code address}, in the order in which they
+     * started waiting.
+     *
+     * @return the number of woken threads
+     */
+    public int wake(long address, int count) {
+        Bucket bucket = getBucket(address);
+        ArrayList<Waiter> woken = new ArrayList<>();
+        synchronized (bucket) {
+            Iterator<Waiter> it = bucket.waiters.iterator();
+            while (woken.size() < count && it.hasNext()) {
+                Waiter waiter = it.next();
+                if (waiter.address == address) {
+                    it.remove();
+                    waiter.woken = true;
+                    woken.add(waiter);
+                }
+            }
+        }
+        for (Waiter waiter : woken) {
+            LockSupport.unpark(waiter.thread);
+        }
+        return woken.size();
+    }
+}
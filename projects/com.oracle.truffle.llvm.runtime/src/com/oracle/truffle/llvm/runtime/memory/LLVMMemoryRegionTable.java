@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.runtime.memory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * The memory mappings that the program created with {@code mmap}. Each region records its page
+ * aligned address range together with its protection and mapping flags.
+ *
+ * Only memory that is listed here may be unmapped, re-protected or advised by the program, so that
+ * a stray {@code munmap} cannot release memory that Sulong itself allocated. Operations on a part
+ * of a region split it, like the kernel splits its VMAs.
+ */
+public final class LLVMMemoryRegionTable {
+
+    public static final class Region {
+        private final long start;
+        private final long end;
+        private final int prot;
+        private final int flags;
+
+        private Region(long start, long end, int prot, int flags) {
+            this.start = start;
+            this.end = end;
+            this.prot = prot;
+            this.flags = flags;
+        }
+
+        public long getStart() {
+            return start;
+        }
+
+        public long getLength() {
+            return end - start;
+        }
+
+        public int getProt() {
+            return prot;
+        }
+
+        public int getFlags() {
+            return flags;
+        }
+    }
+
+    private final TreeMap<Long, Region> regions = new TreeMap<>();
+
+    /**
+     * Records a new mapping. Regions that overlap it (which happens with {@code MAP_FIXED}) are
+     * replaced.
+     */
+    @TruffleBoundary
+    public synchronized void add(long start, long length, int prot, int flags) {
+        removeRange(start, start + length);
+        regions.put(start, new Region(start, start + length, prot, flags));
+    }
+
+    /**
+     * Checks whether every page of the range belongs to a mapping.
+     */
+    @TruffleBoundary
+    public synchronized boolean covers(long start, long length) {
+        long end = start + length;
+        long next = start;
+        Map.Entry<Long, Region> floor = regions.floorEntry(start);
+        Iterator<Region> it = regions.tailMap(floor == null ? start : floor.getKey(), true).values().iterator();
+        while (next < end && it.hasNext()) {
+            Region region = it.next();
+            if (region.start > next) {
+                return false;
+            }
+            next = Math.max(next, region.end);
+        }
+        return next >= end;
+    }
+
+    /**
+     * Returns the parts of the range that are mapped, in ascending order, without changing the
+     * table.
+     */
+    @TruffleBoundary
+    public synchronized Region[] get(long start, long length) {
+        long end = start + length;
+        Map.Entry<Long, Region> floor = regions.lowerEntry(start);
+        long from = floor != null && floor.getValue().end > start ? floor.getKey() : start;
+        List<Region> parts = new ArrayList<>();
+        for (Region region : regions.subMap(from, end).values()) {
+            parts.add(new Region(Math.max(start, region.start), Math.min(end, region.end), region.prot, region.flags));
+        }
+        return parts.toArray(new Region[parts.size()]);
+    }
+
+    /**
+     * Removes the range from the table and returns the parts of it that were mapped, in ascending
+     * order. Parts of the range that were never mapped are ignored, like the kernel does.
+     */
+    @TruffleBoundary
+    public synchronized Region[] remove(long start, long length) {
+        List<Region> removed = removeRange(start, start + length);
+        return removed.toArray(new Region[removed.size()]);
+    }
+
+    /**
+     * Changes the protection of a range. The caller has to make sure that the range is
+     * {@linkplain #covers covered}.
+     */
+    @TruffleBoundary
+    public synchronized void protect(long start, long length, int prot) {
+        long end = start + length;
+        for (Region region : removeRange(start, end)) {
+            regions.put(region.start, new Region(region.start, region.end, prot, region.flags));
+        }
+    }
+
+    private List<Region> removeRange(long start, long end) {
+        split(start);
+        split(end);
+        Map<Long, Region> overlapping = regions.subMap(start, end);
+        List<Region> removed = new ArrayList<>(overlapping.values());
+        overlapping.clear();
+        return removed;
+    }
+
+    /**
+     * Splits the region that contains the address, so that a region starts at the address.
+     */
+    private void split(long address) {
+        Map.Entry<Long, Region> floor = regions.lowerEntry(address);
+        if (floor != null) {
+            Region region = floor.getValue();
+            if (address < region.end) {
+                regions.put(region.start, new Region(region.start, address, region.prot, region.flags));
+                regions.put(address, new Region(address, region.end, region.prot, region.flags));
+            }
+        }
+    }
+}
@@ -30,6 +30,11 @@
 package com.oracle.truffle.llvm.runtime.memory;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.IntBinaryOperator;
 import java.util.function.LongBinaryOperator;
 
@@ -199,6 +204,12 @@ public final class LLVMNativeMemory extends LLVMMemory {
             CompilerDirectives.transferToInterpreter();
             throw new AssertionError();
         }
+        if (bitWidth == LLVMIVarBit.MAX_TWO_LONGS_BITS) {
+            long ptr = addr.asNative();
+            return LLVMIVarBit.fromLongs(bitWidth, getI64(ptr), getI64(ptr + Long.BYTES));
+        } else if (bitWidth < LLVMIVarBit.MAX_TWO_LONGS_BITS) {
+            return getSmallIVarBit(addr.asNative(), bitWidth);
+        }
         int bytes = bitWidth / Byte.SIZE;
         byte[] loadedBytes = new byte[bytes];
         long currentAddressPtr = addr.asNative();
@@ -209,6 +220,20 @@ public final class LLVMNativeMemory extends LLVMMemory {
         return LLVMIVarBit.create(bitWidth, loadedBytes, bitWidth, false);
     }
 
+    private LLVMIVarBit getSmallIVarBit(long ptr, int bitWidth) {
+        long lo = 0;
+        long hi = 0;
+        for (int i = 0; i < bitWidth / Byte.SIZE; i++) {
+            long value = getI8(ptr + i) & 0xFFL;
+            if (i < Long.BYTES) {
+                lo |= value << (i * Byte.SIZE);
+            } else {
+                hi |= value << ((i - Long.BYTES) * Byte.SIZE);
+            }
+        }
+        return LLVMIVarBit.fromLongs(bitWidth, lo, hi);
+    }
+
     @Override
     public long getI64(long ptr) {
         assert checkPointer(ptr);
@@ -276,6 +301,10 @@ public final class LLVMNativeMemory extends LLVMMemory {
 
     @Override
     public void putIVarBit(LLVMNativePointer addr, LLVMIVarBit value) {
+        if (value.fitsInTwoLongs()) {
+            putSmallIVarBit(addr.asNative(), value);
+            return;
+        }
         byte[] bytes = value.getBytes();
         long currentptr = addr.asNative();
         for (int i = bytes.length - 1; i >= 0; i--) {
@@ -284,6 +313,19 @@ public final class LLVMNativeMemory extends LLVMMemory {
         }
     }
 
+    private void putSmallIVarBit(long ptr, LLVMIVarBit value) {
+        int byteSize = (value.getBitSize() + Byte.SIZE - 1) / Byte.SIZE;
+        if (byteSize == 2 * Long.BYTES) {
+            putI64(ptr, value.getLowBits());
+            putI64(ptr + Long.BYTES, value.getHighBits());
+            return;
+        }
+        for (int i = 0; i < byteSize; i++) {
+            long bits = i < Long.BYTES ? value.getLowBits() : value.getHighBits();
+            putI8(ptr + i, (byte) (bits >>> ((i % Long.BYTES) * Byte.SIZE)));
+        }
+    }
+
     @Override
     public void putByteArray(long ptr, byte[] bytes) {
         long currentptr = ptr;
@@ -547,24 +589,34 @@ public final class LLVMNativeMemory extends LLVMMemory {
         return DEREF_HANDLE_OBJECT_SIZE - 1;
     }
 
+    /**
+     * Lock-free allocator for handle addresses. Fresh handles are bump-allocated from chunks that
+     * are reserved per shard (selected by the id of the current thread), freed handles are pushed
+     * on a CAS-based free stack, and an allocation bitmap detects double frees in constant time.
+     */
     private abstract static class HandleContainer {
+        /* must be a power of 2 */
+        private static final int SHARD_COUNT = 64;
+        private static final int CHUNK_OBJECTS = 64;
+
         protected final long rangeStart;
         protected final long rangeEnd;
         protected final long objectSize;
+        private final int objectShift;
 
-        private long top;
-        private FreeListNode freeList;
-
-        private final Object freeListLock = new Object();
-        private final Object topLock = new Object();
+        private final AtomicLong top;
+        private final AtomicReference<FreeListNode> freeList = new AtomicReference<>();
+        private final AtomicReferenceArray<Chunk> shards = new AtomicReferenceArray<>(SHARD_COUNT);
+        private final AllocationBitmap allocated = new AllocationBitmap();
 
         HandleContainer(long startAddr, long endAddr, long objectSize) {
             this.rangeStart = startAddr;
             this.rangeEnd = endAddr;
-            this.top = startAddr;
+            this.top = new AtomicLong(startAddr);
 
             assert isPowerOfTwo(objectSize);
             this.objectSize = objectSize;
+            this.objectShift = Long.numberOfTrailingZeros(objectSize);
         }
 
         protected static final class FreeListNode {
@@ -577,57 +629,98 @@ public final class LLVMNativeMemory extends LLVMMemory {
             private final FreeListNode next;
         }
 
+        /**
+         * A range of handle addresses that is reserved for one shard. The cursor is advanced with
+         * an atomic increment, so threads that happen to share a shard never block each other.
+         */
+        private static final class Chunk {
+            private final AtomicLong cursor;
+            private final long end;
+
+            Chunk(long start, long end) {
+                this.cursor = new AtomicLong(start);
+                this.end = end;
+            }
+        }
+
         abstract boolean accept(long address);
 
+        @TruffleBoundary
         long allocate() {
-
             // preferably consume from free list
-            synchronized (freeListLock) {
-                if (freeList != null) {
-                    FreeListNode n = freeList;
-                    freeList = n.next;
-                    return n.address;
-                }
+            long addr = popFreeList();
+            if (addr == 0) {
+                addr = allocateFromChunk();
             }
+            boolean wasFree = allocated.set(getSlot(addr));
+            assert wasFree : "handle " + Long.toHexString(addr) + " is already allocated";
+            return addr;
+        }
 
-            synchronized (topLock) {
-                long addr = top;
-                assert top >= rangeStart;
-                top += objectSize;
-                if (!accept(top)) {
-                    CompilerDirectives.transferToInterpreter();
-                    throw new OutOfMemoryError();
+        private long popFreeList() {
+            FreeListNode head;
+            do {
+                head = freeList.get();
+                if (head == null) {
+                    return 0;
                 }
-                return addr;
-            }
+            } while (!freeList.compareAndSet(head, head.next));
+            return head.address;
         }
 
-        boolean isAllocated(long address) {
-            synchronized (topLock) {
-                if (!(address >= rangeStart && address < top)) {
-                    return false;
-                }
-            }
+        private void pushFreeList(long address) {
+            FreeListNode head;
+            FreeListNode node;
+            do {
+                head = freeList.get();
+                node = new FreeListNode(address, head);
+            } while (!freeList.compareAndSet(head, node));
+        }
 
-            synchronized (freeListLock) {
-                for (FreeListNode cur = freeList; cur != null; cur = cur.next) {
-                    if (cur.address == address) {
-                        return false;
+        private long allocateFromChunk() {
+            int shard = (int) (Thread.currentThread().getId() & (SHARD_COUNT - 1));
+            while (true) {
+                Chunk chunk = shards.get(shard);
+                if (chunk != null) {
+                    long addr = chunk.cursor.getAndAdd(objectSize);
+                    if (Long.compareUnsigned(addr - rangeStart, chunk.end - rangeStart) < 0) {
+                        return addr;
+                    }
+                }
+                Chunk fresh = reserveChunk();
+                if (!shards.compareAndSet(shard, chunk, fresh)) {
+                    // another thread refilled this shard, give the reserved range back
+                    for (long addr = fresh.cursor.get(); addr != fresh.end; addr += objectSize) {
+                        pushFreeList(addr);
                     }
                 }
             }
-            return true;
+        }
+
+        private Chunk reserveChunk() {
+            long chunkSize = objectSize * CHUNK_OBJECTS;
+            long start = top.getAndAdd(chunkSize);
+            long end = start + chunkSize;
+            if (Long.compareUnsigned(end - rangeStart, rangeEnd - rangeStart) > 0) {
+                CompilerDirectives.transferToInterpreter();
+                throw new OutOfMemoryError();
+            }
+            return new Chunk(start, end);
+        }
+
+        private long getSlot(long address) {
+            return (address - rangeStart) >>> objectShift;
         }
 
         @TruffleBoundary
         void free(long address) {
-            if (!isAllocated(address)) {
+            // We need to mask because we allow creating handles with an offset.
+            long base = address & ~getObjectMask();
+            long offset = base - rangeStart;
+            if (Long.compareUnsigned(offset, top.get() - rangeStart) >= 0 || !allocated.clear(offset >>> objectShift)) {
                 throw new IllegalStateException("double-free of " + Long.toHexString(address));
             }
-            synchronized (freeListLock) {
-                // We need to mask because we allow creating handles with an offset.
-                freeList = new FreeListNode(address & ~getObjectMask(), freeList);
-            }
+            pushFreeList(base);
         }
 
         private long getObjectMask() {
@@ -639,6 +732,78 @@ public final class LLVMNativeMemory extends LLVMMemory {
         }
     }
 
+    /**
+     * A bitmap with one bit per handle slot. The bitmap is split into pages that are created on
+     * demand, so that only the part of the handle space that was actually handed out is backed by
+     * memory. All updates are done with CAS on the individual words.
+     */
+    private static final class AllocationBitmap {
+        private static final int PAGE_BITS = 16;
+        private static final int WORDS_PER_PAGE = 1 << (PAGE_BITS - 6);
+
+        private final AtomicReference<AtomicLongArray[]> pages = new AtomicReference<>(new AtomicLongArray[0]);
+
+        /**
+         * Marks the slot as allocated. Returns {@code false} if it was already allocated.
+         */
+        boolean set(long slot) {
+            AtomicLongArray page = getOrCreatePage(slot >>> PAGE_BITS);
+            int word = (int) (slot >>> 6) & (WORDS_PER_PAGE - 1);
+            long bit = 1L << slot;
+            long old;
+            do {
+                old = page.get(word);
+                if ((old & bit) != 0) {
+                    return false;
+                }
+            } while (!page.compareAndSet(word, old, old | bit));
+            return true;
+        }
+
+        /**
+         * Marks the slot as free. Returns {@code false} if it was not allocated.
+         */
+        boolean clear(long slot) {
+            AtomicLongArray page = getPage(slot >>> PAGE_BITS);
+            if (page == null) {
+                return false;
+            }
+            int word = (int) (slot >>> 6) & (WORDS_PER_PAGE - 1);
+            long bit = 1L << slot;
+            long old;
+            do {
+                old = page.get(word);
+                if ((old & bit) == 0) {
+                    return false;
+                }
+            } while (!page.compareAndSet(word, old, old & ~bit));
+            return true;
+        }
+
+        private AtomicLongArray getPage(long index) {
+            AtomicLongArray[] current = pages.get();
+            return index < current.length ? current[(int) index] : null;
+        }
+
+        private AtomicLongArray getOrCreatePage(long index) {
+            if (index >= Integer.MAX_VALUE) {
+                CompilerDirectives.transferToInterpreter();
+                throw new OutOfMemoryError();
+            }
+            while (true) {
+                AtomicLongArray[] current = pages.get();
+                if (index < current.length && current[(int) index] != null) {
+                    return current[(int) index];
+                }
+                AtomicLongArray[] grown = Arrays.copyOf(current, Math.max(current.length, (int) index + 1));
+                grown[(int) index] = new AtomicLongArray(WORDS_PER_PAGE);
+                if (pages.compareAndSet(current, grown)) {
+                    return grown[(int) index];
+                }
+            }
+        }
+    }
+
     private static final class DerefHandleContainer extends HandleContainer {
 
         DerefHandleContainer(long startAddr, long endAddr, long objectSize) {
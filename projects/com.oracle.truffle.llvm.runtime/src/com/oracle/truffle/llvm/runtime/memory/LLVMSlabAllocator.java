@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.runtime.memory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.llvm.runtime.pointer.LLVMNativePointer;
+
+/**
+ * A size-class allocator for {@code malloc}, {@code calloc}, {@code realloc} and {@code free}.
+ *
+ * Small blocks are carved from 64 KiB chunks, each of which holds slots of a single size class.
+ * The chunk of a block, and therefore its size, is found from the block address, so no header is
+ * needed and {@link #free} can tell blocks of this allocator from blocks of the system allocator.
+ * Larger blocks are passed on to the system allocator.
+ *
+ * Every thread has a cache of free slots per size class and only takes the lock of a size class
+ * to exchange a batch of slots with it. The cache keeps slots that were never used apart from
+ * slots that were freed: chunks are zeroed once when they are carved, so {@code calloc} can be
+ * served from never used slots without clearing them.
+ */
+public final class LLVMSlabAllocator {
+
+    private static final int CHUNK_SHIFT = 16;
+    private static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+    private static final int CHUNKS_PER_REGION = 16;
+
+    private static final int SMALL_CLASS_COUNT = 16;
+    private static final int CLASS_COUNT = 32;
+    private static final long[] SLOT_SIZES = new long[CLASS_COUNT];
+    private static final long MAX_SLOT_SIZE;
+
+    private static final int CACHE_SIZE = 64;
+    private static final int BATCH_SIZE = CACHE_SIZE / 2;
+
+    static {
+        for (int i = 0; i < SMALL_CLASS_COUNT; i++) {
+            SLOT_SIZES[i] = (i + 1) * 16L;
+        }
+        for (int i = SMALL_CLASS_COUNT; i < CLASS_COUNT; i++) {
+            int log = 8 + (i - SMALL_CLASS_COUNT) / 4;
+            SLOT_SIZES[i] = (1L << log) + ((i - SMALL_CLASS_COUNT) % 4 + 1) * (1L << (log - 2));
+        }
+        MAX_SLOT_SIZE = SLOT_SIZES[CLASS_COUNT - 1];
+    }
+
+    /**
+     * Sizes up to 256 bytes are rounded to multiples of 16, larger sizes to a quarter of their
+     * power of two.
+     */
+    private static int getSizeClass(long size) {
+        if (size <= 256) {
+            return size <= 16 ? 0 : (int) ((size + 15) >> 4) - 1;
+        }
+        long s = size - 1;
+        int log = 63 - Long.numberOfLeadingZeros(s);
+        return SMALL_CLASS_COUNT + (log - 8) * 4 + (int) ((s >> (log - 2)) & 3);
+    }
+
+    private static final class SizeClass {
+        private final long slotSize;
+        private long[] freed = new long[CACHE_SIZE];
+        private int freedCount;
+        private long fresh;
+        private long freshEnd;
+
+        private SizeClass(long slotSize) {
+            this.slotSize = slotSize;
+        }
+    }
+
+    private static final class ThreadCache {
+        private final long[][] freed = new long[CLASS_COUNT][CACHE_SIZE];
+        private final int[] freedCount = new int[CLASS_COUNT];
+        private final long[][] fresh = new long[CLASS_COUNT][BATCH_SIZE];
+        private final int[] freshCount = new int[CLASS_COUNT];
+    }
+
+    private final SizeClass[] classes = new SizeClass[CLASS_COUNT];
+    private final Map<Long, SizeClass> chunks = new ConcurrentHashMap<>();
+    // we are not able to clean up ThreadLocals properly, so we are using a map instead
+    private final Map<Thread, ThreadCache> caches = new ConcurrentHashMap<>();
+
+    private final ArrayList<Long> regions = new ArrayList<>();
+    private long nextChunk;
+    private long regionEnd;
+
+    public LLVMSlabAllocator() {
+        for (int i = 0; i < CLASS_COUNT; i++) {
+            classes[i] = new SizeClass(SLOT_SIZES[i]);
+        }
+    }
+
+    /**
+     * Sizes are {@code size_t} values, so a negative size is a request for more than
+     * {@link Long#MAX_VALUE} bytes.
+     */
+    private static boolean isLarge(long size) {
+        return Long.compareUnsigned(size, MAX_SLOT_SIZE) > 0;
+    }
+
+    private static void checkSize(long size) {
+        if (size < 0) {
+            throw new OutOfMemoryError();
+        }
+    }
+
+    @TruffleBoundary
+    public long allocate(LLVMMemory memory, long size) {
+        if (isLarge(size)) {
+            checkSize(size);
+            return memory.allocateMemory(size).asNative();
+        }
+        int index = getSizeClass(size);
+        ThreadCache cache = getCache();
+        if (cache.freedCount[index] == 0 && cache.freshCount[index] == 0) {
+            refill(memory, cache, index);
+        }
+        if (cache.freedCount[index] > 0) {
+            return cache.freed[index][--cache.freedCount[index]];
+        }
+        return cache.fresh[index][--cache.freshCount[index]];
+    }
+
+    @TruffleBoundary
+    @SuppressWarnings("deprecation")
+    public long allocateZeroed(LLVMMemory memory, long size) {
+        if (isLarge(size)) {
+            checkSize(size);
+            LLVMNativePointer address = memory.allocateMemory(size);
+            memory.memset(address, size, (byte) 0);
+            return address.asNative();
+        }
+        int index = getSizeClass(size);
+        ThreadCache cache = getCache();
+        if (cache.freshCount[index] == 0 && cache.freedCount[index] == 0) {
+            refill(memory, cache, index);
+        }
+        if (cache.freshCount[index] > 0) {
+            return cache.fresh[index][--cache.freshCount[index]];
+        }
+        long address = cache.freed[index][--cache.freedCount[index]];
+        memory.memset(LLVMNativePointer.create(address), size, (byte) 0);
+        return address;
+    }
+
+    @TruffleBoundary
+    @SuppressWarnings("deprecation")
+    public long reallocate(LLVMMemory memory, long address, long size) {
+        if (address == 0) {
+            return allocate(memory, size);
+        }
+        if (size == 0) {
+            free(memory, address);
+            return 0;
+        }
+        SizeClass sizeClass = getSizeClassOf(address);
+        if (sizeClass == null) {
+            checkSize(size);
+            return memory.reallocateMemory(LLVMNativePointer.create(address), size).asNative();
+        }
+        if (Long.compareUnsigned(size, sizeClass.slotSize) <= 0) {
+            return address;
+        }
+        long newAddress = allocate(memory, size);
+        memory.copyMemory(address, newAddress, sizeClass.slotSize);
+        free(memory, address);
+        return newAddress;
+    }
+
+    @TruffleBoundary
+    public void free(LLVMMemory memory, long address) {
+        SizeClass sizeClass = getSizeClassOf(address);
+        if (sizeClass == null) {
+            memory.free(address);
+            return;
+        }
+        int index = getSizeClass(sizeClass.slotSize);
+        ThreadCache cache = getCache();
+        if (cache.freedCount[index] == CACHE_SIZE) {
+            flush(cache, index, BATCH_SIZE);
+        }
+        cache.freed[index][cache.freedCount[index]++] = address;
+    }
+
+    /**
+     * Returns the slots in the cache of a thread that ended to their size classes.
+     */
+    @TruffleBoundary
+    public void disposeThread(Thread thread) {
+        ThreadCache cache = caches.remove(thread);
+        if (cache != null) {
+            for (int index = 0; index < CLASS_COUNT; index++) {
+                flush(cache, index, cache.freedCount[index]);
+                System.arraycopy(cache.fresh[index], 0, cache.freed[index], 0, cache.freshCount[index]);
+                cache.freedCount[index] = cache.freshCount[index];
+                cache.freshCount[index] = 0;
+                flush(cache, index, cache.freedCount[index]);
+            }
+        }
+    }
+
+    @TruffleBoundary
+    public synchronized void dispose(LLVMMemory memory) {
+        for (long region : regions) {
+            memory.free(region);
+        }
+        regions.clear();
+        chunks.clear();
+        caches.clear();
+    }
+
+    private ThreadCache getCache() {
+        Thread thread = Thread.currentThread();
+        ThreadCache cache = caches.get(thread);
+        if (cache == null) {
+            cache = new ThreadCache();
+            caches.put(thread, cache);
+        }
+        return cache;
+    }
+
+    private SizeClass getSizeClassOf(long address) {
+        return chunks.get(address >>> CHUNK_SHIFT);
+    }
+
+    private void refill(LLVMMemory memory, ThreadCache cache, int index) {
+        SizeClass sizeClass = classes[index];
+        synchronized (sizeClass) {
+            int count = Math.min(sizeClass.freedCount, BATCH_SIZE);
+            if (count > 0) {
+                sizeClass.freedCount -= count;
+                System.arraycopy(sizeClass.freed, sizeClass.freedCount, cache.freed[index], 0, count);
+                cache.freedCount[index] = count;
+                return;
+            }
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                if (sizeClass.fresh == sizeClass.freshEnd) {
+                    sizeClass.fresh = allocateChunk(memory, sizeClass);
+                    sizeClass.freshEnd = sizeClass.fresh + CHUNK_SIZE / sizeClass.slotSize * sizeClass.slotSize;
+                }
+                cache.fresh[index][i] = sizeClass.fresh;
+                sizeClass.fresh += sizeClass.slotSize;
+            }
+            cache.freshCount[index] = BATCH_SIZE;
+        }
+    }
+
+    private void flush(ThreadCache cache, int index, int count) {
+        SizeClass sizeClass = classes[index];
+        synchronized (sizeClass) {
+            if (sizeClass.freedCount + count > sizeClass.freed.length) {
+                sizeClass.freed = Arrays.copyOf(sizeClass.freed, Math.max(sizeClass.freed.length * 2, sizeClass.freedCount + count));
+            }
+            cache.freedCount[index] -= count;
+            System.arraycopy(cache.freed[index], cache.freedCount[index], sizeClass.freed, sizeClass.freedCount, count);
+            sizeClass.freedCount += count;
+        }
+    }
+
+    /**
+     * Takes a zeroed chunk from the current region, allocating a new region if it is used up.
+     */
+    @SuppressWarnings("deprecation")
+    private synchronized long allocateChunk(LLVMMemory memory, SizeClass sizeClass) {
+        if (nextChunk == regionEnd) {
+            long region = memory.allocateMemory((CHUNKS_PER_REGION + 1) * CHUNK_SIZE).asNative();
+            regions.add(region);
+            nextChunk = (region + CHUNK_SIZE - 1) & -CHUNK_SIZE;
+            regionEnd = nextChunk + CHUNKS_PER_REGION * CHUNK_SIZE;
+        }
+        long chunk = nextChunk;
+        nextChunk += CHUNK_SIZE;
+        memory.memset(LLVMNativePointer.create(chunk), CHUNK_SIZE, (byte) 0);
+        chunks.put(chunk >>> CHUNK_SHIFT, sizeClass);
+        return chunk;
+    }
+}
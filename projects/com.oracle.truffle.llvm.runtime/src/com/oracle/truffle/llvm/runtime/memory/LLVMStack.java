@@ -30,20 +30,24 @@
 package com.oracle.truffle.llvm.runtime.memory;
 
 import com.oracle.truffle.api.CompilerAsserts;
+import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.frame.FrameSlot;
 import com.oracle.truffle.api.frame.FrameUtil;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.llvm.runtime.except.LLVMStackOverflowError;
 
 /**
- * Implements a stack that grows from the top to the bottom. The stack is allocated lazily when it
- * is accessed for the first time.
+ * Implements a stack that grows from the top to the bottom. The stack is allocated lazily from an
+ * {@link LLVMStackPool} when it is accessed for the first time. Allocations below the lower bounds
+ * of the stack raise an {@link LLVMStackOverflowError}.
  */
 public final class LLVMStack {
 
     public static final String FRAME_ID = "<stackpointer>";
 
-    private final long stackSize;
+    private final LLVMStackPool stackPool;
+    private LLVMStackPool.StackRegion region;
 
     private long lowerBounds;
     private long upperBounds;
@@ -52,8 +56,8 @@ public final class LLVMStack {
     private long stackPointer;
     private long uniquesRegionPointer;
 
-    public LLVMStack(long stackSize) {
-        this.stackSize = stackSize;
+    public LLVMStack(LLVMStackPool stackPool) {
+        this.stackPool = stackPool;
 
         lowerBounds = 0;
         upperBounds = 0;
@@ -83,6 +87,10 @@ public final class LLVMStack {
             stackPointer = sp;
         }
 
+        long getLowerBounds() {
+            return lowerBounds;
+        }
+
         public long getUniquesRegionPointer() {
             return uniquesRegionPointer;
         }
@@ -159,6 +167,7 @@ public final class LLVMStack {
                 long uniquesRegionPointer = getAlignedBasePointer(stackPointer);
                 basePointer.setUniquesRegionPointer(uniquesRegionPointer);
                 long alignedAllocation = getAlignedAllocation(uniquesRegionPointer, uniquesRegionSize, NO_ALIGNMENT_REQUIREMENTS);
+                checkStackOverflow(basePointer, alignedAllocation);
                 basePointer.set(alignedAllocation);
             }
 
@@ -187,10 +196,9 @@ public final class LLVMStack {
 
     @TruffleBoundary
     private void allocate(LLVMMemory memory) {
-        long size = stackSize;
-        long stackAllocation = memory.allocateMemory(size).asNative();
-        lowerBounds = stackAllocation;
-        upperBounds = stackAllocation + size;
+        region = stackPool.allocate(memory);
+        lowerBounds = region.getLowerBounds();
+        upperBounds = region.getUpperBounds();
         isAllocated = true;
         stackPointer = upperBounds;
     }
@@ -212,7 +220,8 @@ public final class LLVMStack {
             /*
              * It can be that the stack was never allocated.
              */
-            memory.free(lowerBounds);
+            stackPool.free(memory, region);
+            region = null;
             lowerBounds = 0;
             upperBounds = 0;
             stackPointer = 0;
@@ -227,10 +236,18 @@ public final class LLVMStack {
         long stackPointer = basePointer.get(memory);
         assert stackPointer != 0;
         long alignedAllocation = getAlignedAllocation(stackPointer, size, alignment);
+        checkStackOverflow(basePointer, alignedAllocation);
         basePointer.set(alignedAllocation);
         return alignedAllocation;
     }
 
+    private static void checkStackOverflow(StackPointer basePointer, long alignedAllocation) {
+        if (alignedAllocation < basePointer.getLowerBounds()) {
+            CompilerDirectives.transferToInterpreter();
+            throw new LLVMStackOverflowError(null, "stack overflow");
+        }
+    }
+
     private static long getAlignedAllocation(long address, long size, int alignment) {
         assert size >= 0;
         assert alignment != 0 && powerOfTwo(alignment);
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.runtime.memory;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.oracle.truffle.api.CompilerAsserts;
+import com.oracle.truffle.api.interop.InteropException;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.TruffleObject;
+import com.oracle.truffle.llvm.runtime.LLVMContext;
+import com.oracle.truffle.llvm.runtime.NFIContextExtension;
+
+/**
+ * Provides the memory for {@link LLVMStack stacks} and keeps a bounded number of released stacks
+ * for reuse by later threads.
+ *
+ * If native access is available, stacks are reserved with {@code mmap}, so that memory is only
+ * committed when it is touched, and the lowest page is protected as a guard page. Stacks that are
+ * returned to the pool keep only the topmost {@code llvm.stackInitialCommit} bytes committed.
+ * Without native access, stacks are allocated with {@link LLVMMemory#allocateMemory}.
+ */
+public final class LLVMStackPool {
+
+    private static final InteropLibrary INTEROP = InteropLibrary.getFactory().getUncached();
+
+    public static final long PAGE_SIZE = 4096;
+
+    private final LLVMContext context;
+    private final long stackSize;
+    private final long commitSize;
+    private final int poolSize;
+
+    private final ConcurrentLinkedDeque<Long> pool = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+
+    private volatile NativeStackFunctions nativeFunctions;
+
+    public LLVMStackPool(LLVMContext context, long stackSize, long commitSize, int poolSize) {
+        this.context = context;
+        this.stackSize = alignToPage(stackSize);
+        this.commitSize = Math.min(alignToPage(commitSize), this.stackSize);
+        this.poolSize = poolSize;
+    }
+
+    private static long alignToPage(long size) {
+        return (size + PAGE_SIZE - 1) & -PAGE_SIZE;
+    }
+
+    private static final class NativeStackFunctions {
+        private final TruffleObject reserve;
+        private final TruffleObject decommit;
+        private final TruffleObject release;
+
+        private NativeStackFunctions(TruffleObject reserve, TruffleObject decommit, TruffleObject release) {
+            this.reserve = reserve;
+            this.decommit = decommit;
+            this.release = release;
+        }
+    }
+
+    /**
+     * A stack region. The usable stack lies between {@link #getLowerBounds()} and
+     * {@link #getUpperBounds()}, below it is the guard area.
+     */
+    static final class StackRegion {
+        private final long base;
+        private final long guardSize;
+        private final long size;
+
+        private StackRegion(long base, long guardSize, long size) {
+            this.base = base;
+            this.guardSize = guardSize;
+            this.size = size;
+        }
+
+        long getLowerBounds() {
+            return base + guardSize;
+        }
+
+        long getUpperBounds() {
+            return base + size;
+        }
+    }
+
+    private NativeStackFunctions getNativeFunctions() {
+        NativeStackFunctions result = nativeFunctions;
+        if (result == null) {
+            NFIContextExtension nfi = context.getContextExtensionOrNull(NFIContextExtension.class);
+            if (nfi == null || !nfi.isInitialized()) {
+                return null;
+            }
+            TruffleObject reserve = nfi.getNativeFunction(context, "@__sulong_stack_reserve", "(UINT64,UINT64):UINT64");
+            TruffleObject decommit = nfi.getNativeFunction(context, "@__sulong_stack_decommit", "(UINT64,UINT64):SINT32");
+            TruffleObject release = nfi.getNativeFunction(context, "@__sulong_stack_release", "(UINT64,UINT64):SINT32");
+            result = new NativeStackFunctions(reserve, decommit, release);
+            nativeFunctions = result;
+        }
+        return result;
+    }
+
+    StackRegion allocate(LLVMMemory memory) {
+        CompilerAsserts.neverPartOfCompilation();
+        NativeStackFunctions functions = getNativeFunctions();
+        if (functions == null) {
+            return new StackRegion(memory.allocateMemory(stackSize).asNative(), 0, stackSize);
+        }
+
+        Long pooledBase = pool.pollFirst();
+        if (pooledBase != null) {
+            pooled.decrementAndGet();
+            return new StackRegion(pooledBase, PAGE_SIZE, stackSize);
+        }
+
+        long base = call(functions.reserve, stackSize, PAGE_SIZE);
+        if (base == 0) {
+            throw new OutOfMemoryError("could not reserve stack of size " + stackSize);
+        }
+        return new StackRegion(base, PAGE_SIZE, stackSize);
+    }
+
+    void free(LLVMMemory memory, StackRegion region) {
+        CompilerAsserts.neverPartOfCompilation();
+        NativeStackFunctions functions = nativeFunctions;
+        if (region.guardSize == 0 || functions == null) {
+            memory.free(region.base);
+            return;
+        }
+
+        if (pooled.incrementAndGet() <= poolSize) {
+            long decommitSize = region.getUpperBounds() - commitSize - region.getLowerBounds();
+            if (decommitSize > 0) {
+                call(functions.decommit, region.getLowerBounds(), decommitSize);
+            }
+            pool.addFirst(region.base);
+        } else {
+            pooled.decrementAndGet();
+            call(functions.release, region.base, region.size);
+        }
+    }
+
+    /**
+     * Releases all pooled stacks. Must only be called when the context is disposed.
+     */
+    public void dispose() {
+        NativeStackFunctions functions = nativeFunctions;
+        if (functions == null) {
+            return;
+        }
+        Long base;
+        while ((base = pool.pollFirst()) != null) {
+            call(functions.release, base, stackSize);
+        }
+        pooled.set(0);
+    }
+
+    private static long call(TruffleObject function, Object... args) {
+        try {
+            return ((Number) INTEROP.execute(function, args)).longValue();
+        } catch (InteropException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
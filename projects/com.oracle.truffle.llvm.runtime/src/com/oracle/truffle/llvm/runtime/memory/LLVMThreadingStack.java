@@ -29,8 +29,7 @@
  */
 package com.oracle.truffle.llvm.runtime.memory;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 
@@ -38,34 +37,54 @@ import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
  * Holds the (lazily allocated) stacks of all threads that are active in one particular LLVMContext.
  */
 public final class LLVMThreadingStack {
-    // we are not able to clean up a thread local properly, so we are using a map instead
-    private final Map<Thread, LLVMStack> threadMap;
-    private final long stackSize;
+    /*
+     * The map is the authoritative owner of all stacks. The stack of the first thread that asks
+     * for one is additionally kept in a field, so that thread (in most programs the only one)
+     * finds its stack without a map lookup. We do not use a ThreadLocal because we are not able to
+     * clean it up properly from a different thread.
+     */
+    private final ConcurrentHashMap<Thread, LLVMStack> threadMap;
+    private final LLVMStackPool stackPool;
     private final Thread mainThread;
 
-    public LLVMThreadingStack(Thread mainTread, long stackSize) {
+    private volatile Owner owner;
+
+    private static final class Owner {
+        final Thread thread;
+        final LLVMStack stack;
+
+        Owner(Thread thread, LLVMStack stack) {
+            this.thread = thread;
+            this.stack = stack;
+        }
+    }
+
+    public LLVMThreadingStack(Thread mainTread, LLVMStackPool stackPool) {
         this.mainThread = mainTread;
-        this.stackSize = stackSize;
-        this.threadMap = new HashMap<>();
+        this.stackPool = stackPool;
+        this.threadMap = new ConcurrentHashMap<>();
     }
 
     public LLVMStack getStack() {
-        LLVMStack s = getCurrentStack();
-        if (s == null) {
-            s = createNewStack();
+        Owner o = owner;
+        if (o != null && o.thread == Thread.currentThread()) {
+            return o.stack;
         }
-        return s;
+        return getOrCreateStack();
     }
 
     @TruffleBoundary
-    private LLVMStack getCurrentStack() {
-        return threadMap.get(Thread.currentThread());
-    }
-
-    @TruffleBoundary
-    private synchronized LLVMStack createNewStack() {
-        LLVMStack s = new LLVMStack(stackSize);
-        threadMap.put(Thread.currentThread(), s);
+    private LLVMStack getOrCreateStack() {
+        Thread thread = Thread.currentThread();
+        LLVMStack s = threadMap.get(thread);
+        if (s == null) {
+            s = threadMap.computeIfAbsent(thread, t -> new LLVMStack(stackPool));
+            synchronized (this) {
+                if (owner == null && threadMap.get(thread) == s) {
+                    owner = new Owner(thread, s);
+                }
+            }
+        }
         return s;
     }
 
@@ -83,13 +102,19 @@ public final class LLVMThreadingStack {
     @TruffleBoundary
     public void freeMainStack(LLVMMemory memory) {
         free(memory, mainThread);
+        stackPool.dispose();
     }
 
-    private synchronized void free(LLVMMemory memory, Thread thread) {
-        LLVMStack s = threadMap.get(thread);
+    private void free(LLVMMemory memory, Thread thread) {
+        synchronized (this) {
+            Owner o = owner;
+            if (o != null && o.thread == thread) {
+                owner = null;
+            }
+        }
+        LLVMStack s = threadMap.remove(thread);
         if (s != null) {
             s.free(memory);
-            threadMap.remove(thread);
         }
     }
 }
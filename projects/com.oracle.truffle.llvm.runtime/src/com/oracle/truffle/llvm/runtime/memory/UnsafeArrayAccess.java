@@ -257,7 +257,52 @@ public final class UnsafeArrayAccess {
         return unsafe.getDouble(arr, baseOffset + offset);
     }
 
-    private boolean inBounds(Object arr, long offset, int accessedBytes) {
+    /**
+     * Copies {@code length} bytes between two arrays in a single bulk operation.
+     */
+    public void copyMemory(int[] source, long sourceOffset, int[] target, long targetOffset, long length) {
+        assert length == 0 || inBounds(source, sourceOffset, length) && inBounds(target, targetOffset, length);
+        unsafe.copyMemory(source, Unsafe.ARRAY_INT_BASE_OFFSET + sourceOffset, target, Unsafe.ARRAY_INT_BASE_OFFSET + targetOffset, length);
+    }
+
+    /**
+     * Copies {@code length} bytes from native memory into an array in a single bulk operation.
+     */
+    public void copyFromNative(long sourceAddress, int[] target, long targetOffset, long length) {
+        assert length == 0 || inBounds(target, targetOffset, length);
+        unsafe.copyMemory(null, sourceAddress, target, Unsafe.ARRAY_INT_BASE_OFFSET + targetOffset, length);
+    }
+
+    /**
+     * Copies {@code length} bytes from an array into native memory in a single bulk operation.
+     */
+    public void copyToNative(int[] source, long sourceOffset, long targetAddress, long length) {
+        assert length == 0 || inBounds(source, sourceOffset, length);
+        unsafe.copyMemory(source, Unsafe.ARRAY_INT_BASE_OFFSET + sourceOffset, null, targetAddress, length);
+    }
+
+    /**
+     * Copies {@code length} bytes from native memory into a primitive array of any element type.
+     */
+    public void copyFromNative(long sourceAddress, Object target, long targetOffset, long length) {
+        assert length == 0 || inBounds(target, targetOffset, length);
+        unsafe.copyMemory(null, sourceAddress, target, unsafe.arrayBaseOffset(target.getClass()) + targetOffset, length);
+    }
+
+    /**
+     * Copies {@code length} bytes from a primitive array of any element type into native memory.
+     */
+    public void copyToNative(Object source, long sourceOffset, long targetAddress, long length) {
+        assert length == 0 || inBounds(source, sourceOffset, length);
+        unsafe.copyMemory(source, unsafe.arrayBaseOffset(source.getClass()) + sourceOffset, null, targetAddress, length);
+    }
+
+    public void setMemory(int[] arr, long offset, long length, byte value) {
+        assert length == 0 || inBounds(arr, offset, length);
+        unsafe.setMemory(arr, Unsafe.ARRAY_INT_BASE_OFFSET + offset, length, value);
+    }
+
+    private boolean inBounds(Object arr, long offset, long accessedBytes) {
         assert accessedBytes > 0;
         long arraySize = ((long) Array.getLength(arr)) * getArrayElementSize(arr);
         return offset >= 0 && offset + accessedBytes <= arraySize;
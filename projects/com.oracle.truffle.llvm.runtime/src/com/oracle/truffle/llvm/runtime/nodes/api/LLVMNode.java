@@ -90,7 +90,7 @@ public abstract class LLVMNode extends Node {
     }
 
     protected static boolean nativeCallStatisticsEnabled(ContextReference<LLVMContext> context) {
-        return SulongEngineOption.isTrue(context.get().getEnv().getOptions().get(SulongEngineOption.NATIVE_CALL_STATS));
+        return context.get().getNativeCallProfiler() != null;
     }
 
     public boolean hasTag(Class<? extends Tag> tag) {
@@ -40,6 +40,7 @@ import org.graalvm.options.OptionDescriptor;
 import org.graalvm.options.OptionDescriptors;
 import org.graalvm.options.OptionKey;
 import org.graalvm.options.OptionStability;
+import org.graalvm.options.OptionValues;
 
 import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.Option;
@@ -54,6 +55,15 @@ public final class SulongEngineOption {
             help = "The stack size, please end the input with one of: k, m, g, or t. (Note: the stack size will be in bytes if no appropriate suffix is give.)")
             public static final OptionKey<String> STACK_SIZE = new OptionKey<>("81920k");
 
+    @Option(name = "llvm.stackPoolSize", category = OptionCategory.EXPERT, help = "The maximum number of released thread stacks that are kept for reuse.") //
+    public static final OptionKey<Integer> STACK_POOL_SIZE = new OptionKey<>(8);
+
+    @Option(name = "llvm.stackInitialCommit", category = OptionCategory.EXPERT, help = "The amount of memory at the top of a pooled stack that stays committed for reuse, please end the input with one of: k, m, g, or t.") //
+    public static final OptionKey<String> STACK_INITIAL_COMMIT = new OptionKey<>("256k");
+
+    @Option(name = "llvm.allocator", category = OptionCategory.EXPERT, help = "The allocator behind malloc, calloc, realloc and free. Can be \'system\' or \'slab\' (size classes with thread-local caches). Memory from the \'slab\' allocator must not be reallocated or freed by native code.") //
+    public static final OptionKey<String> ALLOCATOR = new OptionKey<>("system");
+
     public static final String LIBRARY_PATH_NAME = "llvm.libraryPath";
     @Option(name = LIBRARY_PATH_NAME, category = OptionCategory.USER, stability = OptionStability.STABLE, //
             help = "A list of paths where Sulong will search for relative libraries. Paths are delimited by " + OPTION_ARRAY_SEPARATOR + " .") //
@@ -71,21 +81,48 @@ public final class SulongEngineOption {
     @Option(name = "llvm.debugSysCalls", category = OptionCategory.USER, help = "Turns syscall debugging on/off. Can be \'true\', \'false\', \'stdout\', \'stderr\' or a filepath.") //
     public static final OptionKey<String> DEBUG_SYSCALLS = new OptionKey<>(String.valueOf(false));
 
-    @Option(name = "llvm.printNativeCallStats", category = OptionCategory.USER, help = "Outputs stats about native call site frequencies. Can be \'true\', \'false\', \'stdout\', \'stderr\' or a filepath.") //
+    @Option(name = "llvm.printNativeCallStats", category = OptionCategory.USER, help = "Outputs the count and latency of native calls per call site. Can be \'true\', \'false\', \'stdout\', \'stderr\' or a filepath.") //
     public static final OptionKey<String> NATIVE_CALL_STATS = new OptionKey<>(String.valueOf(false));
 
+    @Option(name = "llvm.nativeCallStatsFormat", category = OptionCategory.USER, help = "Format of the native call statistics. Can be \'text\', \'json\' or \'csv\'.") //
+    public static final OptionKey<String> NATIVE_CALL_STATS_FORMAT = new OptionKey<>("text");
+
+    @Option(name = "llvm.printHandleStats", category = OptionCategory.EXPERT, help = "Prints contention counters of the managed object handle tables. Can be \'true\', \'false\', \'stdout\' or \'stderr\'.") //
+    public static final OptionKey<String> HANDLE_STATS = new OptionKey<>(String.valueOf(false));
+
     @Option(name = "llvm.printLifetimeAnalysisStats", category = OptionCategory.USER, help = "Prints the results of the lifetime analysis. Can be \'true\', \'false\', \'stdout\', \'stderr\' or a filepath.") //
     public static final OptionKey<String> PRINT_LIFE_TIME_ANALYSIS_STATS = new OptionKey<>(String.valueOf(false));
 
     @Option(name = "llvm.parseOnly", category = OptionCategory.EXPERT, help = "Only parses a bc file; execution is not possible.") //
     public static final OptionKey<Boolean> PARSE_ONLY = new OptionKey<>(false);
 
+    @Option(name = "llvm.parseCache", category = OptionCategory.EXPERT, help = "Directory of a persistent cache for the module-level structure of parsed bitcode files. Disabled if empty.") //
+    public static final OptionKey<String> PARSE_CACHE = new OptionKey<>("");
+
+    @Option(name = "llvm.printParseCacheStats", category = OptionCategory.EXPERT, help = "Prints the hit and miss counts of the parse cache. Can be \'true\', \'false\', \'stdout\' or \'stderr\'.") //
+    public static final OptionKey<String> PARSE_CACHE_STATS = new OptionKey<>(String.valueOf(false));
+
     @Option(name = "llvm.enableLVI", category = OptionCategory.EXPERT, help = "Enable source-level inspection of local variables.") //
     public static final OptionKey<Boolean> ENABLE_LVI = new OptionKey<>(false);
 
     @Option(name = "llvm.lazyParsing", category = OptionCategory.EXPERT, help = "Enable lazy parsing of LLVM bitcode files.") //
     public static final OptionKey<Boolean> LAZY_PARSING = new OptionKey<>(true);
 
+    @Option(name = "llvm.parsingThreads", category = OptionCategory.EXPERT, help = "The number of threads that parse functions if lazy parsing is disabled. Uses all available processors if 0 or less.") //
+    public static final OptionKey<Integer> PARSING_THREADS = new OptionKey<>(0);
+
+    @Option(name = "llvm.backgroundParsing", category = OptionCategory.EXPERT, help = "Resolve lazily parsed functions on a background thread before they are called for the first time.") //
+    public static final OptionKey<Boolean> BACKGROUND_PARSING = new OptionKey<>(false);
+
+    @Option(name = "llvm.parseProfile", category = OptionCategory.EXPERT, help = "A file that records which functions had to be parsed on demand. Background parsing resolves these functions first.") //
+    public static final OptionKey<String> PARSE_PROFILE = new OptionKey<>("");
+
+    @Option(name = "llvm.printLazyParsingStats", category = OptionCategory.EXPERT, help = "Prints how many functions were parsed on demand and how many in the background, and how much inline assembly parsing was shared. Can be \'true\', \'false\', \'stdout\' or \'stderr\'.") //
+    public static final OptionKey<String> LAZY_PARSING_STATS = new OptionKey<>(String.valueOf(false));
+
+    @Option(name = "llvm.fp80Native", category = OptionCategory.EXPERT, help = "Compute 80 bit floating point arithmetic with native code instead of in Java.") //
+    public static final OptionKey<Boolean> FP80_NATIVE = new OptionKey<>(false);
+
     @Option(name = "llvm.llDebug", category = OptionCategory.EXPERT, help = "Enable IR-level debugging of LLVM bitcode files.") //
     public static final OptionKey<Boolean> LL_DEBUG = new OptionKey<>(false);
 
@@ -118,6 +155,21 @@ public final class SulongEngineOption {
         return new SulongEngineOptionOptionDescriptors();
     }
 
+    /**
+     * Whether function blocks may be parsed on more than one thread, either by the parsing threads
+     * or by the background parser. Parsing a function with debug information registers its values
+     * and scopes with the shared source context, so it is always done by a single thread.
+     */
+    public static boolean isConcurrentParsing(OptionValues options) {
+        if (options.get(ENABLE_LVI)) {
+            return false;
+        }
+        if (options.get(LAZY_PARSING)) {
+            return options.get(BACKGROUND_PARSING) && !options.get(PARSE_ONLY);
+        }
+        return options.get(PARSING_THREADS) != 1;
+    }
+
     public static PrintStream getStream(String name) {
         if ("stderr".equals(name)) {
             return System.err;
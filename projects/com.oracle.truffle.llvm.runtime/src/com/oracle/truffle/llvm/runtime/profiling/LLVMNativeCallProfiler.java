@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.runtime.profiling;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.llvm.runtime.debug.scope.LLVMSourceLocation;
+
+/**
+ * Collects the number of calls, the time spent in the native function and the time spent
+ * converting arguments and return values for every native call site.
+ *
+ * A call site is identified by its source location, the function that contains it and the
+ * callee. Nodes look up their {@link CallSite} once and then only add to its counters, which
+ * never takes a lock.
+ */
+public final class LLVMNativeCallProfiler {
+
+    /**
+     * Bucket {@code i} of a histogram counts calls that took at least {@code 2^i} and less than
+     * {@code 2^(i+1)} nanoseconds. Bucket 0 also counts calls that took no measurable time and the
+     * last bucket counts all calls that took longer.
+     */
+    public static final int HISTOGRAM_BUCKETS = 36;
+
+    public static final class CallSite {
+
+        private final LLVMSourceLocation location;
+        private final String caller;
+        private final String callee;
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder callNanos = new LongAdder();
+        private final LongAdder conversionNanos = new LongAdder();
+        private final LongAdder[] histogram = new LongAdder[HISTOGRAM_BUCKETS];
+
+        CallSite(LLVMSourceLocation location, String caller, String callee) {
+            this.location = location;
+            this.caller = caller;
+            this.callee = callee;
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                histogram[i] = new LongAdder();
+            }
+        }
+
+        @TruffleBoundary
+        public void record(long conversion, long call) {
+            count.increment();
+            callNanos.add(call);
+            conversionNanos.add(conversion);
+            histogram[bucket(call)].increment();
+        }
+
+        private static int bucket(long nanos) {
+            if (nanos <= 1) {
+                return 0;
+            }
+            return Math.min(63 - Long.numberOfLeadingZeros(nanos), HISTOGRAM_BUCKETS - 1);
+        }
+
+        String describeLocation() {
+            return location != null ? location.describeLocation() : "<unknown>";
+        }
+    }
+
+    private static final class Key {
+
+        private final LLVMSourceLocation location;
+        private final String caller;
+        private final String callee;
+
+        Key(LLVMSourceLocation location, String caller, String callee) {
+            this.location = location;
+            this.caller = caller;
+            this.callee = callee;
+        }
+
+        @Override
+        public int hashCode() {
+            // source locations are compared by identity, their equals walks the scope chain
+            return (System.identityHashCode(location) * 31 + caller.hashCode()) * 31 + callee.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return location == other.location && caller.equals(other.caller) && callee.equals(other.callee);
+        }
+    }
+
+    public enum Format {
+        TEXT,
+        JSON,
+        CSV;
+
+        public static Format parse(String name) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(name)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unknown native call statistics format: " + name);
+        }
+    }
+
+    private final Format format;
+    private final ConcurrentHashMap<Key, CallSite> callSites = new ConcurrentHashMap<>();
+
+    public LLVMNativeCallProfiler(Format format) {
+        this.format = format;
+    }
+
+    @TruffleBoundary
+    public CallSite getCallSite(LLVMSourceLocation location, String caller, String callee) {
+        Key key = new Key(location, caller, callee);
+        CallSite site = callSites.get(key);
+        if (site == null) {
+            site = callSites.computeIfAbsent(key, k -> new CallSite(location, caller, callee));
+        }
+        return site;
+    }
+
+    public void print(PrintStream out) {
+        List<CallSite> sites = new ArrayList<>(callSites.values());
+        sites.sort(Comparator.comparingLong((CallSite site) -> site.callNanos.sum() + site.conversionNanos.sum()).reversed());
+        switch (format) {
+            case JSON:
+                printJSON(out, sites);
+                break;
+            case CSV:
+                printCSV(out, sites);
+                break;
+            default:
+                printText(out, sites);
+                break;
+        }
+        out.flush();
+    }
+
+    private static void printText(PrintStream out, List<CallSite> sites) {
+        for (CallSite site : sites) {
+            out.println(String.format("Native call %s at %s in %s \t count: %d \t call: %d ns \t conversion: %d ns", site.callee, site.describeLocation(), site.caller, site.count.sum(),
+                            site.callNanos.sum(), site.conversionNanos.sum()));
+        }
+    }
+
+    private static void printJSON(PrintStream out, List<CallSite> sites) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"histogramBuckets\": \"log2 nanoseconds\", \"callSites\": [");
+        String separator = "\n";
+        for (CallSite site : sites) {
+            sb.append(separator);
+            separator = ",\n";
+            sb.append("  {\"location\": ");
+            appendJSONString(sb, site.describeLocation());
+            sb.append(", \"caller\": ");
+            appendJSONString(sb, site.caller);
+            sb.append(", \"callee\": ");
+            appendJSONString(sb, site.callee);
+            sb.append(", \"count\": ").append(site.count.sum());
+            sb.append(", \"callNanos\": ").append(site.callNanos.sum());
+            sb.append(", \"conversionNanos\": ").append(site.conversionNanos.sum());
+            sb.append(", \"histogram\": [");
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append(site.histogram[i].sum());
+            }
+            sb.append("]}");
+        }
+        sb.append("\n]}");
+        out.println(sb);
+    }
+
+    private static void appendJSONString(StringBuilder sb, String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        sb.append('"');
+    }
+
+    private static void printCSV(PrintStream out, List<CallSite> sites) {
+        StringBuilder header = new StringBuilder("location,caller,callee,count,call_ns,conversion_ns");
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            header.append(",ge_").append(1L << i).append("ns");
+        }
+        out.println(header);
+        for (CallSite site : sites) {
+            StringBuilder sb = new StringBuilder();
+            appendCSVField(sb, site.describeLocation());
+            sb.append(',');
+            appendCSVField(sb, site.caller);
+            sb.append(',');
+            appendCSVField(sb, site.callee);
+            sb.append(',').append(site.count.sum());
+            sb.append(',').append(site.callNanos.sum());
+            sb.append(',').append(site.conversionNanos.sum());
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                sb.append(',').append(site.histogram[i].sum());
+            }
+            out.println(sb);
+        }
+    }
+
+    private static void appendCSVField(StringBuilder sb, String s) {
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0) {
+            sb.append(s);
+        } else {
+            sb.append('"').append(s.replace("\"", "\"\"")).append('"');
+        }
+    }
+}
@@ -77,6 +77,8 @@ public final class CallbackTest extends BaseSulongOnlyHarness {
                         new RunConfiguration(10, null));
         runs.put(Paths.get(OTHER_DIR, "nativeCallbackInStruct", testSuffix),
                         new RunConfiguration(42, null));
+        runs.put(Paths.get(OTHER_DIR, "reexportedSymbol", testSuffix),
+                        new RunConfiguration(42, null));
 
         return runs.keySet().stream().map(k -> new Object[]{k, runs.get(k), k.getFileName().toString()}).collect(Collectors.toList());
     }
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oracle.truffle.llvm.pipe.CaptureNativeOutput;
+import com.oracle.truffle.llvm.runtime.profiling.LLVMNativeCallProfiler;
+import com.oracle.truffle.llvm.runtime.profiling.LLVMNativeCallProfiler.Format;
+import com.oracle.truffle.llvm.test.options.TestOptions;
+import com.oracle.truffle.llvm.test.util.ProcessUtil;
+import com.oracle.truffle.llvm.test.util.ProcessUtil.ProcessResult;
+
+public final class NativeCallStatsTest {
+
+    private static final Path TEST_FILE = Paths.get(TestOptions.TEST_SUITE_PATH, "..", "tests", "other", "nativeCallStats", "O1.bc");
+    private static final String CALLEE = "native_call_stats_add";
+    private static final Pattern JSON_FIELD = Pattern.compile("\"(\\w+)\": (\"(?:[^\"\\\\]|\\\\.)*\"|\\d+|\\[[^\\]]*\\])");
+
+    private static List<String> runWithStatistics(String format) throws IOException {
+        File statistics = File.createTempFile("nativeCallStats", "." + format);
+        try {
+            Map<String, String> options = new HashMap<>();
+            options.put("llvm.libraries", System.getProperty("test.sulongtest.lib"));
+            options.put("llvm.printNativeCallStats", statistics.getAbsolutePath());
+            options.put("llvm.nativeCallStatsFormat", format);
+            ProcessResult result = ProcessUtil.executeSulongTestMain(TEST_FILE.toAbsolutePath().toFile(), new String[0], options, c -> new CaptureNativeOutput());
+            Assert.assertEquals(0, result.getReturnValue());
+            return Files.readAllLines(statistics.toPath(), StandardCharsets.UTF_8);
+        } finally {
+            statistics.delete();
+        }
+    }
+
+    private static String findCallSite(List<String> lines) {
+        for (String line : lines) {
+            if (line.contains(CALLEE)) {
+                return line;
+            }
+        }
+        throw new AssertionError("no call site of " + CALLEE + " in " + lines);
+    }
+
+    @Test
+    public void testJSON() throws IOException {
+        Map<String, String> fields = new HashMap<>();
+        Matcher matcher = JSON_FIELD.matcher(findCallSite(runWithStatistics("json")));
+        while (matcher.find()) {
+            fields.put(matcher.group(1), matcher.group(2));
+        }
+        Assert.assertEquals("3", fields.get("count"));
+        Assert.assertTrue(fields.get("caller"), fields.get("caller").contains("main"));
+        Assert.assertTrue(fields.get("callee"), fields.get("callee").endsWith(CALLEE + "\""));
+        String histogram = fields.get("histogram");
+        Assert.assertEquals(LLVMNativeCallProfiler.HISTOGRAM_BUCKETS, histogram.substring(1, histogram.length() - 1).split(", ").length);
+    }
+
+    @Test
+    public void testCSV() throws IOException {
+        List<String> lines = runWithStatistics("csv");
+        String[] header = lines.get(0).split(",");
+        Assert.assertEquals(6 + LLVMNativeCallProfiler.HISTOGRAM_BUCKETS, header.length);
+        String[] row = findCallSite(lines).split(",");
+        Assert.assertEquals(header.length, row.length);
+        Assert.assertTrue(row[1], row[1].contains("main"));
+        Assert.assertTrue(row[2], row[2].endsWith(CALLEE));
+        Assert.assertEquals("3", row[3]);
+    }
+
+    private static String print(LLVMNativeCallProfiler profiler) throws UnsupportedEncodingException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        profiler.print(new PrintStream(bytes, false, "UTF-8"));
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testJSONEscaping() throws UnsupportedEncodingException {
+        LLVMNativeCallProfiler profiler = new LLVMNativeCallProfiler(Format.JSON);
+        profiler.getCallSite(null, "say \"hi\"\n", "a,b\\c").record(1, 2);
+        String json = print(profiler);
+        Assert.assertTrue(json, json.contains("\"caller\": \"say \\\"hi\\\"\\u000a\", \"callee\": \"a,b\\\\c\", \"count\": 1, \"callNanos\": 2, \"conversionNanos\": 1"));
+    }
+
+    @Test
+    public void testCSVEscaping() throws UnsupportedEncodingException {
+        LLVMNativeCallProfiler profiler = new LLVMNativeCallProfiler(Format.CSV);
+        profiler.getCallSite(null, "say \"hi\"\n", "a,b\\c").record(1, 2);
+        String csv = print(profiler);
+        Assert.assertTrue(csv, csv.contains("<unknown>,\"say \"\"hi\"\"\n\",\"a,b\\c\",1,2,1,"));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+import com.oracle.truffle.llvm.test.options.TestOptions;
+
+/**
+ * Runs the libc tests that allocate memory with the {@code slab} allocator.
+ */
+@RunWith(Parameterized.class)
+public final class SlabAllocatorSuite extends BaseSuiteHarness {
+
+    private static final String OPTION_ALLOCATOR = "llvm.allocator";
+    private static final String[] ALLOCATION_TESTS = {"malloc", "calloc", "realloc", "free", "pthread"};
+
+    @Parameter(value = 0) public Path path;
+    @Parameter(value = 1) public String testName;
+
+    @Parameters(name = "{1}")
+    public static Collection<Object[]> data() {
+        Path suitesPath = new File(TestOptions.TEST_SUITE_PATH).toPath();
+        try (Stream<Path> files = Files.walk(suitesPath)) {
+            Stream<Path> destDirs = files.filter(path -> path.endsWith("ref.out")).map(Path::getParent);
+            destDirs = destDirs.filter(testPath -> isAllocationTest(suitesPath.relativize(testPath)));
+            return destDirs.map(testPath -> new Object[]{testPath, suitesPath.relativize(testPath).toString()}).collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new AssertionError("Test cases not found", e);
+        }
+    }
+
+    private static boolean isAllocationTest(Path testPath) {
+        for (int i = 0; i < testPath.getNameCount() - 1; i++) {
+            if (testPath.getName(i).toString().equals("libc")) {
+                String name = testPath.getName(i + 1).toString();
+                for (String test : ALLOCATION_TESTS) {
+                    if (name.startsWith(test)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected Map<String, String> getContextOptions() {
+        return Collections.singletonMap(OPTION_ALLOCATOR, "slab");
+    }
+
+    @Override
+    protected Path getTestDirectory() {
+        return path;
+    }
+
+    @Override
+    protected String getTestName() {
+        return testName;
+    }
+}
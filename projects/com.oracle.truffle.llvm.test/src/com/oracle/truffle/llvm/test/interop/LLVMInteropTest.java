@@ -1000,6 +1000,13 @@ public class LLVMInteropTest {
         }
     }
 
+    @Test
+    public void test078() {
+        try (Runner runner = new Runner("interop078")) {
+            Assert.assertEquals(0, runner.run());
+        }
+    }
+
     @Test
     public void testTypeCheckNative() {
         try (Runner runner = new Runner("typeCheck")) {
@@ -1291,6 +1298,20 @@ public class LLVMInteropTest {
         }
     }
 
+    @Test
+    public void testVirtualMallocMemcpy() {
+        try (Runner runner = new Runner("virtualMallocMemcpy")) {
+            runner.load();
+            int size = 8 + 8 + 13 * 4 + 7;
+            Assert.assertEquals(1, runner.findGlobalSymbol("testCopyVirtualToVirtual").execute(size).asInt());
+            Assert.assertEquals(1, runner.findGlobalSymbol("testCopyNativeToVirtual").execute(size).asInt());
+            Assert.assertEquals(1, runner.findGlobalSymbol("testCopyVirtualToNative").execute(size).asInt());
+            Assert.assertEquals(1, runner.findGlobalSymbol("testMemsetVirtual").execute(1).asInt());
+            Assert.assertEquals(1, runner.findGlobalSymbol("testMemsetVirtual").execute(77).asInt());
+            Assert.assertEquals(1, runner.findGlobalSymbol("testCopyManaged").execute(10).asInt());
+        }
+    }
+
     @Test
     public void testVirtualMallocCompare1() {
         try (Runner runner = new Runner("virtualMallocCompare1")) {
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.test.interop;
+
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyArray;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.oracle.truffle.tck.TruffleRunner;
+
+@RunWith(TruffleRunner.class)
+public class PolyglotArrayCopyTest extends InteropTestBase {
+
+    private static Value testLibrary;
+
+    @BeforeClass
+    public static void loadTestBitcode() {
+        testLibrary = InteropTestBase.loadTestBitcodeValue("polyglotArrayCopy");
+    }
+
+    @Test
+    public void testCopyFromDoubleArray() {
+        double[] arr = new double[100];
+        double sum = 0;
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = 1.5 * i;
+            if (i >= 10 && i < 30) {
+                sum += arr[i];
+            }
+        }
+        Value ret = testLibrary.getMember("sum_copy_double").execute(arr, 10, 20);
+        Assert.assertEquals(sum, ret.asDouble(), 0.0);
+    }
+
+    @Test
+    public void testCopyFromIntArray() {
+        int[] arr = new int[50];
+        long sum = 0;
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = 3 * i - 20;
+            sum += arr[i];
+        }
+        Value ret = testLibrary.getMember("sum_copy_i32").execute(arr, 0, arr.length);
+        Assert.assertEquals(sum, ret.asLong());
+    }
+
+    @Test
+    public void testCopyFromProxyArray() {
+        ProxyArray arr = ProxyArray.fromArray(1.5, 2.5, 3.5, 4.5);
+        Value ret = testLibrary.getMember("sum_copy_double").execute(arr, 1, 3);
+        Assert.assertEquals(10.5, ret.asDouble(), 0.0);
+    }
+
+    @Test
+    public void testCopyFromNative() {
+        Value ret = testLibrary.getMember("sum_copy_native").execute(16);
+        Assert.assertEquals(0.5 * 15 * 16 / 2, ret.asDouble(), 0.0);
+    }
+
+    @Test
+    public void testCopyFromNativeRange() {
+        Value ret = testLibrary.getMember("sum_copy_native_range").execute(10, 6, 4);
+        Assert.assertEquals(6 + 7 + 8 + 9, ret.asDouble(), 0.0);
+    }
+
+    @Test(expected = PolyglotException.class)
+    public void testCopyFromNativeOutOfBounds() {
+        testLibrary.getMember("sum_copy_native_range").execute(10, 7, 4);
+    }
+
+    @Test
+    public void testCopyToNativeRange() {
+        Value ret = testLibrary.getMember("fill_native_range").execute(5, 3, 2);
+        Assert.assertEquals(1 * 3 + 2 * 4, ret.asDouble(), 0.0);
+    }
+
+    @Test(expected = PolyglotException.class)
+    public void testCopyToNativeOutOfBounds() {
+        testLibrary.getMember("fill_native_range").execute(5, 4, 2);
+    }
+
+    @Test
+    public void testCopyFromNativeOtherElementType() {
+        Value ret = testLibrary.getMember("sum_copy_native_i32_as_double").execute(8);
+        Assert.assertEquals(2 * 7 * 8 / 2, ret.asDouble(), 0.0);
+    }
+
+    @Test(expected = PolyglotException.class)
+    public void testCopyFromUntypedNative() {
+        testLibrary.getMember("sum_copy_untyped_native").execute(4);
+    }
+
+    @Test
+    public void testCopyToDoubleArray() {
+        double[] arr = new double[10];
+        testLibrary.getMember("fill_double").execute(arr, 2, 5, 1.0);
+        Assert.assertArrayEquals(new double[]{0, 0, 1, 2, 3, 4, 5, 0, 0, 0}, arr, 0.0);
+    }
+
+    @Test
+    public void testCopyToProxyArray() {
+        ProxyArray arr = ProxyArray.fromArray(0.0, 0.0, 0.0);
+        testLibrary.getMember("fill_double").execute(arr, 0, 3, 7.0);
+        Value value = runWithPolyglot.getPolyglotContext().asValue(arr);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(7.0 + i, value.getArrayElement(i).asDouble(), 0.0);
+        }
+    }
+
+    @Test(expected = PolyglotException.class)
+    public void testCopyFromProxyArrayNegativeLength() {
+        testLibrary.getMember("sum_copy_double").execute(ProxyArray.fromArray(1.5, 2.5), 0, -1);
+    }
+
+    @Test(expected = PolyglotException.class)
+    public void testCopyToProxyArrayNegativeLength() {
+        testLibrary.getMember("fill_double").execute(ProxyArray.fromArray(0.0, 0.0), 0, -1, 1.0);
+    }
+
+    @Test(expected = PolyglotException.class)
+    public void testCopyOutOfBounds() {
+        testLibrary.getMember("sum_copy_double").execute(new double[4], 2, 5);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.types.floating.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.oracle.truffle.llvm.runtime.floating.LLVM80BitFloat;
+
+public class LLVM80BitArithmeticTest extends LLVM80BitTest {
+
+    private static LLVM80BitFloat raw(int signExponent, long fraction) {
+        return LLVM80BitFloat.fromRawValues((signExponent & 0x8000) != 0, signExponent & 0x7fff, fraction);
+    }
+
+    @Test
+    public void testAdd() {
+        assertEquals(val(2), LLVM80BitFloat.add(one(), one()));
+        assertEquals(zero(), LLVM80BitFloat.add(one(), minusOne()));
+        assertEquals(minusZero(), LLVM80BitFloat.add(minusZero(), minusZero()));
+    }
+
+    @Test
+    public void testRoundToNearestEven() {
+        // 1 + 2^-64 is exactly halfway between 1 and its successor
+        assertEquals(one(), LLVM80BitFloat.add(one(), raw(0x3fbf, 0x8000000000000000L)));
+        assertEquals(raw(0x3fff, 0x8000000000000001L), LLVM80BitFloat.add(one(), raw(0x3fbf, 0xc000000000000000L)));
+        assertEquals(raw(0x3ffe, 0xffffffffffffffffL), LLVM80BitFloat.sub(one(), raw(0x3fbf, 0x8000000000000000L)));
+    }
+
+    @Test
+    public void testMul() {
+        assertEquals(val(6), LLVM80BitFloat.mul(val(2), val(3)));
+        assertEquals(raw(0x3ffd, 0x999999999999999aL), LLVM80BitFloat.mul(raw(0x3ffb, 0xcccccccccccccccdL), val(3)));
+        assertTrue(LLVM80BitFloat.mul(zero(), positiveInfinity()).isNaN());
+    }
+
+    @Test
+    public void testDiv() {
+        assertEquals(raw(0x3ffd, 0xaaaaaaaaaaaaaaabL), LLVM80BitFloat.div(one(), val(3)));
+        assertEquals(positiveInfinity(), LLVM80BitFloat.div(one(), zero()));
+        assertEquals(negativeInfinity(), LLVM80BitFloat.div(one(), minusZero()));
+        assertTrue(LLVM80BitFloat.div(zero(), zero()).isNaN());
+    }
+
+    @Test
+    public void testDenormals() {
+        LLVM80BitFloat smallestNormal = raw(0x0001, 0x8000000000000000L);
+        assertEquals(raw(0x0000, 0x4000000000000000L), LLVM80BitFloat.div(smallestNormal, val(2)));
+        assertEquals(raw(0x0000, 0x0000000000000001L), LLVM80BitFloat.mul(smallestNormal, raw(0x3fc0, 0x8000000000000000L)));
+    }
+
+    @Test
+    public void testRem() {
+        assertEquals(val(2), LLVM80BitFloat.rem(raw(0x403f, 0x8000000000000002L), val(3)));
+        assertEquals(val(-1.5), LLVM80BitFloat.rem(val(-10.5), val(3)));
+        assertTrue(LLVM80BitFloat.rem(positiveInfinity(), one()).isNaN());
+    }
+
+    @Test
+    public void testCompareNegative() {
+        assertTrue(LLVM80BitFloat.compare(val(-2), minusOne()) < 0);
+        assertTrue(LLVM80BitFloat.compare(minusOne(), val(-2)) > 0);
+        assertTrue(LLVM80BitFloat.compare(minusZero(), zero()) == 0);
+    }
+
+    @Test
+    public void testDoubleRounding() {
+        assertBitEquals(0.1, raw(0x3ffb, 0xcccccccccccccccdL).getDoubleValue());
+        assertBitEquals(Double.MIN_VALUE, LLVM80BitFloat.fromDouble(Double.MIN_VALUE).getDoubleValue());
+    }
+}
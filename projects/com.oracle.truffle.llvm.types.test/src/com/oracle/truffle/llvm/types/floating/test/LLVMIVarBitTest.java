@@ -29,6 +29,78 @@
  */
 package com.oracle.truffle.llvm.types.floating.test;
 
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.oracle.truffle.llvm.runtime.LLVMIVarBit;
+
 public class LLVMIVarBitTest {
 
+    private static final int NR_RANDOM_NUMBERS = 10000;
+    private static final int[] BIT_WIDTHS = {1, 8, 33, 64, 65, 100, 127, 128};
+
+    private static BigInteger unsigned(BigInteger value, int bits) {
+        return value.and(BigInteger.ONE.shiftLeft(bits).subtract(BigInteger.ONE));
+    }
+
+    private static BigInteger signed(BigInteger value, int bits) {
+        BigInteger result = unsigned(value, bits);
+        return result.testBit(bits - 1) ? result.subtract(BigInteger.ONE.shiftLeft(bits)) : result;
+    }
+
+    private static void assertValue(BigInteger expected, LLVMIVarBit actual) {
+        assertEquals(unsigned(expected, actual.getBitSize()), actual.asUnsignedBigInteger());
+    }
+
+    @Test
+    public void testRandomArithmetic() {
+        Random random = new Random(42);
+        for (int i = 0; i < NR_RANDOM_NUMBERS; i++) {
+            int bits = BIT_WIDTHS[random.nextInt(BIT_WIDTHS.length)];
+            BigInteger a = new BigInteger(bits, random);
+            BigInteger b = new BigInteger(random.nextInt(bits) + 1, random);
+            LLVMIVarBit x = LLVMIVarBit.fromBigInteger(bits, a);
+            LLVMIVarBit y = LLVMIVarBit.fromBigInteger(bits, b);
+            assertValue(a.add(b), x.add(y));
+            assertValue(a.subtract(b), x.sub(y));
+            assertValue(a.multiply(b), x.mul(y));
+            assertValue(a.xor(b), x.xor(y));
+            assertEquals(a.compareTo(b), Integer.signum(x.unsignedCompare(y)));
+            assertEquals(signed(a, bits).compareTo(signed(b, bits)), Integer.signum(x.signedCompare(y)));
+            if (b.signum() != 0) {
+                assertValue(a.divide(b), x.unsignedDiv(y));
+                assertValue(a.remainder(b), x.unsignedRem(y));
+                assertValue(signed(a, bits).divide(signed(b, bits)), x.div(y));
+                assertValue(signed(a, bits).remainder(signed(b, bits)), x.rem(y));
+            }
+        }
+    }
+
+    @Test
+    public void testShifts() {
+        BigInteger value = new BigInteger("f0123456789abcdef0123456789abcde", 16);
+        LLVMIVarBit x = LLVMIVarBit.fromBigInteger(128, value);
+        for (int shift = 0; shift < 128; shift++) {
+            LLVMIVarBit amount = LLVMIVarBit.fromInt(128, shift);
+            assertValue(value.shiftLeft(shift), x.leftShift(amount));
+            assertValue(value.shiftRight(shift), x.logicalRightShift(amount));
+            assertValue(signed(value, 128).shiftRight(shift), x.arithmeticRightShift(amount));
+        }
+    }
+
+    @Test
+    public void testConversions() {
+        LLVMIVarBit minusOne = LLVMIVarBit.fromLong(128, -1);
+        assertEquals(-1, minusOne.getLongValue());
+        assertEquals(-1L, minusOne.getHighBits());
+        assertEquals(0xFFFFFFFFL, minusOne.getZeroExtendedIntValue() & 0xFFFFFFFFL);
+        assertValue(BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE), LLVMIVarBit.fromInt(33, -1).signExtendOrTruncate(128));
+        assertValue(BigInteger.ONE.shiftLeft(33).subtract(BigInteger.ONE), LLVMIVarBit.fromInt(33, -1).zeroExtendOrTruncate(128));
+        assertValue(BigInteger.ONE.shiftLeft(256).subtract(BigInteger.ONE), minusOne.signExtendOrTruncate(256));
+        assertEquals(minusOne, LLVMIVarBit.create(128, minusOne.getBytes(), 128, false));
+    }
 }
@@ -35,9 +35,12 @@ import java.util.List;
 
 import org.graalvm.options.OptionDescriptor;
 
+import com.oracle.truffle.llvm.parser.elf.ElfFile;
 import com.oracle.truffle.llvm.parser.factories.BasicIntrinsicsProvider;
 import com.oracle.truffle.llvm.parser.factories.BasicNodeFactory;
 import com.oracle.truffle.llvm.parser.factories.BasicSystemContextExtension;
+import com.oracle.truffle.llvm.parser.factories.InlineAssemblyCache;
+import com.oracle.truffle.llvm.parser.scanner.ParseCache;
 import com.oracle.truffle.llvm.runtime.Configuration;
 import com.oracle.truffle.llvm.runtime.ContextExtension;
 import com.oracle.truffle.llvm.runtime.LLVMContext;
@@ -81,8 +84,12 @@ public final class NativeConfiguration implements Configuration {
         List<ContextExtension> result = new ArrayList<>();
         result.add(new BasicIntrinsicsProvider(context));
         result.add(new BasicSystemContextExtension(context.getEnv()));
+        result.add(new InlineAssemblyCache(context));
         if (context.getEnv().getOptions().get(SulongEngineOption.ENABLE_NFI)) {
-            result.add(new NFIContextExtension(context.getEnv()));
+            result.add(new NFIContextExtension(context.getEnv(), ElfFile::readExportedSymbols));
+        }
+        if (ParseCache.isEnabled(context.getEnv())) {
+            result.add(new ParseCache(context.getEnv()));
         }
         return result;
     }
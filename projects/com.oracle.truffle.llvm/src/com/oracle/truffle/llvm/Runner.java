@@ -43,6 +43,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.graalvm.collections.EconomicMap;
 import org.graalvm.collections.EconomicSet;
@@ -68,6 +70,7 @@ import com.oracle.truffle.llvm.parser.LLVMParser;
 import com.oracle.truffle.llvm.parser.LLVMParserResult;
 import com.oracle.truffle.llvm.parser.LLVMParserRuntime;
 import com.oracle.truffle.llvm.parser.StackManager;
+import com.oracle.truffle.llvm.parser.filereader.MappedByteSequence;
 import com.oracle.truffle.llvm.parser.model.ModelModule;
 import com.oracle.truffle.llvm.parser.model.SymbolImpl;
 import com.oracle.truffle.llvm.parser.model.functions.FunctionSymbol;
@@ -77,6 +80,7 @@ import com.oracle.truffle.llvm.parser.model.symbols.globals.GlobalVariable;
 import com.oracle.truffle.llvm.parser.nodes.LLVMSymbolReadResolver;
 import com.oracle.truffle.llvm.parser.scanner.LLVMScanner;
 import com.oracle.truffle.llvm.parser.util.Pair;
+import com.oracle.truffle.llvm.runtime.BackgroundFunctionParser;
 import com.oracle.truffle.llvm.runtime.GetStackSpaceFactory;
 import com.oracle.truffle.llvm.runtime.LLVMAlias;
 import com.oracle.truffle.llvm.runtime.LLVMContext;
@@ -266,6 +270,7 @@ public final class Runner {
 
         InitializationOrder initializationOrder = computeInitializationOrder(parserResults, sulongLibraries);
         overrideSulongLibraryFunctionsWithIntrinsics(initializationOrder.sulongLibraries);
+        scheduleBackgroundParsing(initializationOrder);
 
         return createLibraryCallTarget(source.getName(), parserResults, initializationOrder);
     }
@@ -629,7 +634,13 @@ public final class Runner {
         TruffleFile file = context.getEnv().getTruffleFile(path.toUri());
         Source source;
         try {
-            source = Source.newBuilder("llvm", file).internal(lib.isInternal()).build();
+            // map the file if possible, so that the parser reads it without copying
+            MappedByteSequence mapped = MappedByteSequence.map(file);
+            if (mapped != null) {
+                source = Source.newBuilder("llvm", file).content(mapped).internal(lib.isInternal()).build();
+            } else {
+                source = Source.newBuilder("llvm", file).internal(lib.isInternal()).build();
+            }
         } catch (IOException | SecurityException | OutOfMemoryError ex) {
             throw new LLVMParserException("Error reading file " + path + ".");
         }
@@ -1055,11 +1066,14 @@ public final class Runner {
 
     private void parseFunctionsEagerly(List<LLVMParserResult> parserResults) {
         if (!context.getEnv().getOptions().get(SulongEngineOption.LAZY_PARSING)) {
+            List<LLVMFunctionDescriptor> functions = new ArrayList<>();
             for (LLVMParserResult parserResult : parserResults) {
                 for (LLVMSymbol symbol : parserResult.getRuntime().getFileScope().values()) {
                     if (symbol instanceof LLVMFunctionDescriptor) {
                         LLVMFunctionDescriptor function = (LLVMFunctionDescriptor) symbol;
-                        function.resolveIfLazyLLVMIRFunction();
+                        if (function.isLazyLLVMIRFunction()) {
+                            functions.add(function);
+                        }
                     } else if (symbol instanceof LLVMGlobal || symbol instanceof LLVMAlias) {
                         // nothing to do
                     } else {
@@ -1067,6 +1081,110 @@ public final class Runner {
                     }
                 }
             }
+            resolveFunctions(functions);
+        }
+    }
+
+    private void scheduleBackgroundParsing(InitializationOrder initializationOrder) {
+        BackgroundFunctionParser backgroundParser = context.getBackgroundParser();
+        if (backgroundParser.isEnabled()) {
+            // the Sulong libraries are large, only their profiled functions are worth parsing
+            backgroundParser.schedule(collectLazyFunctions(initializationOrder.otherLibraries), true);
+            backgroundParser.schedule(collectLazyFunctions(initializationOrder.sulongLibraries), false);
+        }
+    }
+
+    private static List<LLVMFunctionDescriptor> collectLazyFunctions(List<LLVMParserResult> parserResults) {
+        List<LLVMFunctionDescriptor> functions = new ArrayList<>();
+        for (LLVMParserResult parserResult : parserResults) {
+            for (LLVMSymbol symbol : parserResult.getRuntime().getFileScope().values()) {
+                if (symbol instanceof LLVMFunctionDescriptor && ((LLVMFunctionDescriptor) symbol).isLazyLLVMIRFunction()) {
+                    functions.add((LLVMFunctionDescriptor) symbol);
+                }
+            }
+        }
+        return functions;
+    }
+
+    private static final int MIN_FUNCTIONS_PER_PARSING_THREAD = 16;
+
+    /**
+     * Resolves the lazy functions on the parsing thread and additional polyglot threads. Function
+     * blocks are independent of each other: decoding and AST construction run concurrently, only
+     * building the function model is serialized on the module scope.
+     */
+    private void resolveFunctions(List<LLVMFunctionDescriptor> functions) {
+        int threads = context.getEnv().getOptions().get(SulongEngineOption.PARSING_THREADS);
+        if (!SulongEngineOption.isConcurrentParsing(context.getEnv().getOptions())) {
+            threads = 1;
+        } else if (threads <= 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        threads = Math.min(threads, functions.size() / MIN_FUNCTIONS_PER_PARSING_THREAD);
+        if (threads <= 1) {
+            for (LLVMFunctionDescriptor function : functions) {
+                function.resolveIfLazyLLVMIRFunction();
+            }
+            return;
+        }
+
+        FunctionResolutionTask task = new FunctionResolutionTask(functions);
+        Thread[] workers = new Thread[threads - 1];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = context.getEnv().createThread(task);
+            workers[i].start();
+        }
+        task.run();
+
+        boolean interrupted = false;
+        for (Thread worker : workers) {
+            while (true) {
+                try {
+                    // joining also publishes the resolved functions to this thread
+                    worker.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        task.rethrowFailure();
+    }
+
+    private static final class FunctionResolutionTask implements Runnable {
+
+        private final List<LLVMFunctionDescriptor> functions;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        FunctionResolutionTask(List<LLVMFunctionDescriptor> functions) {
+            this.functions = functions;
+        }
+
+        @Override
+        public void run() {
+            int index;
+            while (failure.get() == null && (index = next.getAndIncrement()) < functions.size()) {
+                try {
+                    functions.get(index).resolveIfLazyLLVMIRFunction();
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            }
+        }
+
+        void rethrowFailure() {
+            Throwable t = failure.get();
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            } else if (t instanceof Error) {
+                throw (Error) t;
+            } else if (t != null) {
+                throw new LLVMParserException("Failed to parse function: " + t.getMessage());
+            }
         }
     }
 
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+/*
+ * Allocation churn as in container-heavy C++ code: a ring of small blocks of random sizes is
+ * replaced with malloc, calloc and realloc over and over.
+ */
+
+#include <stdint.h>
+#include <stdlib.h>
+#include <string.h>
+
+#define SLOTS 4096
+
+static uint64_t next(uint64_t *state) {
+  uint64_t x = *state;
+  x ^= x << 13;
+  x ^= x >> 7;
+  x ^= x << 17;
+  return *state = x;
+}
+
+uint64_t run(int rounds) {
+  unsigned char *slots[SLOTS] = { 0 };
+  size_t sizes[SLOTS] = { 0 };
+  uint64_t state = 0x9e3779b97f4a7c15UL;
+  uint64_t sum = 0;
+  for (int i = 0; i < rounds * SLOTS; i++) {
+    uint64_t r = next(&state);
+    int slot = r % SLOTS;
+    size_t size = 1 + (r >> 16) % 512;
+    unsigned char *p = slots[slot];
+    switch ((r >> 32) & 7) {
+    case 0:
+    case 1:
+      /* calloc must hand out zeroed memory even when it reuses a block */
+      free(p);
+      p = calloc(size, 1);
+      sum += p[0] + p[size - 1];
+      break;
+    case 2:
+      if (p != NULL && sizes[slot] < size) {
+        p = realloc(p, size);
+        sum += p[0];
+        break;
+      }
+      /* fall through */
+    default:
+      free(p);
+      p = malloc(size);
+      break;
+    }
+    memset(p, (int) r, size);
+    slots[slot] = p;
+    sizes[slot] = size;
+    sum = sum * 31 + size + p[size / 2];
+  }
+  for (int i = 0; i < SLOTS; i++) {
+    free(slots[i]);
+  }
+  return sum;
+}
+
+int main() {
+  return run(16) == 0x62fcaea05b3ba6ceUL ? 0 : 1;
+}
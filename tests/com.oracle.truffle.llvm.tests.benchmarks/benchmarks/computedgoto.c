@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+/*
+ * A small threaded-code interpreter that dispatches every opcode with a computed goto, like
+ * interpreters written in C usually do.
+ */
+
+enum opcode { PUSH, LOAD, STORE, ADD, SUB, MUL, MOD, JNZ, JMP, HALT };
+
+static const int program[] = {
+  /* 0: acc = 0 */
+  PUSH, 0, STORE, 1,
+  /* 4: loop body: acc = (acc + i * 3) % 1000003 */
+  LOAD, 1, LOAD, 0, PUSH, 3, MUL, ADD, PUSH, 1000003, MOD, STORE, 1,
+  /* 17: i = i - 1 */
+  LOAD, 0, PUSH, 1, SUB, STORE, 0,
+  /* 24: loop while i != 0 */
+  LOAD, 0, JNZ, 4,
+  /* 28 */
+  LOAD, 1, HALT
+};
+
+int run(int iterations) {
+  static void *labels[] = { &&op_push, &&op_load, &&op_store, &&op_add, &&op_sub, &&op_mul, &&op_mod, &&op_jnz, &&op_jmp, &&op_halt };
+  int stack[16];
+  int locals[2] = { iterations, 0 };
+  int sp = 0;
+  const int *pc = program;
+
+#define DISPATCH() goto *labels[*pc++]
+
+  DISPATCH();
+op_push:
+  stack[sp++] = *pc++;
+  DISPATCH();
+op_load:
+  stack[sp++] = locals[*pc++];
+  DISPATCH();
+op_store:
+  locals[*pc++] = stack[--sp];
+  DISPATCH();
+op_add:
+  sp--;
+  stack[sp - 1] += stack[sp];
+  DISPATCH();
+op_sub:
+  sp--;
+  stack[sp - 1] -= stack[sp];
+  DISPATCH();
+op_mul:
+  sp--;
+  stack[sp - 1] *= stack[sp];
+  DISPATCH();
+op_mod:
+  sp--;
+  stack[sp - 1] %= stack[sp];
+  DISPATCH();
+op_jnz:
+  if (stack[--sp] != 0) {
+    pc = program + *pc;
+  } else {
+    pc++;
+  }
+  DISPATCH();
+op_jmp:
+  pc = program + *pc;
+  DISPATCH();
+op_halt:
+  return stack[sp - 1];
+
+#undef DISPATCH
+}
+
+int main() {
+  return run(1000) == 501497 ? 0 : 1;
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+/*
+ * Takes the address of a few hundred native libc and libm functions, so that loading this file
+ * resolves every one of them against the native libraries. The declarations are deliberately
+ * untyped, only the symbols matter.
+ */
+
+#define SYMBOLS(X) \
+  X(acos) \
+  X(acosf) \
+  X(acosh) \
+  X(acoshf) \
+  X(acosl) \
+  X(asin) \
+  X(asinf) \
+  X(asinh) \
+  X(asinhf) \
+  X(asinl) \
+  X(atan) \
+  X(atan2) \
+  X(atan2f) \
+  X(atanf) \
+  X(atanh) \
+  X(atanhf) \
+  X(cbrt) \
+  X(cbrtf) \
+  X(ceil) \
+  X(ceilf) \
+  X(copysign) \
+  X(copysignf) \
+  X(cos) \
+  X(cosf) \
+  X(cosh) \
+  X(coshf) \
+  X(erf) \
+  X(erfc) \
+  X(erfcf) \
+  X(erff) \
+  X(exp) \
+  X(exp2) \
+  X(exp2f) \
+  X(expf) \
+  X(expm1) \
+  X(expm1f) \
+  X(fabs) \
+  X(fabsf) \
+  X(fdim) \
+  X(fdimf) \
+  X(floor) \
+  X(floorf) \
+  X(fma) \
+  X(fmaf) \
+  X(fmax) \
+  X(fmaxf) \
+  X(fmin) \
+  X(fminf) \
+  X(fmod) \
+  X(fmodf) \
+  X(frexp) \
+  X(frexpf) \
+  X(hypot) \
+  X(hypotf) \
+  X(ilogb) \
+  X(ilogbf) \
+  X(ldexp) \
+  X(ldexpf) \
+  X(lgamma) \
+  X(lgammaf) \
+  X(llrint) \
+  X(llrintf) \
+  X(llround) \
+  X(llroundf) \
+  X(log) \
+  X(log10) \
+  X(log10f) \
+  X(log1p) \
+  X(log1pf) \
+  X(log2) \
+  X(log2f) \
+  X(logb) \
+  X(logbf) \
+  X(logf) \
+  X(lrint) \
+  X(lrintf) \
+  X(lround) \
+  X(lroundf) \
+  X(modf) \
+  X(modff) \
+  X(nearbyint) \
+  X(nearbyintf) \
+  X(nextafter) \
+  X(nextafterf) \
+  X(pow) \
+  X(powf) \
+  X(remainder) \
+  X(remainderf) \
+  X(remquo) \
+  X(remquof) \
+  X(rint) \
+  X(rintf) \
+  X(round) \
+  X(roundf) \
+  X(scalbln) \
+  X(scalblnf) \
+  X(scalbn) \
+  X(scalbnf) \
+  X(sin) \
+  X(sinf) \
+  X(sinh) \
+  X(sinhf) \
+  X(sqrt) \
+  X(sqrtf) \
+  X(tan) \
+  X(tanf) \
+  X(tanh) \
+  X(tanhf) \
+  X(tgamma) \
+  X(tgammaf) \
+  X(trunc) \
+  X(truncf) \
+  X(abs) \
+  X(atof) \
+  X(atoi) \
+  X(atol) \
+  X(atoll) \
+  X(bsearch) \
+  X(div) \
+  X(labs) \
+  X(ldiv) \
+  X(llabs) \
+  X(lldiv) \
+  X(qsort) \
+  X(rand) \
+  X(srand) \
+  X(strtod) \
+  X(strtof) \
+  X(strtol) \
+  X(strtold) \
+  X(strtoll) \
+  X(strtoul) \
+  X(strtoull) \
+  X(getenv) \
+  X(setenv) \
+  X(unsetenv) \
+  X(memchr) \
+  X(memcmp) \
+  X(memmove) \
+  X(strcat) \
+  X(strchr) \
+  X(strcmp) \
+  X(strcoll) \
+  X(strcpy) \
+  X(strcspn) \
+  X(strerror) \
+  X(strlen) \
+  X(strncat) \
+  X(strncmp) \
+  X(strncpy) \
+  X(strpbrk) \
+  X(strrchr) \
+  X(strspn) \
+  X(strstr) \
+  X(strtok) \
+  X(strxfrm) \
+  X(strdup) \
+  X(strndup) \
+  X(strnlen) \
+  X(strcasecmp) \
+  X(strncasecmp) \
+  X(isalnum) \
+  X(isalpha) \
+  X(isblank) \
+  X(iscntrl) \
+  X(isdigit) \
+  X(isgraph) \
+  X(islower) \
+  X(isprint) \
+  X(ispunct) \
+  X(isspace) \
+  X(isupper) \
+  X(isxdigit) \
+  X(tolower) \
+  X(toupper) \
+  X(clock) \
+  X(difftime) \
+  X(gmtime) \
+  X(localtime) \
+  X(mktime) \
+  X(strftime) \
+  X(time) \
+  X(access) \
+  X(chdir) \
+  X(close) \
+  X(dup) \
+  X(dup2) \
+  X(fsync) \
+  X(ftruncate) \
+  X(getcwd) \
+  X(getpid) \
+  X(getppid) \
+  X(getuid) \
+  X(geteuid) \
+  X(getgid) \
+  X(getegid) \
+  X(isatty) \
+  X(lseek) \
+  X(pipe) \
+  X(read) \
+  X(rmdir) \
+  X(sleep) \
+  X(unlink) \
+  X(write) \
+  X(usleep)
+
+#define DECLARE(name) extern void name(void);
+SYMBOLS(DECLARE)
+
+#define ADDRESS(name) (void (*)(void)) name,
+static void (*const symbols[])(void) = { SYMBOLS(ADDRESS) };
+
+int run(void) {
+  int count = 0;
+  for (unsigned i = 0; i < sizeof(symbols) / sizeof(symbols[0]); i++) {
+    count += symbols[i] != 0;
+  }
+  return count;
+}
+
+int main() {
+  return run() == sizeof(symbols) / sizeof(symbols[0]) ? 0 : 1;
+}
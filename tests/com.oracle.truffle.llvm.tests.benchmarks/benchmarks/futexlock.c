@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+/*
+ * Two mutexes that protect a shared counter: one sleeps in FUTEX_WAIT when it is contended, the
+ * other spins until the lock is released. Both are called concurrently from several threads.
+ */
+
+#include <stdint.h>
+#include <sys/syscall.h>
+#include <linux/futex.h>
+
+static int futex_lock;
+static int spin_lock;
+static volatile uint64_t counter;
+
+static long futex(int *uaddr, int op, int val) {
+  long ret;
+  __asm__ volatile("xorq %%r10, %%r10\n"
+                   "syscall"
+                   : "=a"(ret)
+                   : "a"((long)SYS_futex), "D"(uaddr), "S"((long)op), "d"((long)val)
+                   : "rcx", "r10", "r11", "memory");
+  return ret;
+}
+
+/* 0: unlocked, 1: locked, 2: locked with possible waiters */
+static void lock_futex(int *m) {
+  int c = 0;
+  if (!__atomic_compare_exchange_n(m, &c, 1, 0, __ATOMIC_ACQUIRE, __ATOMIC_RELAXED)) {
+    if (c != 2) {
+      c = __atomic_exchange_n(m, 2, __ATOMIC_ACQUIRE);
+    }
+    while (c != 0) {
+      futex(m, FUTEX_WAIT_PRIVATE, 2);
+      c = __atomic_exchange_n(m, 2, __ATOMIC_ACQUIRE);
+    }
+  }
+}
+
+static void unlock_futex(int *m) {
+  if (__atomic_fetch_sub(m, 1, __ATOMIC_RELEASE) != 1) {
+    __atomic_store_n(m, 0, __ATOMIC_RELEASE);
+    futex(m, FUTEX_WAKE_PRIVATE, 1);
+  }
+}
+
+static void lock_spin(int *m) {
+  while (__atomic_exchange_n(m, 1, __ATOMIC_ACQUIRE)) {
+    while (__atomic_load_n(m, __ATOMIC_RELAXED)) {
+    }
+  }
+}
+
+static void unlock_spin(int *m) {
+  __atomic_store_n(m, 0, __ATOMIC_RELEASE);
+}
+
+static uint64_t critical_section(void) {
+  uint64_t value = counter;
+  int i;
+  for (i = 0; i < 16; i++) {
+    value = value * 6364136223846793005UL + 1442695040888963407UL;
+  }
+  counter = value;
+  return value;
+}
+
+uint64_t run_futex(int iterations) {
+  uint64_t value = 0;
+  int i;
+  for (i = 0; i < iterations; i++) {
+    lock_futex(&futex_lock);
+    value = critical_section();
+    unlock_futex(&futex_lock);
+  }
+  return value;
+}
+
+uint64_t run_spin(int iterations) {
+  uint64_t value = 0;
+  int i;
+  for (i = 0; i < iterations; i++) {
+    lock_spin(&spin_lock);
+    value = critical_section();
+    unlock_spin(&spin_lock);
+  }
+  return value;
+}
+
+int main() {
+  run_futex(1000);
+  return run_spin(1000) == 0xd93ad25a1bbb7100UL ? 0 : 1;
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+/*
+ * 128 bit integer arithmetic as used by hashing and random number generators: a 128 bit linear
+ * congruential generator whose state is mixed with shifts, compares and divisions.
+ */
+
+#include <stdint.h>
+
+typedef unsigned __int128 u128;
+typedef __int128 i128;
+
+uint64_t run(int iterations) {
+  const u128 multiplier = ((u128)2549297995355413924ULL << 64) | 4865540595714422341ULL;
+  const u128 increment = ((u128)6364136223846793005ULL << 64) | 1442695040888963407ULL;
+  u128 state = 0x853c49e6748fea9bULL;
+  u128 acc = 0;
+  int i;
+  for (i = 0; i < iterations; i++) {
+    state = state * multiplier + increment;
+    u128 mixed = state ^ (state >> 64);
+    if ((i128)mixed < 0) {
+      acc += mixed / 1000000007;
+    } else {
+      acc ^= (i128)mixed % -65537;
+    }
+    acc = (acc << 3) | (acc >> 125);
+  }
+  return (uint64_t)(acc ^ (acc >> 64));
+}
+
+int main() {
+  return run(1000) == 0xa17a76ee43d3c4b7ULL ? 0 : 1;
+}
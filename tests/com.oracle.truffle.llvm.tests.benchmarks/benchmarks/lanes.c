@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+/*
+ * A memory-hard fill in the style of argon2: the memory is split into lanes, every block is
+ * computed from the previous block of its lane and a pseudo-randomly chosen earlier block, and the
+ * lanes are distributed over a configurable number of threads. The result does not depend on the
+ * number of threads.
+ */
+
+#include <pthread.h>
+#include <stdint.h>
+#include <stdlib.h>
+
+#define LANES 8
+#define BLOCKS_PER_LANE 256
+#define BLOCK_WORDS 128
+#define PASSES 2
+
+typedef struct {
+  uint64_t v[BLOCK_WORDS];
+} block;
+
+typedef struct {
+  block *memory;
+  int first_lane;
+  int lane_step;
+} task;
+
+static uint64_t rotr64(uint64_t x, int n) {
+  return (x >> n) | (x << (64 - n));
+}
+
+static uint64_t mix(uint64_t a, uint64_t b) {
+  return a + b + 2 * (uint32_t) a * (uint32_t) b;
+}
+
+static void compress(block *out, const block *prev, const block *ref) {
+  uint64_t state = 0x6a09e667f3bcc908UL;
+  int i;
+  for (i = 0; i < BLOCK_WORDS; i++) {
+    uint64_t x = prev->v[i] ^ ref->v[(i * 7) & (BLOCK_WORDS - 1)];
+    state = mix(state, x);
+    state = rotr64(state ^ x, 24);
+    out->v[i] ^= state;
+  }
+}
+
+static void fill_lane(block *memory, int lane) {
+  block *base = memory + lane * BLOCKS_PER_LANE;
+  int pass, i;
+  for (pass = 0; pass < PASSES; pass++) {
+    for (i = pass == 0 ? 2 : 0; i < BLOCKS_PER_LANE; i++) {
+      block *prev = &base[(i + BLOCKS_PER_LANE - 1) % BLOCKS_PER_LANE];
+      int limit = pass == 0 ? i - 1 : BLOCKS_PER_LANE - 1;
+      int ref = (int) (prev->v[0] % (uint64_t) limit);
+      compress(&base[i], prev, &base[ref]);
+    }
+  }
+}
+
+static void *worker(void *arg) {
+  task *t = (task *) arg;
+  int lane;
+  for (lane = t->first_lane; lane < LANES; lane += t->lane_step) {
+    fill_lane(t->memory, lane);
+  }
+  return NULL;
+}
+
+uint64_t run(int threads) {
+  block *memory = calloc(LANES * BLOCKS_PER_LANE, sizeof(block));
+  pthread_t ids[LANES];
+  task tasks[LANES];
+  uint64_t result = 0;
+  int lane, i;
+  if (threads < 1) {
+    threads = 1;
+  } else if (threads > LANES) {
+    threads = LANES;
+  }
+  for (lane = 0; lane < LANES; lane++) {
+    for (i = 0; i < 2; i++) {
+      int w;
+      for (w = 0; w < BLOCK_WORDS; w++) {
+        memory[lane * BLOCKS_PER_LANE + i].v[w] = (uint64_t) (lane * 131 + i * 17 + w) * 0x9e3779b97f4a7c15UL;
+      }
+    }
+  }
+  for (i = 0; i < threads; i++) {
+    tasks[i].memory = memory;
+    tasks[i].first_lane = i;
+    tasks[i].lane_step = threads;
+    pthread_create(&ids[i], NULL, worker, &tasks[i]);
+  }
+  for (i = 0; i < threads; i++) {
+    pthread_join(ids[i], NULL);
+  }
+  for (lane = 0; lane < LANES; lane++) {
+    block *last = &memory[lane * BLOCKS_PER_LANE + BLOCKS_PER_LANE - 1];
+    for (i = 0; i < BLOCK_WORDS; i++) {
+      result ^= rotr64(last->v[i], lane + 1);
+    }
+  }
+  free(memory);
+  return result;
+}
+
+int main() {
+  return run(1) == 0x6cb318ae075e4a8fUL && run(4) == 0x6cb318ae075e4a8fUL ? 0 : 1;
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+#include <math.h>
+
+#define PI 3.141592653589793
+#define SOLAR_MASS (4 * PI * PI)
+#define DAYS_PER_YEAR 365.24
+#define BODIES 5
+
+struct body {
+  double x, y, z;
+  double vx, vy, vz;
+  double mass;
+};
+
+static void init(struct body *bodies) {
+  struct body initial[BODIES] = {
+    /* sun */
+    { 0, 0, 0, 0, 0, 0, SOLAR_MASS },
+    /* jupiter */
+    { 4.84143144246472090e+00, -1.16032004402742839e+00, -1.03622044471123109e-01, 1.66007664274403694e-03 * DAYS_PER_YEAR,
+      7.69901118419740425e-03 * DAYS_PER_YEAR, -6.90460016972063023e-05 * DAYS_PER_YEAR, 9.54791938424326609e-04 * SOLAR_MASS },
+    /* saturn */
+    { 8.34336671824457987e+00, 4.12479856412430479e+00, -4.03523417114321381e-01, -2.76742510726862411e-03 * DAYS_PER_YEAR,
+      4.99852801234917238e-03 * DAYS_PER_YEAR, 2.30417297573763929e-05 * DAYS_PER_YEAR, 2.85885980666130812e-04 * SOLAR_MASS },
+    /* uranus */
+    { 1.28943695621391310e+01, -1.51111514016986312e+01, -2.23307578892655734e-01, 2.96460137564761618e-03 * DAYS_PER_YEAR,
+      2.37847173959480950e-03 * DAYS_PER_YEAR, -2.96589568540237556e-05 * DAYS_PER_YEAR, 4.36624404335156298e-05 * SOLAR_MASS },
+    /* neptune */
+    { 1.53796971148509165e+01, -2.59193146099879641e+01, 1.79258772950371181e-01, 2.68067772490389322e-03 * DAYS_PER_YEAR,
+      1.62824170038242295e-03 * DAYS_PER_YEAR, -9.51592254519715870e-05 * DAYS_PER_YEAR, 5.15138902046611451e-05 * SOLAR_MASS }
+  };
+  double px = 0, py = 0, pz = 0;
+  for (int i = 0; i < BODIES; i++) {
+    bodies[i] = initial[i];
+    px += initial[i].vx * initial[i].mass;
+    py += initial[i].vy * initial[i].mass;
+    pz += initial[i].vz * initial[i].mass;
+  }
+  bodies[0].vx = -px / SOLAR_MASS;
+  bodies[0].vy = -py / SOLAR_MASS;
+  bodies[0].vz = -pz / SOLAR_MASS;
+}
+
+static double energy(struct body *bodies) {
+  double e = 0;
+  for (int i = 0; i < BODIES; i++) {
+    struct body *b = &bodies[i];
+    e += 0.5 * b->mass * (b->vx * b->vx + b->vy * b->vy + b->vz * b->vz);
+    for (int j = i + 1; j < BODIES; j++) {
+      struct body *b2 = &bodies[j];
+      double dx = b->x - b2->x;
+      double dy = b->y - b2->y;
+      double dz = b->z - b2->z;
+      e -= (b->mass * b2->mass) / sqrt(dx * dx + dy * dy + dz * dz);
+    }
+  }
+  return e;
+}
+
+/*
+ * Runs all steps in a single call, so the simulation loop can only be compiled with on-stack
+ * replacement.
+ */
+double nbody(int steps) {
+  struct body bodies[BODIES];
+  init(bodies);
+  for (int step = 0; step < steps; step++) {
+    for (int i = 0; i < BODIES; i++) {
+      struct body *b = &bodies[i];
+      for (int j = i + 1; j < BODIES; j++) {
+        struct body *b2 = &bodies[j];
+        double dx = b->x - b2->x;
+        double dy = b->y - b2->y;
+        double dz = b->z - b2->z;
+        double distance2 = dx * dx + dy * dy + dz * dz;
+        double mag = 0.01 / (distance2 * sqrt(distance2));
+        b->vx -= dx * b2->mass * mag;
+        b->vy -= dy * b2->mass * mag;
+        b->vz -= dz * b2->mass * mag;
+        b2->vx += dx * b->mass * mag;
+        b2->vy += dy * b->mass * mag;
+        b2->vz += dz * b->mass * mag;
+      }
+    }
+    for (int i = 0; i < BODIES; i++) {
+      bodies[i].x += 0.01 * bodies[i].vx;
+      bodies[i].y += 0.01 * bodies[i].vy;
+      bodies[i].z += 0.01 * bodies[i].vz;
+    }
+  }
+  return energy(bodies);
+}
+
+int main() {
+  double e = nbody(1000);
+  return e > -0.16909 && e < -0.16908 ? 0 : 1;
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+/*
+ * String routines in the style of an operating system kernel: memcpy and memset are written as
+ * inline assembly using rep movsq/rep stosq for the bulk and rep movsb/rep stosb for the tail.
+ */
+
+#include <stdint.h>
+#include <stdlib.h>
+
+#define BUFFER_SIZE 4096
+
+static void *rep_memcpy(void *dst, const void *src, size_t n) {
+  void *ret = dst;
+  size_t words = n >> 3;
+  size_t bytes = n & 7;
+  __asm__ volatile("rep movsq"
+                   : "+D"(dst), "+S"(src), "+c"(words)
+                   :
+                   : "memory");
+  __asm__ volatile("rep movsb"
+                   : "+D"(dst), "+S"(src), "+c"(bytes)
+                   :
+                   : "memory");
+  return ret;
+}
+
+static void *rep_memset(void *dst, int c, size_t n) {
+  void *ret = dst;
+  uint64_t pattern = 0x0101010101010101UL * (uint8_t)c;
+  size_t words = n >> 3;
+  size_t bytes = n & 7;
+  __asm__ volatile("rep stosq"
+                   : "+D"(dst), "+c"(words)
+                   : "a"(pattern)
+                   : "memory");
+  __asm__ volatile("rep stosb"
+                   : "+D"(dst), "+c"(bytes)
+                   : "a"(pattern)
+                   : "memory");
+  return ret;
+}
+
+uint64_t run(int iterations) {
+  uint8_t *a = malloc(BUFFER_SIZE);
+  uint8_t *b = malloc(BUFFER_SIZE);
+  uint64_t checksum = 0;
+  int i;
+  for (i = 0; i < iterations; i++) {
+    size_t length = BUFFER_SIZE - (i & 63);
+    rep_memset(a, i, length);
+    a[i & (BUFFER_SIZE - 1)] = (uint8_t)(i * 31);
+    rep_memcpy(b, a + (i & 7), length - 8);
+    checksum = checksum * 31 + b[(i * 17) & (BUFFER_SIZE - 1)] + b[length - 9];
+  }
+  free(a);
+  free(b);
+  return checksum;
+}
+
+int main() {
+  return run(1000) == 0x3d8c271c781f15baUL ? 0 : 1;
+}
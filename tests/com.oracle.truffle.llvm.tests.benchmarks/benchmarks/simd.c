@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+/*
+ * Vector arithmetic as produced for SIMD code: lane-wise arithmetic, shuffles, compares with
+ * selects and lane inserts/extracts on 128 bit vectors that stay in registers across a loop.
+ */
+
+#include <stdint.h>
+
+typedef int32_t v4si __attribute__((vector_size(16)));
+typedef uint32_t v4su __attribute__((vector_size(16)));
+typedef float v4sf __attribute__((vector_size(16)));
+
+#ifdef __clang__
+#define SHUFFLE(a, b, i0, i1, i2, i3) __builtin_shufflevector(a, b, i0, i1, i2, i3)
+#else
+#define SHUFFLE(a, b, i0, i1, i2, i3) __builtin_shuffle(a, b, (v4su){ i0, i1, i2, i3 })
+#endif
+
+uint32_t run(int iterations) {
+  v4su state = { 0x12345678, 0x9abcdef0, 0x0fedcba9, 0x87654321 };
+  v4su acc = { 0, 0, 0, 0 };
+  v4sf facc = { 0.0f, 0.0f, 0.0f, 0.0f };
+  const v4su multiplier = { 1103515245, 22695477, 1664525, 214013 };
+  const v4su increment = { 12345, 1, 1013904223, 2531011 };
+  const v4sf scale = { 0.25f, 0.5f, 0.75f, 1.0f };
+  int i;
+  for (i = 0; i < iterations; i++) {
+    state = state * multiplier + increment;
+    v4su rotated = SHUFFLE(state, acc, 1, 2, 3, 4);
+    v4su mixed = state ^ (rotated >> 7);
+    acc += (v4su)((v4si)mixed > (v4si)acc) & mixed;
+    acc[i & 3] ^= mixed[(i + 1) & 3];
+    v4sf f = __builtin_convertvector((v4si)(mixed & 0xffff), v4sf) * scale;
+    facc = facc * 0.5f + f;
+  }
+  v4si fbits = __builtin_convertvector(facc, v4si);
+  v4su sum = acc ^ (v4su)fbits;
+  return (uint32_t)(sum[0] ^ sum[1] ^ sum[2] ^ sum[3]);
+}
+
+int main() {
+  return run(1000) == 0x73e3239fU ? 0 : 1;
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+#include <polyglot.h>
+#include <stdlib.h>
+
+double sum_copy_double(void *array, int offset, int len) {
+  double *buf = malloc(len * sizeof(double));
+  polyglot_copy_from_array(buf, array, offset, len, polyglot_double_typeid());
+  double sum = 0;
+  for (int i = 0; i < len; i++) {
+    sum += buf[i];
+  }
+  free(buf);
+  return sum;
+}
+
+int64_t sum_copy_i32(void *array, int offset, int len) {
+  int32_t *buf = malloc(len * sizeof(int32_t));
+  polyglot_copy_from_array(buf, array, offset, len, polyglot_i32_typeid());
+  int64_t sum = 0;
+  for (int i = 0; i < len; i++) {
+    sum += buf[i];
+  }
+  free(buf);
+  return sum;
+}
+
+void fill_double(void *array, int offset, int len, double start) {
+  double *buf = malloc(len * sizeof(double));
+  for (int i = 0; i < len; i++) {
+    buf[i] = start + i;
+  }
+  polyglot_copy_to_array(array, offset, buf, len, polyglot_double_typeid());
+  free(buf);
+}
+
+double sum_copy_native(int len) {
+  double *src = malloc(len * sizeof(double));
+  for (int i = 0; i < len; i++) {
+    src[i] = 0.5 * i;
+  }
+  double *dst = malloc(len * sizeof(double));
+  polyglot_copy_from_array(dst, polyglot_from_double_array(src, len), 0, len, polyglot_double_typeid());
+  double sum = 0;
+  for (int i = 0; i < len; i++) {
+    sum += dst[i];
+  }
+  free(src);
+  free(dst);
+  return sum;
+}
+
+double sum_copy_native_range(int len, int offset, int count) {
+  double *src = malloc(len * sizeof(double));
+  for (int i = 0; i < len; i++) {
+    src[i] = i;
+  }
+  double *dst = malloc(count * sizeof(double));
+  polyglot_copy_from_array(dst, polyglot_from_double_array(src, len), offset, count, polyglot_double_typeid());
+  double sum = 0;
+  for (int i = 0; i < count; i++) {
+    sum += dst[i];
+  }
+  free(src);
+  free(dst);
+  return sum;
+}
+
+double fill_native_range(int len, int offset, int count) {
+  double *array = calloc(len, sizeof(double));
+  double *src = malloc(count * sizeof(double));
+  for (int i = 0; i < count; i++) {
+    src[i] = i + 1;
+  }
+  polyglot_copy_to_array(polyglot_from_double_array(array, len), offset, src, count, polyglot_double_typeid());
+  double sum = 0;
+  for (int i = 0; i < len; i++) {
+    sum += array[i] * i;
+  }
+  free(array);
+  free(src);
+  return sum;
+}
+
+double sum_copy_native_i32_as_double(int len) {
+  int32_t *src = malloc(len * sizeof(int32_t));
+  for (int i = 0; i < len; i++) {
+    src[i] = 2 * i;
+  }
+  double *dst = malloc(len * sizeof(double));
+  polyglot_copy_from_array(dst, polyglot_from_i32_array(src, len), 0, len, polyglot_double_typeid());
+  double sum = 0;
+  for (int i = 0; i < len; i++) {
+    sum += dst[i];
+  }
+  free(src);
+  free(dst);
+  return sum;
+}
+
+double sum_copy_untyped_native(int len) {
+  double *src = calloc(len, sizeof(double));
+  double *dst = malloc(len * sizeof(double));
+  polyglot_copy_from_array(dst, src, 0, len, polyglot_double_typeid());
+  double sum = 0;
+  for (int i = 0; i < len; i++) {
+    sum += dst[i];
+  }
+  free(src);
+  free(dst);
+  return sum;
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+#include <stdlib.h>
+#include <string.h>
+#include <truffle.h>
+
+typedef struct {
+  long a;
+  double b;
+  int c[13];
+  char d[7];
+} Data;
+
+static void fill(Data *data) {
+  int i;
+  data->a = 42;
+  data->b = 13.5;
+  for (i = 0; i < 13; i++) {
+    data->c[i] = i * i;
+  }
+  memcpy(data->d, "abcdef", 7);
+}
+
+static int check(Data *data) {
+  int i;
+  if (data->a != 42 || data->b != 13.5 || strcmp(data->d, "abcdef") != 0) {
+    return 0;
+  }
+  for (i = 0; i < 13; i++) {
+    if (data->c[i] != i * i) {
+      return 0;
+    }
+  }
+  return 1;
+}
+
+int testCopyVirtualToVirtual(int size) {
+  Data *source = truffle_virtual_malloc(sizeof(Data));
+  Data *target = truffle_virtual_malloc(sizeof(Data));
+  fill(source);
+  memcpy(target, source, size);
+  return check(target);
+}
+
+int testCopyNativeToVirtual(int size) {
+  Data source;
+  Data *target = truffle_virtual_malloc(sizeof(Data));
+  fill(&source);
+  memcpy(target, &source, size);
+  return check(target);
+}
+
+int testCopyVirtualToNative(int size) {
+  Data *source = truffle_virtual_malloc(sizeof(Data));
+  Data target;
+  fill(source);
+  memcpy(&target, source, size);
+  return check(&target);
+}
+
+int testMemsetVirtual(int size) {
+  unsigned char *p = truffle_virtual_malloc(size + 2);
+  int i;
+  p[0] = 1;
+  p[size + 1] = 1;
+  memset(p + 1, 0xab, size);
+  for (i = 1; i <= size; i++) {
+    if (p[i] != 0xab) {
+      return 0;
+    }
+  }
+  return p[0] == 1 && p[size + 1] == 1;
+}
+
+int testCopyManaged(int count) {
+  void **source = truffle_managed_malloc(count * sizeof(void *));
+  void **target = truffle_managed_malloc(count * sizeof(void *));
+  int i;
+  for (i = 0; i < count; i++) {
+    source[i] = (void *) (long) (i + 1);
+  }
+  memcpy(target, source, count * sizeof(void *));
+  for (i = 0; i < count; i++) {
+    if (target[i] != (void *) (long) (i + 1)) {
+      return 0;
+    }
+  }
+  return 1;
+}
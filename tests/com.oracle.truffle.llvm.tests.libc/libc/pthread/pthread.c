@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2017, 2018, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+#include <errno.h>
+#include <pthread.h>
+#include <stdio.h>
+#include <stdint.h>
+
+#define THREADS 4
+#define ITEMS 1000
+
+static pthread_mutex_t mutex = PTHREAD_MUTEX_INITIALIZER;
+static pthread_cond_t cond = PTHREAD_COND_INITIALIZER;
+static long counter;
+
+static pthread_once_t once = PTHREAD_ONCE_INIT;
+static int onceCalls;
+
+static pthread_key_t key;
+static int destructorCalls;
+
+static int slot;
+static int slotFull;
+static int detachedDone;
+static int joinChecked;
+
+static void init(void) {
+  onceCalls++;
+}
+
+static void destructor(void *value) {
+  pthread_mutex_lock(&mutex);
+  destructorCalls += *(int *) value;
+  pthread_mutex_unlock(&mutex);
+}
+
+static void *worker(void *arg) {
+  static int one = 1;
+  intptr_t id = (intptr_t) arg;
+  long sum = 0;
+  int i;
+  pthread_once(&once, init);
+  pthread_setspecific(key, &one);
+  for (i = 0; i < ITEMS; i++) {
+    pthread_mutex_lock(&mutex);
+    counter++;
+    pthread_mutex_unlock(&mutex);
+    sum += id * ITEMS + i;
+  }
+  if (pthread_getspecific(key) != &one) {
+    return NULL;
+  }
+  return (void *) sum;
+}
+
+static void *producer(void *arg) {
+  int i;
+  for (i = 1; i <= ITEMS; i++) {
+    pthread_mutex_lock(&mutex);
+    while (slotFull) {
+      pthread_cond_wait(&cond, &mutex);
+    }
+    slot = i;
+    slotFull = 1;
+    pthread_cond_broadcast(&cond);
+    pthread_mutex_unlock(&mutex);
+  }
+  return arg;
+}
+
+static void *detached(void *arg) {
+  pthread_mutex_lock(&mutex);
+  detachedDone = 1;
+  pthread_cond_broadcast(&cond);
+  pthread_mutex_unlock(&mutex);
+  pthread_exit(arg);
+  return NULL;
+}
+
+static void *waitForJoinCheck(void *arg) {
+  pthread_mutex_lock(&mutex);
+  while (!joinChecked) {
+    pthread_cond_wait(&cond, &mutex);
+  }
+  pthread_mutex_unlock(&mutex);
+  return arg;
+}
+
+static void testMutexTypes(void) {
+  pthread_mutex_t normal = PTHREAD_MUTEX_INITIALIZER;
+  pthread_mutex_t recursive;
+  pthread_mutex_t errorcheck;
+  pthread_mutexattr_t attr;
+
+  pthread_mutexattr_init(&attr);
+  pthread_mutexattr_settype(&attr, PTHREAD_MUTEX_RECURSIVE);
+  pthread_mutex_init(&recursive, &attr);
+  pthread_mutexattr_settype(&attr, PTHREAD_MUTEX_ERRORCHECK);
+  pthread_mutex_init(&errorcheck, &attr);
+  pthread_mutexattr_destroy(&attr);
+
+  pthread_mutex_lock(&normal);
+  printf("normal trylock: %d\n", pthread_mutex_trylock(&normal) == EBUSY);
+  pthread_mutex_unlock(&normal);
+
+  pthread_mutex_lock(&recursive);
+  printf("recursive trylock: %d\n", pthread_mutex_trylock(&recursive));
+  pthread_mutex_unlock(&recursive);
+  pthread_mutex_unlock(&recursive);
+
+  pthread_mutex_lock(&errorcheck);
+  printf("errorcheck trylock: %d\n", pthread_mutex_trylock(&errorcheck) == EBUSY);
+  printf("errorcheck relock: %d\n", pthread_mutex_lock(&errorcheck) == EDEADLK);
+  pthread_mutex_unlock(&errorcheck);
+  printf("errorcheck unlock: %d\n", pthread_mutex_unlock(&errorcheck) == EPERM);
+
+  pthread_mutex_destroy(&normal);
+  pthread_mutex_destroy(&recursive);
+  pthread_mutex_destroy(&errorcheck);
+}
+
+int main() {
+  pthread_t threads[THREADS];
+  pthread_t thread;
+  pthread_attr_t attr;
+  void *result;
+  long total = 0;
+  long consumed = 0;
+  intptr_t i;
+
+  pthread_key_create(&key, destructor);
+  for (i = 0; i < THREADS; i++) {
+    pthread_create(&threads[i], NULL, worker, (void *) i);
+  }
+  for (i = 0; i < THREADS; i++) {
+    pthread_join(threads[i], &result);
+    total += (long) result;
+  }
+  printf("counter: %ld\n", counter);
+  printf("total: %ld\n", total);
+  printf("once: %d\n", onceCalls);
+  printf("destructors: %d\n", destructorCalls);
+
+  pthread_create(&thread, NULL, producer, &consumed);
+  for (i = 0; i < ITEMS; i++) {
+    pthread_mutex_lock(&mutex);
+    while (!slotFull) {
+      pthread_cond_wait(&cond, &mutex);
+    }
+    consumed += slot;
+    slotFull = 0;
+    pthread_cond_broadcast(&cond);
+    pthread_mutex_unlock(&mutex);
+  }
+  pthread_join(thread, &result);
+  printf("consumed: %ld %d\n", consumed, result == &consumed);
+
+  pthread_attr_init(&attr);
+  pthread_attr_setdetachstate(&attr, PTHREAD_CREATE_DETACHED);
+  pthread_create(&thread, &attr, detached, NULL);
+  pthread_attr_destroy(&attr);
+  pthread_mutex_lock(&mutex);
+  while (!detachedDone) {
+    pthread_cond_wait(&cond, &mutex);
+  }
+  pthread_mutex_unlock(&mutex);
+  printf("detached: %d\n", detachedDone);
+
+  printf("self: %d\n", pthread_equal(pthread_self(), pthread_self()) != 0);
+  printf("join self: %d\n", pthread_join(pthread_self(), NULL) == EDEADLK);
+
+  // the thread runs until the join was tried, so that its id stays valid
+  pthread_create(&thread, NULL, waitForJoinCheck, NULL);
+  pthread_detach(thread);
+  printf("join detached: %d\n", pthread_join(thread, NULL) == EINVAL);
+  pthread_mutex_lock(&mutex);
+  joinChecked = 1;
+  pthread_cond_broadcast(&cond);
+  pthread_mutex_unlock(&mutex);
+
+  testMutexTypes();
+  return 0;
+}
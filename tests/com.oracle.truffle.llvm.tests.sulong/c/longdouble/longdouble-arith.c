@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+#include <stdio.h>
+#include <stdint.h>
+#include <string.h>
+#include <math.h>
+
+/*
+ * Applies long double arithmetic, comparisons and conversions to pseudo-random
+ * operands and prints the raw result bits, so that the output can be compared
+ * with a native run.
+ */
+
+static uint64_t state = 88172645463325252ULL;
+
+static uint64_t next(void) {
+  state ^= state << 13;
+  state ^= state >> 7;
+  state ^= state << 17;
+  return state;
+}
+
+static long double make(uint16_t signExponent, uint64_t fraction) {
+  long double x;
+  memset(&x, 0, sizeof(x));
+  memcpy(&x, &fraction, sizeof(fraction));
+  memcpy((char *)&x + sizeof(fraction), &signExponent, sizeof(signExponent));
+  return x;
+}
+
+static long double operand(void) {
+  uint64_t fraction = next() | (1ULL << 63);
+  uint16_t sign = (next() & 1) ? 0x8000 : 0;
+  switch (next() % 8) {
+  case 0:
+    /* zero or denormal */
+    return make(sign, (next() % 4 == 0) ? 0 : (fraction >> (next() % 64)) & ~(1ULL << 63));
+  case 1:
+    /* infinity or quiet NaN */
+    return make(sign | 0x7fff, (next() & 1) ? (1ULL << 63) : (fraction | (1ULL << 62)));
+  case 2:
+    /* close to the smallest normal number */
+    return make(sign | (1 + next() % 80), fraction);
+  case 3:
+    /* close to the largest finite number */
+    return make(sign | (0x7ffe - next() % 80), fraction);
+  case 4:
+    /* small integers and their neighbours */
+    return make(sign | (16383 + next() % 64), fraction & ~((1ULL << (next() % 64)) - 1));
+  default:
+    return make(sign | (16383 - 40 + next() % 80), fraction);
+  }
+}
+
+static void print(long double x) {
+  unsigned char *p = (unsigned char *)&x;
+  int i;
+  for (i = 9; i >= 0; i--) {
+    printf("%02x", p[i]);
+  }
+}
+
+static void printResult(const char *op, long double x, long double y, long double z) {
+  printf("%s ", op);
+  print(x);
+  printf(" ");
+  print(y);
+  printf(" ");
+  print(z);
+  printf("\n");
+}
+
+int main(void) {
+  int i;
+  for (i = 0; i < 2000; i++) {
+    long double x = operand();
+    long double y = operand();
+    if (i % 4 == 0 && !isnan(x)) {
+      /* nearly equal operands exercise cancellation */
+      y = -x * (1.0L + (next() % 1024) * 0x1p-63L);
+    }
+
+    printResult("add", x, y, x + y);
+    printResult("sub", x, y, x - y);
+    printResult("mul", x, y, x * y);
+    printResult("div", x, y, x / y);
+    printResult("fmod", x, y, fmodl(x, y));
+    printf("cmp %d %d %d %d\n", x < y, x <= y, x == y, x != y);
+
+    double d = (double)x;
+    float f = (float)x;
+    uint64_t dBits;
+    uint32_t fBits;
+    memcpy(&dBits, &d, sizeof(dBits));
+    memcpy(&fBits, &f, sizeof(fBits));
+    printf("double %016llx float %08x\n", (unsigned long long)dBits, fBits);
+    if (!isnan(x) && fabsl(x) < 0x1p62L) {
+      printf("long %lld int %d\n", (long long)x, fabsl(x) < 0x1p31L ? (int)x : 0);
+    }
+
+    uint64_t bits = next();
+    memcpy(&d, &bits, sizeof(d));
+    if (!isnan(d)) {
+      printf("from double ");
+      print((long double)d);
+      printf("\n");
+    }
+  }
+  return 0;
+}
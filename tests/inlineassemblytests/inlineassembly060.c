@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+#define ADD(p, v) __asm__("add %1, %0" : "+m"(*(p)) : "r"(v))
+#define SWAP(p, v) __asm__("xchg %0, %1" : "+m"(*(p)), "+r"(v))
+
+/*
+ * The same snippets are used with int and long memory operands, which must not share the width
+ * of the first parsed call site.
+ */
+int main() {
+  int i = 0x7fffffff;
+  long l = 0x7fffffffL;
+  int iv = 1;
+  long lv = 1;
+
+  ADD(&i, iv);
+  ADD(&l, lv);
+  if (i != (int) 0x80000000 || l != 0x80000000L) {
+    return 1;
+  }
+
+  l = 0x123456789aL;
+  lv = 0x5;
+  i = 0x77;
+  iv = -1;
+  SWAP(&i, iv);
+  SWAP(&l, lv);
+  if (i != -1 || iv != 0x77 || l != 0x5 || lv != 0x123456789aL) {
+    return 2;
+  }
+  return 0;
+}
@@ -27,27 +27,25 @@
  * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
  * OF THE POSSIBILITY OF SUCH DAMAGE.
  */
-#ifndef _BITS_PTHREADTYPES_H
-#define _BITS_PTHREADTYPES_H
+#include <stdio.h>
+#include <string.h>
 
-#ifndef _PTHREAD_T
-typedef unsigned long pthread_t;
-#endif
-#ifndef _PTHREAD_ATTR_T
-typedef void pthread_attr_t;
-#endif
+int main() {
+  unsigned int buf[16];
+  unsigned int *out;
+  unsigned long count;
+  unsigned int i;
 
-#endif
+  memset(buf, 0xCC, sizeof(buf));
 
-#ifndef _PTHREAD_H
-#define _PTHREAD_H
-
-#ifndef NULL
-#define NULL 0
-#endif
-
-extern int pthread_create (pthread_t *thread, const pthread_attr_t *attr, void *(*start_routine) (void *), void *arg);
-extern void pthread_exit (void *retval);
-extern int pthread_join (pthread_t thread, void **retval);
-
-#endif
+  __asm__("cld\n"
+          "rep stosl"
+          : "=D"(out), "=c"(count)
+          : "0"(&buf[2]), "1"(11), "a"(0x12345678)
+          : "memory");
+  printf("buf:");
+  for (i = 0; i < 16; i++)
+    printf(" %08X", buf[i]);
+  printf("\n");
+  return out == &buf[13] && count == 0;
+}
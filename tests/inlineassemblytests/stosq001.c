@@ -28,26 +28,25 @@
  * OF THE POSSIBILITY OF SUCH DAMAGE.
  */
 #include <stdio.h>
-#include "pthread.h"
+#include <string.h>
 
-#pragma clang diagnostic push
-#pragma clang diagnostic ignored "-Wunused-parameter"
+int main() {
+  unsigned long buf[16];
+  unsigned long *out;
+  unsigned long count;
+  unsigned int i;
 
-int pthread_create(pthread_t *thread, const pthread_attr_t *attr, void *(*start_routine) (void *), void *arg) {
-  static int warn = 1;
-  if (warn) {
-    fprintf(stderr, "Sulong does not support threads yet, using pthread stub!\n");
-    warn = 0;
-  }
-  start_routine(arg);
-  return 0;
-}
-
-void pthread_exit(void *retval) {
-}
+  memset(buf, 0xCC, sizeof(buf));
 
-int pthread_join(pthread_t thread, void **retval) {
-  return 0;
+  __asm__("std\n"
+          "rep stosq\n"
+          "cld"
+          : "=D"(out), "=c"(count)
+          : "0"(&buf[12]), "1"(9), "a"(0UL)
+          : "memory");
+  printf("buf:");
+  for (i = 0; i < 16; i++)
+    printf(" %016lX", buf[i]);
+  printf("\n");
+  return out == &buf[3] && count == 0;
 }
-
-#pragma clang diagnostic pop
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2016, 2018, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+#include <stdio.h>
+#include <sys/syscall.h>
+#include <linux/futex.h>
+#include <time.h>
+
+static long futex(int *uaddr, int op, int val, struct timespec *timeout, int val3) {
+  long ret;
+  __asm__ volatile("movq %5, %%r10\n"
+                   "movl %6, %%r9d\n"
+                   "syscall"
+                   : "=a"(ret)
+                   : "a"((long)SYS_futex), "D"(uaddr), "S"((long)op), "d"((long)val), "r"(timeout), "r"(val3)
+                   : "rcx", "r10", "r9", "r11", "memory");
+  return ret;
+}
+
+int main(void) {
+  int word = 42;
+  struct timespec timeout = { 0, 1000000 };
+
+  printf("wait mismatch: %ld\n", futex(&word, FUTEX_WAIT, 41, NULL, 0));
+  printf("wait private mismatch: %ld\n", futex(&word, FUTEX_WAIT_PRIVATE, 41, NULL, 0));
+  printf("wait timeout: %ld\n", futex(&word, FUTEX_WAIT, 42, &timeout, 0));
+  printf("wait private timeout: %ld\n", futex(&word, FUTEX_WAIT_PRIVATE, 42, &timeout, 0));
+  printf("wake: %ld\n", futex(&word, FUTEX_WAKE, 1, NULL, 0));
+  printf("wake private: %ld\n", futex(&word, FUTEX_WAKE_PRIVATE, 10, NULL, 0));
+  printf("wait bitset expired: %ld\n", futex(&word, FUTEX_WAIT_BITSET_PRIVATE, 42, &timeout, FUTEX_BITSET_MATCH_ANY));
+  printf("wait unaligned: %ld\n", futex((int *)((char *)&word + 1), FUTEX_WAIT, 42, NULL, 0));
+  return 0;
+}
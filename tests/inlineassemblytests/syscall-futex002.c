@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2019, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+#include <errno.h>
+#include <pthread.h>
+#include <stdio.h>
+#include <sys/syscall.h>
+#include <linux/futex.h>
+#include <time.h>
+
+static long futex(int *uaddr, int op, int val, struct timespec *timeout, int val3) {
+  long ret;
+  __asm__ volatile("movq %5, %%r10\n"
+                   "movl %6, %%r9d\n"
+                   "syscall"
+                   : "=a"(ret)
+                   : "a"((long)SYS_futex), "D"(uaddr), "S"((long)op), "d"((long)val), "r"(timeout), "r"(val3)
+                   : "rcx", "r10", "r9", "r11", "memory");
+  return ret;
+}
+
+static int word = 0;
+static int started = 0;
+static int finished = 0;
+
+static void *waiter(void *arg) {
+  long unexpected = 0;
+  __atomic_store_n(&started, 1, __ATOMIC_SEQ_CST);
+  while (__atomic_load_n(&word, __ATOMIC_SEQ_CST) == 0) {
+    long ret = futex(&word, FUTEX_WAIT_PRIVATE, 0, NULL, 0);
+    // woken (0) or the word changed before the wait (-EAGAIN)
+    if (ret != 0 && ret != -EAGAIN) {
+      unexpected = ret;
+      break;
+    }
+  }
+  __atomic_store_n(&finished, 1, __ATOMIC_SEQ_CST);
+  return (void *)unexpected;
+}
+
+int main(void) {
+  pthread_t thread;
+  void *result;
+  struct timespec pause = { 0, 10000000 };
+
+  if (pthread_create(&thread, NULL, waiter, NULL) != 0) {
+    return 1;
+  }
+  while (!__atomic_load_n(&started, __ATOMIC_SEQ_CST)) {
+    nanosleep(&pause, NULL);
+  }
+  // give the waiter time to block, so that the wake below usually finds it in the queue
+  nanosleep(&pause, NULL);
+
+  __atomic_store_n(&word, 1, __ATOMIC_SEQ_CST);
+  while (futex(&word, FUTEX_WAKE_PRIVATE, 1, NULL, 0) == 0 && !__atomic_load_n(&finished, __ATOMIC_SEQ_CST)) {
+    nanosleep(&pause, NULL);
+  }
+
+  pthread_join(thread, &result);
+  printf("waiter result: %ld\n", (long)result);
+  printf("word: %d\n", word);
+  return 0;
+}
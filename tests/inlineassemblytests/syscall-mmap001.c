@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2016, 2018, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+#include <fcntl.h>
+#include <stdio.h>
+#include <string.h>
+#include <unistd.h>
+#include <sys/mman.h>
+#include <sys/syscall.h>
+
+static long syscall6(long id, long a1, long a2, long a3, long a4, long a5, long a6) {
+  long ret;
+  __asm__ volatile("movq %5, %%r10\n"
+                   "movq %6, %%r8\n"
+                   "movq %7, %%r9\n"
+                   "syscall"
+                   : "=a"(ret)
+                   : "a"(id), "D"(a1), "S"(a2), "d"(a3), "r"(a4), "r"(a5), "r"(a6)
+                   : "rcx", "r8", "r9", "r10", "r11", "memory");
+  return ret;
+}
+
+static long sys_mmap(void *addr, long len, int prot, int flags, int fd, long off) {
+  return syscall6(SYS_mmap, (long)addr, len, prot, flags, fd, off);
+}
+
+static long sys_munmap(void *addr, long len) {
+  return syscall6(SYS_munmap, (long)addr, len, 0, 0, 0, 0);
+}
+
+static long sys_mprotect(void *addr, long len, int prot) {
+  return syscall6(SYS_mprotect, (long)addr, len, prot, 0, 0, 0);
+}
+
+static long sys_madvise(void *addr, long len, int advice) {
+  return syscall6(SYS_madvise, (long)addr, len, advice, 0, 0, 0);
+}
+
+int main(void) {
+  const char *path = "syscall-mmap001.tmp";
+  char buf[16] = { 0 };
+  long result = sys_mmap(NULL, 3 * 4096, PROT_READ | PROT_WRITE, MAP_PRIVATE | MAP_ANONYMOUS, -1, 0);
+  char *anon = (char *)result;
+  printf("anonymous aligned: %d\n", result > 0 && (result & 4095) == 0);
+  printf("anonymous zeroed: %d\n", anon[0] == 0 && anon[3 * 4096 - 1] == 0);
+  memset(anon, 'x', 3 * 4096);
+  printf("mprotect: %ld\n", sys_mprotect(anon + 4096, 4096, PROT_READ));
+  printf("mprotect unaligned: %ld\n", sys_mprotect(anon + 1, 4096, PROT_READ));
+  printf("madvise: %ld\n", sys_madvise(anon, 4096, MADV_DONTNEED));
+  printf("madvise dropped page: %d %c\n", anon[0], anon[4096]);
+  printf("munmap middle: %ld\n", sys_munmap(anon + 4096, 4096));
+  printf("mprotect unmapped: %ld\n", sys_mprotect(anon + 4096, 4096, PROT_READ));
+  printf("madvise unmapped: %ld\n", sys_madvise(anon, 2 * 4096, MADV_DONTNEED));
+  printf("munmap all: %ld\n", sys_munmap(anon, 3 * 4096));
+  result = sys_mmap(anon + 4096, 4096, PROT_READ | PROT_WRITE, MAP_PRIVATE | MAP_ANONYMOUS | MAP_FIXED, -1, 0);
+  printf("mmap fixed free: %d\n", result == (long)(anon + 4096));
+  result = sys_mmap(anon + 4096, 4096, PROT_READ, MAP_PRIVATE | MAP_ANONYMOUS | MAP_FIXED, -1, 0);
+  printf("mmap fixed mapped: %d\n", result == (long)(anon + 4096));
+  printf("munmap fixed: %ld\n", sys_munmap(anon + 4096, 4096));
+  printf("munmap empty: %ld\n", sys_munmap(anon, 0));
+  printf("mmap no type: %ld\n", sys_mmap(NULL, 4096, PROT_READ, MAP_ANONYMOUS, -1, 0));
+  printf("mmap empty: %ld\n", sys_mmap(NULL, 0, PROT_READ, MAP_PRIVATE | MAP_ANONYMOUS, -1, 0));
+
+  int fd = open(path, O_RDWR | O_CREAT | O_TRUNC, 0600);
+  write(fd, "hello mmap", 10);
+  char *priv = (char *)sys_mmap(NULL, 10, PROT_READ | PROT_WRITE, MAP_PRIVATE, fd, 0);
+  char *shared = (char *)sys_mmap(NULL, 10, PROT_READ | PROT_WRITE, MAP_SHARED, fd, 0);
+  printf("private: %.10s\n", priv);
+  priv[0] = 'j';
+  shared[6] = 'M';
+  printf("private after write: %.10s\n", priv);
+  printf("munmap private: %ld\n", sys_munmap(priv, 10));
+  printf("munmap shared: %ld\n", sys_munmap(shared, 10));
+  lseek(fd, 0, SEEK_SET);
+  read(fd, buf, 10);
+  printf("file: %s\n", buf);
+  close(fd);
+  unlink(path);
+  return 0;
+}